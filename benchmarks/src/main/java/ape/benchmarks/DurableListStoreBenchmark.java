@@ -0,0 +1,134 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.benchmarks;
+
+import ape.caravan.contracts.ByteArrayStream;
+import ape.caravan.data.DiskMetrics;
+import ape.caravan.data.DurableListStore;
+import ape.caravan.data.FsyncPolicy;
+import ape.common.metrics.NoOpMetricsFactory;
+import ape.runtime.data.Key;
+import ape.runtime.sys.DurableLivingDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/** DurableListStore append/read where each entry is a snapshot of a small chat document */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurableListStoreBenchmark {
+  private static final int KEYS = 64;
+
+  @Param({"Never", "PerFlush"})
+  public FsyncPolicy fsync;
+
+  /** how many appends share a flush */
+  @Param({"1", "64"})
+  public int batch;
+
+  private File root;
+  private DurableListStore store;
+  private Key[] keys;
+  private byte[] entry;
+  private int at;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    DurableLivingDocument document = Harness.fresh(Harness.compile("chat.a"));
+    for (int k = 0; k < 10; k++) {
+      Harness.send(document, Harness.CONTEXT, "say", "{\"text\":\"entry " + k + "\",\"room\":" + (k % 8) + "}");
+    }
+    entry = document.json().getBytes(StandardCharsets.UTF_8);
+    root = Files.createTempDirectory("bench-caravan").toFile();
+    File walRoot = new File(root, "wal");
+    walRoot.mkdirs();
+    store = new DurableListStore(new DiskMetrics(new NoOpMetricsFactory()), new File(root, "store"), walRoot, 256L * 1024 * 1024, 4 * 1024 * 1024, 64L * 1024 * 1024, fsync, 0);
+    keys = new Key[KEYS];
+    for (int k = 0; k < KEYS; k++) {
+      keys[k] = new Key("bench", "doc-" + k);
+      for (int j = 0; j < 32; j++) {
+        store.append(keys[k], entry, j, 0, () -> {});
+      }
+    }
+    store.flush(true);
+    at = 0;
+  }
+
+  @Benchmark
+  public Integer append() {
+    at++;
+    Key key = keys[at % KEYS];
+    Integer result = store.append(key, entry, at, 0, () -> {});
+    if (at % batch == 0) {
+      store.flush(false);
+    }
+    if (at % (KEYS * 64) == 0) {
+      for (Key toTrim : keys) {
+        store.trim(toTrim, 32, () -> {});
+      }
+      store.flush(false);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public int read() throws Exception {
+    at++;
+    int[] count = new int[1];
+    store.read(keys[at % KEYS], new ByteArrayStream() {
+      @Override
+      public void next(int appendIndex, byte[] value, int seq, long assetBytes) {
+        count[0] += value.length;
+      }
+
+      @Override
+      public void finished() {
+      }
+    });
+    return count[0];
+  }
+
+  @TearDown(Level.Trial)
+  public void teardown() throws Exception {
+    store.shutdown();
+    deleteAll(root);
+  }
+
+  private static void deleteAll(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        deleteAll(child);
+      }
+    }
+    file.delete();
+  }
+}
@@ -0,0 +1,198 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.benchmarks;
+
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import ape.common.SimpleExecutor;
+import ape.common.TimeSource;
+import ape.common.metrics.NoOpMetricsFactory;
+import ape.runtime.contracts.Perspective;
+import ape.runtime.data.InMemoryDataService;
+import ape.runtime.data.Key;
+import ape.runtime.data.RemoteDocumentUpdate;
+import ape.runtime.deploy.SyncCompiler;
+import ape.runtime.json.JsonStreamReader;
+import ape.runtime.json.JsonStreamWriter;
+import ape.runtime.json.PrivateView;
+import ape.runtime.natives.NtPrincipal;
+import ape.runtime.remote.Deliverer;
+import ape.runtime.sys.CoreMetrics;
+import ape.runtime.sys.CoreRequestContext;
+import ape.runtime.sys.DocumentThreadBase;
+import ape.runtime.sys.DurableLivingDocument;
+import ape.runtime.sys.ServiceShield;
+import ape.runtime.sys.cron.NoOpWakeService;
+import ape.translator.env.CompilerOptions;
+import ape.translator.env.EnvironmentState;
+import ape.translator.env.GlobalObjectPool;
+import ape.translator.env.RuntimeEnvironment;
+import ape.translator.env2.Scope;
+import ape.translator.jvm.LivingDocumentFactory;
+import ape.translator.parser.Parser;
+import ape.translator.parser.token.TokenEngine;
+import ape.translator.tree.Document;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/** shared plumbing for the benchmarks: compile a bundled Adama script and stand up a document on the calling thread */
+public class Harness {
+  public static final NtPrincipal WHO = new NtPrincipal("bench", "bench");
+  public static final CoreRequestContext CONTEXT = new CoreRequestContext(WHO, "bench", "127.0.0.1", "0");
+
+  /** read a script bundled under /scripts */
+  public static String script(String name) throws Exception {
+    try (InputStream input = Harness.class.getResourceAsStream("/scripts/" + name)) {
+      if (input == null) {
+        throw new IllegalArgumentException("no script:" + name);
+      }
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  /** compile the Adama script into a factory in the same way as a production deployment */
+  public static LivingDocumentFactory compile(String name) throws Exception {
+    String code = script(name);
+    final var options = CompilerOptions.start().make();
+    final var globals = GlobalObjectPool.createPoolWithStdLib(RuntimeEnvironment.Production);
+    final var state = new EnvironmentState(globals, options, RuntimeEnvironment.Production);
+    final var document = new Document();
+    String className = "Bench_" + name.replaceAll("[^A-Za-z0-9]", "_");
+    document.setClassName(className);
+    final var tokenEngine = new TokenEngine(name, code.codePoints().iterator());
+    final var parser = new Parser(tokenEngine, document.getSymbolIndex(), Scope.makeRootDocument());
+    parser.document().accept(document);
+    if (!document.check(state.scope())) {
+      throw new IllegalStateException("failed to type check " + name + ":" + document.errorsJson());
+    }
+    JsonStreamWriter reflection = new JsonStreamWriter();
+    document.writeTypeReflectionJson(reflection);
+    final var java = document.compileJava(state);
+    return new LivingDocumentFactory(SyncCompiler.compile("bench", className, java, reflection.toString()), Deliverer.FAILURE, new TreeMap<>());
+  }
+
+  /** create a fresh document backed by an in-memory data service where everything runs synchronously on the caller */
+  public static DurableLivingDocument fresh(LivingDocumentFactory factory) throws Exception {
+    return fresh(factory, (redo) -> {});
+  }
+
+  /** create a fresh document and observe the redo of every patch written to the data service */
+  public static DurableLivingDocument fresh(LivingDocumentFactory factory, Consumer<String> redos) throws Exception {
+    InMemoryDataService data = new InMemoryDataService(Runnable::run, TimeSource.REAL_TIME) {
+      @Override
+      public void patch(Key key, RemoteDocumentUpdate[] patches, Callback<Void> callback) {
+        for (RemoteDocumentUpdate patch : patches) {
+          redos.accept(patch.redo);
+        }
+        super.patch(key, patches, callback);
+      }
+    };
+    DocumentThreadBase base = new DocumentThreadBase(0, new ServiceShield(), (key, metrics) -> {}, data, (key, seq, reason, document, callback) -> callback.success(""), new NoOpWakeService(), new CoreMetrics(new NoOpMetricsFactory()), SimpleExecutor.NOW, TimeSource.REAL_TIME);
+    Key key = new Key("bench", "0");
+    AtomicReference<DurableLivingDocument> result = new AtomicReference<>();
+    DurableLivingDocument.fresh(key, factory, new CoreRequestContext(NtPrincipal.NO_ONE, "bench", "127.0.0.1", key.key), "{}", "0", null, base, new Callback<>() {
+      @Override
+      public void success(DurableLivingDocument value) {
+        result.set(value);
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        throw new RuntimeException(ex);
+      }
+    });
+    DurableLivingDocument document = result.get();
+    if (document == null) {
+      throw new IllegalStateException("document was not created synchronously");
+    }
+    connect(document, WHO);
+    return document;
+  }
+
+  /** connect the given principal to the document */
+  public static void connect(DurableLivingDocument document, NtPrincipal who) {
+    document.connect(new CoreRequestContext(who, "bench", "127.0.0.1", "0"), Callback.DONT_CARE_INTEGER);
+  }
+
+  /** connect the given principal and attach a counting private view */
+  public static CountingPerspective view(DurableLivingDocument document, NtPrincipal who) {
+    connect(document, who);
+    CountingPerspective perspective = new CountingPerspective();
+    AtomicReference<PrivateView> view = new AtomicReference<>();
+    document.createPrivateView(who, perspective, new JsonStreamReader("{}"), new Callback<>() {
+      @Override
+      public void success(PrivateView value) {
+        view.set(value);
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        throw new RuntimeException(ex);
+      }
+    });
+    if (view.get() == null) {
+      throw new IllegalStateException("view was not created synchronously");
+    }
+    return perspective;
+  }
+
+  /** a perspective which counts bytes so the JIT can't discard the delta */
+  public static class CountingPerspective implements Perspective {
+    public long bytes = 0;
+
+    @Override
+    public void data(String data) {
+      bytes += data.length();
+    }
+
+    @Override
+    public void disconnect() {
+    }
+  }
+
+  /** send a message and fail loudly if it didn't commit synchronously */
+  public static int send(DurableLivingDocument document, CoreRequestContext context, String channel, String message) {
+    AtomicReference<Integer> seq = new AtomicReference<>();
+    document.send(context, null, null, channel, message, new Callback<>() {
+      @Override
+      public void success(Integer value) {
+        seq.set(value);
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        throw new RuntimeException(ex);
+      }
+    });
+    Integer value = seq.get();
+    if (value == null) {
+      throw new IllegalStateException("send did not commit synchronously");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,146 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.benchmarks;
+
+import ape.runtime.index.IntBitmap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/** the set representation behind ReactiveIndex: IntBitmap of primary keys against the TreeSet it replaced */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexSetBenchmark {
+  @Param({"1000", "100000"})
+  public int size;
+
+  /** how many of the key space's ids are present; 1 in N */
+  @Param({"1", "16"})
+  public int sparsity;
+
+  private int[] left;
+  private int[] right;
+  private IntBitmap leftBitmap;
+  private IntBitmap rightBitmap;
+  private TreeSet<Integer> leftTree;
+  private TreeSet<Integer> rightTree;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rng = new Random(42);
+    left = new int[size];
+    right = new int[size];
+    for (int k = 0; k < size; k++) {
+      left[k] = rng.nextInt(size * sparsity);
+      right[k] = rng.nextInt(size * sparsity);
+    }
+    leftBitmap = new IntBitmap();
+    rightBitmap = new IntBitmap();
+    leftTree = new TreeSet<>();
+    rightTree = new TreeSet<>();
+    for (int k = 0; k < size; k++) {
+      leftBitmap.add(left[k]);
+      rightBitmap.add(right[k]);
+      leftTree.add(left[k]);
+      rightTree.add(right[k]);
+    }
+  }
+
+  @Benchmark
+  public IntBitmap buildBitmap() {
+    IntBitmap bitmap = new IntBitmap();
+    for (int value : left) {
+      bitmap.add(value);
+    }
+    return bitmap;
+  }
+
+  @Benchmark
+  public TreeSet<Integer> buildTree() {
+    TreeSet<Integer> tree = new TreeSet<>();
+    for (int value : left) {
+      tree.add(value);
+    }
+    return tree;
+  }
+
+  @Benchmark
+  public int intersectBitmap() {
+    return leftBitmap.and(rightBitmap).size();
+  }
+
+  @Benchmark
+  public int intersectTree() {
+    TreeSet<Integer> result = new TreeSet<>(leftTree);
+    result.retainAll(rightTree);
+    return result.size();
+  }
+
+  @Benchmark
+  public int unionBitmap() {
+    IntBitmap result = leftBitmap.copy();
+    result.or(rightBitmap);
+    return result.size();
+  }
+
+  @Benchmark
+  public int unionTree() {
+    TreeSet<Integer> result = new TreeSet<>(leftTree);
+    result.addAll(rightTree);
+    return result.size();
+  }
+
+  @Benchmark
+  public void containsBitmap(Blackhole hole) {
+    for (int value : right) {
+      hole.consume(leftBitmap.contains(value));
+    }
+  }
+
+  @Benchmark
+  public void containsTree(Blackhole hole) {
+    for (int value : right) {
+      hole.consume(leftTree.contains(value));
+    }
+  }
+
+  @Benchmark
+  public void iterateBitmap(Blackhole hole) {
+    leftBitmap.forEach(hole::consume);
+  }
+
+  @Benchmark
+  public void iterateTree(Blackhole hole) {
+    for (Integer value : leftTree) {
+      hole.consume(value);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.benchmarks;
+
+import ape.runtime.contracts.AutoMorphicAccumulator;
+import ape.runtime.json.JsonAlgebra;
+import ape.runtime.json.JsonStreamReader;
+import ape.runtime.sys.DurableLivingDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** JsonAlgebra merges over the deltas produced by a chat document */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonAlgebraBenchmark {
+  @Param({"64"})
+  public int patches;
+
+  private String base;
+  private ArrayList<String> deltas;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    deltas = new ArrayList<>();
+    AtomicBoolean record = new AtomicBoolean(false);
+    DurableLivingDocument document = Harness.fresh(Harness.compile("chat.a"), (redo) -> {
+      if (record.get()) {
+        deltas.add(redo);
+      }
+    });
+    for (int k = 0; k < 256; k++) {
+      Harness.send(document, Harness.CONTEXT, "say", "{\"text\":\"warm " + k + "\",\"room\":" + (k % 8) + "}");
+    }
+    base = document.json();
+    record.set(true);
+    for (int k = 0; k < patches; k++) {
+      Harness.send(document, Harness.CONTEXT, "say", "{\"text\":\"patch " + k + "\",\"room\":" + (k % 8) + "}");
+    }
+  }
+
+  /** roll the base snapshot forward through every delta */
+  @Benchmark
+  public Object rollForward() {
+    Object tree = new JsonStreamReader(base).readJavaTree();
+    for (String delta : deltas) {
+      tree = JsonAlgebra.merge(tree, new JsonStreamReader(delta).readJavaTree(), false);
+    }
+    return tree;
+  }
+
+  /** fold the deltas together without a base, as history compaction does */
+  @Benchmark
+  public String accumulate() {
+    AutoMorphicAccumulator<String> accumulator = JsonAlgebra.mergeAccumulator();
+    for (String delta : deltas) {
+      accumulator.next(delta);
+    }
+    return accumulator.finish();
+  }
+}
@@ -0,0 +1,96 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.benchmarks;
+
+import ape.runtime.json.JsonStreamReader;
+import ape.runtime.json.JsonStreamWriter;
+import ape.runtime.sys.DurableLivingDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/** JsonStreamReader and JsonStreamWriter over the snapshot of a populated chat document */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+  @Param({"100", "1000"})
+  public int messages;
+
+  private DurableLivingDocument document;
+  private String json;
+  private byte[] utf8;
+  private Object tree;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    document = Harness.fresh(Harness.compile("chat.a"));
+    for (int k = 0; k < messages; k++) {
+      Harness.send(document, Harness.CONTEXT, "say", "{\"text\":\"message \\\"" + k + "\\\" with some text\",\"room\":" + (k % 8) + "}");
+    }
+    json = document.json();
+    utf8 = json.getBytes(StandardCharsets.UTF_8);
+    tree = new JsonStreamReader(json).readJavaTree();
+  }
+
+  @Benchmark
+  public Object readTree() {
+    return new JsonStreamReader(json).readJavaTree();
+  }
+
+  @Benchmark
+  public Object readTreeUtf8() {
+    return new JsonStreamReader(utf8).readJavaTree();
+  }
+
+  @Benchmark
+  public int skip() {
+    JsonStreamReader reader = new JsonStreamReader(json);
+    int fields = 0;
+    if (reader.startObject()) {
+      while (reader.notEndOfObject()) {
+        reader.fieldName();
+        reader.skipValue();
+        fields++;
+      }
+    }
+    return fields;
+  }
+
+  @Benchmark
+  public String writeTree() {
+    JsonStreamWriter writer = new JsonStreamWriter();
+    writer.writeTree(tree);
+    return writer.toString();
+  }
+
+  @Benchmark
+  public String dumpDocument() {
+    return document.json();
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.benchmarks;
+
+import ape.runtime.natives.NtPrincipal;
+import ape.runtime.sys.DurableLivingDocument;
+import ape.translator.jvm.LivingDocumentFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/** the document hot path: send a message, commit the transaction, and broadcast the delta to every connected view */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LivingDocumentBenchmark {
+  @Param({"0", "16", "128"})
+  public int viewers;
+
+  private DurableLivingDocument document;
+  private ArrayList<Harness.CountingPerspective> perspectives;
+  private int at;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    LivingDocumentFactory factory = Harness.compile("chat.a");
+    document = Harness.fresh(factory);
+    perspectives = new ArrayList<>();
+    for (int k = 0; k < viewers; k++) {
+      NtPrincipal who = new NtPrincipal("viewer-" + k, "bench");
+      perspectives.add(Harness.view(document, who));
+    }
+    at = 0;
+  }
+
+  @Benchmark
+  public int send() {
+    at++;
+    return Harness.send(document, Harness.CONTEXT, "say", "{\"text\":\"message " + at + "\",\"room\":" + (at % 8) + "}");
+  }
+
+  @TearDown(Level.Trial)
+  public void teardown() {
+    long bytes = 0;
+    for (Harness.CountingPerspective perspective : perspectives) {
+      bytes += perspective.bytes;
+    }
+    if (viewers > 0 && bytes == 0) {
+      throw new IllegalStateException("no deltas were broadcast");
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.benchmarks;
+
+import ape.runtime.sys.DurableLivingDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** RxTable.scan driven through a compiled document: an indexed equality lookup against the same lookup on an unindexed table */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RxTableScanBenchmark {
+  @Param({"10000"})
+  public int rows;
+
+  @Param({"16", "1024"})
+  public int buckets;
+
+  private DurableLivingDocument document;
+  private int at;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    document = Harness.fresh(Harness.compile("scan.a"));
+    Harness.send(document, Harness.CONTEXT, "fill", "{\"rows\":" + rows + ",\"buckets\":" + buckets + "}");
+    at = 0;
+  }
+
+  @Benchmark
+  public int indexed() {
+    at++;
+    return Harness.send(document, Harness.CONTEXT, "probe_indexed", "{\"bucket\":" + (at % buckets) + "}");
+  }
+
+  @Benchmark
+  public int plain() {
+    at++;
+    return Harness.send(document, Harness.CONTEXT, "probe_plain", "{\"bucket\":" + (at % buckets) + "}");
+  }
+}
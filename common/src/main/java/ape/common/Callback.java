@@ -54,6 +54,15 @@ public interface Callback<T> {
     public void failure(ErrorCodeException ex) {
     }
   };
+  Callback<Boolean> DONT_CARE_BOOLEAN = new Callback<Boolean>() {
+    @Override
+    public void success(Boolean value) {
+    }
+
+    @Override
+    public void failure(ErrorCodeException ex) {
+    }
+  };
   Callback<String> DONT_CARE_STRING = new Callback<String>() {
     @Override
     public void success(String value) {
@@ -59,7 +59,15 @@ public interface SimpleExecutor {
 
   // TODO: Finishing NamedRunnable instrumentation
   static SimpleExecutor create(String name) {
-    ScheduledExecutorService realExecutor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(name));
+    return wrap(name, Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(name)));
+  }
+
+  /** create an executor backed by a fixed pool of threads; unlike create(), commands may run concurrently and out of order */
+  static SimpleExecutor createPool(String name, int threads) {
+    return wrap(name, Executors.newScheduledThreadPool(Math.max(1, threads), new NamedThreadFactory(name)));
+  }
+
+  private static SimpleExecutor wrap(String name, ScheduledExecutorService realExecutor) {
     return new SimpleExecutor() {
       @Override
       public void execute(NamedRunnable command) {
@@ -0,0 +1,183 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.common.cache;
+
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import ape.common.NamedRunnable;
+import ape.common.SimpleExecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Concurrent variant of AsyncSharedLRUCache. Keys are spread over independently locked segments, each a
+ * SyncCacheLRU with its own inflight table, so hits are served on the calling thread without an executor
+ * hop while concurrent misses on a key still coalesce into a single resolver call. Callbacks run on the
+ * calling thread (hits) or on the thread completing the resolver (misses), never under a segment lock.
+ * The executor is only used for periodic sweeping. Eviction callbacks run under a segment lock, so they
+ * must hand off any real work rather than block.
+ */
+public class StripedAsyncLRUCache<D, R extends Measurable> {
+  private final SimpleExecutor executor;
+  private final Segment<D, R>[] segments;
+  private final BiConsumer<D, Callback<R>> resolver;
+  private final Random rng;
+
+  private static class Segment<D, R extends Measurable> {
+    private final SyncCacheLRU<D, R> cache;
+    private final HashMap<D, ArrayList<Callback<R>>> inflight;
+
+    private Segment(SyncCacheLRU<D, R> cache) {
+      this.cache = cache;
+      this.inflight = new HashMap<>();
+    }
+  }
+
+  /**
+   * @param executor the executor used to sweep
+   * @param stripes the number of segments; each segment gets its own cache from the factory, so limits should be divided accordingly
+   * @param segmentFactory produce the cache for a segment
+   * @param resolver resolve a key on a miss
+   */
+  @SuppressWarnings("unchecked")
+  public StripedAsyncLRUCache(SimpleExecutor executor, int stripes, Supplier<SyncCacheLRU<D, R>> segmentFactory, BiConsumer<D, Callback<R>> resolver) {
+    this.executor = executor;
+    this.segments = new Segment[Math.max(1, stripes)];
+    for (int k = 0; k < segments.length; k++) {
+      segments[k] = new Segment<>(segmentFactory.get());
+    }
+    this.resolver = resolver;
+    this.rng = new Random();
+  }
+
+  private Segment<D, R> segmentOf(D key) {
+    int h = key.hashCode();
+    h ^= (h >>> 16);
+    return segments[Math.floorMod(h, segments.length)];
+  }
+
+  public void startSweeping(AtomicBoolean alive, int periodMinimumMs, int periodMaximumMs) {
+    final int periodRange = Math.max(periodMaximumMs - periodMinimumMs, 10);
+    executor.schedule(new NamedRunnable("striped-sweep") {
+      @Override
+      public void execute() throws Exception {
+        sweep();
+        if (alive.get()) {
+          executor.schedule(this, periodMinimumMs + rng.nextInt(periodRange));
+        }
+      }
+    }, periodMinimumMs);
+  }
+
+  /** sweep every segment for expired items */
+  public void sweep() {
+    for (Segment<D, R> segment : segments) {
+      synchronized (segment) {
+        segment.cache.sweep();
+      }
+    }
+  }
+
+  public void get(D key, Callback<R> callback) {
+    Segment<D, R> segment = segmentOf(key);
+    R cachedValue;
+    synchronized (segment) {
+      cachedValue = segment.cache.get(key);
+      if (cachedValue == null) {
+        ArrayList<Callback<R>> recent = segment.inflight.get(key);
+        if (recent != null) {
+          recent.add(callback);
+          return;
+        }
+        recent = new ArrayList<>();
+        recent.add(callback);
+        segment.inflight.put(key, recent);
+      }
+    }
+    if (cachedValue != null) {
+      callback.success(cachedValue);
+      return;
+    }
+    resolver.accept(key, new Callback<R>() {
+      @Override
+      public void success(R value) {
+        ArrayList<Callback<R>> waiting;
+        synchronized (segment) {
+          if (value != null) {
+            segment.cache.add(key, value);
+          }
+          waiting = segment.inflight.remove(key);
+        }
+        for (Callback<R> cb : waiting) {
+          cb.success(value);
+        }
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        ArrayList<Callback<R>> waiting;
+        synchronized (segment) {
+          waiting = segment.inflight.remove(key);
+        }
+        for (Callback<R> cb : waiting) {
+          cb.failure(ex);
+        }
+      }
+    });
+  }
+
+  public void forceEvictionFromCacheNoDownstreamEviction(D key) {
+    Segment<D, R> segment = segmentOf(key);
+    synchronized (segment) {
+      segment.cache.forceEvictionFromCacheNoDownstreamEviction(key);
+    }
+  }
+
+  /** how many items are held across all segments */
+  public int size() {
+    int size = 0;
+    for (Segment<D, R> segment : segments) {
+      synchronized (segment) {
+        size += segment.cache.size();
+      }
+    }
+    return size;
+  }
+
+  /** the total measure of all segments */
+  public long measure() {
+    long measure = 0;
+    for (Segment<D, R> segment : segments) {
+      synchronized (segment) {
+        measure += segment.cache.measure();
+      }
+    }
+    return measure;
+  }
+}
@@ -83,11 +83,23 @@ public class SyncCacheLRU<D, R extends Measurable> {
 
   /** add an item to the cache; will trigger evictions */
   public void add(D key, R item) {
-    CacheEntry<R> entry = new CacheEntry<>(item, time.nowMilliseconds());
+    add(key, item, time.nowMilliseconds());
+  }
+
+  /** add an item to the cache with a known creation time (i.e. restored from a prior process); will trigger evictions */
+  public void add(D key, R item, long timestamp) {
+    CacheEntry<R> entry = new CacheEntry<>(item, timestamp);
     this.measure += item.measure();
     cache.put(key, entry);
   }
 
+  /** visit every item in the cache from least to most recently used */
+  public void forEach(BiConsumer<D, R> visitor) {
+    for (Map.Entry<D, CacheEntry<R>> entry : cache.entrySet()) {
+      visitor.accept(entry.getKey(), entry.getValue().item);
+    }
+  }
+
   /** get an item from the cache */
   public R get(D key) {
     CacheEntry<R> entry = cache.get(key);
@@ -289,6 +289,9 @@ public class CodecCodeGen {
     if (field.getType() == int[].class) {
       return "Helper.readIntArray(buf)";
     }
+    if (field.getType() == byte[].class) {
+      return "Helper.readBytes(buf)";
+    }
     if (field.getType().getAnnotation(TypeId.class) != null) {
       return "read_" + field.getType().getSimpleName() + "(buf)";
     }
@@ -324,6 +327,9 @@ public class CodecCodeGen {
     if (field.getType() == int[].class) {
       return "Helper.writeIntArray(buf, " + value + ");";
     }
+    if (field.getType() == byte[].class) {
+      return "Helper.writeBytes(buf, " + value + ");";
+    }
     if (field.getType().getAnnotation(TypeId.class) != null) {
       return "write(buf, " + value + ");";
     }
@@ -24,6 +24,7 @@
 package ape.common.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 
 import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
@@ -36,6 +37,8 @@ public class Helper {
   public static final int MAX_ARRAY_SIZE = 4 * 1024 * 1024;
   /** Maximum byte length allowed when deserializing strings (16 MB). */
   public static final int MAX_STRING_SIZE = 16 * 1024 * 1024;
+  /** Maximum length allowed when deserializing byte arrays (16 MB). */
+  public static final int MAX_BYTES_SIZE = 16 * 1024 * 1024;
 
   public static <T> T[] readArray(ByteBuf buf, Function<Integer, T[]> maker, Supplier<T> read) {
     int count = buf.readIntLE();
@@ -89,9 +92,12 @@ public class Helper {
     if (length < 0 || length > MAX_STRING_SIZE) {
       throw new IndexOutOfBoundsException("string length out of bounds: " + length);
     }
-    byte[] bytes = new byte[length];
-    buf.readBytes(bytes);
-    return new String(bytes, StandardCharsets.UTF_8);
+    if (length > buf.readableBytes()) {
+      throw new IndexOutOfBoundsException("string length exceeds readable bytes: " + length);
+    }
+    String str = buf.toString(buf.readerIndex(), length, StandardCharsets.UTF_8);
+    buf.skipBytes(length);
+    return str;
   }
 
   public static void writeStringArray(ByteBuf buf, String[] strs) {
@@ -110,9 +116,11 @@ public class Helper {
       buf.writeIntLE(0);
       return;
     }
-    byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
-    buf.writeIntLE(bytes.length + 1);
-    buf.writeBytes(bytes);
+    // encode straight into the buffer and patch the length prefix afterwards rather than copying through a byte[]
+    int at = buf.writerIndex();
+    buf.writeIntLE(0);
+    int length = ByteBufUtil.writeUtf8(buf, str);
+    buf.setIntLE(at, length + 1);
   }
 
 
@@ -142,4 +150,30 @@ public class Helper {
       buf.writeIntLE(nums[k]);
     }
   }
+
+  public static byte[] readBytes(ByteBuf buf) {
+    int count = buf.readIntLE();
+    if (count == 0) {
+      return null;
+    }
+    int length = count - 1;
+    if (length < 0 || length > MAX_BYTES_SIZE) {
+      throw new IndexOutOfBoundsException("bytes length out of bounds: " + length);
+    }
+    if (length > buf.readableBytes()) {
+      throw new IndexOutOfBoundsException("bytes length exceeds readable bytes: " + length);
+    }
+    byte[] bytes = new byte[length];
+    buf.readBytes(bytes);
+    return bytes;
+  }
+
+  public static void writeBytes(ByteBuf buf, byte[] bytes) {
+    if (bytes == null) {
+      buf.writeIntLE(0);
+      return;
+    }
+    buf.writeIntLE(bytes.length + 1);
+    buf.writeBytes(bytes);
+  }
 }
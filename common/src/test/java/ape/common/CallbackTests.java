@@ -103,6 +103,8 @@ public class CallbackTests {
     Callback.DONT_CARE_INTEGER.failure(new ErrorCodeException(123));
     Callback.DONT_CARE_VOID.success(null);
     Callback.DONT_CARE_VOID.failure(new ErrorCodeException(123));
+    Callback.DONT_CARE_BOOLEAN.success(true);
+    Callback.DONT_CARE_BOOLEAN.failure(new ErrorCodeException(123));
     Callback.DONT_CARE_STRING.success("xyz");
     Callback.DONT_CARE_STRING.failure(new ErrorCodeException(123));
   }
@@ -53,6 +53,29 @@ public class SimpleExecutorTests {
     SimpleExecutor.NOW.shutdown();
   }
 
+  @Test
+  public void pool() throws Exception {
+    SimpleExecutor executor = SimpleExecutor.createPool("pool", 2);
+    try {
+      CountDownLatch together = new CountDownLatch(2);
+      CountDownLatch done = new CountDownLatch(2);
+      for (int k = 0; k < 2; k++) {
+        executor.execute(new NamedRunnable("rendezvous") {
+          @Override
+          public void execute() throws Exception {
+            together.countDown();
+            if (together.await(5000, TimeUnit.MILLISECONDS)) {
+              done.countDown();
+            }
+          }
+        });
+      }
+      Assert.assertTrue(done.await(5000, TimeUnit.MILLISECONDS));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void create() throws Exception {
     SimpleExecutor executor = SimpleExecutor.create("base");
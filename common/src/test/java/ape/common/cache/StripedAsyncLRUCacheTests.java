@@ -0,0 +1,151 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.common.cache;
+
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import ape.common.SimpleExecutor;
+import ape.common.gossip.MockTime;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StripedAsyncLRUCacheTests {
+  private static class Capture implements Callback<MeasuredString> {
+    private final ArrayList<String> log = new ArrayList<>();
+
+    @Override
+    public synchronized void success(MeasuredString value) {
+      log.add(value.str + "@" + Thread.currentThread().getName());
+    }
+
+    @Override
+    public synchronized void failure(ErrorCodeException ex) {
+      log.add("FAILED:" + ex.code);
+    }
+  }
+
+  @Test
+  public void herd_then_hit_on_caller() throws Exception {
+    MockTime time = new MockTime();
+    SimpleExecutor executor = SimpleExecutor.create("test");
+    try {
+      ArrayList<Callback<MeasuredString>> loads = new ArrayList<>();
+      StripedAsyncLRUCache<String, MeasuredString> cache = new StripedAsyncLRUCache<>(executor, 4, () -> new SyncCacheLRU<>(time, 1, 10, 1024, 1000, SyncCacheLRU.MAKE_NO_OP()), (key, cb) -> loads.add(cb));
+      Capture capture = new Capture();
+      for (int k = 0; k < 5; k++) {
+        cache.get("X", capture);
+      }
+      Assert.assertEquals(1, loads.size());
+      Assert.assertEquals(0, capture.log.size());
+      loads.remove(0).success(new MeasuredString("XYZ"));
+      Assert.assertEquals(5, capture.log.size());
+      cache.get("X", capture);
+      Assert.assertEquals(0, loads.size());
+      Assert.assertEquals("XYZ@" + Thread.currentThread().getName(), capture.log.get(5));
+      Assert.assertEquals(1, cache.size());
+      Assert.assertEquals(3, cache.measure());
+      cache.forceEvictionFromCacheNoDownstreamEviction("X");
+      Assert.assertEquals(0, cache.size());
+      cache.get("X", capture);
+      Assert.assertEquals(1, loads.size());
+      loads.remove(0).failure(new ErrorCodeException(42));
+      Assert.assertEquals("FAILED:42", capture.log.get(6));
+      Assert.assertEquals(0, cache.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void sweep() throws Exception {
+    MockTime time = new MockTime();
+    SimpleExecutor executor = SimpleExecutor.create("test");
+    try {
+      AtomicInteger evictions = new AtomicInteger(0);
+      StripedAsyncLRUCache<String, MeasuredString> cache = new StripedAsyncLRUCache<>(executor, 2, () -> new SyncCacheLRU<>(time, 1, 10, 1024, 50, (key, value) -> evictions.incrementAndGet()), (key, cb) -> cb.success(new MeasuredString(key)));
+      Capture capture = new Capture();
+      for (int k = 0; k < 6; k++) {
+        cache.get("k" + k, capture);
+      }
+      Assert.assertEquals(6, cache.size());
+      time.currentTime += 100;
+      AtomicBoolean alive = new AtomicBoolean(true);
+      cache.startSweeping(alive, 5, 10);
+      for (int k = 0; k < 200 && cache.size() > 0; k++) {
+        Thread.sleep(5);
+      }
+      alive.set(false);
+      Assert.assertEquals(0, cache.size());
+      Assert.assertEquals(6, evictions.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void concurrent() throws Exception {
+    MockTime time = new MockTime();
+    SimpleExecutor executor = SimpleExecutor.create("test");
+    try {
+      AtomicInteger resolves = new AtomicInteger(0);
+      StripedAsyncLRUCache<String, MeasuredString> cache = new StripedAsyncLRUCache<>(executor, 8, () -> new SyncCacheLRU<>(time, 1, 100, 1024 * 1024, 100000, SyncCacheLRU.MAKE_NO_OP()), (key, cb) -> {
+        resolves.incrementAndGet();
+        cb.success(new MeasuredString(key));
+      });
+      int threads = 8;
+      int gets = 2000;
+      CountDownLatch done = new CountDownLatch(threads * gets);
+      ArrayList<Thread> workers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        Thread thread = new Thread(() -> {
+          for (int k = 0; k < gets; k++) {
+            cache.get("key-" + (k % 50), new Callback<>() {
+              @Override
+              public void success(MeasuredString value) {
+                done.countDown();
+              }
+
+              @Override
+              public void failure(ErrorCodeException ex) {
+              }
+            });
+          }
+        });
+        workers.add(thread);
+        thread.start();
+      }
+      Assert.assertTrue(done.await(10000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals(50, resolves.get());
+      Assert.assertEquals(50, cache.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -150,6 +150,24 @@ public class SyncCacheLRUTests {
     Assert.assertEquals(0, cache.size());
   }
 
+  @Test
+  public void restored_timestamp_and_visit() {
+    MockTime time = new MockTime();
+    time.currentTime = 10000;
+    ArrayList<String> evictions = new ArrayList<>();
+    SyncCacheLRU<String, MeasuredString> cache = new SyncCacheLRU<>(time, 0, 100, 1024, 500, (key, val) -> evictions.add(key));
+    cache.add("old", new MeasuredString("x"), 9800);
+    cache.add("new", new MeasuredString("y"));
+    cache.get("old");
+    ArrayList<String> order = new ArrayList<>();
+    cache.forEach((key, val) -> order.add(key));
+    Assert.assertEquals("[new, old]", order.toString());
+    time.currentTime += 400;
+    cache.sweep();
+    Assert.assertEquals("[old]", evictions.toString());
+    Assert.assertEquals(1, cache.size());
+  }
+
   @Test
   public void coverage_noop() {
     SyncCacheLRU.MAKE_NO_OP().accept(null, null);
@@ -178,4 +178,42 @@ public class HelperTests {
     buf.writeIntLE(-1);
     Helper.readString(buf);
   }
+
+  @Test
+  public void stringUtf8RoundTrip() {
+    ByteBuf buf = Unpooled.buffer();
+    String str = "caf\u00e9 \u4e2d\u6587 \ud83d\ude00";
+    Helper.writeString(buf, str);
+    Helper.writeString(buf, "after");
+    Assert.assertEquals(str.getBytes(java.nio.charset.StandardCharsets.UTF_8).length + 1, buf.getIntLE(0));
+    Assert.assertEquals(str, Helper.readString(buf));
+    Assert.assertEquals("after", Helper.readString(buf));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void readStringTruncated() {
+    ByteBuf buf = Unpooled.buffer(64);
+    buf.writeIntLE(11);
+    buf.writeBytes(new byte[] {'a', 'b', 'c'});
+    Helper.readString(buf);
+  }
+
+  @Test
+  public void bytesRoundTrip() {
+    ByteBuf buf = Unpooled.buffer();
+    Helper.writeBytes(buf, null);
+    Helper.writeBytes(buf, new byte[0]);
+    Helper.writeBytes(buf, new byte[] {1, 2, 3});
+    Assert.assertNull(Helper.readBytes(buf));
+    Assert.assertEquals(0, Helper.readBytes(buf).length);
+    Assert.assertArrayEquals(new byte[] {1, 2, 3}, Helper.readBytes(buf));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void readBytesTruncated() {
+    ByteBuf buf = Unpooled.buffer(64);
+    buf.writeIntLE(11);
+    buf.writeBytes(new byte[] {1, 2, 3});
+    Helper.readBytes(buf);
+  }
 }
@@ -42,6 +42,10 @@ public abstract class IndexQuerySet {
     }
   }
 
+  /** intersect the set with the rows which may match the search (needle =? FIELD) via the full-text index; by default, every row may match */
+  public void search(int column, String needle) {
+  }
+
   /** within a branch, pick a primary key as the value */
   public abstract void primary(int value);
 
@@ -29,11 +29,18 @@ public class DocumentSnapshot {
   public final String json;
   public final int history;
   public final long assetBytes;
+  /** a hint (from @static binary_snapshot) that the data service may store the json in a compact binary form */
+  public final boolean binary;
 
   public DocumentSnapshot(int seq, String json, int history, long assetBytes) {
+    this(seq, json, history, assetBytes, false);
+  }
+
+  public DocumentSnapshot(int seq, String json, int history, long assetBytes, boolean binary) {
     this.seq = seq;
     this.json = json;
     this.history = history;
     this.assetBytes = assetBytes;
+    this.binary = binary;
   }
 }
@@ -59,6 +59,11 @@ public class AsyncCompiler {
   }
 
   public static void forge(RuntimeEnvironment runtime, String name, DeploymentFactory prior, DeploymentPlan plan, Deliverer deliverer, TreeMap<Integer, PrivateKeyBundle> keys, AsyncByteCodeCache cache, Callback<DeploymentFactory> callback) {
+    forge(runtime, name, prior, plan, deliverer, keys, cache, SimpleExecutor.NOW, callback);
+  }
+
+  /** forge the plan; each version that needs compiling is parsed, typed, and converted to java as an independent job within the compiler executor */
+  public static void forge(RuntimeEnvironment runtime, String name, DeploymentFactory prior, DeploymentPlan plan, Deliverer deliverer, TreeMap<Integer, PrivateKeyBundle> keys, AsyncByteCodeCache cache, SimpleExecutor compiler, Callback<DeploymentFactory> callback) {
     ConcurrentHashMap<String, LivingDocumentFactory> factories = new ConcurrentHashMap<>();
     AtomicLong _memoryUsed = new AtomicLong();
     AtomicBoolean failedWithBetterError = new AtomicBoolean(false);
@@ -76,59 +81,18 @@ public class AsyncCompiler {
         }
       }
       if (factory == null) {
-        // First, we compile the Adama code to java
-        try {
-          CompilerOptions.Builder builder = CompilerOptions.start();
-          if (plan.instrument) {
-            builder = builder.instrument();
-          }
-          final var options = builder.make();
-          final var globals = GlobalObjectPool.createPoolWithStdLib(runtime);
-          final var state = new EnvironmentState(globals, options, runtime);
-          final var document = new Document();
-          MessageDigest digest = Hashing.sha384();
-          digest.update(version.main.getBytes(StandardCharsets.UTF_8));
-          for (Map.Entry<String, String> includeEntry : version.includes.entrySet()) {
-            digest.update(includeEntry.getKey().getBytes(StandardCharsets.UTF_8));
-            digest.update(includeEntry.getValue().getBytes(StandardCharsets.UTF_8));
-          }
-          String className = normalizeSpaceNameForClass(name) + "_" + Hashing.finishAndEncodeHex(digest);
-          document.setClassName(className);
-          document.setIncludes(version.includes);
-          final var tokenEngine = new TokenEngine("main", version.main.codePoints().iterator());
-          final var parser = new Parser(tokenEngine, document.getSymbolIndex(), Scope.makeRootDocument());
-          parser.document().accept(document);
-          if (!document.check(state.scope())) {
-            if (failedWithBetterError.compareAndSet(false, true)) {
-              callback.failure(new ErrorCodeException(ErrorCodes.DEPLOYMENT_CANT_TYPE_LANGUAGE, document.errorsJson()));
-            }
-          } else {
-            final var java = document.compileJava(state);
-            JsonStreamWriter reflection = new JsonStreamWriter();
-            document.writeTypeReflectionJson(reflection);
-            cache.fetchOrCompile(name, className, java, reflection.toString(), new ExceptionCallback<>() {
-              @Override
-              public void invoke(CachedByteCode code) throws ErrorCodeException {
-                LivingDocumentFactory newFactory = new LivingDocumentFactory(code, deliverer, keys);
-                _memoryUsed.addAndGet(newFactory.memoryUsage);
-                factories.put(entry.getKey(), newFactory);
-                successLatch.run();
-              }
-
-              @Override
-              public void failure(ErrorCodeException ex) {
-                if (failedWithBetterError.compareAndSet(false, true)) {
-                  callback.failure(ex);
-                }
-              }
-            });
-          }
-        } catch (AdamaLangException ex) {
-          if (failedWithBetterError.compareAndSet(false, true)) {
-            callback.failure(new ErrorCodeException(ErrorCodes.FACTORY_CANT_BIND_JAVA_CODE));
-          }
+        if (failedWithBetterError.get()) {
           return;
         }
+        compiler.execute(new NamedRunnable("compile-version") {
+          @Override
+          public void execute() throws Exception {
+            if (failedWithBetterError.get()) {
+              return;
+            }
+            compile(runtime, name, plan, entry.getKey(), version, deliverer, keys, cache, factories, _memoryUsed, failedWithBetterError, successLatch, callback);
+          }
+        });
       } else {
         factories.put(entry.getKey(), factory);
         _memoryUsed.addAndGet(factory.memoryUsage);
@@ -136,4 +100,65 @@ public class AsyncCompiler {
       }
     }
   }
+
+  /** compile a single version; the translator holds no shared state, so each job builds its own GlobalObjectPool and environment */
+  private static void compile(RuntimeEnvironment runtime, String name, DeploymentPlan plan, String versionName, DeployedVersion version, Deliverer deliverer, TreeMap<Integer, PrivateKeyBundle> keys, AsyncByteCodeCache cache, ConcurrentHashMap<String, LivingDocumentFactory> factories, AtomicLong _memoryUsed, AtomicBoolean failedWithBetterError, Runnable successLatch, Callback<DeploymentFactory> callback) {
+    // First, we compile the Adama code to java
+    try {
+      CompilerOptions.Builder builder = CompilerOptions.start();
+      if (plan.instrument) {
+        builder = builder.instrument();
+      }
+      final var options = builder.make();
+      final var globals = GlobalObjectPool.createPoolWithStdLib(runtime);
+      final var state = new EnvironmentState(globals, options, runtime);
+      final var document = new Document();
+      MessageDigest digest = Hashing.sha384();
+      digest.update(version.main.getBytes(StandardCharsets.UTF_8));
+      for (Map.Entry<String, String> includeEntry : version.includes.entrySet()) {
+        digest.update(includeEntry.getKey().getBytes(StandardCharsets.UTF_8));
+        digest.update(includeEntry.getValue().getBytes(StandardCharsets.UTF_8));
+      }
+      String className = normalizeSpaceNameForClass(name) + "_" + Hashing.finishAndEncodeHex(digest);
+      document.setClassName(className);
+      document.setIncludes(version.includes);
+      final var tokenEngine = new TokenEngine("main", version.main.codePoints().iterator());
+      final var parser = new Parser(tokenEngine, document.getSymbolIndex(), Scope.makeRootDocument());
+      parser.document().accept(document);
+      if (!document.check(state.scope())) {
+        if (failedWithBetterError.compareAndSet(false, true)) {
+          callback.failure(new ErrorCodeException(ErrorCodes.DEPLOYMENT_CANT_TYPE_LANGUAGE, document.errorsJson()));
+        }
+      } else {
+        final var java = document.compileJava(state);
+        JsonStreamWriter reflection = new JsonStreamWriter();
+        document.writeTypeReflectionJson(reflection);
+        cache.fetchOrCompile(name, className, java, reflection.toString(), new ExceptionCallback<>() {
+          @Override
+          public void invoke(CachedByteCode code) throws ErrorCodeException {
+            LivingDocumentFactory newFactory = new LivingDocumentFactory(code, deliverer, keys);
+            _memoryUsed.addAndGet(newFactory.memoryUsage);
+            factories.put(versionName, newFactory);
+            successLatch.run();
+          }
+
+          @Override
+          public void failure(ErrorCodeException ex) {
+            if (failedWithBetterError.compareAndSet(false, true)) {
+              callback.failure(ex);
+            }
+          }
+        });
+      }
+    } catch (AdamaLangException ex) {
+      if (failedWithBetterError.compareAndSet(false, true)) {
+        callback.failure(new ErrorCodeException(ErrorCodes.FACTORY_CANT_BIND_JAVA_CODE));
+      }
+    } catch (RuntimeException ex) {
+      // the job may be on a pool thread, so nothing above us will see this; the callback must always fire
+      if (failedWithBetterError.compareAndSet(false, true)) {
+        callback.failure(new ErrorCodeException(ErrorCodes.FACTORY_CANT_BIND_JAVA_CODE, ex));
+      }
+    }
+  }
 }
@@ -26,19 +26,19 @@ package ape.runtime.deploy;
 import ape.common.Callback;
 import ape.common.SimpleExecutor;
 import ape.common.TimeSource;
-import ape.common.cache.AsyncSharedLRUCache;
+import ape.common.cache.StripedAsyncLRUCache;
 import ape.common.cache.SyncCacheLRU;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
-/** a herd protection mechanism for the compiler */
+/** a herd protection mechanism for the compiler; hits are served on the calling thread */
 public class CachedAsyncByteCodeCache implements AsyncByteCodeCache {
-  private final SyncCacheLRU<ByteCodeKey, CachedByteCode> storage;
-  private final AsyncSharedLRUCache<ByteCodeKey, CachedByteCode> cache;
+  private static final int STRIPES = 4;
+  private final StripedAsyncLRUCache<ByteCodeKey, CachedByteCode> cache;
 
   public CachedAsyncByteCodeCache(TimeSource timeSource, int maxByteCodes, long maxAge, SimpleExecutor executor, AsyncByteCodeCache byteCodeCache) {
-    this.storage = new SyncCacheLRU<>(timeSource, 0, maxByteCodes, 1024 * 1024L * maxByteCodes, maxAge, SyncCacheLRU.MAKE_NO_OP());
-    this.cache = new AsyncSharedLRUCache<>(executor, storage, (key, cb) -> {
+    int perStripe = Math.max(1, maxByteCodes / STRIPES);
+    this.cache = new StripedAsyncLRUCache<>(executor, STRIPES, () -> new SyncCacheLRU<>(timeSource, 0, perStripe, 1024 * 1024L * perStripe, maxAge, SyncCacheLRU.MAKE_NO_OP()), (key, cb) -> {
       byteCodeCache.fetchOrCompile(key.spaceName, key.className, key.javaSource, key.reflection, cb);
     });
   }
@@ -26,6 +26,7 @@ package ape.runtime.deploy;
 import ape.ErrorCodes;
 import ape.common.Callback;
 import ape.common.ErrorCodeException;
+import ape.common.SimpleExecutor;
 import ape.common.keys.PrivateKeyBundle;
 import ape.runtime.contracts.LivingDocumentFactoryFactory;
 import ape.runtime.data.Key;
@@ -47,13 +48,20 @@ public class DeploymentFactoryBase implements LivingDocumentFactoryFactory, Deli
   private final AsyncByteCodeCache cache;
   private final ConcurrentHashMap<String, DeploymentFactory> spaces;
   private final RuntimeEnvironment runtime;
+  private final SimpleExecutor compiler;
   private Deliverer deliverer;
 
   public DeploymentFactoryBase(AsyncByteCodeCache cache, RuntimeEnvironment runtime) {
+    this(cache, runtime, SimpleExecutor.NOW);
+  }
+
+  /** versions (and spaces) are compiled as jobs on the given executor; use a pool to compile them in parallel */
+  public DeploymentFactoryBase(AsyncByteCodeCache cache, RuntimeEnvironment runtime, SimpleExecutor compiler) {
     this.cache = cache;
     this.spaces = new ConcurrentHashMap<>();
     this.deliverer = Deliverer.FAILURE;
     this.runtime = runtime;
+    this.compiler = compiler;
   }
 
   public void attachDeliverer(Deliverer deliverer) {
@@ -75,7 +83,7 @@ public class DeploymentFactoryBase implements LivingDocumentFactoryFactory, Deli
 
   public void deploy(String space, DeploymentPlan plan, TreeMap<Integer, PrivateKeyBundle> keys, Callback<Void> callback){
     long started = System.currentTimeMillis();
-    AsyncCompiler.forge(runtime, space, spaces.get(space), plan, this, keys, cache, new Callback<DeploymentFactory>() {
+    AsyncCompiler.forge(runtime, space, spaces.get(space), plan, this, keys, cache, compiler, new Callback<DeploymentFactory>() {
       @Override
       public void success(DeploymentFactory factory) {
         spaces.put(space, factory);
@@ -0,0 +1,261 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.deploy;
+
+import ape.ErrorCodes;
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import ape.common.Hashing;
+import ape.common.NamedRunnable;
+import ape.common.Platform;
+import ape.common.SimpleExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A filesystem backed ExternalByteCodeSystem such that a single node (or solo) deployment need not recompile on boot.
+ * Entries are content addressed by the class name (which embeds the SHA-384 of the Adama source), written atomically
+ * (temp file then rename), and guarded by the SHA-384 of the packed byte code along with the platform version that
+ * produced them; any mismatch is treated as a miss and the file is removed. The directory is bounded by bytes via
+ * least recently used eviction where recency survives restarts via each file's last modified time. All disk
+ * access happens on the given executor.
+ */
+public class DiskByteCodeSystem implements ExternalByteCodeSystem {
+  private static final Logger LOG = LoggerFactory.getLogger(DiskByteCodeSystem.class);
+  private static final int MAGIC = 0x42C0DE;
+  private static final String SUFFIX = ".bytecode";
+  private final SimpleExecutor executor;
+  private final File root;
+  private final long maxBytes;
+  private final String version;
+  private final LinkedHashMap<String, Long> sizes;
+  private long bytes;
+
+  public DiskByteCodeSystem(SimpleExecutor executor, File root, long maxBytes) {
+    this(executor, root, maxBytes, Platform.VERSION);
+  }
+
+  public DiskByteCodeSystem(SimpleExecutor executor, File root, long maxBytes, String version) {
+    this.executor = executor;
+    this.root = root;
+    this.maxBytes = maxBytes;
+    this.version = version;
+    this.sizes = new LinkedHashMap<>(16, 0.75f, true);
+    this.bytes = 0;
+    root.mkdirs();
+    ArrayList<File> files = new ArrayList<>();
+    File[] children = root.listFiles();
+    if (children != null) {
+      for (File file : children) {
+        if (file.getName().endsWith(SUFFIX)) {
+          files.add(file);
+        } else if (file.getName().endsWith(".tmp")) {
+          // a write that didn't finish
+          file.delete();
+        }
+      }
+    }
+    // replay the files from least to most recently used
+    files.sort((a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    for (File file : files) {
+      String name = file.getName();
+      sizes.put(name.substring(0, name.length() - SUFFIX.length()), file.length());
+      bytes += file.length();
+    }
+    evict();
+  }
+
+  /** is the class name safe to use as a file name */
+  private static boolean isSafe(String className) {
+    if (className.length() == 0 || className.length() > 200) {
+      return false;
+    }
+    for (int k = 0; k < className.length(); k++) {
+      char ch = className.charAt(k);
+      if (!(Character.isLetterOrDigit(ch) || ch == '_' || ch == '-' || ch == '$')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private File fileOf(String className) {
+    return new File(root, className + SUFFIX);
+  }
+
+  @Override
+  public void fetchByteCode(String className, Callback<CachedByteCode> callback) {
+    executor.execute(new NamedRunnable("disk-bytecode-fetch") {
+      @Override
+      public void execute() throws Exception {
+        synchronized (DiskByteCodeSystem.this) {
+          // the get marks the entry as recently used
+          if (!isSafe(className) || sizes.get(className) == null) {
+            callback.failure(new ErrorCodeException(ErrorCodes.DISK_BYTE_CODE_NOT_FOUND));
+            return;
+          }
+        }
+        File file = fileOf(className);
+        final CachedByteCode code;
+        try {
+          code = read(file);
+        } catch (Exception ex) {
+          remove(className);
+          callback.failure(ErrorCodeException.detectOrWrap(ErrorCodes.DISK_BYTE_CODE_FAILED_READ, ex, null));
+          return;
+        }
+        if (code == null || !className.equals(code.className)) {
+          LOG.error("corrupt-bytecode:" + className);
+          remove(className);
+          callback.failure(new ErrorCodeException(ErrorCodes.DISK_BYTE_CODE_CORRUPT));
+          return;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        callback.success(code);
+      }
+    });
+  }
+
+  @Override
+  public void storeByteCode(String className, CachedByteCode code, Callback<Void> callback) {
+    executor.execute(new NamedRunnable("disk-bytecode-store") {
+      @Override
+      public void execute() throws Exception {
+        if (!isSafe(className)) {
+          callback.failure(new ErrorCodeException(ErrorCodes.DISK_BYTE_CODE_FAILED_WRITE));
+          return;
+        }
+        File temp = new File(root, className + "." + UUID.randomUUID() + ".tmp");
+        try {
+          byte[] packed = code.pack();
+          MessageDigest digest = Hashing.sha384();
+          digest.update(packed);
+          try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            output.writeInt(MAGIC);
+            output.writeUTF(version);
+            byte[] hash = digest.digest();
+            output.writeInt(hash.length);
+            output.write(hash);
+            output.writeInt(packed.length);
+            output.write(packed);
+          }
+          File file = fileOf(className);
+          Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+          synchronized (DiskByteCodeSystem.this) {
+            Long prior = sizes.put(className, file.length());
+            if (prior != null) {
+              bytes -= prior;
+            }
+            bytes += file.length();
+          }
+        } catch (Exception ex) {
+          temp.delete();
+          callback.failure(ErrorCodeException.detectOrWrap(ErrorCodes.DISK_BYTE_CODE_FAILED_WRITE, ex, null));
+          return;
+        }
+        evict();
+        callback.success(null);
+      }
+    });
+  }
+
+  /** read and validate the file; returns null if the file was not written by this version or is corrupt */
+  private CachedByteCode read(File file) throws Exception {
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (input.readInt() != MAGIC) {
+        return null;
+      }
+      if (!version.equals(input.readUTF())) {
+        return null;
+      }
+      int hashLength = input.readInt();
+      if (hashLength < 0 || hashLength > 128) {
+        return null;
+      }
+      byte[] hash = new byte[hashLength];
+      input.readFully(hash);
+      int length = input.readInt();
+      if (length < 0 || length > file.length()) {
+        return null;
+      }
+      byte[] packed = new byte[length];
+      input.readFully(packed);
+      MessageDigest digest = Hashing.sha384();
+      digest.update(packed);
+      if (!MessageDigest.isEqual(hash, digest.digest())) {
+        return null;
+      }
+      return CachedByteCode.unpack(packed);
+    }
+  }
+
+  /** drop the entry and its file */
+  private void remove(String className) {
+    synchronized (this) {
+      Long size = sizes.remove(className);
+      if (size != null) {
+        bytes -= size;
+      }
+    }
+    fileOf(className).delete();
+  }
+
+  /** evict the least recently used entries until the directory fits */
+  private void evict() {
+    ArrayList<String> victims = new ArrayList<>();
+    synchronized (this) {
+      Iterator<Map.Entry<String, Long>> it = sizes.entrySet().iterator();
+      while (bytes > maxBytes && it.hasNext()) {
+        Map.Entry<String, Long> entry = it.next();
+        bytes -= entry.getValue();
+        victims.add(entry.getKey());
+        it.remove();
+      }
+    }
+    for (String victim : victims) {
+      fileOf(victim).delete();
+    }
+  }
+
+  /** how many bytes are held on disk */
+  public synchronized long bytes() {
+    return bytes;
+  }
+
+  /** how many byte codes are held on disk */
+  public synchronized int size() {
+    return sizes.size();
+  }
+}
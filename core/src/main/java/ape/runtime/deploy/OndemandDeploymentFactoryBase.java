@@ -40,16 +40,23 @@ public class OndemandDeploymentFactoryBase implements LivingDocumentFactoryFacto
   private final DeploymentFactoryBase base;
   private final PlanFetcher fetcher;
   private final DeploySync sync;
+  private final WarmBoot warm;
 
   public OndemandDeploymentFactoryBase(DeploymentMetrics metrics, DeploymentFactoryBase base, PlanFetcher fetcher, DeploySync sync) {
+    this(metrics, base, fetcher, sync, new WarmBoot());
+  }
+
+  public OndemandDeploymentFactoryBase(DeploymentMetrics metrics, DeploymentFactoryBase base, PlanFetcher fetcher, DeploySync sync, WarmBoot warm) {
     this.metrics = metrics;
     this.base = base;
     this.fetcher = fetcher;
     this.sync = sync;
+    this.warm = warm;
   }
 
   @Override
   public void fetch(Key key, Callback<LivingDocumentFactory> callback) {
+    warm.touch(key.space);
     if (base.contains(key.space)) {
       metrics.deploy_cache_hit.run();
       base.fetch(key, callback);
@@ -0,0 +1,159 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.deploy;
+
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cold start support for a host. The heat of each space (how often documents fetch its factory) is tracked such
+ * that the hottest spaces can be written to disk on shutdown and deployed eagerly on the next boot; this moves the
+ * byte code fetch (via ExternalByteCodeSystem), class definition, verification, and static initialization of the
+ * generated classes ahead of traffic. The JVM options for an application class-data archive (AppCDS) are provided
+ * for the launcher: a training run dumps the archive on exit, and later boots map it to skip loading and verifying
+ * the runtime's classes. Generated classes are defined from bytes by ByteArrayClassLoader, so the JVM will not
+ * archive them; the eager deployment covers them instead.
+ */
+public class WarmBoot {
+  private static final Logger LOG = LoggerFactory.getLogger(WarmBoot.class);
+  private final ConcurrentHashMap<String, LongAdder> heat;
+
+  public WarmBoot() {
+    this.heat = new ConcurrentHashMap<>();
+  }
+
+  /** JVM options for a training run which dumps the class-data archive on exit */
+  public static List<String> archiveDumpOptions(File archive) {
+    return Collections.singletonList("-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath());
+  }
+
+  /** JVM options to boot with the class-data archive (if it exists); sharing is best effort such that a stale archive is ignored */
+  public static List<String> archiveBootOptions(File archive) {
+    if (!archive.exists()) {
+      return Collections.emptyList();
+    }
+    ArrayList<String> options = new ArrayList<>();
+    options.add("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+    options.add("-Xshare:auto");
+    return options;
+  }
+
+  /** a document fetched the factory for the given space */
+  public void touch(String space) {
+    heat.computeIfAbsent(space, (x) -> new LongAdder()).increment();
+  }
+
+  /** the hottest spaces (up to the limit) from hottest to coldest */
+  public List<String> hottest(int limit) {
+    ArrayList<Map.Entry<String, Long>> entries = new ArrayList<>();
+    for (Map.Entry<String, LongAdder> entry : heat.entrySet()) {
+      entries.add(Map.entry(entry.getKey(), entry.getValue().sum()));
+    }
+    entries.sort((a, b) -> {
+      int delta = Long.compare(b.getValue(), a.getValue());
+      if (delta == 0) {
+        return a.getKey().compareTo(b.getKey());
+      }
+      return delta;
+    });
+    ArrayList<String> spaces = new ArrayList<>();
+    for (int k = 0; k < entries.size() && k < limit; k++) {
+      spaces.add(entries.get(k).getKey());
+    }
+    return spaces;
+  }
+
+  /** write the hottest spaces (one per line) to the file; the write is atomic such that a crash leaves the prior list */
+  public void save(File file, int limit) throws IOException {
+    File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+    Files.write(temp.toPath(), hottest(limit), StandardCharsets.UTF_8);
+    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** read the spaces written by save; a missing or unreadable file is an empty list */
+  public static List<String> load(File file) {
+    if (!file.exists()) {
+      return Collections.emptyList();
+    }
+    try {
+      ArrayList<String> spaces = new ArrayList<>();
+      for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+        String space = line.trim();
+        if (space.length() > 0) {
+          spaces.add(space);
+        }
+      }
+      return spaces;
+    } catch (IOException ex) {
+      LOG.error("failed-load-warm-boot", ex);
+      return Collections.emptyList();
+    }
+  }
+
+  /** deploy the given spaces ahead of traffic; the callback gets how many deployed (failures are logged and skipped) */
+  public static void prewarm(Deploy deploy, List<String> spaces, Callback<Integer> callback) {
+    if (spaces.isEmpty()) {
+      callback.success(0);
+      return;
+    }
+    AtomicInteger remaining = new AtomicInteger(spaces.size());
+    AtomicInteger deployed = new AtomicInteger(0);
+    for (String space : spaces) {
+      deploy.deploy(space, new Callback<>() {
+        @Override
+        public void success(Void value) {
+          deployed.incrementAndGet();
+          finish();
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+          LOG.error("failed-prewarm:" + space + ":" + ex.code);
+          finish();
+        }
+
+        private void finish() {
+          if (remaining.decrementAndGet() == 0) {
+            callback.success(deployed.get());
+          }
+        }
+      });
+    }
+  }
+}
@@ -27,6 +27,7 @@ import ape.runtime.contracts.IndexQuerySet;
 
 import java.util.Iterator;
 import java.util.Map;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
@@ -105,4 +106,31 @@ public class EvaluateLookupMode {
     }
   }
 
+  /** get the index as a bitmap of primary keys; for equality, this returns the bitmap within the index */
+  public static IntBitmap bitmapOf(TreeMap<Integer, IntBitmap> index, final int at, IndexQuerySet.LookupMode mode) {
+    switch (mode) {
+      case LessThan:
+        return union(index.headMap(at, false));
+      case LessThanOrEqual:
+        return union(index.headMap(at, true));
+      case GreaterThan:
+        return union(index.tailMap(at, false));
+      case GreaterThanOrEqual:
+        return union(index.tailMap(at, true));
+      default:
+        return index.get(at);
+    }
+  }
+
+  /** union all the bitmaps within the range together */
+  private static IntBitmap union(SortedMap<Integer, IntBitmap> range) {
+    if (range.size() == 0) {
+      return null;
+    }
+    IntBitmap result = new IntBitmap();
+    for (IntBitmap bitmap : range.values()) {
+      result.or(bitmap);
+    }
+    return result;
+  }
 }
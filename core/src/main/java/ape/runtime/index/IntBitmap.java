@@ -0,0 +1,467 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of integers (i.e. primary keys of rows) in the style of a roaring bitmap. The integers are split
+ * into chunks of 65536 by their upper 16 bits, and each chunk is either a sorted array of the lower 16 bits (when
+ * sparse) or a bitset of 1024 longs (when dense). Set algebra (and/or) then runs chunk by chunk which avoids both the
+ * boxing and the per element allocations of a TreeSet.
+ */
+public class IntBitmap {
+  /** the cardinality at which a sorted array is worse than a bitset (4096 chars = 8KB = 1024 longs) */
+  private static final int ARRAY_LIMIT = 4096;
+  private int[] keys;
+  private Chunk[] chunks;
+  private int count;
+
+  public IntBitmap() {
+    this.keys = new int[4];
+    this.chunks = new Chunk[4];
+    this.count = 0;
+  }
+
+  private IntBitmap(int capacity) {
+    this.keys = new int[Math.max(capacity, 1)];
+    this.chunks = new Chunk[Math.max(capacity, 1)];
+    this.count = 0;
+  }
+
+  /** add the value to the set */
+  public void add(int value) {
+    int high = value >>> 16;
+    int at = find(high);
+    if (at >= 0) {
+      chunks[at] = chunks[at].add((char) value);
+    } else {
+      ArrayChunk chunk = new ArrayChunk(new char[4], 0);
+      chunk.add((char) value);
+      insert(-at - 1, high, chunk);
+    }
+  }
+
+  /** remove the value from the set */
+  public void remove(int value) {
+    int at = find(value >>> 16);
+    if (at >= 0) {
+      Chunk chunk = chunks[at].remove((char) value);
+      if (chunk.cardinality() == 0) {
+        System.arraycopy(keys, at + 1, keys, at, count - at - 1);
+        System.arraycopy(chunks, at + 1, chunks, at, count - at - 1);
+        count--;
+        chunks[count] = null;
+      } else {
+        chunks[at] = chunk;
+      }
+    }
+  }
+
+  /** does the set contain the value */
+  public boolean contains(int value) {
+    int at = find(value >>> 16);
+    return at >= 0 && chunks[at].contains((char) value);
+  }
+
+  /** how many values are within the set */
+  public int size() {
+    int size = 0;
+    for (int k = 0; k < count; k++) {
+      size += chunks[k].cardinality();
+    }
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  /** produce a new bitmap which is the intersection of this and the other bitmap */
+  public IntBitmap and(IntBitmap other) {
+    IntBitmap result = new IntBitmap(Math.min(count, other.count));
+    int a = 0;
+    int b = 0;
+    while (a < count && b < other.count) {
+      if (keys[a] < other.keys[b]) {
+        a++;
+      } else if (keys[a] > other.keys[b]) {
+        b++;
+      } else {
+        Chunk chunk = chunks[a].and(other.chunks[b]);
+        if (chunk.cardinality() > 0) {
+          result.keys[result.count] = keys[a];
+          result.chunks[result.count] = chunk;
+          result.count++;
+        }
+        a++;
+        b++;
+      }
+    }
+    return result;
+  }
+
+  /** union the other bitmap into this bitmap */
+  public void or(IntBitmap other) {
+    int[] nextKeys = new int[count + other.count];
+    Chunk[] nextChunks = new Chunk[count + other.count];
+    int n = 0;
+    int a = 0;
+    int b = 0;
+    while (a < count || b < other.count) {
+      if (b >= other.count || (a < count && keys[a] < other.keys[b])) {
+        nextKeys[n] = keys[a];
+        nextChunks[n] = chunks[a];
+        a++;
+      } else if (a >= count || keys[a] > other.keys[b]) {
+        nextKeys[n] = other.keys[b];
+        nextChunks[n] = other.chunks[b].copy();
+        b++;
+      } else {
+        nextKeys[n] = keys[a];
+        nextChunks[n] = chunks[a].or(other.chunks[b]);
+        a++;
+        b++;
+      }
+      n++;
+    }
+    this.keys = nextKeys;
+    this.chunks = nextChunks;
+    this.count = n;
+  }
+
+  /** make a copy which can be mutated independently */
+  public IntBitmap copy() {
+    IntBitmap result = new IntBitmap(count);
+    for (int k = 0; k < count; k++) {
+      result.keys[k] = keys[k];
+      result.chunks[k] = chunks[k].copy();
+    }
+    result.count = count;
+    return result;
+  }
+
+  /** visit every value in ascending (unsigned) order */
+  public void forEach(IntConsumer consumer) {
+    for (int k = 0; k < count; k++) {
+      chunks[k].forEach(keys[k] << 16, consumer);
+    }
+  }
+
+  /** (approx) how many bytes of memory does this bitmap use */
+  public long memory() {
+    long sum = 16 + count * 12L;
+    for (int k = 0; k < count; k++) {
+      sum += chunks[k].memory();
+    }
+    return sum;
+  }
+
+  private int find(int high) {
+    return Arrays.binarySearch(keys, 0, count, high);
+  }
+
+  private void insert(int at, int high, Chunk chunk) {
+    if (count == keys.length) {
+      keys = Arrays.copyOf(keys, count * 2);
+      chunks = Arrays.copyOf(chunks, count * 2);
+    }
+    System.arraycopy(keys, at, keys, at + 1, count - at);
+    System.arraycopy(chunks, at, chunks, at + 1, count - at);
+    keys[at] = high;
+    chunks[at] = chunk;
+    count++;
+  }
+
+  /** the lower 16 bits of the values sharing the same upper 16 bits */
+  private static abstract class Chunk {
+    abstract int cardinality();
+
+    abstract boolean contains(char value);
+
+    /** add the value; the chunk may change representation */
+    abstract Chunk add(char value);
+
+    /** remove the value; the chunk may change representation */
+    abstract Chunk remove(char value);
+
+    abstract Chunk and(Chunk other);
+
+    abstract Chunk or(Chunk other);
+
+    abstract Chunk copy();
+
+    abstract void forEach(int base, IntConsumer consumer);
+
+    abstract long memory();
+  }
+
+  /** a sparse chunk as a sorted array */
+  private static class ArrayChunk extends Chunk {
+    private char[] values;
+    private int size;
+
+    private ArrayChunk(char[] values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    @Override
+    int cardinality() {
+      return size;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    @Override
+    Chunk add(char value) {
+      int at = Arrays.binarySearch(values, 0, size, value);
+      if (at >= 0) {
+        return this;
+      }
+      if (size == ARRAY_LIMIT) {
+        BitsChunk bits = toBits();
+        bits.add(value);
+        return bits;
+      }
+      at = -at - 1;
+      if (size == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, Math.max(4, size * 2)));
+      }
+      System.arraycopy(values, at, values, at + 1, size - at);
+      values[at] = value;
+      size++;
+      return this;
+    }
+
+    @Override
+    Chunk remove(char value) {
+      int at = Arrays.binarySearch(values, 0, size, value);
+      if (at >= 0) {
+        System.arraycopy(values, at + 1, values, at, size - at - 1);
+        size--;
+      }
+      return this;
+    }
+
+    @Override
+    Chunk and(Chunk other) {
+      char[] result = new char[size];
+      int n = 0;
+      if (other instanceof BitsChunk) {
+        for (int k = 0; k < size; k++) {
+          if (other.contains(values[k])) {
+            result[n++] = values[k];
+          }
+        }
+      } else {
+        ArrayChunk o = (ArrayChunk) other;
+        int a = 0;
+        int b = 0;
+        while (a < size && b < o.size) {
+          if (values[a] < o.values[b]) {
+            a++;
+          } else if (values[a] > o.values[b]) {
+            b++;
+          } else {
+            result[n++] = values[a];
+            a++;
+            b++;
+          }
+        }
+      }
+      return new ArrayChunk(result, n);
+    }
+
+    @Override
+    Chunk or(Chunk other) {
+      if (other instanceof BitsChunk) {
+        return other.or(this);
+      }
+      ArrayChunk o = (ArrayChunk) other;
+      char[] result = new char[size + o.size];
+      int n = 0;
+      int a = 0;
+      int b = 0;
+      while (a < size || b < o.size) {
+        if (b >= o.size || (a < size && values[a] < o.values[b])) {
+          result[n++] = values[a++];
+        } else if (a >= size || values[a] > o.values[b]) {
+          result[n++] = o.values[b++];
+        } else {
+          result[n++] = values[a];
+          a++;
+          b++;
+        }
+      }
+      ArrayChunk merged = new ArrayChunk(result, n);
+      if (n > ARRAY_LIMIT) {
+        return merged.toBits();
+      }
+      return merged;
+    }
+
+    @Override
+    Chunk copy() {
+      return new ArrayChunk(Arrays.copyOf(values, Math.max(size, 1)), size);
+    }
+
+    @Override
+    void forEach(int base, IntConsumer consumer) {
+      for (int k = 0; k < size; k++) {
+        consumer.accept(base | values[k]);
+      }
+    }
+
+    @Override
+    long memory() {
+      return 16 + values.length * 2L;
+    }
+
+    private BitsChunk toBits() {
+      BitsChunk bits = new BitsChunk(new long[1024], 0);
+      for (int k = 0; k < size; k++) {
+        bits.add(values[k]);
+      }
+      return bits;
+    }
+  }
+
+  /** a dense chunk as a bitset */
+  private static class BitsChunk extends Chunk {
+    private final long[] words;
+    private int cardinality;
+
+    private BitsChunk(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    Chunk add(char value) {
+      long before = words[value >>> 6];
+      long after = before | (1L << value);
+      if (before != after) {
+        words[value >>> 6] = after;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    Chunk remove(char value) {
+      long before = words[value >>> 6];
+      long after = before & ~(1L << value);
+      if (before != after) {
+        words[value >>> 6] = after;
+        cardinality--;
+        if (cardinality <= ARRAY_LIMIT) {
+          return toArray();
+        }
+      }
+      return this;
+    }
+
+    @Override
+    Chunk and(Chunk other) {
+      if (other instanceof ArrayChunk) {
+        return other.and(this);
+      }
+      BitsChunk o = (BitsChunk) other;
+      long[] result = new long[1024];
+      int card = 0;
+      for (int k = 0; k < 1024; k++) {
+        result[k] = words[k] & o.words[k];
+        card += Long.bitCount(result[k]);
+      }
+      BitsChunk chunk = new BitsChunk(result, card);
+      if (card <= ARRAY_LIMIT) {
+        return chunk.toArray();
+      }
+      return chunk;
+    }
+
+    @Override
+    Chunk or(Chunk other) {
+      BitsChunk result = new BitsChunk(Arrays.copyOf(words, 1024), cardinality);
+      if (other instanceof ArrayChunk) {
+        ArrayChunk o = (ArrayChunk) other;
+        for (int k = 0; k < o.size; k++) {
+          result.add(o.values[k]);
+        }
+      } else {
+        BitsChunk o = (BitsChunk) other;
+        int card = 0;
+        for (int k = 0; k < 1024; k++) {
+          result.words[k] |= o.words[k];
+          card += Long.bitCount(result.words[k]);
+        }
+        result.cardinality = card;
+      }
+      return result;
+    }
+
+    @Override
+    Chunk copy() {
+      return new BitsChunk(Arrays.copyOf(words, 1024), cardinality);
+    }
+
+    @Override
+    void forEach(int base, IntConsumer consumer) {
+      for (int k = 0; k < 1024; k++) {
+        long word = words[k];
+        while (word != 0) {
+          consumer.accept(base | (k << 6) | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+
+    @Override
+    long memory() {
+      return 16 + 8192;
+    }
+
+    private ArrayChunk toArray() {
+      char[] values = new char[cardinality];
+      int[] n = new int[] {0};
+      forEach(0, (v) -> values[n[0]++] = (char) v);
+      return new ArrayChunk(values, cardinality);
+    }
+  }
+}
@@ -31,15 +31,15 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
- * Reactive index for a single table column, mapping integer values to matching rows.
- * Maintains sorted sets of rows per indexed value for O(log n) lookup. Tracks
- * "unknown" rows whose index values have changed but haven't been reindexed yet.
- * Supports equals, less-than, and greater-than query modes via EvaluateLookupMode.
+ * Reactive index for a single table column, mapping integer values to the primary keys of matching rows.
+ * Maintains a compressed bitmap of primary keys per indexed value such that queries combine via bitmap
+ * and/or rather than allocating sets of rows. Tracks "unknown" rows whose index values have changed but
+ * haven't been reindexed yet. Supports equals, less-than, and greater-than query modes via EvaluateLookupMode.
  * Indexes are automatically maintained as row field values change.
  */
 public class ReactiveIndex<Ty extends RxRecordBase> {
   /** a data structure which is precise; we know that the given item is in this bucket for SURE */
-  private final TreeMap<Integer, TreeSet<Ty>> index;
+  private final TreeMap<Integer, IntBitmap> index;
   /**
    * as things change, we lose certainty of where items exist and have a grab-all bucket; this is an
    * optimization such that indexing happens between operations
@@ -51,14 +51,19 @@ public class ReactiveIndex<Ty extends RxRecordBase> {
     this.unknowns = unknowns;
   }
 
+  /** fold the value of another column into a composite index value; collisions are fine as queries re-check the filter */
+  public static int compose(final int prefix, final int value) {
+    return 31 * prefix + value;
+  }
+
   /** add the item to the given index (via value `at`) */
   public void add(final int at, final Ty item) {
     var set = index.get(at);
     if (set == null) {
-      set = new TreeSet<>();
+      set = new IntBitmap();
       index.put(at, set);
     }
-    set.add(item);
+    set.add(item.__id());
   }
 
   /** remove the item from the unknowns */
@@ -66,9 +71,9 @@ public class ReactiveIndex<Ty extends RxRecordBase> {
     unknowns.remove(item);
   }
 
-  /** get the index */
-  public TreeSet<Ty> of(final int at, IndexQuerySet.LookupMode mode) {
-    return EvaluateLookupMode.of(index, at, mode);
+  /** get the primary keys of the items within the index; the result must not be mutated */
+  public IntBitmap of(final int at, IndexQuerySet.LookupMode mode) {
+    return EvaluateLookupMode.bitmapOf(index, at, mode);
   }
 
   /** remove the item from the index */
@@ -81,8 +86,9 @@ public class ReactiveIndex<Ty extends RxRecordBase> {
   /** delete the item from the given index (via value `at`) */
   public boolean delete(final int at, final Ty item) {
     final var set = index.get(at);
-    final var result = set.remove(item);
-    if (set.size() == 0) {
+    final var result = set.contains(item.__id());
+    set.remove(item.__id());
+    if (set.isEmpty()) {
       index.remove(at);
     }
     return result;
@@ -91,8 +97,8 @@ public class ReactiveIndex<Ty extends RxRecordBase> {
   /** (approx) how many bytes of memory does this index use */
   public long memory() {
     long sum = 64;
-    for (Map.Entry<Integer, TreeSet<Ty>> entry : index.entrySet()) {
-      sum += entry.getValue().size() * 20L + 20;
+    for (Map.Entry<Integer, IntBitmap> entry : index.entrySet()) {
+      sum += entry.getValue().memory() + 20;
     }
     return sum;
   }
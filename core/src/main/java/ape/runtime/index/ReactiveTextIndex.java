@@ -0,0 +1,155 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.index;
+
+import ape.runtime.reactives.RxRecordBase;
+import ape.runtime.text.search.Tokenizer;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Reactive full-text index for a single string column which accelerates the search operator (needle =? haystack).
+ * Every row is indexed by the distinct grams (substrings of one to three characters) of its lowercased text, and
+ * each gram maps to a compressed bitmap of the primary keys of the rows containing it. Since =? matches when the
+ * needle (or any word of it) is a substring of the haystack, any matching row must contain every gram of that
+ * term; hence, intersecting the postings of a term's grams yields a superset of the matching rows which the where
+ * clause then confirms row by row. This also covers prefix matching for search-as-you-type. Like ReactiveIndex, rows
+ * whose text changed are held within the table's "unknown" bucket until the next commit reindexes them.
+ */
+public class ReactiveTextIndex<Ty extends RxRecordBase> {
+  /** the longest gram indexed */
+  private static final int GRAM = 3;
+  private final HashMap<String, IntBitmap> index;
+  private final TreeSet<Ty> unknowns;
+
+  public ReactiveTextIndex(final TreeSet<Ty> unknowns) {
+    this.index = new HashMap<>();
+    this.unknowns = unknowns;
+  }
+
+  /** normalize the text in the same way as the search operator */
+  public static String normalize(final String text) {
+    return text.trim().toLowerCase(Locale.ENGLISH);
+  }
+
+  /** the distinct grams of the given (normalized) text */
+  public static TreeSet<String> grams(final String text) {
+    TreeSet<String> result = new TreeSet<>();
+    for (int start = 0; start < text.length(); start++) {
+      for (int len = 1; len <= GRAM && start + len <= text.length(); len++) {
+        result.add(text.substring(start, start + len));
+      }
+    }
+    return result;
+  }
+
+  /** add the item to the index under the given text */
+  public void add(final String text, final Ty item) {
+    for (String gram : grams(normalize(text))) {
+      var set = index.get(gram);
+      if (set == null) {
+        set = new IntBitmap();
+        index.put(gram, set);
+      }
+      set.add(item.__id());
+    }
+  }
+
+  /** remove the item from the unknowns */
+  public void delete(final Ty item) {
+    unknowns.remove(item);
+  }
+
+  /** remove the item from the index (as the text is changing); an empty text has no grams, so the item is always made unknown */
+  public void remove(final String text, final Ty item) {
+    delete(text, item);
+    unknowns.add(item);
+  }
+
+  /** delete the item from the index under the given text */
+  public boolean delete(final String text, final Ty item) {
+    boolean result = false;
+    for (String gram : grams(normalize(text))) {
+      final var set = index.get(gram);
+      if (set != null) {
+        result |= set.contains(item.__id());
+        set.remove(item.__id());
+        if (set.isEmpty()) {
+          index.remove(gram);
+        }
+      }
+    }
+    return result;
+  }
+
+  /** the primary keys of the rows which may contain the given term (or null if every row must be considered); the result must not be mutated */
+  private IntBitmap candidatesOf(final String term) {
+    if (term.length() <= GRAM) {
+      final var set = index.get(term);
+      return set != null ? set : new IntBitmap();
+    }
+    IntBitmap result = null;
+    for (int start = 0; start + GRAM <= term.length(); start++) {
+      final var set = index.get(term.substring(start, start + GRAM));
+      if (set == null) {
+        return new IntBitmap();
+      }
+      result = result == null ? set : result.and(set);
+      if (result.isEmpty()) {
+        return result;
+      }
+    }
+    return result;
+  }
+
+  /** the primary keys of the rows which may match the needle via =? (or null if every row matches); the result must not be mutated */
+  public IntBitmap search(final String needleRaw) {
+    final var needle = normalize(needleRaw);
+    if ("".equals(needle)) {
+      return null;
+    }
+    IntBitmap result = candidatesOf(needle);
+    boolean owned = false;
+    for (String token : Tokenizer.of(needle)) {
+      if (!owned) {
+        result = result.copy();
+        owned = true;
+      }
+      result.or(candidatesOf(token));
+    }
+    return result;
+  }
+
+  /** (approx) how many bytes of memory does this index use */
+  public long memory() {
+    long sum = 64;
+    for (Map.Entry<String, IntBitmap> entry : index.entrySet()) {
+      sum += entry.getValue().memory() + entry.getKey().length() * 2L + 40;
+    }
+    return sum;
+  }
+}
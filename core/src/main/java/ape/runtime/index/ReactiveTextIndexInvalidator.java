@@ -0,0 +1,71 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.index;
+
+import ape.runtime.contracts.RxChild;
+import ape.runtime.reactives.RxRecordBase;
+
+/** a text index must respond to change, and this enables the full-text indexing to occur reactively to data changes. */
+public abstract class ReactiveTextIndexInvalidator<Ty extends RxRecordBase<Ty>> implements RxChild {
+  private final ReactiveTextIndex<Ty> index;
+  private final Ty item;
+  private String indexedText;
+
+  public ReactiveTextIndexInvalidator(final ReactiveTextIndex<Ty> index, final Ty item) {
+    this.index = index;
+    this.item = item;
+    this.indexedText = null;
+  }
+
+  /** a change happened, so remove from the index */
+  @Override
+  public boolean __raiseInvalid() {
+    if (indexedText != null) {
+      index.remove(indexedText, item);
+      indexedText = null;
+    }
+    return true;
+  }
+
+  /** index the item by it's given text */
+  public void reindex() {
+    if (indexedText == null) {
+      indexedText = pullText();
+      index.add(indexedText, item);
+    }
+  }
+
+  /** pull the text to index */
+  public abstract String pullText();
+
+  /** remove from the index */
+  public void deindex() {
+    if (indexedText != null) {
+      index.delete(indexedText, item);
+      indexedText = null;
+    } else {
+      index.delete(item);
+    }
+  }
+}
@@ -0,0 +1,339 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * A compact, type-tagged binary form of a JSON document used for at-rest snapshots.
+ * Numbers are stored natively (zig-zag varints for integers, raw IEEE bits for doubles
+ * whose shortest text round trips), strings and containers are length/end delimited, and
+ * object field names are interned per document so repeated records name each field once.
+ * Transcoding JSON written by JsonStreamWriter through encode and then decode is exact.
+ */
+public class BinaryJson {
+  /** leading byte which marks (and versions) the encoding */
+  public static final byte MAGIC = (byte) 0xB1;
+
+  private static final byte TAG_NULL = 0;
+  private static final byte TAG_FALSE = 1;
+  private static final byte TAG_TRUE = 2;
+  private static final byte TAG_INTEGER = 3;
+  private static final byte TAG_DOUBLE = 4;
+  private static final byte TAG_NUMBER = 5;
+  private static final byte TAG_STRING = 6;
+  private static final byte TAG_OBJECT = 7;
+  private static final byte TAG_ARRAY = 8;
+  private static final byte TAG_END = 9;
+  private static final byte TAG_FIELD_NEW = 10;
+  private static final byte TAG_FIELD_REF = 11;
+
+  /** does the given byte array hold an encoded document */
+  public static boolean isBinary(byte[] bytes) {
+    return bytes != null && bytes.length > 0 && bytes[0] == MAGIC;
+  }
+
+  /** encode a JSON value */
+  public static byte[] encode(String json) {
+    Encoder encoder = new Encoder(Math.max(64, json.length() / 2));
+    new JsonStreamReader(json).transcodeValue(encoder);
+    return encoder.toByteArray();
+  }
+
+  /** decode back into JSON */
+  public static String decode(byte[] bytes) {
+    JsonStreamWriter writer = new JsonStreamWriter();
+    new Decoder(bytes).write(writer);
+    return writer.toString();
+  }
+
+  /** decode into the java tree form used by JsonAlgebra (matches JsonStreamReader.readJavaTree) */
+  public static Object decodeTree(byte[] bytes) {
+    return new Decoder(bytes).tree();
+  }
+
+  /** the streaming producer side; driven by JsonStreamReader.transcodeValue */
+  public static class Encoder {
+    private final HashMap<String, Integer> fields;
+    private byte[] buffer;
+    private int size;
+
+    public Encoder(int sizeHint) {
+      this.fields = new HashMap<>();
+      this.buffer = new byte[Math.max(16, sizeHint)];
+      this.buffer[0] = MAGIC;
+      this.size = 1;
+    }
+
+    public void beginObject() {
+      write(TAG_OBJECT);
+    }
+
+    public void beginArray() {
+      write(TAG_ARRAY);
+    }
+
+    public void end() {
+      write(TAG_END);
+    }
+
+    public void writeFieldName(String name) {
+      Integer index = fields.get(name);
+      if (index != null) {
+        write(TAG_FIELD_REF);
+        writeVarInt(index);
+      } else {
+        fields.put(name, fields.size());
+        write(TAG_FIELD_NEW);
+        writeUtf8(name);
+      }
+    }
+
+    public void writeNull() {
+      write(TAG_NULL);
+    }
+
+    public void writeBoolean(boolean value) {
+      write(value ? TAG_TRUE : TAG_FALSE);
+    }
+
+    public void writeInteger(long value) {
+      write(TAG_INTEGER);
+      writeVarInt((value << 1) ^ (value >> 63));
+    }
+
+    /** a number which is not a canonical integer; kept as a raw double when the text survives the trip */
+    public void writeNumber(String text) {
+      double value;
+      try {
+        value = Double.parseDouble(text);
+      } catch (NumberFormatException nfe) {
+        value = Double.NaN;
+      }
+      if (Double.toString(value).equals(text)) {
+        write(TAG_DOUBLE);
+        long bits = Double.doubleToRawLongBits(value);
+        ensure(8);
+        for (int k = 0; k < 8; k++) {
+          buffer[size++] = (byte) (bits >>> (8 * k));
+        }
+      } else {
+        write(TAG_NUMBER);
+        writeUtf8(text);
+      }
+    }
+
+    public void writeString(String value) {
+      write(TAG_STRING);
+      writeUtf8(value);
+    }
+
+    public byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+
+    private void writeUtf8(String value) {
+      byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(utf8.length);
+      ensure(utf8.length);
+      System.arraycopy(utf8, 0, buffer, size, utf8.length);
+      size += utf8.length;
+    }
+
+    private void writeVarInt(long value) {
+      ensure(10);
+      while ((value & ~0x7FL) != 0) {
+        buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      buffer[size++] = (byte) value;
+    }
+
+    private void write(byte tag) {
+      ensure(1);
+      buffer[size++] = tag;
+    }
+
+    private void ensure(int extra) {
+      if (size + extra > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+      }
+    }
+  }
+
+  /** the consumer side */
+  private static class Decoder {
+    private final byte[] bytes;
+    private final ArrayList<String> fields;
+    private int index;
+
+    private Decoder(byte[] bytes) {
+      if (!isBinary(bytes)) {
+        throw new RuntimeException("not a binary json document");
+      }
+      this.bytes = bytes;
+      this.fields = new ArrayList<>();
+      this.index = 1;
+    }
+
+    private void write(JsonStreamWriter writer) {
+      byte tag = bytes[index++];
+      switch (tag) {
+        case TAG_NULL:
+          writer.writeNull();
+          return;
+        case TAG_FALSE:
+          writer.writeBoolean(false);
+          return;
+        case TAG_TRUE:
+          writer.writeBoolean(true);
+          return;
+        case TAG_INTEGER:
+          writer.injectJson(Long.toString(readInteger()));
+          return;
+        case TAG_DOUBLE:
+          writer.writeDouble(readDouble());
+          return;
+        case TAG_NUMBER:
+          writer.injectJson(readUtf8());
+          return;
+        case TAG_STRING:
+          writer.writeString(readUtf8());
+          return;
+        case TAG_OBJECT:
+          writer.beginObject();
+          while (bytes[index] != TAG_END) {
+            writer.writeObjectFieldIntro(readFieldName());
+            write(writer);
+          }
+          index++;
+          writer.endObject();
+          return;
+        case TAG_ARRAY:
+          writer.beginArray();
+          while (bytes[index] != TAG_END) {
+            write(writer);
+          }
+          index++;
+          writer.endArray();
+          return;
+        default:
+          throw new RuntimeException("unexpected tag: " + tag);
+      }
+    }
+
+    private Object tree() {
+      byte tag = bytes[index++];
+      switch (tag) {
+        case TAG_NULL:
+          return null;
+        case TAG_FALSE:
+          return false;
+        case TAG_TRUE:
+          return true;
+        case TAG_INTEGER: {
+          long value = readInteger();
+          if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+            return (int) value;
+          }
+          return value;
+        }
+        case TAG_DOUBLE:
+          return readDouble();
+        case TAG_NUMBER:
+          return new JsonStreamReader(readUtf8()).readJavaTree();
+        case TAG_STRING:
+          return readUtf8();
+        case TAG_OBJECT: {
+          LinkedHashMap<String, Object> obj = new LinkedHashMap<>();
+          while (bytes[index] != TAG_END) {
+            String name = readFieldName();
+            obj.put(name, tree());
+          }
+          index++;
+          return obj;
+        }
+        case TAG_ARRAY: {
+          ArrayList<Object> arr = new ArrayList<>();
+          while (bytes[index] != TAG_END) {
+            arr.add(tree());
+          }
+          index++;
+          return arr;
+        }
+        default:
+          throw new RuntimeException("unexpected tag: " + tag);
+      }
+    }
+
+    private String readFieldName() {
+      byte tag = bytes[index++];
+      if (tag == TAG_FIELD_REF) {
+        return fields.get((int) readVarInt());
+      } else if (tag == TAG_FIELD_NEW) {
+        String name = readUtf8();
+        fields.add(name);
+        return name;
+      }
+      throw new RuntimeException("unexpected field tag: " + tag);
+    }
+
+    private long readInteger() {
+      long zigzag = readVarInt();
+      return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private double readDouble() {
+      long bits = 0;
+      for (int k = 0; k < 8; k++) {
+        bits |= (bytes[index++] & 0xFFL) << (8 * k);
+      }
+      return Double.longBitsToDouble(bits);
+    }
+
+    private String readUtf8() {
+      int length = (int) readVarInt();
+      String value = new String(bytes, index, length, StandardCharsets.UTF_8);
+      index += length;
+      return value;
+    }
+
+    private long readVarInt() {
+      long value = 0;
+      int shift = 0;
+      while (true) {
+        byte b = bytes[index++];
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+        shift += 7;
+      }
+    }
+  }
+}
@@ -26,28 +26,58 @@ package ape.runtime.json;
 import ape.runtime.json.token.JsonToken;
 import ape.runtime.json.token.JsonTokenType;
 import ape.runtime.natives.*;
-import ape.runtime.natives.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
- * High-performance streaming JSON parser with token lookahead and string deduplication.
- * Uses a pull-based tokenizer that lazily reads tokens as needed. Provides typed
- * read methods for all Adama native types. Deduplicates strings and principals
- * to reduce memory allocation when parsing large documents.
+ * High-performance streaming JSON parser with a single token of lookahead and string deduplication.
+ * Reads either a String or UTF-8 bytes directly (so bytes from disk or the network need not be decoded
+ * first), and holds the lookahead as a cursor into the input rather than as token objects. Strings are
+ * only materialized when asked for, skipped values and integers never allocate, and field names are
+ * canonicalized through a shared cache. Provides typed read methods for all Adama native types.
  */
 public class JsonStreamReader {
+  private static final int FIELD_NAME_CACHE_SIZE = 4096;
+  private static final int FIELD_NAME_CACHE_MAX_LENGTH = 64;
+  /** field names are highly repetitive, so share canonical instances across readers; races only cost a miss */
+  private static final String[] FIELD_NAMES = new String[FIELD_NAME_CACHE_SIZE];
+  private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
   private final String json;
+  private final byte[] bytes;
   private final int n;
   private final HashMap<String, String> dedupeStrings;
   private final HashMap<NtPrincipal, NtPrincipal> dedupeClients;
-  ArrayDeque<JsonToken> tokens;
   private int index;
+  // the lookahead token; a null type means nothing has been read ahead
+  private JsonTokenType tokenType;
+  private int tokenStart;
+  private int tokenEnd;
+  private boolean tokenEscaped;
+  private String tokenData;
+  private long tokenLong;
+  private double tokenDouble;
 
   public JsonStreamReader(final String json) {
+    this(json, null, 0, json.length());
+  }
+
+  /** read UTF-8 encoded JSON without decoding it to a String first */
+  public JsonStreamReader(final byte[] utf8) {
+    this(utf8, 0, utf8.length);
+  }
+
+  /** read UTF-8 encoded JSON from a region of the given bytes */
+  public JsonStreamReader(final byte[] utf8, int offset, int length) {
+    this(null, utf8, offset, offset + length);
+  }
+
+  private JsonStreamReader(final String json, final byte[] bytes, int start, int end) {
     this.json = json;
-    n = json.length();
-    tokens = new ArrayDeque<>();
+    this.bytes = bytes;
+    this.index = start;
+    this.n = end;
+    this.tokenType = null;
     this.dedupeStrings = new HashMap<>();
     this.dedupeClients = new HashMap<>();
     this.dedupeClients.put(NtPrincipal.NO_ONE, NtPrincipal.NO_ONE);
@@ -60,78 +90,270 @@ public class JsonStreamReader {
   }
 
   public boolean end() {
+    if (tokenType != null) {
+      return false;
+    }
+    skipSeparators();
     return index >= n;
   }
 
-  private void ensureQueueHappy(final int needs) {
-    if (tokens.size() > needs) {
-      return;
+  /** the character (or byte; multi-byte sequences never collide with JSON syntax) at the given position */
+  private int at(final int k) {
+    if (bytes != null) {
+      return bytes[k] & 0xFF;
     }
-    while (tokens.size() < 10 + needs) {
-      if (index < n) {
-        readToken();
-      } else {
-        if (tokens.size() < needs) {
-          throw new RuntimeException("Unable to satisfy minimum limit");
-        }
-        return;
+    return json.charAt(k);
+  }
+
+  /** ensure the lookahead token is available and return its type */
+  private JsonTokenType peek() {
+    if (tokenType == null) {
+      readToken();
+      if (tokenType == null) {
+        throw new RuntimeException("Unable to satisfy minimum limit");
       }
     }
+    return tokenType;
+  }
+
+  /** drop the lookahead token */
+  private void consume() {
+    tokenType = null;
+    tokenData = null;
+  }
+
+  /** the text of the lookahead token (strings decoded, numbers verbatim, otherwise null) */
+  private String tokenData() {
+    if (tokenData == null) {
+      switch (tokenType) {
+        case StringLiteral:
+          tokenData = tokenEscaped ? decodeEscaped(tokenStart, tokenEnd) : slice(tokenStart, tokenEnd);
+          break;
+        case NumberLiteralInteger:
+        case NumberLiteralDouble:
+          tokenData = slice(tokenStart, tokenEnd);
+          break;
+        default:
+          return null;
+      }
+    }
+    return tokenData;
+  }
+
+  private String slice(int start, int end) {
+    if (bytes != null) {
+      return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+    return json.substring(start, end);
+  }
+
+  /** consume the lookahead token and return its text */
+  private String takeData() {
+    String data = tokenData();
+    consume();
+    return data;
   }
 
   public String fieldName() {
-    ensureQueueHappy(1);
-    return tokens.removeFirst().data;
+    peek();
+    if (tokenType == JsonTokenType.StringLiteral && !tokenEscaped) {
+      int length = tokenEnd - tokenStart;
+      if (length <= FIELD_NAME_CACHE_MAX_LENGTH) {
+        int hash = 0;
+        for (int k = tokenStart; k < tokenEnd; k++) {
+          int ch = at(k);
+          if (ch >= 0x80) {
+            return takeData();
+          }
+          hash = 31 * hash + ch;
+        }
+        int slot = (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+        String candidate = FIELD_NAMES[slot];
+        if (candidate != null && candidate.length() == length && matches(candidate)) {
+          consume();
+          return candidate;
+        }
+        String name = takeData();
+        FIELD_NAMES[slot] = name;
+        return name;
+      }
+    }
+    return takeData();
+  }
+
+  /** does the (ascii) lookahead token match the given string */
+  private boolean matches(String candidate) {
+    if (bytes == null) {
+      return json.regionMatches(tokenStart, candidate, 0, candidate.length());
+    }
+    for (int k = 0; k < candidate.length(); k++) {
+      if (bytes[tokenStart + k] != candidate.charAt(k)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   public boolean notEndOfArray() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.EndArray) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.EndArray) {
+      consume();
       return false;
     }
     return true;
   }
 
   public boolean notEndOfObject() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.EndObject) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.EndObject) {
+      consume();
       return false;
     }
     return true;
   }
 
   public boolean readBoolean() {
-    ensureQueueHappy(1);
-    JsonToken token = tokens.removeFirst();
-    if (token.type == JsonTokenType.True) {
+    JsonTokenType type = peek();
+    if (type == JsonTokenType.True) {
+      consume();
       return true;
     }
-    if (token.type == JsonTokenType.StringLiteral) {
-      return token.data.equals("true");
+    if (type == JsonTokenType.StringLiteral) {
+      return takeData().equals("true");
     }
+    consume();
     return false;
   }
 
   private String readValueWithDefaultZeros() {
-    JsonToken token = readValueToken();
-    if (token == null) {
+    if (skipCompound()) {
       return "0";
     }
-    if (token.type == JsonTokenType.True) {
+    JsonTokenType type = peek();
+    if (type == JsonTokenType.True) {
+      consume();
       return "1";
     }
-    if (token == null || token.type == JsonTokenType.Null || token.type == JsonTokenType.False || token.data == null || token.data.equals("")) {
+    String data = takeData();
+    if (type == JsonTokenType.Null || type == JsonTokenType.False || data == null || data.equals("")) {
       return "0";
     }
-    return token.data;
+    return data;
+  }
+
+  /** if the lookahead is an integer of at most 18 digits, parse it into tokenLong without allocating */
+  private boolean parseIntegerToken() {
+    if (tokenType != JsonTokenType.NumberLiteralInteger) {
+      return false;
+    }
+    int k = tokenStart;
+    boolean negative = false;
+    int first = at(k);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      k++;
+    }
+    int digits = tokenEnd - k;
+    if (digits <= 0 || digits > 18) {
+      return false;
+    }
+    long value = 0;
+    for (; k < tokenEnd; k++) {
+      int ch = at(k);
+      if (ch < '0' || ch > '9') {
+        return false;
+      }
+      value = value * 10 + (ch - '0');
+    }
+    tokenLong = negative ? -value : value;
+    return true;
+  }
+
+  /** the exact fast path for decimals into tokenDouble: a mantissa under 2^53 scaled by a power of ten that is itself exact */
+  private boolean parseDoubleToken() {
+    int k = tokenStart;
+    boolean negative = false;
+    int first = at(k);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      k++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int scale = 0;
+    boolean seenDot = false;
+    boolean any = false;
+    for (; k < tokenEnd; k++) {
+      int ch = at(k);
+      if (ch >= '0' && ch <= '9') {
+        any = true;
+        if (mantissa == 0 && ch == '0') {
+          if (seenDot) {
+            scale--;
+          }
+          continue;
+        }
+        if (++digits > 15) {
+          return false;
+        }
+        mantissa = mantissa * 10 + (ch - '0');
+        if (seenDot) {
+          scale--;
+        }
+      } else if (ch == '.' && !seenDot) {
+        seenDot = true;
+      } else {
+        break;
+      }
+    }
+    if (!any) {
+      return false;
+    }
+    if (k < tokenEnd) {
+      int ch = at(k);
+      if (ch != 'e' && ch != 'E') {
+        return false;
+      }
+      k++;
+      boolean negativeExponent = false;
+      if (k < tokenEnd && (at(k) == '-' || at(k) == '+')) {
+        negativeExponent = at(k) == '-';
+        k++;
+      }
+      if (k >= tokenEnd || tokenEnd - k > 3) {
+        return false;
+      }
+      int exponent = 0;
+      for (; k < tokenEnd; k++) {
+        ch = at(k);
+        if (ch < '0' || ch > '9') {
+          return false;
+        }
+        exponent = exponent * 10 + (ch - '0');
+      }
+      scale += negativeExponent ? -exponent : exponent;
+    }
+    double value = mantissa;
+    if (mantissa != 0) {
+      if (scale < -22 || scale > 22) {
+        return false;
+      }
+      value = scale < 0 ? value / POWERS_OF_TEN[-scale] : value * POWERS_OF_TEN[scale];
+    }
+    tokenDouble = negative ? -value : value;
+    return true;
   }
 
   public double readDouble() {
-    ensureQueueHappy(1);
+    if (peek() == JsonTokenType.NumberLiteralInteger && parseIntegerToken()) {
+      consume();
+      if (tokenLong == 0 && at(tokenStart) == '-') {
+        return -0.0;
+      }
+      return tokenLong;
+    }
+    if (tokenType == JsonTokenType.NumberLiteralDouble && parseDoubleToken()) {
+      consume();
+      return tokenDouble;
+    }
     String toParse = readValueWithDefaultZeros();
     try {
       return Double.parseDouble(toParse);
@@ -153,12 +375,21 @@ public class JsonStreamReader {
   }
 
   public int readInteger() {
-    ensureQueueHappy(1);
+    if (peek() == JsonTokenType.NumberLiteralInteger && parseIntegerToken()) {
+      consume();
+      if (Integer.MIN_VALUE <= tokenLong && tokenLong <= Integer.MAX_VALUE) {
+        return (int) tokenLong;
+      }
+      return (int) (double) tokenLong;
+    }
     return parseInt(readValueWithDefaultZeros());
   }
 
   public long readLong() {
-    ensureQueueHappy(1);
+    if (peek() == JsonTokenType.NumberLiteralInteger && parseIntegerToken()) {
+      consume();
+      return tokenLong;
+    }
     String toParse = readValueWithDefaultZeros();
     try {
       return Long.parseLong(toParse);
@@ -307,31 +538,30 @@ public class JsonStreamReader {
     return new NtAsset(id, name, contentType, size, md5, sha384);
   }
 
-  private JsonToken readValueToken() {
+
+  /** if the lookahead starts an object or array, skip all of it and return true */
+  private boolean skipCompound() {
     if (startObject()) {
       while (notEndOfObject()) {
         fieldName();
         skipValue();
       }
-      return null;
+      return true;
     } else if (startArray()) {
       while (notEndOfArray()) {
         skipValue();
       }
-      return null;
-    } else {
-      ensureQueueHappy(1);
-      return tokens.removeFirst();
+      return true;
     }
+    return false;
   }
 
   public String readString() {
-    ensureQueueHappy(1);
-    JsonToken next = readValueToken();
-    if (next == null) {
+    if (skipCompound()) {
       return "";
     }
-    String lookup = next.data;
+    peek();
+    String lookup = takeData();
     if (lookup == null) {
       return "";
     }
@@ -359,114 +589,100 @@ public class JsonStreamReader {
       }
       return arr;
     } else {
-      ensureQueueHappy(1);
-      JsonToken token = tokens.removeFirst();
-      switch (token.type) {
+      switch (peek()) {
         case Null:
+          consume();
           return null;
         case False:
+          consume();
           return false;
         case True:
+          consume();
           return true;
         case NumberLiteralDouble:
-          return Double.parseDouble(token.data);
-        case NumberLiteralInteger:
-          long val = Long.parseLong(token.data);
+          return Double.parseDouble(takeData());
+        case NumberLiteralInteger: {
+          long val;
+          if (parseIntegerToken()) {
+            consume();
+            val = tokenLong;
+          } else {
+            val = Long.parseLong(takeData());
+          }
           if (Integer.MIN_VALUE <= val && val <= Integer.MAX_VALUE) {
             return (int) val;
           }
           return val;
+        }
         case StringLiteral:
-          return token.data;
+          return takeData();
+        default:
+          throw new RuntimeException("unexpected token: " + new JsonToken(tokenType, tokenData()));
+      }
+    }
+  }
+
+  private void skipSeparators() {
+    while (index < n) {
+      switch (at(index)) {
+        case ' ':
+        case '\n':
+        case '\r':
+        case '\t':
+        case ',':
+        case ':':
+          index++;
+          break;
         default:
-          throw new RuntimeException("unexpected token: " + token);
+          return;
       }
     }
   }
 
   private void readToken() {
-    if (index >= json.length()) {
+    skipSeparators();
+    if (index >= n) {
       return;
     }
-    final var start = json.charAt(index);
+    final var start = at(index);
     switch (start) {
-      case ' ':
-      case '\n':
-      case '\r':
-      case '\t':
-      case ',':
-      case ':':
-        index++;
-        readToken();
-        return;
       case '{':
         index++;
-        tokens.addLast(new JsonToken(JsonTokenType.StartObject, null));
+        tokenType = JsonTokenType.StartObject;
         return;
       case '}':
         index++;
-        tokens.addLast(new JsonToken(JsonTokenType.EndObject, null));
+        tokenType = JsonTokenType.EndObject;
         return;
       case '[':
         index++;
-        tokens.addLast(new JsonToken(JsonTokenType.StartArray, null));
+        tokenType = JsonTokenType.StartArray;
         return;
       case ']':
         index++;
-        tokens.addLast(new JsonToken(JsonTokenType.EndArray, null));
+        tokenType = JsonTokenType.EndArray;
         return;
-      case '\"':
-        StringBuilder sb = null;
+      case '\"': {
+        boolean escaped = false;
         for (var j = index + 1; j < n; j++) {
-          var ch = json.charAt(j);
+          var ch = at(j);
           if (ch == '\\') {
-            if (sb == null) {
-              sb = new StringBuilder();
-              sb.append(json, index + 1, j);
-            }
+            escaped = true;
             j++;
-            ch = json.charAt(j);
-            switch (ch) {
-              case 'n':
-                sb.append('\n');
-                break;
-              case 't':
-                sb.append('\t');
-                break;
-              case 'r':
-                sb.append('\r');
-                break;
-              case 'f':
-                sb.append('\f');
-                break;
-              case 'b':
-                sb.append('\b');
-                break;
-              case '\\':
-                sb.append('\\');
-                break;
-              case '"':
-                sb.append('\"');
-                break;
-              case 'u':
-                sb.append(Character.toString(Integer.parseInt(json.substring(j + 1, j + 5), 16)));
-                j += 4;
+            if (j < n && at(j) == 'u') {
+              j += 4;
             }
           } else if (ch == '"') {
-            if (sb != null) {
-              tokens.addLast(new JsonToken(JsonTokenType.StringLiteral, sb.toString()));
-            } else {
-              tokens.addLast(new JsonToken(JsonTokenType.StringLiteral, json.substring(index + 1, j)));
-            }
+            tokenType = JsonTokenType.StringLiteral;
+            tokenStart = index + 1;
+            tokenEnd = j;
+            tokenEscaped = escaped;
             index = j + 1;
             return;
-          } else {
-            if (sb != null) {
-              sb.append(ch);
-            }
           }
         }
         throw new UnsupportedOperationException();
+      }
       case '0':
       case '1':
       case '2':
@@ -480,9 +696,10 @@ public class JsonStreamReader {
       case '-':
       case '+': {
         boolean isDouble = false;
-        for (var j = index + 1; j < n; j++) {
-          final var ch2 = json.charAt(j);
-          switch (ch2) {
+        var j = index + 1;
+        scan:
+        for (; j < n; j++) {
+          switch (at(j)) {
             case 'E':
             case 'e':
             case '.':
@@ -501,45 +718,87 @@ public class JsonStreamReader {
             case '9':
               break;
             default:
-              tokens.addLast(new JsonToken(isDouble ? JsonTokenType.NumberLiteralDouble : JsonTokenType.NumberLiteralInteger, json.substring(index, j)));
-              index = j;
-              return;
+              break scan;
           }
         }
-        tokens.addLast(new JsonToken(isDouble ? JsonTokenType.NumberLiteralDouble : JsonTokenType.NumberLiteralInteger, json.substring(index)));
-        index = n;
+        tokenType = isDouble ? JsonTokenType.NumberLiteralDouble : JsonTokenType.NumberLiteralInteger;
+        tokenStart = index;
+        tokenEnd = j;
+        index = j;
         return;
       }
       case 'n':
         index += 4;
-        tokens.addLast(new JsonToken(JsonTokenType.Null, null));
+        tokenType = JsonTokenType.Null;
         return;
       case 't':
         index += 4;
-        tokens.addLast(new JsonToken(JsonTokenType.True, null));
+        tokenType = JsonTokenType.True;
         return;
       case 'f':
         index += 5;
-        tokens.addLast(new JsonToken(JsonTokenType.False, null));
+        tokenType = JsonTokenType.False;
         return;
       default:
         throw new UnsupportedOperationException();
     }
   }
 
-  public void skipValue() {
-    if (startObject()) {
-      while (notEndOfObject()) {
-        fieldName();
-        skipValue();
+  /** decode a string body which contains escapes; runs between escapes are copied (or UTF-8 decoded) in bulk */
+  private String decodeEscaped(int start, int end) {
+    StringBuilder sb = new StringBuilder(end - start);
+    int run = start;
+    for (int j = start; j < end; j++) {
+      if (at(j) == '\\') {
+        appendRun(sb, run, j);
+        j++;
+        switch (at(j)) {
+          case 'n':
+            sb.append('\n');
+            break;
+          case 't':
+            sb.append('\t');
+            break;
+          case 'r':
+            sb.append('\r');
+            break;
+          case 'f':
+            sb.append('\f');
+            break;
+          case 'b':
+            sb.append('\b');
+            break;
+          case '\\':
+            sb.append('\\');
+            break;
+          case '"':
+            sb.append('\"');
+            break;
+          case 'u':
+            sb.append(Character.toString(Integer.parseInt(slice(j + 1, j + 5), 16)));
+            j += 4;
+        }
+        run = j + 1;
       }
-    } else if (startArray()) {
-      while (notEndOfArray()) {
-        skipValue();
+    }
+    appendRun(sb, run, end);
+    return sb.toString();
+  }
+
+  private void appendRun(StringBuilder sb, int start, int end) {
+    if (start < end) {
+      if (bytes != null) {
+        sb.append(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+      } else {
+        sb.append(json, start, end);
       }
-    } else {
-      ensureQueueHappy(1);
-      tokens.removeFirst();
+    }
+  }
+
+  public void skipValue() {
+    if (!skipCompound()) {
+      peek();
+      consume();
     }
   }
 
@@ -595,8 +854,8 @@ public class JsonStreamReader {
         populateGarbageCollectedIds(ids);
       }
     } else {
-      ensureQueueHappy(1);
-      tokens.removeFirst();
+      peek();
+      consume();
     }
   }
 
@@ -625,27 +884,89 @@ public class JsonStreamReader {
       }
       writer.endArray();
     } else {
-      ensureQueueHappy(1);
-      final var token = tokens.removeFirst();
-      if (token.type == JsonTokenType.NumberLiteralInteger || token.type == JsonTokenType.NumberLiteralDouble) {
-        writer.injectJson(token.data);
-      } else if (token.type == JsonTokenType.StringLiteral) {
-        writer.writeString(token.data);
-      } else if (token.type == JsonTokenType.Null) {
-        writer.writeNull();
-      } else if (token.type == JsonTokenType.True) {
-        writer.writeBoolean(true);
-      } else if (token.type == JsonTokenType.False) {
-        writer.writeBoolean(false);
+      final var type = peek();
+      if (type == JsonTokenType.NumberLiteralInteger || type == JsonTokenType.NumberLiteralDouble) {
+        writer.injectJson(takeData());
+      } else if (type == JsonTokenType.StringLiteral) {
+        writer.writeString(takeData());
+      } else {
+        consume();
+        if (type == JsonTokenType.Null) {
+          writer.writeNull();
+        } else if (type == JsonTokenType.True) {
+          writer.writeBoolean(true);
+        } else if (type == JsonTokenType.False) {
+          writer.writeBoolean(false);
+        }
+      }
+    }
+  }
+
+  /** stream the next value into the compact binary form */
+  public void transcodeValue(final BinaryJson.Encoder encoder) {
+    if (startObject()) {
+      encoder.beginObject();
+      while (notEndOfObject()) {
+        encoder.writeFieldName(fieldName());
+        transcodeValue(encoder);
+      }
+      encoder.end();
+    } else if (startArray()) {
+      encoder.beginArray();
+      while (notEndOfArray()) {
+        transcodeValue(encoder);
+      }
+      encoder.end();
+    } else {
+      switch (peek()) {
+        case Null:
+          consume();
+          encoder.writeNull();
+          return;
+        case False:
+          consume();
+          encoder.writeBoolean(false);
+          return;
+        case True:
+          consume();
+          encoder.writeBoolean(true);
+          return;
+        case NumberLiteralInteger:
+          if (parseIntegerToken() && isCanonicalIntegerToken()) {
+            consume();
+            encoder.writeInteger(tokenLong);
+          } else {
+            encoder.writeNumber(takeData());
+          }
+          return;
+        case NumberLiteralDouble:
+          encoder.writeNumber(takeData());
+          return;
+        case StringLiteral:
+          encoder.writeString(takeData());
+          return;
+        default:
+          throw new RuntimeException("unexpected token: " + new JsonToken(tokenType, tokenData()));
       }
     }
   }
 
+  /** does the integer token read back exactly as Long.toString would write it (no sign prefix, leading zeros, or -0) */
+  private boolean isCanonicalIntegerToken() {
+    int k = tokenStart;
+    int first = at(k);
+    if (first == '+') {
+      return false;
+    }
+    if (first == '-') {
+      k++;
+    }
+    return at(k) != '0' || (k + 1 == tokenEnd && first != '-');
+  }
+
   public boolean startArray() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.StartArray) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.StartArray) {
+      consume();
       return true;
     }
     return false;
@@ -658,10 +979,8 @@ public class JsonStreamReader {
   }
 
   public boolean startObject() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.StartObject) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.StartObject) {
+      consume();
       return true;
     }
     return false;
@@ -674,10 +993,8 @@ public class JsonStreamReader {
   }
 
   public boolean testLackOfNull() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.Null) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.Null) {
+      consume();
       return false;
     }
     return true;
@@ -36,16 +36,22 @@ import java.util.*;
  * for storage accounting.
  */
 public class JsonStreamWriter {
-  private final Stack<CommaStateMachine> commas;
+  // comma states; a primitive stack rather than a Stack of enums as every object/array pushes
+  private static final byte COMMA_NONE = 0;
+  private static final byte COMMA_FIRST_ITEM_SKIP = 1;
+  private static final byte COMMA_INTRODUCE = 2;
   private final StringBuilder sb = new StringBuilder();
-  private CommaStateMachine commaStateMachine;
+  private byte[] commas;
+  private int depth;
+  private byte commaState;
   private boolean trackAssets;
   private TreeSet<String> assetIdsSeen;
   private long assetBytesWritten;
 
   public JsonStreamWriter() {
-    commas = new Stack<>();
-    commaStateMachine = CommaStateMachine.None;
+    commas = new byte[8];
+    depth = 0;
+    commaState = COMMA_NONE;
     trackAssets = false;
   }
 
@@ -62,12 +68,12 @@ public class JsonStreamWriter {
 
   public void beginArray() {
     maybe_comma();
-    sb.append("[");
+    sb.append('[');
     push_need_comma();
   }
 
   public void endArray() {
-    sb.append("]");
+    sb.append(']');
     pop_need_comma();
   }
 
@@ -81,16 +87,15 @@ public class JsonStreamWriter {
   }
 
   private void maybe_comma() {
-    if (commaStateMachine == CommaStateMachine.IntroduceComma) {
-      sb.append(",");
-    }
-    if (commaStateMachine == CommaStateMachine.FirstItemSkipComma) {
-      commaStateMachine = CommaStateMachine.IntroduceComma;
+    if (commaState == COMMA_INTRODUCE) {
+      sb.append(',');
+    } else if (commaState == COMMA_FIRST_ITEM_SKIP) {
+      commaState = COMMA_INTRODUCE;
     }
   }
 
   public void force_comma_introduction() {
-    commaStateMachine = CommaStateMachine.IntroduceComma;
+    commaState = COMMA_INTRODUCE;
   }
 
   public void force_comma() {
@@ -118,14 +123,14 @@ public class JsonStreamWriter {
 
   public void beginObject() {
     maybe_comma();
-    sb.append("{");
+    sb.append('{');
     push_need_comma();
   }
 
   public <T> void writeObjectFieldIntro(final T fieldName) {
     maybe_comma();
-    sb.append("\"").append(fieldName).append("\":");
-    commaStateMachine = CommaStateMachine.FirstItemSkipComma;
+    sb.append('"').append(fieldName).append("\":");
+    commaState = COMMA_FIRST_ITEM_SKIP;
   }
 
   public void writeDouble(final double d) {
@@ -134,17 +139,23 @@ public class JsonStreamWriter {
   }
 
   public void endObject() {
-    sb.append("}");
+    sb.append('}');
     pop_need_comma();
   }
 
   private void push_need_comma() {
-    commas.push(commaStateMachine);
-    commaStateMachine = CommaStateMachine.FirstItemSkipComma;
+    if (depth == commas.length) {
+      commas = Arrays.copyOf(commas, depth * 2);
+    }
+    commas[depth++] = commaState;
+    commaState = COMMA_FIRST_ITEM_SKIP;
   }
 
   private void pop_need_comma() {
-    commaStateMachine = commas.pop();
+    if (depth == 0) {
+      throw new EmptyStackException();
+    }
+    commaState = commas[--depth];
   }
 
   public void writeNtDate(final NtDate d) {
@@ -351,8 +362,4 @@ public class JsonStreamWriter {
       throw new RuntimeException("unexpected object: " + tree);
     }
   }
-
-  public enum CommaStateMachine {
-    FirstItemSkipComma, IntroduceComma, None
-  }
 }
@@ -55,6 +55,9 @@ public interface NtList<Ty> extends Iterable<Ty> {
 
   NtList<Ty> orderBy(boolean done, Comparator<Ty> cmp);
 
+  /** order by the comparator and keep the first limit items; this avoids sorting the entire list */
+  NtList<Ty> orderByLimit(boolean done, Comparator<Ty> cmp, int limit);
+
   <TIn, TOut> NtMap<TIn, TOut> reduce(Function<Ty, TIn> domain, Function<NtList<Ty>, TOut> reducer);
 
   NtList<Ty> shuffle(boolean done, Random rng);
@@ -95,6 +95,34 @@ public class ArrayNtList<Ty> implements NtList<Ty> {
     return this;
   }
 
+  @Override
+  public NtList<Ty> orderByLimit(final boolean done, final Comparator<Ty> cmp, final int limit) {
+    if (limit <= 0 || limit >= list.size()) {
+      return orderBy(false, cmp).limit(done, limit);
+    }
+    // keep the best limit entries within a heap whose root is the worst kept; ties favor the earlier position just like a stable sort
+    final Comparator<Integer> byPosition = (a, b) -> {
+      final var delta = cmp.compare(list.get(a), list.get(b));
+      return delta != 0 ? delta : Integer.compare(a, b);
+    };
+    final var heap = new PriorityQueue<Integer>(limit, byPosition.reversed());
+    for (var k = 0; k < list.size(); k++) {
+      if (heap.size() < limit) {
+        heap.add(k);
+      } else if (cmp.compare(list.get(k), list.get(heap.peek())) < 0) {
+        heap.poll();
+        heap.add(k);
+      }
+    }
+    final var positions = new ArrayList<>(heap);
+    positions.sort(byPosition);
+    final var next = new ArrayList<Ty>(limit);
+    for (final int position : positions) {
+      next.add(list.get(position));
+    }
+    return new ArrayNtList<>(next);
+  }
+
   @Override
   public <TIn, TOut> NtMap<TIn, TOut> reduce(final Function<Ty, TIn> domainExtract, final Function<NtList<Ty>, TOut> reducer) {
     final var map = new NtMap<TIn, TOut>();
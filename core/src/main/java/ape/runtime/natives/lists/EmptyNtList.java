@@ -73,6 +73,11 @@ public class EmptyNtList<T> implements NtList<T> {
     return this;
   }
 
+  @Override
+  public NtList<T> orderByLimit(final boolean done, final Comparator<T> cmp, final int limit) {
+    return this;
+  }
+
   @Override
   public <TIn, TOut> NtMap<TIn, TOut> reduce(final Function<T, TIn> domain, final Function<NtList<T>, TOut> reducer) {
     return new NtMap<>();
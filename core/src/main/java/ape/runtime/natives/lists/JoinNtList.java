@@ -102,6 +102,11 @@ public class JoinNtList<Ty> implements NtList<Ty> {
     return materialize().orderBy(done, cmp);
   }
 
+  @Override
+  public NtList<Ty> orderByLimit(boolean done, Comparator<Ty> cmp, int limit) {
+    return materialize().orderByLimit(done, cmp, limit);
+  }
+
   @Override
   public <TIn, TOut> NtMap<TIn, TOut> reduce(Function<Ty, TIn> domain, Function<NtList<Ty>, TOut> reducer) {
     return materialize().reduce(domain, reducer);
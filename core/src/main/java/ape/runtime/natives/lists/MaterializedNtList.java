@@ -99,6 +99,11 @@ public class MaterializedNtList<Ty extends MultiIndexable> implements NtList<Ty>
     return list.orderBy(done, cmp);
   }
 
+  @Override
+  public NtList<Ty> orderByLimit(boolean done, Comparator<Ty> cmp, int limit) {
+    return list.orderByLimit(done, cmp, limit);
+  }
+
   @Override
   public <TIn, TOut> NtMap<TIn, TOut> reduce(Function<Ty, TIn> domain, Function<NtList<Ty>, TOut> reducer) {
     return list.reduce(domain, reducer);
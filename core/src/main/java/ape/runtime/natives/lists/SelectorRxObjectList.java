@@ -129,6 +129,12 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
     return new ArrayNtList<>(finalized).orderBy(true, cmp);
   }
 
+  @Override
+  public NtList<Ty> orderByLimit(final boolean done, final Comparator<Ty> cmp, final int limit) {
+    ensureFinalized();
+    return new ArrayNtList<>(finalized).orderByLimit(true, cmp, limit);
+  }
+
   @Override
   public <TIn, TOut> NtMap<TIn, TOut> reduce(final Function<Ty, TIn> domain, final Function<NtList<Ty>, TOut> reducer) {
     ensureFinalized();
@@ -126,6 +126,13 @@ public class RxLazy<Ty> extends RxDependent {
     }
   }
 
+  /** settle, then compute the value such that reads from other threads (i.e. parallel broadcasts) only find it cached */
+  public void __settleAndCompute(Set<Integer> views) {
+    __settle(views);
+    get();
+    getGeneration();
+  }
+
   public void __forceSettle() {
     if (__invalid) {
       inc();
@@ -28,7 +28,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import ape.common.Json;
 import ape.runtime.contracts.*;
 import ape.runtime.graph.DifferentialEdgeTracker;
+import ape.runtime.index.IntBitmap;
 import ape.runtime.index.ReactiveIndex;
+import ape.runtime.index.ReactiveTextIndex;
 import ape.runtime.json.JsonStreamReader;
 import ape.runtime.json.JsonStreamWriter;
 import ape.runtime.json.JsonSum;
@@ -50,6 +52,7 @@ import java.util.function.Function;
  * Reactive table storage for Adama records with indexing and pub/sub capabilities.
  * Manages a collection of rows identified by integer primary keys. Supports:
  * - Reactive indices for efficient WHERE clause evaluation
+ * - Reactive full-text indices to narrow the rows tested by the search operator (=?)
  * - Pub/sub subscriptions for table change notifications
  * - Guard-based read tracking for incremental view updates
  * - Differential edge tracking for graph relationships
@@ -61,6 +64,7 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
   public final String className;
   private final LinkedHashMap<Integer, Ty> createdObjects;
   private final ReactiveIndex<Ty>[] indices;
+  private final ReactiveTextIndex<Ty>[] searchIndices;
   private final LinkedHashMap<Integer, Ty> itemsByKey;
   private final TreeSet<Ty> unknowns;
   public final TablePubSub pubsub;
@@ -68,6 +72,8 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
   private RxTableGuard activeGuard;
   private ArrayList<DifferentialEdgeTracker<Ty, ?>> trackers;
   private TableSubscription trackerSub;
+  private int settleGeneration;
+  private int bulkGeneration;
 
   public void debug(JsonStreamWriter writer) {
     writer.beginObject();
@@ -86,21 +92,30 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
     writer.endObject();
   }
 
-  @SuppressWarnings("unchecked")
   public RxTable(final LivingDocument document, final RxParent owner, final String className, final Function<RxParent, Ty> maker, final int indicies) {
+    this(document, owner, className, maker, indicies, 0);
+  }
+
+  @SuppressWarnings("unchecked")
+  public RxTable(final LivingDocument document, final RxParent owner, final String className, final Function<RxParent, Ty> maker, final int indicies, final int searchIndicies) {
     super(owner);
     this.document = document;
     this.className = className;
     this.maker = maker;
-    if (indicies == 0) {
+    if (indicies == 0 && searchIndicies == 0) {
       this.indices = null;
+      this.searchIndices = null;
       this.unknowns = null;
     } else {
       this.indices = new ReactiveIndex[indicies];
+      this.searchIndices = new ReactiveTextIndex[searchIndicies];
       this.unknowns = new TreeSet<>();
       for (var k = 0; k < indicies; k++) {
         this.indices[k] = new ReactiveIndex<>(unknowns);
       }
+      for (var k = 0; k < searchIndicies; k++) {
+        this.searchIndices[k] = new ReactiveTextIndex<>(unknowns);
+      }
     }
     // check if we have rows; make sure we link into the JSON tree
     this.itemsByKey = new LinkedHashMap<>();
@@ -110,6 +125,8 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
     this.trackers = null;
     this.trackerSub = null;
     this.guardsInflight = new Stack<>();
+    this.settleGeneration = 0;
+    this.bulkGeneration = 0;
   }
 
   public void pump(DifferentialEdgeTracker<Ty, ?> tracker) {
@@ -239,6 +256,7 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
 
   @Override
   public void __insert(final JsonStreamReader reader) {
+    bulkGeneration++;
     if (reader.startObject()) {
       while (reader.notEndOfObject()) {
         final var f2 = reader.fieldName();
@@ -319,6 +337,7 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
   @Override
   public void __revert() {
     if (__isDirty()) {
+      bulkGeneration++;
       // if we are commiting
       for (final Integer killKey : createdObjects.keySet()) {
         final var item = itemsByKey.remove(killKey);
@@ -343,6 +362,11 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
         sum += idx.memory();
       }
     }
+    if (searchIndices != null) {
+      for (ReactiveTextIndex<Ty> idx : searchIndices) {
+        sum += idx.memory();
+      }
+    }
     for (Ty value : itemsByKey.values()) {
       sum += value.__memory() + 20;
     }
@@ -403,6 +427,10 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
     return indices[column];
   }
 
+  public ReactiveTextIndex<Ty> getSearchIndex(final short column) {
+    return searchIndices[column];
+  }
+
   @Override
   public Iterator<Ty> iterator() {
     return itemsByKey.values().iterator();
@@ -418,9 +446,9 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
       return this;
     }
     final var everything = new AtomicBoolean(false);
-    final var union = new AtomicReference<TreeSet<Ty>>(null);
+    final var union = new AtomicReference<IntBitmap>(null);
     filter.scopeByIndicies(new IndexQuerySet() {
-      private TreeSet<Ty> current = null;
+      private IntBitmap current = null;
       boolean didIndexing = false;
       @Override
       public void intersect(int column, int value, LookupMode mode) {
@@ -433,21 +461,29 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
         }
         final var specific = indices[column].of(value, mode);
         if (specific == null) { // no index available
-          current = new TreeSet<>();
+          current = new IntBitmap();
           return;
         }
         if (current == null) {
           current = specific;
         } else {
-          final var common = new TreeSet<Ty>();
-          if (specific != null) {
-            for (final Ty item : specific) {
-              if (current.contains(item)) {
-                common.add(item);
-              }
-            }
-          }
-          current = common;
+          current = current.and(specific);
+        }
+      }
+
+      @Override
+      public void search(int column, String needle) {
+        if (everything.get()) { // a prior branch requires everythig
+          return;
+        }
+        final var candidates = searchIndices[column].search(needle);
+        if (candidates == null) { // every row may match
+          return;
+        }
+        if (current == null) {
+          current = candidates;
+        } else {
+          current = current.and(candidates);
         }
       }
 
@@ -457,21 +493,11 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
           // a prior branch requires everythig
           return;
         }
-        Ty val = itemsByKey.get(value);
         readPrimaryKey(value);
-        if (val != null) {
-          if (current == null) {
-            current = new TreeSet<>();
-            current.add(val);
-          } else {
-            boolean keep = current.contains(val);
-            current.clear();
-            if (keep) {
-              current.add(val);
-            }
-          }
-        } else {
-          current = new TreeSet<>();
+        boolean keep = itemsByKey.containsKey(value) && (current == null || current.contains(value));
+        current = new IntBitmap();
+        if (keep) {
+          current.add(value);
         }
       }
 
@@ -480,9 +506,10 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
         if (!everything.get()) {
           if (current != null) {
             if (union.get() == null) {
-              union.set(current);
+              // the current bitmap may belong to the index, so we copy before mutating the union
+              union.set(current.copy());
             } else {
-              union.get().addAll(current);
+              union.get().or(current);
             }
           } else {
             everything.set(true);
@@ -503,9 +530,18 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
       readAll();
       return this;
     }
-    final var clone = new TreeSet<>(union.get());
-    clone.addAll(unknowns);
-    return clone;
+    final var keys = union.get();
+    for (Ty unknown : unknowns) {
+      keys.add(unknown.__id());
+    }
+    final var result = new ArrayList<Ty>(keys.size());
+    keys.forEach((key) -> {
+      Ty item = itemsByKey.get(key);
+      if (item != null) {
+        result.add(item);
+      }
+    });
+    return result;
   }
 
   public int size() {
@@ -593,6 +629,17 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
       child.__settle(viewers);
     }
     pubsub.settle();
+    settleGeneration++;
+  }
+
+  /** how many times has the table settled; rows that changed before the latest settle will notify the pubsub again on their next change */
+  public int __settleGeneration() {
+    return settleGeneration;
+  }
+
+  /** bumped when rows change without flowing through the pubsub (bulk inserts and reverts) */
+  public int __bulkGeneration() {
+    return bulkGeneration;
   }
 
   @Override
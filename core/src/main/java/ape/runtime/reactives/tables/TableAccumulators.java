@@ -0,0 +1,330 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.reactives.tables;
+
+import ape.runtime.natives.NtMaybe;
+
+import java.util.TreeMap;
+
+/** the accumulators mirroring the aggregates in LibStatistics (and list size) that a TableAggregate can maintain */
+public class TableAccumulators {
+
+  /** (iterate table).size() */
+  public static TableAccumulator<Integer, Integer> count() {
+    return new TableAccumulator<>() {
+      private int count = 0;
+
+      @Override
+      public void add(Integer value) {
+        count++;
+      }
+
+      @Override
+      public void remove(Integer value) {
+        count--;
+      }
+
+      @Override
+      public Integer result() {
+        return count;
+      }
+
+      @Override
+      public void reset() {
+        count = 0;
+      }
+
+      @Override
+      public boolean exact() {
+        return true;
+      }
+    };
+  }
+
+  /** (iterate table).field.sum() for int fields; wrapping is identical to LibStatistics.sumInts */
+  public static TableAccumulator<Integer, NtMaybe<Integer>> sumInts() {
+    return new TableAccumulator<>() {
+      private int count = 0;
+      private int sum = 0;
+
+      @Override
+      public void add(Integer value) {
+        count++;
+        sum += value;
+      }
+
+      @Override
+      public void remove(Integer value) {
+        count--;
+        sum -= value;
+      }
+
+      @Override
+      public NtMaybe<Integer> result() {
+        if (count > 0) {
+          return new NtMaybe<>(sum);
+        }
+        return new NtMaybe<>();
+      }
+
+      @Override
+      public void reset() {
+        count = 0;
+        sum = 0;
+      }
+
+      @Override
+      public boolean exact() {
+        return true;
+      }
+    };
+  }
+
+  /** (iterate table).field.sum() for long fields */
+  public static TableAccumulator<Long, NtMaybe<Long>> sumLongs() {
+    return new TableAccumulator<>() {
+      private int count = 0;
+      private long sum = 0;
+
+      @Override
+      public void add(Long value) {
+        count++;
+        sum += value;
+      }
+
+      @Override
+      public void remove(Long value) {
+        count--;
+        sum -= value;
+      }
+
+      @Override
+      public NtMaybe<Long> result() {
+        if (count > 0) {
+          return new NtMaybe<>(sum);
+        }
+        return new NtMaybe<>();
+      }
+
+      @Override
+      public void reset() {
+        count = 0;
+        sum = 0;
+      }
+
+      @Override
+      public boolean exact() {
+        return true;
+      }
+    };
+  }
+
+  /** (iterate table).field.sum() for double fields */
+  public static TableAccumulator<Double, NtMaybe<Double>> sumDoubles() {
+    return new DoubleSum(false);
+  }
+
+  /** (iterate table).field.average() for int fields */
+  public static TableAccumulator<Integer, NtMaybe<Double>> averageInts() {
+    return new TableAccumulator<>() {
+      private int count = 0;
+      private long sum = 0;
+
+      @Override
+      public void add(Integer value) {
+        count++;
+        sum += value;
+      }
+
+      @Override
+      public void remove(Integer value) {
+        count--;
+        sum -= value;
+      }
+
+      @Override
+      public NtMaybe<Double> result() {
+        if (count > 0) {
+          return new NtMaybe<>((double) sum / count);
+        }
+        return new NtMaybe<>();
+      }
+
+      @Override
+      public void reset() {
+        count = 0;
+        sum = 0;
+      }
+
+      @Override
+      public boolean exact() {
+        return true;
+      }
+    };
+  }
+
+  /** (iterate table).field.average() for long fields */
+  public static TableAccumulator<Long, NtMaybe<Double>> averageLongs() {
+    return new TableAccumulator<>() {
+      private int count = 0;
+      private long sum = 0;
+
+      @Override
+      public void add(Long value) {
+        count++;
+        sum += value;
+      }
+
+      @Override
+      public void remove(Long value) {
+        count--;
+        sum -= value;
+      }
+
+      @Override
+      public NtMaybe<Double> result() {
+        if (count > 0) {
+          return new NtMaybe<>((double) sum / count);
+        }
+        return new NtMaybe<>();
+      }
+
+      @Override
+      public void reset() {
+        count = 0;
+        sum = 0;
+      }
+
+      @Override
+      public boolean exact() {
+        return true;
+      }
+    };
+  }
+
+  /** (iterate table).field.average() for double fields */
+  public static TableAccumulator<Double, NtMaybe<Double>> averageDoubles() {
+    return new DoubleSum(true);
+  }
+
+  /** (iterate table).field.minimum() */
+  public static <V extends Comparable<V>> TableAccumulator<V, NtMaybe<V>> minimum() {
+    return new Extreme<>(true);
+  }
+
+  /** (iterate table).field.maximum() */
+  public static <V extends Comparable<V>> TableAccumulator<V, NtMaybe<V>> maximum() {
+    return new Extreme<>(false);
+  }
+
+  /** a floating point sum (or average); removing values can leave rounding residue behind, so it is not exact */
+  private static class DoubleSum implements TableAccumulator<Double, NtMaybe<Double>> {
+    private final boolean average;
+    private int count;
+    private double sum;
+
+    private DoubleSum(boolean average) {
+      this.average = average;
+      this.count = 0;
+      this.sum = 0;
+    }
+
+    @Override
+    public void add(Double value) {
+      count++;
+      sum += value;
+    }
+
+    @Override
+    public void remove(Double value) {
+      count--;
+      sum -= value;
+    }
+
+    @Override
+    public NtMaybe<Double> result() {
+      if (count > 0) {
+        return new NtMaybe<>(average ? sum / count : sum);
+      }
+      return new NtMaybe<>();
+    }
+
+    @Override
+    public void reset() {
+      count = 0;
+      sum = 0;
+    }
+
+    @Override
+    public boolean exact() {
+      return false;
+    }
+  }
+
+  /** a multiset of the values such that removing the current extreme is cheap */
+  private static class Extreme<V extends Comparable<V>> implements TableAccumulator<V, NtMaybe<V>> {
+    private final boolean min;
+    private final TreeMap<V, Integer> values;
+
+    private Extreme(boolean min) {
+      this.min = min;
+      this.values = new TreeMap<>();
+    }
+
+    @Override
+    public void add(V value) {
+      values.merge(value, 1, Integer::sum);
+    }
+
+    @Override
+    public void remove(V value) {
+      Integer count = values.get(value);
+      if (count != null) {
+        if (count <= 1) {
+          values.remove(value);
+        } else {
+          values.put(value, count - 1);
+        }
+      }
+    }
+
+    @Override
+    public NtMaybe<V> result() {
+      if (values.isEmpty()) {
+        return new NtMaybe<>();
+      }
+      return new NtMaybe<>(min ? values.firstKey() : values.lastKey());
+    }
+
+    @Override
+    public void reset() {
+      values.clear();
+    }
+
+    @Override
+    public boolean exact() {
+      return true;
+    }
+  }
+}
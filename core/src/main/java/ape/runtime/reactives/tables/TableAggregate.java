@@ -0,0 +1,155 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.reactives.tables;
+
+import ape.runtime.contracts.RxParent;
+import ape.runtime.reactives.RxRecordBase;
+import ape.runtime.reactives.RxTable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Incrementally maintained aggregate over a table (i.e. formula x = (iterate t).f.sum()). Each row's
+ * contribution is remembered, and the table's pubsub tells us which rows changed, so a recompute folds
+ * just the changed rows out and back into the accumulator rather than visiting every row. The full pass
+ * remains as the fallback when the invariants break: rows that changed outside the pubsub (bulk inserts,
+ * reverts), more changed rows than rows, or a floating point accumulator that has folded enough to drift.
+ */
+public class TableAggregate<Ty extends RxRecordBase<Ty>, V, R> implements TableSubscription {
+  private final RxParent owner;
+  private final Function<Ty, V> extract;
+  private final TableAccumulator<V, R> accumulator;
+  private final HashMap<Integer, V> contributions;
+  private final HashMap<Integer, Integer> changed;
+  private RxTable<Ty> table;
+  private boolean built;
+  private int bulkGeneration;
+  private int folds;
+
+  public TableAggregate(RxParent owner, Function<Ty, V> extract, TableAccumulator<V, R> accumulator) {
+    this.owner = owner;
+    this.extract = extract;
+    this.accumulator = accumulator;
+    this.contributions = new HashMap<>();
+    this.changed = new HashMap<>();
+    this.table = null;
+    this.built = false;
+    this.bulkGeneration = 0;
+    this.folds = 0;
+  }
+
+  /** [link] listen to the table */
+  public void bind(RxTable<Ty> table) {
+    this.table = table;
+    table.pubsub.subscribe(this);
+  }
+
+  @Override
+  public boolean alive() {
+    if (owner != null) {
+      return owner.__isAlive();
+    }
+    return true;
+  }
+
+  @Override
+  public boolean primary(int primaryKey) {
+    // a row won't notify again until the table settles, so remember when we heard about it
+    changed.put(primaryKey, table.__settleGeneration());
+    return false;
+  }
+
+  @Override
+  public void index(int index, int value) {
+    // index changes are always accompanied by a primary key change
+  }
+
+  /** compute the aggregate */
+  public R compute() {
+    table.readAll();
+    if (!built || bulkGeneration != table.__bulkGeneration() || changed.size() > contributions.size() || (!accumulator.exact() && folds > Math.max(64, contributions.size()))) {
+      rebuild();
+    } else {
+      fold();
+    }
+    return accumulator.result();
+  }
+
+  /** fold the changed rows out and back in */
+  private void fold() {
+    int settled = table.__settleGeneration();
+    int cost = 0;
+    Iterator<Map.Entry<Integer, Integer>> it = changed.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Integer, Integer> entry = it.next();
+      int key = entry.getKey();
+      V prior = contributions.remove(key);
+      if (prior != null) {
+        accumulator.remove(prior);
+      }
+      Ty row = table.getById(key);
+      if (row != null && !row.__isDying()) {
+        V value = extract.apply(row);
+        contributions.put(key, value);
+        accumulator.add(value);
+      }
+      cost++;
+      folds++;
+      // if the table settled since the change, then the row is armed to notify us again
+      if (entry.getValue() < settled) {
+        it.remove();
+      }
+    }
+    table.__cost(cost);
+  }
+
+  /** the fallback: visit every row */
+  private void rebuild() {
+    accumulator.reset();
+    contributions.clear();
+    int cost = 0;
+    for (Ty row : table) {
+      cost++;
+      if (row.__isDying()) {
+        continue;
+      }
+      V value = extract.apply(row);
+      contributions.put(row.__id(), value);
+      accumulator.add(value);
+    }
+    int settled = table.__settleGeneration();
+    changed.values().removeIf((generation) -> generation < settled);
+    table.__cost(cost);
+    built = true;
+    bulkGeneration = table.__bulkGeneration();
+    folds = 0;
+  }
+
+  public long __memory() {
+    return 64 + 48L * contributions.size() + 48L * changed.size();
+  }
+}
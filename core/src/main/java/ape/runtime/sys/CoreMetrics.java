@@ -64,6 +64,7 @@ public class CoreMetrics {
   public final Runnable document_queue_running_behind;
   public final Runnable document_catastrophic_failure;
   public final Runnable document_load_shed;
+  public final Runnable document_rebalanced;
   public final Runnable document_compacting_skipped;
   public final Runnable document_compacting;
   public final Runnable failed_invention;
@@ -115,6 +116,7 @@ public class CoreMetrics {
     document_queue_running_behind = metricsFactory.counter("core_document_queue_running_behind");
     document_catastrophic_failure = metricsFactory.counter("core_document_catastrophic_failure");
     document_load_shed = metricsFactory.counter("core_document_load_shed");
+    document_rebalanced = metricsFactory.counter("core_document_rebalanced");
     document_compacting_skipped = metricsFactory.counter("core_document_compacting_skipped");
     document_compacting = metricsFactory.counter("core_document_compacting");
     failed_invention = metricsFactory.counter("core_document_failed_invention");
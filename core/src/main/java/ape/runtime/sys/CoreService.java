@@ -79,6 +79,7 @@ public class CoreService implements Deliverer, Queryable, KeyAlarm {
   public final CoreMetrics metrics;
   private final LivingDocumentFactoryFactory livingDocumentFactoryFactory;
   private final DocumentThreadBase[] bases;
+  private final DocumentThreadRouter router;
   private final AtomicBoolean alive;
   private final Random rng;
   private final ReadOnlyService readonly;
@@ -97,6 +98,7 @@ public class CoreService implements Deliverer, Queryable, KeyAlarm {
     this.shield = new ServiceShield();
     this.livingDocumentFactoryFactory = livingDocumentFactoryFactory;
     bases = new DocumentThreadBase[nThreads];
+    this.router = new DocumentThreadRouter(nThreads);
     this.alive = new AtomicBoolean(true);
     for (int k = 0; k < nThreads; k++) {
       bases[k] = new DocumentThreadBase(k, shield, metricsReporter, dataService, backupService, wakeService, metrics, SimpleExecutor.create("core-" + k), time);
@@ -246,6 +248,141 @@ public class CoreService implements Deliverer, Queryable, KeyAlarm {
     });
   }
 
+  /** state machine to sample the heat of every document, then move hot documents off of hot threads */
+  private class RebalanceStateMachine extends NamedRunnable {
+    private final long minimumGap;
+    private final int maxMoves;
+    private final Callback<Integer> callback;
+    private final ArrayList<DocumentRebalancer.Sample> samples;
+    private int at;
+
+    private RebalanceStateMachine(long minimumGap, int maxMoves, Callback<Integer> callback) {
+      super("rebalance-state-machine");
+      this.minimumGap = minimumGap;
+      this.maxMoves = maxMoves;
+      this.callback = callback;
+      this.samples = new ArrayList<>();
+      this.at = 0;
+    }
+
+    @Override
+    public void execute() throws Exception {
+      DocumentThreadBase base = bases[at];
+      for (Map.Entry<Key, DurableLivingDocument> documentEntry : base.map.entrySet()) {
+        DurableLivingDocument document = documentEntry.getValue();
+        samples.add(new DocumentRebalancer.Sample(documentEntry.getKey(), at, document.getHeat(), document.isQuiescentWhileInExecutor()));
+      }
+      this.at++;
+      next();
+    }
+
+    private void next() {
+      if (at >= bases.length) {
+        ArrayList<DocumentRebalancer.Move> moves = DocumentRebalancer.plan(bases.length, samples, minimumGap, maxMoves);
+        for (DocumentRebalancer.Move move : moves) {
+          migrate(move.key, move.to, Callback.DONT_CARE_BOOLEAN);
+        }
+        callback.success(moves.size());
+      } else {
+        bases[at].executor.execute(this);
+      }
+    }
+  }
+
+  /**
+   * move a document from one thread to another; at a quiescent point, the document is copied onto the new thread and
+   * its connected views are handed over such that clients keep streaming without noticing the move
+   * @param key the document to move
+   * @param to the thread to move the document to
+   * @param callback true if the document was moved, false if it was not in memory or not quiescent
+   */
+  public void migrate(Key key, int to, Callback<Boolean> callback) {
+    if (to < 0 || to >= bases.length) {
+      callback.success(false);
+      return;
+    }
+    DocumentThreadBase from = bases[router.route(key)];
+    if (from.threadId == to) {
+      callback.success(false);
+      return;
+    }
+    DocumentThreadBase target = bases[to];
+    from.executor.execute(new NamedRunnable("rebalance-migrate", key.space, key.key) {
+      @Override
+      public void execute() throws Exception {
+        DurableLivingDocument document = from.map.get(key);
+        if (router.route(key) != from.threadId || document == null || from.pending.containsKey(key) || from.isDrained() || target.isDrained() || !document.isQuiescentWhileInExecutor()) {
+          callback.success(false);
+          return;
+        }
+        DurableLivingDocument moved = document.migrateWhileInExecutor(target);
+        metrics.document_rebalanced.run();
+        // the arrival is queued before the route flips so anything routed to the new thread finds the document there
+        target.executor.execute(new NamedRunnable("rebalance-arrive", key.space, key.key) {
+          @Override
+          public void execute() throws Exception {
+            target.map.put(key, moved);
+            metrics.inflight_documents.up();
+            if (target.isDrained()) {
+              moved.shedWhileInExecutor();
+            } else {
+              moved.afterLoadWhileInExecutor();
+            }
+          }
+        });
+        router.pin(key, to);
+        callback.success(true);
+      }
+    });
+  }
+
+  /** forget pins for documents which are no longer in memory such that the routing table doesn't grow without bound */
+  private void prunePins() {
+    for (DocumentThreadBase base : bases) {
+      base.executor.execute(new NamedRunnable("rebalance-prune") {
+        @Override
+        public void execute() throws Exception {
+          router.prune(base.threadId, (key) -> !base.map.containsKey(key) && !base.pending.containsKey(key));
+        }
+      });
+    }
+  }
+
+  /**
+   * sample the heat of every document and migrate hot documents from the hottest threads to the coldest threads
+   * @param minimumGap the minimum difference (in cpu milliseconds) between the hottest and coldest thread before documents are moved
+   * @param maxMoves the maximum number of documents to move within this round
+   * @param callback the number of migrations attempted
+   */
+  public void rebalance(long minimumGap, int maxMoves, Callback<Integer> callback) {
+    prunePins();
+    new RebalanceStateMachine(minimumGap, maxMoves, callback).next();
+  }
+
+  /** periodically rebalance documents across the threads */
+  public void enableRebalancing(int periodMilliseconds, long minimumGap, int maxMoves) {
+    bases[rng.nextInt(bases.length)].executor.schedule(new NamedRunnable("rebalance-run") {
+      @Override
+      public void execute() throws Exception {
+        if (!alive.get()) {
+          return;
+        }
+        NamedRunnable self = this;
+        rebalance(minimumGap, maxMoves, new Callback<>() {
+          @Override
+          public void success(Integer value) {
+            bases[rng.nextInt(bases.length)].executor.schedule(self, periodMilliseconds);
+          }
+
+          @Override
+          public void failure(ErrorCodeException ex) {
+            bases[rng.nextInt(bases.length)].executor.schedule(self, periodMilliseconds);
+          }
+        });
+      }
+    }, periodMilliseconds);
+  }
+
   public void shutdown() throws InterruptedException {
     alive.set(false);
     CountDownLatch[] latches = new CountDownLatch[bases.length];
@@ -351,8 +488,7 @@ public class CoreService implements Deliverer, Queryable, KeyAlarm {
 
   private void loadInternal(Key key, Callback<DurableLivingDocument> callbackReal) {
     // bind to the thread
-    int threadId = key.hashCode() % bases.length;
-    DocumentThreadBase base = bases[threadId];
+    DocumentThreadBase base = bases[router.route(key)];
 
     Callback<DurableLivingDocument> callback = SimpleTimeout.WRAP(SimpleTimeout.make(base.executor, 30000, () -> {
       LOGGER.error("load-internal-timeout-loading:" + key.space + "/" + key.key);
@@ -362,6 +498,11 @@ public class CoreService implements Deliverer, Queryable, KeyAlarm {
     base.executor.execute(new NamedRunnable("load", key.space, key.key) {
       @Override
       public void execute() throws Exception {
+        // the document was moved to another thread while this was queued
+        if (router.route(key) != base.threadId) {
+          loadInternal(key, callback);
+          return;
+        }
 
         // is document already loaded?
         DurableLivingDocument documentFetch = base.map.get(key);
@@ -445,8 +586,7 @@ public class CoreService implements Deliverer, Queryable, KeyAlarm {
   /** reflect on the document's schema */
   public void reflect(Key key, Callback<String> callbackReal) {
     Callback<String> callback = metrics.reflect.wrap(callbackReal);
-    int threadId = key.hashCode() % bases.length;
-    DocumentThreadBase base = bases[threadId];
+    DocumentThreadBase base = bases[router.route(key)];
     base.executor.execute(new NamedRunnable("reflect", key.space) {
       @Override
       public void execute() throws Exception {
@@ -510,11 +650,15 @@ public class CoreService implements Deliverer, Queryable, KeyAlarm {
   /** internal: actually create with the given callback */
   private void createInternal(CoreRequestContext context, Key key, String arg, String entropy, Callback<Void> callback) {
     // jump into thread caching which thread
-    int threadId = key.hashCode() % bases.length;
-    DocumentThreadBase base = bases[threadId];
+    DocumentThreadBase base = bases[router.route(key)];
     base.executor.execute(new NamedRunnable("create", key.space) {
       @Override
       public void execute() throws Exception {
+        // the document was moved to another thread while this was queued
+        if (router.route(key) != base.threadId) {
+          createInternal(context, key, arg, entropy, callback);
+          return;
+        }
         // the document already exists
         if (base.map.containsKey(key)) {
           callback.failure(new ErrorCodeException(ErrorCodes.SERVICE_DOCUMENT_ALREADY_CREATED));
@@ -32,6 +32,8 @@ import ape.runtime.contracts.AdamaStream;
 import ape.runtime.json.JsonStreamReader;
 import ape.runtime.natives.NtAsset;
 
+import java.util.function.Consumer;
+
 /**
  * Represents a stream for the consumer to interact with the document. This simplifies the
  * interaction model such that consumers don't need to think about how threading happens.
@@ -57,22 +59,34 @@ public class CoreStream implements AdamaStream {
     metrics.inflight_streams.up();
   }
 
+  /** run the action on the thread holding the document; the document may migrate between threads while this is queued */
+  private void executeOnDocument(String name, Consumer<DurableLivingDocument> action) {
+    DurableLivingDocument at = document.current();
+    at.base.executor.execute(new NamedRunnable(name) {
+      @Override
+      public void execute() throws Exception {
+        if (at.current() != at) {
+          executeOnDocument(name, action);
+          return;
+        }
+        action.accept(at);
+      }
+    });
+  }
+
   @Override
   public void update(String newViewerState, Callback<Void> callback) {
     if (mode.read) {
       JsonStreamReader patch = new JsonStreamReader(newViewerState);
-      document.base.executor.execute(new NamedRunnable("core-stream-update") {
-        @Override
-        public void execute() throws Exception {
-          inventory.message();
-          handle.ingestViewUpdate(patch);
-          if (document.document().__hasInflightAsyncWork()) {
-            // this is, at core, fundamentally expensive
-            document.invalidate(Callback.SUCCESS_OR_FAILURE_THROW_AWAY_VALUE(callback));
-          } else {
-            handle.triggerRefresh();
-            callback.success(null);
-          }
+      executeOnDocument("core-stream-update", (current) -> {
+        inventory.message();
+        handle.ingestViewUpdate(patch);
+        if (current.document().__hasInflightAsyncWork()) {
+          // this is, at core, fundamentally expensive
+          current.invalidate(Callback.SUCCESS_OR_FAILURE_THROW_AWAY_VALUE(callback));
+        } else {
+          handle.triggerRefresh();
+          callback.success(null);
         }
       });
     } else {
@@ -92,12 +106,9 @@ public class CoreStream implements AdamaStream {
       return;
     }
 
-    document.base.executor.execute(new NamedRunnable("core-stream-send") {
-      @Override
-      public void execute() throws Exception {
-        inventory.message();
-        document.send(context, handle.getViewId(), marker, channel, message, callback);
-      }
+    executeOnDocument("core-stream-send", (current) -> {
+      inventory.message();
+      current.send(context, handle.getViewId(), marker, channel, message, callback);
     });
   }
 
@@ -107,15 +118,12 @@ public class CoreStream implements AdamaStream {
       callback.failure(new ErrorCodeException(ErrorCodes.SHIELD_REJECT_SEND_MESSAGE));
       return;
     }
-    document.base.executor.execute(new NamedRunnable("core-stream-can-attach") {
-      @Override
-      public void execute() throws Exception {
-        inventory.message();
-        try {
-          callback.success(document.canAttach(context));
-        } catch (Exception ex) {
-          callback.failure(ErrorCodeException.detectOrWrap(ErrorCodes.CORE_STREAM_CAN_ATTACH_UNKNOWN_EXCEPTION, ex, LOGGER));
-        }
+    executeOnDocument("core-stream-can-attach", (current) -> {
+      inventory.message();
+      try {
+        callback.success(current.canAttach(context));
+      } catch (Exception ex) {
+        callback.failure(ErrorCodeException.detectOrWrap(ErrorCodes.CORE_STREAM_CAN_ATTACH_UNKNOWN_EXCEPTION, ex, LOGGER));
       }
     });
   }
@@ -123,36 +131,30 @@ public class CoreStream implements AdamaStream {
   @Override
   public void attach(String id, String name, String contentType, long size, String md5, String sha384, Callback<Integer> callback) {
     NtAsset asset = new NtAsset(id, name, contentType, size, md5, sha384);
-    document.base.executor.execute(new NamedRunnable("core-stream-attach") {
-      @Override
-      public void execute() throws Exception {
-        inventory.message();
-        document.attach(context, asset, callback);
-      }
+    executeOnDocument("core-stream-attach", (current) -> {
+      inventory.message();
+      current.attach(context, asset, callback);
     });
   }
 
   @Override
   public void close() {
     metrics.inflight_streams.down();
-    document.base.executor.execute(new NamedRunnable("core-stream-disconnect") {
-      @Override
-      public void execute() throws Exception {
-        // documents that is silent
-        // account for the disconnect message
-        inventory.message();
-        // disconnect this view
-        handle.kill();
-        // clean up and keep things tidy
-        if (document.garbageCollectPrivateViewsFor(context.who) == 0) {
-          // falling edge disconnects the person
-          document.disconnect(context, Callback.DONT_CARE_INTEGER);
-        } else {
-          document.invalidate(Callback.DONT_CARE_INTEGER);
-        }
-        // tell the client
-        handle.disconnect();
+    executeOnDocument("core-stream-disconnect", (current) -> {
+      // documents that is silent
+      // account for the disconnect message
+      inventory.message();
+      // disconnect this view
+      handle.kill();
+      // clean up and keep things tidy
+      if (current.garbageCollectPrivateViewsFor(context.who) == 0) {
+        // falling edge disconnects the person
+        current.disconnect(context, Callback.DONT_CARE_INTEGER);
+      } else {
+        current.invalidate(Callback.DONT_CARE_INTEGER);
       }
+      // tell the client
+      handle.disconnect();
     });
   }
 }
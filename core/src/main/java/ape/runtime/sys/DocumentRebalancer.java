@@ -0,0 +1,128 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.sys;
+
+import ape.runtime.data.Key;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+
+/** plan the migration of hot documents between thread bases such that the heat (cpu) is spread evenly */
+public class DocumentRebalancer {
+
+  /** the heat of a single document sitting within a base */
+  public static class Sample {
+    public final Key key;
+    public final int base;
+    public final long heat;
+    public final boolean movable;
+
+    public Sample(Key key, int base, long heat) {
+      this(key, base, heat, true);
+    }
+
+    /** movable is false when the document can't be moved (i.e. it is mid-write or has observers) yet its heat still counts against the base */
+    public Sample(Key key, int base, long heat, boolean movable) {
+      this.key = key;
+      this.base = base;
+      this.heat = heat;
+      this.movable = movable;
+    }
+  }
+
+  /** a planned move of a document from one base to another */
+  public static class Move {
+    public final Key key;
+    public final int from;
+    public final int to;
+    public final long heat;
+
+    public Move(Key key, int from, int to, long heat) {
+      this.key = key;
+      this.from = from;
+      this.to = to;
+      this.heat = heat;
+    }
+  }
+
+  /**
+   * greedily move the hottest document which strictly narrows the gap between the hottest and coldest base
+   * @param threads the number of bases
+   * @param samples the heat of every document in memory
+   * @param minimumGap the gap in heat between the hottest and coldest base must exceed this to move anything
+   * @param maxMoves the maximum number of documents to move
+   */
+  public static ArrayList<Move> plan(int threads, ArrayList<Sample> samples, long minimumGap, int maxMoves) {
+    long[] heat = new long[threads];
+    ArrayList<ArrayList<Sample>> byBase = new ArrayList<>(threads);
+    for (int k = 0; k < threads; k++) {
+      byBase.add(new ArrayList<>());
+    }
+    for (Sample sample : samples) {
+      if (0 <= sample.base && sample.base < threads) {
+        heat[sample.base] += sample.heat;
+        byBase.get(sample.base).add(sample);
+      }
+    }
+    for (ArrayList<Sample> list : byBase) {
+      list.sort(Comparator.comparingLong((Sample s) -> s.heat).reversed());
+    }
+    ArrayList<Move> moves = new ArrayList<>();
+    HashSet<Key> moved = new HashSet<>();
+    while (moves.size() < maxMoves) {
+      int hot = 0;
+      int cold = 0;
+      for (int k = 1; k < threads; k++) {
+        if (heat[k] > heat[hot]) {
+          hot = k;
+        }
+        if (heat[k] < heat[cold]) {
+          cold = k;
+        }
+      }
+      long gap = heat[hot] - heat[cold];
+      if (gap <= minimumGap) {
+        break;
+      }
+      Sample pick = null;
+      for (Sample candidate : byBase.get(hot)) {
+        // moving a document hotter than the gap would simply make the cold base the new hot base
+        if (candidate.movable && 0 < candidate.heat && candidate.heat < gap && !moved.contains(candidate.key)) {
+          pick = candidate;
+          break;
+        }
+      }
+      if (pick == null) {
+        break;
+      }
+      byBase.get(hot).remove(pick);
+      heat[hot] -= pick.heat;
+      heat[cold] += pick.heat;
+      moved.add(pick.key);
+      moves.add(new Move(pick.key, hot, cold, pick.heat));
+    }
+    return moves;
+  }
+}
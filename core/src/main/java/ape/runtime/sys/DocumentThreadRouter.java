@@ -0,0 +1,78 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.sys;
+
+import ape.runtime.data.Key;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/** routes a document key to the thread base that owns it; keys default to a hash, but may be pinned elsewhere by the rebalancer */
+public class DocumentThreadRouter {
+  private final int threads;
+  private final ConcurrentHashMap<Key, Integer> pins;
+
+  public DocumentThreadRouter(int threads) {
+    this.threads = threads;
+    this.pins = new ConcurrentHashMap<>();
+  }
+
+  /** the default home of a key when it isn't pinned */
+  public int hash(Key key) {
+    return Math.abs(key.hashCode() % threads);
+  }
+
+  /** which thread owns the given key */
+  public int route(Key key) {
+    Integer pinned = pins.get(key);
+    if (pinned != null) {
+      return pinned;
+    }
+    return hash(key);
+  }
+
+  /** pin the key to a thread; pinning a key to its default home simply removes the pin */
+  public void pin(Key key, int threadId) {
+    if (threadId == hash(key)) {
+      pins.remove(key);
+    } else {
+      pins.put(key, threadId);
+    }
+  }
+
+  /** remove the pins of keys pinned to the given thread which are no longer needed; this must be called from within the pinned thread */
+  public void prune(int threadId, Function<Key, Boolean> unused) {
+    for (Map.Entry<Key, Integer> entry : pins.entrySet()) {
+      if (entry.getValue() == threadId && unused.apply(entry.getKey())) {
+        pins.remove(entry.getKey(), threadId);
+      }
+    }
+  }
+
+  /** how many keys are pinned away from their default home */
+  public int pinned() {
+    return pins.size();
+  }
+}
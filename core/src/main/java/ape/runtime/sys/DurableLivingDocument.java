@@ -95,6 +95,9 @@ public class DurableLivingDocument implements Queryable {
   private boolean failedLastSnapshot;
   private QueuedRestoreRequest restoreRequest;
   private boolean exportSweepScheduled;
+  private long retainedHeat;
+  // once migrated, the document on the new thread which took over the connections
+  private volatile DurableLivingDocument movedTo;
 
   private DurableLivingDocument(final Key key, final LivingDocument document, final LivingDocumentFactory currentFactory, final DocumentThreadBase base) {
     this.key = key;
@@ -118,6 +121,8 @@ public class DurableLivingDocument implements Queryable {
     this.failedLastSnapshot = false;
     this.restoreRequest = null;
     this.exportSweepScheduled = true;
+    this.retainedHeat = 0;
+    this.movedTo = null;
   }
 
   public static void fresh(final Key key, final LivingDocumentFactory factory, final CoreRequestContext context, final String arg, final String entropy, final DocumentMonitor monitor, final DocumentThreadBase base, final Callback<DurableLivingDocument> callback) {
@@ -365,7 +370,7 @@ public class DurableLivingDocument implements Queryable {
     document.__dump(writer);
     int toCompactNow = Math.max(0, size.get() - currentFactory.maximum_history);
     String snapshot = writer.toString();
-    base.service.snapshot(key, new DocumentSnapshot(document.__seq.get(), snapshot, currentFactory.maximum_history, writer.getAssetBytes()), base.metrics.document_snapshot.wrap(new Callback<>() {
+    base.service.snapshot(key, new DocumentSnapshot(document.__seq.get(), snapshot, currentFactory.maximum_history, writer.getAssetBytes(), currentFactory.binarySnapshot), base.metrics.document_snapshot.wrap(new Callback<>() {
       @Override
       public void success(Integer value) {
         base.executor.execute(new NamedRunnable("compact-complete") {
@@ -498,6 +503,42 @@ public class DurableLivingDocument implements Queryable {
     issueCloseWhileInExecutor(ErrorCodes.DOCUMENT_SHEDDING_LOAD, true);
   }
 
+  /**
+   * move a quiescent document to another thread; like a deployment, the state is copied into a fresh document which
+   * usurps every connected view (so connections keep streaming without a reconnect). Unlike shedding, the storage is
+   * neither closed nor deleted since every write has landed. The caller must put the returned document into the new
+   * thread's map, and anything still holding this document follows current() to the new one.
+   */
+  public DurableLivingDocument migrateWhileInExecutor(DocumentThreadBase to) throws ErrorCodeException {
+    LivingDocument newDocument = currentFactory.create(document.__monitor);
+    newDocument.__lateBind(key.space, key.key, currentFactory.deliverer, currentFactory.registry);
+    JsonStreamWriter writer = new JsonStreamWriter();
+    document.__dump(writer);
+    newDocument.__insert(new JsonStreamReader(writer.toString()));
+    document.__usurp(newDocument);
+    DurableLivingDocument moved = new DurableLivingDocument(key, newDocument, currentFactory, to);
+    moved.size.set(size.get());
+    moved.lastActivityMS = lastActivityMS;
+    moved.retainedHeat = getHeat();
+    loadShedOccurred = true;
+    disableMetrics = true;
+    movedTo = moved;
+    if (base.map.remove(key, this)) {
+      document.__removed();
+      base.metrics.inflight_documents.down();
+    }
+    return moved;
+  }
+
+  /** the document which holds this document's connections; this unless it migrated to another thread */
+  public DurableLivingDocument current() {
+    DurableLivingDocument at = this;
+    while (at.movedTo != null) {
+      at = at.movedTo;
+    }
+    return at;
+  }
+
   private void issueCloseWhileInExecutor(int errorCode, boolean shed) {
     document.__error_exports(new ErrorCodeException(errorCode));
     document.__nukeViews();
@@ -916,9 +957,20 @@ public class DurableLivingDocument implements Queryable {
   }
 
   public void zeroOutCodeCost() {
+    retainedHeat = (retainedHeat + document.__getCpuMilliseconds()) / 2;
     document.__zeroOutCodeCost();
   }
 
+  /** the heat of the document is the cpu spent since the last inventory plus a decaying memory of prior inventories */
+  public long getHeat() {
+    return retainedHeat + document.__getCpuMilliseconds();
+  }
+
+  /** is the document idle such that it can be moved to another thread without losing work; connected views move with it */
+  public boolean isQuiescentWhileInExecutor() {
+    return !inflightPatch && !inflightCompact && pending.size() == 0 && restoreRequest == null && observers.size() == 0 && !catastrophicFailureOccurred && !loadShedOccurred;
+  }
+
   public int getConnectionsCount() {
     return document.__getConnectionsCount();
   }
@@ -54,6 +54,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 
 /**
  * Abstract base class for all compiled Adama documents - the core runtime VM.
@@ -123,6 +125,12 @@ public abstract class LivingDocument implements RxParent, Caller {
   private IdHistoryLog __currentLog;
   private IdHistoryLog __stateMachineLog;
   private final LinkedList<RxExport<?>> __exports;
+  private int __parallelBroadcastThreshold;
+  private boolean __broadcastingInParallel;
+  private final LongAdder __parallelCodeCost;
+  private boolean __shareViews;
+  private HashMap<NtPrincipal, SharedViewGroup> __sharedViewGroups;
+  private HashMap<PrivateView, SharedViewGroup> __sharedViewMembership;
 
   public LivingDocument(final DocumentMonitor __monitor) {
     this.__monitor = __monitor;
@@ -195,6 +203,12 @@ public abstract class LivingDocument implements RxParent, Caller {
     __currentLog = null;
     __stateMachineLog = null;
     __exports = new LinkedList<>();
+    __parallelBroadcastThreshold = 0;
+    __broadcastingInParallel = false;
+    __parallelCodeCost = new LongAdder();
+    __shareViews = false;
+    __sharedViewGroups = new HashMap<>();
+    __sharedViewMembership = new HashMap<>();
   }
 
   /** exposed: get the document's timestamp as a date */
@@ -642,6 +656,10 @@ public abstract class LivingDocument implements RxParent, Caller {
   public abstract PrivateView __createPrivateView(NtPrincipal __who, Perspective __perspective);
 
   private String __makeRefreshJustData(PrivateView pv) {
+    if (__sharedViewMembership.containsKey(pv)) {
+      // the view's delta state is frozen while the group's view computes for it
+      return null;
+    }
     JsonStreamWriter data = new JsonStreamWriter();
     pv.update(data);
     String dataStr = data.toString();
@@ -663,36 +681,44 @@ public abstract class LivingDocument implements RxParent, Caller {
 
   /** build broadcast for a viewer */
   public LivingDocumentChange.Broadcast __buildBroadcast(NtPrincipal who, PrivateView pv) {
+    JsonStreamWriter data = new JsonStreamWriter();
+    pv.update(data);
+    return new LivingDocumentChange.Broadcast(pv, __writeBroadcast(data.toString(), __futuresFor(who, pv)));
+  }
+
+  /** the outstanding and blockers arrays if they have changed for the view, null otherwise */
+  private String __futuresFor(NtPrincipal who, PrivateView pv) {
+    JsonStreamWriter futures = new JsonStreamWriter();
+    __futures.dump(futures, who);
+    String futuresStr = futures.toString();
+    if (pv.futures(futuresStr)) {
+      return futuresStr;
+    }
+    return null;
+  }
+
+  /** write the broadcast message given the data delta and the (optional) futures */
+  private String __writeBroadcast(String dataStr, String futuresStr) {
     final var writer = new JsonStreamWriter();
     writer.beginObject();
     boolean wroteData = false;
-    { // write out the data if there are changes
-      JsonStreamWriter data = new JsonStreamWriter();
-      pv.update(data);
-      String dataStr = data.toString();
-      if (!"{}".equals(dataStr)) {
-        writer.writeObjectFieldIntro("data");
-        writer.inline(dataStr);
-        writer.force_comma_introduction();
-        wroteData = true;
-      }
-    }
-    { // write out the outstanding and blockers arrays if they have changed for the view
-      JsonStreamWriter futures = new JsonStreamWriter();
-      __futures.dump(futures, who);
-      String futuresStr = futures.toString();
-      if (pv.futures(futuresStr)) {
-        if (wroteData) {
-          writer.force_comma();
-        }
-        writer.inline(futuresStr);
-        writer.force_comma_introduction();
+    if (!"{}".equals(dataStr)) { // write out the data if there are changes
+      writer.writeObjectFieldIntro("data");
+      writer.inline(dataStr);
+      writer.force_comma_introduction();
+      wroteData = true;
+    }
+    if (futuresStr != null) {
+      if (wroteData) {
+        writer.force_comma();
       }
+      writer.inline(futuresStr);
+      writer.force_comma_introduction();
     }
     writer.writeObjectFieldIntro("seq");
     writer.writeInteger(__seq.get());
     writer.endObject();
-    return new LivingDocumentChange.Broadcast(pv, writer.toString());
+    return writer.toString();
   }
 
   /** exposed: gossip view state to the client (if possible) */
@@ -857,17 +883,116 @@ public abstract class LivingDocument implements RxParent, Caller {
         }
       }
     }
+    // views which see the same data share a delta
+    if (__shareViews) {
+      __shareBroadcastTasks(tasks);
+    }
     // convert the tasks to broadcasts
-    ArrayList<LivingDocumentChange.Broadcast> broadcasts = new ArrayList<>(tasks.size());
-    for (BroadcastTask task : tasks) {
-      Runnable viewPerf = __perf.measure("ld_broadcast_make");
-      broadcasts.add(task.convert());
-      viewPerf.run();
+    ArrayList<LivingDocumentChange.Broadcast> broadcasts;
+    if (__parallelBroadcastThreshold > 0 && tasks.size() >= __parallelBroadcastThreshold) {
+      broadcasts = __convertBroadcastTasksInParallel(tasks);
+    } else {
+      broadcasts = new ArrayList<>(tasks.size());
+      for (BroadcastTask task : tasks) {
+        Runnable viewPerf = __perf.measure("ld_broadcast_make");
+        broadcasts.add(task.convert());
+        viewPerf.run();
+      }
     }
     perf.run();
     return broadcasts;
   }
 
+  /** code generated: the key of the group of viewers that see exactly the same data (null if views can't be shared) */
+  public abstract NtPrincipal __getViewShareKey(NtPrincipal __who);
+
+  /**
+   * internal: group the views by the share key such that a headless view per group computes the delta once for all
+   * members of the group. A view joins a group after computing its first update alongside the group's view, so both
+   * delta states agree; from then on, the view's own delta state is frozen. The broadcasts of the members are built here
+   * such that converting their tasks is free.
+   */
+  private void __shareBroadcastTasks(ArrayList<BroadcastTask> tasks) {
+    Runnable perf = __perf.measure("ld_broadcast_share");
+    HashMap<NtPrincipal, SharedViewGroup> nextGroups = new HashMap<>();
+    HashMap<PrivateView, SharedViewGroup> nextMembership = new HashMap<>();
+    ArrayList<BroadcastTask> members = new ArrayList<>();
+    NtPrincipal[] keys = new NtPrincipal[tasks.size()];
+    HashMap<NtPrincipal, Integer> counts = new HashMap<>();
+    for (int k = 0; k < keys.length; k++) {
+      keys[k] = __getViewShareKey(tasks.get(k).who);
+      if (keys[k] != null) {
+        counts.merge(keys[k], 1, Integer::sum);
+      }
+    }
+    for (int k = 0; k < keys.length; k++) {
+      BroadcastTask task = tasks.get(k);
+      NtPrincipal key = keys[k];
+      if (key == null) {
+        continue;
+      }
+      SharedViewGroup group = nextGroups.get(key);
+      if (group == null) {
+        group = __sharedViewGroups.get(key);
+        if (group == null) {
+          if (counts.get(key) < 2) {
+            // a group's view is only worth it when shared
+            continue;
+          }
+          group = new SharedViewGroup(__createPrivateView(key, Perspective.DEAD));
+        }
+        nextGroups.put(key, group);
+      }
+      if (__sharedViewMembership.get(task.pv) == group) {
+        task.group = group;
+        members.add(task);
+      }
+      nextMembership.put(task.pv, group);
+    }
+    // groups without views are dropped, and every surviving group's view must see every update
+    __sharedViewGroups = nextGroups;
+    __sharedViewMembership = nextMembership;
+    for (SharedViewGroup group : nextGroups.values()) {
+      JsonStreamWriter data = new JsonStreamWriter();
+      group.view.update(data);
+      group.data = data.toString();
+      group.message = null;
+    }
+    for (BroadcastTask task : members) {
+      SharedViewGroup group = task.group;
+      String futuresStr = __futuresFor(task.who, task.pv);
+      if (futuresStr != null) {
+        task.shared = new LivingDocumentChange.Broadcast(task.pv, __writeBroadcast(group.data, futuresStr));
+      } else {
+        if (group.message == null) {
+          group.message = __writeBroadcast(group.data, null);
+        }
+        task.shared = new LivingDocumentChange.Broadcast(task.pv, group.message);
+      }
+    }
+    perf.run();
+  }
+
+  /**
+   * internal: fan the delta computation out to the fork-join pool. This is safe because the type checker limits
+   * parallel_broadcast to documents without bubbles, custom policies, and formulas that read tables/maps/services/graphs,
+   * and settling computed every formula on this thread; as such, views only read shared state. The cost of the views
+   * is accumulated concurrently, then folded back into the document's cost.
+   */
+  private ArrayList<LivingDocumentChange.Broadcast> __convertBroadcastTasksInParallel(ArrayList<BroadcastTask> tasks) {
+    Runnable perf = __perf.measure("ld_broadcast_make_parallel");
+    LivingDocumentChange.Broadcast[] results = new LivingDocumentChange.Broadcast[tasks.size()];
+    __broadcastingInParallel = true;
+    try {
+      IntStream.range(0, results.length).parallel().forEach((k) -> results[k] = tasks.get(k).convert());
+    } finally {
+      __broadcastingInParallel = false;
+      __code_cost += (int) __parallelCodeCost.sumThenReset();
+    }
+    perf.run();
+    return new ArrayList<>(Arrays.asList(results));
+  }
+
   /** internal: we compute per client */
   private ArrayList<LivingDocumentChange.Broadcast> __buildBroadcastListSend(NtPrincipal sender, final LivingDocumentFactory factory) {
     if (factory.appMode) {
@@ -960,6 +1085,8 @@ public abstract class LivingDocument implements RxParent, Caller {
     }
     __trackedViews.clear();
     __viewsById.clear();
+    __sharedViewGroups.clear();
+    __sharedViewMembership.clear();
   }
 
   /** can we remove this document from memory */
@@ -1349,7 +1476,11 @@ public abstract class LivingDocument implements RxParent, Caller {
 
   @Override
   public void __cost(int cost) {
-    __code_cost += cost;
+    if (__broadcastingInParallel) {
+      __parallelCodeCost.add(cost);
+    } else {
+      __code_cost += cost;
+    }
   }
 
   /** the code will vomit up a signal to destroy itself. This must be caught at a higher level. */
@@ -1473,6 +1604,9 @@ public abstract class LivingDocument implements RxParent, Caller {
         memory += view.memory();
       }
     }
+    for (SharedViewGroup group : __sharedViewGroups.values()) {
+      memory += group.view.memory();
+    }
     memory += __graphMemory;
     return memory;
   }
@@ -1536,6 +1670,8 @@ public abstract class LivingDocument implements RxParent, Caller {
 
   /** transaction: core API (New Version in Draft) */
   public LivingDocumentChange __transact(final String requestJson, LivingDocumentFactory factory) throws ErrorCodeException {
+    __parallelBroadcastThreshold = factory.parallelBroadcastThreshold;
+    __shareViews = !factory.appMode;
     Runnable perf = __perf.measure("tx");
     long started = System.currentTimeMillis();
     try {
@@ -2660,14 +2796,34 @@ public abstract class LivingDocument implements RxParent, Caller {
   private class BroadcastTask {
     public NtPrincipal who;
     private final PrivateView pv;
+    private SharedViewGroup group;
+    private LivingDocumentChange.Broadcast shared;
 
     public BroadcastTask(NtPrincipal who, PrivateView pv) {
       this.who = who;
       this.pv = pv;
+      this.group = null;
+      this.shared = null;
     }
 
     public LivingDocumentChange.Broadcast convert() {
+      if (shared != null) {
+        return shared;
+      }
       return __buildBroadcast(who, pv);
     }
   }
+
+  /** a headless view computing the delta for every view in the group */
+  private static class SharedViewGroup {
+    private final PrivateView view;
+    private String data;
+    private String message;
+
+    private SharedViewGroup(PrivateView view) {
+      this.view = view;
+      this.data = null;
+      this.message = null;
+    }
+  }
 }
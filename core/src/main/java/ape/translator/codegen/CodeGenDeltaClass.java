@@ -89,6 +89,14 @@ public class CodeGenDeltaClass {
     sb.append("}").writeNewline();
   }
 
+  /** views of a parallel broadcast document may be built concurrently, so their cost must flow through the document */
+  private static String costOf(final Environment environment, final int cost) {
+    if (environment.document.isParallelBroadcast()) {
+      return "__cost(" + cost + ");";
+    }
+    return "__code_cost += " + cost + ";";
+  }
+
   public static void writeMessageDeltaClass(final StructureStorage storage, final StringBuilderWithTabs sb, final Environment environment, final String className) {
     sb.append("private class Delta").append(className).append(" implements DeltaNode {").tabUp().writeNewline();
     for (final FieldDefinition fd : storage.fieldsByOrder) {
@@ -100,7 +108,7 @@ public class CodeGenDeltaClass {
     sb.append("public void show(").append(className).append(" __item, PrivateLazyDeltaWriter __writer) {").tabUp().writeNewline();
     final var cost = storage.fieldsByOrder.size();
     if (cost > 0 && !environment.state.hasNoCost()) {
-      sb.append("__code_cost += ").append("" + cost).append(";").writeNewline();
+      sb.append(costOf(environment, cost)).writeNewline();
     }
     sb.append("PrivateLazyDeltaWriter __obj = __writer.planObject();").writeNewline();
     for (final FieldDefinition fd : storage.fieldsByOrder) {
@@ -116,7 +124,7 @@ public class CodeGenDeltaClass {
     for (final FieldDefinition fd : storage.fieldsByOrder) {
       sb.append("__d").append(fd.name).append(".clear();").writeNewline();
     }
-    sb.append("__code_cost += ").append("" + (storage.fieldsByOrder.size())).append(";").tabDown().writeNewline();
+    sb.append(costOf(environment, storage.fieldsByOrder.size())).tabDown().writeNewline();
     sb.append("}").writeNewline();
     sb.append("public void hide(PrivateLazyDeltaWriter __writer) {").tabUp().writeNewline();
     sb.append("if (__emitted) {").tabUp().writeNewline();
@@ -163,7 +171,7 @@ public class CodeGenDeltaClass {
     }
     final var cost = fds.size() + storage.bubbles.size();
     if (cost > 0 && !environment.state.hasNoCost()) {
-      sb.append("__code_cost += ").append("" + cost).append(";").writeNewline();
+      sb.append(costOf(environment, cost)).writeNewline();
     }
     for (String policy : storage.policiesForVisibility) {
       if (storage.policies.containsKey(policy)) {
@@ -260,7 +268,7 @@ public class CodeGenDeltaClass {
     for (final BubbleDefinition bd : storage.bubbles.values()) {
       sb.append("__d").append(bd.nameToken.text).append(".clear();").writeNewline();
     }
-    sb.append("__code_cost += ").append("" + (fds.size() + storage.bubbles.size())).append(";").tabDown().writeNewline();
+    sb.append(costOf(environment, fds.size() + storage.bubbles.size())).tabDown().writeNewline();
     sb.append("}").writeNewline();
     sb.append("public void hide(PrivateLazyDeltaWriter __writer) {").tabUp().writeNewline();
     sb.append("if (__emitted) {").tabUp().writeNewline();
@@ -30,10 +30,11 @@ import ape.translator.tree.types.natives.*;
 import ape.translator.tree.types.reactive.*;
 import ape.translator.tree.types.natives.*;
 import ape.translator.tree.types.reactive.*;
-import ape.translator.tree.types.structures.FieldDefinition;
+import ape.translator.tree.types.structures.IndexDefinition;
 import ape.translator.tree.types.structures.StructureStorage;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 public class CodeGenIndexing {
   public static class IndexClassification {
@@ -72,6 +73,33 @@ public class CodeGenIndexing {
     }
   }
 
+  /** combine the index values of several columns into a single composite index value */
+  public static String compose(final List<String> values) {
+    String result = values.get(0);
+    for (int k = 1; k < values.size(); k++) {
+      result = "ReactiveIndex.compose(" + result + ", " + values.get(k) + ")";
+    }
+    return result;
+  }
+
+  /** produce the java expression to compute the index's value from the fields (or null if the index is not possible) */
+  public static String indexValueOf(final IndexDefinition index, final StructureStorage storage, final Environment environment) {
+    final var values = new ArrayList<String>();
+    for (final String column : index.columnNames()) {
+      final var fd = storage.fields.get(column);
+      if (fd == null) {
+        return null;
+      }
+      final var fieldType = environment.rules.Resolve(fd.type, false);
+      IndexClassification classification = new IndexClassification(fieldType);
+      if (!classification.good) {
+        return null;
+      }
+      values.add(String.format(classification.indexValueMethod, column));
+    }
+    return compose(values);
+  }
+
   public static void writeIndices(final String name, final StructureStorage storage, final StringBuilderWithTabs sb, final Environment environment) {
     boolean first;
     sb.append("@Override").writeNewline();
@@ -80,43 +108,34 @@ public class CodeGenIndexing {
     sb.append("}").writeNewline();
     sb.append("@Override").writeNewline();
     sb.append("public int[] __getIndexValues() {").tabUp().writeNewline();
-    int indexId = 0;
     sb.append("return new int[] {");
     first = true;
-    for (final Map.Entry<String, FieldDefinition> entry : storage.fields.entrySet()) {
-      if (!storage.indexSet.contains(entry.getKey())) {
-        continue;
-      }
-      final var fieldType = environment.rules.Resolve(entry.getValue().type, false);
-      IndexClassification classification = new IndexClassification(fieldType);
-      if (classification.good) {
+    for (final IndexDefinition index : storage.indices) {
+      final var value = indexValueOf(index, storage, environment);
+      if (value != null) {
         if (first) {
           first = false;
         } else {
           sb.append(", ");
         }
-        sb.append("").append(String.format(classification.indexValueMethod, entry.getKey()));
+        sb.append(value);
       }
     }
     sb.append("};").tabDown().writeNewline();
     sb.append("}").writeNewline();
   }
+
   public static void writeIndexConstant(final String name, final StructureStorage storage, final StringBuilderWithTabs sb, final Environment environment) {
     sb.append("private static String[] __INDEX_COLUMNS_").append(name).append(" = new String[] {");
     boolean first = true;
-    for (final Map.Entry<String, FieldDefinition> entry : storage.fields.entrySet()) {
-      if (!storage.indexSet.contains(entry.getKey())) {
-        continue;
-      }
-      final var fieldType = environment.rules.Resolve(entry.getValue().type, false);
-      IndexClassification classification = new IndexClassification(fieldType);
-      if (classification.good) {
+    for (final IndexDefinition index : storage.indices) {
+      if (indexValueOf(index, storage, environment) != null) {
         if (first) {
           first = false;
         } else {
           sb.append(", ");
         }
-        sb.append("\"").append(entry.getKey()).append("\"");
+        sb.append("\"").append(index.key).append("\"");
       }
     }
     sb.append("};").writeNewline();
@@ -46,6 +46,7 @@ import ape.translator.tree.types.traits.details.DetailContainsAnEmbeddedType;
 import ape.translator.tree.types.traits.details.DetailInventDefaultValueExpression;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Map;
 
 /** responsible for writing the code for records */
@@ -180,10 +181,16 @@ public class CodeGenRecords {
   public static String make(String parent, String className, TyType fieldType, Expression valueOverride, Environment environment, boolean link) {
     StringBuilder result = new StringBuilder();
     if (fieldType instanceof TyReactiveTable) {
-      final var numberIndicies = ((TyReactiveRecord) ((TyReactiveTable) fieldType).getEmbeddedType(environment)).storage.indices.size();
+      final var recordStorage = ((TyReactiveRecord) ((TyReactiveTable) fieldType).getEmbeddedType(environment)).storage;
+      final var numberIndicies = recordStorage.indices.size();
+      final var numberSearchIndicies = recordStorage.searchIndices.size();
       result.append("new RxTable<>(__self, ").append(parent).append(", \"").append(className);
       result.append("\", (RxParent __parent) -> new RTx").append(((TyReactiveTable) fieldType).recordName);
-      result.append("(__parent).__link(), ").append(numberIndicies).append(")");
+      result.append("(__parent).__link(), ").append(numberIndicies);
+      if (numberSearchIndicies > 0) {
+        result.append(", ").append(numberSearchIndicies);
+      }
+      result.append(")");
     } else if (fieldType instanceof TyReactiveReplicationStatus) {
       ReplicationDefinition defn = ((TyReactiveReplicationStatus) fieldType).definition;
       // the memory overhead of the closure is a bit annoying
@@ -279,6 +286,12 @@ public class CodeGenRecords {
           classFields.append("private final RxCache __c").append(fieldName).append(";").writeNewline();
           classConstructorX.append("__c").append(fieldName).append(" = new RxCache(__self, this);").writeNewline();
         }
+        final var aggregate = CodeGenTableAggregates.detect(fdInOrder, environment);
+        if (aggregate != null) {
+          String aggregateType = "TableAggregate<" + aggregate.recordType + ", " + aggregate.valueType + ", " + boxType + ">";
+          classFields.append("private final ").append(aggregateType).append(" __").append(fieldName).append("_aggregate;").writeNewline();
+          classConstructorX.append("__").append(fieldName).append("_aggregate = new ").append(aggregateType).append("(this, ").append(aggregate.extract).append(", ").append(aggregate.accumulator).append(");").writeNewline();
+        }
         if (fdInOrder.hasCachePolicy()) {
           classConstructorX.append(fieldName).append(" = new RxCachedLazy<").append(lazyType.getJavaBoxType(environment));
         } else {
@@ -288,6 +301,8 @@ public class CodeGenRecords {
           classConstructorX.append(">(this,__c").append(fieldName).append(".wrap(() -> (").append(boxType).append(")(");
           fdInOrder.computeExpression.writeJava(classConstructorX, environment.scopeWithCache("__c" + fieldName).scopeWithComputeContext(ComputeContext.Computation));
           classConstructorX.append("))");
+        } else if (aggregate != null) {
+          classConstructorX.append(">(this, () -> (").append(boxType).append(")(__").append(fieldName).append("_aggregate.compute())");
         } else {
           classConstructorX.append(">(this, () -> (").append(boxType).append(")(");
           fdInOrder.computeExpression.writeJava(classConstructorX, environment.scopeWithCache("__c" + fieldName).scopeWithComputeContext(ComputeContext.Computation));
@@ -325,6 +340,9 @@ public class CodeGenRecords {
             classLinker.append(watched).append(".__subscribe(__").append(fieldName).append("_").append(watched).append(");").writeNewline(); // SUPER AWESOME MODE
             classLinker.append(fieldName).append(".__guard(").append(watched).append(",__").append(fieldName).append("_").append(watched).append(");").writeNewline();
           }
+          if (aggregate != null) {
+            classLinker.append("__").append(fieldName).append("_aggregate.bind(").append(aggregate.table).append(");").writeNewline();
+          }
         }
         if (hasCache) {
           classConstructorX.append("__c").append(fieldName).append(".__subscribe(").append(fieldName).append(");").writeNewline();
@@ -457,11 +475,16 @@ public class CodeGenRecords {
 
   public static void writeSettles(final StructureStorage storage, final StringBuilderWithTabs sb, Environment environment, boolean isRoot) {
     ArrayList<String> thingsToSettle = new ArrayList<>();
+    // parallel broadcasts require every formula to be computed on the document thread
+    HashSet<String> computeWhenSettled = new HashSet<>();
     for (final FieldDefinition fdInOrder : storage.fieldsByOrder) {
       final var fieldName = fdInOrder.name;
       final var fieldType = environment.rules.Resolve(fdInOrder.type, false);
       if (fieldType instanceof TyReactiveLazy && fdInOrder.computeExpression != null) {
         thingsToSettle.add(fieldName);
+        if (environment.document.isParallelBroadcast() && fdInOrder.watching.services.isEmpty()) {
+          computeWhenSettled.add(fieldName);
+        }
         for (final String watched : fdInOrder.watching.pubsub) {
           thingsToSettle.add("__" + fieldName + "_" + watched);
         }
@@ -490,7 +513,7 @@ public class CodeGenRecords {
         sb.append("@Override").writeNewline();
         sb.append("public void __settle(Set<Integer> __viewers) {").tabUp().writeNewline();
         for (int k = 0; k < n; k++) {
-          sb.append(thingsToSettle.get(k)).append(".__settle(__viewers);");
+          sb.append(thingsToSettle.get(k)).append(computeWhenSettled.contains(thingsToSettle.get(k)) ? ".__settleAndCompute(__viewers);" : ".__settle(__viewers);");
           if (k == n - 1) {
             sb.tabDown();
           }
@@ -502,7 +525,7 @@ public class CodeGenRecords {
       sb.append("@Override").writeNewline();
       sb.append("public void __settle(Set<Integer> __viewers) {").tabUp().writeNewline();
       for (int k = 0; k < n; k++) {
-        sb.append(thingsToSettle.get(k)).append(".__settle(__viewers);").writeNewline();
+        sb.append(thingsToSettle.get(k)).append(computeWhenSettled.contains(thingsToSettle.get(k)) ? ".__settleAndCompute(__viewers);" : ".__settle(__viewers);").writeNewline();
       }
       sb.append("__lowerInvalid();").tabDown().writeNewline();
       sb.append("}").writeNewline();
@@ -0,0 +1,172 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.translator.codegen;
+
+import ape.translator.env.Environment;
+import ape.translator.tree.expressions.ApplyArguments;
+import ape.translator.tree.expressions.Expression;
+import ape.translator.tree.expressions.FieldLookup;
+import ape.translator.tree.expressions.Lookup;
+import ape.translator.tree.expressions.linq.Iterate;
+import ape.translator.tree.expressions.operators.Parentheses;
+import ape.translator.tree.types.TyType;
+import ape.translator.tree.types.reactive.TyReactiveDouble;
+import ape.translator.tree.types.reactive.TyReactiveInteger;
+import ape.translator.tree.types.reactive.TyReactiveLong;
+import ape.translator.tree.types.reactive.TyReactiveRecord;
+import ape.translator.tree.types.reactive.TyReactiveTable;
+import ape.translator.tree.types.structures.FieldDefinition;
+
+import java.util.HashMap;
+
+/** recognize formulas that aggregate over an entire table such that they can be maintained incrementally via TableAggregate */
+public class CodeGenTableAggregates {
+  /** LibStatistics function -> {type of the field, accumulator} */
+  private static final HashMap<String, String[]> ACCUMULATORS = new HashMap<>();
+
+  static {
+    ACCUMULATORS.put("LibStatistics.sumInts", new String[]{"Integer", "TableAccumulators.sumInts()"});
+    ACCUMULATORS.put("LibStatistics.sumLongs", new String[]{"Long", "TableAccumulators.sumLongs()"});
+    ACCUMULATORS.put("LibStatistics.sumDoubles", new String[]{"Double", "TableAccumulators.sumDoubles()"});
+    ACCUMULATORS.put("LibStatistics.avgInts", new String[]{"Integer", "TableAccumulators.averageInts()"});
+    ACCUMULATORS.put("LibStatistics.avgLongs", new String[]{"Long", "TableAccumulators.averageLongs()"});
+    ACCUMULATORS.put("LibStatistics.avgDoubles", new String[]{"Double", "TableAccumulators.averageDoubles()"});
+    ACCUMULATORS.put("LibStatistics.minInts", new String[]{"Integer", "TableAccumulators.minimum()"});
+    ACCUMULATORS.put("LibStatistics.minLongs", new String[]{"Long", "TableAccumulators.minimum()"});
+    ACCUMULATORS.put("LibStatistics.minDoubles", new String[]{"Double", "TableAccumulators.minimum()"});
+    ACCUMULATORS.put("LibStatistics.maxInts", new String[]{"Integer", "TableAccumulators.maximum()"});
+    ACCUMULATORS.put("LibStatistics.maxLongs", new String[]{"Long", "TableAccumulators.maximum()"});
+    ACCUMULATORS.put("LibStatistics.maxDoubles", new String[]{"Double", "TableAccumulators.maximum()"});
+  }
+
+  /** how to maintain the formula */
+  public static class Plan {
+    public final String table;
+    public final String recordType;
+    public final String valueType;
+    public final String extract;
+    public final String accumulator;
+
+    public Plan(String table, String recordType, String valueType, String extract, String accumulator) {
+      this.table = table;
+      this.recordType = recordType;
+      this.valueType = valueType;
+      this.extract = extract;
+      this.accumulator = accumulator;
+    }
+  }
+
+  /** find the plan for the formula; null if the formula must be recomputed in full */
+  public static Plan detect(final FieldDefinition fd, final Environment environment) {
+    if (fd.computeExpression == null || fd.hasCachePolicy()) {
+      return null;
+    }
+    // the formula must depend on exactly one table, and nothing else
+    if (fd.watching.tables.size() != 1 || !fd.watching.maps.isEmpty() || !fd.watching.services.isEmpty() || !fd.watching.assocs.isEmpty()) {
+      return null;
+    }
+    String table = fd.watching.tables.iterator().next();
+    if (!fd.watching.pubsub.contains(table) || fd.watching.pubsub.size() != 1) {
+      return null;
+    }
+    for (String variable : fd.watching.variables) {
+      if (!variable.equals(table)) {
+        return null;
+      }
+    }
+    if (!(strip(fd.computeExpression) instanceof ApplyArguments)) {
+      return null;
+    }
+    ApplyArguments apply = (ApplyArguments) strip(fd.computeExpression);
+    String function = apply.boundJavaFunction();
+    if (function == null || apply.args.size() != 0 || !(apply.expression instanceof FieldLookup)) {
+      return null;
+    }
+    Expression target = strip(((FieldLookup) apply.expression).expression);
+    if ("size".equals(function)) {
+      TyReactiveRecord record = recordOfIterate(target, table, environment);
+      if (record == null) {
+        return null;
+      }
+      String recordType = record.getJavaBoxType(environment);
+      return new Plan(table, recordType, "Integer", "(" + recordType + " __item) -> 1", "TableAccumulators.count()");
+    }
+    String[] accumulator = ACCUMULATORS.get(function);
+    if (accumulator == null || !(target instanceof FieldLookup)) {
+      return null;
+    }
+    FieldLookup field = (FieldLookup) target;
+    TyReactiveRecord record = recordOfIterate(strip(field.expression), table, environment);
+    if (record == null) {
+      return null;
+    }
+    FieldDefinition fieldDefinition = record.storage.fields.get(field.fieldName);
+    if (fieldDefinition == null || !accumulator[0].equals(valueTypeOf(fieldDefinition.type))) {
+      return null;
+    }
+    String recordType = record.getJavaBoxType(environment);
+    return new Plan(table, recordType, accumulator[0], "(" + recordType + " __item) -> __item." + field.fieldName + ".get()", accumulator[1]);
+  }
+
+  /** only plain reactive numbers can be read directly out of the row */
+  private static String valueTypeOf(TyType type) {
+    if (type instanceof TyReactiveInteger) {
+      return "Integer";
+    }
+    if (type instanceof TyReactiveLong) {
+      return "Long";
+    }
+    if (type instanceof TyReactiveDouble) {
+      return "Double";
+    }
+    return null;
+  }
+
+  /** is the expression "iterate $table" without any where/order/limit; if so, return the record */
+  private static TyReactiveRecord recordOfIterate(Expression expression, String table, Environment environment) {
+    if (!(expression instanceof Iterate)) {
+      return null;
+    }
+    Expression source = strip(((Iterate) expression).expression);
+    if (!(source instanceof Lookup) || !((Lookup) source).variableToken.text.equals(table)) {
+      return null;
+    }
+    TyType tableType = source.getCachedType();
+    if (!(tableType instanceof TyReactiveTable)) {
+      return null;
+    }
+    TyType recordType = ((TyReactiveTable) tableType).getEmbeddedType(environment);
+    if (recordType instanceof TyReactiveRecord) {
+      return (TyReactiveRecord) recordType;
+    }
+    return null;
+  }
+
+  private static Expression strip(Expression expression) {
+    while (expression instanceof Parentheses) {
+      expression = ((Parentheses) expression).expression;
+    }
+    return expression;
+  }
+}
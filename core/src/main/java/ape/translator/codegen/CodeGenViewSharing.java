@@ -0,0 +1,81 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.translator.codegen;
+
+import ape.translator.env.Environment;
+import ape.translator.tree.common.StringBuilderWithTabs;
+import ape.translator.tree.privacy.PrivatePolicy;
+import ape.translator.tree.privacy.PublicPolicy;
+import ape.translator.tree.types.TyType;
+import ape.translator.tree.types.reactive.TyReactiveRecord;
+import ape.translator.tree.types.structures.FieldDefinition;
+import ape.translator.tree.types.structures.StructureStorage;
+
+/** determine which viewers see exactly the same data such that a single delta can be shared between their views */
+public class CodeGenViewSharing {
+  public static void writeViewShareKey(final StringBuilderWithTabs sb, final Environment environment) {
+    sb.append("@Override").writeNewline();
+    sb.append("public NtPrincipal __getViewShareKey(NtPrincipal __who) {").tabUp().writeNewline();
+    sb.append("return ").append(shareKeyOf(environment)).append(";").tabDown().writeNewline();
+    sb.append("}").writeNewline();
+  }
+
+  /** the expression for the key: null means no sharing, NO_ONE means everyone shares, and __who means the views of the same person share */
+  private static String shareKeyOf(final Environment environment) {
+    // the viewer state is per view, so views may only share when there is no viewer state
+    StructureStorage viewer = environment.document.viewerType.storage;
+    if (viewer.fields.size() > 0 || viewer.viewFilters.size() > 0) {
+      return "null";
+    }
+    boolean independentOfWho = true;
+    for (TyType type : environment.document.types.values()) {
+      if (type instanceof TyReactiveRecord) {
+        StructureStorage storage = ((TyReactiveRecord) type).storage;
+        // bubbles have guards tied to the view id
+        if (storage.bubbles.size() > 0) {
+          return "null";
+        }
+        independentOfWho &= isIndependentOfWho(storage);
+      }
+    }
+    if (environment.document.root.storage.bubbles.size() > 0) {
+      return "null";
+    }
+    independentOfWho &= isIndependentOfWho(environment.document.root.storage);
+    return independentOfWho ? "NtPrincipal.NO_ONE" : "__who";
+  }
+
+  /** does the storage show the same thing to everyone */
+  private static boolean isIndependentOfWho(StructureStorage storage) {
+    if (storage.policiesForVisibility.size() > 0) {
+      return false;
+    }
+    for (FieldDefinition fd : storage.fields.values()) {
+      if (!(fd.policy instanceof PublicPolicy || fd.policy instanceof PrivatePolicy)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
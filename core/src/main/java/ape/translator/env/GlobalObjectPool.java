@@ -39,7 +39,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.TreeSet;
 
-/** a pool of global objects like Math, Random, String */
+/** a pool of global objects like Math, Random, String; a pool (and its types) is confined to a single compilation, so parallel compiles each create their own */
 public class GlobalObjectPool {
   protected final HashMap<String, HashMap<String, TyNativeFunctional>> extensions;
   private final HashMap<String, TyNativeGlobalObject> globalObjects;
@@ -42,8 +42,9 @@ import ape.runtime.sys.LivingDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.TreeMap;
 
@@ -51,12 +52,15 @@ import java.util.TreeMap;
 public class LivingDocumentFactory {
   private static final Logger LOG = LoggerFactory.getLogger(LivingDocumentFactory.class);
   private static final ExceptionLogger LOGGER = ExceptionLogger.FOR(LOG);
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, DocumentMonitor.class);
+  private static final MethodType POLICY_TYPE = MethodType.methodType(boolean.class, CoreRequestContext.class);
   public final String space;
   public final String reflection;
-  private final Constructor<?> constructor;
-  private final Method creationPolicyMethod;
-  private final Method inventionPolicyMethod;
-  private final Method canSendWhileDisconnectPolicyMethod;
+  /** the hot paths are bound once into exact method handles: (DocumentMonitor)Object and (CoreRequestContext)boolean */
+  private final MethodHandle constructor;
+  private final MethodHandle creationPolicy;
+  private final MethodHandle inventionPolicy;
+  private final MethodHandle canSendWhileDisconnectPolicy;
   public final int maximum_history;
   public final boolean delete_on_close;
   public final ServiceRegistry registry;
@@ -67,6 +71,8 @@ public class LivingDocumentFactory {
   public final int temporalResolutionMilliseconds;
   public boolean readonly;
   public final long sweep_export_delay;
+  public final int parallelBroadcastThreshold;
+  public final boolean binarySnapshot;
 
   public LivingDocumentFactory(CachedByteCode code, Deliverer deliverer, TreeMap<Integer, PrivateKeyBundle> keys) throws ErrorCodeException {
     try {
@@ -80,10 +86,12 @@ public class LivingDocumentFactory {
       // NOTE: we copy because the loader will destroy aspects of the hashmap, #wild
       final var loader = new ByteArrayClassLoader(new HashMap<>(code.classBytes));
       final Class<?> clazz = Class.forName(code.className, true, loader);
-      constructor = clazz.getConstructor(DocumentMonitor.class);
-      creationPolicyMethod = clazz.getMethod("__onCanCreate", CoreRequestContext.class);
-      inventionPolicyMethod = clazz.getMethod("__onCanInvent", CoreRequestContext.class);
-      canSendWhileDisconnectPolicyMethod = clazz.getMethod("__onCanSendWhileDisconnected", CoreRequestContext.class);
+      // bind the hot paths once such that invocations neither box arguments and results nor wrap exceptions
+      final var lookup = MethodHandles.lookup();
+      constructor = lookup.unreflectConstructor(clazz.getConstructor(DocumentMonitor.class)).asType(CONSTRUCTOR_TYPE);
+      creationPolicy = lookup.unreflect(clazz.getMethod("__onCanCreate", CoreRequestContext.class)).asType(POLICY_TYPE);
+      inventionPolicy = lookup.unreflect(clazz.getMethod("__onCanInvent", CoreRequestContext.class)).asType(POLICY_TYPE);
+      canSendWhileDisconnectPolicy = lookup.unreflect(clazz.getMethod("__onCanSendWhileDisconnected", CoreRequestContext.class)).asType(POLICY_TYPE);
       HashMap<String, Object> config = (HashMap<String, Object>) (clazz.getMethod("__config").invoke(null));
       maximum_history = extractMaximumHistory(config);
       delete_on_close = extractDeleteOnClose(config);
@@ -92,6 +100,8 @@ public class LivingDocumentFactory {
       sweep_export_delay = extractSweepExportDelay(config);
       appMode = freq > 0;
       appDelay = freq;
+      parallelBroadcastThreshold = extractParallelBroadcastThreshold(config);
+      binarySnapshot = extractBinarySnapshot(config);
       this.reflection = code.reflection;
       this.registry = new ServiceRegistry(code.spaceName);
       this.registry.resolve((HashMap<String, HashMap<String, Object>>) (clazz.getMethod("__services").invoke(null)), keys);
@@ -104,24 +114,24 @@ public class LivingDocumentFactory {
 
   public boolean canInvent(CoreRequestContext context) throws ErrorCodeException {
     try {
-      return (Boolean) inventionPolicyMethod.invoke(null, context);
-    } catch (Exception ex) {
+      return (boolean) inventionPolicy.invokeExact(context);
+    } catch (Throwable ex) {
       throw ErrorCodeException.detectOrWrap(ErrorCodes.FACTORY_CANT_INVOKE_CAN_INVENT, ex, LOGGER);
     }
   }
 
   public boolean canCreate(CoreRequestContext context) throws ErrorCodeException {
     try {
-      return (Boolean) creationPolicyMethod.invoke(null, context);
-    } catch (Exception ex) {
+      return (boolean) creationPolicy.invokeExact(context);
+    } catch (Throwable ex) {
       throw ErrorCodeException.detectOrWrap(ErrorCodes.FACTORY_CANT_INVOKE_CAN_CREATE, ex, LOGGER);
     }
   }
 
   public boolean canSendWhileDisconnected(CoreRequestContext context) throws ErrorCodeException {
     try {
-      return (Boolean) canSendWhileDisconnectPolicyMethod.invoke(null, context);
-    } catch (Exception ex) {
+      return (boolean) canSendWhileDisconnectPolicy.invokeExact(context);
+    } catch (Throwable ex) {
       throw ErrorCodeException.detectOrWrap(ErrorCodes.FACTORY_CANT_INVOKE_CAN_SEND_WHILE_DISCONNECTED, ex, LOGGER);
     }
   }
@@ -144,6 +154,15 @@ public class LivingDocumentFactory {
     }
   }
 
+  private static int extractParallelBroadcastThreshold(HashMap<String, Object> config) {
+    Object value = config.get("parallel_broadcast");
+    if (value != null && value instanceof Integer) {
+      return Math.max(((Integer) value).intValue(), 0);
+    } else {
+      return 0; // disabled
+    }
+  }
+
   private static boolean extractDeleteOnClose(HashMap<String, Object> config) {
     Object value = config.get("delete_on_close");
     if (value != null && value instanceof Boolean) {
@@ -162,6 +181,15 @@ public class LivingDocumentFactory {
     }
   }
 
+  private static boolean extractBinarySnapshot(HashMap<String, Object> config) {
+    Object value = config.get("binary_snapshot");
+    if (value != null && value instanceof Boolean) {
+      return ((Boolean) value).booleanValue();
+    } else {
+      return false;
+    }
+  }
+
   private static int extractFrequency(HashMap<String, Object> config) {
     Object value = config.get("frequency");
     if (value != null && value instanceof Integer) {
@@ -221,8 +249,8 @@ public class LivingDocumentFactory {
 
   public LivingDocument create(final DocumentMonitor monitor) throws ErrorCodeException {
     try {
-      return (LivingDocument) constructor.newInstance(monitor);
-    } catch (final Exception ex) {
+      return (LivingDocument) (Object) constructor.invokeExact(monitor);
+    } catch (final Throwable ex) {
       throw ErrorCodeException.detectOrWrap(ErrorCodes.FACTORY_CANT_CREATE_OBJECT_DUE_TO_CATASTROPHE, ex, LOGGER);
     }
   }
@@ -648,7 +648,7 @@ public class Parser {
 
     var nextOrClose = tokens.pop();
     while (!nextOrClose.isSymbolWithTextEq("}")) {
-      if (!nextOrClose.isIdentifier("create", "invent", "send", "maximum_history", "delete_on_close", "temporal_resolution_ms", "sweep_export_delay", "frequency", "readonly")) {
+      if (!nextOrClose.isIdentifier("create", "invent", "send", "maximum_history", "delete_on_close", "temporal_resolution_ms", "sweep_export_delay", "frequency", "readonly", "parallel_broadcast", "binary_snapshot")) {
         throw new ParseException("Parser was expecting a static definition. Candidates are create, invent, send, maximum_history, delete_on_close, frequency", tokens.getLastTokenIfAvailable());
       }
       switch (nextOrClose.text) {
@@ -667,6 +667,8 @@ public class Parser {
         case "temporal_resolution_ms":
         case "sweep_export_delay":
         case "readonly":
+        case "parallel_broadcast":
+        case "binary_snapshot":
           definitions.add(define_config(staticScope, nextOrClose));
           break;
       }
@@ -1500,6 +1502,29 @@ public class Parser {
   }
 
   public IndexDefinition define_indexing(final Token indexToken) throws AdamaLangException {
+    final var open = tokens.popIf((t) -> t.isSymbolWithTextEq("("));
+    if (open != null) {
+      final var columns = new ArrayList<TokenizedItem<Token>>();
+      columns.add(new TokenizedItem<>(id()));
+      var close = tokens.popIf((t) -> t.isSymbolWithTextEq(")"));
+      while (close == null) {
+        final var comma = consumeExpectedSymbol(",");
+        final var column = new TokenizedItem<>(id());
+        column.before(comma);
+        columns.add(column);
+        close = tokens.popIf((t) -> t.isSymbolWithTextEq(")"));
+      }
+      return new IndexDefinition(indexToken, open, columns, close, consumeExpectedSymbol(";"));
+    }
+    // index search name; builds a full-text index whereas index search; indexes a field named search
+    final var afterSearch = tokens.peek(1);
+    if (afterSearch != null && afterSearch.isIdentifier()) {
+      final var searchToken = tokens.popIf((t) -> t.isIdentifier("search"));
+      if (searchToken != null) {
+        final var name = id();
+        return new IndexDefinition(indexToken, searchToken, name, consumeExpectedSymbol(";"));
+      }
+    }
     final var name = id();
     final var semicolon = consumeExpectedSymbol(";");
     return new IndexDefinition(indexToken, name, semicolon);
@@ -707,6 +707,37 @@ public class Document implements TopLevelDocumentHandler {
       dc.internalTyping(environment); // TODO: remove
     }
 
+    if (isParallelBroadcast()) {
+      ArrayList<StructureStorage> storages = new ArrayList<>();
+      storages.add(root.storage);
+      for (TyType type : types.values()) {
+        if (type instanceof TyReactiveRecord) {
+          storages.add(((TyReactiveRecord) type).storage);
+        }
+      }
+      boolean hasBubbles = false;
+      boolean hasPolicies = false;
+      boolean hasSharedFormulas = false;
+      for (StructureStorage storage : storages) {
+        hasBubbles |= storage.bubbles.size() > 0;
+        hasPolicies |= storage.policies.size() > 0;
+        for (FieldDefinition fd : storage.fieldsByOrder) {
+          if (fd.computeExpression != null) {
+            hasSharedFormulas |= fd.watching.tables.size() > 0 || fd.watching.maps.size() > 0 || fd.watching.services.size() > 0 || fd.watching.assocs.size() > 0;
+          }
+        }
+      }
+      if (hasBubbles) {
+        createError(configs.get("parallel_broadcast"), "parallel_broadcast requires views to be independent, but bubbles share table and map guards between views");
+      }
+      if (hasPolicies) {
+        createError(configs.get("parallel_broadcast"), "parallel_broadcast requires views to be independent, but custom policies run code for each viewer");
+      }
+      if (hasSharedFormulas) {
+        createError(configs.get("parallel_broadcast"), "parallel_broadcast requires views to be independent, but formulas which read tables, maps, services, or graphs share state between views");
+      }
+    }
+
     TopologicalSort<String> preventSerializationRecursion = new TopologicalSort<>();
     for (TyType type : types.values()) {
       if (type instanceof IsStructure) {
@@ -722,6 +753,11 @@ public class Document implements TopLevelDocumentHandler {
     return !hasErrors();
   }
 
+  /** does the document build the broadcasts of views in parallel */
+  public boolean isParallelBroadcast() {
+    return configs.containsKey("parallel_broadcast");
+  }
+
   /** does the document have errors */
   public boolean hasErrors() {
     return errorLists.size() > 0;
@@ -747,6 +783,7 @@ public class Document implements TopLevelDocumentHandler {
     CodeGenFunctions.writeFunctionsJava(sb, environment);
     CodeGenServices.writeServices(sb, environment);
     CodeGenViewStateFilter.writeViewStateFilter(sb, environment);
+    CodeGenViewSharing.writeViewShareKey(sb, environment);
     CodeGenMessageHandling.writeMessageHandlers(sb, environment);
     CodeGenExports.writeExports(sb, environment);
     CodeGenMetrics.writeMetricsDump(sb, environment);
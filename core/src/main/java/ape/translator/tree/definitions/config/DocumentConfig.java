@@ -70,10 +70,12 @@ public class DocumentConfig extends StaticPiece {
       case "maximum_history":
       case "frequency":
       case "temporal_resolution_ms":
+      case "parallel_broadcast":
         next.rules.IsInteger(value.typing(next, new TyNativeInteger(TypeBehavior.ReadOnlyNativeValue, null, null)), false);
         return;
       case "delete_on_close":
       case "readonly":
+      case "binary_snapshot":
         next.rules.IsBoolean(value.typing(next, new TyNativeInteger(TypeBehavior.ReadOnlyNativeValue, null, null)), false);
         return;
     }
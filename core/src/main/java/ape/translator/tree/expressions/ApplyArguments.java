@@ -51,9 +51,9 @@ import java.util.function.Consumer;
  * that the expression is a function of some sorts
  */
 public class ApplyArguments extends Expression implements LatentCodeSnippet {
-  private final ArrayList<TokenizedItem<Expression>> args;
+  public final ArrayList<TokenizedItem<Expression>> args;
   private final Token closeParenToken;
-  private final Expression expression;
+  public final Expression expression;
   private final Token openParenToken;
   private TyType aggregateInputType;
   private TyType aggregateOutputType;
@@ -186,6 +186,14 @@ public class ApplyArguments extends Expression implements LatentCodeSnippet {
     return null;
   }
 
+  /** the java function bound during typing (null if not bound) */
+  public String boundJavaFunction() {
+    if (functionInstance != null) {
+      return functionInstance.javaFunction;
+    }
+    return null;
+  }
+
   @Override
   public void writeJava(final StringBuilder sb, final Environment environment) {
     if (functionInstance != null) {
@@ -72,6 +72,10 @@ public class Limit extends LinqExpression {
   @Override
   public void writeJava(final StringBuilder sb, final Environment environment) {
     final var computeEnv = environment.scopeWithComputeContext(ComputeContext.Computation);
+    if (sql instanceof OrderBy) {
+      ((OrderBy) sql).writeJavaWithLimit(sb, environment, intermediateExpression, limit, computeEnv);
+      return;
+    }
     sql.writeJava(sb, environment);
     sb.append(".limit(").append(intermediateExpression ? "false, " : "true, ");
     limit.writeJava(sb, computeEnv);
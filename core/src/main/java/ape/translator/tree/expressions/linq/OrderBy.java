@@ -173,6 +173,19 @@ public class OrderBy extends LinqExpression implements LatentCodeSnippet {
 
   @Override
   public void writeJava(final StringBuilder sb, final Environment environment) {
+    writeOrderedSqlAndComparator(sb, environment);
+    sb.append(".orderBy(").append(intermediateExpression ? "false, " : "true, ").append(comparatorName).append(")");
+  }
+
+  /** fuse this ordering with the limit that immediately follows it such that only the top entries are kept */
+  public void writeJavaWithLimit(final StringBuilder sb, final Environment environment, final boolean limitIntermediate, final Expression limit, final Environment limitEnvironment) {
+    writeOrderedSqlAndComparator(sb, environment);
+    sb.append(".orderByLimit(").append(limitIntermediate ? "false, " : "true, ").append(comparatorName).append(", ");
+    limit.writeJava(sb, limitEnvironment);
+    sb.append(")");
+  }
+
+  private void writeOrderedSqlAndComparator(final StringBuilder sb, final Environment environment) {
     final var comparatorNameBuilder = new StringBuilder();
     comparatorNameBuilder.append("__ORDER_" + elementType.name());
     sql.writeJava(sb, environment);
@@ -184,7 +197,6 @@ public class OrderBy extends LinqExpression implements LatentCodeSnippet {
       }
     }
     comparatorName = comparatorNameBuilder.toString();
-    sb.append(".orderBy(").append(intermediateExpression ? "false, " : "true, ").append(comparatorName).append(")");
     environment.document.add(comparatorName, this);
   }
 
@@ -45,6 +45,7 @@ import ape.translator.tree.types.natives.TyNativeMaybe;
 import ape.translator.tree.types.natives.*;
 import ape.translator.tree.types.reactive.TyReactiveMaybe;
 import ape.translator.tree.types.structures.FieldDefinition;
+import ape.translator.tree.types.structures.IndexDefinition;
 import ape.translator.tree.types.structures.StructureStorage;
 import ape.translator.tree.types.traits.IsStructure;
 import ape.translator.tree.types.traits.details.DetailComputeRequiresGet;
@@ -55,6 +56,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Consumer;
 
 /** performs a filter on an sql statemeent ($sql) where (expr) */
@@ -118,6 +120,26 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
     return null;
   }
 
+  /** find the needle of a search (needle =? FIELD) against the given field within the conjunctions of the expression */
+  public static Expression findSearchNeedle(final Expression root, final String aliasName, final String fieldName) {
+    if (root instanceof Parentheses) {
+      return findSearchNeedle(((Parentheses) root).expression, aliasName, fieldName);
+    }
+    if (root instanceof BinaryExpression) {
+      if (((BinaryExpression) root).op == BinaryOp.LogicalAnd) {
+        final var left = findSearchNeedle(((BinaryExpression) root).left, aliasName, fieldName);
+        if (left != null) {
+          return left;
+        }
+        return findSearchNeedle(((BinaryExpression) root).right, aliasName, fieldName);
+      }
+      if (((BinaryExpression) root).op == BinaryOp.Search && isExpressionIndexedVariable(((BinaryExpression) root).right, aliasName, fieldName)) {
+        return ((BinaryExpression) root).left;
+      }
+    }
+    return null;
+  }
+
   public static boolean isExpressionIndexedVariable(final Expression root, final String aliasName, final String variableCheck) {
     if (root instanceof Parentheses) {
       return isExpressionIndexedVariable(((Parentheses) root).expression, aliasName, variableCheck);
@@ -135,12 +157,19 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
   private boolean buildSoloIndex(final Environment environment, Expression expr, boolean allowPrimaryKey) {
     final var intersectCodeByName = new TreeMap<String, String>();
     final var intersectModeByName = new TreeMap<String, String>();
+    final var maybeByName = new TreeSet<String>();
+    final var compositeColumns = new TreeSet<String>();
+    for (final IndexDefinition index : structureStorage.indices) {
+      if (index.isComposite()) {
+        compositeColumns.addAll(index.columnNames());
+      }
+    }
     String primaryExpr = null;
     boolean added = false;
     for (final Map.Entry<String, FieldDefinition> entry : structureStorage.fields.entrySet()) {
       boolean notIndex = !structureStorage.indexSet.contains(entry.getKey());
       boolean primary = entry.getKey().equals("id");
-      if (notIndex && !primary) {
+      if (notIndex && !primary && !compositeColumns.contains(entry.getKey())) {
         continue;
       }
       final var fieldType = environment.rules.Resolve(entry.getValue().type, false);
@@ -151,7 +180,7 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
         var indexValue = findIndex(expr, aliasToken != null ? aliasToken.text : null, entry.getKey(), BinaryOp.Equal);
         if (!primary) {
           String indexLookupMode = "IndexQuerySet.LookupMode.Equals";
-          if (indexValue == null && classification.isIntegral) {
+          if (indexValue == null && classification.isIntegral && !notIndex) {
             for (BinaryOp mode : new BinaryOp[] {BinaryOp.LessThan, BinaryOp.LessThanOrEqual, BinaryOp.GreaterThan, BinaryOp.GreaterThanOrEqual}) {
               indexValue = findIndex(expr, aliasToken != null ? aliasToken.text : null, entry.getKey(), mode);
               if (indexValue != null) {
@@ -163,6 +192,9 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
           if (indexValue != null) {
             TyType indexValueType = indexValue.getCachedType();
             boolean isMaybe = indexValueType instanceof TyNativeMaybe || indexValueType instanceof TyReactiveMaybe;
+            if (isMaybe) {
+              maybeByName.add(entry.getKey());
+            }
             intersectModeByName.put(entry.getKey(), indexLookupMode);
             var indexValueString = compileIndexExpr(indexValue, environment);
             if (indexValueString != null) {
@@ -195,14 +227,53 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
         }
       }
     }
+    // a composite index is usable when every column is pinned by equality; the columns it covers need no further intersection
+    final var compositeCodeByIndex = new TreeMap<Integer, String>();
+    final var coveredByComposite = new TreeSet<String>();
+    for (var k = 0; k < structureStorage.indices.size(); k++) {
+      final var index = structureStorage.indices.get(k);
+      if (index.isComposite()) {
+        final var values = new ArrayList<String>();
+        for (final String column : index.columnNames()) {
+          final var code = intersectCodeByName.get(column);
+          if (code != null && "IndexQuerySet.LookupMode.Equals".equals(intersectModeByName.get(column)) && !maybeByName.contains(column)) {
+            values.add(code);
+          }
+        }
+        if (values.size() == index.columns.size()) {
+          compositeCodeByIndex.put(k, CodeGenIndexing.compose(values));
+          coveredByComposite.addAll(index.columnNames());
+        }
+      }
+    }
     for (var k = 0; k < structureStorage.indices.size(); k++) {
-      String nameToUse = structureStorage.indices.get(k).nameToken.text;
+      final var index = structureStorage.indices.get(k);
+      if (index.isComposite()) {
+        final var code = compositeCodeByIndex.get(k);
+        if (code != null) {
+          applyQuerySetStatements.add("__set.intersect(" + k + ", " + code + ", IndexQuerySet.LookupMode.Equals);");
+          added = true;
+        }
+        continue;
+      }
+      String nameToUse = index.nameToken.text;
       final var code = intersectCodeByName.get(nameToUse);
-      if (code != null) {
+      if (code != null && !coveredByComposite.contains(nameToUse)) {
         applyQuerySetStatements.add("__set.intersect(" + k + ", " + code + ", "+intersectModeByName.get(nameToUse)+");");
         added = true;
       }
     }
+    for (var k = 0; k < structureStorage.searchIndices.size(); k++) {
+      final var index = structureStorage.searchIndices.get(k);
+      final var needle = findSearchNeedle(expr, aliasToken != null ? aliasToken.text : null, index.nameToken.text);
+      if (needle != null) {
+        final var code = compileIndexExpr(needle, environment);
+        if (code != null) {
+          applyQuerySetStatements.add("__set.search(" + k + ", " + code + ");");
+          added = true;
+        }
+      }
+    }
     if (primaryExpr != null && allowPrimaryKey) {
       applyQuerySetStatements.add("__set.primary(" + primaryExpr + ");");
       added = true;
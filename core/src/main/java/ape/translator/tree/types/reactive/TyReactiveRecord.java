@@ -50,6 +50,7 @@ import ape.translator.tree.types.traits.details.DetailTypeHasMethods;
 import ape.translator.tree.types.traits.details.DetailTypeProducesRootLevelCode;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -87,26 +88,47 @@ public class TyReactiveRecord extends TyType implements //
     classConstructor.append("if (__owner instanceof RxTable) {").tabUp().writeNewline();
     var colNum = 0;
     for (final IndexDefinition idefn : storage.indices) {
-      classFields.append("private final ReactiveIndexInvalidator __INDEX_").append(idefn.nameToken.text).append(";").writeNewline();
-      classConstructor.append("__INDEX_").append(idefn.nameToken.text).append(" = new ReactiveIndexInvalidator(((RxTable<RTx").append(name).append(">)(__owner)).getIndex((short)").append("" + colNum).append("), this) {").tabUp().tabUp().writeNewline();
+      classFields.append("private final ReactiveIndexInvalidator __INDEX_").append(idefn.javaName).append(";").writeNewline();
+      classConstructor.append("__INDEX_").append(idefn.javaName).append(" = new ReactiveIndexInvalidator(((RxTable<RTx").append(name).append(">)(__owner)).getIndex((short)").append("" + colNum).append("), this) {").tabUp().tabUp().writeNewline();
       classConstructor.append("@Override").writeNewline();
       classConstructor.append("public int pullValue() {").tabUp().writeNewline();
-      final var fd = storage.fields.get(idefn.nameToken.text);
-      if (fd != null) {
-        classConstructor.append("  return ");
-        CodeGenIndexing.IndexClassification classification = new CodeGenIndexing.IndexClassification(fd.type);
-        classConstructor.append(String.format(classification.indexValueMethod, idefn.nameToken.text));
+      if (idefn.isComposite()) {
+        classConstructor.append("  return ").append(compositeIndexValue(idefn));
+      } else {
+        final var fd = storage.fields.get(idefn.nameToken.text);
+        if (fd != null) {
+          classConstructor.append("  return ");
+          CodeGenIndexing.IndexClassification classification = new CodeGenIndexing.IndexClassification(fd.type);
+          classConstructor.append(String.format(classification.indexValueMethod, idefn.nameToken.text));
+        }
       }
       classConstructor.append(";").tabDown().writeNewline();
       classConstructor.append("}").tabDown().writeNewline();
       classConstructor.append("};").tabDown().writeNewline();
-      classConstructor.append(idefn.nameToken.text).append(".__subscribe(__INDEX_").append(idefn.nameToken.text).append(");").writeNewline();
+      for (final String column : idefn.columnNames()) {
+        classConstructor.append(column).append(".__subscribe(__INDEX_").append(idefn.javaName).append(");").writeNewline();
+      }
       colNum++;
     }
+    var searchNum = 0;
+    for (final IndexDefinition idefn : storage.searchIndices) {
+      classFields.append("private final ReactiveTextIndexInvalidator __SEARCH_").append(idefn.javaName).append(";").writeNewline();
+      classConstructor.append("__SEARCH_").append(idefn.javaName).append(" = new ReactiveTextIndexInvalidator(((RxTable<RTx").append(name).append(">)(__owner)).getSearchIndex((short)").append("" + searchNum).append("), this) {").tabUp().tabUp().writeNewline();
+      classConstructor.append("@Override").writeNewline();
+      classConstructor.append("public String pullText() {").tabUp().writeNewline();
+      classConstructor.append("  return ").append(idefn.nameToken.text).append(".get();").tabDown().writeNewline();
+      classConstructor.append("}").tabDown().writeNewline();
+      classConstructor.append("};").tabDown().writeNewline();
+      classConstructor.append(idefn.nameToken.text).append(".__subscribe(__SEARCH_").append(idefn.javaName).append(");").writeNewline();
+      searchNum++;
+    }
     classConstructor.append("/* ok */").tabDown().writeNewline();
     classConstructor.append("} else {").tabUp().writeNewline();
     for (final IndexDefinition idefn : storage.indices) {
-      classConstructor.append("__INDEX_").append(idefn.nameToken.text).append(" = null;").writeNewline();
+      classConstructor.append("__INDEX_").append(idefn.javaName).append(" = null;").writeNewline();
+    }
+    for (final IndexDefinition idefn : storage.searchIndices) {
+      classConstructor.append("__SEARCH_").append(idefn.javaName).append(" = null;").writeNewline();
     }
     classConstructor.append("/* ok */").tabDown().writeNewline();
     classConstructor.append("}").writeNewline();
@@ -144,7 +166,7 @@ public class TyReactiveRecord extends TyType implements //
       int indexVal = 0;
       for (IndexDefinition index : storage.indices) {
         countdown--;
-        sb.append("__pubsub.index(").append("" + indexVal).append(",").append(index.nameToken.text).append(".getIndexValue());");
+        sb.append("__pubsub.index(").append("" + indexVal).append(",").append(index.isComposite() ? compositeIndexValue(index) : index.nameToken.text + ".getIndexValue()").append(");");
         if (countdown == 0) {
           sb.tabDown();
         }
@@ -156,19 +178,40 @@ public class TyReactiveRecord extends TyType implements //
     {
       sb.append("@Override").writeNewline();
       sb.append("public void __pumpIndexEvents(TablePubSub __pubsub) {");
-      int countdown = storage.indices.size();
+      // a field holds a single watcher, so group the indices (single and composite) by the fields they watch
+      final var indicesByField = new LinkedHashMap<String, ArrayList<Integer>>();
+      for (int k = 0; k < storage.indices.size(); k++) {
+        for (final String column : storage.indices.get(k).columnNames()) {
+          indicesByField.computeIfAbsent(column, (x) -> new ArrayList<>()).add(k);
+        }
+      }
+      int countdown = indicesByField.size();
       if (countdown > 0) {
         sb.tabUp().writeNewline();
       }
-      int indexVal = 0;
-      for (IndexDefinition index : storage.indices) {
+      for (Map.Entry<String, ArrayList<Integer>> entry : indicesByField.entrySet()) {
         countdown--;
-        sb.append(index.nameToken.text).append(".setWatcher(__value -> __pubsub.index(").append(indexVal + "").append(", __value));");
+        final var watched = entry.getValue();
+        if (watched.size() == 1 && !storage.indices.get(watched.get(0)).isComposite()) {
+          sb.append(entry.getKey()).append(".setWatcher(__value -> __pubsub.index(").append(watched.get(0) + "").append(", __value));");
+        } else {
+          sb.append(entry.getKey()).append(".setWatcher(__value -> {").tabUp().writeNewline();
+          int remaining = watched.size();
+          for (final int indexVal : watched) {
+            remaining--;
+            final var index = storage.indices.get(indexVal);
+            sb.append("__pubsub.index(").append(indexVal + "").append(", ").append(index.isComposite() ? compositeIndexValue(index) : "__value").append(");");
+            if (remaining == 0) {
+              sb.tabDown();
+            }
+            sb.writeNewline();
+          }
+          sb.append("});");
+        }
         if (countdown == 0) {
           sb.tabDown();
         }
         sb.writeNewline();
-        indexVal++;
       }
       sb.append("}").writeNewline();
     }
@@ -185,13 +228,19 @@ public class TyReactiveRecord extends TyType implements //
     sb.append("@Override").writeNewline();
     sb.append("public void __deindex() {").tabUp().writeNewline();
     for (final IndexDefinition idefn : storage.indices) {
-      sb.append("__INDEX_").append(idefn.nameToken.text).append(".deindex();").writeNewline();
+      sb.append("__INDEX_").append(idefn.javaName).append(".deindex();").writeNewline();
+    }
+    for (final IndexDefinition idefn : storage.searchIndices) {
+      sb.append("__SEARCH_").append(idefn.javaName).append(".deindex();").writeNewline();
     }
     sb.append("/* ok */").tabDown().writeNewline();
     sb.append("}").writeNewline();
     sb.append("public void __reindex() {").tabUp().writeNewline();
     for (final IndexDefinition idefn : storage.indices) {
-      sb.append("__INDEX_").append(idefn.nameToken.text).append(".reindex();").writeNewline();
+      sb.append("__INDEX_").append(idefn.javaName).append(".reindex();").writeNewline();
+    }
+    for (final IndexDefinition idefn : storage.searchIndices) {
+      sb.append("__SEARCH_").append(idefn.javaName).append(".reindex();").writeNewline();
     }
     sb.append("/* ok */").tabDown().writeNewline();
     sb.append("}").writeNewline();
@@ -212,6 +261,15 @@ public class TyReactiveRecord extends TyType implements //
     CodeGenDynCompare.writeDynCompare(storage, sb, environment, "RTx" + name);
   }
 
+  /** the java expression for the value of a composite index; every field within a record is reactive */
+  private static String compositeIndexValue(final IndexDefinition index) {
+    final var values = new ArrayList<String>();
+    for (final String column : index.columnNames()) {
+      values.add(column + ".getIndexValue()");
+    }
+    return CodeGenIndexing.compose(values);
+  }
+
   @Override
   public void format(Formatter formatter) {
     storage.format(formatter);
@@ -25,26 +25,102 @@ package ape.translator.tree.types.structures;
 
 import ape.translator.parser.token.Token;
 import ape.translator.parser.Formatter;
+import ape.translator.tree.common.TokenizedItem;
 
+import java.util.ArrayList;
 import java.util.function.Consumer;
 
+/** an index on a single field (index x;), a composite index over several fields (index (x, y);), or a full-text index for searching a string field (index search x;) */
 public class IndexDefinition extends StructureComponent {
   public final Token indexToken;
+  public final Token searchToken;
   public final Token nameToken;
+  public final Token openParenToken;
+  public final ArrayList<TokenizedItem<Token>> columns;
+  public final Token closeParenToken;
   public final Token semicolonToken;
+  public final String key;
+  public final String javaName;
 
   public IndexDefinition(final Token indexToken, final Token nameToken, final Token semicolonToken) {
+    this(indexToken, null, nameToken, semicolonToken);
+  }
+
+  public IndexDefinition(final Token indexToken, final Token searchToken, final Token nameToken, final Token semicolonToken) {
     this.indexToken = indexToken;
+    this.searchToken = searchToken;
     this.nameToken = nameToken;
+    this.openParenToken = null;
+    this.columns = new ArrayList<>();
+    this.columns.add(new TokenizedItem<>(nameToken));
+    this.closeParenToken = null;
+    this.semicolonToken = semicolonToken;
+    this.key = searchToken != null ? "search:" + nameToken.text : nameToken.text;
+    this.javaName = nameToken.text;
+    ingest(indexToken);
+    ingest(semicolonToken);
+  }
+
+  public IndexDefinition(final Token indexToken, final Token openParenToken, final ArrayList<TokenizedItem<Token>> columns, final Token closeParenToken, final Token semicolonToken) {
+    this.indexToken = indexToken;
+    this.searchToken = null;
+    this.nameToken = columns.get(0).item;
+    this.openParenToken = openParenToken;
+    this.columns = columns;
+    this.closeParenToken = closeParenToken;
     this.semicolonToken = semicolonToken;
+    StringBuilder key = new StringBuilder();
+    StringBuilder javaName = new StringBuilder();
+    for (TokenizedItem<Token> column : columns) {
+      if (key.length() > 0) {
+        key.append(",");
+        javaName.append("$");
+      }
+      key.append(column.item.text);
+      javaName.append(column.item.text);
+    }
+    this.key = key.toString();
+    this.javaName = javaName.toString();
     ingest(indexToken);
     ingest(semicolonToken);
   }
 
+  /** does this index span multiple fields */
+  public boolean isComposite() {
+    return openParenToken != null;
+  }
+
+  /** is this a full-text index for the search operator (=?) */
+  public boolean isSearch() {
+    return searchToken != null;
+  }
+
+  /** the names of the fields that are indexed */
+  public ArrayList<String> columnNames() {
+    ArrayList<String> names = new ArrayList<>();
+    for (TokenizedItem<Token> column : columns) {
+      names.add(column.item.text);
+    }
+    return names;
+  }
+
   @Override
   public void emit(final Consumer<Token> yielder) {
     yielder.accept(indexToken);
-    yielder.accept(nameToken);
+    if (isComposite()) {
+      yielder.accept(openParenToken);
+      for (TokenizedItem<Token> column : columns) {
+        column.emitBefore(yielder);
+        yielder.accept(column.item);
+        column.emitAfter(yielder);
+      }
+      yielder.accept(closeParenToken);
+    } else {
+      if (searchToken != null) {
+        yielder.accept(searchToken);
+      }
+      yielder.accept(nameToken);
+    }
     yielder.accept(semicolonToken);
   }
 
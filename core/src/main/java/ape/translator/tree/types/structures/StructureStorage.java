@@ -68,6 +68,7 @@ public class StructureStorage extends DocumentPosition {
   public final ArrayList<FieldDefinition> fieldsByOrder;
   public final HashSet<String> indexSet;
   public final ArrayList<IndexDefinition> indices;
+  public final ArrayList<IndexDefinition> searchIndices;
   public final ArrayList<DefineMethod> methods;
   public final HashMap<String, TyNativeFunctional> methodTypes;
   public final HashMap<String, TyNativeFunctional> internalMethods;
@@ -102,6 +103,7 @@ public class StructureStorage extends DocumentPosition {
     policiesForVisibility = new ArrayList<>();
     emissions = new ArrayList<>();
     indices = new ArrayList<>();
+    searchIndices = new ArrayList<>();
     indexSet = new HashSet<>();
     methodTypes = new HashMap<>();
     internalMethods = new HashMap<>();
@@ -374,21 +376,41 @@ public class StructureStorage extends DocumentPosition {
   public void add(final IndexDefinition indexDefn) {
     emissions.add(x -> indexDefn.emit(x));
     formatting.add(f -> indexDefn.format(f));
-    if (!indexSet.contains(indexDefn.nameToken.text)) {
-      indices.add(indexDefn);
-      indexSet.add(indexDefn.nameToken.text);
-      checker.register(Collections.singleton(indexDefn.nameToken.text), env -> {
-        final var fd = fields.get(indexDefn.nameToken.text);
+    if (indexDefn.isSearch() && !indexSet.contains(indexDefn.key)) {
+      searchIndices.add(indexDefn);
+      indexSet.add(indexDefn.key);
+      final var column = indexDefn.nameToken.text;
+      checker.register(Collections.singleton(column), env -> {
+        final var fd = fields.get(column);
         if (fd == null) {
-          env.document.createError(indexDefn, String.format("Index could not find field '%s'", indexDefn.nameToken.text));
-        } else {
-          if (!(new CodeGenIndexing.IndexClassification(fd.type).good)) {
-            env.document.createError(indexDefn, String.format("Index for field '%s' is not possible due to type", indexDefn.nameToken.text, fd.type.getAdamaType()));
+          env.document.createError(indexDefn, String.format("Search index could not find field '%s'", column));
+        } else if (!(new CodeGenIndexing.IndexClassification(fd.type).isString)) {
+          env.document.createError(indexDefn, String.format("Search index for field '%s' requires a string", column));
+        }
+      });
+    } else if (!indexSet.contains(indexDefn.key)) {
+      indices.add(indexDefn);
+      indexSet.add(indexDefn.key);
+      final var columns = indexDefn.columnNames();
+      checker.register(new HashSet<>(columns), env -> {
+        final var seen = new HashSet<String>();
+        for (final String column : columns) {
+          if (!seen.add(column)) {
+            env.document.createError(indexDefn, String.format("Index has duplicate field '%s'", column));
+            continue;
+          }
+          final var fd = fields.get(column);
+          if (fd == null) {
+            env.document.createError(indexDefn, String.format("Index could not find field '%s'", column));
+          } else {
+            if (!(new CodeGenIndexing.IndexClassification(fd.type).good)) {
+              env.document.createError(indexDefn, String.format("Index for field '%s' is not possible due to type", column, fd.type.getAdamaType()));
+            }
           }
         }
       });
     } else {
-      checker.issueError(indexDefn, String.format("Index was already defined: '%s'", indexDefn.nameToken.text));
+      checker.issueError(indexDefn, String.format("Index was already defined: '%s'", indexDefn.key));
     }
   }
 
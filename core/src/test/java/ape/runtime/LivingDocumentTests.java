@@ -2375,4 +2375,130 @@ public class LivingDocumentTests {
     setup.assertCompare();
     Assert.assertEquals(0, setup.document.getCodeCost());
   }
+
+  @Test
+  public void parallel_broadcast() throws Exception {
+    RealDocumentSetup setup = new RealDocumentSetup("@static { create { return true; } parallel_broadcast = 2; } @connected { return true; }" + //
+            "public int x; public formula y = x * 2; message M {}" + //
+            "channel foo(M m) { x++; } ");
+    setup.document.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), new RealDocumentSetup.AssertInt(2));
+    ArrayList<ArrayList<String>> lists = new ArrayList<>();
+    for (int k = 0; k < 8; k++) {
+      ArrayList<String> list = new ArrayList<>();
+      lists.add(list);
+      Perspective linked =
+          new Perspective() {
+            @Override
+            public void data(String data) {
+              synchronized (list) {
+                list.add(data);
+              }
+            }
+
+            @Override
+            public void disconnect() {}
+          };
+      setup.document.createPrivateView(NtPrincipal.NO_ONE, linked, new JsonStreamReader("{}"), new RealDocumentSetup.GotView());
+    }
+    setup.document.send(ContextSupport.WRAP(NtPrincipal.NO_ONE), null, null, "foo", "{}", new RealDocumentSetup.AssertInt(12));
+    for (ArrayList<String> list : lists) {
+      synchronized (list) {
+        Assert.assertEquals("{\"data\":{\"x\":1,\"y\":2},\"seq\":12}", list.get(list.size() - 1));
+      }
+    }
+  }
+
+  private static Perspective listOf(ArrayList<String> list) {
+    return new Perspective() {
+      @Override
+      public void data(String data) {
+        list.add(data);
+      }
+
+      @Override
+      public void disconnect() {}
+    };
+  }
+
+  @Test
+  public void shared_views_everyone() throws Exception {
+    RealDocumentSetup setup = new RealDocumentSetup("@static { create { return true; } } @connected { return true; }" + //
+        "public int x; private int z; public formula y = x * 2; message M {}" + //
+        "channel foo(M m) { x++; z++; } ");
+    setup.document.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), new RealDocumentSetup.AssertInt(2));
+    ArrayList<ArrayList<String>> lists = new ArrayList<>();
+    for (int k = 0; k < 4; k++) {
+      ArrayList<String> list = new ArrayList<>();
+      lists.add(list);
+      NtPrincipal who = new NtPrincipal("user" + k, "x");
+      setup.document.connect(ContextSupport.WRAP(who), Callback.DONT_CARE_INTEGER);
+      setup.document.createPrivateView(who, listOf(list), new JsonStreamReader("{}"), new RealDocumentSetup.GotView());
+    }
+    setup.document.send(ContextSupport.WRAP(NtPrincipal.NO_ONE), null, null, "foo", "{}", new RealDocumentSetup.AssertInt(16));
+    ArrayList<String> late = new ArrayList<>();
+    setup.document.createPrivateView(NtPrincipal.NO_ONE, listOf(late), new JsonStreamReader("{}"), new RealDocumentSetup.GotView());
+    setup.document.send(ContextSupport.WRAP(NtPrincipal.NO_ONE), null, null, "foo", "{}", new RealDocumentSetup.AssertInt(18));
+    setup.document.send(ContextSupport.WRAP(NtPrincipal.NO_ONE), null, null, "foo", "{}", new RealDocumentSetup.AssertInt(19));
+    String last = lists.get(0).get(lists.get(0).size() - 1);
+    Assert.assertEquals("{\"data\":{\"x\":3,\"y\":6},\"seq\":19}", last);
+    for (ArrayList<String> list : lists) {
+      Assert.assertEquals("{\"data\":{\"x\":1,\"y\":2},\"seq\":16}", list.get(list.size() - 4));
+      Assert.assertEquals("{\"seq\":17}", list.get(list.size() - 3));
+      Assert.assertEquals("{\"data\":{\"x\":2,\"y\":4},\"seq\":18}", list.get(list.size() - 2));
+      Assert.assertSame(last, list.get(list.size() - 1));
+    }
+    Assert.assertEquals(3, late.size());
+    Assert.assertEquals("{\"data\":{\"x\":1,\"y\":2},\"seq\":17}", late.get(0));
+    Assert.assertEquals("{\"data\":{\"x\":2,\"y\":4},\"seq\":18}", late.get(1));
+    Assert.assertSame(last, late.get(2));
+  }
+
+  @Test
+  public void shared_views_per_viewer() throws Exception {
+    RealDocumentSetup setup = new RealDocumentSetup("@static { create { return true; } } @connected { return true; }" + //
+        "public principal owner; use_policy<mine> int x; policy mine { return owner == @who; } message M {}" + //
+        "channel foo(M m) { owner = @who; x++; } ");
+    NtPrincipal alice = new NtPrincipal("alice", "x");
+    NtPrincipal bob = new NtPrincipal("bob", "x");
+    setup.document.connect(ContextSupport.WRAP(alice), new RealDocumentSetup.AssertInt(2));
+    setup.document.connect(ContextSupport.WRAP(bob), Callback.DONT_CARE_INTEGER);
+    ArrayList<String> alice1 = new ArrayList<>();
+    ArrayList<String> alice2 = new ArrayList<>();
+    ArrayList<String> bob1 = new ArrayList<>();
+    setup.document.createPrivateView(alice, listOf(alice1), new JsonStreamReader("{}"), new RealDocumentSetup.GotView());
+    setup.document.createPrivateView(alice, listOf(alice2), new JsonStreamReader("{}"), new RealDocumentSetup.GotView());
+    setup.document.createPrivateView(bob, listOf(bob1), new JsonStreamReader("{}"), new RealDocumentSetup.GotView());
+    setup.document.send(ContextSupport.WRAP(alice), null, null, "foo", "{}", new RealDocumentSetup.AssertInt(9));
+    setup.document.send(ContextSupport.WRAP(alice), null, null, "foo", "{}", new RealDocumentSetup.AssertInt(10));
+    Assert.assertEquals("{\"data\":{\"owner\":{\"@t\":1,\"agent\":\"alice\",\"authority\":\"x\"},\"x\":1},\"seq\":9}", alice1.get(alice1.size() - 2));
+    Assert.assertEquals("{\"data\":{\"x\":2},\"seq\":10}", alice1.get(alice1.size() - 1));
+    Assert.assertEquals(alice1.get(alice1.size() - 2), alice2.get(alice2.size() - 2));
+    Assert.assertSame(alice1.get(alice1.size() - 1), alice2.get(alice2.size() - 1));
+    Assert.assertEquals("{\"data\":{\"owner\":{\"@t\":1,\"agent\":\"alice\",\"authority\":\"x\"}},\"seq\":9}", bob1.get(bob1.size() - 2));
+    Assert.assertEquals("{\"seq\":10}", bob1.get(bob1.size() - 1));
+  }
+
+  private static int parallelBroadcastCost(int threshold) throws Exception {
+    RealDocumentSetup setup = new RealDocumentSetup("@static { create { return true; } parallel_broadcast = " + threshold + "; } @connected { return true; }" + //
+        "record R { public int v; public formula w = v * 3; } public map<int, R> rows; public int x; message M {}" + //
+        "channel foo(M msg) { x++; for (int k = 0; k < 10; k++) { rows[k].v = k + x; } } ");
+    setup.document.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), new RealDocumentSetup.AssertInt(2));
+    for (int k = 0; k < 8; k++) {
+      Perspective linked = new Perspective() {
+        @Override
+        public void data(String data) {}
+
+        @Override
+        public void disconnect() {}
+      };
+      setup.document.createPrivateView(NtPrincipal.NO_ONE, linked, new JsonStreamReader("{}"), new RealDocumentSetup.GotView());
+    }
+    setup.document.send(ContextSupport.WRAP(NtPrincipal.NO_ONE), null, null, "foo", "{}", new RealDocumentSetup.AssertInt(12));
+    return setup.document.getCodeCost();
+  }
+
+  @Test
+  public void parallel_broadcast_cost_matches_serial() throws Exception {
+    Assert.assertEquals(parallelBroadcastCost(1000), parallelBroadcastCost(2));
+  }
 }
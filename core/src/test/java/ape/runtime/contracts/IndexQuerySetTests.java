@@ -57,6 +57,7 @@ public class IndexQuerySetTests {
     iqs.intersect(5, new NtMaybe<>(5), IndexQuerySet.LookupMode.Equals);
     iqs.intersect(5, new NtMaybe<>(), IndexQuerySet.LookupMode.Equals);
     iqs.intersect(5, new NtMaybe<>(7), IndexQuerySet.LookupMode.Equals);
+    iqs.search(1, "needle");
     iqs.primary(100);
     iqs.push();
     iqs.finish();
@@ -66,5 +67,6 @@ public class IndexQuerySetTests {
     Assert.assertEquals("p:100", log.get(3));
     Assert.assertEquals("PUSH", log.get(4));
     Assert.assertEquals("FINISH", log.get(5));
+    Assert.assertEquals(6, log.size());
   }
 }
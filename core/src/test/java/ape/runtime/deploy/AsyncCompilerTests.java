@@ -25,6 +25,7 @@ package ape.runtime.deploy;
 
 import ape.common.Callback;
 import ape.common.ErrorCodeException;
+import ape.common.SimpleExecutor;
 import ape.runtime.remote.Deliverer;
 import ape.translator.env.RuntimeEnvironment;
 import org.junit.Assert;
@@ -42,9 +43,13 @@ public class AsyncCompilerTests {
   }
 
   public static Object pump(DeploymentFactory prior, DeploymentPlan plan, AsyncByteCodeCache cache) throws Exception {
+    return pump(prior, plan, cache, SimpleExecutor.NOW);
+  }
+
+  public static Object pump(DeploymentFactory prior, DeploymentPlan plan, AsyncByteCodeCache cache, SimpleExecutor compiler) throws Exception {
     AtomicReference<Object> ref = new AtomicReference<>(null);
     CountDownLatch latch = new CountDownLatch(1);
-    AsyncCompiler.forge(RuntimeEnvironment.Tooling, "space", prior, plan, Deliverer.FAILURE, new TreeMap<>(), cache, new Callback<DeploymentFactory>() {
+    AsyncCompiler.forge(RuntimeEnvironment.Tooling, "space", prior, plan, Deliverer.FAILURE, new TreeMap<>(), cache, compiler, new Callback<DeploymentFactory>() {
       @Override
       public void success(DeploymentFactory value) {
         ref.set(value);
@@ -57,7 +62,7 @@ public class AsyncCompilerTests {
         latch.countDown();
       }
     });
-    Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+    Assert.assertTrue(latch.await(15000, TimeUnit.MILLISECONDS));
     return ref.get();
   }
 
@@ -116,4 +121,19 @@ public class AsyncCompilerTests {
     DeploymentPlan plan = new DeploymentPlan("{\"versions\":{\"x\":{\"main\":\"public int x; @include x;\",\"includes\":{\"x\":\"public int y = 0;\"}}},\"default\":\"x\"}", (t, errorCode) -> {});
     Assert.assertTrue(pump(null, plan) instanceof DeploymentFactory);
   }
+
+  @Test
+  public void parallel_versions() throws Exception {
+    SimpleExecutor compiler = SimpleExecutor.createPool("compiler", 4);
+    try {
+      DeploymentPlan plan = new DeploymentPlan("{\"versions\":{\"a\":\"public int x = 1;\",\"b\":\"public int x = 2;\",\"c\":\"public string y;\",\"d\":\"record R { public int z; } table<R> t;\"},\"default\":\"a\"}", (t, errorCode) -> {});
+      DeploymentFactory factory = (DeploymentFactory) pump(null, plan, AsyncByteCodeCache.DIRECT, compiler);
+      Assert.assertEquals(4, factory.factories.size());
+      DeploymentPlan next = new DeploymentPlan("{\"versions\":{\"a\":\"public int x = 1;\",\"e\":\"public int x = true;\"},\"default\":\"a\"}", (t, errorCode) -> {});
+      ErrorCodeException ex = (ErrorCodeException) pump(factory, next, AsyncByteCodeCache.DIRECT, compiler);
+      Assert.assertEquals(132157, ex.code);
+    } finally {
+      compiler.shutdown();
+    }
+  }
 }
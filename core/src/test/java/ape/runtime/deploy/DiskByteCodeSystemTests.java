@@ -0,0 +1,244 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.deploy;
+
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import ape.common.SimpleExecutor;
+import ape.common.metrics.NoOpMetricsFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class DiskByteCodeSystemTests {
+  private static CachedByteCode make(String className, int size) {
+    HashMap<String, byte[]> m = new HashMap<>();
+    m.put(className, new byte[size]);
+    return new CachedByteCode("space", className, "reflect", m);
+  }
+
+  private static void store(DiskByteCodeSystem disk, String className, CachedByteCode code) {
+    AtomicInteger success = new AtomicInteger(0);
+    disk.storeByteCode(className, code, new Callback<Void>() {
+      @Override
+      public void success(Void value) {
+        success.incrementAndGet();
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        ex.printStackTrace();
+      }
+    });
+    Assert.assertEquals(1, success.get());
+  }
+
+  private static CachedByteCode fetch(DiskByteCodeSystem disk, String className, int expectedError) {
+    AtomicReference<CachedByteCode> result = new AtomicReference<>();
+    AtomicInteger error = new AtomicInteger(0);
+    disk.fetchByteCode(className, new Callback<CachedByteCode>() {
+      @Override
+      public void success(CachedByteCode value) {
+        result.set(value);
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        error.set(ex.code);
+      }
+    });
+    Assert.assertEquals(expectedError, error.get());
+    return result.get();
+  }
+
+  private static void clean(File dir) {
+    File[] children = dir.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        child.delete();
+      }
+    }
+    dir.delete();
+  }
+
+  @Test
+  public void round_trip() throws Exception {
+    File dir = Files.createTempDirectory("disk-bytecode").toFile();
+    try {
+      DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v1");
+      fetch(disk, "Abc", 162048);
+      store(disk, "Abc", make("Abc", 10));
+      Assert.assertEquals(1, disk.size());
+      CachedByteCode code = fetch(disk, "Abc", 0);
+      Assert.assertEquals("Abc", code.className);
+      Assert.assertEquals("space", code.spaceName);
+      Assert.assertEquals(10, code.classBytes.get("Abc").length);
+      // overwrite doesn't double count
+      long bytes = disk.bytes();
+      store(disk, "Abc", make("Abc", 10));
+      Assert.assertEquals(bytes, disk.bytes());
+    } finally {
+      clean(dir);
+    }
+  }
+
+  @Test
+  public void survives_restart() throws Exception {
+    File dir = Files.createTempDirectory("disk-bytecode").toFile();
+    try {
+      {
+        DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v1");
+        store(disk, "Abc", make("Abc", 10));
+      }
+      Files.writeString(new File(dir, "Abc.xyz.tmp").toPath(), "partial");
+      DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v1");
+      Assert.assertFalse(new File(dir, "Abc.xyz.tmp").exists());
+      Assert.assertEquals(1, disk.size());
+      Assert.assertEquals("Abc", fetch(disk, "Abc", 0).className);
+    } finally {
+      clean(dir);
+    }
+  }
+
+  @Test
+  public void version_mismatch() throws Exception {
+    File dir = Files.createTempDirectory("disk-bytecode").toFile();
+    try {
+      store(new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v1"), "Abc", make("Abc", 10));
+      DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v2");
+      Assert.assertEquals(1, disk.size());
+      fetch(disk, "Abc", 162052);
+      Assert.assertEquals(0, disk.size());
+      Assert.assertEquals(0, disk.bytes());
+      Assert.assertFalse(new File(dir, "Abc.bytecode").exists());
+    } finally {
+      clean(dir);
+    }
+  }
+
+  @Test
+  public void corrupt() throws Exception {
+    File dir = Files.createTempDirectory("disk-bytecode").toFile();
+    try {
+      DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v1");
+      store(disk, "Abc", make("Abc", 100));
+      store(disk, "Def", make("Def", 100));
+      store(disk, "Xyz", make("Xyz", 100));
+      // flip a byte near the end of the payload
+      try (RandomAccessFile raf = new RandomAccessFile(new File(dir, "Abc.bytecode"), "rw")) {
+        raf.seek(raf.length() - 5);
+        int b = raf.read();
+        raf.seek(raf.length() - 5);
+        raf.write(b ^ 0xFF);
+      }
+      fetch(disk, "Abc", 162052);
+      // truncate
+      try (RandomAccessFile raf = new RandomAccessFile(new File(dir, "Def.bytecode"), "rw")) {
+        raf.setLength(raf.length() - 20);
+      }
+      fetch(disk, "Def", 162056);
+      // stored under the wrong name
+      store(disk, "Xyz", make("Other", 100));
+      fetch(disk, "Xyz", 162052);
+      Assert.assertEquals(0, disk.size());
+    } finally {
+      clean(dir);
+    }
+  }
+
+  @Test
+  public void unsafe_names() throws Exception {
+    File dir = Files.createTempDirectory("disk-bytecode").toFile();
+    try {
+      DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v1");
+      fetch(disk, "../Abc", 162048);
+      fetch(disk, "", 162048);
+      AtomicInteger error = new AtomicInteger(0);
+      disk.storeByteCode("../Abc", make("Abc", 1), new Callback<Void>() {
+        @Override
+        public void success(Void value) {
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+          error.set(ex.code);
+        }
+      });
+      Assert.assertEquals(162060, error.get());
+    } finally {
+      clean(dir);
+    }
+  }
+
+  @Test
+  public void evicts_least_recently_used() throws Exception {
+    File dir = Files.createTempDirectory("disk-bytecode").toFile();
+    try {
+      DiskByteCodeSystem probe = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024, "v1");
+      store(probe, "A", make("A", 1000));
+      long each = probe.bytes();
+      clean(dir);
+      DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, each * 3, "v1");
+      store(disk, "A", make("A", 1000));
+      store(disk, "B", make("B", 1000));
+      store(disk, "C", make("C", 1000));
+      fetch(disk, "A", 0);
+      store(disk, "D", make("D", 1000));
+      Assert.assertEquals(3, disk.size());
+      fetch(disk, "B", 162048);
+      Assert.assertFalse(new File(dir, "B.bytecode").exists());
+      fetch(disk, "A", 0);
+      fetch(disk, "C", 0);
+      fetch(disk, "D", 0);
+    } finally {
+      clean(dir);
+    }
+  }
+
+  @Test
+  public void managed() throws Exception {
+    File dir = Files.createTempDirectory("disk-bytecode").toFile();
+    try {
+      DeploymentPlan plan = new DeploymentPlan("{\"versions\":{\"x\":\"public int x = 123;\"},\"default\":\"x\"}", (t, errorCode) -> {});
+      {
+        DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024 * 16);
+        ManagedAsyncByteCodeCache managed = new ManagedAsyncByteCodeCache(disk, SimpleExecutor.NOW, new DeploymentMetrics(new NoOpMetricsFactory()));
+        Assert.assertTrue(AsyncCompilerTests.pump(null, plan, managed) instanceof DeploymentFactory);
+        Assert.assertEquals(1, disk.size());
+      }
+      DiskByteCodeSystem disk = new DiskByteCodeSystem(SimpleExecutor.NOW, dir, 1024 * 1024 * 16);
+      ManagedAsyncByteCodeCache managed = new ManagedAsyncByteCodeCache(disk, SimpleExecutor.NOW, new DeploymentMetrics(new NoOpMetricsFactory()));
+      Assert.assertTrue(AsyncCompilerTests.pump(null, plan, managed) instanceof DeploymentFactory);
+      Assert.assertEquals(1, disk.size());
+    } finally {
+      clean(dir);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.deploy;
+
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WarmBootTests {
+  @Test
+  public void hottest() {
+    WarmBoot warm = new WarmBoot();
+    Assert.assertEquals(0, warm.hottest(10).size());
+    for (int k = 0; k < 3; k++) {
+      warm.touch("b");
+    }
+    warm.touch("c");
+    warm.touch("a");
+    for (int k = 0; k < 5; k++) {
+      warm.touch("d");
+    }
+    Assert.assertEquals("[d, b, a, c]", warm.hottest(10).toString());
+    Assert.assertEquals("[d, b]", warm.hottest(2).toString());
+  }
+
+  @Test
+  public void save_load() throws Exception {
+    File dir = Files.createTempDirectory("warm-boot").toFile();
+    try {
+      File file = new File(dir, "hot.txt");
+      Assert.assertEquals(0, WarmBoot.load(file).size());
+      WarmBoot warm = new WarmBoot();
+      warm.touch("x");
+      warm.touch("y");
+      warm.touch("y");
+      warm.save(file, 10);
+      Assert.assertEquals("[y, x]", WarmBoot.load(file).toString());
+      warm.save(file, 1);
+      Assert.assertEquals("[y]", WarmBoot.load(file).toString());
+      Files.writeString(file.toPath(), "\n  z  \n\n");
+      Assert.assertEquals("[z]", WarmBoot.load(file).toString());
+      Assert.assertFalse(new File(dir, "hot.txt.tmp").exists());
+    } finally {
+      for (File file : dir.listFiles()) {
+        file.delete();
+      }
+      dir.delete();
+    }
+  }
+
+  @Test
+  public void options() throws Exception {
+    File archive = File.createTempFile("warm-boot", ".jsa");
+    try {
+      Assert.assertEquals(Collections.singletonList("-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath()), WarmBoot.archiveDumpOptions(archive));
+      Assert.assertEquals(Arrays.asList("-XX:SharedArchiveFile=" + archive.getAbsolutePath(), "-Xshare:auto"), WarmBoot.archiveBootOptions(archive));
+    } finally {
+      archive.delete();
+    }
+    Assert.assertEquals(0, WarmBoot.archiveBootOptions(archive).size());
+  }
+
+  @Test
+  public void prewarm() {
+    ArrayList<String> deployed = new ArrayList<>();
+    Deploy deploy = (space, callback) -> {
+      deployed.add(space);
+      if (space.equals("bad")) {
+        callback.failure(new ErrorCodeException(-1));
+      } else {
+        callback.success(null);
+      }
+    };
+    AtomicInteger result = new AtomicInteger(-1);
+    Callback<Integer> capture = new Callback<>() {
+      @Override
+      public void success(Integer value) {
+        result.set(value);
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        Assert.fail();
+      }
+    };
+    WarmBoot.prewarm(deploy, Collections.emptyList(), capture);
+    Assert.assertEquals(0, result.get());
+    WarmBoot.prewarm(deploy, Arrays.asList("a", "bad", "c"), capture);
+    Assert.assertEquals(2, result.get());
+    Assert.assertEquals("[a, bad, c]", deployed.toString());
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.index;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeSet;
+
+public class IntBitmapTests {
+  private static String dump(IntBitmap bitmap) {
+    ArrayList<Integer> values = new ArrayList<>();
+    bitmap.forEach(values::add);
+    return values.toString();
+  }
+
+  @Test
+  public void flow() {
+    IntBitmap bitmap = new IntBitmap();
+    Assert.assertTrue(bitmap.isEmpty());
+    bitmap.add(42);
+    bitmap.add(7);
+    bitmap.add(100000);
+    bitmap.add(42);
+    Assert.assertEquals(3, bitmap.size());
+    Assert.assertTrue(bitmap.contains(7));
+    Assert.assertTrue(bitmap.contains(100000));
+    Assert.assertFalse(bitmap.contains(8));
+    Assert.assertFalse(bitmap.contains(100001));
+    Assert.assertEquals("[7, 42, 100000]", dump(bitmap));
+    bitmap.remove(42);
+    bitmap.remove(43);
+    bitmap.remove(500000);
+    Assert.assertEquals("[7, 100000]", dump(bitmap));
+    bitmap.remove(100000);
+    bitmap.remove(7);
+    Assert.assertTrue(bitmap.isEmpty());
+    Assert.assertEquals("[]", dump(bitmap));
+  }
+
+  @Test
+  public void algebra() {
+    IntBitmap a = new IntBitmap();
+    IntBitmap b = new IntBitmap();
+    for (int k = 0; k < 10; k++) {
+      a.add(k * 2);
+      b.add(k * 3);
+    }
+    b.add(70000);
+    Assert.assertEquals("[0, 6, 12, 18]", dump(a.and(b)));
+    Assert.assertEquals("[]", dump(a.and(new IntBitmap())));
+    IntBitmap c = a.copy();
+    c.or(b);
+    Assert.assertEquals("[0, 2, 3, 4, 6, 8, 9, 10, 12, 14, 15, 16, 18, 21, 24, 27, 70000]", dump(c));
+    // the copy is independent
+    Assert.assertEquals(10, a.size());
+    // results of algebra remain mutable
+    IntBitmap d = a.and(b);
+    for (int k = 100; k < 120; k++) {
+      d.add(k);
+    }
+    Assert.assertEquals(24, d.size());
+  }
+
+  @Test
+  public void dense() {
+    IntBitmap a = new IntBitmap();
+    IntBitmap b = new IntBitmap();
+    for (int k = 0; k < 20000; k++) {
+      a.add(k);
+      if (k % 2 == 0) {
+        b.add(k);
+      }
+    }
+    Assert.assertEquals(20000, a.size());
+    Assert.assertEquals(10000, a.and(b).size());
+    Assert.assertEquals(10000, b.and(a).size());
+    Assert.assertTrue(a.memory() < 10000);
+    for (int k = 0; k < 20000; k += 2) {
+      a.remove(k);
+    }
+    Assert.assertEquals(10000, a.size());
+    Assert.assertEquals(0, a.and(b).size());
+    a.or(b);
+    Assert.assertEquals(20000, a.size());
+  }
+
+  @Test
+  public void randomized() {
+    Random rng = new Random(42);
+    for (int trial = 0; trial < 20; trial++) {
+      IntBitmap a = new IntBitmap();
+      IntBitmap b = new IntBitmap();
+      TreeSet<Integer> x = new TreeSet<>();
+      TreeSet<Integer> y = new TreeSet<>();
+      int range = 1 + rng.nextInt(300000);
+      int n = rng.nextInt(20000);
+      for (int k = 0; k < n; k++) {
+        int v = rng.nextInt(range);
+        if (rng.nextBoolean()) {
+          a.add(v);
+          x.add(v);
+        } else {
+          b.add(v);
+          y.add(v);
+        }
+        if (rng.nextInt(5) == 0) {
+          int r = rng.nextInt(range);
+          a.remove(r);
+          x.remove(r);
+        }
+      }
+      TreeSet<Integer> and = new TreeSet<>(x);
+      and.retainAll(y);
+      TreeSet<Integer> or = new TreeSet<>(x);
+      or.addAll(y);
+      Assert.assertEquals(new ArrayList<>(x).toString(), dump(a));
+      Assert.assertEquals(new ArrayList<>(and).toString(), dump(a.and(b)));
+      IntBitmap c = a.copy();
+      c.or(b);
+      Assert.assertEquals(new ArrayList<>(or).toString(), dump(c));
+      Assert.assertEquals(or.size(), c.size());
+    }
+  }
+}
@@ -107,6 +107,6 @@ public class ReactiveIndexTests {
     final var index = new ReactiveIndex<>(unknowns);
     Assert.assertEquals(64, index.memory());
     index.add(42, MockRecord.make(1));
-    Assert.assertEquals(104, index.memory());
+    Assert.assertEquals(136, index.memory());
   }
 }
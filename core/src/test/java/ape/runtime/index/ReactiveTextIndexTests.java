@@ -0,0 +1,116 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.index;
+
+import ape.runtime.mocks.MockRecord;
+import ape.runtime.stdlib.LibSearch;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.TreeSet;
+
+public class ReactiveTextIndexTests {
+  private static final String[] CORPUS = new String[] {"The Quick Black Fox", "a dog is not a pony", "Blade Runner", "hot dog", "", "  Zebra  ", "x-ray vision", "año nuevo"};
+  private static final String[] NEEDLES = new String[] {"", " ", "bla", "q", "dog", "quick fox", "black runner", "ZEB", "runner!", "x-ray", "xray", "año", "zzz", "a", "hot dog", "is not"};
+
+  @Test
+  public void grams() {
+    Assert.assertEquals("[a, ab, abc, b, bc, bcd, c, cd, d]", ReactiveTextIndex.grams("abcd").toString());
+    Assert.assertEquals("[]", ReactiveTextIndex.grams("").toString());
+    Assert.assertEquals("hello world", ReactiveTextIndex.normalize("  Hello World "));
+  }
+
+  @Test
+  public void flow() {
+    final var unknowns = new TreeSet<MockRecord>();
+    final var index = new ReactiveTextIndex<MockRecord>(unknowns);
+    Assert.assertNull(index.search("  "));
+    Assert.assertEquals(0, index.search("fox").size());
+    index.add("The Quick Black Fox", MockRecord.make(1));
+    index.add("Blade Runner", MockRecord.make(2));
+    Assert.assertEquals(1, index.search("fox").size());
+    Assert.assertEquals(2, index.search("BLA").size());
+    Assert.assertEquals(1, index.search("quick brown").size());
+    Assert.assertEquals(0, index.search("brown").size());
+    index.remove("Blade Runner", MockRecord.make(2));
+    Assert.assertTrue(unknowns.contains(MockRecord.make(2)));
+    Assert.assertEquals(1, index.search("bla").size());
+    index.delete(MockRecord.make(2));
+    Assert.assertEquals(0, unknowns.size());
+    Assert.assertTrue(index.delete("The Quick Black Fox", MockRecord.make(1)));
+    Assert.assertFalse(index.delete("The Quick Black Fox", MockRecord.make(1)));
+    Assert.assertEquals(64, index.memory());
+  }
+
+  @Test
+  public void empty_text_is_unknown_after_change() {
+    final var unknowns = new TreeSet<MockRecord>();
+    final var index = new ReactiveTextIndex<MockRecord>(unknowns);
+    index.add("", MockRecord.make(1));
+    index.remove("", MockRecord.make(1));
+    Assert.assertTrue(unknowns.contains(MockRecord.make(1)));
+  }
+
+  @Test
+  public void superset_of_operator() {
+    final var index = new ReactiveTextIndex<MockRecord>(new TreeSet<>());
+    for (int k = 0; k < CORPUS.length; k++) {
+      index.add(CORPUS[k], MockRecord.make(k));
+    }
+    for (String needle : NEEDLES) {
+      final var candidates = index.search(needle);
+      for (int k = 0; k < CORPUS.length; k++) {
+        if (LibSearch.test(needle, CORPUS[k])) {
+          Assert.assertTrue(needle + " within " + CORPUS[k], candidates == null || candidates.contains(k));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void invalidator() {
+    final var unknowns = new TreeSet<MockRecord>();
+    final var index = new ReactiveTextIndex<MockRecord>(unknowns);
+    final ReactiveTextIndexInvalidator<MockRecord> inv = new ReactiveTextIndexInvalidator<>(index, MockRecord.make(123)) {
+      @Override
+      public String pullText() {
+        return "hello";
+      }
+    };
+    unknowns.add(MockRecord.make(123));
+    inv.deindex();
+    Assert.assertEquals(0, unknowns.size());
+    inv.reindex();
+    inv.reindex();
+    Assert.assertEquals(1, index.search("ell").size());
+    inv.__raiseInvalid();
+    Assert.assertEquals(1, unknowns.size());
+    Assert.assertEquals(0, index.search("ell").size());
+    inv.reindex();
+    unknowns.clear();
+    inv.deindex();
+    Assert.assertEquals(0, unknowns.size());
+    Assert.assertEquals(0, index.search("ell").size());
+  }
+}
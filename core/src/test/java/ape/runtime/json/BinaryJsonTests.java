@@ -0,0 +1,114 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryJsonTests {
+  private static void roundtrip(String json) {
+    byte[] bytes = BinaryJson.encode(json);
+    Assert.assertTrue(BinaryJson.isBinary(bytes));
+    Assert.assertEquals(json, BinaryJson.decode(bytes));
+    JsonStreamWriter writer = new JsonStreamWriter();
+    writer.writeTree(new JsonStreamReader(json).readJavaTree());
+    JsonStreamWriter fromBinary = new JsonStreamWriter();
+    fromBinary.writeTree(BinaryJson.decodeTree(bytes));
+    Assert.assertEquals(writer.toString(), fromBinary.toString());
+  }
+
+  @Test
+  public void scalars() {
+    roundtrip("null");
+    roundtrip("true");
+    roundtrip("false");
+    roundtrip("0");
+    roundtrip("-1");
+    roundtrip("123456789012");
+    roundtrip("1.5");
+    roundtrip("-0.25");
+    roundtrip("\"hello\"");
+    roundtrip("\"\"");
+  }
+
+  @Test
+  public void non_canonical_numbers() {
+    roundtrip("1e5");
+    roundtrip("1.50");
+    roundtrip("-0");
+    roundtrip("007");
+    String huge = "123456789012345678901234567890";
+    Assert.assertEquals(huge, BinaryJson.decode(BinaryJson.encode(huge)));
+  }
+
+  @Test
+  public void escapes_and_unicode() {
+    roundtrip("\"a\\\"b\\\\c\\nd\"");
+    roundtrip("\"caf\\u00e9 \\u4e2d\\u6587 \\ud83d\\ude00\"");
+  }
+
+  @Test
+  public void nesting() {
+    roundtrip("{}");
+    roundtrip("[]");
+    roundtrip("{\"x\":{\"y\":[1,2,{\"z\":null}]},\"w\":[[],{}]}");
+  }
+
+  @Test
+  public void field_names_are_interned() {
+    StringBuilder json = new StringBuilder("{\"rows\":[");
+    for (int k = 0; k < 100; k++) {
+      if (k > 0) {
+        json.append(",");
+      }
+      json.append("{\"id\":").append(k).append(",\"name\":\"n").append(k).append("\",\"score\":").append(k * 0.5).append("}");
+    }
+    json.append("]}");
+    String str = json.toString();
+    byte[] bytes = BinaryJson.encode(str);
+    Assert.assertEquals(str, BinaryJson.decode(bytes));
+    Assert.assertTrue(bytes.length < str.length() * 3 / 4);
+  }
+
+  @Test
+  public void tree_types() {
+    Object tree = BinaryJson.decodeTree(BinaryJson.encode("[1,3000000000,2.5]"));
+    Assert.assertEquals(Integer.valueOf(1), ((java.util.List<?>) tree).get(0));
+    Assert.assertEquals(Long.valueOf(3000000000L), ((java.util.List<?>) tree).get(1));
+    Assert.assertEquals(Double.valueOf(2.5), ((java.util.List<?>) tree).get(2));
+  }
+
+  @Test
+  public void not_binary() {
+    Assert.assertFalse(BinaryJson.isBinary(null));
+    Assert.assertFalse(BinaryJson.isBinary(new byte[0]));
+    Assert.assertFalse(BinaryJson.isBinary("{}".getBytes()));
+    try {
+      BinaryJson.decode("{}".getBytes());
+      Assert.fail();
+    } catch (RuntimeException re) {
+      Assert.assertEquals("not a binary json document", re.getMessage());
+    }
+  }
+}
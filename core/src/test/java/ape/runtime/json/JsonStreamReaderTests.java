@@ -782,4 +782,67 @@ public class JsonStreamReaderTests {
     JsonStreamReader reader = new JsonStreamReader("[{}]");
     Assert.assertEquals("[{}]", reader.readNtJson().to_dynamic().json);
   }
+
+  @Test
+  public void utf8_bytes() {
+    String json = "{\"name\":\"caf\u00e9 \ud83d\ude00\",\"esc\":\"a\\n\u00e9\\u0041\\\"z\",\"x\":[1,-2.5,true,null]}";
+    JsonStreamReader reader = new JsonStreamReader(json.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    Assert.assertTrue(reader.startObject());
+    Assert.assertEquals("name", reader.fieldName());
+    Assert.assertEquals("caf\u00e9 \ud83d\ude00", reader.readString());
+    Assert.assertEquals("esc", reader.fieldName());
+    Assert.assertEquals("a\n\u00e9A\"z", reader.readString());
+    Assert.assertEquals("x", reader.fieldName());
+    Assert.assertTrue(reader.startArray());
+    Assert.assertEquals(1, reader.readInteger());
+    Assert.assertEquals(-2.5, reader.readDouble(), 0.0);
+    Assert.assertTrue(reader.readBoolean());
+    Assert.assertTrue(reader.notEndOfArray());
+    Assert.assertFalse(reader.testLackOfNull());
+    Assert.assertFalse(reader.notEndOfArray());
+    Assert.assertFalse(reader.notEndOfObject());
+    Assert.assertTrue(reader.end());
+  }
+
+  @Test
+  public void utf8_region() {
+    byte[] bytes = "xx{\"a\":42}yy".getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    JsonStreamReader reader = new JsonStreamReader(bytes, 2, 8);
+    Assert.assertEquals("{\"a\":42}", reader.skipValueIntoJson());
+    Assert.assertTrue(reader.end());
+  }
+
+  @Test
+  public void utf8_tree_matches_string() {
+    String json = "{\"\u00fcber\":{\"list\":[1,2,3000000000,1.25e3,\"\u4e2d\u6587\"]},\"@gc\":\"@yes\"}";
+    Object fromString = new JsonStreamReader(json).readJavaTree();
+    Object fromBytes = new JsonStreamReader(json.getBytes(java.nio.charset.StandardCharsets.UTF_8)).readJavaTree();
+    Assert.assertEquals(fromString, fromBytes);
+  }
+
+  @Test
+  public void numbers_match_jdk() {
+    String[] doubles = new String[] {"0", "-0", "0.0", "-0.0", "1", "-1", "13.13", "0.1", "0.05", "123456789012345", "1234567890123456789", "1e5", "1.5E-7", "2.5e+3", "3.14159265358979", "9007199254740993", "1e300", "4.9e-324", "0.30000000000000004", "100.000"};
+    for (String d : doubles) {
+      Assert.assertEquals(d, Double.doubleToLongBits(Double.parseDouble(d)), Double.doubleToLongBits(new JsonStreamReader(d).readDouble()));
+    }
+    String[] longs = new String[] {"0", "-0", "42", "-42", "+7", "999999999999999999", "-999999999999999999", "9223372036854775807"};
+    for (String l : longs) {
+      Assert.assertEquals(l, Long.parseLong(l), new JsonStreamReader(l).readLong());
+    }
+    Assert.assertEquals(Integer.MAX_VALUE, new JsonStreamReader("9999999999").readInteger());
+    Assert.assertEquals(Integer.MIN_VALUE, new JsonStreamReader("-9999999999").readInteger());
+    Assert.assertEquals(1, new JsonStreamReader("1.9").readInteger());
+    Assert.assertEquals(0, new JsonStreamReader("-").readInteger());
+    Assert.assertEquals(0.0, new JsonStreamReader("1-2").readDouble(), 0.0);
+  }
+
+  @Test
+  public void field_names_are_canonical() {
+    JsonStreamReader a = new JsonStreamReader("{\"canonical_field\":1}");
+    JsonStreamReader b = new JsonStreamReader("{\"canonical_field\":2}".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    a.startObject();
+    b.startObject();
+    Assert.assertSame(a.fieldName(), b.fieldName());
+  }
 }
@@ -145,6 +145,11 @@ public class MockLivingDocument extends LivingDocument {
     return "[]";
   }
 
+  @Override
+  public NtPrincipal __getViewShareKey(NtPrincipal __who) {
+    return null;
+  }
+
   @Override
   public boolean __open_channel(String name) {
     return false;
@@ -209,4 +209,37 @@ public class ArrayNtListTests {
     Assert.assertEquals(2, result.lookup(1).get().b);
     Assert.assertEquals(0, result.lookup(2).get().b);
   }
+
+  @Test
+  public void order_limit_stable() {
+    ArrayNtList<UniqueSample> s = new ArrayNtList<>(samples(3, 0, 1, 1, 3, 2, 1, 3, 2, 4, 1, 5));
+    NtList<UniqueSample> result = s.orderByLimit(true, Comparator.comparingInt(a -> a.a), 4);
+    Assert.assertEquals(4, result.size());
+    Assert.assertEquals(1, result.lookup(0).get().b);
+    Assert.assertEquals(3, result.lookup(1).get().b);
+    Assert.assertEquals(5, result.lookup(2).get().b);
+    Assert.assertEquals(4, result.lookup(3).get().b);
+    Assert.assertEquals(0, s.orderByLimit(true, Comparator.comparingInt(a -> a.a), 0).size());
+    Assert.assertEquals(6, s.orderByLimit(true, Comparator.comparingInt(a -> a.a), 100).size());
+  }
+
+  @Test
+  public void order_limit_matches_sort() {
+    Random rng = new Random(42);
+    for (int trial = 0; trial < 50; trial++) {
+      ArrayList<UniqueSample> values = new ArrayList<>();
+      int n = rng.nextInt(200);
+      for (int k = 0; k < n; k++) {
+        values.add(new UniqueSample(rng.nextInt(20), k));
+      }
+      int limit = 1 + rng.nextInt(30);
+      Comparator<UniqueSample> cmp = (x, y) -> -Integer.compare(x.a, y.a);
+      NtList<UniqueSample> expected = new ArrayNtList<>(new ArrayList<>(values)).orderBy(true, cmp).limit(true, limit);
+      NtList<UniqueSample> actual = new ArrayNtList<>(values).orderByLimit(true, cmp, limit);
+      Assert.assertEquals(expected.size(), actual.size());
+      for (int k = 0; k < expected.size(); k++) {
+        Assert.assertEquals(expected.lookup(k).get().b, actual.lookup(k).get().b);
+      }
+    }
+  }
 }
@@ -35,6 +35,7 @@ public class EmptyNtListTests {
     list.get().get();
     Assert.assertEquals(0, list.size());
     list.orderBy(true, (x, y) -> 0);
+    list.orderByLimit(true, (x, y) -> 0, 10);
     list.skip(true, 0);
     list.limit(false, 100);
     list.where(true, null);
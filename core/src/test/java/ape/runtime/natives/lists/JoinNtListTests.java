@@ -206,6 +206,14 @@ public class JoinNtListTests {
     Assert.assertEquals("f-f", X.lookup(5).get());
   }
 
+  @Test
+  public void materialized_top() {
+    NtList<String> X = LibLists.join(make("a", "b", "c"), make("d", "e", "f")).orderByLimit(true, (a, b) -> -a.compareTo(b), 2);
+    Assert.assertEquals(2, X.size());
+    Assert.assertEquals("f", X.lookup(0).get());
+    Assert.assertEquals("e", X.lookup(1).get());
+  }
+
   @Test
   public void materialized() {
     NtList<String> X = LibLists.join(make("a", "b", "c"), make("d", "e", "f")).orderBy(true, (a, b) -> -a.compareTo(b));
@@ -106,6 +106,7 @@ public class MaterializedNtListTests {
     Assert.assertEquals(17 * 125, list.size());
     Assert.assertEquals(17 * 125 - 1000, list.skip(true, 1000).size());
     Assert.assertEquals(100, list.limit(true, 100).size());
+    Assert.assertEquals(100, list.orderByLimit(true, Comparator.comparingInt(a -> a.id), 100).size());
     list.toArray((n) -> new SortableMessage[n]);
     list.iterator();
     list.__delete();
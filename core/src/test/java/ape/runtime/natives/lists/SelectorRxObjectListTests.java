@@ -190,6 +190,18 @@ public class SelectorRxObjectListTests {
     Assert.assertEquals(4, list.lookup(2).get().__id());
   }
 
+  @Test
+  public void table_iterate_order_limit() {
+    final var document = doc(7);
+    final var table = new RxTable<>(document, document, "name", MockRecord::new, 1);
+    table.__insert(
+        new JsonStreamReader("{\"4\":{\"index\":13},\"5\":{\"index\":12},\"6\":{\"index\":13}}"));
+    final var list = table.iterate(false).orderByLimit(true, (a, b) -> -Integer.compare(a.id, b.id), 2);
+    Assert.assertEquals(2, list.size());
+    Assert.assertEquals(6, list.lookup(0).get().__id());
+    Assert.assertEquals(5, list.lookup(1).get().__id());
+  }
+
   @Test
   public void table_iterate_size() {
     final var document = doc(7);
@@ -43,7 +43,7 @@ public class RxTableTests {
     Assert.assertEquals(2224, table.__memory());
     table.__insert(
         new JsonStreamReader("{\"4\":{\"index\":13},\"5\":{\"index\":12},\"6\":{\"index\":13}}"));
-    Assert.assertEquals(2510, table.__memory());
+    Assert.assertEquals(2554, table.__memory());
   }
 
   @Test
@@ -0,0 +1,119 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.reactives.tables;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TableAccumulatorsTests {
+  @Test
+  public void count() {
+    TableAccumulator<Integer, Integer> acc = TableAccumulators.count();
+    Assert.assertEquals(0, (int) acc.result());
+    acc.add(1);
+    acc.add(1);
+    acc.remove(1);
+    Assert.assertEquals(1, (int) acc.result());
+    Assert.assertTrue(acc.exact());
+    acc.reset();
+    Assert.assertEquals(0, (int) acc.result());
+  }
+
+  @Test
+  public void sums() {
+    var wrap = TableAccumulators.sumInts();
+    wrap.add(Integer.MAX_VALUE);
+    wrap.add(1);
+    Assert.assertEquals(Integer.MIN_VALUE, (int) wrap.result().get());
+    wrap.remove(1);
+    Assert.assertEquals(Integer.MAX_VALUE, (int) wrap.result().get());
+    var i = TableAccumulators.sumInts();
+    i.add(4);
+    i.add(5);
+    i.remove(4);
+    Assert.assertEquals(5, (int) i.result().get());
+    i.remove(5);
+    Assert.assertFalse(i.result().has());
+    var l = TableAccumulators.sumLongs();
+    l.add(40L);
+    l.add(2L);
+    Assert.assertEquals(42L, (long) l.result().get());
+    l.reset();
+    Assert.assertFalse(l.result().has());
+    var d = TableAccumulators.sumDoubles();
+    d.add(1.5);
+    d.add(2.5);
+    d.remove(1.5);
+    Assert.assertEquals(2.5, d.result().get(), 0.0001);
+    Assert.assertFalse(d.exact());
+    d.reset();
+    Assert.assertFalse(d.result().has());
+  }
+
+  @Test
+  public void averages() {
+    var i = TableAccumulators.averageInts();
+    Assert.assertFalse(i.result().has());
+    i.add(1);
+    i.add(2);
+    Assert.assertEquals(1.5, i.result().get(), 0.0001);
+    i.reset();
+    Assert.assertFalse(i.result().has());
+    var l = TableAccumulators.averageLongs();
+    l.add(1L);
+    l.add(4L);
+    l.remove(1L);
+    Assert.assertEquals(4.0, l.result().get(), 0.0001);
+    l.reset();
+    Assert.assertFalse(l.result().has());
+    var d = TableAccumulators.averageDoubles();
+    d.add(1.0);
+    d.add(2.0);
+    Assert.assertEquals(1.5, d.result().get(), 0.0001);
+  }
+
+  @Test
+  public void extremes() {
+    var min = TableAccumulators.<Integer>minimum();
+    var max = TableAccumulators.<Integer>maximum();
+    for (int v : new int[]{5, 1, 9, 1, 9}) {
+      min.add(v);
+      max.add(v);
+    }
+    Assert.assertEquals(1, (int) min.result().get());
+    Assert.assertEquals(9, (int) max.result().get());
+    min.remove(1);
+    max.remove(9);
+    Assert.assertEquals(1, (int) min.result().get());
+    Assert.assertEquals(9, (int) max.result().get());
+    min.remove(1);
+    max.remove(9);
+    min.remove(42);
+    Assert.assertEquals(5, (int) min.result().get());
+    Assert.assertEquals(5, (int) max.result().get());
+    Assert.assertTrue(max.exact());
+    max.reset();
+    Assert.assertFalse(max.result().has());
+  }
+}
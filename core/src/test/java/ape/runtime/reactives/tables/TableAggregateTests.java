@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.reactives.tables;
+
+import ape.runtime.json.JsonStreamReader;
+import ape.runtime.json.JsonStreamWriter;
+import ape.runtime.mocks.MockLivingDocument;
+import ape.runtime.mocks.MockRecord;
+import ape.runtime.natives.NtMaybe;
+import ape.runtime.reactives.RxTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TableAggregateTests {
+  private static void settle(RxTable<MockRecord> table) {
+    table.__commit("t", new JsonStreamWriter(), new JsonStreamWriter());
+    table.__settle(new HashSet<>());
+  }
+
+  @Test
+  public void folds_only_changed_rows() {
+    MockLivingDocument document = new MockLivingDocument();
+    RxTable<MockRecord> table = new RxTable<>(document, document, "t", MockRecord::new, 1);
+    AtomicInteger reads = new AtomicInteger(0);
+    TableAggregate<MockRecord, Integer, NtMaybe<Integer>> sum = new TableAggregate<>(null, (MockRecord r) -> {
+      reads.incrementAndGet();
+      return r.index.get();
+    }, TableAccumulators.sumInts());
+    sum.bind(table);
+    Assert.assertFalse(sum.compute().has());
+    for (int k = 1; k <= 10; k++) {
+      table.make().index.set(k);
+    }
+    Assert.assertEquals(55, (int) sum.compute().get());
+    settle(table);
+    // rows folded before the settle get one more look since a change after the fold would not have notified
+    Assert.assertEquals(55, (int) sum.compute().get());
+    reads.set(0);
+    Assert.assertEquals(55, (int) sum.compute().get());
+    Assert.assertEquals(0, reads.get());
+    table.getById(3).index.set(100);
+    Assert.assertEquals(152, (int) sum.compute().get());
+    Assert.assertEquals(1, reads.get());
+    // a second change to the same row before the table settles is still observed
+    table.getById(3).index.set(50);
+    Assert.assertEquals(102, (int) sum.compute().get());
+    settle(table);
+    table.getById(3).index.set(3);
+    Assert.assertEquals(55, (int) sum.compute().get());
+    settle(table);
+    reads.set(0);
+    table.getById(10).__delete();
+    Assert.assertEquals(45, (int) sum.compute().get());
+    settle(table);
+    Assert.assertEquals(45, (int) sum.compute().get());
+    Assert.assertTrue(reads.get() <= 1);
+  }
+
+  @Test
+  public void bulk_changes_rebuild() {
+    MockLivingDocument document = new MockLivingDocument();
+    RxTable<MockRecord> table = new RxTable<>(document, document, "t", MockRecord::new, 1);
+    TableAggregate<MockRecord, Integer, Integer> count = new TableAggregate<>(null, (MockRecord r) -> 1, TableAccumulators.count());
+    count.bind(table);
+    Assert.assertEquals(0, (int) count.compute());
+    table.__insert(new JsonStreamReader("{\"4\":{\"index\":13},\"5\":{\"index\":12},\"6\":{\"index\":13}}"));
+    Assert.assertEquals(3, (int) count.compute());
+    settle(table);
+    table.make();
+    Assert.assertEquals(4, (int) count.compute());
+    table.__revert();
+    Assert.assertEquals(3, (int) count.compute());
+    Assert.assertTrue(count.__memory() > 0);
+  }
+
+  @Test
+  public void dead_owner() {
+    MockLivingDocument document = new MockLivingDocument();
+    RxTable<MockRecord> table = new RxTable<>(document, document, "t", MockRecord::new, 1);
+    TableAggregate<MockRecord, Integer, Integer> count = new TableAggregate<>(document, (MockRecord r) -> 1, TableAccumulators.count());
+    count.bind(table);
+    Assert.assertTrue(count.alive());
+    count.index(0, 0);
+    Assert.assertEquals(1, table.pubsub.count());
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.sys;
+
+import ape.runtime.data.Key;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+public class DocumentRebalancerTests {
+  private static Key k(String key) {
+    return new Key("space", key);
+  }
+
+  @Test
+  public void balanced_does_nothing() {
+    ArrayList<DocumentRebalancer.Sample> samples = new ArrayList<>();
+    samples.add(new DocumentRebalancer.Sample(k("a"), 0, 100));
+    samples.add(new DocumentRebalancer.Sample(k("b"), 1, 100));
+    Assert.assertEquals(0, DocumentRebalancer.plan(2, samples, 10, 10).size());
+  }
+
+  @Test
+  public void single_hot_document_stays() {
+    ArrayList<DocumentRebalancer.Sample> samples = new ArrayList<>();
+    samples.add(new DocumentRebalancer.Sample(k("a"), 0, 1000));
+    Assert.assertEquals(0, DocumentRebalancer.plan(4, samples, 10, 10).size());
+  }
+
+  @Test
+  public void spread_hot_base() {
+    ArrayList<DocumentRebalancer.Sample> samples = new ArrayList<>();
+    samples.add(new DocumentRebalancer.Sample(k("a"), 0, 400));
+    samples.add(new DocumentRebalancer.Sample(k("b"), 0, 300));
+    samples.add(new DocumentRebalancer.Sample(k("c"), 0, 200));
+    samples.add(new DocumentRebalancer.Sample(k("d"), 0, 100));
+    samples.add(new DocumentRebalancer.Sample(k("e"), 1, 0));
+    ArrayList<DocumentRebalancer.Move> moves = DocumentRebalancer.plan(3, samples, 10, 10);
+    Assert.assertEquals(2, moves.size());
+    Assert.assertEquals("a", moves.get(0).key.key);
+    Assert.assertEquals(0, moves.get(0).from);
+    Assert.assertEquals(1, moves.get(0).to);
+    Assert.assertEquals(400, moves.get(0).heat);
+    Assert.assertEquals("b", moves.get(1).key.key);
+    Assert.assertEquals(0, moves.get(1).from);
+    Assert.assertEquals(2, moves.get(1).to);
+  }
+
+  @Test
+  public void max_moves() {
+    ArrayList<DocumentRebalancer.Sample> samples = new ArrayList<>();
+    for (int k = 0; k < 10; k++) {
+      samples.add(new DocumentRebalancer.Sample(k("d" + k), 0, 10));
+    }
+    Assert.assertEquals(3, DocumentRebalancer.plan(4, samples, 0, 3).size());
+    Assert.assertEquals(7, DocumentRebalancer.plan(4, samples, 0, 100).size());
+  }
+
+  @Test
+  public void gap_threshold() {
+    ArrayList<DocumentRebalancer.Sample> samples = new ArrayList<>();
+    samples.add(new DocumentRebalancer.Sample(k("a"), 0, 40));
+    samples.add(new DocumentRebalancer.Sample(k("b"), 0, 40));
+    Assert.assertEquals(0, DocumentRebalancer.plan(2, samples, 100, 10).size());
+    Assert.assertEquals(1, DocumentRebalancer.plan(2, samples, 50, 10).size());
+  }
+
+  @Test
+  public void ignore_bad_base() {
+    ArrayList<DocumentRebalancer.Sample> samples = new ArrayList<>();
+    samples.add(new DocumentRebalancer.Sample(k("a"), 5, 40));
+    samples.add(new DocumentRebalancer.Sample(k("b"), -1, 40));
+    Assert.assertEquals(0, DocumentRebalancer.plan(2, samples, 0, 10).size());
+  }
+
+  @Test
+  public void unmovable_heat_counts_but_stays() {
+    ArrayList<DocumentRebalancer.Sample> samples = new ArrayList<>();
+    samples.add(new DocumentRebalancer.Sample(k("a"), 0, 400, false));
+    samples.add(new DocumentRebalancer.Sample(k("b"), 0, 100, true));
+    samples.add(new DocumentRebalancer.Sample(k("c"), 1, 0, true));
+    ArrayList<DocumentRebalancer.Move> moves = DocumentRebalancer.plan(2, samples, 10, 10);
+    Assert.assertEquals(1, moves.size());
+    Assert.assertEquals("b", moves.get(0).key.key);
+    samples.remove(1);
+    Assert.assertEquals(0, DocumentRebalancer.plan(2, samples, 10, 10).size());
+  }
+}
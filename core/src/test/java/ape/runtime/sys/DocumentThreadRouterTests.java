@@ -0,0 +1,61 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.sys;
+
+import ape.runtime.data.Key;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DocumentThreadRouterTests {
+  @Test
+  public void flow() {
+    DocumentThreadRouter router = new DocumentThreadRouter(4);
+    Key key = new Key("space", "key");
+    int home = router.route(key);
+    Assert.assertEquals(key.hashCode() % 4, home);
+    int away = (home + 1) % 4;
+    router.pin(key, away);
+    Assert.assertEquals(away, router.route(key));
+    Assert.assertEquals(1, router.pinned());
+    router.prune(home, (k) -> true);
+    Assert.assertEquals(away, router.route(key));
+    router.prune(away, (k) -> false);
+    Assert.assertEquals(away, router.route(key));
+    router.prune(away, (k) -> true);
+    Assert.assertEquals(home, router.route(key));
+    Assert.assertEquals(0, router.pinned());
+  }
+
+  @Test
+  public void pin_home_clears() {
+    DocumentThreadRouter router = new DocumentThreadRouter(4);
+    Key key = new Key("space", "key");
+    int home = router.route(key);
+    router.pin(key, (home + 2) % 4);
+    Assert.assertEquals(1, router.pinned());
+    router.pin(key, home);
+    Assert.assertEquals(0, router.pinned());
+    Assert.assertEquals(home, router.route(key));
+  }
+}
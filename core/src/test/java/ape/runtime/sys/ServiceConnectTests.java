@@ -179,8 +179,9 @@ public class ServiceConnectTests {
       MockStreamback streambackFull = new MockStreamback();
       MockStreamback streambackWriteOnly = new MockStreamback();
       Runnable latch1f = streambackFull.latchAt(2);
-      Runnable latch2f = streambackFull.latchAt(3);
+      Runnable latch2f = streambackFull.latchAt(4);
       Runnable latch3f = streambackFull.latchAt(5);
+      Runnable latch4f = streambackFull.latchAt(6);
       Runnable latch1w = streambackWriteOnly.latchAt(1);
       Runnable latch2w = streambackWriteOnly.latchAt(2);
       service.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", ConnectionMode.Full, streambackFull);
@@ -206,19 +207,23 @@ public class ServiceConnectTests {
         cb1.await_success(6);
       }
 
+      // a send is acknowledged before its broadcast is delivered, so wait for both deltas
       latch2f.run();
 
       Assert.assertEquals("{\"data\":{\"x\":142},\"seq\":5}", streambackFull.get(2));
       Assert.assertEquals("{\"data\":{\"x\":242},\"seq\":6}", streambackFull.get(3));
 
       streambackWriteOnly.get().close();
-      streambackFull.get().close();
+      latch2w.run();
+      Assert.assertEquals("STATUS:Disconnected", streambackWriteOnly.get(1));
 
+      // the write only disconnect still advances the document
       latch3f.run();
-      latch2w.run();
+      Assert.assertEquals("{\"seq\":7}", streambackFull.get(4));
 
-      Assert.assertEquals("STATUS:Disconnected", streambackFull.get(4));
-      Assert.assertEquals("STATUS:Disconnected", streambackWriteOnly.get(1));
+      streambackFull.get().close();
+      latch4f.run();
+      Assert.assertEquals("STATUS:Disconnected", streambackFull.get(5));
     } finally {
       service.shutdown();
     }
@@ -0,0 +1,180 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.runtime.sys;
+
+import ape.common.TimeSource;
+import ape.common.metrics.NoOpMetricsFactory;
+import ape.runtime.ContextSupport;
+import ape.runtime.LivingDocumentTests;
+import ape.runtime.data.Key;
+import ape.runtime.mocks.MockBackupService;
+import ape.runtime.mocks.MockTime;
+import ape.runtime.mocks.MockWakeService;
+import ape.runtime.natives.NtPrincipal;
+import ape.runtime.remote.Deliverer;
+import ape.runtime.sys.mocks.*;
+import ape.translator.jvm.LivingDocumentFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ServiceRebalanceTests {
+  private static final CoreMetrics METRICS = new CoreMetrics(new NoOpMetricsFactory());
+  private static final Key KEY = new Key("space", "key");
+  private static final String SIMPLE_CODE_MSG =
+      "@static { create { return true; } } public int x; @connected { x += 1; return true; } @disconnected { x -= 1; } message M {} channel foo(M y) { x += 1000; }";
+
+  @Test
+  public void cold_documents_stay_put() throws Exception {
+    LivingDocumentFactory factory = LivingDocumentTests.compile(SIMPLE_CODE_MSG, Deliverer.FAILURE);
+    MockInstantLivingDocumentFactoryFactory factoryFactory = new MockInstantLivingDocumentFactoryFactory(factory);
+    TimeSource time = new MockTime();
+    MockInstantDataService dataService = new MockInstantDataService();
+    CoreService service = new CoreService(METRICS, factoryFactory, (bill) -> {},  new MockMetricsReporter(), dataService, new MockBackupService(), new MockWakeService(), new MockReplicationInitiator(), time, 3);
+    try {
+      NullCallbackLatch created = new NullCallbackLatch();
+      service.create(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", "1", created);
+      created.await_success();
+      MockStreamback streamback = new MockStreamback();
+      Runnable latchStreamBack = streamback.latchAt(3);
+      service.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", ConnectionMode.Full, streamback);
+      streamback.await_began();
+      LatchCallback rebalanced = new LatchCallback();
+      service.rebalance(0, 10, rebalanced);
+      rebalanced.await_success(0);
+      LatchCallback sent = new LatchCallback();
+      streamback.get().send("foo", null, "{}", sent);
+      sent.await_success(5);
+      latchStreamBack.run();
+      Assert.assertEquals("STATUS:Connected", streamback.get(0));
+      Assert.assertEquals("{\"data\":{\"x\":1},\"seq\":4}", streamback.get(1));
+      Assert.assertEquals("{\"data\":{\"x\":1001},\"seq\":5}", streamback.get(2));
+    } finally {
+      service.shutdown();
+    }
+  }
+
+  /** ask to migrate the key until the document settles into a quiescent state */
+  private static boolean migrate(CoreService service, Key key, int to) throws Exception {
+    for (int attempt = 0; attempt < 50; attempt++) {
+      LatchCallback moved = new LatchCallback();
+      service.migrate(key, to, moved.toBool(1, 0));
+      moved.awaitJustSuccess();
+      try {
+        moved.await_success(1);
+        return true;
+      } catch (AssertionError notYet) {
+        Thread.sleep(10);
+      }
+    }
+    return false;
+  }
+
+  @Test
+  public void connected_document_moves_and_keeps_streaming() throws Exception {
+    LivingDocumentFactory factory = LivingDocumentTests.compile(SIMPLE_CODE_MSG, Deliverer.FAILURE);
+    MockInstantLivingDocumentFactoryFactory factoryFactory = new MockInstantLivingDocumentFactoryFactory(factory);
+    TimeSource time = new MockTime();
+    MockInstantDataService dataService = new MockInstantDataService();
+    CoreService service = new CoreService(METRICS, factoryFactory, (bill) -> {},  new MockMetricsReporter(), dataService, new MockBackupService(), new MockWakeService(), new MockReplicationInitiator(), time, 3);
+    try {
+      NullCallbackLatch created = new NullCallbackLatch();
+      service.create(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", "1", created);
+      created.await_success();
+      MockStreamback streamback = new MockStreamback();
+      Runnable latchConnected = streamback.latchAt(2);
+      Runnable latchFirstMove = streamback.latchAt(3);
+      Runnable latchSecondMove = streamback.latchAt(4);
+      Runnable latchClosed = streamback.latchAt(5);
+      service.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", ConnectionMode.Full, streamback);
+      streamback.await_began();
+      latchConnected.run();
+      int home = new DocumentThreadRouter(3).hash(KEY);
+      // the viewer moves with the document and keeps getting deltas
+      Assert.assertTrue(migrate(service, KEY, (home + 1) % 3));
+      LatchCallback sent = new LatchCallback();
+      streamback.get().send("foo", null, "{}", sent);
+      sent.await_success(5);
+      latchFirstMove.run();
+      Assert.assertTrue(migrate(service, KEY, home));
+      LatchCallback sentAgain = new LatchCallback();
+      streamback.get().send("foo", null, "{}", sentAgain);
+      sentAgain.await_success(6);
+      latchSecondMove.run();
+      streamback.get().close();
+      latchClosed.run();
+      Assert.assertEquals("STATUS:Connected", streamback.get(0));
+      Assert.assertEquals("{\"data\":{\"x\":1},\"seq\":4}", streamback.get(1));
+      Assert.assertEquals("{\"data\":{\"x\":1001},\"seq\":5}", streamback.get(2));
+      Assert.assertEquals("{\"data\":{\"x\":2001},\"seq\":6}", streamback.get(3));
+      Assert.assertEquals("STATUS:Disconnected", streamback.get(4));
+    } finally {
+      service.shutdown();
+    }
+  }
+
+  @Test
+  public void migrate_idle_document() throws Exception {
+    LivingDocumentFactory factory = LivingDocumentTests.compile(SIMPLE_CODE_MSG, Deliverer.FAILURE);
+    MockInstantLivingDocumentFactoryFactory factoryFactory = new MockInstantLivingDocumentFactoryFactory(factory);
+    TimeSource time = new MockTime();
+    MockInstantDataService dataService = new MockInstantDataService();
+    CoreService service = new CoreService(METRICS, factoryFactory, (bill) -> {},  new MockMetricsReporter(), dataService, new MockBackupService(), new MockWakeService(), new MockReplicationInitiator(), time, 3);
+    try {
+      NullCallbackLatch created = new NullCallbackLatch();
+      service.create(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", "1", created);
+      created.await_success();
+      int home = new DocumentThreadRouter(3).hash(KEY);
+      int away = (home + 1) % 3;
+      {
+        MockStreamback streamback = new MockStreamback();
+        Runnable latchStreamBack = streamback.latchAt(3);
+        service.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", ConnectionMode.Full, streamback);
+        streamback.await_began();
+        LatchCallback sent = new LatchCallback();
+        streamback.get().send("foo", null, "{}", sent);
+        sent.await_success(5);
+        latchStreamBack.run();
+        streamback.get().close();
+      }
+      // once the client leaves, the document moves and keeps its state
+      Assert.assertTrue(migrate(service, KEY, away));
+      {
+        LatchCallback again = new LatchCallback();
+        service.migrate(KEY, away, again.toBool(1, 0));
+        again.await_success(0);
+      }
+      MockStreamback streamback = new MockStreamback();
+      Runnable latchStreamBack = streamback.latchAt(2);
+      service.connect(ContextSupport.WRAP(NtPrincipal.NO_ONE), KEY, "{}", ConnectionMode.Full, streamback);
+      streamback.await_began();
+      latchStreamBack.run();
+      Assert.assertEquals("STATUS:Connected", streamback.get(0));
+      Assert.assertTrue(streamback.get(1).contains("\"x\":1001"));
+      // the connected client moves back with the document
+      Assert.assertTrue(migrate(service, KEY, home));
+    } finally {
+      service.shutdown();
+    }
+  }
+}
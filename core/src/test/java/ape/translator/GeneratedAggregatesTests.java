@@ -763,6 +763,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -1704,6 +1708,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -2858,6 +2866,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -3969,6 +3981,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -4907,6 +4923,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -5803,6 +5823,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -7181,6 +7205,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -630,6 +630,10 @@ public class GeneratedAnnotationsTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -766,7 +770,7 @@ public class GeneratedAnnotationsTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2678");
+    gold.append("\nMEMORY:2718");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -1677,6 +1681,10 @@ public class GeneratedAnnotationsTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
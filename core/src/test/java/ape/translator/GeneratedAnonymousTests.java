@@ -813,6 +813,10 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -949,7 +953,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2918");
+    gold.append("\nMEMORY:3038");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -1911,6 +1915,10 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -3205,6 +3213,10 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -4981,6 +4993,10 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -5134,7 +5150,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2678");
+    gold.append("\nMEMORY:2718");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -5996,6 +6012,10 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -6145,7 +6165,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2678");
+    gold.append("\nMEMORY:2718");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
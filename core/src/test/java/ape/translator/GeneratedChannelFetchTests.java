@@ -696,6 +696,10 @@ public class GeneratedChannelFetchTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
     gold.append("\n  private final Sink<RTxX[]> __queue_chan = new Sink<>(\"chan\");");
     gold.append("\n  private final NtChannel<RTxX[]> chan = new NtChannel<>(__futures, __queue_chan);");
     gold.append("\n  @Override");
@@ -1588,6 +1592,10 @@ public class GeneratedChannelFetchTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
     gold.append("\n  private final Sink<RTxX> __queue_chan = new Sink<>(\"chan\");");
     gold.append("\n  private final NtChannel<RTxX> chan = new NtChannel<>(__futures, __queue_chan);");
     gold.append("\n  @Override");
@@ -2493,6 +2501,10 @@ public class GeneratedChannelFetchTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
     gold.append("\n  private final Sink<RTxX> __queue_chan = new Sink<>(\"chan\");");
     gold.append("\n  private final NtChannel<RTxX> chan = new NtChannel<>(__futures, __queue_chan);");
     gold.append("\n  @Override");
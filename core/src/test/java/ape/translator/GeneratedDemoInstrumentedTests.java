@@ -2896,6 +2896,10 @@ public class GeneratedDemoInstrumentedTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
     gold.append("\n  private final Sink<RTxLeaderActionMessage> __queue_leader = new Sink<>(\"leader\");");
     gold.append("\n  private final NtChannel<RTxLeaderActionMessage> leader = new NtChannel<>(__futures, __queue_leader);");
     gold.append("\n  private final Sink<RTxCardDecision[]> __queue_pass_channel = new Sink<>(\"pass_channel\");");
@@ -3138,7 +3142,7 @@ public class GeneratedDemoInstrumentedTests extends GeneratedBase {
     gold.append("\n          RTxPlayer player = _AutoConditionplayer_52.get();");
     gold.append("\n          __code_cost += 2;");
     gold.append("\n          __track(27);");
-    gold.append("\n          NtList<RxPrincipal> _auto_53 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause14()).orderBy(false, __ORDER_Card_ordering_a).limit(true, 13)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
+    gold.append("\n          NtList<RxPrincipal> _auto_53 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause14()).orderByLimit(true, __ORDER_Card_ordering_a, 13)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
     gold.append("\n          for (RxPrincipal _auto_54 : _auto_53) {");
     gold.append("\n            _auto_54.set(player.link.get());");
     gold.append("\n          }");
@@ -5980,6 +5984,10 @@ public class GeneratedDemoInstrumentedTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_say(CoreRequestContext __context, NtPrincipal __who, RTxSay what) throws AbortMessageException {");
     gold.append("\n    __code_cost += 3;");
     gold.append("\n    __track(2);");
@@ -662,6 +662,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_notify(CoreRequestContext __context, NtPrincipal __who, RTxNotifyWrite message) throws AbortMessageException {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(0);");
@@ -853,7 +857,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:9");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":9}");
     gold.append("\n+ RANDO DELTA:{\"seq\":9}");
-    gold.append("\nMEMORY:2806");
+    gold.append("\nMEMORY:2886");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"max_db_seq\":0,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":9,\"__entropy\":\"-652523483647487500\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"150\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -1931,6 +1935,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_publish(CoreRequestContext __context, NtPrincipal __who, RTxPublishMessage message) throws AbortMessageException {");
     gold.append("\n    __code_cost += 4;");
     gold.append("\n    __track(0);");
@@ -2743,6 +2751,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -4129,6 +4141,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[\\\"ordering\\\"]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_say(CoreRequestContext __context, NtPrincipal __who, RTxSay what) throws AbortMessageException {");
     gold.append("\n    __code_cost += 3;");
     gold.append("\n    __track(0);");
@@ -7213,7 +7229,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  private void __FUNC_4_deal(NtPrincipal player, int count) {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(17);");
-    gold.append("\n    NtList<RxPrincipal> _auto_33 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause0()).orderBy(false, __ORDER_Card_ordering_a).limit(true, count)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
+    gold.append("\n    NtList<RxPrincipal> _auto_33 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause0()).orderByLimit(true, __ORDER_Card_ordering_a, count)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
     gold.append("\n    for (RxPrincipal _auto_34 : _auto_33) {");
     gold.append("\n      _auto_34.set(player);");
     gold.append("\n    }");
@@ -7233,6 +7249,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_set_value(CoreRequestContext __context, NtPrincipal __who, RTxPayload p) throws AbortMessageException {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(18);");
@@ -7242,7 +7262,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  private void handleChannelMessage_draw_card(CoreRequestContext __context, NtPrincipal __who, RTxDrawCard dc) throws AbortMessageException {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(19);");
-    gold.append("\n    NtList<RxPrincipal> _auto_35 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause1()).orderBy(false, __ORDER_Card_ordering_a).limit(true, dc.count)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
+    gold.append("\n    NtList<RxPrincipal> _auto_35 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause1()).orderByLimit(true, __ORDER_Card_ordering_a, dc.count)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
     gold.append("\n    for (RxPrincipal _auto_36 : _auto_35) {");
     gold.append("\n      _auto_36.set(__who);");
     gold.append("\n    }");
@@ -10605,6 +10625,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
     gold.append("\n  private final Sink<RTxLeaderActionMessage> __queue_leader = new Sink<>(\"leader\");");
     gold.append("\n  private final NtChannel<RTxLeaderActionMessage> leader = new NtChannel<>(__futures, __queue_leader);");
     gold.append("\n  private final Sink<RTxCardDecision[]> __queue_pass_channel = new Sink<>(\"pass_channel\");");
@@ -10847,7 +10871,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n          RTxPlayer player = _AutoConditionplayer_52.get();");
     gold.append("\n          __code_cost += 2;");
     gold.append("\n          __track(27);");
-    gold.append("\n          NtList<RxPrincipal> _auto_53 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause14()).orderBy(false, __ORDER_Card_ordering_a).limit(true, 13)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
+    gold.append("\n          NtList<RxPrincipal> _auto_53 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause14()).orderByLimit(true, __ORDER_Card_ordering_a, 13)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
     gold.append("\n          for (RxPrincipal _auto_54 : _auto_53) {");
     gold.append("\n            _auto_54.set(player.link.get());");
     gold.append("\n          }");
@@ -13486,6 +13510,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_create_new_add_on(CoreRequestContext __context, NtPrincipal __who, RTxAddAddOn arg) throws AbortMessageException {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(0);");
@@ -15465,7 +15493,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  private void __FUNC_1_deal_cards(NtPrincipal who, int count) {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(3);");
-    gold.append("\n    NtList<RxPrincipal> _auto_43 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause0()).orderBy(false, __ORDER_Card_ordering_a).limit(true, count)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
+    gold.append("\n    NtList<RxPrincipal> _auto_43 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause0()).orderByLimit(true, __ORDER_Card_ordering_a, count)).transform((RTxCard __item) -> (RxPrincipal) (__item.owner));");
     gold.append("\n    for (RxPrincipal _auto_44 : _auto_43) {");
     gold.append("\n      _auto_44.set(who);");
     gold.append("\n    }");
@@ -15513,6 +15541,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -16564,6 +16596,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_square(CoreRequestContext __context, NtPrincipal __who, RTxNothing n) throws AbortMessageException {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(0);");
@@ -16806,7 +16842,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:7");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":7}");
     gold.append("\n+ RANDO DELTA:{\"seq\":7}");
-    gold.append("\nMEMORY:2942");
+    gold.append("\nMEMORY:3058");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"creator\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":0,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":7,\"__entropy\":\"5082315122564986995\",\"__auto_future_id\":0,\"__connection_id\":1,\"__message_id\":0,\"__time\":\"125\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"}},\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -17449,6 +17485,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_change(CoreRequestContext __context, NtPrincipal __who, RTxM m) throws AbortMessageException {");
     gold.append("\n    __code_cost += 2;");
     gold.append("\n    __track(0);");
@@ -17633,7 +17673,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:9");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":9}");
     gold.append("\n+ RANDO DELTA:{\"seq\":9}");
-    gold.append("\nMEMORY:2806");
+    gold.append("\nMEMORY:2886");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"x\":123,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":9,\"__entropy\":\"-652523483647487500\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"150\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -18336,6 +18376,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -19915,6 +19959,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
     gold.append("\n  private final Sink<RTxPlay> __queue_play = new Sink<>(\"play\");");
     gold.append("\n  private final NtChannel<RTxPlay> play = new NtChannel<>(__futures, __queue_play);");
     gold.append("\n  @Override");
@@ -21464,6 +21512,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public String __getViewStateFilter() {");
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_say(CoreRequestContext __context, NtPrincipal __who, RTxSay what) throws AbortMessageException {");
     gold.append("\n    __code_cost += 3;");
     gold.append("\n    __track(0);");
@@ -108,60 +108,102 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_IndexingBool_3 = null;
-  private String get_IndexingBool_3() {
-    if (cached_IndexingBool_3 != null) {
-      return cached_IndexingBool_3;
+  private String cached_IncrementalAggregates_3 = null;
+  private String get_IncrementalAggregates_3() {
+    if (cached_IncrementalAggregates_3 != null) {
+      return cached_IncrementalAggregates_3;
     }
-    cached_IndexingBool_3 = generateTestOutput(true, "IndexingBool_3", "./test_code/Linq_IndexingBool_success.a");
-    return cached_IndexingBool_3;
+    cached_IncrementalAggregates_3 = generateTestOutput(true, "IncrementalAggregates_3", "./test_code/Linq_IncrementalAggregates_success.a");
+    return cached_IncrementalAggregates_3;
   }
 
   @Test
-  public void testIndexingBoolEmission() {
-    assertEmissionGood(get_IndexingBool_3());
+  public void testIncrementalAggregatesEmission() {
+    assertEmissionGood(get_IncrementalAggregates_3());
   }
 
   @Test
-  public void testIndexingBoolSuccess() {
-    assertLivePass(get_IndexingBool_3());
+  public void testIncrementalAggregatesSuccess() {
+    assertLivePass(get_IncrementalAggregates_3());
   }
 
   @Test
-  public void testIndexingBoolNoFormatException() {
-    assertNoFormatException(get_IndexingBool_3());
+  public void testIncrementalAggregatesNoFormatException() {
+    assertNoFormatException(get_IncrementalAggregates_3());
   }
 
   @Test
-  public void testIndexingBoolGoodWillHappy() {
-    assertGoodWillHappy(get_IndexingBool_3());
+  public void testIncrementalAggregatesGoodWillHappy() {
+    assertGoodWillHappy(get_IncrementalAggregates_3());
   }
 
   @Test
-  public void testIndexingBoolExceptionFree() {
-    assertExceptionFree(get_IndexingBool_3());
+  public void testIncrementalAggregatesExceptionFree() {
+    assertExceptionFree(get_IncrementalAggregates_3());
   }
 
   @Test
-  public void testIndexingBoolTODOFree() {
-    assertTODOFree(get_IndexingBool_3());
+  public void testIncrementalAggregatesTODOFree() {
+    assertTODOFree(get_IncrementalAggregates_3());
   }
 
   @Test
-  public void stable_IndexingBool_3() {
-    String live = get_IndexingBool_3();
+  public void stable_IncrementalAggregates_3() {
+    String live = get_IncrementalAggregates_3();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Linq_IndexingBool_success.a");
+    gold.append("Path:Linq_IncrementalAggregates_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
     gold.append("\nEmission Success, Yay");
     gold.append("\n=FORMAT===================================================");
-    gold.append("\nrecord S {");
-    gold.append("\n  bool s;");
-    gold.append("\n  index s;");
+    gold.append("\nrecord Order {");
+    gold.append("\n  public int id;");
+    gold.append("\n  public int qty;");
+    gold.append("\n  public long volume;");
+    gold.append("\n  public double price;");
     gold.append("\n}");
-    gold.append("\ntable<S> tbl;");
-    gold.append("\n#code {");
-    gold.append("\n  (iterate tbl) where s;");
+    gold.append("\ntable<Order> _orders;");
+    gold.append("\npublic formula orders = (iterate _orders).size();");
+    gold.append("\npublic formula qty = (iterate _orders).qty.sum();");
+    gold.append("\npublic formula volume = (iterate _orders).volume.sum();");
+    gold.append("\npublic formula notional = (iterate _orders).price.sum();");
+    gold.append("\npublic formula avg_qty = (iterate _orders).qty.average();");
+    gold.append("\npublic formula cheapest = (iterate _orders).price.minimum();");
+    gold.append("\npublic formula priciest = (iterate _orders).price.maximum();");
+    gold.append("\npublic formula big = (iterate _orders where qty > 5).qty.sum();");
+    gold.append("\nprocedure place(int q, double p) {");
+    gold.append("\n  _orders <- {");
+    gold.append("\n      qty:q,");
+    gold.append("\n      volume:q * 1000,");
+    gold.append("\n      price:p");
+    gold.append("\n    };");
+    gold.append("\n}");
+    gold.append("\ntest incremental {");
+    gold.append("\n  assert orders == 0;");
+    gold.append("\n  assert !qty.has();");
+    gold.append("\n  assert !volume.has();");
+    gold.append("\n  assert !notional.has();");
+    gold.append("\n  assert !avg_qty.has();");
+    gold.append("\n  assert !cheapest.has();");
+    gold.append("\n  assert !priciest.has();");
+    gold.append("\n  assert !big.has();");
+    gold.append("\n  place(2, 1.5);");
+    gold.append("\n  place(4, 3.0);");
+    gold.append("\n  @step;");
+    gold.append("\n  assert orders == 2;");
+    gold.append("\n  assert qty.getOrDefaultTo(-1) == 6;");
+    gold.append("\n  assert volume.getOrDefaultTo(-1L) == 6000L;");
+    gold.append("\n  assert cheapest.getOrDefaultTo(-1.0) == 1.5;");
+    gold.append("\n  assert priciest.getOrDefaultTo(-1.0) == 3.0;");
+    gold.append("\n  (iterate _orders where price == 1.5).qty = 10;");
+    gold.append("\n  @step;");
+    gold.append("\n  assert qty.getOrDefaultTo(-1) == 14;");
+    gold.append("\n  assert avg_qty.getOrDefaultTo(-1.0) == 7.0;");
+    gold.append("\n  assert big.getOrDefaultTo(-1) == 10;");
+    gold.append("\n  (iterate _orders where price == 3.0).delete();");
+    gold.append("\n  @step;");
+    gold.append("\n  assert orders == 1;");
+    gold.append("\n  assert priciest.getOrDefaultTo(-1.0) == 1.5;");
+    gold.append("\n  assert notional.getOrDefaultTo(-1.0) == 1.5;");
     gold.append("\n}");
     gold.append("\n");
     gold.append("\n==========================================================");
@@ -202,23 +244,116 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class IndexingBool_3 extends LivingDocument {");
-    gold.append("\n  private final RxTable<RTxS> tbl;");
+    gold.append("\npublic class IncrementalAggregates_3 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxOrder> _orders;");
+    gold.append("\n  private final RxLazy<Integer> orders;");
+    gold.append("\n  private final TableAggregate<RTxOrder, Integer, Integer> __orders_aggregate;");
+    gold.append("\n  private final RxTableGuard __orders__orders;");
+    gold.append("\n  private final RxLazy<NtMaybe<Integer>> qty;");
+    gold.append("\n  private final TableAggregate<RTxOrder, Integer, NtMaybe<Integer>> __qty_aggregate;");
+    gold.append("\n  private final RxTableGuard __qty__orders;");
+    gold.append("\n  private final RxLazy<NtMaybe<Long>> volume;");
+    gold.append("\n  private final TableAggregate<RTxOrder, Long, NtMaybe<Long>> __volume_aggregate;");
+    gold.append("\n  private final RxTableGuard __volume__orders;");
+    gold.append("\n  private final RxLazy<NtMaybe<Double>> notional;");
+    gold.append("\n  private final TableAggregate<RTxOrder, Double, NtMaybe<Double>> __notional_aggregate;");
+    gold.append("\n  private final RxTableGuard __notional__orders;");
+    gold.append("\n  private final RxLazy<NtMaybe<Double>> avg_qty;");
+    gold.append("\n  private final TableAggregate<RTxOrder, Integer, NtMaybe<Double>> __avg_qty_aggregate;");
+    gold.append("\n  private final RxTableGuard __avg_qty__orders;");
+    gold.append("\n  private final RxLazy<NtMaybe<Double>> cheapest;");
+    gold.append("\n  private final TableAggregate<RTxOrder, Double, NtMaybe<Double>> __cheapest_aggregate;");
+    gold.append("\n  private final RxTableGuard __cheapest__orders;");
+    gold.append("\n  private final RxLazy<NtMaybe<Double>> priciest;");
+    gold.append("\n  private final TableAggregate<RTxOrder, Double, NtMaybe<Double>> __priciest_aggregate;");
+    gold.append("\n  private final RxTableGuard __priciest__orders;");
+    gold.append("\n  private final RxLazy<NtMaybe<Integer>> big;");
+    gold.append("\n  private final RxTableGuard __big__orders;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
     gold.append("\n    long __sum = super.__memory() + 2176;");
-    gold.append("\n    __sum += tbl.__memory();");
+    gold.append("\n    __sum += _orders.__memory();");
+    gold.append("\n    __sum += orders.__memory();");
+    gold.append("\n    __sum += qty.__memory();");
+    gold.append("\n    __sum += volume.__memory();");
+    gold.append("\n    __sum += notional.__memory();");
+    gold.append("\n    __sum += avg_qty.__memory();");
+    gold.append("\n    __sum += cheapest.__memory();");
+    gold.append("\n    __sum += priciest.__memory();");
+    gold.append("\n    __sum += big.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public IndexingBool_3(DocumentMonitor __monitor) {");
+    gold.append("\n  public IncrementalAggregates_3(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
-    gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxS(__parent).__link(), 1);");
+    gold.append("\n    _orders = new RxTable<>(__self, this, \"_orders\", (RxParent __parent) -> new RTxOrder(__parent).__link(), 0);");
+    gold.append("\n    __orders_aggregate = new TableAggregate<RTxOrder, Integer, Integer>(this, (RTxOrder __item) -> 1, TableAccumulators.count());");
+    gold.append("\n    orders = new RxLazy<Integer>(this, () -> (Integer)(__orders_aggregate.compute()), null);");
+    gold.append("\n    __orders__orders = new RxTableGuard(orders);");
+    gold.append("\n    __qty_aggregate = new TableAggregate<RTxOrder, Integer, NtMaybe<Integer>>(this, (RTxOrder __item) -> __item.qty.get(), TableAccumulators.sumInts());");
+    gold.append("\n    qty = new RxLazy<NtMaybe<Integer>>(this, () -> (NtMaybe<Integer>)(__qty_aggregate.compute()), null);");
+    gold.append("\n    __qty__orders = new RxTableGuard(qty);");
+    gold.append("\n    __volume_aggregate = new TableAggregate<RTxOrder, Long, NtMaybe<Long>>(this, (RTxOrder __item) -> __item.volume.get(), TableAccumulators.sumLongs());");
+    gold.append("\n    volume = new RxLazy<NtMaybe<Long>>(this, () -> (NtMaybe<Long>)(__volume_aggregate.compute()), null);");
+    gold.append("\n    __volume__orders = new RxTableGuard(volume);");
+    gold.append("\n    __notional_aggregate = new TableAggregate<RTxOrder, Double, NtMaybe<Double>>(this, (RTxOrder __item) -> __item.price.get(), TableAccumulators.sumDoubles());");
+    gold.append("\n    notional = new RxLazy<NtMaybe<Double>>(this, () -> (NtMaybe<Double>)(__notional_aggregate.compute()), null);");
+    gold.append("\n    __notional__orders = new RxTableGuard(notional);");
+    gold.append("\n    __avg_qty_aggregate = new TableAggregate<RTxOrder, Integer, NtMaybe<Double>>(this, (RTxOrder __item) -> __item.qty.get(), TableAccumulators.averageInts());");
+    gold.append("\n    avg_qty = new RxLazy<NtMaybe<Double>>(this, () -> (NtMaybe<Double>)(__avg_qty_aggregate.compute()), null);");
+    gold.append("\n    __avg_qty__orders = new RxTableGuard(avg_qty);");
+    gold.append("\n    __cheapest_aggregate = new TableAggregate<RTxOrder, Double, NtMaybe<Double>>(this, (RTxOrder __item) -> __item.price.get(), TableAccumulators.minimum());");
+    gold.append("\n    cheapest = new RxLazy<NtMaybe<Double>>(this, () -> (NtMaybe<Double>)(__cheapest_aggregate.compute()), null);");
+    gold.append("\n    __cheapest__orders = new RxTableGuard(cheapest);");
+    gold.append("\n    __priciest_aggregate = new TableAggregate<RTxOrder, Double, NtMaybe<Double>>(this, (RTxOrder __item) -> __item.price.get(), TableAccumulators.maximum());");
+    gold.append("\n    priciest = new RxLazy<NtMaybe<Double>>(this, () -> (NtMaybe<Double>)(__priciest_aggregate.compute()), null);");
+    gold.append("\n    __priciest__orders = new RxTableGuard(priciest);");
+    gold.append("\n    big = new RxLazy<NtMaybe<Integer>>(this, () -> (NtMaybe<Integer>)(LibStatistics.sumInts((_orders.iterate(false).where(true, new __CLOSURE_WhereClause0())).transform((RTxOrder __item) -> (Integer) (__item.qty.get())))), null);");
+    gold.append("\n    __big__orders = new RxTableGuard(big);");
+    gold.append("\n    _orders.__subscribe(__orders__orders);");
+    gold.append("\n    orders.__guard(_orders,__orders__orders);");
+    gold.append("\n    __orders_aggregate.bind(_orders);");
+    gold.append("\n    _orders.__subscribe(__qty__orders);");
+    gold.append("\n    qty.__guard(_orders,__qty__orders);");
+    gold.append("\n    __qty_aggregate.bind(_orders);");
+    gold.append("\n    _orders.__subscribe(__volume__orders);");
+    gold.append("\n    volume.__guard(_orders,__volume__orders);");
+    gold.append("\n    __volume_aggregate.bind(_orders);");
+    gold.append("\n    _orders.__subscribe(__notional__orders);");
+    gold.append("\n    notional.__guard(_orders,__notional__orders);");
+    gold.append("\n    __notional_aggregate.bind(_orders);");
+    gold.append("\n    _orders.__subscribe(__avg_qty__orders);");
+    gold.append("\n    avg_qty.__guard(_orders,__avg_qty__orders);");
+    gold.append("\n    __avg_qty_aggregate.bind(_orders);");
+    gold.append("\n    _orders.__subscribe(__cheapest__orders);");
+    gold.append("\n    cheapest.__guard(_orders,__cheapest__orders);");
+    gold.append("\n    __cheapest_aggregate.bind(_orders);");
+    gold.append("\n    _orders.__subscribe(__priciest__orders);");
+    gold.append("\n    priciest.__guard(_orders,__priciest__orders);");
+    gold.append("\n    __priciest_aggregate.bind(_orders);");
+    gold.append("\n    _orders.__subscribe(__big__orders);");
+    gold.append("\n    big.__guard(_orders,__big__orders);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __settle(Set<Integer> __viewers) {");
-    gold.append("\n    tbl.__settle(__viewers);");
+    gold.append("\n    _orders.__settle(__viewers);");
+    gold.append("\n    orders.__settle(__viewers);");
+    gold.append("\n    __orders__orders.__settle(__viewers);");
+    gold.append("\n    qty.__settle(__viewers);");
+    gold.append("\n    __qty__orders.__settle(__viewers);");
+    gold.append("\n    volume.__settle(__viewers);");
+    gold.append("\n    __volume__orders.__settle(__viewers);");
+    gold.append("\n    notional.__settle(__viewers);");
+    gold.append("\n    __notional__orders.__settle(__viewers);");
+    gold.append("\n    avg_qty.__settle(__viewers);");
+    gold.append("\n    __avg_qty__orders.__settle(__viewers);");
+    gold.append("\n    cheapest.__settle(__viewers);");
+    gold.append("\n    __cheapest__orders.__settle(__viewers);");
+    gold.append("\n    priciest.__settle(__viewers);");
+    gold.append("\n    __priciest__orders.__settle(__viewers);");
+    gold.append("\n    big.__settle(__viewers);");
+    gold.append("\n    __big__orders.__settle(__viewers);");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
@@ -226,8 +361,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__insert(__reader);");
+    gold.append("\n          case \"_orders\":");
+    gold.append("\n            _orders.__insert(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__insert(__reader);");
@@ -317,8 +452,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__patch(__reader);");
+    gold.append("\n          case \"_orders\":");
+    gold.append("\n            _orders.__patch(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__patch(__reader);");
@@ -406,8 +541,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __writer.beginObject();");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
     gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
-    gold.append("\n    tbl.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"_orders\");");
+    gold.append("\n    _orders.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
     gold.append("\n    __state.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
@@ -470,7 +605,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
     gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
     gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
-    gold.append("\n    tbl.__commit(\"tbl\", __forward, __reverse);");
+    gold.append("\n    _orders.__commit(\"_orders\", __forward, __reverse);");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -488,7 +623,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __time.__revert();");
     gold.append("\n    __timezone.__revert();");
     gold.append("\n    __webTaskId.__revert();");
-    gold.append("\n    tbl.__revert();");
+    gold.append("\n    _orders.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -496,21 +631,136 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaIndexingBool_3 implements DeltaNode {");
+    gold.append("\n  private class DeltaIncrementalAggregates_3 implements DeltaNode {");
+    gold.append("\n    private int __gorders;");
+    gold.append("\n    private DInt32 __dorders;");
+    gold.append("\n    private int __gqty;");
+    gold.append("\n    private DMaybe<DInt32> __dqty;");
+    gold.append("\n    private int __gvolume;");
+    gold.append("\n    private DMaybe<DInt64> __dvolume;");
+    gold.append("\n    private int __gnotional;");
+    gold.append("\n    private DMaybe<DDouble> __dnotional;");
+    gold.append("\n    private int __gavg_qty;");
+    gold.append("\n    private DMaybe<DDouble> __davg_qty;");
+    gold.append("\n    private int __gcheapest;");
+    gold.append("\n    private DMaybe<DDouble> __dcheapest;");
+    gold.append("\n    private int __gpriciest;");
+    gold.append("\n    private DMaybe<DDouble> __dpriciest;");
+    gold.append("\n    private int __gbig;");
+    gold.append("\n    private DMaybe<DInt32> __dbig;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaIndexingBool_3() {");
+    gold.append("\n    private DeltaIncrementalAggregates_3() {");
+    gold.append("\n      __gorders = -1;");
+    gold.append("\n      __dorders = new DInt32();");
+    gold.append("\n      __gqty = -1;");
+    gold.append("\n      __dqty = new DMaybe<DInt32>();");
+    gold.append("\n      __gvolume = -1;");
+    gold.append("\n      __dvolume = new DMaybe<DInt64>();");
+    gold.append("\n      __gnotional = -1;");
+    gold.append("\n      __dnotional = new DMaybe<DDouble>();");
+    gold.append("\n      __gavg_qty = -1;");
+    gold.append("\n      __davg_qty = new DMaybe<DDouble>();");
+    gold.append("\n      __gcheapest = -1;");
+    gold.append("\n      __dcheapest = new DMaybe<DDouble>();");
+    gold.append("\n      __gpriciest = -1;");
+    gold.append("\n      __dpriciest = new DMaybe<DDouble>();");
+    gold.append("\n      __gbig = -1;");
+    gold.append("\n      __dbig = new DMaybe<DInt32>();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dorders.__memory();");
+    gold.append("\n      __sum += __dqty.__memory();");
+    gold.append("\n      __sum += __dvolume.__memory();");
+    gold.append("\n      __sum += __dnotional.__memory();");
+    gold.append("\n      __sum += __davg_qty.__memory();");
+    gold.append("\n      __sum += __dcheapest.__memory();");
+    gold.append("\n      __sum += __dpriciest.__memory();");
+    gold.append("\n      __sum += __dbig.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(IndexingBool_3 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(IncrementalAggregates_3 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      __code_cost += 8;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
+    gold.append("\n      if (__gorders != __item.orders.getGeneration()) {");
+    gold.append("\n        __dorders.show(__item.orders.get(), __obj.planField(\"orders\"));");
+    gold.append("\n        __gorders = __item.orders.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gqty != __item.qty.getGeneration()) {");
+    gold.append("\n        if (__item.qty.get().has()) {");
+    gold.append("\n          Integer __maybeElement2 = (Integer)(__item.qty.get().get());");
+    gold.append("\n          DInt32 __maybeDeltaElement3 = __dqty.get(() -> new DInt32());");
+    gold.append("\n          __maybeDeltaElement3.show(__maybeElement2, __obj.planField(\"qty\"));");
+    gold.append("\n        } else {");
+    gold.append("\n          __dqty.hide(__obj.planField(\"qty\"));");
+    gold.append("\n        }");
+    gold.append("\n        __gqty = __item.qty.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gvolume != __item.volume.getGeneration()) {");
+    gold.append("\n        if (__item.volume.get().has()) {");
+    gold.append("\n          Long __maybeElement4 = (Long)(__item.volume.get().get());");
+    gold.append("\n          DInt64 __maybeDeltaElement5 = __dvolume.get(() -> new DInt64());");
+    gold.append("\n          __maybeDeltaElement5.show(__maybeElement4, __obj.planField(\"volume\"));");
+    gold.append("\n        } else {");
+    gold.append("\n          __dvolume.hide(__obj.planField(\"volume\"));");
+    gold.append("\n        }");
+    gold.append("\n        __gvolume = __item.volume.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gnotional != __item.notional.getGeneration()) {");
+    gold.append("\n        if (__item.notional.get().has()) {");
+    gold.append("\n          Double __maybeElement6 = (Double)(__item.notional.get().get());");
+    gold.append("\n          DDouble __maybeDeltaElement7 = __dnotional.get(() -> new DDouble());");
+    gold.append("\n          __maybeDeltaElement7.show(__maybeElement6, __obj.planField(\"notional\"));");
+    gold.append("\n        } else {");
+    gold.append("\n          __dnotional.hide(__obj.planField(\"notional\"));");
+    gold.append("\n        }");
+    gold.append("\n        __gnotional = __item.notional.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gavg_qty != __item.avg_qty.getGeneration()) {");
+    gold.append("\n        if (__item.avg_qty.get().has()) {");
+    gold.append("\n          Double __maybeElement8 = (Double)(__item.avg_qty.get().get());");
+    gold.append("\n          DDouble __maybeDeltaElement9 = __davg_qty.get(() -> new DDouble());");
+    gold.append("\n          __maybeDeltaElement9.show(__maybeElement8, __obj.planField(\"avg_qty\"));");
+    gold.append("\n        } else {");
+    gold.append("\n          __davg_qty.hide(__obj.planField(\"avg_qty\"));");
+    gold.append("\n        }");
+    gold.append("\n        __gavg_qty = __item.avg_qty.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gcheapest != __item.cheapest.getGeneration()) {");
+    gold.append("\n        if (__item.cheapest.get().has()) {");
+    gold.append("\n          Double __maybeElement10 = (Double)(__item.cheapest.get().get());");
+    gold.append("\n          DDouble __maybeDeltaElement11 = __dcheapest.get(() -> new DDouble());");
+    gold.append("\n          __maybeDeltaElement11.show(__maybeElement10, __obj.planField(\"cheapest\"));");
+    gold.append("\n        } else {");
+    gold.append("\n          __dcheapest.hide(__obj.planField(\"cheapest\"));");
+    gold.append("\n        }");
+    gold.append("\n        __gcheapest = __item.cheapest.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gpriciest != __item.priciest.getGeneration()) {");
+    gold.append("\n        if (__item.priciest.get().has()) {");
+    gold.append("\n          Double __maybeElement12 = (Double)(__item.priciest.get().get());");
+    gold.append("\n          DDouble __maybeDeltaElement13 = __dpriciest.get(() -> new DDouble());");
+    gold.append("\n          __maybeDeltaElement13.show(__maybeElement12, __obj.planField(\"priciest\"));");
+    gold.append("\n        } else {");
+    gold.append("\n          __dpriciest.hide(__obj.planField(\"priciest\"));");
+    gold.append("\n        }");
+    gold.append("\n        __gpriciest = __item.priciest.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gbig != __item.big.getGeneration()) {");
+    gold.append("\n        if (__item.big.get().has()) {");
+    gold.append("\n          Integer __maybeElement14 = (Integer)(__item.big.get().get());");
+    gold.append("\n          DInt32 __maybeDeltaElement15 = __dbig.get(() -> new DInt32());");
+    gold.append("\n          __maybeDeltaElement15.show(__maybeElement14, __obj.planField(\"big\"));");
+    gold.append("\n        } else {");
+    gold.append("\n          __dbig.hide(__obj.planField(\"big\"));");
+    gold.append("\n        }");
+    gold.append("\n        __gbig = __item.big.getGeneration();");
+    gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -518,7 +768,15 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __code_cost += 0;");
+    gold.append("\n      __dorders.clear();");
+    gold.append("\n      __dqty.clear();");
+    gold.append("\n      __dvolume.clear();");
+    gold.append("\n      __dnotional.clear();");
+    gold.append("\n      __davg_qty.clear();");
+    gold.append("\n      __dcheapest.clear();");
+    gold.append("\n      __dpriciest.clear();");
+    gold.append("\n      __dbig.clear();");
+    gold.append("\n      __code_cost += 8;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -537,8 +795,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    IndexingBool_3 __self = this;");
-    gold.append("\n    DeltaIndexingBool_3 __state = new DeltaIndexingBool_3();");
+    gold.append("\n    IncrementalAggregates_3 __self = this;");
+    gold.append("\n    DeltaIncrementalAggregates_3 __state = new DeltaIncrementalAggregates_3();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -622,28 +880,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private static String[] __INDEX_COLUMNS_S = new String[] {\"s\"};");
-    gold.append("\n  private class RTxS extends RxRecordBase<RTxS> {");
-    gold.append("\n    private final RTxS __this;");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_Order = new String[] {};");
+    gold.append("\n  private class RTxOrder extends RxRecordBase<RTxOrder> {");
+    gold.append("\n    private final RTxOrder __this;");
     gold.append("\n    private final RxInt32 id;");
-    gold.append("\n    private final RxBoolean s;");
-    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_s;");
-    gold.append("\n    private RTxS(RxParent __owner) {");
+    gold.append("\n    private final RxInt32 qty;");
+    gold.append("\n    private final RxInt64 volume;");
+    gold.append("\n    private final RxDouble price;");
+    gold.append("\n    private RTxOrder(RxParent __owner) {");
     gold.append("\n      super(__owner);");
     gold.append("\n      this.__this = this;");
     gold.append("\n      id = new RxInt32(this, 0);");
-    gold.append("\n      s = new RxBoolean(this, false);");
+    gold.append("\n      qty = new RxInt32(this, 0);");
+    gold.append("\n      volume = new RxInt64(this, 0L);");
+    gold.append("\n      price = new RxDouble(this, 0.0);");
     gold.append("\n      if (__owner instanceof RxTable) {");
-    gold.append("\n        __INDEX_s = new ReactiveIndexInvalidator(((RxTable<RTxS>)(__owner)).getIndex((short)0), this) {");
-    gold.append("\n            @Override");
-    gold.append("\n            public int pullValue() {");
-    gold.append("\n                return s.getIndexValue();");
-    gold.append("\n            }");
-    gold.append("\n          };");
-    gold.append("\n        s.__subscribe(__INDEX_s);");
     gold.append("\n        /* ok */");
     gold.append("\n      } else {");
-    gold.append("\n        __INDEX_s = null;");
     gold.append("\n        /* ok */");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -651,24 +904,30 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = super.__memory() + 0;");
     gold.append("\n      __sum += id.__memory();");
-    gold.append("\n      __sum += s.__memory();");
+    gold.append("\n      __sum += qty.__memory();");
+    gold.append("\n      __sum += volume.__memory();");
+    gold.append("\n      __sum += price.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
-    gold.append("\n      return __INDEX_COLUMNS_S;");
+    gold.append("\n      return __INDEX_COLUMNS_Order;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {s.getIndexValue()};");
+    gold.append("\n      return new int[] {};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public Object __fieldOf(String __name) {");
     gold.append("\n      switch (__name) {");
     gold.append("\n        case \"id\":");
     gold.append("\n          return id;");
-    gold.append("\n        case \"s\":");
-    gold.append("\n          return s;");
+    gold.append("\n        case \"qty\":");
+    gold.append("\n          return qty;");
+    gold.append("\n        case \"volume\":");
+    gold.append("\n          return volume;");
+    gold.append("\n        case \"price\":");
+    gold.append("\n          return price;");
     gold.append("\n        default:");
     gold.append("\n          return null;");
     gold.append("\n      }");
@@ -686,8 +945,14 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n            case \"id\":");
     gold.append("\n              id.__insert(__reader);");
     gold.append("\n              break;");
-    gold.append("\n            case \"s\":");
-    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n            case \"qty\":");
+    gold.append("\n              qty.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"volume\":");
+    gold.append("\n              volume.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"price\":");
+    gold.append("\n              price.__insert(__reader);");
     gold.append("\n              break;");
     gold.append("\n            default:");
     gold.append("\n              __reader.skipValue();");
@@ -704,8 +969,14 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n            case \"id\":");
     gold.append("\n              id.__patch(__reader);");
     gold.append("\n              break;");
-    gold.append("\n            case \"s\":");
-    gold.append("\n              s.__patch(__reader);");
+    gold.append("\n            case \"qty\":");
+    gold.append("\n              qty.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"volume\":");
+    gold.append("\n              volume.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"price\":");
+    gold.append("\n              price.__patch(__reader);");
     gold.append("\n              break;");
     gold.append("\n            default:");
     gold.append("\n              __reader.skipValue();");
@@ -718,8 +989,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __writer.beginObject();");
     gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
     gold.append("\n      id.__dump(__writer);");
-    gold.append("\n      __writer.writeObjectFieldIntro(\"s\");");
-    gold.append("\n      s.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"qty\");");
+    gold.append("\n      qty.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"volume\");");
+    gold.append("\n      volume.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"price\");");
+    gold.append("\n      price.__dump(__writer);");
     gold.append("\n      __writer.endObject();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -730,7 +1005,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n        __reverse.writeObjectFieldIntro(__name);");
     gold.append("\n        __reverse.beginObject();");
     gold.append("\n        id.__commit(\"id\", __forward, __reverse);");
-    gold.append("\n        s.__commit(\"s\", __forward, __reverse);");
+    gold.append("\n        qty.__commit(\"qty\", __forward, __reverse);");
+    gold.append("\n        volume.__commit(\"volume\", __forward, __reverse);");
+    gold.append("\n        price.__commit(\"price\", __forward, __reverse);");
     gold.append("\n        __forward.endObject();");
     gold.append("\n        __reverse.endObject();");
     gold.append("\n        __lowerDirtyCommit();");
@@ -741,7 +1018,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      if (__isDirty()) {");
     gold.append("\n        __isDying = false;");
     gold.append("\n        id.__revert();");
-    gold.append("\n        s.__revert();");
+    gold.append("\n        qty.__revert();");
+    gold.append("\n        volume.__revert();");
+    gold.append("\n        price.__revert();");
     gold.append("\n        __lowerDirtyRevert();");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -750,28 +1029,22 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public void __writeRxReport(JsonStreamWriter __writer) { }");
     gold.append("\n    @Override");
-    gold.append("\n    public RTxS __link() {");
+    gold.append("\n    public RTxOrder __link() {");
     gold.append("\n      return this;");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public void __invalidateIndex(TablePubSub __pubsub) {");
-    gold.append("\n      __pubsub.index(0,s.getIndexValue());");
-    gold.append("\n    }");
+    gold.append("\n    public void __invalidateIndex(TablePubSub __pubsub) {}");
     gold.append("\n    @Override");
-    gold.append("\n    public void __pumpIndexEvents(TablePubSub __pubsub) {");
-    gold.append("\n      s.setWatcher(__value -> __pubsub.index(0, __value));");
-    gold.append("\n    }");
+    gold.append("\n    public void __pumpIndexEvents(TablePubSub __pubsub) {}");
     gold.append("\n    @Override");
     gold.append("\n    public String __name() {");
-    gold.append("\n      return \"S\";");
+    gold.append("\n      return \"Order\";");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __deindex() {");
-    gold.append("\n      __INDEX_s.deindex();");
     gold.append("\n      /* ok */");
     gold.append("\n    }");
     gold.append("\n    public void __reindex() {");
-    gold.append("\n      __INDEX_s.reindex();");
     gold.append("\n      /* ok */");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -787,19 +1060,36 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaRTxS implements DeltaNode {");
+    gold.append("\n  private class DeltaRTxOrder implements DeltaNode {");
+    gold.append("\n    private DInt32 __did;");
+    gold.append("\n    private DInt32 __dqty;");
+    gold.append("\n    private DInt64 __dvolume;");
+    gold.append("\n    private DDouble __dprice;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaRTxS() {");
+    gold.append("\n    private DeltaRTxOrder() {");
+    gold.append("\n      __did = new DInt32();");
+    gold.append("\n      __dqty = new DInt32();");
+    gold.append("\n      __dvolume = new DInt64();");
+    gold.append("\n      __dprice = new DDouble();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __did.__memory();");
+    gold.append("\n      __sum += __dqty.__memory();");
+    gold.append("\n      __sum += __dvolume.__memory();");
+    gold.append("\n      __sum += __dprice.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(RTxS __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(RTxOrder __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = (DeltaPrivacyCache) __writer.getCacheObject();");
+    gold.append("\n      __code_cost += 4;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __did.show(__item.id.get(), __obj.planField(\"id\"));");
+    gold.append("\n      __dqty.show(__item.qty.get(), __obj.planField(\"qty\"));");
+    gold.append("\n      __dvolume.show(__item.volume.get(), __obj.planField(\"volume\"));");
+    gold.append("\n      __dprice.show(__item.price.get(), __obj.planField(\"price\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -807,7 +1097,11 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __code_cost += 0;");
+    gold.append("\n      __did.clear();");
+    gold.append("\n      __dqty.clear();");
+    gold.append("\n      __dvolume.clear();");
+    gold.append("\n      __dprice.clear();");
+    gold.append("\n      __code_cost += 4;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -817,21 +1111,27 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  class DynCmp_RTxS implements Comparator<RTxS> {");
+    gold.append("\n  class DynCmp_RTxOrder implements Comparator<RTxOrder> {");
     gold.append("\n    private final CompareField[] parsed;");
-    gold.append("\n    DynCmp_RTxS(String instructions) {");
+    gold.append("\n    DynCmp_RTxOrder(String instructions) {");
     gold.append("\n      this.parsed = DynCompareParser.parse(instructions);");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public int compare(RTxS __a, RTxS __b) {");
+    gold.append("\n    public int compare(RTxOrder __a, RTxOrder __b) {");
     gold.append("\n      for (CompareField field : parsed) {");
     gold.append("\n        int delta = 0;");
     gold.append("\n        switch (field.name) {");
     gold.append("\n          case \"id\":");
     gold.append("\n            delta = __a.id.compareTo(__b.id);");
     gold.append("\n            break;");
-    gold.append("\n          case \"s\":");
-    gold.append("\n            delta = __a.s.compareTo(__b.s);");
+    gold.append("\n          case \"qty\":");
+    gold.append("\n            delta = __a.qty.compareTo(__b.qty);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"volume\":");
+    gold.append("\n            delta = __a.volume.compareTo(__b.volume);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"price\":");
+    gold.append("\n            delta = __a.price.compareTo(__b.price);");
     gold.append("\n            break;");
     gold.append("\n        }");
     gold.append("\n        if (delta != 0) {");
@@ -841,6 +1141,144 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return 0;");
     gold.append("\n    }");
     gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_1 extends NtMessageBase {");
+    gold.append("\n    private final RTx_AnonObjConvert_1 __this;");
+    gold.append("\n    private double price = 0.0;");
+    gold.append("\n    private int qty = 0;");
+    gold.append("\n    private int volume = 0;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __mem = 64;");
+    gold.append("\n      __mem += 8;");
+    gold.append("\n      __mem += 4;");
+    gold.append("\n      __mem += 4;");
+    gold.append("\n      return __mem;");
+    gold.append("\n    }");
+    gold.append("\n    public void __reset() {");
+    gold.append("\n      this.price = 0.0;");
+    gold.append("\n      this.qty = 0;");
+    gold.append("\n      this.volume = 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"price\");");
+    gold.append("\n      __hash.hashDouble(this.price);");
+    gold.append("\n      __hash.hashString(\"qty\");");
+    gold.append("\n      __hash.hashInteger(this.qty);");
+    gold.append("\n      __hash.hashString(\"volume\");");
+    gold.append("\n      __hash.hashInteger(this.volume);");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS__AnonObjConvert_1 = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS__AnonObjConvert_1;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_1(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustStartObject();");
+    gold.append("\n      while (__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"price\":");
+    gold.append("\n            this.price = __reader.readDouble();");
+    gold.append("\n            break;");
+    gold.append("\n          case \"qty\":");
+    gold.append("\n            this.qty = __reader.readInteger();");
+    gold.append("\n            break;");
+    gold.append("\n          case \"volume\":");
+    gold.append("\n            this.volume = __reader.readInteger();");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"price\");");
+    gold.append("\n      __writer.writeDouble(price);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"qty\");");
+    gold.append("\n      __writer.writeInteger(qty);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"volume\");");
+    gold.append("\n      __writer.writeInteger(volume);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx_AnonObjConvert_1() { __this = this; }");
+    gold.append("\n    private RTx_AnonObjConvert_1(double price, int qty, int volume) {");
+    gold.append("\n      this.__this = this;");
+    gold.append("\n      this.price = price;");
+    gold.append("\n      this.qty = qty;");
+    gold.append("\n      this.volume = volume;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_1 implements DeltaNode {");
+    gold.append("\n    private DDouble __dprice;");
+    gold.append("\n    private DInt32 __dqty;");
+    gold.append("\n    private DInt32 __dvolume;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_1() {");
+    gold.append("\n      __dprice = new DDouble();");
+    gold.append("\n      __dqty = new DInt32();");
+    gold.append("\n      __dvolume = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dprice.__memory();");
+    gold.append("\n      __sum += __dqty.__memory();");
+    gold.append("\n      __sum += __dvolume.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_1 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dprice.show(__item.price, __obj.planField(\"price\"));");
+    gold.append("\n      __dqty.show(__item.qty, __obj.planField(\"qty\"));");
+    gold.append("\n      __dvolume.show(__item.volume, __obj.planField(\"volume\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __dprice.clear();");
+    gold.append("\n      __dqty.clear();");
+    gold.append("\n      __dvolume.clear();");
+    gold.append("\n      __code_cost += 3;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private void __FUNC_0_place(int q, double p) {");
+    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __track(0);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxOrder> _AutoRef16 = _orders;");
+    gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr18 = new RTx_AnonObjConvert_1(p, q, q * 1000);");
+    gold.append("\n      RTxOrder _CreateRef17 = _AutoRef16.make();");
+    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      _CreateRef17.price.set(_AutoExpr18.price);");
+    gold.append("\n      _CreateRef17.qty.set(_AutoExpr18.qty);");
+    gold.append("\n      _CreateRef17.volume.set(_AutoExpr18.volume);");
+    gold.append("\n    }");
+    gold.append("\n  }");
     gold.append("\n  public static HashMap<String, HashMap<String, Object>> __services() {");
     gold.append("\n    HashMap<String, HashMap<String, Object>> __map = new HashMap<>();");
     gold.append("\n    return __map;");
@@ -855,6 +1293,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -887,8 +1329,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __debug(JsonStreamWriter __writer) {");
     gold.append("\n    __writer.writeObjectFieldIntro(\"tables\");");
     gold.append("\n    __writer.beginObject();");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
-    gold.append("\n    tbl.debug(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"_orders\");");
+    gold.append("\n    _orders.debug(__writer);");
     gold.append("\n    __writer.endObject();");
     gold.append("\n    __writer.writeObjectFieldIntro(\"cron\");");
     gold.append("\n    __writer.beginObject();");
@@ -929,19 +1371,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    WebPath __path = new WebPath(__request.uri);");
     gold.append("\n    return null;");
     gold.append("\n  }");
-    gold.append("\n  private void __step_code() {");
-    gold.append("\n    __code_cost += 2;");
-    gold.append("\n    __track(0);");
-    gold.append("\n    (tbl.iterate(false)).where(true, new __CLOSURE_WhereClause0());");
-    gold.append("\n  }");
     gold.append("\n  @Override");
-    gold.append("\n  protected void __invoke_label(String __new_state) {");
-    gold.append("\n    switch(__new_state) {");
-    gold.append("\n      case \"code\":");
-    gold.append("\n        __step_code();");
-    gold.append("\n        return;");
-    gold.append("\n    }");
-    gold.append("\n  }");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -973,12 +1404,82 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
     gold.append("\n    return __map;");
     gold.append("\n  }");
+    gold.append("\n  public void __test_incremental(TestReportBuilder __report) throws AbortMessageException {");
+    gold.append("\n    __report.begin(\"incremental\");");
+    gold.append("\n    try {");
+    gold.append("\n      __code_cost += 27;");
+    gold.append("\n      __track(1);");
+    gold.append("\n      __assert_truth(((int) orders.get()) == ((int) 0), 23, 2, 23, 21);");
+    gold.append("\n      __track(2);");
+    gold.append("\n      __assert_truth(!qty.get().has(), 24, 2, 24, 20);");
+    gold.append("\n      __track(3);");
+    gold.append("\n      __assert_truth(!volume.get().has(), 25, 2, 25, 23);");
+    gold.append("\n      __track(4);");
+    gold.append("\n      __assert_truth(!notional.get().has(), 26, 2, 26, 25);");
+    gold.append("\n      __track(5);");
+    gold.append("\n      __assert_truth(!avg_qty.get().has(), 27, 2, 27, 24);");
+    gold.append("\n      __track(6);");
+    gold.append("\n      __assert_truth(!cheapest.get().has(), 28, 2, 28, 25);");
+    gold.append("\n      __track(7);");
+    gold.append("\n      __assert_truth(!priciest.get().has(), 29, 2, 29, 25);");
+    gold.append("\n      __track(8);");
+    gold.append("\n      __assert_truth(!big.get().has(), 30, 2, 30, 20);");
+    gold.append("\n      __track(9);");
+    gold.append("\n      __FUNC_0_place(2, 1.5);");
+    gold.append("\n      __track(10);");
+    gold.append("\n      __FUNC_0_place(4, 3.0);");
+    gold.append("\n      __track(11);");
+    gold.append("\n      __test_progress();");
+    gold.append("\n      __track(12);");
+    gold.append("\n      __assert_truth(((int) orders.get()) == ((int) 2), 34, 2, 34, 21);");
+    gold.append("\n      __track(13);");
+    gold.append("\n      __assert_truth(((int) (Integer) (qty.get().getOrDefaultTo(-1))) == ((int) 6), 35, 2, 35, 37);");
+    gold.append("\n      __track(14);");
+    gold.append("\n      __assert_truth(((long) (Long) (volume.get().getOrDefaultTo(-1L))) == ((long) 6000L), 36, 2, 36, 45);");
+    gold.append("\n      __track(15);");
+    gold.append("\n      __assert_truth(LibMath.near((Double) (cheapest.get().getOrDefaultTo(-1.0)), 1.5), 37, 2, 37, 46);");
+    gold.append("\n      __track(16);");
+    gold.append("\n      __assert_truth(LibMath.near((Double) (priciest.get().getOrDefaultTo(-1.0)), 3.0), 38, 2, 38, 46);");
+    gold.append("\n      __track(17);");
+    gold.append("\n      NtList<RxInt32> _auto_19 = (_orders.iterate(false).where(true, new __CLOSURE_WhereClause1())).transform((RTxOrder __item) -> (RxInt32) (__item.qty));");
+    gold.append("\n      for (RxInt32 _auto_20 : _auto_19) {");
+    gold.append("\n        _auto_20.set(10);");
+    gold.append("\n      }");
+    gold.append("\n");
+    gold.append("\n      __track(18);");
+    gold.append("\n      __test_progress();");
+    gold.append("\n      __track(19);");
+    gold.append("\n      __assert_truth(((int) (Integer) (qty.get().getOrDefaultTo(-1))) == ((int) 14), 41, 2, 41, 38);");
+    gold.append("\n      __track(20);");
+    gold.append("\n      __assert_truth(LibMath.near((Double) (avg_qty.get().getOrDefaultTo(-1.0)), 7.0), 42, 2, 42, 45);");
+    gold.append("\n      __track(21);");
+    gold.append("\n      __assert_truth(((int) (Integer) (big.get().getOrDefaultTo(-1))) == ((int) 10), 43, 2, 43, 38);");
+    gold.append("\n      __track(22);");
+    gold.append("\n      (_orders.iterate(false).where(true, new __CLOSURE_WhereClause2())).map((__item) -> { __item.__delete(); });");
+    gold.append("\n      __track(23);");
+    gold.append("\n      __test_progress();");
+    gold.append("\n      __track(24);");
+    gold.append("\n      __assert_truth(((int) orders.get()) == ((int) 1), 46, 2, 46, 21);");
+    gold.append("\n      __track(25);");
+    gold.append("\n      __assert_truth(LibMath.near((Double) (priciest.get().getOrDefaultTo(-1.0)), 1.5), 47, 2, 47, 46);");
+    gold.append("\n      __track(26);");
+    gold.append("\n      __assert_truth(LibMath.near((Double) (notional.get().getOrDefaultTo(-1.0)), 1.5), 48, 2, 48, 46);");
+    gold.append("\n    } finally {");
+    gold.append("\n      __report.end(getAndResetAssertions());");
+    gold.append("\n    }");
+    gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public String[] __getTests() {");
-    gold.append("\n    return new String[] {};");
+    gold.append("\n    return new String[] {\"incremental\"};");
     gold.append("\n  }");
     gold.append("\n  @Override");
-    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {}");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {");
+    gold.append("\n    switch(testName) {");
+    gold.append("\n      case \"incremental\":");
+    gold.append("\n          __test_incremental(report);");
+    gold.append("\n          return;");
+    gold.append("\n    }");
+    gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  protected void __construct_intern(CoreRequestContext _c, NtMessageBase _m) {}");
     gold.append("\n  @Override");
@@ -986,7 +1487,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __reader.skipValue();");
     gold.append("\n    return NtMessageBase.NULL;");
     gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxS> {");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxOrder> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
     gold.append("\n      __set.finish();");
@@ -996,10 +1497,42 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return null;");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxS __obj) {");
-    gold.append("\n      boolean s = __obj.s.get();");
+    gold.append("\n    public boolean test(RTxOrder __obj) {");
+    gold.append("\n      int qty = __obj.qty.get();");
     gold.append("\n      __code_cost ++;");
-    gold.append("\n      return s;");
+    gold.append("\n      return qty > 5;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxOrder> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxOrder __obj) {");
+    gold.append("\n      double price = __obj.price.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return LibMath.near(price, 1.5);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxOrder> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxOrder __obj) {");
+    gold.append("\n      double price = __obj.price.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return LibMath.near(price, 3.0);");
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  /* end of file */");
@@ -1008,134 +1541,94 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
     gold.append("\n--=[LivingDocumentFactory MADE]=---");
     gold.append("\n--REFLECTION RESULTS-------------------------------------");
-    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"tbl\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"S\"},\"computed\":false,\"privacy\":\"private\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"S\":{\"nature\":\"reactive_record\",\"name\":\"S\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"s\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"bool\"},\"computed\":false,\"privacy\":\"private\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[\"code\"]}");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"_orders\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"Order\"},\"computed\":false,\"privacy\":\"private\"},\"orders\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"qty\":{\"type\":{\"nature\":\"native_maybe\",\"type\":{\"nature\":\"native_value\",\"type\":\"int\"}},\"computed\":true,\"privacy\":\"public\"},\"volume\":{\"type\":{\"nature\":\"native_maybe\",\"type\":{\"nature\":\"native_value\",\"type\":\"long\"}},\"computed\":true,\"privacy\":\"public\"},\"notional\":{\"type\":{\"nature\":\"native_maybe\",\"type\":{\"nature\":\"native_value\",\"type\":\"double\"}},\"computed\":true,\"privacy\":\"public\"},\"avg_qty\":{\"type\":{\"nature\":\"native_maybe\",\"type\":{\"nature\":\"native_value\",\"type\":\"double\"}},\"computed\":true,\"privacy\":\"public\"},\"cheapest\":{\"type\":{\"nature\":\"native_maybe\",\"type\":{\"nature\":\"native_value\",\"type\":\"double\"}},\"computed\":true,\"privacy\":\"public\"},\"priciest\":{\"type\":{\"nature\":\"native_maybe\",\"type\":{\"nature\":\"native_value\",\"type\":\"double\"}},\"computed\":true,\"privacy\":\"public\"},\"big\":{\"type\":{\"nature\":\"native_maybe\",\"type\":{\"nature\":\"native_value\",\"type\":\"int\"}},\"computed\":true,\"privacy\":\"public\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"Order\":{\"nature\":\"reactive_record\",\"name\":\"Order\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"qty\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"volume\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"long\"},\"computed\":false,\"privacy\":\"public\"},\"price\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"double\"},\"computed\":false,\"privacy\":\"public\"}}},\"_AnonObjConvert_1\":{\"nature\":\"native_message\",\"name\":\"_AnonObjConvert_1\",\"anonymous\":true,\"fields\":{\"price\":{\"type\":{\"nature\":\"native_value\",\"type\":\"double\"},\"computed\":false,\"privacy\":\"public\"},\"qty\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"volume\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
     gold.append("\n--JAVA RUNNING-------------------------------------");
     gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__seq\":1} need:false in:0");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
     gold.append("\nCPU:0");
-    gold.append("\nMEMORY:4782");
+    gold.append("\nMEMORY:6966");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
     gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
-    gold.append("\n+ NO_ONE DELTA:{\"seq\":3}");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"orders\":0},\"seq\":3}");
     gold.append("\nNO_ONE|FAILURE:184333");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__seq\":4,\"__entropy\":\"7848011421992302230\",\"__time\":\"75\"} need:false in:0");
     gold.append("\nRANDO: CREATED PRIVATE VIEW");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":4}");
-    gold.append("\n+ RANDO DELTA:{\"seq\":4}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"orders\":0},\"seq\":4}");
     gold.append("\nRANDO|FAILURE:184333");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__time\":\"100\"} need:false in:0");
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:4900");
+    gold.append("\nMEMORY:7724");
     gold.append("\n--JAVA RESULTS-------------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"_orders\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
     gold.append("\n{}");
     gold.append("\n--METRIC RESULTS-----------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"_orders\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"_orders\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\nTEST[incremental] = 100.0%");
     gold.append("\n");
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_IndexingCant_4 = null;
-  private String get_IndexingCant_4() {
-    if (cached_IndexingCant_4 != null) {
-      return cached_IndexingCant_4;
+  private String cached_IndexingBool_4 = null;
+  private String get_IndexingBool_4() {
+    if (cached_IndexingBool_4 != null) {
+      return cached_IndexingBool_4;
     }
-    cached_IndexingCant_4 = generateTestOutput(false, "IndexingCant_4", "./test_code/Linq_IndexingCant_failure.a");
-    return cached_IndexingCant_4;
+    cached_IndexingBool_4 = generateTestOutput(true, "IndexingBool_4", "./test_code/Linq_IndexingBool_success.a");
+    return cached_IndexingBool_4;
   }
 
   @Test
-  public void testIndexingCantFailure() {
-    assertLiveFail(get_IndexingCant_4());
+  public void testIndexingBoolEmission() {
+    assertEmissionGood(get_IndexingBool_4());
   }
 
   @Test
-  public void testIndexingCantNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_IndexingCant_4());
+  public void testIndexingBoolSuccess() {
+    assertLivePass(get_IndexingBool_4());
   }
 
   @Test
-  public void testIndexingCantExceptionFree() {
-    assertExceptionFree(get_IndexingCant_4());
+  public void testIndexingBoolNoFormatException() {
+    assertNoFormatException(get_IndexingBool_4());
   }
 
   @Test
-  public void testIndexingCantTODOFree() {
-    assertTODOFree(get_IndexingCant_4());
-  }
-
-  @Test
-  public void stable_IndexingCant_4() {
-    String live = get_IndexingCant_4();
-    StringBuilder gold = new StringBuilder();
-    gold.append("Path:Linq_IndexingCant_failure.a");
-    gold.append("\n--ISSUES-------------------------------------------");
-    gold.append("\n[{\"range\":{\"start\":{\"line\":2,\"character\":9,\"byte\":38},\"end\":{\"line\":2,\"character\":10,\"byte\":39}},\"severity\":1,\"source\":\"error\",\"message\":\"Type not found: the type 'E' was not found.\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":2,\"character\":2,\"byte\":31},\"end\":{\"line\":2,\"character\":13,\"byte\":42}},\"severity\":1,\"source\":\"error\",\"message\":\"The field 'y' has no type\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":2,\"character\":2,\"byte\":31},\"end\":{\"line\":2,\"character\":13,\"byte\":42}},\"severity\":1,\"source\":\"error\",\"message\":\"Variable 'y' has no backing type\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":4,\"character\":2,\"byte\":46},\"end\":{\"line\":4,\"character\":16,\"byte\":60}},\"severity\":1,\"source\":\"error\",\"message\":\"Index could not find field 'nofound'\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":6,\"character\":2,\"byte\":74},\"end\":{\"line\":6,\"character\":10,\"byte\":82}},\"severity\":1,\"source\":\"error\",\"message\":\"Index was already defined: 'x'\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"}]\"--JAVA---------------------------------------------");
-    gold.append("\n");
-    gold.append("\nFailedValidation");
-    assertStable(live, gold);
-  }
-  private String cached_IndexingDateTime_5 = null;
-  private String get_IndexingDateTime_5() {
-    if (cached_IndexingDateTime_5 != null) {
-      return cached_IndexingDateTime_5;
-    }
-    cached_IndexingDateTime_5 = generateTestOutput(true, "IndexingDateTime_5", "./test_code/Linq_IndexingDateTime_success.a");
-    return cached_IndexingDateTime_5;
-  }
-
-  @Test
-  public void testIndexingDateTimeEmission() {
-    assertEmissionGood(get_IndexingDateTime_5());
-  }
-
-  @Test
-  public void testIndexingDateTimeSuccess() {
-    assertLivePass(get_IndexingDateTime_5());
-  }
-
-  @Test
-  public void testIndexingDateTimeNoFormatException() {
-    assertNoFormatException(get_IndexingDateTime_5());
-  }
-
-  @Test
-  public void testIndexingDateTimeGoodWillHappy() {
-    assertGoodWillHappy(get_IndexingDateTime_5());
+  public void testIndexingBoolGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingBool_4());
   }
 
   @Test
-  public void testIndexingDateTimeExceptionFree() {
-    assertExceptionFree(get_IndexingDateTime_5());
+  public void testIndexingBoolExceptionFree() {
+    assertExceptionFree(get_IndexingBool_4());
   }
 
   @Test
-  public void testIndexingDateTimeTODOFree() {
-    assertTODOFree(get_IndexingDateTime_5());
+  public void testIndexingBoolTODOFree() {
+    assertTODOFree(get_IndexingBool_4());
   }
 
   @Test
-  public void stable_IndexingDateTime_5() {
-    String live = get_IndexingDateTime_5();
+  public void stable_IndexingBool_4() {
+    String live = get_IndexingBool_4();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Linq_IndexingDateTime_success.a");
+    gold.append("Path:Linq_IndexingBool_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
     gold.append("\nEmission Success, Yay");
     gold.append("\n=FORMAT===================================================");
-    gold.append("\nrecord Instance {");
-    gold.append("\n  public date the_date;");
-    gold.append("\n  public time the_time;");
-    gold.append("\n  index the_date;");
-    gold.append("\n  index the_time;");
+    gold.append("\nrecord S {");
+    gold.append("\n  bool s;");
+    gold.append("\n  index s;");
+    gold.append("\n}");
+    gold.append("\ntable<S> tbl;");
+    gold.append("\n#code {");
+    gold.append("\n  (iterate tbl) where s;");
     gold.append("\n}");
-    gold.append("\ntable<Instance> instances;");
-    gold.append("\npublic formula at_date = iterate instances where the_date == @date 2023/4/29;");
-    gold.append("\npublic formula at_time = iterate instances where the_time == @time 13:30;");
     gold.append("\n");
     gold.append("\n==========================================================");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -1175,41 +1668,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class IndexingDateTime_5 extends LivingDocument {");
-    gold.append("\n  private final RxTable<RTxInstance> instances;");
-    gold.append("\n  private final RxLazy<NtList<RTxInstance>> at_date;");
-    gold.append("\n  private final RxTableGuard __at_date_instances;");
-    gold.append("\n  private final RxLazy<NtList<RTxInstance>> at_time;");
-    gold.append("\n  private final RxTableGuard __at_time_instances;");
+    gold.append("\npublic class IndexingBool_4 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxS> tbl;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
     gold.append("\n    long __sum = super.__memory() + 2176;");
-    gold.append("\n    __sum += instances.__memory();");
-    gold.append("\n    __sum += at_date.__memory();");
-    gold.append("\n    __sum += at_time.__memory();");
+    gold.append("\n    __sum += tbl.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public IndexingDateTime_5(DocumentMonitor __monitor) {");
+    gold.append("\n  public IndexingBool_4(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
-    gold.append("\n    instances = new RxTable<>(__self, this, \"instances\", (RxParent __parent) -> new RTxInstance(__parent).__link(), 2);");
-    gold.append("\n    at_date = new RxLazy<NtList<RTxInstance>>(this, () -> (NtList<RTxInstance>)(instances.iterate(false).where(true, new __CLOSURE_WhereClause0())), null);");
-    gold.append("\n    __at_date_instances = new RxTableGuard(at_date);");
-    gold.append("\n    at_time = new RxLazy<NtList<RTxInstance>>(this, () -> (NtList<RTxInstance>)(instances.iterate(false).where(true, new __CLOSURE_WhereClause1())), null);");
-    gold.append("\n    __at_time_instances = new RxTableGuard(at_time);");
-    gold.append("\n    instances.__subscribe(__at_date_instances);");
-    gold.append("\n    at_date.__guard(instances,__at_date_instances);");
-    gold.append("\n    instances.__subscribe(__at_time_instances);");
-    gold.append("\n    at_time.__guard(instances,__at_time_instances);");
+    gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxS(__parent).__link(), 1);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __settle(Set<Integer> __viewers) {");
-    gold.append("\n    instances.__settle(__viewers);");
-    gold.append("\n    at_date.__settle(__viewers);");
-    gold.append("\n    __at_date_instances.__settle(__viewers);");
-    gold.append("\n    at_time.__settle(__viewers);");
-    gold.append("\n    __at_time_instances.__settle(__viewers);");
+    gold.append("\n    tbl.__settle(__viewers);");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
@@ -1217,8 +1692,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"instances\":");
-    gold.append("\n            instances.__insert(__reader);");
+    gold.append("\n          case \"tbl\":");
+    gold.append("\n            tbl.__insert(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__insert(__reader);");
@@ -1308,8 +1783,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"instances\":");
-    gold.append("\n            instances.__patch(__reader);");
+    gold.append("\n          case \"tbl\":");
+    gold.append("\n            tbl.__patch(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__patch(__reader);");
@@ -1397,8 +1872,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __writer.beginObject();");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
     gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"instances\");");
-    gold.append("\n    instances.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
     gold.append("\n    __state.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
@@ -1461,7 +1936,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
     gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
     gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
-    gold.append("\n    instances.__commit(\"instances\", __forward, __reverse);");
+    gold.append("\n    tbl.__commit(\"tbl\", __forward, __reverse);");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -1479,7 +1954,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __time.__revert();");
     gold.append("\n    __timezone.__revert();");
     gold.append("\n    __webTaskId.__revert();");
-    gold.append("\n    instances.__revert();");
+    gold.append("\n    tbl.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -1487,66 +1962,21 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaIndexingDateTime_5 implements DeltaNode {");
-    gold.append("\n    private int __gat_date;");
-    gold.append("\n    private DRecordList<DeltaRTxInstance> __dat_date;");
-    gold.append("\n    private int __gat_time;");
-    gold.append("\n    private DRecordList<DeltaRTxInstance> __dat_time;");
+    gold.append("\n  private class DeltaIndexingBool_4 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaIndexingDateTime_5() {");
-    gold.append("\n      __gat_date = -1;");
-    gold.append("\n      __dat_date = new DRecordList<DeltaRTxInstance>();");
-    gold.append("\n      __gat_time = -1;");
-    gold.append("\n      __dat_time = new DRecordList<DeltaRTxInstance>();");
+    gold.append("\n    private DeltaIndexingBool_4() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
-    gold.append("\n      __sum += __dat_date.__memory();");
-    gold.append("\n      __sum += __dat_time.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(IndexingDateTime_5 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(IndexingBool_4 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
-    gold.append("\n      __code_cost += 2;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      if (__gat_date != __item.at_date.getGeneration()) {");
-    gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list0 = __obj.planField(\"at_date\").planObject();");
-    gold.append("\n          DRecordList<DeltaRTxInstance> __deltaList1 = __dat_date;");
-    gold.append("\n          DRecordList<DeltaRTxInstance>.Walk __deltaListWalker2 = __deltaList1.begin();");
-    gold.append("\n          for (RTxInstance __listElement3 : __item.at_date.get()) {");
-    gold.append("\n            DeltaRTxInstance __deltaElement4 = __deltaList1.getPrior(__listElement3.__id(), () -> new DeltaRTxInstance());");
-    gold.append("\n            boolean __gate5 = __deltaElement4.show(__listElement3, __list0.planField(__listElement3.__id()));");
-    gold.append("\n            if (__gate5) {");
-    gold.append("\n              __deltaListWalker2.next(__listElement3.__id());");
-    gold.append("\n            }");
-    gold.append("\n          }");
-    gold.append("\n          __deltaListWalker2.end(__list0);");
-    gold.append("\n          __list0.end();");
-    gold.append("\n        }");
-    gold.append("\n        __gat_date = __item.at_date.getGeneration();");
-    gold.append("\n      }");
-    gold.append("\n      if (__gat_time != __item.at_time.getGeneration()) {");
-    gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list6 = __obj.planField(\"at_time\").planObject();");
-    gold.append("\n          DRecordList<DeltaRTxInstance> __deltaList7 = __dat_time;");
-    gold.append("\n          DRecordList<DeltaRTxInstance>.Walk __deltaListWalker8 = __deltaList7.begin();");
-    gold.append("\n          for (RTxInstance __listElement9 : __item.at_time.get()) {");
-    gold.append("\n            DeltaRTxInstance __deltaElement10 = __deltaList7.getPrior(__listElement9.__id(), () -> new DeltaRTxInstance());");
-    gold.append("\n            boolean __gate11 = __deltaElement10.show(__listElement9, __list6.planField(__listElement9.__id()));");
-    gold.append("\n            if (__gate11) {");
-    gold.append("\n              __deltaListWalker8.next(__listElement9.__id());");
-    gold.append("\n            }");
-    gold.append("\n          }");
-    gold.append("\n          __deltaListWalker8.end(__list6);");
-    gold.append("\n          __list6.end();");
-    gold.append("\n        }");
-    gold.append("\n        __gat_time = __item.at_time.getGeneration();");
-    gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1554,9 +1984,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __dat_date.clear();");
-    gold.append("\n      __dat_time.clear();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __code_cost += 0;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -1575,8 +2003,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    IndexingDateTime_5 __self = this;");
-    gold.append("\n    DeltaIndexingDateTime_5 __state = new DeltaIndexingDateTime_5();");
+    gold.append("\n    IndexingBool_4 __self = this;");
+    gold.append("\n    DeltaIndexingBool_4 __state = new DeltaIndexingBool_4();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -1660,39 +2088,28 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private static String[] __INDEX_COLUMNS_Instance = new String[] {\"the_date\", \"the_time\"};");
-    gold.append("\n  private class RTxInstance extends RxRecordBase<RTxInstance> {");
-    gold.append("\n    private final RTxInstance __this;");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_S = new String[] {\"s\"};");
+    gold.append("\n  private class RTxS extends RxRecordBase<RTxS> {");
+    gold.append("\n    private final RTxS __this;");
     gold.append("\n    private final RxInt32 id;");
-    gold.append("\n    private final RxDate the_date;");
-    gold.append("\n    private final RxTime the_time;");
-    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_the_date;");
-    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_the_time;");
-    gold.append("\n    private RTxInstance(RxParent __owner) {");
+    gold.append("\n    private final RxBoolean s;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_s;");
+    gold.append("\n    private RTxS(RxParent __owner) {");
     gold.append("\n      super(__owner);");
     gold.append("\n      this.__this = this;");
     gold.append("\n      id = new RxInt32(this, 0);");
-    gold.append("\n      the_date = new RxDate(this, new NtDate(1, 1, 1));");
-    gold.append("\n      the_time = new RxTime(this, new NtTime(0, 0));");
+    gold.append("\n      s = new RxBoolean(this, false);");
     gold.append("\n      if (__owner instanceof RxTable) {");
-    gold.append("\n        __INDEX_the_date = new ReactiveIndexInvalidator(((RxTable<RTxInstance>)(__owner)).getIndex((short)0), this) {");
-    gold.append("\n            @Override");
-    gold.append("\n            public int pullValue() {");
-    gold.append("\n                return the_date.getIndexValue();");
-    gold.append("\n            }");
-    gold.append("\n          };");
-    gold.append("\n        the_date.__subscribe(__INDEX_the_date);");
-    gold.append("\n        __INDEX_the_time = new ReactiveIndexInvalidator(((RxTable<RTxInstance>)(__owner)).getIndex((short)1), this) {");
+    gold.append("\n        __INDEX_s = new ReactiveIndexInvalidator(((RxTable<RTxS>)(__owner)).getIndex((short)0), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return the_time.getIndexValue();");
+    gold.append("\n                return s.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
-    gold.append("\n        the_time.__subscribe(__INDEX_the_time);");
+    gold.append("\n        s.__subscribe(__INDEX_s);");
     gold.append("\n        /* ok */");
     gold.append("\n      } else {");
-    gold.append("\n        __INDEX_the_date = null;");
-    gold.append("\n        __INDEX_the_time = null;");
+    gold.append("\n        __INDEX_s = null;");
     gold.append("\n        /* ok */");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1700,27 +2117,24 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = super.__memory() + 0;");
     gold.append("\n      __sum += id.__memory();");
-    gold.append("\n      __sum += the_date.__memory();");
-    gold.append("\n      __sum += the_time.__memory();");
+    gold.append("\n      __sum += s.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
-    gold.append("\n      return __INDEX_COLUMNS_Instance;");
+    gold.append("\n      return __INDEX_COLUMNS_S;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {the_date.getIndexValue(), the_time.getIndexValue()};");
+    gold.append("\n      return new int[] {s.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public Object __fieldOf(String __name) {");
     gold.append("\n      switch (__name) {");
     gold.append("\n        case \"id\":");
     gold.append("\n          return id;");
-    gold.append("\n        case \"the_date\":");
-    gold.append("\n          return the_date;");
-    gold.append("\n        case \"the_time\":");
-    gold.append("\n          return the_time;");
+    gold.append("\n        case \"s\":");
+    gold.append("\n          return s;");
     gold.append("\n        default:");
     gold.append("\n          return null;");
     gold.append("\n      }");
@@ -1738,11 +2152,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n            case \"id\":");
     gold.append("\n              id.__insert(__reader);");
     gold.append("\n              break;");
-    gold.append("\n            case \"the_date\":");
-    gold.append("\n              the_date.__insert(__reader);");
-    gold.append("\n              break;");
-    gold.append("\n            case \"the_time\":");
-    gold.append("\n              the_time.__insert(__reader);");
+    gold.append("\n            case \"s\":");
+    gold.append("\n              s.__insert(__reader);");
     gold.append("\n              break;");
     gold.append("\n            default:");
     gold.append("\n              __reader.skipValue();");
@@ -1759,11 +2170,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n            case \"id\":");
     gold.append("\n              id.__patch(__reader);");
     gold.append("\n              break;");
-    gold.append("\n            case \"the_date\":");
-    gold.append("\n              the_date.__patch(__reader);");
-    gold.append("\n              break;");
-    gold.append("\n            case \"the_time\":");
-    gold.append("\n              the_time.__patch(__reader);");
+    gold.append("\n            case \"s\":");
+    gold.append("\n              s.__patch(__reader);");
     gold.append("\n              break;");
     gold.append("\n            default:");
     gold.append("\n              __reader.skipValue();");
@@ -1776,10 +2184,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __writer.beginObject();");
     gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
     gold.append("\n      id.__dump(__writer);");
-    gold.append("\n      __writer.writeObjectFieldIntro(\"the_date\");");
-    gold.append("\n      the_date.__dump(__writer);");
-    gold.append("\n      __writer.writeObjectFieldIntro(\"the_time\");");
-    gold.append("\n      the_time.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"s\");");
+    gold.append("\n      s.__dump(__writer);");
     gold.append("\n      __writer.endObject();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -1790,8 +2196,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n        __reverse.writeObjectFieldIntro(__name);");
     gold.append("\n        __reverse.beginObject();");
     gold.append("\n        id.__commit(\"id\", __forward, __reverse);");
-    gold.append("\n        the_date.__commit(\"the_date\", __forward, __reverse);");
-    gold.append("\n        the_time.__commit(\"the_time\", __forward, __reverse);");
+    gold.append("\n        s.__commit(\"s\", __forward, __reverse);");
     gold.append("\n        __forward.endObject();");
     gold.append("\n        __reverse.endObject();");
     gold.append("\n        __lowerDirtyCommit();");
@@ -1802,8 +2207,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      if (__isDirty()) {");
     gold.append("\n        __isDying = false;");
     gold.append("\n        id.__revert();");
-    gold.append("\n        the_date.__revert();");
-    gold.append("\n        the_time.__revert();");
+    gold.append("\n        s.__revert();");
     gold.append("\n        __lowerDirtyRevert();");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1812,32 +2216,28 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public void __writeRxReport(JsonStreamWriter __writer) { }");
     gold.append("\n    @Override");
-    gold.append("\n    public RTxInstance __link() {");
+    gold.append("\n    public RTxS __link() {");
     gold.append("\n      return this;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __invalidateIndex(TablePubSub __pubsub) {");
-    gold.append("\n      __pubsub.index(0,the_date.getIndexValue());");
-    gold.append("\n      __pubsub.index(1,the_time.getIndexValue());");
+    gold.append("\n      __pubsub.index(0,s.getIndexValue());");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __pumpIndexEvents(TablePubSub __pubsub) {");
-    gold.append("\n      the_date.setWatcher(__value -> __pubsub.index(0, __value));");
-    gold.append("\n      the_time.setWatcher(__value -> __pubsub.index(1, __value));");
+    gold.append("\n      s.setWatcher(__value -> __pubsub.index(0, __value));");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public String __name() {");
-    gold.append("\n      return \"Instance\";");
+    gold.append("\n      return \"S\";");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __deindex() {");
-    gold.append("\n      __INDEX_the_date.deindex();");
-    gold.append("\n      __INDEX_the_time.deindex();");
+    gold.append("\n      __INDEX_s.deindex();");
     gold.append("\n      /* ok */");
     gold.append("\n    }");
     gold.append("\n    public void __reindex() {");
-    gold.append("\n      __INDEX_the_date.reindex();");
-    gold.append("\n      __INDEX_the_time.reindex();");
+    gold.append("\n      __INDEX_s.reindex();");
     gold.append("\n      /* ok */");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -1853,28 +2253,19 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaRTxInstance implements DeltaNode {");
-    gold.append("\n    private DDate __dthe_date;");
-    gold.append("\n    private DTime __dthe_time;");
+    gold.append("\n  private class DeltaRTxS implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaRTxInstance() {");
-    gold.append("\n      __dthe_date = new DDate();");
-    gold.append("\n      __dthe_time = new DTime();");
+    gold.append("\n    private DeltaRTxS() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
-    gold.append("\n      __sum += __dthe_date.__memory();");
-    gold.append("\n      __sum += __dthe_time.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(RTxInstance __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(RTxS __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = (DeltaPrivacyCache) __writer.getCacheObject();");
-    gold.append("\n      __code_cost += 2;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dthe_date.show(__item.the_date.get(), __obj.planField(\"the_date\"));");
-    gold.append("\n      __dthe_time.show(__item.the_time.get(), __obj.planField(\"the_time\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1882,9 +2273,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __dthe_date.clear();");
-    gold.append("\n      __dthe_time.clear();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __code_cost += 0;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -1894,24 +2283,21 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  class DynCmp_RTxInstance implements Comparator<RTxInstance> {");
+    gold.append("\n  class DynCmp_RTxS implements Comparator<RTxS> {");
     gold.append("\n    private final CompareField[] parsed;");
-    gold.append("\n    DynCmp_RTxInstance(String instructions) {");
+    gold.append("\n    DynCmp_RTxS(String instructions) {");
     gold.append("\n      this.parsed = DynCompareParser.parse(instructions);");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public int compare(RTxInstance __a, RTxInstance __b) {");
+    gold.append("\n    public int compare(RTxS __a, RTxS __b) {");
     gold.append("\n      for (CompareField field : parsed) {");
     gold.append("\n        int delta = 0;");
     gold.append("\n        switch (field.name) {");
     gold.append("\n          case \"id\":");
     gold.append("\n            delta = __a.id.compareTo(__b.id);");
     gold.append("\n            break;");
-    gold.append("\n          case \"the_date\":");
-    gold.append("\n            delta = __a.the_date.compareTo(__b.the_date);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"the_time\":");
-    gold.append("\n            delta = __a.the_time.compareTo(__b.the_time);");
+    gold.append("\n          case \"s\":");
+    gold.append("\n            delta = __a.s.compareTo(__b.s);");
     gold.append("\n            break;");
     gold.append("\n        }");
     gold.append("\n        if (delta != 0) {");
@@ -1935,6 +2321,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -1967,8 +2357,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __debug(JsonStreamWriter __writer) {");
     gold.append("\n    __writer.writeObjectFieldIntro(\"tables\");");
     gold.append("\n    __writer.beginObject();");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"instances\");");
-    gold.append("\n    instances.debug(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.debug(__writer);");
     gold.append("\n    __writer.endObject();");
     gold.append("\n    __writer.writeObjectFieldIntro(\"cron\");");
     gold.append("\n    __writer.beginObject();");
@@ -2009,8 +2399,19 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    WebPath __path = new WebPath(__request.uri);");
     gold.append("\n    return null;");
     gold.append("\n  }");
+    gold.append("\n  private void __step_code() {");
+    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __track(0);");
+    gold.append("\n    (tbl.iterate(false)).where(true, new __CLOSURE_WhereClause0());");
+    gold.append("\n  }");
     gold.append("\n  @Override");
-    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  protected void __invoke_label(String __new_state) {");
+    gold.append("\n    switch(__new_state) {");
+    gold.append("\n      case \"code\":");
+    gold.append("\n        __step_code();");
+    gold.append("\n        return;");
+    gold.append("\n    }");
+    gold.append("\n  }");
     gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -2055,29 +2456,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __reader.skipValue();");
     gold.append("\n    return NtMessageBase.NULL;");
     gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxInstance> {");
-    gold.append("\n    @Override");
-    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
-    gold.append("\n      __code_cost += 10;");
-    gold.append("\n      __set.intersect(0, new NtDate(2023, 4, 29).toInt(), IndexQuerySet.LookupMode.Equals);");
-    gold.append("\n      __set.finish();");
-    gold.append("\n    }");
-    gold.append("\n    @Override");
-    gold.append("\n    public Integer getPrimaryKey() {");
-    gold.append("\n      return null;");
-    gold.append("\n    }");
-    gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxInstance __obj) {");
-    gold.append("\n      NtDate the_date = __obj.the_date.get();");
-    gold.append("\n      __code_cost ++;");
-    gold.append("\n      return (the_date).equals(new NtDate(2023, 4, 29));");
-    gold.append("\n    }");
-    gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxInstance> {");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxS> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
-    gold.append("\n      __code_cost += 10;");
-    gold.append("\n      __set.intersect(1, new NtTime(13, 30).toInt(), IndexQuerySet.LookupMode.Equals);");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -2085,10 +2466,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return null;");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxInstance __obj) {");
-    gold.append("\n      NtTime the_time = __obj.the_time.get();");
+    gold.append("\n    public boolean test(RTxS __obj) {");
+    gold.append("\n      boolean s = __obj.s.get();");
     gold.append("\n      __code_cost ++;");
-    gold.append("\n      return (the_time).equals(new NtTime(13, 30));");
+    gold.append("\n      return s;");
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  /* end of file */");
@@ -2097,12 +2478,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
     gold.append("\n--=[LivingDocumentFactory MADE]=---");
     gold.append("\n--REFLECTION RESULTS-------------------------------------");
-    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"instances\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"Instance\"},\"computed\":false,\"privacy\":\"private\"},\"at_date\":{\"type\":{\"nature\":\"native_list\",\"type\":{\"nature\":\"reactive_ref\",\"ref\":\"Instance\"}},\"computed\":true,\"privacy\":\"public\"},\"at_time\":{\"type\":{\"nature\":\"native_list\",\"type\":{\"nature\":\"reactive_ref\",\"ref\":\"Instance\"}},\"computed\":true,\"privacy\":\"public\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"Instance\":{\"nature\":\"reactive_record\",\"name\":\"Instance\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"the_date\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"date\"},\"computed\":false,\"privacy\":\"public\"},\"the_time\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"time\"},\"computed\":false,\"privacy\":\"public\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"tbl\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"S\"},\"computed\":false,\"privacy\":\"private\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"S\":{\"nature\":\"reactive_record\",\"name\":\"S\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"s\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"bool\"},\"computed\":false,\"privacy\":\"private\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[\"code\"]}");
     gold.append("\n--JAVA RUNNING-------------------------------------");
     gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__seq\":1} need:false in:0");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
     gold.append("\nCPU:0");
-    gold.append("\nMEMORY:5194");
+    gold.append("\nMEMORY:4782");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
     gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":3}");
@@ -2116,86 +2497,182 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:5312");
+    gold.append("\nMEMORY:4900");
     gold.append("\n--JAVA RESULTS-------------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"instances\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
     gold.append("\n{}");
     gold.append("\n--METRIC RESULTS-----------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"instances\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"instances\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--JAVA TEST RESULTS--------------------------------");
     gold.append("\n");
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_IndexingMessageMaterialized_6 = null;
-  private String get_IndexingMessageMaterialized_6() {
-    if (cached_IndexingMessageMaterialized_6 != null) {
-      return cached_IndexingMessageMaterialized_6;
+  private String cached_IndexingCant_5 = null;
+  private String get_IndexingCant_5() {
+    if (cached_IndexingCant_5 != null) {
+      return cached_IndexingCant_5;
     }
-    cached_IndexingMessageMaterialized_6 = generateTestOutput(true, "IndexingMessageMaterialized_6", "./test_code/Linq_IndexingMessageMaterialized_success.a");
-    return cached_IndexingMessageMaterialized_6;
+    cached_IndexingCant_5 = generateTestOutput(false, "IndexingCant_5", "./test_code/Linq_IndexingCant_failure.a");
+    return cached_IndexingCant_5;
   }
 
   @Test
-  public void testIndexingMessageMaterializedEmission() {
-    assertEmissionGood(get_IndexingMessageMaterialized_6());
+  public void testIndexingCantFailure() {
+    assertLiveFail(get_IndexingCant_5());
   }
 
   @Test
-  public void testIndexingMessageMaterializedSuccess() {
-    assertLivePass(get_IndexingMessageMaterialized_6());
+  public void testIndexingCantNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_IndexingCant_5());
   }
 
   @Test
-  public void testIndexingMessageMaterializedNoFormatException() {
-    assertNoFormatException(get_IndexingMessageMaterialized_6());
+  public void testIndexingCantExceptionFree() {
+    assertExceptionFree(get_IndexingCant_5());
   }
 
   @Test
-  public void testIndexingMessageMaterializedGoodWillHappy() {
-    assertGoodWillHappy(get_IndexingMessageMaterialized_6());
+  public void testIndexingCantTODOFree() {
+    assertTODOFree(get_IndexingCant_5());
   }
 
   @Test
-  public void testIndexingMessageMaterializedExceptionFree() {
-    assertExceptionFree(get_IndexingMessageMaterialized_6());
+  public void stable_IndexingCant_5() {
+    String live = get_IndexingCant_5();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Linq_IndexingCant_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":2,\"character\":9,\"byte\":38},\"end\":{\"line\":2,\"character\":10,\"byte\":39}},\"severity\":1,\"source\":\"error\",\"message\":\"Type not found: the type 'E' was not found.\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":2,\"character\":2,\"byte\":31},\"end\":{\"line\":2,\"character\":13,\"byte\":42}},\"severity\":1,\"source\":\"error\",\"message\":\"The field 'y' has no type\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":2,\"character\":2,\"byte\":31},\"end\":{\"line\":2,\"character\":13,\"byte\":42}},\"severity\":1,\"source\":\"error\",\"message\":\"Variable 'y' has no backing type\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":4,\"character\":2,\"byte\":46},\"end\":{\"line\":4,\"character\":16,\"byte\":60}},\"severity\":1,\"source\":\"error\",\"message\":\"Index could not find field 'nofound'\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"},{\"range\":{\"start\":{\"line\":6,\"character\":2,\"byte\":74},\"end\":{\"line\":6,\"character\":10,\"byte\":82}},\"severity\":1,\"source\":\"error\",\"message\":\"Index was already defined: 'x'\",\"file\":\"./test_code/Linq_IndexingCant_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingCompositeBad_6 = null;
+  private String get_IndexingCompositeBad_6() {
+    if (cached_IndexingCompositeBad_6 != null) {
+      return cached_IndexingCompositeBad_6;
+    }
+    cached_IndexingCompositeBad_6 = generateTestOutput(false, "IndexingCompositeBad_6", "./test_code/Linq_IndexingCompositeBad_failure.a");
+    return cached_IndexingCompositeBad_6;
   }
 
   @Test
-  public void testIndexingMessageMaterializedTODOFree() {
-    assertTODOFree(get_IndexingMessageMaterialized_6());
+  public void testIndexingCompositeBadFailure() {
+    assertLiveFail(get_IndexingCompositeBad_6());
+  }
+
+  @Test
+  public void testIndexingCompositeBadNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_IndexingCompositeBad_6());
+  }
+
+  @Test
+  public void testIndexingCompositeBadExceptionFree() {
+    assertExceptionFree(get_IndexingCompositeBad_6());
+  }
+
+  @Test
+  public void testIndexingCompositeBadTODOFree() {
+    assertTODOFree(get_IndexingCompositeBad_6());
   }
 
   @Test
-  public void stable_IndexingMessageMaterialized_6() {
-    String live = get_IndexingMessageMaterialized_6();
+  public void stable_IndexingCompositeBad_6() {
+    String live = get_IndexingCompositeBad_6();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Linq_IndexingMessageMaterialized_success.a");
+    gold.append("Path:Linq_IndexingCompositeBad_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":6,\"character\":2,\"byte\":81},\"end\":{\"line\":6,\"character\":15,\"byte\":94}},\"severity\":1,\"source\":\"error\",\"message\":\"Index was already defined: 'x,y'\",\"file\":\"./test_code/Linq_IndexingCompositeBad_failure.a\"},{\"range\":{\"start\":{\"line\":7,\"character\":2,\"byte\":97},\"end\":{\"line\":7,\"character\":15,\"byte\":110}},\"severity\":1,\"source\":\"error\",\"message\":\"Index has duplicate field 'x'\",\"file\":\"./test_code/Linq_IndexingCompositeBad_failure.a\"},{\"range\":{\"start\":{\"line\":8,\"character\":2,\"byte\":113},\"end\":{\"line\":8,\"character\":18,\"byte\":129}},\"severity\":1,\"source\":\"error\",\"message\":\"Index could not find field 'nope'\",\"file\":\"./test_code/Linq_IndexingCompositeBad_failure.a\"},{\"range\":{\"start\":{\"line\":9,\"character\":2,\"byte\":132},\"end\":{\"line\":9,\"character\":15,\"byte\":145}},\"severity\":1,\"source\":\"error\",\"message\":\"Index for field 'z' is not possible due to type\",\"file\":\"./test_code/Linq_IndexingCompositeBad_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingComposite_7 = null;
+  private String get_IndexingComposite_7() {
+    if (cached_IndexingComposite_7 != null) {
+      return cached_IndexingComposite_7;
+    }
+    cached_IndexingComposite_7 = generateTestOutput(true, "IndexingComposite_7", "./test_code/Linq_IndexingComposite_success.a");
+    return cached_IndexingComposite_7;
+  }
+
+  @Test
+  public void testIndexingCompositeEmission() {
+    assertEmissionGood(get_IndexingComposite_7());
+  }
+
+  @Test
+  public void testIndexingCompositeSuccess() {
+    assertLivePass(get_IndexingComposite_7());
+  }
+
+  @Test
+  public void testIndexingCompositeNoFormatException() {
+    assertNoFormatException(get_IndexingComposite_7());
+  }
+
+  @Test
+  public void testIndexingCompositeGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingComposite_7());
+  }
+
+  @Test
+  public void testIndexingCompositeExceptionFree() {
+    assertExceptionFree(get_IndexingComposite_7());
+  }
+
+  @Test
+  public void testIndexingCompositeTODOFree() {
+    assertTODOFree(get_IndexingComposite_7());
+  }
+
+  @Test
+  public void stable_IndexingComposite_7() {
+    String live = get_IndexingComposite_7();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Linq_IndexingComposite_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
     gold.append("\nEmission Success, Yay");
     gold.append("\n=FORMAT===================================================");
-    gold.append("\nmessage M {");
-    gold.append("\n  int x;");
+    gold.append("\nrecord R {");
+    gold.append("\n  public int id;");
+    gold.append("\n  public string status;");
+    gold.append("\n  public principal owner;");
+    gold.append("\n  public int x;");
+    gold.append("\n  index (status, owner);");
     gold.append("\n  index x;");
+    gold.append("\n  index (x, status);");
     gold.append("\n}");
-    gold.append("\nint countEq;");
-    gold.append("\nint countLEq;");
-    gold.append("\nint countL;");
-    gold.append("\nint countGEq;");
-    gold.append("\nint countG;");
+    gold.append("\ntable<R> tbl;");
+    gold.append("\npublic formula openByNoOne = (iterate tbl where status == \"open\" && owner == @no_one).size();");
+    gold.append("\npublic formula closedAtTwo = (iterate tbl where x == 2 && status == \"closed\").size();");
+    gold.append("\npublic formula justX = (iterate tbl where x == 2).size();");
+    gold.append("\nint changed;");
     gold.append("\n@construct {");
-    gold.append("\n  table<M> msg;");
-    gold.append("\n  msg <- {x:1};");
-    gold.append("\n  msg <- {x:2};");
-    gold.append("\n  msg <- {x:3};");
-    gold.append("\n  list<M> mat = iterate msg materialize;");
-    gold.append("\n  countEq = (mat where x == 2).size();");
-    gold.append("\n  countLEq = (mat where x <= 2).size();");
-    gold.append("\n  countL = (mat where x < 2).size();");
-    gold.append("\n  countGEq = (mat where x >= 2).size();");
-    gold.append("\n  countG = (mat where x > 2).size();");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      status:\"open\",");
+    gold.append("\n      x:1");
+    gold.append("\n    };");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      status:\"open\",");
+    gold.append("\n      x:2");
+    gold.append("\n    };");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      status:\"closed\",");
+    gold.append("\n      x:2");
+    gold.append("\n    };");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      status:\"closed\",");
+    gold.append("\n      x:3");
+    gold.append("\n    };");
+    gold.append("\n}");
+    gold.append("\n@connected {");
+    gold.append("\n  (iterate tbl where status == \"open\" && x == 2).status = \"closed\";");
+    gold.append("\n  changed = (iterate tbl where x == 2 && status == \"closed\").size();");
+    gold.append("\n  return true;");
     gold.append("\n}");
     gold.append("\n");
     gold.append("\n==========================================================");
@@ -2236,34 +2713,53 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class IndexingMessageMaterialized_6 extends LivingDocument {");
-    gold.append("\n  private final RxInt32 countEq;");
-    gold.append("\n  private final RxInt32 countLEq;");
-    gold.append("\n  private final RxInt32 countL;");
-    gold.append("\n  private final RxInt32 countGEq;");
-    gold.append("\n  private final RxInt32 countG;");
+    gold.append("\npublic class IndexingComposite_7 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxR> tbl;");
+    gold.append("\n  private final RxInt32 changed;");
+    gold.append("\n  private final RxLazy<Integer> openByNoOne;");
+    gold.append("\n  private final RxTableGuard __openByNoOne_tbl;");
+    gold.append("\n  private final RxLazy<Integer> closedAtTwo;");
+    gold.append("\n  private final RxTableGuard __closedAtTwo_tbl;");
+    gold.append("\n  private final RxLazy<Integer> justX;");
+    gold.append("\n  private final RxTableGuard __justX_tbl;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
     gold.append("\n    long __sum = super.__memory() + 2176;");
-    gold.append("\n    __sum += countEq.__memory();");
-    gold.append("\n    __sum += countLEq.__memory();");
-    gold.append("\n    __sum += countL.__memory();");
-    gold.append("\n    __sum += countGEq.__memory();");
-    gold.append("\n    __sum += countG.__memory();");
+    gold.append("\n    __sum += tbl.__memory();");
+    gold.append("\n    __sum += changed.__memory();");
+    gold.append("\n    __sum += openByNoOne.__memory();");
+    gold.append("\n    __sum += closedAtTwo.__memory();");
+    gold.append("\n    __sum += justX.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public IndexingMessageMaterialized_6(DocumentMonitor __monitor) {");
+    gold.append("\n  public IndexingComposite_7(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
-    gold.append("\n    countEq = new RxInt32(this, 0);");
-    gold.append("\n    countLEq = new RxInt32(this, 0);");
-    gold.append("\n    countL = new RxInt32(this, 0);");
-    gold.append("\n    countGEq = new RxInt32(this, 0);");
-    gold.append("\n    countG = new RxInt32(this, 0);");
+    gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxR(__parent).__link(), 3);");
+    gold.append("\n    changed = new RxInt32(this, 0);");
+    gold.append("\n    openByNoOne = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause0())).size()), null);");
+    gold.append("\n    __openByNoOne_tbl = new RxTableGuard(openByNoOne);");
+    gold.append("\n    closedAtTwo = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause1())).size()), null);");
+    gold.append("\n    __closedAtTwo_tbl = new RxTableGuard(closedAtTwo);");
+    gold.append("\n    justX = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause2())).size()), null);");
+    gold.append("\n    __justX_tbl = new RxTableGuard(justX);");
+    gold.append("\n    tbl.__subscribe(__openByNoOne_tbl);");
+    gold.append("\n    openByNoOne.__guard(tbl,__openByNoOne_tbl);");
+    gold.append("\n    tbl.__subscribe(__closedAtTwo_tbl);");
+    gold.append("\n    closedAtTwo.__guard(tbl,__closedAtTwo_tbl);");
+    gold.append("\n    tbl.__subscribe(__justX_tbl);");
+    gold.append("\n    justX.__guard(tbl,__justX_tbl);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n    tbl.__settle(__viewers);");
+    gold.append("\n    openByNoOne.__settle(__viewers);");
+    gold.append("\n    __openByNoOne_tbl.__settle(__viewers);");
+    gold.append("\n    closedAtTwo.__settle(__viewers);");
+    gold.append("\n    __closedAtTwo_tbl.__settle(__viewers);");
+    gold.append("\n    justX.__settle(__viewers);");
+    gold.append("\n    __justX_tbl.__settle(__viewers);");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
@@ -2271,20 +2767,11 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"countEq\":");
-    gold.append("\n            countEq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countLEq\":");
-    gold.append("\n            countLEq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countL\":");
-    gold.append("\n            countL.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countGEq\":");
-    gold.append("\n            countGEq.__insert(__reader);");
+    gold.append("\n          case \"tbl\":");
+    gold.append("\n            tbl.__insert(__reader);");
     gold.append("\n            break;");
-    gold.append("\n          case \"countG\":");
-    gold.append("\n            countG.__insert(__reader);");
+    gold.append("\n          case \"changed\":");
+    gold.append("\n            changed.__insert(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__insert(__reader);");
@@ -2374,20 +2861,11 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"countEq\":");
-    gold.append("\n            countEq.__patch(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countLEq\":");
-    gold.append("\n            countLEq.__patch(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countL\":");
-    gold.append("\n            countL.__patch(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countGEq\":");
-    gold.append("\n            countGEq.__patch(__reader);");
+    gold.append("\n          case \"tbl\":");
+    gold.append("\n            tbl.__patch(__reader);");
     gold.append("\n            break;");
-    gold.append("\n          case \"countG\":");
-    gold.append("\n            countG.__patch(__reader);");
+    gold.append("\n          case \"changed\":");
+    gold.append("\n            changed.__patch(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__patch(__reader);");
@@ -2475,16 +2953,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __writer.beginObject();");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
     gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countEq\");");
-    gold.append("\n    countEq.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countLEq\");");
-    gold.append("\n    countLEq.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countL\");");
-    gold.append("\n    countL.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countGEq\");");
-    gold.append("\n    countGEq.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countG\");");
-    gold.append("\n    countG.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"changed\");");
+    gold.append("\n    changed.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
     gold.append("\n    __state.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
@@ -2547,11 +3019,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
     gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
     gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
-    gold.append("\n    countEq.__commit(\"countEq\", __forward, __reverse);");
-    gold.append("\n    countLEq.__commit(\"countLEq\", __forward, __reverse);");
-    gold.append("\n    countL.__commit(\"countL\", __forward, __reverse);");
-    gold.append("\n    countGEq.__commit(\"countGEq\", __forward, __reverse);");
-    gold.append("\n    countG.__commit(\"countG\", __forward, __reverse);");
+    gold.append("\n    tbl.__commit(\"tbl\", __forward, __reverse);");
+    gold.append("\n    changed.__commit(\"changed\", __forward, __reverse);");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -2569,11 +3038,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __time.__revert();");
     gold.append("\n    __timezone.__revert();");
     gold.append("\n    __webTaskId.__revert();");
-    gold.append("\n    countEq.__revert();");
-    gold.append("\n    countLEq.__revert();");
-    gold.append("\n    countL.__revert();");
-    gold.append("\n    countGEq.__revert();");
-    gold.append("\n    countG.__revert();");
+    gold.append("\n    tbl.__revert();");
+    gold.append("\n    changed.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -2581,21 +3047,49 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaIndexingMessageMaterialized_6 implements DeltaNode {");
+    gold.append("\n  private class DeltaIndexingComposite_7 implements DeltaNode {");
+    gold.append("\n    private int __gopenByNoOne;");
+    gold.append("\n    private DInt32 __dopenByNoOne;");
+    gold.append("\n    private int __gclosedAtTwo;");
+    gold.append("\n    private DInt32 __dclosedAtTwo;");
+    gold.append("\n    private int __gjustX;");
+    gold.append("\n    private DInt32 __djustX;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaIndexingMessageMaterialized_6() {");
+    gold.append("\n    private DeltaIndexingComposite_7() {");
+    gold.append("\n      __gopenByNoOne = -1;");
+    gold.append("\n      __dopenByNoOne = new DInt32();");
+    gold.append("\n      __gclosedAtTwo = -1;");
+    gold.append("\n      __dclosedAtTwo = new DInt32();");
+    gold.append("\n      __gjustX = -1;");
+    gold.append("\n      __djustX = new DInt32();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dopenByNoOne.__memory();");
+    gold.append("\n      __sum += __dclosedAtTwo.__memory();");
+    gold.append("\n      __sum += __djustX.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(IndexingMessageMaterialized_6 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(IndexingComposite_7 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      __code_cost += 3;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
+    gold.append("\n      if (__gopenByNoOne != __item.openByNoOne.getGeneration()) {");
+    gold.append("\n        __dopenByNoOne.show(__item.openByNoOne.get(), __obj.planField(\"openByNoOne\"));");
+    gold.append("\n        __gopenByNoOne = __item.openByNoOne.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gclosedAtTwo != __item.closedAtTwo.getGeneration()) {");
+    gold.append("\n        __dclosedAtTwo.show(__item.closedAtTwo.get(), __obj.planField(\"closedAtTwo\"));");
+    gold.append("\n        __gclosedAtTwo = __item.closedAtTwo.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gjustX != __item.justX.getGeneration()) {");
+    gold.append("\n        __djustX.show(__item.justX.get(), __obj.planField(\"justX\"));");
+    gold.append("\n        __gjustX = __item.justX.getGeneration();");
+    gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2603,7 +3097,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __code_cost += 0;");
+    gold.append("\n      __dopenByNoOne.clear();");
+    gold.append("\n      __dclosedAtTwo.clear();");
+    gold.append("\n      __djustX.clear();");
+    gold.append("\n      __code_cost += 3;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -2622,8 +3119,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    IndexingMessageMaterialized_6 __self = this;");
-    gold.append("\n    DeltaIndexingMessageMaterialized_6 __state = new DeltaIndexingMessageMaterialized_6();");
+    gold.append("\n    IndexingComposite_7 __self = this;");
+    gold.append("\n    DeltaIndexingComposite_7 __state = new DeltaIndexingComposite_7();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -2707,30 +3204,2413 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private static class RTxM extends NtMessageBase {");
-    gold.append("\n    private final RTxM __this;");
-    gold.append("\n    private int x = 0;");
-    gold.append("\n    @Override");
-    gold.append("\n    public long __memory() {");
-    gold.append("\n      long __mem = 64;");
-    gold.append("\n      __mem += 4;");
-    gold.append("\n      return __mem;");
-    gold.append("\n    }");
-    gold.append("\n    public void __reset() {");
-    gold.append("\n      this.x = 0;");
-    gold.append("\n    }");
-    gold.append("\n    public void __hash(HashBuilder __hash) {");
-    gold.append("\n      __hash.hashString(\"x\");");
-    gold.append("\n      __hash.hashInteger(this.x);");
-    gold.append("\n      __hash.hashString(\"M\");");
-    gold.append("\n    }");
-    gold.append("\n    private static String[] __INDEX_COLUMNS_M = new String[] {\"x\"};");
-    gold.append("\n    @Override");
-    gold.append("\n    public String[] __getIndexColumns() {");
-    gold.append("\n      return __INDEX_COLUMNS_M;");
-    gold.append("\n    }");
-    gold.append("\n    @Override");
-    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_R = new String[] {\"status,owner\", \"x\", \"x,status\"};");
+    gold.append("\n  private class RTxR extends RxRecordBase<RTxR> {");
+    gold.append("\n    private final RTxR __this;");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private final RxString status;");
+    gold.append("\n    private final RxPrincipal owner;");
+    gold.append("\n    private final RxInt32 x;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_status$owner;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_x;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_x$status;");
+    gold.append("\n    private RTxR(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      this.__this = this;");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      status = new RxString(this, \"\");");
+    gold.append("\n      owner = new RxPrincipal(this, NtPrincipal.NO_ONE);");
+    gold.append("\n      x = new RxInt32(this, 0);");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        __INDEX_status$owner = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)0), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return ReactiveIndex.compose(status.getIndexValue(), owner.getIndexValue());");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        status.__subscribe(__INDEX_status$owner);");
+    gold.append("\n        owner.__subscribe(__INDEX_status$owner);");
+    gold.append("\n        __INDEX_x = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)1), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return x.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        x.__subscribe(__INDEX_x);");
+    gold.append("\n        __INDEX_x$status = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)2), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return ReactiveIndex.compose(x.getIndexValue(), status.getIndexValue());");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        x.__subscribe(__INDEX_x$status);");
+    gold.append("\n        status.__subscribe(__INDEX_x$status);");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        __INDEX_status$owner = null;");
+    gold.append("\n        __INDEX_x = null;");
+    gold.append("\n        __INDEX_x$status = null;");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = super.__memory() + 0;");
+    gold.append("\n      __sum += id.__memory();");
+    gold.append("\n      __sum += status.__memory();");
+    gold.append("\n      __sum += owner.__memory();");
+    gold.append("\n      __sum += x.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS_R;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {ReactiveIndex.compose(status.getIndexValue(), owner.getIndexValue()), x.getIndexValue(), ReactiveIndex.compose(x.getIndexValue(), status.getIndexValue())};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Object __fieldOf(String __name) {");
+    gold.append("\n      switch (__name) {");
+    gold.append("\n        case \"id\":");
+    gold.append("\n          return id;");
+    gold.append("\n        case \"status\":");
+    gold.append("\n          return status;");
+    gold.append("\n        case \"owner\":");
+    gold.append("\n          return owner;");
+    gold.append("\n        case \"x\":");
+    gold.append("\n          return x;");
+    gold.append("\n        default:");
+    gold.append("\n          return null;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n      __lowerInvalid();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"status\":");
+    gold.append("\n              status.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"owner\":");
+    gold.append("\n              owner.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"x\":");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"status\":");
+    gold.append("\n              status.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"owner\":");
+    gold.append("\n              owner.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"x\":");
+    gold.append("\n              x.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"status\");");
+    gold.append("\n      status.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"owner\");");
+    gold.append("\n      owner.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"x\");");
+    gold.append("\n      x.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __forward.writeObjectFieldIntro(__name);");
+    gold.append("\n        __forward.beginObject();");
+    gold.append("\n        __reverse.writeObjectFieldIntro(__name);");
+    gold.append("\n        __reverse.beginObject();");
+    gold.append("\n        id.__commit(\"id\", __forward, __reverse);");
+    gold.append("\n        status.__commit(\"status\", __forward, __reverse);");
+    gold.append("\n        owner.__commit(\"owner\", __forward, __reverse);");
+    gold.append("\n        x.__commit(\"x\", __forward, __reverse);");
+    gold.append("\n        __forward.endObject();");
+    gold.append("\n        __reverse.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        status.__revert();");
+    gold.append("\n        owner.__revert();");
+    gold.append("\n        x.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __killFields() {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n    @Override");
+    gold.append("\n    public RTxR __link() {");
+    gold.append("\n      return this;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __invalidateIndex(TablePubSub __pubsub) {");
+    gold.append("\n      __pubsub.index(0,ReactiveIndex.compose(status.getIndexValue(), owner.getIndexValue()));");
+    gold.append("\n      __pubsub.index(1,x.getIndexValue());");
+    gold.append("\n      __pubsub.index(2,ReactiveIndex.compose(x.getIndexValue(), status.getIndexValue()));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __pumpIndexEvents(TablePubSub __pubsub) {");
+    gold.append("\n      status.setWatcher(__value -> {");
+    gold.append("\n        __pubsub.index(0, ReactiveIndex.compose(status.getIndexValue(), owner.getIndexValue()));");
+    gold.append("\n        __pubsub.index(2, ReactiveIndex.compose(x.getIndexValue(), status.getIndexValue()));");
+    gold.append("\n      });");
+    gold.append("\n      owner.setWatcher(__value -> {");
+    gold.append("\n        __pubsub.index(0, ReactiveIndex.compose(status.getIndexValue(), owner.getIndexValue()));");
+    gold.append("\n      });");
+    gold.append("\n      x.setWatcher(__value -> {");
+    gold.append("\n        __pubsub.index(1, __value);");
+    gold.append("\n        __pubsub.index(2, ReactiveIndex.compose(x.getIndexValue(), status.getIndexValue()));");
+    gold.append("\n      });");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"R\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      __INDEX_status$owner.deindex();");
+    gold.append("\n      __INDEX_x.deindex();");
+    gold.append("\n      __INDEX_x$status.deindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      __INDEX_status$owner.reindex();");
+    gold.append("\n      __INDEX_x.reindex();");
+    gold.append("\n      __INDEX_x$status.reindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxR implements DeltaNode {");
+    gold.append("\n    private DInt32 __did;");
+    gold.append("\n    private DString __dstatus;");
+    gold.append("\n    private DPrincipal __downer;");
+    gold.append("\n    private DInt32 __dx;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __did = new DInt32();");
+    gold.append("\n      __dstatus = new DString();");
+    gold.append("\n      __downer = new DPrincipal();");
+    gold.append("\n      __dx = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __did.__memory();");
+    gold.append("\n      __sum += __dstatus.__memory();");
+    gold.append("\n      __sum += __downer.__memory();");
+    gold.append("\n      __sum += __dx.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = (DeltaPrivacyCache) __writer.getCacheObject();");
+    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __did.show(__item.id.get(), __obj.planField(\"id\"));");
+    gold.append("\n      __dstatus.show(__item.status.get(), __obj.planField(\"status\"));");
+    gold.append("\n      __downer.show(__item.owner.get(), __obj.planField(\"owner\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __did.clear();");
+    gold.append("\n      __dstatus.clear();");
+    gold.append("\n      __downer.clear();");
+    gold.append("\n      __dx.clear();");
+    gold.append("\n      __code_cost += 4;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  class DynCmp_RTxR implements Comparator<RTxR> {");
+    gold.append("\n    private final CompareField[] parsed;");
+    gold.append("\n    DynCmp_RTxR(String instructions) {");
+    gold.append("\n      this.parsed = DynCompareParser.parse(instructions);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int compare(RTxR __a, RTxR __b) {");
+    gold.append("\n      for (CompareField field : parsed) {");
+    gold.append("\n        int delta = 0;");
+    gold.append("\n        switch (field.name) {");
+    gold.append("\n          case \"id\":");
+    gold.append("\n            delta = __a.id.compareTo(__b.id);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"status\":");
+    gold.append("\n            delta = __a.status.compareTo(__b.status);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"owner\":");
+    gold.append("\n            delta = __a.owner.compareTo(__b.owner);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            delta = __a.x.compareTo(__b.x);");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        if (delta != 0) {");
+    gold.append("\n          return field.desc ? -delta : delta;");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n      return 0;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_0 extends NtMessageBase {");
+    gold.append("\n    private final RTx_AnonObjConvert_0 __this;");
+    gold.append("\n    private String status = \"\";");
+    gold.append("\n    private int x = 0;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __mem = 64;");
+    gold.append("\n      __mem += Sizing.memoryOf(status);");
+    gold.append("\n      __mem += 4;");
+    gold.append("\n      return __mem;");
+    gold.append("\n    }");
+    gold.append("\n    public void __reset() {");
+    gold.append("\n      this.status = \"\";");
+    gold.append("\n      this.x = 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"status\");");
+    gold.append("\n      __hash.hashString(this.status);");
+    gold.append("\n      __hash.hashString(\"x\");");
+    gold.append("\n      __hash.hashInteger(this.x);");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS__AnonObjConvert_0 = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS__AnonObjConvert_0;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_0(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustStartObject();");
+    gold.append("\n      while (__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"status\":");
+    gold.append("\n            this.status = __reader.readString();");
+    gold.append("\n            break;");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            this.x = __reader.readInteger();");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"status\");");
+    gold.append("\n      __writer.writeString(status);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"x\");");
+    gold.append("\n      __writer.writeInteger(x);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx_AnonObjConvert_0() { __this = this; }");
+    gold.append("\n    private RTx_AnonObjConvert_0(String status, int x) {");
+    gold.append("\n      this.__this = this;");
+    gold.append("\n      this.status = status;");
+    gold.append("\n      this.x = x;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_0 implements DeltaNode {");
+    gold.append("\n    private DString __dstatus;");
+    gold.append("\n    private DInt32 __dx;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_0() {");
+    gold.append("\n      __dstatus = new DString();");
+    gold.append("\n      __dx = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dstatus.__memory();");
+    gold.append("\n      __sum += __dx.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dstatus.show(__item.status, __obj.planField(\"status\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __dstatus.clear();");
+    gold.append("\n      __dx.clear();");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  public static HashMap<String, HashMap<String, Object>> __services() {");
+    gold.append("\n    HashMap<String, HashMap<String, Object>> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  public static void __create_generic_clients(ServiceRegistry __registry, HeaderDecryptor decryptor) throws Exception {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __link(ServiceRegistry __registry) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Service __findService(String __name) { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __getViewStateFilter() {");
+    gold.append("\n    return \"[]\";");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected boolean __is_direct_channel(String channel) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __handle_direct(CoreRequestContext context, String channel, Object __message) throws AbortMessageException {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public SimpleCancel __export(CoreRequestContext __context, String __name, String __viewerState, Stream<String> __stream) {");
+    gold.append("\n    __stream.failure(new ErrorCodeException(ErrorCodes.LIVING_DOCUMENT_NO_EXPORT_BY_NAME));");
+    gold.append("\n    return SimpleCancel.NOTHING_TO_CANCEL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __metrics() { return \"{}\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __traffic(CoreRequestContext __context) { return \"\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __debug(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tables\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.debug(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"cron\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected long __computeGraphs() { return 0; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __open_channel(String name) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public AuthResponse __authpipe(CoreRequestContext __context, String __message) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __make_cron_progress() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_cron() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Long __predict_cron_wake_time() { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __get_internal(CoreRequestContext __context, WebGet __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __put_internal(CoreRequestContext __context, WebPut __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __delete_internal(CoreRequestContext __context, WebDelete __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public WebResponse __options(CoreRequestContext __context, WebGet __request) {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public boolean __onConnected__0(CoreRequestContext __context, NtPrincipal __who) {");
+    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __track(0);");
+    gold.append("\n    NtList<RxString> _auto_4 = (tbl.iterate(false).where(true, new __CLOSURE_WhereClause3())).transform((RTxR __item) -> (RxString) (__item.status));");
+    gold.append("\n    for (RxString _auto_5 : _auto_4) {");
+    gold.append("\n      _auto_5.set(\"closed\");");
+    gold.append("\n    }");
+    gold.append("\n");
+    gold.append("\n    __track(1);");
+    gold.append("\n    changed.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause4())).size());");
+    gold.append("\n    __track(2);");
+    gold.append("\n    return true;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanInvent(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanSendWhileDisconnected(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onLoad() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onCanAssetAttached(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onAssetAttached(CoreRequestContext __cvalue, NtAsset __pvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __delete(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(CoreRequestContext __cvalue) {");
+    gold.append("\n    boolean __result = false;");
+    gold.append("\n    if (__onConnected__0(__cvalue, __cvalue.who)) __result = true;");
+    gold.append("\n    return __result;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(CoreRequestContext __cvalue) {}");
+    gold.append("\n  public static HashMap<String, Object> __config() {");
+    gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {}");
+    gold.append("\n  private void __construct_0(CoreRequestContext __context, NtPrincipal __who, NtMessageBase __object) {");
+    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __track(3);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef6 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr8 = new RTx_AnonObjConvert_0(\"open\", 1);");
+    gold.append("\n      RTxR _CreateRef7 = _AutoRef6.make();");
+    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      _CreateRef7.status.set(_AutoExpr8.status);");
+    gold.append("\n      _CreateRef7.x.set(_AutoExpr8.x);");
+    gold.append("\n    }");
+    gold.append("\n    __track(4);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef9 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr11 = new RTx_AnonObjConvert_0(\"open\", 2);");
+    gold.append("\n      RTxR _CreateRef10 = _AutoRef9.make();");
+    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      _CreateRef10.status.set(_AutoExpr11.status);");
+    gold.append("\n      _CreateRef10.x.set(_AutoExpr11.x);");
+    gold.append("\n    }");
+    gold.append("\n    __track(5);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef12 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr14 = new RTx_AnonObjConvert_0(\"closed\", 2);");
+    gold.append("\n      RTxR _CreateRef13 = _AutoRef12.make();");
+    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      _CreateRef13.status.set(_AutoExpr14.status);");
+    gold.append("\n      _CreateRef13.x.set(_AutoExpr14.x);");
+    gold.append("\n    }");
+    gold.append("\n    __track(6);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef15 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr17 = new RTx_AnonObjConvert_0(\"closed\", 3);");
+    gold.append("\n      RTxR _CreateRef16 = _AutoRef15.make();");
+    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      _CreateRef16.status.set(_AutoExpr17.status);");
+    gold.append("\n      _CreateRef16.x.set(_AutoExpr17.x);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(CoreRequestContext __context, NtMessageBase __object) {");
+    gold.append("\n    __construct_0(__context, __context.who, __object);");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, ReactiveIndex.compose(\"open\".hashCode(), NtPrincipal.NO_ONE.hashCode()), IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String status = __obj.status.get();");
+    gold.append("\n      NtPrincipal owner = __obj.owner.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return (status).equals(\"open\") && (owner).equals(NtPrincipal.NO_ONE);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(2, ReactiveIndex.compose(2, \"closed\".hashCode()), IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int x = __obj.x.get();");
+    gold.append("\n      String status = __obj.status.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return ((int) x) == ((int) 2) && (status).equals(\"closed\");");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(1, 2, IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int x = __obj.x.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return ((int) x) == ((int) 2);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(2, ReactiveIndex.compose(2, \"open\".hashCode()), IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String status = __obj.status.get();");
+    gold.append("\n      int x = __obj.x.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return (status).equals(\"open\") && ((int) x) == ((int) 2);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(2, ReactiveIndex.compose(2, \"closed\".hashCode()), IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int x = __obj.x.get();");
+    gold.append("\n      String status = __obj.status.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return ((int) x) == ((int) 2) && (status).equals(\"closed\");");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
+    gold.append("\n--=[LivingDocumentFactory MADE]=---");
+    gold.append("\n--REFLECTION RESULTS-------------------------------------");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"tbl\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"R\"},\"computed\":false,\"privacy\":\"private\"},\"openByNoOne\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"closedAtTwo\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"justX\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"changed\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"R\":{\"nature\":\"reactive_record\",\"name\":\"R\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"status\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"string\"},\"computed\":false,\"privacy\":\"public\"},\"owner\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"principal\"},\"computed\":false,\"privacy\":\"public\"},\"x\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}},\"_AnonObjConvert_0\":{\"nature\":\"native_message\",\"name\":\"_AnonObjConvert_0\",\"anonymous\":true,\"fields\":{\"status\":{\"type\":{\"nature\":\"native_value\",\"type\":\"string\"},\"computed\":false,\"privacy\":\"public\"},\"x\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__auto_table_row_id\":4,\"tbl\":{\"1\":{\"id\":1,\"status\":\"open\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":1},\"2\":{\"id\":2,\"status\":\"open\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"3\":{\"id\":3,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"4\":{\"id\":4,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":3}},\"__seq\":1} need:false in:0");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
+    gold.append("\nCPU:17");
+    gold.append("\nMEMORY:7302");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
+    gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"openByNoOne\":2,\"closedAtTwo\":1,\"justX\":2},\"seq\":3}");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"75\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"key\":\"key\",\"origin\":\"phase\",\"ip\":\"ip\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__connection_id\":1,\"__time\":\"75\",\"tbl\":{\"2\":{\"status\":\"closed\"}},\"changed\":2,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"}}} need:false in:0");
+    gold.append("\nNO_ONE|SUCCESS:4");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"openByNoOne\":1,\"closedAtTwo\":2},\"seq\":5}");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":6,\"__entropy\":\"488730542833106255\",\"__time\":\"100\"} need:false in:0");
+    gold.append("\nRANDO: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":6}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"openByNoOne\":1,\"closedAtTwo\":2,\"justX\":2},\"seq\":6}");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"125\",\"who\":{\"agent\":\"rando\",\"authority\":\"random-place\"},\"key\":\"key\",\"origin\":\"phase\",\"ip\":\"ip\"}-->{\"__seq\":8,\"__entropy\":\"-4023469995120514721\",\"__connection_id\":2,\"__time\":\"125\",\"__clients\":{\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}} need:false in:0");
+    gold.append("\nRANDO|SUCCESS:7");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":8}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":8}");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"150\"}-->{\"__seq\":9,\"__entropy\":\"-652523483647487500\",\"__time\":\"150\"} need:false in:0");
+    gold.append("\nRANDO|SUCCESS:9");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":9}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":9}");
+    gold.append("\nMEMORY:7596");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{\"1\":{\"id\":1,\"status\":\"open\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":1},\"2\":{\"id\":2,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"3\":{\"id\":3,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"4\":{\"id\":4,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":3}},\"changed\":2,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":9,\"__entropy\":\"-652523483647487500\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"150\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":4,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{}");
+    gold.append("\n--METRIC RESULTS-----------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{\"1\":{\"id\":1,\"status\":\"open\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":1},\"2\":{\"id\":2,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"3\":{\"id\":3,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"4\":{\"id\":4,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":3}},\"changed\":2,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":9,\"__entropy\":\"-652523483647487500\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"150\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":4,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{\"1\":{\"id\":1,\"status\":\"open\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":1},\"2\":{\"id\":2,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"3\":{\"id\":3,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":2},\"4\":{\"id\":4,\"status\":\"closed\",\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"x\":3}},\"changed\":2,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":9,\"__entropy\":\"-652523483647487500\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"150\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":4,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingDateTime_8 = null;
+  private String get_IndexingDateTime_8() {
+    if (cached_IndexingDateTime_8 != null) {
+      return cached_IndexingDateTime_8;
+    }
+    cached_IndexingDateTime_8 = generateTestOutput(true, "IndexingDateTime_8", "./test_code/Linq_IndexingDateTime_success.a");
+    return cached_IndexingDateTime_8;
+  }
+
+  @Test
+  public void testIndexingDateTimeEmission() {
+    assertEmissionGood(get_IndexingDateTime_8());
+  }
+
+  @Test
+  public void testIndexingDateTimeSuccess() {
+    assertLivePass(get_IndexingDateTime_8());
+  }
+
+  @Test
+  public void testIndexingDateTimeNoFormatException() {
+    assertNoFormatException(get_IndexingDateTime_8());
+  }
+
+  @Test
+  public void testIndexingDateTimeGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingDateTime_8());
+  }
+
+  @Test
+  public void testIndexingDateTimeExceptionFree() {
+    assertExceptionFree(get_IndexingDateTime_8());
+  }
+
+  @Test
+  public void testIndexingDateTimeTODOFree() {
+    assertTODOFree(get_IndexingDateTime_8());
+  }
+
+  @Test
+  public void stable_IndexingDateTime_8() {
+    String live = get_IndexingDateTime_8();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Linq_IndexingDateTime_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n=FORMAT===================================================");
+    gold.append("\nrecord Instance {");
+    gold.append("\n  public date the_date;");
+    gold.append("\n  public time the_time;");
+    gold.append("\n  index the_date;");
+    gold.append("\n  index the_time;");
+    gold.append("\n}");
+    gold.append("\ntable<Instance> instances;");
+    gold.append("\npublic formula at_date = iterate instances where the_date == @date 2023/4/29;");
+    gold.append("\npublic formula at_time = iterate instances where the_time == @time 13:30;");
+    gold.append("\n");
+    gold.append("\n==========================================================");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[]\"--JAVA---------------------------------------------");
+    gold.append("\nimport ape.common.ErrorCodeException;");
+    gold.append("\nimport ape.common.Pair;");
+    gold.append("\nimport ape.common.SimpleCancel;");
+    gold.append("\nimport ape.common.Stream;");
+    gold.append("\nimport ape.ErrorCodes;");
+    gold.append("\nimport ape.runtime.async.*;");
+    gold.append("\nimport ape.runtime.contracts.*;");
+    gold.append("\nimport ape.runtime.delta.*;");
+    gold.append("\nimport ape.runtime.exceptions.*;");
+    gold.append("\nimport ape.runtime.graph.*;");
+    gold.append("\nimport ape.runtime.index.*;");
+    gold.append("\nimport ape.runtime.json.*;");
+    gold.append("\nimport ape.runtime.natives.*;");
+    gold.append("\nimport ape.runtime.natives.algo.*;");
+    gold.append("\nimport ape.runtime.natives.lists.*;");
+    gold.append("\nimport ape.runtime.ops.*;");
+    gold.append("\nimport ape.runtime.reactives.*;");
+    gold.append("\nimport ape.runtime.reactives.tables.*;");
+    gold.append("\nimport ape.runtime.remote.*;");
+    gold.append("\nimport ape.runtime.remote.client.*;");
+    gold.append("\nimport ape.runtime.remote.replication.*;");
+    gold.append("\nimport ape.runtime.stdlib.*;");
+    gold.append("\nimport ape.runtime.sys.*;");
+    gold.append("\nimport ape.runtime.sys.cron.*;");
+    gold.append("\nimport ape.runtime.sys.web.*;");
+    gold.append("\nimport ape.runtime.text.*;");
+    gold.append("\nimport java.time.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.HashMap;");
+    gold.append("\nimport java.util.HashSet;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.util.Set;");
+    gold.append("\npublic class IndexingDateTime_8 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxInstance> instances;");
+    gold.append("\n  private final RxLazy<NtList<RTxInstance>> at_date;");
+    gold.append("\n  private final RxTableGuard __at_date_instances;");
+    gold.append("\n  private final RxLazy<NtList<RTxInstance>> at_time;");
+    gold.append("\n  private final RxTableGuard __at_time_instances;");
+    gold.append("\n  @Override");
+    gold.append("\n  public long __memory() {");
+    gold.append("\n    long __sum = super.__memory() + 2176;");
+    gold.append("\n    __sum += instances.__memory();");
+    gold.append("\n    __sum += at_date.__memory();");
+    gold.append("\n    __sum += at_time.__memory();");
+    gold.append("\n    return __sum;");
+    gold.append("\n  }");
+    gold.append("\n  public IndexingDateTime_8(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    instances = new RxTable<>(__self, this, \"instances\", (RxParent __parent) -> new RTxInstance(__parent).__link(), 2);");
+    gold.append("\n    at_date = new RxLazy<NtList<RTxInstance>>(this, () -> (NtList<RTxInstance>)(instances.iterate(false).where(true, new __CLOSURE_WhereClause0())), null);");
+    gold.append("\n    __at_date_instances = new RxTableGuard(at_date);");
+    gold.append("\n    at_time = new RxLazy<NtList<RTxInstance>>(this, () -> (NtList<RTxInstance>)(instances.iterate(false).where(true, new __CLOSURE_WhereClause1())), null);");
+    gold.append("\n    __at_time_instances = new RxTableGuard(at_time);");
+    gold.append("\n    instances.__subscribe(__at_date_instances);");
+    gold.append("\n    at_date.__guard(instances,__at_date_instances);");
+    gold.append("\n    instances.__subscribe(__at_time_instances);");
+    gold.append("\n    at_time.__guard(instances,__at_time_instances);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n    instances.__settle(__viewers);");
+    gold.append("\n    at_date.__settle(__viewers);");
+    gold.append("\n    __at_date_instances.__settle(__viewers);");
+    gold.append("\n    at_time.__settle(__viewers);");
+    gold.append("\n    __at_time_instances.__settle(__viewers);");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"instances\":");
+    gold.append("\n            instances.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__insert(__reader);");
+    gold.append("\n            __timezoneCachedZoneId = ZoneId.of(__timezone.get());");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"instances\":");
+    gold.append("\n            instances.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
+    gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"instances\");");
+    gold.append("\n    instances.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__last_expire_time\");");
+    gold.append("\n    __last_expire_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__timezone\");");
+    gold.append("\n    __timezone.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_table_row_id\");");
+    gold.append("\n    __auto_table_row_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_gen\");");
+    gold.append("\n    __auto_gen.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_cache_id\");");
+    gold.append("\n    __auto_cache_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__cache\");");
+    gold.append("\n    __cache.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__webTaskId\");");
+    gold.append("\n    __webTaskId.__dump(__writer);");
+    gold.append("\n    __dumpDeduper(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __dumpEnqueuedTaskManager(__writer);");
+    gold.append("\n    __dumpTimeouts(__writer);");
+    gold.append("\n    __dumpWebQueue(__writer);");
+    gold.append("\n    __dumpReplicationEngine(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n    __state.__commit(\"__state\", __forward, __reverse);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __forward, __reverse);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __forward, __reverse);");
+    gold.append("\n    __last_expire_time.__commit(\"__last_expire_time\", __forward, __reverse);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __forward, __reverse);");
+    gold.append("\n    __seq.__commit(\"__seq\", __forward, __reverse);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __forward, __reverse);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __forward, __reverse);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __forward, __reverse);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __forward, __reverse);");
+    gold.append("\n    __time.__commit(\"__time\", __forward, __reverse);");
+    gold.append("\n    __timezone.__commit(\"__timezone\", __forward, __reverse);");
+    gold.append("\n    __auto_table_row_id.__commit(\"__auto_table_row_id\", __forward, __reverse);");
+    gold.append("\n    __auto_gen.__commit(\"__auto_gen\", __forward, __reverse);");
+    gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
+    gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
+    gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
+    gold.append("\n    instances.__commit(\"instances\", __forward, __reverse);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __last_expire_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    __timezone.__revert();");
+    gold.append("\n    __webTaskId.__revert();");
+    gold.append("\n    instances.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n  public class DeltaPrivacyCache {");
+    gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaIndexingDateTime_8 implements DeltaNode {");
+    gold.append("\n    private int __gat_date;");
+    gold.append("\n    private DRecordList<DeltaRTxInstance> __dat_date;");
+    gold.append("\n    private int __gat_time;");
+    gold.append("\n    private DRecordList<DeltaRTxInstance> __dat_time;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaIndexingDateTime_8() {");
+    gold.append("\n      __gat_date = -1;");
+    gold.append("\n      __dat_date = new DRecordList<DeltaRTxInstance>();");
+    gold.append("\n      __gat_time = -1;");
+    gold.append("\n      __dat_time = new DRecordList<DeltaRTxInstance>();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dat_date.__memory();");
+    gold.append("\n      __sum += __dat_time.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(IndexingDateTime_8 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
+    gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      if (__gat_date != __item.at_date.getGeneration()) {");
+    gold.append("\n        {");
+    gold.append("\n          PrivateLazyDeltaWriter __list0 = __obj.planField(\"at_date\").planObject();");
+    gold.append("\n          DRecordList<DeltaRTxInstance> __deltaList1 = __dat_date;");
+    gold.append("\n          DRecordList<DeltaRTxInstance>.Walk __deltaListWalker2 = __deltaList1.begin();");
+    gold.append("\n          for (RTxInstance __listElement3 : __item.at_date.get()) {");
+    gold.append("\n            DeltaRTxInstance __deltaElement4 = __deltaList1.getPrior(__listElement3.__id(), () -> new DeltaRTxInstance());");
+    gold.append("\n            boolean __gate5 = __deltaElement4.show(__listElement3, __list0.planField(__listElement3.__id()));");
+    gold.append("\n            if (__gate5) {");
+    gold.append("\n              __deltaListWalker2.next(__listElement3.__id());");
+    gold.append("\n            }");
+    gold.append("\n          }");
+    gold.append("\n          __deltaListWalker2.end(__list0);");
+    gold.append("\n          __list0.end();");
+    gold.append("\n        }");
+    gold.append("\n        __gat_date = __item.at_date.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gat_time != __item.at_time.getGeneration()) {");
+    gold.append("\n        {");
+    gold.append("\n          PrivateLazyDeltaWriter __list6 = __obj.planField(\"at_time\").planObject();");
+    gold.append("\n          DRecordList<DeltaRTxInstance> __deltaList7 = __dat_time;");
+    gold.append("\n          DRecordList<DeltaRTxInstance>.Walk __deltaListWalker8 = __deltaList7.begin();");
+    gold.append("\n          for (RTxInstance __listElement9 : __item.at_time.get()) {");
+    gold.append("\n            DeltaRTxInstance __deltaElement10 = __deltaList7.getPrior(__listElement9.__id(), () -> new DeltaRTxInstance());");
+    gold.append("\n            boolean __gate11 = __deltaElement10.show(__listElement9, __list6.planField(__listElement9.__id()));");
+    gold.append("\n            if (__gate11) {");
+    gold.append("\n              __deltaListWalker8.next(__listElement9.__id());");
+    gold.append("\n            }");
+    gold.append("\n          }");
+    gold.append("\n          __deltaListWalker8.end(__list6);");
+    gold.append("\n          __list6.end();");
+    gold.append("\n        }");
+    gold.append("\n        __gat_time = __item.at_time.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __dat_date.clear();");
+    gold.append("\n      __dat_time.clear();");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public Set<String> __get_intern_strings() {");
+    gold.append("\n    HashSet<String> __interns = new HashSet<>();");
+    gold.append("\n    __interns.add(\"\");");
+    gold.append("\n    __interns.add(\"?\");");
+    gold.append("\n    return __interns;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
+    gold.append("\n    IndexingDateTime_8 __self = this;");
+    gold.append("\n    DeltaIndexingDateTime_8 __state = new DeltaIndexingDateTime_8();");
+    gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
+    gold.append("\n    int __viewId = __genViewId();");
+    gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public long memory() {");
+    gold.append("\n        return __state.__memory();");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void dumpViewer(JsonStreamWriter __writer) {");
+    gold.append("\n        __viewerState.__writeOut(__writer);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void ingest(JsonStreamReader __reader) {");
+    gold.append("\n        __viewerState.__ingest(__reader);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer, __viewerState, __viewId));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx__ViewerType extends NtMessageBase {");
+    gold.append("\n    private final RTx__ViewerType __this;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() { return 64; }");
+    gold.append("\n    public void __reset() {}");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS___ViewerType = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS___ViewerType;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTx__ViewerType(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustSkipObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx__ViewerType() { __this = this; }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx__ViewerType implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx__ViewerType() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx__ViewerType __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_Instance = new String[] {\"the_date\", \"the_time\"};");
+    gold.append("\n  private class RTxInstance extends RxRecordBase<RTxInstance> {");
+    gold.append("\n    private final RTxInstance __this;");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private final RxDate the_date;");
+    gold.append("\n    private final RxTime the_time;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_the_date;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_the_time;");
+    gold.append("\n    private RTxInstance(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      this.__this = this;");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      the_date = new RxDate(this, new NtDate(1, 1, 1));");
+    gold.append("\n      the_time = new RxTime(this, new NtTime(0, 0));");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        __INDEX_the_date = new ReactiveIndexInvalidator(((RxTable<RTxInstance>)(__owner)).getIndex((short)0), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return the_date.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        the_date.__subscribe(__INDEX_the_date);");
+    gold.append("\n        __INDEX_the_time = new ReactiveIndexInvalidator(((RxTable<RTxInstance>)(__owner)).getIndex((short)1), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return the_time.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        the_time.__subscribe(__INDEX_the_time);");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        __INDEX_the_date = null;");
+    gold.append("\n        __INDEX_the_time = null;");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = super.__memory() + 0;");
+    gold.append("\n      __sum += id.__memory();");
+    gold.append("\n      __sum += the_date.__memory();");
+    gold.append("\n      __sum += the_time.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS_Instance;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {the_date.getIndexValue(), the_time.getIndexValue()};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Object __fieldOf(String __name) {");
+    gold.append("\n      switch (__name) {");
+    gold.append("\n        case \"id\":");
+    gold.append("\n          return id;");
+    gold.append("\n        case \"the_date\":");
+    gold.append("\n          return the_date;");
+    gold.append("\n        case \"the_time\":");
+    gold.append("\n          return the_time;");
+    gold.append("\n        default:");
+    gold.append("\n          return null;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n      __lowerInvalid();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"the_date\":");
+    gold.append("\n              the_date.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"the_time\":");
+    gold.append("\n              the_time.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"the_date\":");
+    gold.append("\n              the_date.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"the_time\":");
+    gold.append("\n              the_time.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"the_date\");");
+    gold.append("\n      the_date.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"the_time\");");
+    gold.append("\n      the_time.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __forward.writeObjectFieldIntro(__name);");
+    gold.append("\n        __forward.beginObject();");
+    gold.append("\n        __reverse.writeObjectFieldIntro(__name);");
+    gold.append("\n        __reverse.beginObject();");
+    gold.append("\n        id.__commit(\"id\", __forward, __reverse);");
+    gold.append("\n        the_date.__commit(\"the_date\", __forward, __reverse);");
+    gold.append("\n        the_time.__commit(\"the_time\", __forward, __reverse);");
+    gold.append("\n        __forward.endObject();");
+    gold.append("\n        __reverse.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        the_date.__revert();");
+    gold.append("\n        the_time.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __killFields() {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n    @Override");
+    gold.append("\n    public RTxInstance __link() {");
+    gold.append("\n      return this;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __invalidateIndex(TablePubSub __pubsub) {");
+    gold.append("\n      __pubsub.index(0,the_date.getIndexValue());");
+    gold.append("\n      __pubsub.index(1,the_time.getIndexValue());");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __pumpIndexEvents(TablePubSub __pubsub) {");
+    gold.append("\n      the_date.setWatcher(__value -> __pubsub.index(0, __value));");
+    gold.append("\n      the_time.setWatcher(__value -> __pubsub.index(1, __value));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"Instance\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      __INDEX_the_date.deindex();");
+    gold.append("\n      __INDEX_the_time.deindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      __INDEX_the_date.reindex();");
+    gold.append("\n      __INDEX_the_time.reindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxInstance implements DeltaNode {");
+    gold.append("\n    private DDate __dthe_date;");
+    gold.append("\n    private DTime __dthe_time;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTxInstance() {");
+    gold.append("\n      __dthe_date = new DDate();");
+    gold.append("\n      __dthe_time = new DTime();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dthe_date.__memory();");
+    gold.append("\n      __sum += __dthe_time.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(RTxInstance __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = (DeltaPrivacyCache) __writer.getCacheObject();");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dthe_date.show(__item.the_date.get(), __obj.planField(\"the_date\"));");
+    gold.append("\n      __dthe_time.show(__item.the_time.get(), __obj.planField(\"the_time\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __dthe_date.clear();");
+    gold.append("\n      __dthe_time.clear();");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  class DynCmp_RTxInstance implements Comparator<RTxInstance> {");
+    gold.append("\n    private final CompareField[] parsed;");
+    gold.append("\n    DynCmp_RTxInstance(String instructions) {");
+    gold.append("\n      this.parsed = DynCompareParser.parse(instructions);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int compare(RTxInstance __a, RTxInstance __b) {");
+    gold.append("\n      for (CompareField field : parsed) {");
+    gold.append("\n        int delta = 0;");
+    gold.append("\n        switch (field.name) {");
+    gold.append("\n          case \"id\":");
+    gold.append("\n            delta = __a.id.compareTo(__b.id);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"the_date\":");
+    gold.append("\n            delta = __a.the_date.compareTo(__b.the_date);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"the_time\":");
+    gold.append("\n            delta = __a.the_time.compareTo(__b.the_time);");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        if (delta != 0) {");
+    gold.append("\n          return field.desc ? -delta : delta;");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n      return 0;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  public static HashMap<String, HashMap<String, Object>> __services() {");
+    gold.append("\n    HashMap<String, HashMap<String, Object>> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  public static void __create_generic_clients(ServiceRegistry __registry, HeaderDecryptor decryptor) throws Exception {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __link(ServiceRegistry __registry) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Service __findService(String __name) { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __getViewStateFilter() {");
+    gold.append("\n    return \"[]\";");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected boolean __is_direct_channel(String channel) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __handle_direct(CoreRequestContext context, String channel, Object __message) throws AbortMessageException {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public SimpleCancel __export(CoreRequestContext __context, String __name, String __viewerState, Stream<String> __stream) {");
+    gold.append("\n    __stream.failure(new ErrorCodeException(ErrorCodes.LIVING_DOCUMENT_NO_EXPORT_BY_NAME));");
+    gold.append("\n    return SimpleCancel.NOTHING_TO_CANCEL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __metrics() { return \"{}\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __traffic(CoreRequestContext __context) { return \"\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __debug(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tables\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"instances\");");
+    gold.append("\n    instances.debug(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"cron\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected long __computeGraphs() { return 0; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __open_channel(String name) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public AuthResponse __authpipe(CoreRequestContext __context, String __message) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __make_cron_progress() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_cron() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Long __predict_cron_wake_time() { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __get_internal(CoreRequestContext __context, WebGet __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __put_internal(CoreRequestContext __context, WebPut __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __delete_internal(CoreRequestContext __context, WebDelete __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public WebResponse __options(CoreRequestContext __context, WebGet __request) {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanInvent(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanSendWhileDisconnected(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onLoad() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onCanAssetAttached(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onAssetAttached(CoreRequestContext __cvalue, NtAsset __pvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __delete(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(CoreRequestContext __cvalue) {}");
+    gold.append("\n  public static HashMap<String, Object> __config() {");
+    gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(CoreRequestContext _c, NtMessageBase _m) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxInstance> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, new NtDate(2023, 4, 29).toInt(), IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxInstance __obj) {");
+    gold.append("\n      NtDate the_date = __obj.the_date.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return (the_date).equals(new NtDate(2023, 4, 29));");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxInstance> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(1, new NtTime(13, 30).toInt(), IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxInstance __obj) {");
+    gold.append("\n      NtTime the_time = __obj.the_time.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return (the_time).equals(new NtTime(13, 30));");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
+    gold.append("\n--=[LivingDocumentFactory MADE]=---");
+    gold.append("\n--REFLECTION RESULTS-------------------------------------");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"instances\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"Instance\"},\"computed\":false,\"privacy\":\"private\"},\"at_date\":{\"type\":{\"nature\":\"native_list\",\"type\":{\"nature\":\"reactive_ref\",\"ref\":\"Instance\"}},\"computed\":true,\"privacy\":\"public\"},\"at_time\":{\"type\":{\"nature\":\"native_list\",\"type\":{\"nature\":\"reactive_ref\",\"ref\":\"Instance\"}},\"computed\":true,\"privacy\":\"public\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"Instance\":{\"nature\":\"reactive_record\",\"name\":\"Instance\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"the_date\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"date\"},\"computed\":false,\"privacy\":\"public\"},\"the_time\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"time\"},\"computed\":false,\"privacy\":\"public\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__seq\":1} need:false in:0");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
+    gold.append("\nCPU:0");
+    gold.append("\nMEMORY:5194");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
+    gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":3}");
+    gold.append("\nNO_ONE|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__seq\":4,\"__entropy\":\"7848011421992302230\",\"__time\":\"75\"} need:false in:0");
+    gold.append("\nRANDO: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":4}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":4}");
+    gold.append("\nRANDO|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__time\":\"100\"} need:false in:0");
+    gold.append("\nRANDO|SUCCESS:5");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":5}");
+    gold.append("\nMEMORY:5312");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"instances\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{}");
+    gold.append("\n--METRIC RESULTS-----------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"instances\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"instances\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingMessageMaterialized_9 = null;
+  private String get_IndexingMessageMaterialized_9() {
+    if (cached_IndexingMessageMaterialized_9 != null) {
+      return cached_IndexingMessageMaterialized_9;
+    }
+    cached_IndexingMessageMaterialized_9 = generateTestOutput(true, "IndexingMessageMaterialized_9", "./test_code/Linq_IndexingMessageMaterialized_success.a");
+    return cached_IndexingMessageMaterialized_9;
+  }
+
+  @Test
+  public void testIndexingMessageMaterializedEmission() {
+    assertEmissionGood(get_IndexingMessageMaterialized_9());
+  }
+
+  @Test
+  public void testIndexingMessageMaterializedSuccess() {
+    assertLivePass(get_IndexingMessageMaterialized_9());
+  }
+
+  @Test
+  public void testIndexingMessageMaterializedNoFormatException() {
+    assertNoFormatException(get_IndexingMessageMaterialized_9());
+  }
+
+  @Test
+  public void testIndexingMessageMaterializedGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingMessageMaterialized_9());
+  }
+
+  @Test
+  public void testIndexingMessageMaterializedExceptionFree() {
+    assertExceptionFree(get_IndexingMessageMaterialized_9());
+  }
+
+  @Test
+  public void testIndexingMessageMaterializedTODOFree() {
+    assertTODOFree(get_IndexingMessageMaterialized_9());
+  }
+
+  @Test
+  public void stable_IndexingMessageMaterialized_9() {
+    String live = get_IndexingMessageMaterialized_9();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Linq_IndexingMessageMaterialized_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n=FORMAT===================================================");
+    gold.append("\nmessage M {");
+    gold.append("\n  int x;");
+    gold.append("\n  index x;");
+    gold.append("\n}");
+    gold.append("\nint countEq;");
+    gold.append("\nint countLEq;");
+    gold.append("\nint countL;");
+    gold.append("\nint countGEq;");
+    gold.append("\nint countG;");
+    gold.append("\n@construct {");
+    gold.append("\n  table<M> msg;");
+    gold.append("\n  msg <- {x:1};");
+    gold.append("\n  msg <- {x:2};");
+    gold.append("\n  msg <- {x:3};");
+    gold.append("\n  list<M> mat = iterate msg materialize;");
+    gold.append("\n  countEq = (mat where x == 2).size();");
+    gold.append("\n  countLEq = (mat where x <= 2).size();");
+    gold.append("\n  countL = (mat where x < 2).size();");
+    gold.append("\n  countGEq = (mat where x >= 2).size();");
+    gold.append("\n  countG = (mat where x > 2).size();");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n==========================================================");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[]\"--JAVA---------------------------------------------");
+    gold.append("\nimport ape.common.ErrorCodeException;");
+    gold.append("\nimport ape.common.Pair;");
+    gold.append("\nimport ape.common.SimpleCancel;");
+    gold.append("\nimport ape.common.Stream;");
+    gold.append("\nimport ape.ErrorCodes;");
+    gold.append("\nimport ape.runtime.async.*;");
+    gold.append("\nimport ape.runtime.contracts.*;");
+    gold.append("\nimport ape.runtime.delta.*;");
+    gold.append("\nimport ape.runtime.exceptions.*;");
+    gold.append("\nimport ape.runtime.graph.*;");
+    gold.append("\nimport ape.runtime.index.*;");
+    gold.append("\nimport ape.runtime.json.*;");
+    gold.append("\nimport ape.runtime.natives.*;");
+    gold.append("\nimport ape.runtime.natives.algo.*;");
+    gold.append("\nimport ape.runtime.natives.lists.*;");
+    gold.append("\nimport ape.runtime.ops.*;");
+    gold.append("\nimport ape.runtime.reactives.*;");
+    gold.append("\nimport ape.runtime.reactives.tables.*;");
+    gold.append("\nimport ape.runtime.remote.*;");
+    gold.append("\nimport ape.runtime.remote.client.*;");
+    gold.append("\nimport ape.runtime.remote.replication.*;");
+    gold.append("\nimport ape.runtime.stdlib.*;");
+    gold.append("\nimport ape.runtime.sys.*;");
+    gold.append("\nimport ape.runtime.sys.cron.*;");
+    gold.append("\nimport ape.runtime.sys.web.*;");
+    gold.append("\nimport ape.runtime.text.*;");
+    gold.append("\nimport java.time.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.HashMap;");
+    gold.append("\nimport java.util.HashSet;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.util.Set;");
+    gold.append("\npublic class IndexingMessageMaterialized_9 extends LivingDocument {");
+    gold.append("\n  private final RxInt32 countEq;");
+    gold.append("\n  private final RxInt32 countLEq;");
+    gold.append("\n  private final RxInt32 countL;");
+    gold.append("\n  private final RxInt32 countGEq;");
+    gold.append("\n  private final RxInt32 countG;");
+    gold.append("\n  @Override");
+    gold.append("\n  public long __memory() {");
+    gold.append("\n    long __sum = super.__memory() + 2176;");
+    gold.append("\n    __sum += countEq.__memory();");
+    gold.append("\n    __sum += countLEq.__memory();");
+    gold.append("\n    __sum += countL.__memory();");
+    gold.append("\n    __sum += countGEq.__memory();");
+    gold.append("\n    __sum += countG.__memory();");
+    gold.append("\n    return __sum;");
+    gold.append("\n  }");
+    gold.append("\n  public IndexingMessageMaterialized_9(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    countEq = new RxInt32(this, 0);");
+    gold.append("\n    countLEq = new RxInt32(this, 0);");
+    gold.append("\n    countL = new RxInt32(this, 0);");
+    gold.append("\n    countGEq = new RxInt32(this, 0);");
+    gold.append("\n    countG = new RxInt32(this, 0);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"countEq\":");
+    gold.append("\n            countEq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countLEq\":");
+    gold.append("\n            countLEq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countL\":");
+    gold.append("\n            countL.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countGEq\":");
+    gold.append("\n            countGEq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countG\":");
+    gold.append("\n            countG.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__insert(__reader);");
+    gold.append("\n            __timezoneCachedZoneId = ZoneId.of(__timezone.get());");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"countEq\":");
+    gold.append("\n            countEq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countLEq\":");
+    gold.append("\n            countLEq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countL\":");
+    gold.append("\n            countL.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countGEq\":");
+    gold.append("\n            countGEq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countG\":");
+    gold.append("\n            countG.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
+    gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countEq\");");
+    gold.append("\n    countEq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countLEq\");");
+    gold.append("\n    countLEq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countL\");");
+    gold.append("\n    countL.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countGEq\");");
+    gold.append("\n    countGEq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countG\");");
+    gold.append("\n    countG.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__last_expire_time\");");
+    gold.append("\n    __last_expire_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__timezone\");");
+    gold.append("\n    __timezone.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_table_row_id\");");
+    gold.append("\n    __auto_table_row_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_gen\");");
+    gold.append("\n    __auto_gen.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_cache_id\");");
+    gold.append("\n    __auto_cache_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__cache\");");
+    gold.append("\n    __cache.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__webTaskId\");");
+    gold.append("\n    __webTaskId.__dump(__writer);");
+    gold.append("\n    __dumpDeduper(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __dumpEnqueuedTaskManager(__writer);");
+    gold.append("\n    __dumpTimeouts(__writer);");
+    gold.append("\n    __dumpWebQueue(__writer);");
+    gold.append("\n    __dumpReplicationEngine(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n    __state.__commit(\"__state\", __forward, __reverse);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __forward, __reverse);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __forward, __reverse);");
+    gold.append("\n    __last_expire_time.__commit(\"__last_expire_time\", __forward, __reverse);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __forward, __reverse);");
+    gold.append("\n    __seq.__commit(\"__seq\", __forward, __reverse);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __forward, __reverse);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __forward, __reverse);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __forward, __reverse);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __forward, __reverse);");
+    gold.append("\n    __time.__commit(\"__time\", __forward, __reverse);");
+    gold.append("\n    __timezone.__commit(\"__timezone\", __forward, __reverse);");
+    gold.append("\n    __auto_table_row_id.__commit(\"__auto_table_row_id\", __forward, __reverse);");
+    gold.append("\n    __auto_gen.__commit(\"__auto_gen\", __forward, __reverse);");
+    gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
+    gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
+    gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
+    gold.append("\n    countEq.__commit(\"countEq\", __forward, __reverse);");
+    gold.append("\n    countLEq.__commit(\"countLEq\", __forward, __reverse);");
+    gold.append("\n    countL.__commit(\"countL\", __forward, __reverse);");
+    gold.append("\n    countGEq.__commit(\"countGEq\", __forward, __reverse);");
+    gold.append("\n    countG.__commit(\"countG\", __forward, __reverse);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __last_expire_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    __timezone.__revert();");
+    gold.append("\n    __webTaskId.__revert();");
+    gold.append("\n    countEq.__revert();");
+    gold.append("\n    countLEq.__revert();");
+    gold.append("\n    countL.__revert();");
+    gold.append("\n    countGEq.__revert();");
+    gold.append("\n    countG.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n  public class DeltaPrivacyCache {");
+    gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaIndexingMessageMaterialized_9 implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaIndexingMessageMaterialized_9() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(IndexingMessageMaterialized_9 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
+    gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public Set<String> __get_intern_strings() {");
+    gold.append("\n    HashSet<String> __interns = new HashSet<>();");
+    gold.append("\n    __interns.add(\"\");");
+    gold.append("\n    __interns.add(\"?\");");
+    gold.append("\n    return __interns;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
+    gold.append("\n    IndexingMessageMaterialized_9 __self = this;");
+    gold.append("\n    DeltaIndexingMessageMaterialized_9 __state = new DeltaIndexingMessageMaterialized_9();");
+    gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
+    gold.append("\n    int __viewId = __genViewId();");
+    gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public long memory() {");
+    gold.append("\n        return __state.__memory();");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void dumpViewer(JsonStreamWriter __writer) {");
+    gold.append("\n        __viewerState.__writeOut(__writer);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void ingest(JsonStreamReader __reader) {");
+    gold.append("\n        __viewerState.__ingest(__reader);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer, __viewerState, __viewId));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx__ViewerType extends NtMessageBase {");
+    gold.append("\n    private final RTx__ViewerType __this;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() { return 64; }");
+    gold.append("\n    public void __reset() {}");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS___ViewerType = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS___ViewerType;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTx__ViewerType(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustSkipObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx__ViewerType() { __this = this; }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx__ViewerType implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx__ViewerType() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx__ViewerType __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTxM extends NtMessageBase {");
+    gold.append("\n    private final RTxM __this;");
+    gold.append("\n    private int x = 0;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __mem = 64;");
+    gold.append("\n      __mem += 4;");
+    gold.append("\n      return __mem;");
+    gold.append("\n    }");
+    gold.append("\n    public void __reset() {");
+    gold.append("\n      this.x = 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"x\");");
+    gold.append("\n      __hash.hashInteger(this.x);");
+    gold.append("\n      __hash.hashString(\"M\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS_M = new String[] {\"x\"};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS_M;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
     gold.append("\n      return new int[] {x};");
     gold.append("\n    }");
     gold.append("\n    private RTxM(JsonStreamReader __reader) {");
@@ -2814,6 +5694,980 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected boolean __is_direct_channel(String channel) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __handle_direct(CoreRequestContext context, String channel, Object __message) throws AbortMessageException {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public SimpleCancel __export(CoreRequestContext __context, String __name, String __viewerState, Stream<String> __stream) {");
+    gold.append("\n    __stream.failure(new ErrorCodeException(ErrorCodes.LIVING_DOCUMENT_NO_EXPORT_BY_NAME));");
+    gold.append("\n    return SimpleCancel.NOTHING_TO_CANCEL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __metrics() { return \"{}\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __traffic(CoreRequestContext __context) { return \"\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __debug(JsonStreamWriter __writer) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected long __computeGraphs() { return 0; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __open_channel(String name) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public AuthResponse __authpipe(CoreRequestContext __context, String __message) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __make_cron_progress() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_cron() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Long __predict_cron_wake_time() { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __get_internal(CoreRequestContext __context, WebGet __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __put_internal(CoreRequestContext __context, WebPut __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __delete_internal(CoreRequestContext __context, WebDelete __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public WebResponse __options(CoreRequestContext __context, WebGet __request) {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanInvent(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanSendWhileDisconnected(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onLoad() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onCanAssetAttached(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onAssetAttached(CoreRequestContext __cvalue, NtAsset __pvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __delete(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(CoreRequestContext __cvalue) {}");
+    gold.append("\n  public static HashMap<String, Object> __config() {");
+    gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {}");
+    gold.append("\n  private void __construct_0(CoreRequestContext __context, NtPrincipal __who, NtMessageBase __object) {");
+    gold.append("\n    __code_cost += 11;");
+    gold.append("\n    __track(0);");
+    gold.append("\n    NtTable<RTxM> msg = new NtTable<RTxM>(() -> new RTxM());");
+    gold.append("\n    __track(1);");
+    gold.append("\n    {");
+    gold.append("\n      NtTable<RTxM> _AutoRef3 = msg;");
+    gold.append("\n      RTxM _AutoExpr5 = new RTxM(1);");
+    gold.append("\n      RTxM _CreateRef4 = _AutoRef3.make();");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      _CreateRef4.x = _AutoExpr5.x;");
+    gold.append("\n    }");
+    gold.append("\n    __track(2);");
+    gold.append("\n    {");
+    gold.append("\n      NtTable<RTxM> _AutoRef6 = msg;");
+    gold.append("\n      RTxM _AutoExpr8 = new RTxM(2);");
+    gold.append("\n      RTxM _CreateRef7 = _AutoRef6.make();");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      _CreateRef7.x = _AutoExpr8.x;");
+    gold.append("\n    }");
+    gold.append("\n    __track(3);");
+    gold.append("\n    {");
+    gold.append("\n      NtTable<RTxM> _AutoRef9 = msg;");
+    gold.append("\n      RTxM _AutoExpr11 = new RTxM(3);");
+    gold.append("\n      RTxM _CreateRef10 = _AutoRef9.make();");
+    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      _CreateRef10.x = _AutoExpr11.x;");
+    gold.append("\n    }");
+    gold.append("\n    __track(4);");
+    gold.append("\n    NtList<RTxM> mat = new MaterializedNtList<RTxM>(msg.iterate(false),1);");
+    gold.append("\n    __track(5);");
+    gold.append("\n    countEq.set((mat.get().where(true, new __CLOSURE_WhereClause0())).size());");
+    gold.append("\n    __track(6);");
+    gold.append("\n    countLEq.set((mat.get().where(true, new __CLOSURE_WhereClause1())).size());");
+    gold.append("\n    __track(7);");
+    gold.append("\n    countL.set((mat.get().where(true, new __CLOSURE_WhereClause2())).size());");
+    gold.append("\n    __track(8);");
+    gold.append("\n    countGEq.set((mat.get().where(true, new __CLOSURE_WhereClause3())).size());");
+    gold.append("\n    __track(9);");
+    gold.append("\n    countG.set((mat.get().where(true, new __CLOSURE_WhereClause4())).size());");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(CoreRequestContext __context, NtMessageBase __object) {");
+    gold.append("\n    __construct_0(__context, __context.who, __object);");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxM> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxM __obj) {");
+    gold.append("\n      int x = __obj.x;");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return ((int) x) == ((int) 2);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxM> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.LessThanOrEqual);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxM __obj) {");
+    gold.append("\n      int x = __obj.x;");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return x <= 2;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxM> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.LessThan);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxM __obj) {");
+    gold.append("\n      int x = __obj.x;");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return x < 2;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxM> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.GreaterThanOrEqual);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxM __obj) {");
+    gold.append("\n      int x = __obj.x;");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return x >= 2;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxM> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.GreaterThan);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxM __obj) {");
+    gold.append("\n      int x = __obj.x;");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return x > 2;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
+    gold.append("\n--=[LivingDocumentFactory MADE]=---");
+    gold.append("\n--REFLECTION RESULTS-------------------------------------");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"countEq\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countLEq\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countL\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countGEq\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countG\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"M\":{\"nature\":\"native_message\",\"name\":\"M\",\"anonymous\":false,\"fields\":{\"x\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__seq\":1} need:false in:0");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
+    gold.append("\nCPU:32");
+    gold.append("\nMEMORY:2800");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
+    gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":3}");
+    gold.append("\nNO_ONE|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__seq\":4,\"__entropy\":\"7848011421992302230\",\"__time\":\"75\"} need:false in:0");
+    gold.append("\nRANDO: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":4}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":4}");
+    gold.append("\nRANDO|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__time\":\"100\"} need:false in:0");
+    gold.append("\nRANDO|SUCCESS:5");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":5}");
+    gold.append("\nMEMORY:2918");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{}");
+    gold.append("\n--METRIC RESULTS-----------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingMessageSilly_10 = null;
+  private String get_IndexingMessageSilly_10() {
+    if (cached_IndexingMessageSilly_10 != null) {
+      return cached_IndexingMessageSilly_10;
+    }
+    cached_IndexingMessageSilly_10 = generateTestOutput(true, "IndexingMessageSilly_10", "./test_code/Linq_IndexingMessageSilly_success.a");
+    return cached_IndexingMessageSilly_10;
+  }
+
+  @Test
+  public void testIndexingMessageSillyEmission() {
+    assertEmissionGood(get_IndexingMessageSilly_10());
+  }
+
+  @Test
+  public void testIndexingMessageSillySuccess() {
+    assertLivePass(get_IndexingMessageSilly_10());
+  }
+
+  @Test
+  public void testIndexingMessageSillyNoFormatException() {
+    assertNoFormatException(get_IndexingMessageSilly_10());
+  }
+
+  @Test
+  public void testIndexingMessageSillyGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingMessageSilly_10());
+  }
+
+  @Test
+  public void testIndexingMessageSillyExceptionFree() {
+    assertExceptionFree(get_IndexingMessageSilly_10());
+  }
+
+  @Test
+  public void testIndexingMessageSillyTODOFree() {
+    assertTODOFree(get_IndexingMessageSilly_10());
+  }
+
+  @Test
+  public void stable_IndexingMessageSilly_10() {
+    String live = get_IndexingMessageSilly_10();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Linq_IndexingMessageSilly_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n=FORMAT===================================================");
+    gold.append("\nmessage M {");
+    gold.append("\n  int x;");
+    gold.append("\n}");
+    gold.append("\nint countEq;");
+    gold.append("\nint countLEq;");
+    gold.append("\nint countL;");
+    gold.append("\nint countGEq;");
+    gold.append("\nint countG;");
+    gold.append("\n@construct {");
+    gold.append("\n  table<M> msg;");
+    gold.append("\n  msg <- {x:1};");
+    gold.append("\n  msg <- {x:2};");
+    gold.append("\n  msg <- {x:3};");
+    gold.append("\n  list<M> mat = iterate msg materialize;");
+    gold.append("\n  countEq = (mat where x == 2).size();");
+    gold.append("\n  countLEq = (mat where x <= 2).size();");
+    gold.append("\n  countL = (mat where x < 2).size();");
+    gold.append("\n  countGEq = (mat where x >= 2).size();");
+    gold.append("\n  countG = (mat where x > 2).size();");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n==========================================================");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[]\"--JAVA---------------------------------------------");
+    gold.append("\nimport ape.common.ErrorCodeException;");
+    gold.append("\nimport ape.common.Pair;");
+    gold.append("\nimport ape.common.SimpleCancel;");
+    gold.append("\nimport ape.common.Stream;");
+    gold.append("\nimport ape.ErrorCodes;");
+    gold.append("\nimport ape.runtime.async.*;");
+    gold.append("\nimport ape.runtime.contracts.*;");
+    gold.append("\nimport ape.runtime.delta.*;");
+    gold.append("\nimport ape.runtime.exceptions.*;");
+    gold.append("\nimport ape.runtime.graph.*;");
+    gold.append("\nimport ape.runtime.index.*;");
+    gold.append("\nimport ape.runtime.json.*;");
+    gold.append("\nimport ape.runtime.natives.*;");
+    gold.append("\nimport ape.runtime.natives.algo.*;");
+    gold.append("\nimport ape.runtime.natives.lists.*;");
+    gold.append("\nimport ape.runtime.ops.*;");
+    gold.append("\nimport ape.runtime.reactives.*;");
+    gold.append("\nimport ape.runtime.reactives.tables.*;");
+    gold.append("\nimport ape.runtime.remote.*;");
+    gold.append("\nimport ape.runtime.remote.client.*;");
+    gold.append("\nimport ape.runtime.remote.replication.*;");
+    gold.append("\nimport ape.runtime.stdlib.*;");
+    gold.append("\nimport ape.runtime.sys.*;");
+    gold.append("\nimport ape.runtime.sys.cron.*;");
+    gold.append("\nimport ape.runtime.sys.web.*;");
+    gold.append("\nimport ape.runtime.text.*;");
+    gold.append("\nimport java.time.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.HashMap;");
+    gold.append("\nimport java.util.HashSet;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.util.Set;");
+    gold.append("\npublic class IndexingMessageSilly_10 extends LivingDocument {");
+    gold.append("\n  private final RxInt32 countEq;");
+    gold.append("\n  private final RxInt32 countLEq;");
+    gold.append("\n  private final RxInt32 countL;");
+    gold.append("\n  private final RxInt32 countGEq;");
+    gold.append("\n  private final RxInt32 countG;");
+    gold.append("\n  @Override");
+    gold.append("\n  public long __memory() {");
+    gold.append("\n    long __sum = super.__memory() + 2176;");
+    gold.append("\n    __sum += countEq.__memory();");
+    gold.append("\n    __sum += countLEq.__memory();");
+    gold.append("\n    __sum += countL.__memory();");
+    gold.append("\n    __sum += countGEq.__memory();");
+    gold.append("\n    __sum += countG.__memory();");
+    gold.append("\n    return __sum;");
+    gold.append("\n  }");
+    gold.append("\n  public IndexingMessageSilly_10(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    countEq = new RxInt32(this, 0);");
+    gold.append("\n    countLEq = new RxInt32(this, 0);");
+    gold.append("\n    countL = new RxInt32(this, 0);");
+    gold.append("\n    countGEq = new RxInt32(this, 0);");
+    gold.append("\n    countG = new RxInt32(this, 0);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"countEq\":");
+    gold.append("\n            countEq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countLEq\":");
+    gold.append("\n            countLEq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countL\":");
+    gold.append("\n            countL.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countGEq\":");
+    gold.append("\n            countGEq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countG\":");
+    gold.append("\n            countG.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__insert(__reader);");
+    gold.append("\n            __timezoneCachedZoneId = ZoneId.of(__timezone.get());");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"countEq\":");
+    gold.append("\n            countEq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countLEq\":");
+    gold.append("\n            countLEq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countL\":");
+    gold.append("\n            countL.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countGEq\":");
+    gold.append("\n            countGEq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"countG\":");
+    gold.append("\n            countG.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
+    gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countEq\");");
+    gold.append("\n    countEq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countLEq\");");
+    gold.append("\n    countLEq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countL\");");
+    gold.append("\n    countL.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countGEq\");");
+    gold.append("\n    countGEq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"countG\");");
+    gold.append("\n    countG.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__last_expire_time\");");
+    gold.append("\n    __last_expire_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__timezone\");");
+    gold.append("\n    __timezone.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_table_row_id\");");
+    gold.append("\n    __auto_table_row_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_gen\");");
+    gold.append("\n    __auto_gen.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_cache_id\");");
+    gold.append("\n    __auto_cache_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__cache\");");
+    gold.append("\n    __cache.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__webTaskId\");");
+    gold.append("\n    __webTaskId.__dump(__writer);");
+    gold.append("\n    __dumpDeduper(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __dumpEnqueuedTaskManager(__writer);");
+    gold.append("\n    __dumpTimeouts(__writer);");
+    gold.append("\n    __dumpWebQueue(__writer);");
+    gold.append("\n    __dumpReplicationEngine(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n    __state.__commit(\"__state\", __forward, __reverse);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __forward, __reverse);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __forward, __reverse);");
+    gold.append("\n    __last_expire_time.__commit(\"__last_expire_time\", __forward, __reverse);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __forward, __reverse);");
+    gold.append("\n    __seq.__commit(\"__seq\", __forward, __reverse);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __forward, __reverse);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __forward, __reverse);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __forward, __reverse);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __forward, __reverse);");
+    gold.append("\n    __time.__commit(\"__time\", __forward, __reverse);");
+    gold.append("\n    __timezone.__commit(\"__timezone\", __forward, __reverse);");
+    gold.append("\n    __auto_table_row_id.__commit(\"__auto_table_row_id\", __forward, __reverse);");
+    gold.append("\n    __auto_gen.__commit(\"__auto_gen\", __forward, __reverse);");
+    gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
+    gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
+    gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
+    gold.append("\n    countEq.__commit(\"countEq\", __forward, __reverse);");
+    gold.append("\n    countLEq.__commit(\"countLEq\", __forward, __reverse);");
+    gold.append("\n    countL.__commit(\"countL\", __forward, __reverse);");
+    gold.append("\n    countGEq.__commit(\"countGEq\", __forward, __reverse);");
+    gold.append("\n    countG.__commit(\"countG\", __forward, __reverse);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __last_expire_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    __timezone.__revert();");
+    gold.append("\n    __webTaskId.__revert();");
+    gold.append("\n    countEq.__revert();");
+    gold.append("\n    countLEq.__revert();");
+    gold.append("\n    countL.__revert();");
+    gold.append("\n    countGEq.__revert();");
+    gold.append("\n    countG.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n  public class DeltaPrivacyCache {");
+    gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaIndexingMessageSilly_10 implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaIndexingMessageSilly_10() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(IndexingMessageSilly_10 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
+    gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public Set<String> __get_intern_strings() {");
+    gold.append("\n    HashSet<String> __interns = new HashSet<>();");
+    gold.append("\n    __interns.add(\"\");");
+    gold.append("\n    __interns.add(\"?\");");
+    gold.append("\n    return __interns;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
+    gold.append("\n    IndexingMessageSilly_10 __self = this;");
+    gold.append("\n    DeltaIndexingMessageSilly_10 __state = new DeltaIndexingMessageSilly_10();");
+    gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
+    gold.append("\n    int __viewId = __genViewId();");
+    gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public long memory() {");
+    gold.append("\n        return __state.__memory();");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void dumpViewer(JsonStreamWriter __writer) {");
+    gold.append("\n        __viewerState.__writeOut(__writer);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void ingest(JsonStreamReader __reader) {");
+    gold.append("\n        __viewerState.__ingest(__reader);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer, __viewerState, __viewId));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx__ViewerType extends NtMessageBase {");
+    gold.append("\n    private final RTx__ViewerType __this;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() { return 64; }");
+    gold.append("\n    public void __reset() {}");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS___ViewerType = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS___ViewerType;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTx__ViewerType(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustSkipObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx__ViewerType() { __this = this; }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx__ViewerType implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx__ViewerType() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx__ViewerType __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTxM extends NtMessageBase {");
+    gold.append("\n    private final RTxM __this;");
+    gold.append("\n    private int x = 0;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __mem = 64;");
+    gold.append("\n      __mem += 4;");
+    gold.append("\n      return __mem;");
+    gold.append("\n    }");
+    gold.append("\n    public void __reset() {");
+    gold.append("\n      this.x = 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"x\");");
+    gold.append("\n      __hash.hashInteger(this.x);");
+    gold.append("\n      __hash.hashString(\"M\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS_M = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS_M;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTxM(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustStartObject();");
+    gold.append("\n      while (__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            this.x = __reader.readInteger();");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"x\");");
+    gold.append("\n      __writer.writeInteger(x);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTxM() { __this = this; }");
+    gold.append("\n    private RTxM(int x) {");
+    gold.append("\n      this.__this = this;");
+    gold.append("\n      this.x = x;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxM implements DeltaNode {");
+    gold.append("\n    private DInt32 __dx;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTxM() {");
+    gold.append("\n      __dx = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dx.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __dx.clear();");
+    gold.append("\n      __code_cost += 1;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  public static HashMap<String, HashMap<String, Object>> __services() {");
+    gold.append("\n    HashMap<String, HashMap<String, Object>> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  public static void __create_generic_clients(ServiceRegistry __registry, HeaderDecryptor decryptor) throws Exception {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __link(ServiceRegistry __registry) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Service __findService(String __name) { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __getViewStateFilter() {");
+    gold.append("\n    return \"[]\";");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -2947,7 +6801,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      _CreateRef10.x = _AutoExpr11.x;");
     gold.append("\n    }");
     gold.append("\n    __track(4);");
-    gold.append("\n    NtList<RTxM> mat = new MaterializedNtList<RTxM>(msg.iterate(false),1);");
+    gold.append("\n    NtList<RTxM> mat = msg.iterate(false);");
     gold.append("\n    __track(5);");
     gold.append("\n    countEq.set((mat.get().where(true, new __CLOSURE_WhereClause0())).size());");
     gold.append("\n    __track(6);");
@@ -2971,8 +6825,6 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxM> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
-    gold.append("\n      __code_cost += 10;");
-    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.Equals);");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -2989,8 +6841,6 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxM> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
-    gold.append("\n      __code_cost += 10;");
-    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.LessThanOrEqual);");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -3007,8 +6857,6 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxM> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
-    gold.append("\n      __code_cost += 10;");
-    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.LessThan);");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -3025,8 +6873,6 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxM> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
-    gold.append("\n      __code_cost += 10;");
-    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.GreaterThanOrEqual);");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -3043,8 +6889,6 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxM> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
-    gold.append("\n      __code_cost += 10;");
-    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.GreaterThan);");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -3096,72 +6940,150 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_IndexingMessageSilly_7 = null;
-  private String get_IndexingMessageSilly_7() {
-    if (cached_IndexingMessageSilly_7 != null) {
-      return cached_IndexingMessageSilly_7;
+  private String cached_IndexingSearchBad_11 = null;
+  private String get_IndexingSearchBad_11() {
+    if (cached_IndexingSearchBad_11 != null) {
+      return cached_IndexingSearchBad_11;
     }
-    cached_IndexingMessageSilly_7 = generateTestOutput(true, "IndexingMessageSilly_7", "./test_code/Linq_IndexingMessageSilly_success.a");
-    return cached_IndexingMessageSilly_7;
+    cached_IndexingSearchBad_11 = generateTestOutput(false, "IndexingSearchBad_11", "./test_code/Linq_IndexingSearchBad_failure.a");
+    return cached_IndexingSearchBad_11;
   }
 
   @Test
-  public void testIndexingMessageSillyEmission() {
-    assertEmissionGood(get_IndexingMessageSilly_7());
+  public void testIndexingSearchBadFailure() {
+    assertLiveFail(get_IndexingSearchBad_11());
   }
 
   @Test
-  public void testIndexingMessageSillySuccess() {
-    assertLivePass(get_IndexingMessageSilly_7());
+  public void testIndexingSearchBadNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_IndexingSearchBad_11());
   }
 
   @Test
-  public void testIndexingMessageSillyNoFormatException() {
-    assertNoFormatException(get_IndexingMessageSilly_7());
+  public void testIndexingSearchBadExceptionFree() {
+    assertExceptionFree(get_IndexingSearchBad_11());
   }
 
   @Test
-  public void testIndexingMessageSillyGoodWillHappy() {
-    assertGoodWillHappy(get_IndexingMessageSilly_7());
+  public void testIndexingSearchBadTODOFree() {
+    assertTODOFree(get_IndexingSearchBad_11());
   }
 
   @Test
-  public void testIndexingMessageSillyExceptionFree() {
-    assertExceptionFree(get_IndexingMessageSilly_7());
+  public void stable_IndexingSearchBad_11() {
+    String live = get_IndexingSearchBad_11();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Linq_IndexingSearchBad_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":4,\"character\":2,\"byte\":52},\"end\":{\"line\":4,\"character\":17,\"byte\":67}},\"severity\":1,\"source\":\"error\",\"message\":\"Search index for field 'x' requires a string\",\"file\":\"./test_code/Linq_IndexingSearchBad_failure.a\"},{\"range\":{\"start\":{\"line\":5,\"character\":2,\"byte\":70},\"end\":{\"line\":5,\"character\":20,\"byte\":88}},\"severity\":1,\"source\":\"error\",\"message\":\"Search index could not find field 'nope'\",\"file\":\"./test_code/Linq_IndexingSearchBad_failure.a\"},{\"range\":{\"start\":{\"line\":7,\"character\":2,\"byte\":112},\"end\":{\"line\":7,\"character\":20,\"byte\":130}},\"severity\":1,\"source\":\"error\",\"message\":\"Index was already defined: 'search:name'\",\"file\":\"./test_code/Linq_IndexingSearchBad_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingSearch_12 = null;
+  private String get_IndexingSearch_12() {
+    if (cached_IndexingSearch_12 != null) {
+      return cached_IndexingSearch_12;
+    }
+    cached_IndexingSearch_12 = generateTestOutput(true, "IndexingSearch_12", "./test_code/Linq_IndexingSearch_success.a");
+    return cached_IndexingSearch_12;
   }
 
   @Test
-  public void testIndexingMessageSillyTODOFree() {
-    assertTODOFree(get_IndexingMessageSilly_7());
+  public void testIndexingSearchEmission() {
+    assertEmissionGood(get_IndexingSearch_12());
+  }
+
+  @Test
+  public void testIndexingSearchSuccess() {
+    assertLivePass(get_IndexingSearch_12());
+  }
+
+  @Test
+  public void testIndexingSearchNoFormatException() {
+    assertNoFormatException(get_IndexingSearch_12());
+  }
+
+  @Test
+  public void testIndexingSearchGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingSearch_12());
   }
 
   @Test
-  public void stable_IndexingMessageSilly_7() {
-    String live = get_IndexingMessageSilly_7();
+  public void testIndexingSearchExceptionFree() {
+    assertExceptionFree(get_IndexingSearch_12());
+  }
+
+  @Test
+  public void testIndexingSearchTODOFree() {
+    assertTODOFree(get_IndexingSearch_12());
+  }
+
+  @Test
+  public void stable_IndexingSearch_12() {
+    String live = get_IndexingSearch_12();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Linq_IndexingMessageSilly_success.a");
+    gold.append("Path:Linq_IndexingSearch_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
     gold.append("\nEmission Success, Yay");
     gold.append("\n=FORMAT===================================================");
-    gold.append("\nmessage M {");
-    gold.append("\n  int x;");
+    gold.append("\nrecord R {");
+    gold.append("\n  public int id;");
+    gold.append("\n  public string name;");
+    gold.append("\n  public string note;");
+    gold.append("\n  public int x;");
+    gold.append("\n  index search name;");
+    gold.append("\n  index search note;");
+    gold.append("\n  index x;");
     gold.append("\n}");
-    gold.append("\nint countEq;");
-    gold.append("\nint countLEq;");
-    gold.append("\nint countL;");
-    gold.append("\nint countGEq;");
-    gold.append("\nint countG;");
+    gold.append("\ntable<R> tbl;");
+    gold.append("\npublic string query = \"bla\";");
+    gold.append("\npublic formula byName = (iterate tbl where query =? name).size();");
+    gold.append("\npublic formula byAlias = (iterate tbl where_as t: \"quick fox\" =? t.name).size();");
+    gold.append("\npublic formula everything = (iterate tbl where \"\" =? name).size();");
+    gold.append("\npublic formula both = (iterate tbl where \"dog\" =? name && x == 2).size();");
+    gold.append("\npublic formula either = (iterate tbl where \"pony\" =? name || \"green\" =? note).size();");
     gold.append("\n@construct {");
-    gold.append("\n  table<M> msg;");
-    gold.append("\n  msg <- {x:1};");
-    gold.append("\n  msg <- {x:2};");
-    gold.append("\n  msg <- {x:3};");
-    gold.append("\n  list<M> mat = iterate msg materialize;");
-    gold.append("\n  countEq = (mat where x == 2).size();");
-    gold.append("\n  countLEq = (mat where x <= 2).size();");
-    gold.append("\n  countL = (mat where x < 2).size();");
-    gold.append("\n  countGEq = (mat where x >= 2).size();");
-    gold.append("\n  countG = (mat where x > 2).size();");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      name:\"The Quick Black Fox\",");
+    gold.append("\n      note:\"red\",");
+    gold.append("\n      x:1");
+    gold.append("\n    };");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      name:\"a dog is not a pony\",");
+    gold.append("\n      note:\"green\",");
+    gold.append("\n      x:2");
+    gold.append("\n    };");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      name:\"Blade Runner\",");
+    gold.append("\n      note:\"blue\",");
+    gold.append("\n      x:2");
+    gold.append("\n    };");
+    gold.append("\n  tbl <- {");
+    gold.append("\n      name:\"hot dog\",");
+    gold.append("\n      note:\"yellow\",");
+    gold.append("\n      x:3");
+    gold.append("\n    };");
+    gold.append("\n}");
+    gold.append("\ntest search {");
+    gold.append("\n  assert byName == 2;");
+    gold.append("\n  assert byAlias == 1;");
+    gold.append("\n  assert everything == 4;");
+    gold.append("\n  assert both == 1;");
+    gold.append("\n  assert either == 1;");
+    gold.append("\n  query = \"runner\";");
+    gold.append("\n  assert byName == 1;");
+    gold.append("\n  query = \"black runner\";");
+    gold.append("\n  assert byName == 2;");
+    gold.append("\n  query = \"zebra\";");
+    gold.append("\n  assert byName == 0;");
+    gold.append("\n  query = \"q\";");
+    gold.append("\n  assert byName == 1;");
+    gold.append("\n  (iterate tbl where x == 3).name = \"Zebra crossing\";");
+    gold.append("\n  query = \"zeb\";");
+    gold.append("\n  assert byName == 1;");
+    gold.append("\n  query = \"dog\";");
+    gold.append("\n  assert byName == 1;");
     gold.append("\n}");
     gold.append("\n");
     gold.append("\n==========================================================");
@@ -3202,34 +7124,72 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class IndexingMessageSilly_7 extends LivingDocument {");
-    gold.append("\n  private final RxInt32 countEq;");
-    gold.append("\n  private final RxInt32 countLEq;");
-    gold.append("\n  private final RxInt32 countL;");
-    gold.append("\n  private final RxInt32 countGEq;");
-    gold.append("\n  private final RxInt32 countG;");
+    gold.append("\npublic class IndexingSearch_12 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxR> tbl;");
+    gold.append("\n  private final RxString query;");
+    gold.append("\n  private final RxLazy<Integer> byName;");
+    gold.append("\n  private final RxTableGuard __byName_tbl;");
+    gold.append("\n  private final RxLazy<Integer> byAlias;");
+    gold.append("\n  private final RxTableGuard __byAlias_tbl;");
+    gold.append("\n  private final RxLazy<Integer> everything;");
+    gold.append("\n  private final RxTableGuard __everything_tbl;");
+    gold.append("\n  private final RxLazy<Integer> both;");
+    gold.append("\n  private final RxTableGuard __both_tbl;");
+    gold.append("\n  private final RxLazy<Integer> either;");
+    gold.append("\n  private final RxTableGuard __either_tbl;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
     gold.append("\n    long __sum = super.__memory() + 2176;");
-    gold.append("\n    __sum += countEq.__memory();");
-    gold.append("\n    __sum += countLEq.__memory();");
-    gold.append("\n    __sum += countL.__memory();");
-    gold.append("\n    __sum += countGEq.__memory();");
-    gold.append("\n    __sum += countG.__memory();");
+    gold.append("\n    __sum += tbl.__memory();");
+    gold.append("\n    __sum += query.__memory();");
+    gold.append("\n    __sum += byName.__memory();");
+    gold.append("\n    __sum += byAlias.__memory();");
+    gold.append("\n    __sum += everything.__memory();");
+    gold.append("\n    __sum += both.__memory();");
+    gold.append("\n    __sum += either.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public IndexingMessageSilly_7(DocumentMonitor __monitor) {");
-    gold.append("\n    super(__monitor);");
-    gold.append("\n    countEq = new RxInt32(this, 0);");
-    gold.append("\n    countLEq = new RxInt32(this, 0);");
-    gold.append("\n    countL = new RxInt32(this, 0);");
-    gold.append("\n    countGEq = new RxInt32(this, 0);");
-    gold.append("\n    countG = new RxInt32(this, 0);");
+    gold.append("\n  public IndexingSearch_12(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxR(__parent).__link(), 1, 2);");
+    gold.append("\n    query = new RxString(this, \"bla\");");
+    gold.append("\n    byName = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause0(query))).size()), null);");
+    gold.append("\n    __byName_tbl = new RxTableGuard(byName);");
+    gold.append("\n    byAlias = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause1())).size()), null);");
+    gold.append("\n    __byAlias_tbl = new RxTableGuard(byAlias);");
+    gold.append("\n    everything = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause2())).size()), null);");
+    gold.append("\n    __everything_tbl = new RxTableGuard(everything);");
+    gold.append("\n    both = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause3())).size()), null);");
+    gold.append("\n    __both_tbl = new RxTableGuard(both);");
+    gold.append("\n    either = new RxLazy<Integer>(this, () -> (Integer)((tbl.iterate(false).where(true, new __CLOSURE_WhereClause4())).size()), null);");
+    gold.append("\n    __either_tbl = new RxTableGuard(either);");
+    gold.append("\n    query.__subscribe(byName);");
+    gold.append("\n    tbl.__subscribe(__byName_tbl);");
+    gold.append("\n    byName.__guard(tbl,__byName_tbl);");
+    gold.append("\n    tbl.__subscribe(__byAlias_tbl);");
+    gold.append("\n    byAlias.__guard(tbl,__byAlias_tbl);");
+    gold.append("\n    tbl.__subscribe(__everything_tbl);");
+    gold.append("\n    everything.__guard(tbl,__everything_tbl);");
+    gold.append("\n    tbl.__subscribe(__both_tbl);");
+    gold.append("\n    both.__guard(tbl,__both_tbl);");
+    gold.append("\n    tbl.__subscribe(__either_tbl);");
+    gold.append("\n    either.__guard(tbl,__either_tbl);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n    tbl.__settle(__viewers);");
+    gold.append("\n    byName.__settle(__viewers);");
+    gold.append("\n    __byName_tbl.__settle(__viewers);");
+    gold.append("\n    byAlias.__settle(__viewers);");
+    gold.append("\n    __byAlias_tbl.__settle(__viewers);");
+    gold.append("\n    everything.__settle(__viewers);");
+    gold.append("\n    __everything_tbl.__settle(__viewers);");
+    gold.append("\n    both.__settle(__viewers);");
+    gold.append("\n    __both_tbl.__settle(__viewers);");
+    gold.append("\n    either.__settle(__viewers);");
+    gold.append("\n    __either_tbl.__settle(__viewers);");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
@@ -3237,20 +7197,11 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"countEq\":");
-    gold.append("\n            countEq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countLEq\":");
-    gold.append("\n            countLEq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countL\":");
-    gold.append("\n            countL.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countGEq\":");
-    gold.append("\n            countGEq.__insert(__reader);");
+    gold.append("\n          case \"tbl\":");
+    gold.append("\n            tbl.__insert(__reader);");
     gold.append("\n            break;");
-    gold.append("\n          case \"countG\":");
-    gold.append("\n            countG.__insert(__reader);");
+    gold.append("\n          case \"query\":");
+    gold.append("\n            query.__insert(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__insert(__reader);");
@@ -3340,20 +7291,11 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"countEq\":");
-    gold.append("\n            countEq.__patch(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countLEq\":");
-    gold.append("\n            countLEq.__patch(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countL\":");
-    gold.append("\n            countL.__patch(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"countGEq\":");
-    gold.append("\n            countGEq.__patch(__reader);");
+    gold.append("\n          case \"tbl\":");
+    gold.append("\n            tbl.__patch(__reader);");
     gold.append("\n            break;");
-    gold.append("\n          case \"countG\":");
-    gold.append("\n            countG.__patch(__reader);");
+    gold.append("\n          case \"query\":");
+    gold.append("\n            query.__patch(__reader);");
     gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__patch(__reader);");
@@ -3441,16 +7383,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __writer.beginObject();");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
     gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countEq\");");
-    gold.append("\n    countEq.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countLEq\");");
-    gold.append("\n    countLEq.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countL\");");
-    gold.append("\n    countL.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countGEq\");");
-    gold.append("\n    countGEq.__dump(__writer);");
-    gold.append("\n    __writer.writeObjectFieldIntro(\"countG\");");
-    gold.append("\n    countG.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"query\");");
+    gold.append("\n    query.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
     gold.append("\n    __state.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
@@ -3513,11 +7449,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
     gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
     gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
-    gold.append("\n    countEq.__commit(\"countEq\", __forward, __reverse);");
-    gold.append("\n    countLEq.__commit(\"countLEq\", __forward, __reverse);");
-    gold.append("\n    countL.__commit(\"countL\", __forward, __reverse);");
-    gold.append("\n    countGEq.__commit(\"countGEq\", __forward, __reverse);");
-    gold.append("\n    countG.__commit(\"countG\", __forward, __reverse);");
+    gold.append("\n    tbl.__commit(\"tbl\", __forward, __reverse);");
+    gold.append("\n    query.__commit(\"query\", __forward, __reverse);");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -3535,11 +7468,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __time.__revert();");
     gold.append("\n    __timezone.__revert();");
     gold.append("\n    __webTaskId.__revert();");
-    gold.append("\n    countEq.__revert();");
-    gold.append("\n    countLEq.__revert();");
-    gold.append("\n    countL.__revert();");
-    gold.append("\n    countGEq.__revert();");
-    gold.append("\n    countG.__revert();");
+    gold.append("\n    tbl.__revert();");
+    gold.append("\n    query.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -3547,21 +7477,71 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaIndexingMessageSilly_7 implements DeltaNode {");
+    gold.append("\n  private class DeltaIndexingSearch_12 implements DeltaNode {");
+    gold.append("\n    private DString __dquery;");
+    gold.append("\n    private int __gbyName;");
+    gold.append("\n    private DInt32 __dbyName;");
+    gold.append("\n    private int __gbyAlias;");
+    gold.append("\n    private DInt32 __dbyAlias;");
+    gold.append("\n    private int __geverything;");
+    gold.append("\n    private DInt32 __deverything;");
+    gold.append("\n    private int __gboth;");
+    gold.append("\n    private DInt32 __dboth;");
+    gold.append("\n    private int __geither;");
+    gold.append("\n    private DInt32 __deither;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaIndexingMessageSilly_7() {");
+    gold.append("\n    private DeltaIndexingSearch_12() {");
+    gold.append("\n      __dquery = new DString();");
+    gold.append("\n      __gbyName = -1;");
+    gold.append("\n      __dbyName = new DInt32();");
+    gold.append("\n      __gbyAlias = -1;");
+    gold.append("\n      __dbyAlias = new DInt32();");
+    gold.append("\n      __geverything = -1;");
+    gold.append("\n      __deverything = new DInt32();");
+    gold.append("\n      __gboth = -1;");
+    gold.append("\n      __dboth = new DInt32();");
+    gold.append("\n      __geither = -1;");
+    gold.append("\n      __deither = new DInt32();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dquery.__memory();");
+    gold.append("\n      __sum += __dbyName.__memory();");
+    gold.append("\n      __sum += __dbyAlias.__memory();");
+    gold.append("\n      __sum += __deverything.__memory();");
+    gold.append("\n      __sum += __dboth.__memory();");
+    gold.append("\n      __sum += __deither.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(IndexingMessageSilly_7 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(IndexingSearch_12 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      __code_cost += 6;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
+    gold.append("\n      __dquery.show(__item.query.get(), __obj.planField(\"query\"));");
+    gold.append("\n      if (__gbyName != __item.byName.getGeneration()) {");
+    gold.append("\n        __dbyName.show(__item.byName.get(), __obj.planField(\"byName\"));");
+    gold.append("\n        __gbyName = __item.byName.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gbyAlias != __item.byAlias.getGeneration()) {");
+    gold.append("\n        __dbyAlias.show(__item.byAlias.get(), __obj.planField(\"byAlias\"));");
+    gold.append("\n        __gbyAlias = __item.byAlias.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__geverything != __item.everything.getGeneration()) {");
+    gold.append("\n        __deverything.show(__item.everything.get(), __obj.planField(\"everything\"));");
+    gold.append("\n        __geverything = __item.everything.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__gboth != __item.both.getGeneration()) {");
+    gold.append("\n        __dboth.show(__item.both.get(), __obj.planField(\"both\"));");
+    gold.append("\n        __gboth = __item.both.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      if (__geither != __item.either.getGeneration()) {");
+    gold.append("\n        __deither.show(__item.either.get(), __obj.planField(\"either\"));");
+    gold.append("\n        __geither = __item.either.getGeneration();");
+    gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3569,7 +7549,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __code_cost += 0;");
+    gold.append("\n      __dquery.clear();");
+    gold.append("\n      __dbyName.clear();");
+    gold.append("\n      __dbyAlias.clear();");
+    gold.append("\n      __deverything.clear();");
+    gold.append("\n      __dboth.clear();");
+    gold.append("\n      __deither.clear();");
+    gold.append("\n      __code_cost += 6;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -3588,8 +7574,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    IndexingMessageSilly_7 __self = this;");
-    gold.append("\n    DeltaIndexingMessageSilly_7 __state = new DeltaIndexingMessageSilly_7();");
+    gold.append("\n    IndexingSearch_12 __self = this;");
+    gold.append("\n    DeltaIndexingSearch_12 __state = new DeltaIndexingSearch_12();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -3633,37 +7619,305 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __ingest(__reader);");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
-    gold.append("\n      __reader.mustSkipObject();");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustSkipObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx__ViewerType() { __this = this; }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx__ViewerType implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx__ViewerType() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx__ViewerType __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_R = new String[] {\"x\"};");
+    gold.append("\n  private class RTxR extends RxRecordBase<RTxR> {");
+    gold.append("\n    private final RTxR __this;");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private final RxString name;");
+    gold.append("\n    private final RxString note;");
+    gold.append("\n    private final RxInt32 x;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_x;");
+    gold.append("\n    private final ReactiveTextIndexInvalidator __SEARCH_name;");
+    gold.append("\n    private final ReactiveTextIndexInvalidator __SEARCH_note;");
+    gold.append("\n    private RTxR(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      this.__this = this;");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      name = new RxString(this, \"\");");
+    gold.append("\n      note = new RxString(this, \"\");");
+    gold.append("\n      x = new RxInt32(this, 0);");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        __INDEX_x = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)0), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return x.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        x.__subscribe(__INDEX_x);");
+    gold.append("\n        __SEARCH_name = new ReactiveTextIndexInvalidator(((RxTable<RTxR>)(__owner)).getSearchIndex((short)0), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public String pullText() {");
+    gold.append("\n                return name.get();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        name.__subscribe(__SEARCH_name);");
+    gold.append("\n        __SEARCH_note = new ReactiveTextIndexInvalidator(((RxTable<RTxR>)(__owner)).getSearchIndex((short)1), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public String pullText() {");
+    gold.append("\n                return note.get();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        note.__subscribe(__SEARCH_note);");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        __INDEX_x = null;");
+    gold.append("\n        __SEARCH_name = null;");
+    gold.append("\n        __SEARCH_note = null;");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = super.__memory() + 0;");
+    gold.append("\n      __sum += id.__memory();");
+    gold.append("\n      __sum += name.__memory();");
+    gold.append("\n      __sum += note.__memory();");
+    gold.append("\n      __sum += x.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS_R;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {x.getIndexValue()};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Object __fieldOf(String __name) {");
+    gold.append("\n      switch (__name) {");
+    gold.append("\n        case \"id\":");
+    gold.append("\n          return id;");
+    gold.append("\n        case \"name\":");
+    gold.append("\n          return name;");
+    gold.append("\n        case \"note\":");
+    gold.append("\n          return note;");
+    gold.append("\n        case \"x\":");
+    gold.append("\n          return x;");
+    gold.append("\n        default:");
+    gold.append("\n          return null;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n      __lowerInvalid();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"name\":");
+    gold.append("\n              name.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"note\":");
+    gold.append("\n              note.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"x\":");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"name\":");
+    gold.append("\n              name.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"note\":");
+    gold.append("\n              note.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"x\":");
+    gold.append("\n              x.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      name.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"note\");");
+    gold.append("\n      note.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"x\");");
+    gold.append("\n      x.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __forward.writeObjectFieldIntro(__name);");
+    gold.append("\n        __forward.beginObject();");
+    gold.append("\n        __reverse.writeObjectFieldIntro(__name);");
+    gold.append("\n        __reverse.beginObject();");
+    gold.append("\n        id.__commit(\"id\", __forward, __reverse);");
+    gold.append("\n        name.__commit(\"name\", __forward, __reverse);");
+    gold.append("\n        note.__commit(\"note\", __forward, __reverse);");
+    gold.append("\n        x.__commit(\"x\", __forward, __reverse);");
+    gold.append("\n        __forward.endObject();");
+    gold.append("\n        __reverse.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        name.__revert();");
+    gold.append("\n        note.__revert();");
+    gold.append("\n        x.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __killFields() {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n    @Override");
+    gold.append("\n    public RTxR __link() {");
+    gold.append("\n      return this;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __invalidateIndex(TablePubSub __pubsub) {");
+    gold.append("\n      __pubsub.index(0,x.getIndexValue());");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __pumpIndexEvents(TablePubSub __pubsub) {");
+    gold.append("\n      x.setWatcher(__value -> __pubsub.index(0, __value));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"R\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      __INDEX_x.deindex();");
+    gold.append("\n      __SEARCH_name.deindex();");
+    gold.append("\n      __SEARCH_note.deindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      __INDEX_x.reindex();");
+    gold.append("\n      __SEARCH_name.reindex();");
+    gold.append("\n      __SEARCH_note.reindex();");
+    gold.append("\n      /* ok */");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
-    gold.append("\n      __writer.beginObject();");
-    gold.append("\n      __writer.endObject();");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public void __parsed() throws AbortMessageException {}");
-    gold.append("\n    private RTx__ViewerType() { __this = this; }");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaRTx__ViewerType implements DeltaNode {");
+    gold.append("\n  private class DeltaRTxR implements DeltaNode {");
+    gold.append("\n    private DInt32 __did;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DString __dnote;");
+    gold.append("\n    private DInt32 __dx;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaRTx__ViewerType() {");
+    gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __did = new DInt32();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dnote = new DString();");
+    gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __did.__memory();");
+    gold.append("\n      __sum += __dname.__memory();");
+    gold.append("\n      __sum += __dnote.__memory();");
+    gold.append("\n      __sum += __dx.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public void show(RTx__ViewerType __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = (DeltaPrivacyCache) __writer.getCacheObject();");
+    gold.append("\n      __code_cost += 4;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __did.show(__item.id.get(), __obj.planField(\"id\"));");
+    gold.append("\n      __dname.show(__item.name.get(), __obj.planField(\"name\"));");
+    gold.append("\n      __dnote.show(__item.note.get(), __obj.planField(\"note\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      return true;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __code_cost += 0;");
+    gold.append("\n      __did.clear();");
+    gold.append("\n      __dname.clear();");
+    gold.append("\n      __dnote.clear();");
+    gold.append("\n      __dx.clear();");
+    gold.append("\n      __code_cost += 4;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -3673,33 +7927,73 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private static class RTxM extends NtMessageBase {");
-    gold.append("\n    private final RTxM __this;");
+    gold.append("\n  class DynCmp_RTxR implements Comparator<RTxR> {");
+    gold.append("\n    private final CompareField[] parsed;");
+    gold.append("\n    DynCmp_RTxR(String instructions) {");
+    gold.append("\n      this.parsed = DynCompareParser.parse(instructions);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int compare(RTxR __a, RTxR __b) {");
+    gold.append("\n      for (CompareField field : parsed) {");
+    gold.append("\n        int delta = 0;");
+    gold.append("\n        switch (field.name) {");
+    gold.append("\n          case \"id\":");
+    gold.append("\n            delta = __a.id.compareTo(__b.id);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"name\":");
+    gold.append("\n            delta = __a.name.compareTo(__b.name);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"note\":");
+    gold.append("\n            delta = __a.note.compareTo(__b.note);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            delta = __a.x.compareTo(__b.x);");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        if (delta != 0) {");
+    gold.append("\n          return field.desc ? -delta : delta;");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n      return 0;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_0 extends NtMessageBase {");
+    gold.append("\n    private final RTx_AnonObjConvert_0 __this;");
+    gold.append("\n    private String name = \"\";");
+    gold.append("\n    private String note = \"\";");
     gold.append("\n    private int x = 0;");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __mem = 64;");
+    gold.append("\n      __mem += Sizing.memoryOf(name);");
+    gold.append("\n      __mem += Sizing.memoryOf(note);");
     gold.append("\n      __mem += 4;");
     gold.append("\n      return __mem;");
     gold.append("\n    }");
     gold.append("\n    public void __reset() {");
+    gold.append("\n      this.name = \"\";");
+    gold.append("\n      this.note = \"\";");
     gold.append("\n      this.x = 0;");
     gold.append("\n    }");
     gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"name\");");
+    gold.append("\n      __hash.hashString(this.name);");
+    gold.append("\n      __hash.hashString(\"note\");");
+    gold.append("\n      __hash.hashString(this.note);");
     gold.append("\n      __hash.hashString(\"x\");");
     gold.append("\n      __hash.hashInteger(this.x);");
-    gold.append("\n      __hash.hashString(\"M\");");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
     gold.append("\n    }");
-    gold.append("\n    private static String[] __INDEX_COLUMNS_M = new String[] {};");
+    gold.append("\n    private static String[] __INDEX_COLUMNS__AnonObjConvert_0 = new String[] {};");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
-    gold.append("\n      return __INDEX_COLUMNS_M;");
+    gold.append("\n      return __INDEX_COLUMNS__AnonObjConvert_0;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
     gold.append("\n      return new int[] {};");
     gold.append("\n    }");
-    gold.append("\n    private RTxM(JsonStreamReader __reader) {");
+    gold.append("\n    private RTx_AnonObjConvert_0(JsonStreamReader __reader) {");
     gold.append("\n      __this = this;");
     gold.append("\n      __ingest(__reader);");
     gold.append("\n    }");
@@ -3709,6 +8003,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      while (__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"name\":");
+    gold.append("\n            this.name = __reader.readString();");
+    gold.append("\n            break;");
+    gold.append("\n          case \"note\":");
+    gold.append("\n            this.note = __reader.readString();");
+    gold.append("\n            break;");
     gold.append("\n          case \"x\":");
     gold.append("\n            this.x = __reader.readInteger();");
     gold.append("\n            break;");
@@ -3720,34 +8020,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
     gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      __writer.writeString(name);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"note\");");
+    gold.append("\n      __writer.writeString(note);");
     gold.append("\n      __writer.writeObjectFieldIntro(\"x\");");
     gold.append("\n      __writer.writeInteger(x);");
     gold.append("\n      __writer.endObject();");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __parsed() throws AbortMessageException {}");
-    gold.append("\n    private RTxM() { __this = this; }");
-    gold.append("\n    private RTxM(int x) {");
+    gold.append("\n    private RTx_AnonObjConvert_0() { __this = this; }");
+    gold.append("\n    private RTx_AnonObjConvert_0(String name, String note, int x) {");
     gold.append("\n      this.__this = this;");
+    gold.append("\n      this.name = name;");
+    gold.append("\n      this.note = note;");
     gold.append("\n      this.x = x;");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaRTxM implements DeltaNode {");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_0 implements DeltaNode {");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DString __dnote;");
     gold.append("\n    private DInt32 __dx;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaRTxM() {");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_0() {");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dnote = new DString();");
     gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dname.__memory();");
+    gold.append("\n      __sum += __dnote.__memory();");
     gold.append("\n      __sum += __dx.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __code_cost += 3;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dname.show(__item.name, __obj.planField(\"name\"));");
+    gold.append("\n      __dnote.show(__item.note, __obj.planField(\"note\"));");
     gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
@@ -3755,8 +8069,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
+    gold.append("\n      __dname.clear();");
+    gold.append("\n      __dnote.clear();");
     gold.append("\n      __dx.clear();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __code_cost += 3;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -3780,6 +8096,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -3809,7 +8129,16 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public String __traffic(CoreRequestContext __context) { return \"\"; }");
     gold.append("\n  @Override");
-    gold.append("\n  public void __debug(JsonStreamWriter __writer) {}");
+    gold.append("\n  public void __debug(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tables\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.debug(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"cron\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  protected long __computeGraphs() { return 0; }");
     gold.append("\n  @Override");
@@ -3878,52 +8207,108 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
     gold.append("\n    return __map;");
     gold.append("\n  }");
+    gold.append("\n  public void __test_search(TestReportBuilder __report) throws AbortMessageException {");
+    gold.append("\n    __report.begin(\"search\");");
+    gold.append("\n    try {");
+    gold.append("\n      __code_cost += 19;");
+    gold.append("\n      __track(0);");
+    gold.append("\n      __assert_truth(((int) byName.get()) == ((int) 2), 29, 2, 29, 21);");
+    gold.append("\n      __track(1);");
+    gold.append("\n      __assert_truth(((int) byAlias.get()) == ((int) 1), 30, 2, 30, 22);");
+    gold.append("\n      __track(2);");
+    gold.append("\n      __assert_truth(((int) everything.get()) == ((int) 4), 31, 2, 31, 25);");
+    gold.append("\n      __track(3);");
+    gold.append("\n      __assert_truth(((int) both.get()) == ((int) 1), 32, 2, 32, 19);");
+    gold.append("\n      __track(4);");
+    gold.append("\n      __assert_truth(((int) either.get()) == ((int) 1), 33, 2, 33, 21);");
+    gold.append("\n      __track(5);");
+    gold.append("\n      query.set(\"runner\");");
+    gold.append("\n      __track(6);");
+    gold.append("\n      __assert_truth(((int) byName.get()) == ((int) 1), 35, 2, 35, 21);");
+    gold.append("\n      __track(7);");
+    gold.append("\n      query.set(\"black runner\");");
+    gold.append("\n      __track(8);");
+    gold.append("\n      __assert_truth(((int) byName.get()) == ((int) 2), 37, 2, 37, 21);");
+    gold.append("\n      __track(9);");
+    gold.append("\n      query.set(\"zebra\");");
+    gold.append("\n      __track(10);");
+    gold.append("\n      __assert_truth(((int) byName.get()) == ((int) 0), 39, 2, 39, 21);");
+    gold.append("\n      __track(11);");
+    gold.append("\n      query.set(\"q\");");
+    gold.append("\n      __track(12);");
+    gold.append("\n      __assert_truth(((int) byName.get()) == ((int) 1), 41, 2, 41, 21);");
+    gold.append("\n      __track(13);");
+    gold.append("\n      NtList<RxString> _auto_4 = (tbl.iterate(false).where(true, new __CLOSURE_WhereClause5())).transform((RTxR __item) -> (RxString) (__item.name));");
+    gold.append("\n      for (RxString _auto_5 : _auto_4) {");
+    gold.append("\n        _auto_5.set(\"Zebra crossing\");");
+    gold.append("\n      }");
+    gold.append("\n");
+    gold.append("\n      __track(14);");
+    gold.append("\n      query.set(\"zeb\");");
+    gold.append("\n      __track(15);");
+    gold.append("\n      __assert_truth(((int) byName.get()) == ((int) 1), 44, 2, 44, 21);");
+    gold.append("\n      __track(16);");
+    gold.append("\n      query.set(\"dog\");");
+    gold.append("\n      __track(17);");
+    gold.append("\n      __assert_truth(((int) byName.get()) == ((int) 1), 46, 2, 46, 21);");
+    gold.append("\n    } finally {");
+    gold.append("\n      __report.end(getAndResetAssertions());");
+    gold.append("\n    }");
+    gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public String[] __getTests() {");
-    gold.append("\n    return new String[] {};");
+    gold.append("\n    return new String[] {\"search\"};");
     gold.append("\n  }");
     gold.append("\n  @Override");
-    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {}");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {");
+    gold.append("\n    switch(testName) {");
+    gold.append("\n      case \"search\":");
+    gold.append("\n          __test_search(report);");
+    gold.append("\n          return;");
+    gold.append("\n    }");
+    gold.append("\n  }");
     gold.append("\n  private void __construct_0(CoreRequestContext __context, NtPrincipal __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 11;");
-    gold.append("\n    __track(0);");
-    gold.append("\n    NtTable<RTxM> msg = new NtTable<RTxM>(() -> new RTxM());");
-    gold.append("\n    __track(1);");
+    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __track(18);");
     gold.append("\n    {");
-    gold.append("\n      NtTable<RTxM> _AutoRef3 = msg;");
-    gold.append("\n      RTxM _AutoExpr5 = new RTxM(1);");
-    gold.append("\n      RTxM _CreateRef4 = _AutoRef3.make();");
-    gold.append("\n      __code_cost += 2;");
-    gold.append("\n      _CreateRef4.x = _AutoExpr5.x;");
+    gold.append("\n      RxTable<RTxR> _AutoRef6 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr8 = new RTx_AnonObjConvert_0(\"The Quick Black Fox\", \"red\", 1);");
+    gold.append("\n      RTxR _CreateRef7 = _AutoRef6.make();");
+    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      _CreateRef7.name.set(_AutoExpr8.name);");
+    gold.append("\n      _CreateRef7.note.set(_AutoExpr8.note);");
+    gold.append("\n      _CreateRef7.x.set(_AutoExpr8.x);");
     gold.append("\n    }");
-    gold.append("\n    __track(2);");
+    gold.append("\n    __track(19);");
     gold.append("\n    {");
-    gold.append("\n      NtTable<RTxM> _AutoRef6 = msg;");
-    gold.append("\n      RTxM _AutoExpr8 = new RTxM(2);");
-    gold.append("\n      RTxM _CreateRef7 = _AutoRef6.make();");
-    gold.append("\n      __code_cost += 2;");
-    gold.append("\n      _CreateRef7.x = _AutoExpr8.x;");
+    gold.append("\n      RxTable<RTxR> _AutoRef9 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr11 = new RTx_AnonObjConvert_0(\"a dog is not a pony\", \"green\", 2);");
+    gold.append("\n      RTxR _CreateRef10 = _AutoRef9.make();");
+    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      _CreateRef10.name.set(_AutoExpr11.name);");
+    gold.append("\n      _CreateRef10.note.set(_AutoExpr11.note);");
+    gold.append("\n      _CreateRef10.x.set(_AutoExpr11.x);");
     gold.append("\n    }");
-    gold.append("\n    __track(3);");
+    gold.append("\n    __track(20);");
     gold.append("\n    {");
-    gold.append("\n      NtTable<RTxM> _AutoRef9 = msg;");
-    gold.append("\n      RTxM _AutoExpr11 = new RTxM(3);");
-    gold.append("\n      RTxM _CreateRef10 = _AutoRef9.make();");
-    gold.append("\n      __code_cost += 2;");
-    gold.append("\n      _CreateRef10.x = _AutoExpr11.x;");
+    gold.append("\n      RxTable<RTxR> _AutoRef12 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr14 = new RTx_AnonObjConvert_0(\"Blade Runner\", \"blue\", 2);");
+    gold.append("\n      RTxR _CreateRef13 = _AutoRef12.make();");
+    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      _CreateRef13.name.set(_AutoExpr14.name);");
+    gold.append("\n      _CreateRef13.note.set(_AutoExpr14.note);");
+    gold.append("\n      _CreateRef13.x.set(_AutoExpr14.x);");
+    gold.append("\n    }");
+    gold.append("\n    __track(21);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef15 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr17 = new RTx_AnonObjConvert_0(\"hot dog\", \"yellow\", 3);");
+    gold.append("\n      RTxR _CreateRef16 = _AutoRef15.make();");
+    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      _CreateRef16.name.set(_AutoExpr17.name);");
+    gold.append("\n      _CreateRef16.note.set(_AutoExpr17.note);");
+    gold.append("\n      _CreateRef16.x.set(_AutoExpr17.x);");
     gold.append("\n    }");
-    gold.append("\n    __track(4);");
-    gold.append("\n    NtList<RTxM> mat = msg.iterate(false);");
-    gold.append("\n    __track(5);");
-    gold.append("\n    countEq.set((mat.get().where(true, new __CLOSURE_WhereClause0())).size());");
-    gold.append("\n    __track(6);");
-    gold.append("\n    countLEq.set((mat.get().where(true, new __CLOSURE_WhereClause1())).size());");
-    gold.append("\n    __track(7);");
-    gold.append("\n    countL.set((mat.get().where(true, new __CLOSURE_WhereClause2())).size());");
-    gold.append("\n    __track(8);");
-    gold.append("\n    countGEq.set((mat.get().where(true, new __CLOSURE_WhereClause3())).size());");
-    gold.append("\n    __track(9);");
-    gold.append("\n    countG.set((mat.get().where(true, new __CLOSURE_WhereClause4())).size());");
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
@@ -3934,25 +8319,33 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  protected void __construct_intern(CoreRequestContext __context, NtMessageBase __object) {");
     gold.append("\n    __construct_0(__context, __context.who, __object);");
     gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxM> {");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxR> {");
+    gold.append("\n    private RxString query;");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.search(0, query.get());");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public Integer getPrimaryKey() {");
     gold.append("\n      return null;");
     gold.append("\n    }");
+    gold.append("\n    private __CLOSURE_WhereClause0(RxString query) {");
+    gold.append("\n      this.query = query;");
+    gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxM __obj) {");
-    gold.append("\n      int x = __obj.x;");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
     gold.append("\n      __code_cost ++;");
-    gold.append("\n      return ((int) x) == ((int) 2);");
+    gold.append("\n      return LibSearch.test(query.get(), name);");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxM> {");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxR> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.search(0, \"quick fox\");");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -3960,15 +8353,16 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return null;");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxM __obj) {");
-    gold.append("\n      int x = __obj.x;");
+    gold.append("\n    public boolean test(RTxR t) {");
     gold.append("\n      __code_cost ++;");
-    gold.append("\n      return x <= 2;");
+    gold.append("\n      return LibSearch.test(\"quick fox\", t.name.get());");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxM> {");
+    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxR> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.search(0, \"\");");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -3976,15 +8370,18 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return null;");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxM __obj) {");
-    gold.append("\n      int x = __obj.x;");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
     gold.append("\n      __code_cost ++;");
-    gold.append("\n      return x < 2;");
+    gold.append("\n      return LibSearch.test(\"\", name);");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxM> {");
+    gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxR> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 20;");
+    gold.append("\n      __set.intersect(0, 2, IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.search(0, \"dog\");");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -3992,15 +8389,20 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return null;");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxM __obj) {");
-    gold.append("\n      int x = __obj.x;");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      int x = __obj.x.get();");
     gold.append("\n      __code_cost ++;");
-    gold.append("\n      return x >= 2;");
+    gold.append("\n      return LibSearch.test(\"dog\", name) && ((int) x) == ((int) 2);");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxM> {");
+    gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxR> {");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 30;");
+    gold.append("\n      __set.search(0, \"pony\");");
+    gold.append("\n      __set.push();");
+    gold.append("\n      __set.search(1, \"green\");");
     gold.append("\n      __set.finish();");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -4008,10 +8410,29 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return null;");
     gold.append("\n    }");
     gold.append("\n    @Override");
-    gold.append("\n    public boolean test(RTxM __obj) {");
-    gold.append("\n      int x = __obj.x;");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      String note = __obj.note.get();");
     gold.append("\n      __code_cost ++;");
-    gold.append("\n      return x > 2;");
+    gold.append("\n      return LibSearch.test(\"pony\", name) || LibSearch.test(\"green\", note);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause5 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __set.intersect(0, 3, IndexQuerySet.LookupMode.Equals);");
+    gold.append("\n      __set.finish();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int x = __obj.x.get();");
+    gold.append("\n      __code_cost ++;");
+    gold.append("\n      return ((int) x) == ((int) 3);");
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  /* end of file */");
@@ -4020,80 +8441,82 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
     gold.append("\n--=[LivingDocumentFactory MADE]=---");
     gold.append("\n--REFLECTION RESULTS-------------------------------------");
-    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"countEq\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countLEq\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countL\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countGEq\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"},\"countG\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"private\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"M\":{\"nature\":\"native_message\",\"name\":\"M\",\"anonymous\":false,\"fields\":{\"x\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"tbl\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"R\"},\"computed\":false,\"privacy\":\"private\"},\"query\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"string\"},\"computed\":false,\"privacy\":\"public\"},\"byName\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"byAlias\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"everything\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"both\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"either\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"R\":{\"nature\":\"reactive_record\",\"name\":\"R\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"name\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"string\"},\"computed\":false,\"privacy\":\"public\"},\"note\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"string\"},\"computed\":false,\"privacy\":\"public\"},\"x\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}},\"_AnonObjConvert_0\":{\"nature\":\"native_message\",\"name\":\"_AnonObjConvert_0\",\"anonymous\":true,\"fields\":{\"name\":{\"type\":{\"nature\":\"native_value\",\"type\":\"string\"},\"computed\":false,\"privacy\":\"public\"},\"note\":{\"type\":{\"nature\":\"native_value\",\"type\":\"string\"},\"computed\":false,\"privacy\":\"public\"},\"x\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
     gold.append("\n--JAVA RUNNING-------------------------------------");
-    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__seq\":1} need:false in:0");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__auto_table_row_id\":4,\"tbl\":{\"1\":{\"id\":1,\"name\":\"The Quick Black Fox\",\"note\":\"red\",\"x\":1},\"2\":{\"id\":2,\"name\":\"a dog is not a pony\",\"note\":\"green\",\"x\":2},\"3\":{\"id\":3,\"name\":\"Blade Runner\",\"note\":\"blue\",\"x\":2},\"4\":{\"id\":4,\"name\":\"hot dog\",\"note\":\"yellow\",\"x\":3}},\"__seq\":1} need:false in:0");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
-    gold.append("\nCPU:32");
-    gold.append("\nMEMORY:2800");
+    gold.append("\nCPU:21");
+    gold.append("\nMEMORY:21088");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
     gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
-    gold.append("\n+ NO_ONE DELTA:{\"seq\":3}");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"query\":\"bla\",\"byName\":2,\"byAlias\":1,\"everything\":4,\"both\":1,\"either\":1},\"seq\":3}");
     gold.append("\nNO_ONE|FAILURE:184333");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__seq\":4,\"__entropy\":\"7848011421992302230\",\"__time\":\"75\"} need:false in:0");
     gold.append("\nRANDO: CREATED PRIVATE VIEW");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":4}");
-    gold.append("\n+ RANDO DELTA:{\"seq\":4}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"query\":\"bla\",\"byName\":2,\"byAlias\":1,\"everything\":4,\"both\":1,\"either\":1},\"seq\":4}");
     gold.append("\nRANDO|FAILURE:184333");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__time\":\"100\"} need:false in:0");
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2918");
+    gold.append("\nMEMORY:21698");
     gold.append("\n--JAVA RESULTS-------------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{\"1\":{\"id\":1,\"name\":\"The Quick Black Fox\",\"note\":\"red\",\"x\":1},\"2\":{\"id\":2,\"name\":\"a dog is not a pony\",\"note\":\"green\",\"x\":2},\"3\":{\"id\":3,\"name\":\"Blade Runner\",\"note\":\"blue\",\"x\":2},\"4\":{\"id\":4,\"name\":\"hot dog\",\"note\":\"yellow\",\"x\":3}},\"query\":\"bla\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":4,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
     gold.append("\n{}");
     gold.append("\n--METRIC RESULTS-----------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"countEq\":1,\"countLEq\":2,\"countL\":1,\"countGEq\":2,\"countG\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{\"1\":{\"id\":1,\"name\":\"The Quick Black Fox\",\"note\":\"red\",\"x\":1},\"2\":{\"id\":2,\"name\":\"a dog is not a pony\",\"note\":\"green\",\"x\":2},\"3\":{\"id\":3,\"name\":\"Blade Runner\",\"note\":\"blue\",\"x\":2},\"4\":{\"id\":4,\"name\":\"hot dog\",\"note\":\"yellow\",\"x\":3}},\"query\":\"bla\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":4,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"tbl\":{\"1\":{\"id\":1,\"name\":\"The Quick Black Fox\",\"note\":\"red\",\"x\":1},\"2\":{\"id\":2,\"name\":\"a dog is not a pony\",\"note\":\"green\",\"x\":2},\"3\":{\"id\":3,\"name\":\"Blade Runner\",\"note\":\"blue\",\"x\":2},\"4\":{\"id\":4,\"name\":\"hot dog\",\"note\":\"yellow\",\"x\":3}},\"query\":\"bla\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":4,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\nTEST[search] = 100.0%");
+    gold.append("\n...DUMP:{\"tbl\":{\"4\":{\"name\":\"Zebra crossing\"}},\"query\":\"dog\"}");
     gold.append("\n");
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_IndexingStr_8 = null;
-  private String get_IndexingStr_8() {
-    if (cached_IndexingStr_8 != null) {
-      return cached_IndexingStr_8;
+  private String cached_IndexingStr_13 = null;
+  private String get_IndexingStr_13() {
+    if (cached_IndexingStr_13 != null) {
+      return cached_IndexingStr_13;
     }
-    cached_IndexingStr_8 = generateTestOutput(true, "IndexingStr_8", "./test_code/Linq_IndexingStr_success.a");
-    return cached_IndexingStr_8;
+    cached_IndexingStr_13 = generateTestOutput(true, "IndexingStr_13", "./test_code/Linq_IndexingStr_success.a");
+    return cached_IndexingStr_13;
   }
 
   @Test
   public void testIndexingStrEmission() {
-    assertEmissionGood(get_IndexingStr_8());
+    assertEmissionGood(get_IndexingStr_13());
   }
 
   @Test
   public void testIndexingStrSuccess() {
-    assertLivePass(get_IndexingStr_8());
+    assertLivePass(get_IndexingStr_13());
   }
 
   @Test
   public void testIndexingStrNoFormatException() {
-    assertNoFormatException(get_IndexingStr_8());
+    assertNoFormatException(get_IndexingStr_13());
   }
 
   @Test
   public void testIndexingStrGoodWillHappy() {
-    assertGoodWillHappy(get_IndexingStr_8());
+    assertGoodWillHappy(get_IndexingStr_13());
   }
 
   @Test
   public void testIndexingStrExceptionFree() {
-    assertExceptionFree(get_IndexingStr_8());
+    assertExceptionFree(get_IndexingStr_13());
   }
 
   @Test
   public void testIndexingStrTODOFree() {
-    assertTODOFree(get_IndexingStr_8());
+    assertTODOFree(get_IndexingStr_13());
   }
 
   @Test
-  public void stable_IndexingStr_8() {
-    String live = get_IndexingStr_8();
+  public void stable_IndexingStr_13() {
+    String live = get_IndexingStr_13();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_IndexingStr_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -4146,7 +8569,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class IndexingStr_8 extends LivingDocument {");
+    gold.append("\npublic class IndexingStr_13 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxS> tbl;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
@@ -4154,7 +8577,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += tbl.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public IndexingStr_8(DocumentMonitor __monitor) {");
+    gold.append("\n  public IndexingStr_13(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxS(__parent).__link(), 1);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -4440,9 +8863,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaIndexingStr_8 implements DeltaNode {");
+    gold.append("\n  private class DeltaIndexingStr_13 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaIndexingStr_8() {");
+    gold.append("\n    private DeltaIndexingStr_13() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -4450,7 +8873,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(IndexingStr_8 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(IndexingStr_13 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -4481,8 +8904,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    IndexingStr_8 __self = this;");
-    gold.append("\n    DeltaIndexingStr_8 __state = new DeltaIndexingStr_8();");
+    gold.append("\n    IndexingStr_13 __self = this;");
+    gold.append("\n    DeltaIndexingStr_13 __state = new DeltaIndexingStr_13();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -4799,6 +9222,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -4986,48 +9413,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_Indexing_9 = null;
-  private String get_Indexing_9() {
-    if (cached_Indexing_9 != null) {
-      return cached_Indexing_9;
+  private String cached_Indexing_14 = null;
+  private String get_Indexing_14() {
+    if (cached_Indexing_14 != null) {
+      return cached_Indexing_14;
     }
-    cached_Indexing_9 = generateTestOutput(true, "Indexing_9", "./test_code/Linq_Indexing_success.a");
-    return cached_Indexing_9;
+    cached_Indexing_14 = generateTestOutput(true, "Indexing_14", "./test_code/Linq_Indexing_success.a");
+    return cached_Indexing_14;
   }
 
   @Test
   public void testIndexingEmission() {
-    assertEmissionGood(get_Indexing_9());
+    assertEmissionGood(get_Indexing_14());
   }
 
   @Test
   public void testIndexingSuccess() {
-    assertLivePass(get_Indexing_9());
+    assertLivePass(get_Indexing_14());
   }
 
   @Test
   public void testIndexingNoFormatException() {
-    assertNoFormatException(get_Indexing_9());
+    assertNoFormatException(get_Indexing_14());
   }
 
   @Test
   public void testIndexingGoodWillHappy() {
-    assertGoodWillHappy(get_Indexing_9());
+    assertGoodWillHappy(get_Indexing_14());
   }
 
   @Test
   public void testIndexingExceptionFree() {
-    assertExceptionFree(get_Indexing_9());
+    assertExceptionFree(get_Indexing_14());
   }
 
   @Test
   public void testIndexingTODOFree() {
-    assertTODOFree(get_Indexing_9());
+    assertTODOFree(get_Indexing_14());
   }
 
   @Test
-  public void stable_Indexing_9() {
-    String live = get_Indexing_9();
+  public void stable_Indexing_14() {
+    String live = get_Indexing_14();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_Indexing_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -5111,7 +9538,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class Indexing_9 extends LivingDocument {");
+    gold.append("\npublic class Indexing_14 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxIssues> itbl;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
@@ -5119,7 +9546,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += itbl.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public Indexing_9(DocumentMonitor __monitor) {");
+    gold.append("\n  public Indexing_14(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    itbl = new RxTable<>(__self, this, \"itbl\", (RxParent __parent) -> new RTxIssues(__parent).__link(), 2);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -5405,9 +9832,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaIndexing_9 implements DeltaNode {");
+    gold.append("\n  private class DeltaIndexing_14 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaIndexing_9() {");
+    gold.append("\n    private DeltaIndexing_14() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -5415,7 +9842,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(Indexing_9 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(Indexing_14 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -5446,8 +9873,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    Indexing_9 __self = this;");
-    gold.append("\n    DeltaIndexing_9 __state = new DeltaIndexing_9();");
+    gold.append("\n    Indexing_14 __self = this;");
+    gold.append("\n    DeltaIndexing_14 __state = new DeltaIndexing_14();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -5838,7 +10265,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return 0;");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private static String[] __INDEX_COLUMNS_Two = new String[] {\"x\", \"y\"};");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_Two = new String[] {\"y\", \"x\"};");
     gold.append("\n  private class RTxTwo extends RxRecordBase<RTxTwo> {");
     gold.append("\n    private final RTxTwo __this;");
     gold.append("\n    private final RxInt32 id;");
@@ -5891,7 +10318,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {x.getIndexValue(), y.getIndexValue()};");
+    gold.append("\n      return new int[] {y.getIndexValue(), x.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public Object __fieldOf(String __name) {");
@@ -6122,7 +10549,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return 0;");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private static String[] __INDEX_COLUMNS_Issues = new String[] {\"u\", \"z\"};");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_Issues = new String[] {\"z\", \"u\"};");
     gold.append("\n  private class RTxIssues extends RxRecordBase<RTxIssues> {");
     gold.append("\n    private final RTxIssues __this;");
     gold.append("\n    private final RxInt32 id;");
@@ -6178,7 +10605,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {u.getIndexValue(), z.getIndexValue()};");
+    gold.append("\n      return new int[] {z.getIndexValue(), u.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public Object __fieldOf(String __name) {");
@@ -6429,7 +10856,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      return 0;");
     gold.append("\n    }");
     gold.append("\n  }");
-    gold.append("\n  private static String[] __INDEX_COLUMNS_Three = new String[] {\"x\", \"y\", \"z\"};");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_Three = new String[] {\"z\", \"y\", \"x\"};");
     gold.append("\n  private class RTxThree extends RxRecordBase<RTxThree> {");
     gold.append("\n    private final RTxThree __this;");
     gold.append("\n    private final RxInt32 id;");
@@ -6491,7 +10918,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {x.getIndexValue(), y.getIndexValue(), z.getIndexValue()};");
+    gold.append("\n      return new int[] {z.getIndexValue(), y.getIndexValue(), x.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public Object __fieldOf(String __name) {");
@@ -6740,6 +11167,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -6968,38 +11399,38 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_IterateNonTable_10 = null;
-  private String get_IterateNonTable_10() {
-    if (cached_IterateNonTable_10 != null) {
-      return cached_IterateNonTable_10;
+  private String cached_IterateNonTable_15 = null;
+  private String get_IterateNonTable_15() {
+    if (cached_IterateNonTable_15 != null) {
+      return cached_IterateNonTable_15;
     }
-    cached_IterateNonTable_10 = generateTestOutput(false, "IterateNonTable_10", "./test_code/Linq_IterateNonTable_failure.a");
-    return cached_IterateNonTable_10;
+    cached_IterateNonTable_15 = generateTestOutput(false, "IterateNonTable_15", "./test_code/Linq_IterateNonTable_failure.a");
+    return cached_IterateNonTable_15;
   }
 
   @Test
   public void testIterateNonTableFailure() {
-    assertLiveFail(get_IterateNonTable_10());
+    assertLiveFail(get_IterateNonTable_15());
   }
 
   @Test
   public void testIterateNonTableNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_IterateNonTable_10());
+    assertNotTerribleLineNumbers(get_IterateNonTable_15());
   }
 
   @Test
   public void testIterateNonTableExceptionFree() {
-    assertExceptionFree(get_IterateNonTable_10());
+    assertExceptionFree(get_IterateNonTable_15());
   }
 
   @Test
   public void testIterateNonTableTODOFree() {
-    assertTODOFree(get_IterateNonTable_10());
+    assertTODOFree(get_IterateNonTable_15());
   }
 
   @Test
-  public void stable_IterateNonTable_10() {
-    String live = get_IterateNonTable_10();
+  public void stable_IterateNonTable_15() {
+    String live = get_IterateNonTable_15();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_IterateNonTable_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -7008,48 +11439,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_LegacyShuffle_11 = null;
-  private String get_LegacyShuffle_11() {
-    if (cached_LegacyShuffle_11 != null) {
-      return cached_LegacyShuffle_11;
+  private String cached_LegacyShuffle_16 = null;
+  private String get_LegacyShuffle_16() {
+    if (cached_LegacyShuffle_16 != null) {
+      return cached_LegacyShuffle_16;
     }
-    cached_LegacyShuffle_11 = generateTestOutput(true, "LegacyShuffle_11", "./test_code/Linq_LegacyShuffle_success.a");
-    return cached_LegacyShuffle_11;
+    cached_LegacyShuffle_16 = generateTestOutput(true, "LegacyShuffle_16", "./test_code/Linq_LegacyShuffle_success.a");
+    return cached_LegacyShuffle_16;
   }
 
   @Test
   public void testLegacyShuffleEmission() {
-    assertEmissionGood(get_LegacyShuffle_11());
+    assertEmissionGood(get_LegacyShuffle_16());
   }
 
   @Test
   public void testLegacyShuffleSuccess() {
-    assertLivePass(get_LegacyShuffle_11());
+    assertLivePass(get_LegacyShuffle_16());
   }
 
   @Test
   public void testLegacyShuffleNoFormatException() {
-    assertNoFormatException(get_LegacyShuffle_11());
+    assertNoFormatException(get_LegacyShuffle_16());
   }
 
   @Test
   public void testLegacyShuffleGoodWillHappy() {
-    assertGoodWillHappy(get_LegacyShuffle_11());
+    assertGoodWillHappy(get_LegacyShuffle_16());
   }
 
   @Test
   public void testLegacyShuffleExceptionFree() {
-    assertExceptionFree(get_LegacyShuffle_11());
+    assertExceptionFree(get_LegacyShuffle_16());
   }
 
   @Test
   public void testLegacyShuffleTODOFree() {
-    assertTODOFree(get_LegacyShuffle_11());
+    assertTODOFree(get_LegacyShuffle_16());
   }
 
   @Test
-  public void stable_LegacyShuffle_11() {
-    String live = get_LegacyShuffle_11();
+  public void stable_LegacyShuffle_16() {
+    String live = get_LegacyShuffle_16();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_LegacyShuffle_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -7118,7 +11549,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class LegacyShuffle_11 extends LivingDocument {");
+    gold.append("\npublic class LegacyShuffle_16 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> tbl;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> list_1;");
     gold.append("\n  private final RxTableGuard __list_1_tbl;");
@@ -7132,7 +11563,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += list_2.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public LegacyShuffle_11(DocumentMonitor __monitor) {");
+    gold.append("\n  public LegacyShuffle_16(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxX(__parent).__link(), 0);");
     gold.append("\n    list_1 = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)(tbl.iterate(false).shuffle(true, __random)), null);");
@@ -7430,13 +11861,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaLegacyShuffle_11 implements DeltaNode {");
+    gold.append("\n  private class DeltaLegacyShuffle_16 implements DeltaNode {");
     gold.append("\n    private int __glist_1;");
     gold.append("\n    private DRecordList<DeltaRTxX> __dlist_1;");
     gold.append("\n    private int __glist_2;");
     gold.append("\n    private DRecordList<DeltaRTxX> __dlist_2;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaLegacyShuffle_11() {");
+    gold.append("\n    private DeltaLegacyShuffle_16() {");
     gold.append("\n      __glist_1 = -1;");
     gold.append("\n      __dlist_1 = new DRecordList<DeltaRTxX>();");
     gold.append("\n      __glist_2 = -1;");
@@ -7450,7 +11881,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __sum += __dlist_2.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(LegacyShuffle_11 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(LegacyShuffle_16 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      __code_cost += 2;");
@@ -7518,8 +11949,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    LegacyShuffle_11 __self = this;");
-    gold.append("\n    DeltaLegacyShuffle_11 __state = new DeltaLegacyShuffle_11();");
+    gold.append("\n    LegacyShuffle_16 __self = this;");
+    gold.append("\n    DeltaLegacyShuffle_16 __state = new DeltaLegacyShuffle_16();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -7948,6 +12379,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -8147,48 +12582,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_Legacy_12 = null;
-  private String get_Legacy_12() {
-    if (cached_Legacy_12 != null) {
-      return cached_Legacy_12;
+  private String cached_Legacy_17 = null;
+  private String get_Legacy_17() {
+    if (cached_Legacy_17 != null) {
+      return cached_Legacy_17;
     }
-    cached_Legacy_12 = generateTestOutput(true, "Legacy_12", "./test_code/Linq_Legacy_success.a");
-    return cached_Legacy_12;
+    cached_Legacy_17 = generateTestOutput(true, "Legacy_17", "./test_code/Linq_Legacy_success.a");
+    return cached_Legacy_17;
   }
 
   @Test
   public void testLegacyEmission() {
-    assertEmissionGood(get_Legacy_12());
+    assertEmissionGood(get_Legacy_17());
   }
 
   @Test
   public void testLegacySuccess() {
-    assertLivePass(get_Legacy_12());
+    assertLivePass(get_Legacy_17());
   }
 
   @Test
   public void testLegacyNoFormatException() {
-    assertNoFormatException(get_Legacy_12());
+    assertNoFormatException(get_Legacy_17());
   }
 
   @Test
   public void testLegacyGoodWillHappy() {
-    assertGoodWillHappy(get_Legacy_12());
+    assertGoodWillHappy(get_Legacy_17());
   }
 
   @Test
   public void testLegacyExceptionFree() {
-    assertExceptionFree(get_Legacy_12());
+    assertExceptionFree(get_Legacy_17());
   }
 
   @Test
   public void testLegacyTODOFree() {
-    assertTODOFree(get_Legacy_12());
+    assertTODOFree(get_Legacy_17());
   }
 
   @Test
-  public void stable_Legacy_12() {
-    String live = get_Legacy_12();
+  public void stable_Legacy_17() {
+    String live = get_Legacy_17();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_Legacy_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -8307,7 +12742,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class Legacy_12 extends LivingDocument {");
+    gold.append("\npublic class Legacy_17 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxZ> z0;");
     gold.append("\n  private final RTxZ z1;");
     gold.append("\n  private final RxTable<RTxX> tbl;");
@@ -8355,7 +12790,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += list_w3.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public Legacy_12(DocumentMonitor __monitor) {");
+    gold.append("\n  public Legacy_17(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    z0 = new RxTable<>(__self, this, \"z0\", (RxParent __parent) -> new RTxZ(__parent).__link(), 0);");
     gold.append("\n    z1 = new RTxZ(this);");
@@ -8371,7 +12806,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __list_w5_tbl2 = new RxTableGuard(list_w5);");
     gold.append("\n    list_w6 = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)(tbl2.iterate(false).orderBy(true, __ORDER_X_x_a_y_a)), null);");
     gold.append("\n    __list_w6_tbl2 = new RxTableGuard(list_w6);");
-    gold.append("\n    list_w7 = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)(tbl2.iterate(false).orderBy(false, __ORDER_X_x_a_y_a).limit(true, 1)), null);");
+    gold.append("\n    list_w7 = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)(tbl2.iterate(false).orderByLimit(true, __ORDER_X_x_a_y_a, 1)), null);");
     gold.append("\n    __list_w7_tbl2 = new RxTableGuard(list_w7);");
     gold.append("\n    list_w8 = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)(tbl2.iterate(false).orderBy(false, __ORDER_X_x_a_y_a).skip(false, 1).limit(true, 1)), null);");
     gold.append("\n    __list_w8_tbl2 = new RxTableGuard(list_w8);");
@@ -8782,9 +13217,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaLegacy_12 implements DeltaNode {");
+    gold.append("\n  private class DeltaLegacy_17 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaLegacy_12() {");
+    gold.append("\n    private DeltaLegacy_17() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -8792,7 +13227,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(Legacy_12 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(Legacy_17 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -8823,8 +13258,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    Legacy_12 __self = this;");
-    gold.append("\n    DeltaLegacy_12 __state = new DeltaLegacy_12();");
+    gold.append("\n    Legacy_17 __self = this;");
+    gold.append("\n    DeltaLegacy_17 __state = new DeltaLegacy_17();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -9457,6 +13892,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -9875,38 +14314,38 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_MapCantAbort_13 = null;
-  private String get_MapCantAbort_13() {
-    if (cached_MapCantAbort_13 != null) {
-      return cached_MapCantAbort_13;
+  private String cached_MapCantAbort_18 = null;
+  private String get_MapCantAbort_18() {
+    if (cached_MapCantAbort_18 != null) {
+      return cached_MapCantAbort_18;
     }
-    cached_MapCantAbort_13 = generateTestOutput(false, "MapCantAbort_13", "./test_code/Linq_MapCantAbort_failure.a");
-    return cached_MapCantAbort_13;
+    cached_MapCantAbort_18 = generateTestOutput(false, "MapCantAbort_18", "./test_code/Linq_MapCantAbort_failure.a");
+    return cached_MapCantAbort_18;
   }
 
   @Test
   public void testMapCantAbortFailure() {
-    assertLiveFail(get_MapCantAbort_13());
+    assertLiveFail(get_MapCantAbort_18());
   }
 
   @Test
   public void testMapCantAbortNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_MapCantAbort_13());
+    assertNotTerribleLineNumbers(get_MapCantAbort_18());
   }
 
   @Test
   public void testMapCantAbortExceptionFree() {
-    assertExceptionFree(get_MapCantAbort_13());
+    assertExceptionFree(get_MapCantAbort_18());
   }
 
   @Test
   public void testMapCantAbortTODOFree() {
-    assertTODOFree(get_MapCantAbort_13());
+    assertTODOFree(get_MapCantAbort_18());
   }
 
   @Test
-  public void stable_MapCantAbort_13() {
-    String live = get_MapCantAbort_13();
+  public void stable_MapCantAbort_18() {
+    String live = get_MapCantAbort_18();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_MapCantAbort_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -9915,48 +14354,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_Map_14 = null;
-  private String get_Map_14() {
-    if (cached_Map_14 != null) {
-      return cached_Map_14;
+  private String cached_Map_19 = null;
+  private String get_Map_19() {
+    if (cached_Map_19 != null) {
+      return cached_Map_19;
     }
-    cached_Map_14 = generateTestOutput(true, "Map_14", "./test_code/Linq_Map_success.a");
-    return cached_Map_14;
+    cached_Map_19 = generateTestOutput(true, "Map_19", "./test_code/Linq_Map_success.a");
+    return cached_Map_19;
   }
 
   @Test
   public void testMapEmission() {
-    assertEmissionGood(get_Map_14());
+    assertEmissionGood(get_Map_19());
   }
 
   @Test
   public void testMapSuccess() {
-    assertLivePass(get_Map_14());
+    assertLivePass(get_Map_19());
   }
 
   @Test
   public void testMapNoFormatException() {
-    assertNoFormatException(get_Map_14());
+    assertNoFormatException(get_Map_19());
   }
 
   @Test
   public void testMapGoodWillHappy() {
-    assertGoodWillHappy(get_Map_14());
+    assertGoodWillHappy(get_Map_19());
   }
 
   @Test
   public void testMapExceptionFree() {
-    assertExceptionFree(get_Map_14());
+    assertExceptionFree(get_Map_19());
   }
 
   @Test
   public void testMapTODOFree() {
-    assertTODOFree(get_Map_14());
+    assertTODOFree(get_Map_19());
   }
 
   @Test
-  public void stable_Map_14() {
-    String live = get_Map_14();
+  public void stable_Map_19() {
+    String live = get_Map_19();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_Map_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -10037,7 +14476,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class Map_14 extends LivingDocument {");
+    gold.append("\npublic class Map_19 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxR> tbl;");
     gold.append("\n  private final RxLazy<NtList<RTxR>> all;");
     gold.append("\n  private final RxTableGuard __all_tbl;");
@@ -10067,7 +14506,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += dumb_join_annoy2.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public Map_14(DocumentMonitor __monitor) {");
+    gold.append("\n  public Map_19(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxR(__parent).__link(), 0);");
     gold.append("\n    all = new RxLazy<NtList<RTxR>>(this, () -> (NtList<RTxR>)(tbl.iterate(true)), null);");
@@ -10410,7 +14849,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaMap_14 implements DeltaNode {");
+    gold.append("\n  private class DeltaMap_19 implements DeltaNode {");
     gold.append("\n    private int __gall;");
     gold.append("\n    private DRecordList<DeltaRTxR> __dall;");
     gold.append("\n    private int __gall_sqr_explicit;");
@@ -10424,7 +14863,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private int __gdumb_join_annoy2;");
     gold.append("\n    private DList<DRecordList<DeltaRTxAssoc>> __ddumb_join_annoy2;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaMap_14() {");
+    gold.append("\n    private DeltaMap_19() {");
     gold.append("\n      __gall = -1;");
     gold.append("\n      __dall = new DRecordList<DeltaRTxR>();");
     gold.append("\n      __gall_sqr_explicit = -1;");
@@ -10450,7 +14889,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __sum += __ddumb_join_annoy2.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(Map_14 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(Map_19 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      __code_cost += 6;");
@@ -10619,8 +15058,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    Map_14 __self = this;");
-    gold.append("\n    DeltaMap_14 __state = new DeltaMap_14();");
+    gold.append("\n    Map_19 __self = this;");
+    gold.append("\n    DeltaMap_19 __state = new DeltaMap_19();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -11412,6 +15851,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -11692,48 +16135,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_MessageSort_15 = null;
-  private String get_MessageSort_15() {
-    if (cached_MessageSort_15 != null) {
-      return cached_MessageSort_15;
+  private String cached_MessageSort_20 = null;
+  private String get_MessageSort_20() {
+    if (cached_MessageSort_20 != null) {
+      return cached_MessageSort_20;
     }
-    cached_MessageSort_15 = generateTestOutput(true, "MessageSort_15", "./test_code/Linq_MessageSort_success.a");
-    return cached_MessageSort_15;
+    cached_MessageSort_20 = generateTestOutput(true, "MessageSort_20", "./test_code/Linq_MessageSort_success.a");
+    return cached_MessageSort_20;
   }
 
   @Test
   public void testMessageSortEmission() {
-    assertEmissionGood(get_MessageSort_15());
+    assertEmissionGood(get_MessageSort_20());
   }
 
   @Test
   public void testMessageSortSuccess() {
-    assertLivePass(get_MessageSort_15());
+    assertLivePass(get_MessageSort_20());
   }
 
   @Test
   public void testMessageSortNoFormatException() {
-    assertNoFormatException(get_MessageSort_15());
+    assertNoFormatException(get_MessageSort_20());
   }
 
   @Test
   public void testMessageSortGoodWillHappy() {
-    assertGoodWillHappy(get_MessageSort_15());
+    assertGoodWillHappy(get_MessageSort_20());
   }
 
   @Test
   public void testMessageSortExceptionFree() {
-    assertExceptionFree(get_MessageSort_15());
+    assertExceptionFree(get_MessageSort_20());
   }
 
   @Test
   public void testMessageSortTODOFree() {
-    assertTODOFree(get_MessageSort_15());
+    assertTODOFree(get_MessageSort_20());
   }
 
   @Test
-  public void stable_MessageSort_15() {
-    String live = get_MessageSort_15();
+  public void stable_MessageSort_20() {
+    String live = get_MessageSort_20();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_MessageSort_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -11793,13 +16236,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class MessageSort_15 extends LivingDocument {");
+    gold.append("\npublic class MessageSort_20 extends LivingDocument {");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
     gold.append("\n    long __sum = super.__memory() + 2176;");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public MessageSort_15(DocumentMonitor __monitor) {");
+    gold.append("\n  public MessageSort_20(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
@@ -12073,9 +16516,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaMessageSort_15 implements DeltaNode {");
+    gold.append("\n  private class DeltaMessageSort_20 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaMessageSort_15() {");
+    gold.append("\n    private DeltaMessageSort_20() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -12083,7 +16526,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(MessageSort_15 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(MessageSort_20 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -12114,8 +16557,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    MessageSort_15 __self = this;");
-    gold.append("\n    DeltaMessageSort_15 __state = new DeltaMessageSort_15();");
+    gold.append("\n    MessageSort_20 __self = this;");
+    gold.append("\n    DeltaMessageSort_20 __state = new DeltaMessageSort_20();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -12370,6 +16813,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -12553,7 +17000,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2678");
+    gold.append("\nMEMORY:2718");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -12566,38 +17013,38 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_NonOrderable_16 = null;
-  private String get_NonOrderable_16() {
-    if (cached_NonOrderable_16 != null) {
-      return cached_NonOrderable_16;
+  private String cached_NonOrderable_21 = null;
+  private String get_NonOrderable_21() {
+    if (cached_NonOrderable_21 != null) {
+      return cached_NonOrderable_21;
     }
-    cached_NonOrderable_16 = generateTestOutput(false, "NonOrderable_16", "./test_code/Linq_NonOrderable_failure.a");
-    return cached_NonOrderable_16;
+    cached_NonOrderable_21 = generateTestOutput(false, "NonOrderable_21", "./test_code/Linq_NonOrderable_failure.a");
+    return cached_NonOrderable_21;
   }
 
   @Test
   public void testNonOrderableFailure() {
-    assertLiveFail(get_NonOrderable_16());
+    assertLiveFail(get_NonOrderable_21());
   }
 
   @Test
   public void testNonOrderableNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_NonOrderable_16());
+    assertNotTerribleLineNumbers(get_NonOrderable_21());
   }
 
   @Test
   public void testNonOrderableExceptionFree() {
-    assertExceptionFree(get_NonOrderable_16());
+    assertExceptionFree(get_NonOrderable_21());
   }
 
   @Test
   public void testNonOrderableTODOFree() {
-    assertTODOFree(get_NonOrderable_16());
+    assertTODOFree(get_NonOrderable_21());
   }
 
   @Test
-  public void stable_NonOrderable_16() {
-    String live = get_NonOrderable_16();
+  public void stable_NonOrderable_21() {
+    String live = get_NonOrderable_21();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_NonOrderable_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -12606,38 +17053,38 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_NotApplicableToNonLists_17 = null;
-  private String get_NotApplicableToNonLists_17() {
-    if (cached_NotApplicableToNonLists_17 != null) {
-      return cached_NotApplicableToNonLists_17;
+  private String cached_NotApplicableToNonLists_22 = null;
+  private String get_NotApplicableToNonLists_22() {
+    if (cached_NotApplicableToNonLists_22 != null) {
+      return cached_NotApplicableToNonLists_22;
     }
-    cached_NotApplicableToNonLists_17 = generateTestOutput(false, "NotApplicableToNonLists_17", "./test_code/Linq_NotApplicableToNonLists_failure.a");
-    return cached_NotApplicableToNonLists_17;
+    cached_NotApplicableToNonLists_22 = generateTestOutput(false, "NotApplicableToNonLists_22", "./test_code/Linq_NotApplicableToNonLists_failure.a");
+    return cached_NotApplicableToNonLists_22;
   }
 
   @Test
   public void testNotApplicableToNonListsFailure() {
-    assertLiveFail(get_NotApplicableToNonLists_17());
+    assertLiveFail(get_NotApplicableToNonLists_22());
   }
 
   @Test
   public void testNotApplicableToNonListsNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_NotApplicableToNonLists_17());
+    assertNotTerribleLineNumbers(get_NotApplicableToNonLists_22());
   }
 
   @Test
   public void testNotApplicableToNonListsExceptionFree() {
-    assertExceptionFree(get_NotApplicableToNonLists_17());
+    assertExceptionFree(get_NotApplicableToNonLists_22());
   }
 
   @Test
   public void testNotApplicableToNonListsTODOFree() {
-    assertTODOFree(get_NotApplicableToNonLists_17());
+    assertTODOFree(get_NotApplicableToNonLists_22());
   }
 
   @Test
-  public void stable_NotApplicableToNonLists_17() {
-    String live = get_NotApplicableToNonLists_17();
+  public void stable_NotApplicableToNonLists_22() {
+    String live = get_NotApplicableToNonLists_22();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_NotApplicableToNonLists_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -12646,48 +17093,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_SortLegacy_18 = null;
-  private String get_SortLegacy_18() {
-    if (cached_SortLegacy_18 != null) {
-      return cached_SortLegacy_18;
+  private String cached_SortLegacy_23 = null;
+  private String get_SortLegacy_23() {
+    if (cached_SortLegacy_23 != null) {
+      return cached_SortLegacy_23;
     }
-    cached_SortLegacy_18 = generateTestOutput(true, "SortLegacy_18", "./test_code/Linq_SortLegacy_success.a");
-    return cached_SortLegacy_18;
+    cached_SortLegacy_23 = generateTestOutput(true, "SortLegacy_23", "./test_code/Linq_SortLegacy_success.a");
+    return cached_SortLegacy_23;
   }
 
   @Test
   public void testSortLegacyEmission() {
-    assertEmissionGood(get_SortLegacy_18());
+    assertEmissionGood(get_SortLegacy_23());
   }
 
   @Test
   public void testSortLegacySuccess() {
-    assertLivePass(get_SortLegacy_18());
+    assertLivePass(get_SortLegacy_23());
   }
 
   @Test
   public void testSortLegacyNoFormatException() {
-    assertNoFormatException(get_SortLegacy_18());
+    assertNoFormatException(get_SortLegacy_23());
   }
 
   @Test
   public void testSortLegacyGoodWillHappy() {
-    assertGoodWillHappy(get_SortLegacy_18());
+    assertGoodWillHappy(get_SortLegacy_23());
   }
 
   @Test
   public void testSortLegacyExceptionFree() {
-    assertExceptionFree(get_SortLegacy_18());
+    assertExceptionFree(get_SortLegacy_23());
   }
 
   @Test
   public void testSortLegacyTODOFree() {
-    assertTODOFree(get_SortLegacy_18());
+    assertTODOFree(get_SortLegacy_23());
   }
 
   @Test
-  public void stable_SortLegacy_18() {
-    String live = get_SortLegacy_18();
+  public void stable_SortLegacy_23() {
+    String live = get_SortLegacy_23();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_SortLegacy_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -12773,7 +17220,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class SortLegacy_18 extends LivingDocument {");
+    gold.append("\npublic class SortLegacy_23 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> tbl;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> l1;");
     gold.append("\n  private final RxTableGuard __l1_tbl;");
@@ -12805,7 +17252,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += l8.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public SortLegacy_18(DocumentMonitor __monitor) {");
+    gold.append("\n  public SortLegacy_23(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxX(__parent).__link(), 0);");
     gold.append("\n    l1 = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)(tbl.iterate(false).orderBy(true, __ORDER_X_i_a)), null);");
@@ -13139,9 +17586,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaSortLegacy_18 implements DeltaNode {");
+    gold.append("\n  private class DeltaSortLegacy_23 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaSortLegacy_18() {");
+    gold.append("\n    private DeltaSortLegacy_23() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -13149,7 +17596,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(SortLegacy_18 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(SortLegacy_23 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -13180,8 +17627,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    SortLegacy_18 __self = this;");
-    gold.append("\n    DeltaSortLegacy_18 __state = new DeltaSortLegacy_18();");
+    gold.append("\n    SortLegacy_23 __self = this;");
+    gold.append("\n    DeltaSortLegacy_23 __state = new DeltaSortLegacy_23();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -13975,6 +18422,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -14258,48 +18709,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereBranch_19 = null;
-  private String get_WhereBranch_19() {
-    if (cached_WhereBranch_19 != null) {
-      return cached_WhereBranch_19;
+  private String cached_WhereBranch_24 = null;
+  private String get_WhereBranch_24() {
+    if (cached_WhereBranch_24 != null) {
+      return cached_WhereBranch_24;
     }
-    cached_WhereBranch_19 = generateTestOutput(true, "WhereBranch_19", "./test_code/Linq_WhereBranch_success.a");
-    return cached_WhereBranch_19;
+    cached_WhereBranch_24 = generateTestOutput(true, "WhereBranch_24", "./test_code/Linq_WhereBranch_success.a");
+    return cached_WhereBranch_24;
   }
 
   @Test
   public void testWhereBranchEmission() {
-    assertEmissionGood(get_WhereBranch_19());
+    assertEmissionGood(get_WhereBranch_24());
   }
 
   @Test
   public void testWhereBranchSuccess() {
-    assertLivePass(get_WhereBranch_19());
+    assertLivePass(get_WhereBranch_24());
   }
 
   @Test
   public void testWhereBranchNoFormatException() {
-    assertNoFormatException(get_WhereBranch_19());
+    assertNoFormatException(get_WhereBranch_24());
   }
 
   @Test
   public void testWhereBranchGoodWillHappy() {
-    assertGoodWillHappy(get_WhereBranch_19());
+    assertGoodWillHappy(get_WhereBranch_24());
   }
 
   @Test
   public void testWhereBranchExceptionFree() {
-    assertExceptionFree(get_WhereBranch_19());
+    assertExceptionFree(get_WhereBranch_24());
   }
 
   @Test
   public void testWhereBranchTODOFree() {
-    assertTODOFree(get_WhereBranch_19());
+    assertTODOFree(get_WhereBranch_24());
   }
 
   @Test
-  public void stable_WhereBranch_19() {
-    String live = get_WhereBranch_19();
+  public void stable_WhereBranch_24() {
+    String live = get_WhereBranch_24();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_WhereBranch_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -14387,7 +18838,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class WhereBranch_19 extends LivingDocument {");
+    gold.append("\npublic class WhereBranch_24 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxR> t;");
     gold.append("\n  private final RxLazy<NtList<RTxR>> i0;");
     gold.append("\n  private final RxTableGuard __i0_t;");
@@ -14449,7 +18900,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += i2b2as.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public WhereBranch_19(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereBranch_24(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxR(__parent).__link(), 2);");
     gold.append("\n    i0 = new RxLazy<NtList<RTxR>>(this, () -> (NtList<RTxR>)(t.iterate(false).where(true, new __CLOSURE_WhereClause0())), null);");
@@ -14843,7 +19294,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereBranch_19 implements DeltaNode {");
+    gold.append("\n  private class DeltaWhereBranch_24 implements DeltaNode {");
     gold.append("\n    private int __gi0;");
     gold.append("\n    private DRecordList<DeltaRTxR> __di0;");
     gold.append("\n    private int __gi1;");
@@ -14881,7 +19332,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private int __gi2b2as;");
     gold.append("\n    private DRecordList<DeltaRTxR> __di2b2as;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereBranch_19() {");
+    gold.append("\n    private DeltaWhereBranch_24() {");
     gold.append("\n      __gi0 = -1;");
     gold.append("\n      __di0 = new DRecordList<DeltaRTxR>();");
     gold.append("\n      __gi1 = -1;");
@@ -14943,7 +19394,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __sum += __di2b2as.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(WhereBranch_19 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(WhereBranch_24 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      __code_cost += 18;");
@@ -15299,8 +19750,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    WhereBranch_19 __self = this;");
-    gold.append("\n    DeltaWhereBranch_19 __state = new DeltaWhereBranch_19();");
+    gold.append("\n    WhereBranch_24 __self = this;");
+    gold.append("\n    DeltaWhereBranch_24 __state = new DeltaWhereBranch_24();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -15773,6 +20224,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -16281,7 +20736,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__auto_table_row_id\":3,\"t\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"3\":{\"id\":3,\"x\":3,\"y\":3}},\"__seq\":1} need:false in:0");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
     gold.append("\nCPU:13");
-    gold.append("\nMEMORY:8724");
+    gold.append("\nMEMORY:8916");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
     gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
     gold.append("\n+ NO_ONE DELTA:{\"data\":{\"i0\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"@o\":[1]},\"i1\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"@o\":[1]},\"i2\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"@o\":[1]},\"i0b1\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"@o\":[1,2]},\"i1b1\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"@o\":[1,2]},\"i2b1\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"@o\":[1,2]},\"i0b2\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"3\":{\"id\":3,\"x\":3,\"y\":3},\"@o\":[1,3]},\"i1b2\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"3\":{\"id\":3,\"x\":3,\"y\":3},\"@o\":[1,3]},\"i2b2\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"3\":{\"id\":3,\"x\":3,\"y\":3},\"@o\":[1,3]},\"i0as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"@o\":[1]},\"i1as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"@o\":[1]},\"i2as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"@o\":[1]},\"i0b1as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"@o\":[1,2]},\"i1b1as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"@o\":[1,2]},\"i2b1as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"@o\":[1,2]},\"i0b2as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"3\":{\"id\":3,\"x\":3,\"y\":3},\"@o\":[1,3]},\"i1b2as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"3\":{\"id\":3,\"x\":3,\"y\":3},\"@o\":[1,3]},\"i2b2as\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"3\":{\"id\":3,\"x\":3,\"y\":3},\"@o\":[1,3]}},\"seq\":3}");
@@ -16300,7 +20755,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:9");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":9}");
     gold.append("\n+ RANDO DELTA:{\"seq\":9}");
-    gold.append("\nMEMORY:22842");
+    gold.append("\nMEMORY:22954");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"t\":{\"1\":{\"id\":1,\"x\":1,\"y\":1},\"2\":{\"id\":2,\"x\":2,\"y\":2},\"3\":{\"id\":3,\"x\":3,\"y\":3}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":9,\"__entropy\":\"-652523483647487500\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"150\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":3,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -16313,48 +20768,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereBuildClosure_20 = null;
-  private String get_WhereBuildClosure_20() {
-    if (cached_WhereBuildClosure_20 != null) {
-      return cached_WhereBuildClosure_20;
+  private String cached_WhereBuildClosure_25 = null;
+  private String get_WhereBuildClosure_25() {
+    if (cached_WhereBuildClosure_25 != null) {
+      return cached_WhereBuildClosure_25;
     }
-    cached_WhereBuildClosure_20 = generateTestOutput(true, "WhereBuildClosure_20", "./test_code/Linq_WhereBuildClosure_success.a");
-    return cached_WhereBuildClosure_20;
+    cached_WhereBuildClosure_25 = generateTestOutput(true, "WhereBuildClosure_25", "./test_code/Linq_WhereBuildClosure_success.a");
+    return cached_WhereBuildClosure_25;
   }
 
   @Test
   public void testWhereBuildClosureEmission() {
-    assertEmissionGood(get_WhereBuildClosure_20());
+    assertEmissionGood(get_WhereBuildClosure_25());
   }
 
   @Test
   public void testWhereBuildClosureSuccess() {
-    assertLivePass(get_WhereBuildClosure_20());
+    assertLivePass(get_WhereBuildClosure_25());
   }
 
   @Test
   public void testWhereBuildClosureNoFormatException() {
-    assertNoFormatException(get_WhereBuildClosure_20());
+    assertNoFormatException(get_WhereBuildClosure_25());
   }
 
   @Test
   public void testWhereBuildClosureGoodWillHappy() {
-    assertGoodWillHappy(get_WhereBuildClosure_20());
+    assertGoodWillHappy(get_WhereBuildClosure_25());
   }
 
   @Test
   public void testWhereBuildClosureExceptionFree() {
-    assertExceptionFree(get_WhereBuildClosure_20());
+    assertExceptionFree(get_WhereBuildClosure_25());
   }
 
   @Test
   public void testWhereBuildClosureTODOFree() {
-    assertTODOFree(get_WhereBuildClosure_20());
+    assertTODOFree(get_WhereBuildClosure_25());
   }
 
   @Test
-  public void stable_WhereBuildClosure_20() {
-    String live = get_WhereBuildClosure_20();
+  public void stable_WhereBuildClosure_25() {
+    String live = get_WhereBuildClosure_25();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_WhereBuildClosure_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -16413,7 +20868,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class WhereBuildClosure_20 extends LivingDocument {");
+    gold.append("\npublic class WhereBuildClosure_25 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
@@ -16421,7 +20876,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += t.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public WhereBuildClosure_20(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereBuildClosure_25(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent).__link(), 0);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -16707,9 +21162,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereBuildClosure_20 implements DeltaNode {");
+    gold.append("\n  private class DeltaWhereBuildClosure_25 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereBuildClosure_20() {");
+    gold.append("\n    private DeltaWhereBuildClosure_25() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -16717,7 +21172,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(WhereBuildClosure_20 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(WhereBuildClosure_25 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -16748,8 +21203,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    WhereBuildClosure_20 __self = this;");
-    gold.append("\n    DeltaWhereBuildClosure_20 __state = new DeltaWhereBuildClosure_20();");
+    gold.append("\n    WhereBuildClosure_25 __self = this;");
+    gold.append("\n    DeltaWhereBuildClosure_25 __state = new DeltaWhereBuildClosure_25();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -17154,6 +21609,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -17375,48 +21834,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereDuplicateFields_21 = null;
-  private String get_WhereDuplicateFields_21() {
-    if (cached_WhereDuplicateFields_21 != null) {
-      return cached_WhereDuplicateFields_21;
+  private String cached_WhereDuplicateFields_26 = null;
+  private String get_WhereDuplicateFields_26() {
+    if (cached_WhereDuplicateFields_26 != null) {
+      return cached_WhereDuplicateFields_26;
     }
-    cached_WhereDuplicateFields_21 = generateTestOutput(true, "WhereDuplicateFields_21", "./test_code/Linq_WhereDuplicateFields_success.a");
-    return cached_WhereDuplicateFields_21;
+    cached_WhereDuplicateFields_26 = generateTestOutput(true, "WhereDuplicateFields_26", "./test_code/Linq_WhereDuplicateFields_success.a");
+    return cached_WhereDuplicateFields_26;
   }
 
   @Test
   public void testWhereDuplicateFieldsEmission() {
-    assertEmissionGood(get_WhereDuplicateFields_21());
+    assertEmissionGood(get_WhereDuplicateFields_26());
   }
 
   @Test
   public void testWhereDuplicateFieldsSuccess() {
-    assertLivePass(get_WhereDuplicateFields_21());
+    assertLivePass(get_WhereDuplicateFields_26());
   }
 
   @Test
   public void testWhereDuplicateFieldsNoFormatException() {
-    assertNoFormatException(get_WhereDuplicateFields_21());
+    assertNoFormatException(get_WhereDuplicateFields_26());
   }
 
   @Test
   public void testWhereDuplicateFieldsGoodWillHappy() {
-    assertGoodWillHappy(get_WhereDuplicateFields_21());
+    assertGoodWillHappy(get_WhereDuplicateFields_26());
   }
 
   @Test
   public void testWhereDuplicateFieldsExceptionFree() {
-    assertExceptionFree(get_WhereDuplicateFields_21());
+    assertExceptionFree(get_WhereDuplicateFields_26());
   }
 
   @Test
   public void testWhereDuplicateFieldsTODOFree() {
-    assertTODOFree(get_WhereDuplicateFields_21());
+    assertTODOFree(get_WhereDuplicateFields_26());
   }
 
   @Test
-  public void stable_WhereDuplicateFields_21() {
-    String live = get_WhereDuplicateFields_21();
+  public void stable_WhereDuplicateFields_26() {
+    String live = get_WhereDuplicateFields_26();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_WhereDuplicateFields_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -17469,7 +21928,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class WhereDuplicateFields_21 extends LivingDocument {");
+    gold.append("\npublic class WhereDuplicateFields_26 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
@@ -17477,7 +21936,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += t.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public WhereDuplicateFields_21(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereDuplicateFields_26(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent).__link(), 0);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -17763,9 +22222,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereDuplicateFields_21 implements DeltaNode {");
+    gold.append("\n  private class DeltaWhereDuplicateFields_26 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereDuplicateFields_21() {");
+    gold.append("\n    private DeltaWhereDuplicateFields_26() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -17773,7 +22232,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(WhereDuplicateFields_21 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(WhereDuplicateFields_26 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -17804,8 +22263,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    WhereDuplicateFields_21 __self = this;");
-    gold.append("\n    DeltaWhereDuplicateFields_21 __state = new DeltaWhereDuplicateFields_21();");
+    gold.append("\n    WhereDuplicateFields_26 __self = this;");
+    gold.append("\n    DeltaWhereDuplicateFields_26 __state = new DeltaWhereDuplicateFields_26();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -18200,6 +22659,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -18395,48 +22858,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereIndexMaybe_22 = null;
-  private String get_WhereIndexMaybe_22() {
-    if (cached_WhereIndexMaybe_22 != null) {
-      return cached_WhereIndexMaybe_22;
+  private String cached_WhereIndexMaybe_27 = null;
+  private String get_WhereIndexMaybe_27() {
+    if (cached_WhereIndexMaybe_27 != null) {
+      return cached_WhereIndexMaybe_27;
     }
-    cached_WhereIndexMaybe_22 = generateTestOutput(true, "WhereIndexMaybe_22", "./test_code/Linq_WhereIndexMaybe_success.a");
-    return cached_WhereIndexMaybe_22;
+    cached_WhereIndexMaybe_27 = generateTestOutput(true, "WhereIndexMaybe_27", "./test_code/Linq_WhereIndexMaybe_success.a");
+    return cached_WhereIndexMaybe_27;
   }
 
   @Test
   public void testWhereIndexMaybeEmission() {
-    assertEmissionGood(get_WhereIndexMaybe_22());
+    assertEmissionGood(get_WhereIndexMaybe_27());
   }
 
   @Test
   public void testWhereIndexMaybeSuccess() {
-    assertLivePass(get_WhereIndexMaybe_22());
+    assertLivePass(get_WhereIndexMaybe_27());
   }
 
   @Test
   public void testWhereIndexMaybeNoFormatException() {
-    assertNoFormatException(get_WhereIndexMaybe_22());
+    assertNoFormatException(get_WhereIndexMaybe_27());
   }
 
   @Test
   public void testWhereIndexMaybeGoodWillHappy() {
-    assertGoodWillHappy(get_WhereIndexMaybe_22());
+    assertGoodWillHappy(get_WhereIndexMaybe_27());
   }
 
   @Test
   public void testWhereIndexMaybeExceptionFree() {
-    assertExceptionFree(get_WhereIndexMaybe_22());
+    assertExceptionFree(get_WhereIndexMaybe_27());
   }
 
   @Test
   public void testWhereIndexMaybeTODOFree() {
-    assertTODOFree(get_WhereIndexMaybe_22());
+    assertTODOFree(get_WhereIndexMaybe_27());
   }
 
   @Test
-  public void stable_WhereIndexMaybe_22() {
-    String live = get_WhereIndexMaybe_22();
+  public void stable_WhereIndexMaybe_27() {
+    String live = get_WhereIndexMaybe_27();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_WhereIndexMaybe_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -18516,7 +22979,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class WhereIndexMaybe_22 extends LivingDocument {");
+    gold.append("\npublic class WhereIndexMaybe_27 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> all;");
     gold.append("\n  private final RxTableGuard __all_t;");
@@ -18545,7 +23008,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += just_mz.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public WhereIndexMaybe_22(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereIndexMaybe_27(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent).__link(), 3);");
     gold.append("\n    all = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)(t.iterate(true)), null);");
@@ -18873,7 +23336,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereIndexMaybe_22 implements DeltaNode {");
+    gold.append("\n  private class DeltaWhereIndexMaybe_27 implements DeltaNode {");
     gold.append("\n    private int __gall;");
     gold.append("\n    private DRecordList<DeltaRTxX> __dall;");
     gold.append("\n    private int __gjust_x;");
@@ -18889,7 +23352,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private int __gjust_mz;");
     gold.append("\n    private DRecordList<DeltaRTxX> __djust_mz;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereIndexMaybe_22() {");
+    gold.append("\n    private DeltaWhereIndexMaybe_27() {");
     gold.append("\n      __gall = -1;");
     gold.append("\n      __dall = new DRecordList<DeltaRTxX>();");
     gold.append("\n      __gjust_x = -1;");
@@ -18918,7 +23381,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __sum += __djust_mz.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(WhereIndexMaybe_22 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(WhereIndexMaybe_27 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      __code_cost += 7;");
@@ -19076,8 +23539,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    WhereIndexMaybe_22 __self = this;");
-    gold.append("\n    DeltaWhereIndexMaybe_22 __state = new DeltaWhereIndexMaybe_22();");
+    gold.append("\n    WhereIndexMaybe_27 __self = this;");
+    gold.append("\n    DeltaWhereIndexMaybe_27 __state = new DeltaWhereIndexMaybe_27();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -19706,6 +24169,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -19987,7 +24454,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__auto_table_row_id\":4,\"t\":{\"1\":{\"id\":1,\"x\":1,\"y\":\"x1\",\"z\":\"1-01-01\"},\"2\":{\"id\":2,\"x\":2,\"y\":\"x2\",\"z\":\"1-01-01\"},\"3\":{\"id\":3,\"x\":3,\"y\":\"x3\",\"z\":\"1-01-01\"},\"4\":{\"id\":4,\"x\":4,\"y\":\"x4\",\"z\":\"2012-05-10\"}},\"__seq\":1} need:false in:0");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
     gold.append("\nCPU:18");
-    gold.append("\nMEMORY:7826");
+    gold.append("\nMEMORY:8106");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
     gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
     gold.append("\n+ NO_ONE DELTA:{\"data\":{\"all\":{\"1\":{\"x\":1,\"y\":\"x1\",\"z\":\"1-01-01\"},\"2\":{\"x\":2,\"y\":\"x2\",\"z\":\"1-01-01\"},\"3\":{\"x\":3,\"y\":\"x3\",\"z\":\"1-01-01\"},\"4\":{\"x\":4,\"y\":\"x4\",\"z\":\"2012-05-10\"},\"@o\":[1,2,3,4]},\"just_x\":{\"2\":{\"x\":2,\"y\":\"x2\",\"z\":\"1-01-01\"},\"@o\":[2]},\"just_mx\":{\"2\":{\"x\":2,\"y\":\"x2\",\"z\":\"1-01-01\"},\"@o\":[2]},\"just_y\":{\"2\":{\"x\":2,\"y\":\"x2\",\"z\":\"1-01-01\"},\"@o\":[2]},\"just_my\":{\"2\":{\"x\":2,\"y\":\"x2\",\"z\":\"1-01-01\"},\"@o\":[2]},\"just_z\":{\"4\":{\"x\":4,\"y\":\"x4\",\"z\":\"2012-05-10\"},\"@o\":[4]},\"just_mz\":{\"4\":{\"x\":4,\"y\":\"x4\",\"z\":\"2012-05-10\"},\"@o\":[4]}},\"seq\":3}");
@@ -20001,7 +24468,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:12984");
+    gold.append("\nMEMORY:13264");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"t\":{\"1\":{\"id\":1,\"x\":1,\"y\":\"x1\",\"z\":\"1-01-01\"},\"2\":{\"id\":2,\"x\":2,\"y\":\"x2\",\"z\":\"1-01-01\"},\"3\":{\"id\":3,\"x\":3,\"y\":\"x3\",\"z\":\"1-01-01\"},\"4\":{\"id\":4,\"x\":4,\"y\":\"x4\",\"z\":\"2012-05-10\"}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":4,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -20014,48 +24481,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereOtherIndexingModes_23 = null;
-  private String get_WhereOtherIndexingModes_23() {
-    if (cached_WhereOtherIndexingModes_23 != null) {
-      return cached_WhereOtherIndexingModes_23;
+  private String cached_WhereOtherIndexingModes_28 = null;
+  private String get_WhereOtherIndexingModes_28() {
+    if (cached_WhereOtherIndexingModes_28 != null) {
+      return cached_WhereOtherIndexingModes_28;
     }
-    cached_WhereOtherIndexingModes_23 = generateTestOutput(true, "WhereOtherIndexingModes_23", "./test_code/Linq_WhereOtherIndexingModes_success.a");
-    return cached_WhereOtherIndexingModes_23;
+    cached_WhereOtherIndexingModes_28 = generateTestOutput(true, "WhereOtherIndexingModes_28", "./test_code/Linq_WhereOtherIndexingModes_success.a");
+    return cached_WhereOtherIndexingModes_28;
   }
 
   @Test
   public void testWhereOtherIndexingModesEmission() {
-    assertEmissionGood(get_WhereOtherIndexingModes_23());
+    assertEmissionGood(get_WhereOtherIndexingModes_28());
   }
 
   @Test
   public void testWhereOtherIndexingModesSuccess() {
-    assertLivePass(get_WhereOtherIndexingModes_23());
+    assertLivePass(get_WhereOtherIndexingModes_28());
   }
 
   @Test
   public void testWhereOtherIndexingModesNoFormatException() {
-    assertNoFormatException(get_WhereOtherIndexingModes_23());
+    assertNoFormatException(get_WhereOtherIndexingModes_28());
   }
 
   @Test
   public void testWhereOtherIndexingModesGoodWillHappy() {
-    assertGoodWillHappy(get_WhereOtherIndexingModes_23());
+    assertGoodWillHappy(get_WhereOtherIndexingModes_28());
   }
 
   @Test
   public void testWhereOtherIndexingModesExceptionFree() {
-    assertExceptionFree(get_WhereOtherIndexingModes_23());
+    assertExceptionFree(get_WhereOtherIndexingModes_28());
   }
 
   @Test
   public void testWhereOtherIndexingModesTODOFree() {
-    assertTODOFree(get_WhereOtherIndexingModes_23());
+    assertTODOFree(get_WhereOtherIndexingModes_28());
   }
 
   @Test
-  public void stable_WhereOtherIndexingModes_23() {
-    String live = get_WhereOtherIndexingModes_23();
+  public void stable_WhereOtherIndexingModes_28() {
+    String live = get_WhereOtherIndexingModes_28();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_WhereOtherIndexingModes_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -20117,7 +24584,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class WhereOtherIndexingModes_23 extends LivingDocument {");
+    gold.append("\npublic class WhereOtherIndexingModes_28 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> t_less;");
     gold.append("\n  private final RxTableGuard __t_less_t;");
@@ -20140,7 +24607,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += t_great.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public WhereOtherIndexingModes_23(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereOtherIndexingModes_28(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent).__link(), 1);");
     gold.append("\n    t_less = new RxLazy<NtList<RTxX>>(this, () -> (NtList<RTxX>)((t.iterate(false)).where(true, new __CLOSURE_WhereClause0())), null);");
@@ -20456,7 +24923,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereOtherIndexingModes_23 implements DeltaNode {");
+    gold.append("\n  private class DeltaWhereOtherIndexingModes_28 implements DeltaNode {");
     gold.append("\n    private int __gt_less;");
     gold.append("\n    private DRecordList<DeltaRTxX> __dt_less;");
     gold.append("\n    private int __gt_lesseq;");
@@ -20468,7 +24935,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private int __gt_great;");
     gold.append("\n    private DRecordList<DeltaRTxX> __dt_great;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereOtherIndexingModes_23() {");
+    gold.append("\n    private DeltaWhereOtherIndexingModes_28() {");
     gold.append("\n      __gt_less = -1;");
     gold.append("\n      __dt_less = new DRecordList<DeltaRTxX>();");
     gold.append("\n      __gt_lesseq = -1;");
@@ -20491,7 +24958,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __sum += __dt_great.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(WhereOtherIndexingModes_23 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(WhereOtherIndexingModes_28 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      __code_cost += 5;");
@@ -20613,8 +25080,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    WhereOtherIndexingModes_23 __self = this;");
-    gold.append("\n    DeltaWhereOtherIndexingModes_23 __state = new DeltaWhereOtherIndexingModes_23();");
+    gold.append("\n    WhereOtherIndexingModes_28 __self = this;");
+    gold.append("\n    DeltaWhereOtherIndexingModes_28 __state = new DeltaWhereOtherIndexingModes_28();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -21030,6 +25497,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -21271,7 +25742,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__auto_table_row_id\":100,\"t\":{\"1\":{\"id\":1,\"z\":0},\"2\":{\"id\":2,\"z\":1},\"3\":{\"id\":3,\"z\":2},\"4\":{\"id\":4,\"z\":3},\"5\":{\"id\":5,\"z\":4},\"6\":{\"id\":6,\"z\":5},\"7\":{\"id\":7,\"z\":6},\"8\":{\"id\":8,\"z\":7},\"9\":{\"id\":9,\"z\":8},\"10\":{\"id\":10,\"z\":9},\"11\":{\"id\":11,\"z\":10},\"12\":{\"id\":12,\"z\":11},\"13\":{\"id\":13,\"z\":12},\"14\":{\"id\":14,\"z\":13},\"15\":{\"id\":15,\"z\":14},\"16\":{\"id\":16,\"z\":15},\"17\":{\"id\":17,\"z\":16},\"18\":{\"id\":18,\"z\":17},\"19\":{\"id\":19,\"z\":18},\"20\":{\"id\":20,\"z\":19},\"21\":{\"id\":21,\"z\":20},\"22\":{\"id\":22,\"z\":21},\"23\":{\"id\":23,\"z\":22},\"24\":{\"id\":24,\"z\":23},\"25\":{\"id\":25,\"z\":24},\"26\":{\"id\":26,\"z\":25},\"27\":{\"id\":27,\"z\":26},\"28\":{\"id\":28,\"z\":27},\"29\":{\"id\":29,\"z\":28},\"30\":{\"id\":30,\"z\":29},\"31\":{\"id\":31,\"z\":30},\"32\":{\"id\":32,\"z\":31},\"33\":{\"id\":33,\"z\":32},\"34\":{\"id\":34,\"z\":33},\"35\":{\"id\":35,\"z\":34},\"36\":{\"id\":36,\"z\":35},\"37\":{\"id\":37,\"z\":36},\"38\":{\"id\":38,\"z\":37},\"39\":{\"id\":39,\"z\":38},\"40\":{\"id\":40,\"z\":39},\"41\":{\"id\":41,\"z\":40},\"42\":{\"id\":42,\"z\":41},\"43\":{\"id\":43,\"z\":42},\"44\":{\"id\":44,\"z\":43},\"45\":{\"id\":45,\"z\":44},\"46\":{\"id\":46,\"z\":45},\"47\":{\"id\":47,\"z\":46},\"48\":{\"id\":48,\"z\":47},\"49\":{\"id\":49,\"z\":48},\"50\":{\"id\":50,\"z\":49},\"51\":{\"id\":51,\"z\":50},\"52\":{\"id\":52,\"z\":51},\"53\":{\"id\":53,\"z\":52},\"54\":{\"id\":54,\"z\":53},\"55\":{\"id\":55,\"z\":54},\"56\":{\"id\":56,\"z\":55},\"57\":{\"id\":57,\"z\":56},\"58\":{\"id\":58,\"z\":57},\"59\":{\"id\":59,\"z\":58},\"60\":{\"id\":60,\"z\":59},\"61\":{\"id\":61,\"z\":60},\"62\":{\"id\":62,\"z\":61},\"63\":{\"id\":63,\"z\":62},\"64\":{\"id\":64,\"z\":63},\"65\":{\"id\":65,\"z\":64},\"66\":{\"id\":66,\"z\":65},\"67\":{\"id\":67,\"z\":66},\"68\":{\"id\":68,\"z\":67},\"69\":{\"id\":69,\"z\":68},\"70\":{\"id\":70,\"z\":69},\"71\":{\"id\":71,\"z\":70},\"72\":{\"id\":72,\"z\":71},\"73\":{\"id\":73,\"z\":72},\"74\":{\"id\":74,\"z\":73},\"75\":{\"id\":75,\"z\":74},\"76\":{\"id\":76,\"z\":75},\"77\":{\"id\":77,\"z\":76},\"78\":{\"id\":78,\"z\":77},\"79\":{\"id\":79,\"z\":78},\"80\":{\"id\":80,\"z\":79},\"81\":{\"id\":81,\"z\":80},\"82\":{\"id\":82,\"z\":81},\"83\":{\"id\":83,\"z\":82},\"84\":{\"id\":84,\"z\":83},\"85\":{\"id\":85,\"z\":84},\"86\":{\"id\":86,\"z\":85},\"87\":{\"id\":87,\"z\":86},\"88\":{\"id\":88,\"z\":87},\"89\":{\"id\":89,\"z\":88},\"90\":{\"id\":90,\"z\":89},\"91\":{\"id\":91,\"z\":90},\"92\":{\"id\":92,\"z\":91},\"93\":{\"id\":93,\"z\":92},\"94\":{\"id\":94,\"z\":93},\"95\":{\"id\":95,\"z\":94},\"96\":{\"id\":96,\"z\":95},\"97\":{\"id\":97,\"z\":96},\"98\":{\"id\":98,\"z\":97},\"99\":{\"id\":99,\"z\":98},\"100\":{\"id\":100,\"z\":99}},\"__seq\":1} need:false in:0");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
     gold.append("\nCPU:402");
-    gold.append("\nMEMORY:25418");
+    gold.append("\nMEMORY:28618");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
     gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
     gold.append("\n+ NO_ONE DELTA:{\"data\":{\"t_less\":{\"1\":{\"z\":0},\"2\":{\"z\":1},\"3\":{\"z\":2},\"4\":{\"z\":3},\"5\":{\"z\":4},\"6\":{\"z\":5},\"7\":{\"z\":6},\"8\":{\"z\":7},\"9\":{\"z\":8},\"10\":{\"z\":9},\"11\":{\"z\":10},\"12\":{\"z\":11},\"13\":{\"z\":12},\"14\":{\"z\":13},\"15\":{\"z\":14},\"16\":{\"z\":15},\"17\":{\"z\":16},\"18\":{\"z\":17},\"19\":{\"z\":18},\"20\":{\"z\":19},\"21\":{\"z\":20},\"22\":{\"z\":21},\"23\":{\"z\":22},\"24\":{\"z\":23},\"25\":{\"z\":24},\"26\":{\"z\":25},\"27\":{\"z\":26},\"28\":{\"z\":27},\"29\":{\"z\":28},\"30\":{\"z\":29},\"31\":{\"z\":30},\"32\":{\"z\":31},\"33\":{\"z\":32},\"34\":{\"z\":33},\"35\":{\"z\":34},\"36\":{\"z\":35},\"37\":{\"z\":36},\"38\":{\"z\":37},\"39\":{\"z\":38},\"40\":{\"z\":39},\"41\":{\"z\":40},\"42\":{\"z\":41},\"43\":{\"z\":42},\"44\":{\"z\":43},\"45\":{\"z\":44},\"46\":{\"z\":45},\"47\":{\"z\":46},\"48\":{\"z\":47},\"49\":{\"z\":48},\"50\":{\"z\":49},\"@o\":[1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,20,21,22,23,24,25,26,27,28,29,30,31,32,33,34,35,36,37,38,39,40,41,42,43,44,45,46,47,48,49,50]},\"t_lesseq\":{\"1\":{\"z\":0},\"2\":{\"z\":1},\"3\":{\"z\":2},\"4\":{\"z\":3},\"5\":{\"z\":4},\"6\":{\"z\":5},\"7\":{\"z\":6},\"8\":{\"z\":7},\"9\":{\"z\":8},\"10\":{\"z\":9},\"11\":{\"z\":10},\"12\":{\"z\":11},\"13\":{\"z\":12},\"14\":{\"z\":13},\"15\":{\"z\":14},\"16\":{\"z\":15},\"17\":{\"z\":16},\"18\":{\"z\":17},\"19\":{\"z\":18},\"20\":{\"z\":19},\"21\":{\"z\":20},\"22\":{\"z\":21},\"23\":{\"z\":22},\"24\":{\"z\":23},\"25\":{\"z\":24},\"26\":{\"z\":25},\"27\":{\"z\":26},\"28\":{\"z\":27},\"29\":{\"z\":28},\"30\":{\"z\":29},\"31\":{\"z\":30},\"32\":{\"z\":31},\"33\":{\"z\":32},\"34\":{\"z\":33},\"35\":{\"z\":34},\"36\":{\"z\":35},\"37\":{\"z\":36},\"38\":{\"z\":37},\"39\":{\"z\":38},\"40\":{\"z\":39},\"41\":{\"z\":40},\"42\":{\"z\":41},\"43\":{\"z\":42},\"44\":{\"z\":43},\"45\":{\"z\":44},\"46\":{\"z\":45},\"47\":{\"z\":46},\"48\":{\"z\":47},\"49\":{\"z\":48},\"50\":{\"z\":49},\"51\":{\"z\":50},\"@o\":[1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,20,21,22,23,24,25,26,27,28,29,30,31,32,33,34,35,36,37,38,39,40,41,42,43,44,45,46,47,48,49,50,51]},\"t_eq\":{\"51\":{\"z\":50},\"@o\":[51]},\"t_greateq\":{\"51\":{\"z\":50},\"52\":{\"z\":51},\"53\":{\"z\":52},\"54\":{\"z\":53},\"55\":{\"z\":54},\"56\":{\"z\":55},\"57\":{\"z\":56},\"58\":{\"z\":57},\"59\":{\"z\":58},\"60\":{\"z\":59},\"61\":{\"z\":60},\"62\":{\"z\":61},\"63\":{\"z\":62},\"64\":{\"z\":63},\"65\":{\"z\":64},\"66\":{\"z\":65},\"67\":{\"z\":66},\"68\":{\"z\":67},\"69\":{\"z\":68},\"70\":{\"z\":69},\"71\":{\"z\":70},\"72\":{\"z\":71},\"73\":{\"z\":72},\"74\":{\"z\":73},\"75\":{\"z\":74},\"76\":{\"z\":75},\"77\":{\"z\":76},\"78\":{\"z\":77},\"79\":{\"z\":78},\"80\":{\"z\":79},\"81\":{\"z\":80},\"82\":{\"z\":81},\"83\":{\"z\":82},\"84\":{\"z\":83},\"85\":{\"z\":84},\"86\":{\"z\":85},\"87\":{\"z\":86},\"88\":{\"z\":87},\"89\":{\"z\":88},\"90\":{\"z\":89},\"91\":{\"z\":90},\"92\":{\"z\":91},\"93\":{\"z\":92},\"94\":{\"z\":93},\"95\":{\"z\":94},\"96\":{\"z\":95},\"97\":{\"z\":96},\"98\":{\"z\":97},\"99\":{\"z\":98},\"100\":{\"z\":99},\"@o\":[51,52,53,54,55,56,57,58,59,60,61,62,63,64,65,66,67,68,69,70,71,72,73,74,75,76,77,78,79,80,81,82,83,84,85,86,87,88,89,90,91,92,93,94,95,96,97,98,99,100]},\"t_great\":{\"52\":{\"z\":51},\"53\":{\"z\":52},\"54\":{\"z\":53},\"55\":{\"z\":54},\"56\":{\"z\":55},\"57\":{\"z\":56},\"58\":{\"z\":57},\"59\":{\"z\":58},\"60\":{\"z\":59},\"61\":{\"z\":60},\"62\":{\"z\":61},\"63\":{\"z\":62},\"64\":{\"z\":63},\"65\":{\"z\":64},\"66\":{\"z\":65},\"67\":{\"z\":66},\"68\":{\"z\":67},\"69\":{\"z\":68},\"70\":{\"z\":69},\"71\":{\"z\":70},\"72\":{\"z\":71},\"73\":{\"z\":72},\"74\":{\"z\":73},\"75\":{\"z\":74},\"76\":{\"z\":75},\"77\":{\"z\":76},\"78\":{\"z\":77},\"79\":{\"z\":78},\"80\":{\"z\":79},\"81\":{\"z\":80},\"82\":{\"z\":81},\"83\":{\"z\":82},\"84\":{\"z\":83},\"85\":{\"z\":84},\"86\":{\"z\":85},\"87\":{\"z\":86},\"88\":{\"z\":87},\"89\":{\"z\":88},\"90\":{\"z\":89},\"91\":{\"z\":90},\"92\":{\"z\":91},\"93\":{\"z\":92},\"94\":{\"z\":93},\"95\":{\"z\":94},\"96\":{\"z\":95},\"97\":{\"z\":96},\"98\":{\"z\":97},\"99\":{\"z\":98},\"100\":{\"z\":99},\"@o\":[52,53,54,55,56,57,58,59,60,61,62,63,64,65,66,67,68,69,70,71,72,73,74,75,76,77,78,79,80,81,82,83,84,85,86,87,88,89,90,91,92,93,94,95,96,97,98,99,100]}},\"seq\":3}");
@@ -21285,7 +25756,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:86640");
+    gold.append("\nMEMORY:89840");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"t\":{\"1\":{\"id\":1,\"z\":0},\"2\":{\"id\":2,\"z\":1},\"3\":{\"id\":3,\"z\":2},\"4\":{\"id\":4,\"z\":3},\"5\":{\"id\":5,\"z\":4},\"6\":{\"id\":6,\"z\":5},\"7\":{\"id\":7,\"z\":6},\"8\":{\"id\":8,\"z\":7},\"9\":{\"id\":9,\"z\":8},\"10\":{\"id\":10,\"z\":9},\"11\":{\"id\":11,\"z\":10},\"12\":{\"id\":12,\"z\":11},\"13\":{\"id\":13,\"z\":12},\"14\":{\"id\":14,\"z\":13},\"15\":{\"id\":15,\"z\":14},\"16\":{\"id\":16,\"z\":15},\"17\":{\"id\":17,\"z\":16},\"18\":{\"id\":18,\"z\":17},\"19\":{\"id\":19,\"z\":18},\"20\":{\"id\":20,\"z\":19},\"21\":{\"id\":21,\"z\":20},\"22\":{\"id\":22,\"z\":21},\"23\":{\"id\":23,\"z\":22},\"24\":{\"id\":24,\"z\":23},\"25\":{\"id\":25,\"z\":24},\"26\":{\"id\":26,\"z\":25},\"27\":{\"id\":27,\"z\":26},\"28\":{\"id\":28,\"z\":27},\"29\":{\"id\":29,\"z\":28},\"30\":{\"id\":30,\"z\":29},\"31\":{\"id\":31,\"z\":30},\"32\":{\"id\":32,\"z\":31},\"33\":{\"id\":33,\"z\":32},\"34\":{\"id\":34,\"z\":33},\"35\":{\"id\":35,\"z\":34},\"36\":{\"id\":36,\"z\":35},\"37\":{\"id\":37,\"z\":36},\"38\":{\"id\":38,\"z\":37},\"39\":{\"id\":39,\"z\":38},\"40\":{\"id\":40,\"z\":39},\"41\":{\"id\":41,\"z\":40},\"42\":{\"id\":42,\"z\":41},\"43\":{\"id\":43,\"z\":42},\"44\":{\"id\":44,\"z\":43},\"45\":{\"id\":45,\"z\":44},\"46\":{\"id\":46,\"z\":45},\"47\":{\"id\":47,\"z\":46},\"48\":{\"id\":48,\"z\":47},\"49\":{\"id\":49,\"z\":48},\"50\":{\"id\":50,\"z\":49},\"51\":{\"id\":51,\"z\":50},\"52\":{\"id\":52,\"z\":51},\"53\":{\"id\":53,\"z\":52},\"54\":{\"id\":54,\"z\":53},\"55\":{\"id\":55,\"z\":54},\"56\":{\"id\":56,\"z\":55},\"57\":{\"id\":57,\"z\":56},\"58\":{\"id\":58,\"z\":57},\"59\":{\"id\":59,\"z\":58},\"60\":{\"id\":60,\"z\":59},\"61\":{\"id\":61,\"z\":60},\"62\":{\"id\":62,\"z\":61},\"63\":{\"id\":63,\"z\":62},\"64\":{\"id\":64,\"z\":63},\"65\":{\"id\":65,\"z\":64},\"66\":{\"id\":66,\"z\":65},\"67\":{\"id\":67,\"z\":66},\"68\":{\"id\":68,\"z\":67},\"69\":{\"id\":69,\"z\":68},\"70\":{\"id\":70,\"z\":69},\"71\":{\"id\":71,\"z\":70},\"72\":{\"id\":72,\"z\":71},\"73\":{\"id\":73,\"z\":72},\"74\":{\"id\":74,\"z\":73},\"75\":{\"id\":75,\"z\":74},\"76\":{\"id\":76,\"z\":75},\"77\":{\"id\":77,\"z\":76},\"78\":{\"id\":78,\"z\":77},\"79\":{\"id\":79,\"z\":78},\"80\":{\"id\":80,\"z\":79},\"81\":{\"id\":81,\"z\":80},\"82\":{\"id\":82,\"z\":81},\"83\":{\"id\":83,\"z\":82},\"84\":{\"id\":84,\"z\":83},\"85\":{\"id\":85,\"z\":84},\"86\":{\"id\":86,\"z\":85},\"87\":{\"id\":87,\"z\":86},\"88\":{\"id\":88,\"z\":87},\"89\":{\"id\":89,\"z\":88},\"90\":{\"id\":90,\"z\":89},\"91\":{\"id\":91,\"z\":90},\"92\":{\"id\":92,\"z\":91},\"93\":{\"id\":93,\"z\":92},\"94\":{\"id\":94,\"z\":93},\"95\":{\"id\":95,\"z\":94},\"96\":{\"id\":96,\"z\":95},\"97\":{\"id\":97,\"z\":96},\"98\":{\"id\":98,\"z\":97},\"99\":{\"id\":99,\"z\":98},\"100\":{\"id\":100,\"z\":99}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":100,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -21298,48 +25769,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WherePrimaryKeyExtraction_24 = null;
-  private String get_WherePrimaryKeyExtraction_24() {
-    if (cached_WherePrimaryKeyExtraction_24 != null) {
-      return cached_WherePrimaryKeyExtraction_24;
+  private String cached_WherePrimaryKeyExtraction_29 = null;
+  private String get_WherePrimaryKeyExtraction_29() {
+    if (cached_WherePrimaryKeyExtraction_29 != null) {
+      return cached_WherePrimaryKeyExtraction_29;
     }
-    cached_WherePrimaryKeyExtraction_24 = generateTestOutput(true, "WherePrimaryKeyExtraction_24", "./test_code/Linq_WherePrimaryKeyExtraction_success.a");
-    return cached_WherePrimaryKeyExtraction_24;
+    cached_WherePrimaryKeyExtraction_29 = generateTestOutput(true, "WherePrimaryKeyExtraction_29", "./test_code/Linq_WherePrimaryKeyExtraction_success.a");
+    return cached_WherePrimaryKeyExtraction_29;
   }
 
   @Test
   public void testWherePrimaryKeyExtractionEmission() {
-    assertEmissionGood(get_WherePrimaryKeyExtraction_24());
+    assertEmissionGood(get_WherePrimaryKeyExtraction_29());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionSuccess() {
-    assertLivePass(get_WherePrimaryKeyExtraction_24());
+    assertLivePass(get_WherePrimaryKeyExtraction_29());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionNoFormatException() {
-    assertNoFormatException(get_WherePrimaryKeyExtraction_24());
+    assertNoFormatException(get_WherePrimaryKeyExtraction_29());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionGoodWillHappy() {
-    assertGoodWillHappy(get_WherePrimaryKeyExtraction_24());
+    assertGoodWillHappy(get_WherePrimaryKeyExtraction_29());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionExceptionFree() {
-    assertExceptionFree(get_WherePrimaryKeyExtraction_24());
+    assertExceptionFree(get_WherePrimaryKeyExtraction_29());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionTODOFree() {
-    assertTODOFree(get_WherePrimaryKeyExtraction_24());
+    assertTODOFree(get_WherePrimaryKeyExtraction_29());
   }
 
   @Test
-  public void stable_WherePrimaryKeyExtraction_24() {
-    String live = get_WherePrimaryKeyExtraction_24();
+  public void stable_WherePrimaryKeyExtraction_29() {
+    String live = get_WherePrimaryKeyExtraction_29();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_WherePrimaryKeyExtraction_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -21403,7 +25874,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class WherePrimaryKeyExtraction_24 extends LivingDocument {");
+    gold.append("\npublic class WherePrimaryKeyExtraction_29 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
@@ -21411,7 +25882,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += t.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public WherePrimaryKeyExtraction_24(DocumentMonitor __monitor) {");
+    gold.append("\n  public WherePrimaryKeyExtraction_29(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent).__link(), 0);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -21697,9 +26168,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWherePrimaryKeyExtraction_24 implements DeltaNode {");
+    gold.append("\n  private class DeltaWherePrimaryKeyExtraction_29 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWherePrimaryKeyExtraction_24() {");
+    gold.append("\n    private DeltaWherePrimaryKeyExtraction_29() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -21707,7 +26178,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(WherePrimaryKeyExtraction_24 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(WherePrimaryKeyExtraction_29 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -21738,8 +26209,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    WherePrimaryKeyExtraction_24 __self = this;");
-    gold.append("\n    DeltaWherePrimaryKeyExtraction_24 __state = new DeltaWherePrimaryKeyExtraction_24();");
+    gold.append("\n    WherePrimaryKeyExtraction_29 __self = this;");
+    gold.append("\n    DeltaWherePrimaryKeyExtraction_29 __state = new DeltaWherePrimaryKeyExtraction_29();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -22041,6 +26512,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -22416,48 +26891,48 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereSameWithPrimary_25 = null;
-  private String get_WhereSameWithPrimary_25() {
-    if (cached_WhereSameWithPrimary_25 != null) {
-      return cached_WhereSameWithPrimary_25;
+  private String cached_WhereSameWithPrimary_30 = null;
+  private String get_WhereSameWithPrimary_30() {
+    if (cached_WhereSameWithPrimary_30 != null) {
+      return cached_WhereSameWithPrimary_30;
     }
-    cached_WhereSameWithPrimary_25 = generateTestOutput(true, "WhereSameWithPrimary_25", "./test_code/Linq_WhereSameWithPrimary_success.a");
-    return cached_WhereSameWithPrimary_25;
+    cached_WhereSameWithPrimary_30 = generateTestOutput(true, "WhereSameWithPrimary_30", "./test_code/Linq_WhereSameWithPrimary_success.a");
+    return cached_WhereSameWithPrimary_30;
   }
 
   @Test
   public void testWhereSameWithPrimaryEmission() {
-    assertEmissionGood(get_WhereSameWithPrimary_25());
+    assertEmissionGood(get_WhereSameWithPrimary_30());
   }
 
   @Test
   public void testWhereSameWithPrimarySuccess() {
-    assertLivePass(get_WhereSameWithPrimary_25());
+    assertLivePass(get_WhereSameWithPrimary_30());
   }
 
   @Test
   public void testWhereSameWithPrimaryNoFormatException() {
-    assertNoFormatException(get_WhereSameWithPrimary_25());
+    assertNoFormatException(get_WhereSameWithPrimary_30());
   }
 
   @Test
   public void testWhereSameWithPrimaryGoodWillHappy() {
-    assertGoodWillHappy(get_WhereSameWithPrimary_25());
+    assertGoodWillHappy(get_WhereSameWithPrimary_30());
   }
 
   @Test
   public void testWhereSameWithPrimaryExceptionFree() {
-    assertExceptionFree(get_WhereSameWithPrimary_25());
+    assertExceptionFree(get_WhereSameWithPrimary_30());
   }
 
   @Test
   public void testWhereSameWithPrimaryTODOFree() {
-    assertTODOFree(get_WhereSameWithPrimary_25());
+    assertTODOFree(get_WhereSameWithPrimary_30());
   }
 
   @Test
-  public void stable_WhereSameWithPrimary_25() {
-    String live = get_WhereSameWithPrimary_25();
+  public void stable_WhereSameWithPrimary_30() {
+    String live = get_WhereSameWithPrimary_30();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:Linq_WhereSameWithPrimary_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -22510,7 +26985,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class WhereSameWithPrimary_25 extends LivingDocument {");
+    gold.append("\npublic class WhereSameWithPrimary_30 extends LivingDocument {");
     gold.append("\n  private final RxInt32 id;");
     gold.append("\n  private final RxTable<RTxR> tbl;");
     gold.append("\n  private final RxLazy<NtList<RTxR>> odd;");
@@ -22526,7 +27001,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    __sum += odd2.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public WhereSameWithPrimary_25(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereSameWithPrimary_30(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    id = new RxInt32(this, 0);");
     gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxR(__parent).__link(), 0);");
@@ -22836,14 +27311,14 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereSameWithPrimary_25 implements DeltaNode {");
+    gold.append("\n  private class DeltaWhereSameWithPrimary_30 implements DeltaNode {");
     gold.append("\n    private DInt32 __did;");
     gold.append("\n    private int __godd;");
     gold.append("\n    private DRecordList<DeltaRTxR> __dodd;");
     gold.append("\n    private int __godd2;");
     gold.append("\n    private DRecordList<DeltaRTxR> __dodd2;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereSameWithPrimary_25() {");
+    gold.append("\n    private DeltaWhereSameWithPrimary_30() {");
     gold.append("\n      __did = new DInt32();");
     gold.append("\n      __godd = -1;");
     gold.append("\n      __dodd = new DRecordList<DeltaRTxR>();");
@@ -22859,7 +27334,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __sum += __dodd2.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(WhereSameWithPrimary_25 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(WhereSameWithPrimary_30 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      __code_cost += 3;");
@@ -22929,8 +27404,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    WhereSameWithPrimary_25 __self = this;");
-    gold.append("\n    DeltaWhereSameWithPrimary_25 __state = new DeltaWhereSameWithPrimary_25();");
+    gold.append("\n    WhereSameWithPrimary_30 __self = this;");
+    gold.append("\n    DeltaWhereSameWithPrimary_30 __state = new DeltaWhereSameWithPrimary_30();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -23232,6 +27707,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -28,143 +28,97 @@ import org.junit.Test;
 
 @Generated("ape.support.testgen.TestClass")
 public class GeneratedPolicyTests extends GeneratedBase {
-  private String cached_ContextOutOfStatic_1 = null;
-  private String get_ContextOutOfStatic_1() {
-    if (cached_ContextOutOfStatic_1 != null) {
-      return cached_ContextOutOfStatic_1;
+  private String cached_BinarySnapshotBadType_1 = null;
+  private String get_BinarySnapshotBadType_1() {
+    if (cached_BinarySnapshotBadType_1 != null) {
+      return cached_BinarySnapshotBadType_1;
     }
-    cached_ContextOutOfStatic_1 = generateTestOutput(false, "ContextOutOfStatic_1", "./test_code/Policy_ContextOutOfStatic_failure.a");
-    return cached_ContextOutOfStatic_1;
+    cached_BinarySnapshotBadType_1 = generateTestOutput(false, "BinarySnapshotBadType_1", "./test_code/Policy_BinarySnapshotBadType_failure.a");
+    return cached_BinarySnapshotBadType_1;
   }
 
   @Test
-  public void testContextOutOfStaticFailure() {
-    assertLiveFail(get_ContextOutOfStatic_1());
-  }
-
-  @Test
-  public void testContextOutOfStaticNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_ContextOutOfStatic_1());
-  }
-
-  @Test
-  public void testContextOutOfStaticExceptionFree() {
-    assertExceptionFree(get_ContextOutOfStatic_1());
-  }
-
-  @Test
-  public void testContextOutOfStaticTODOFree() {
-    assertTODOFree(get_ContextOutOfStatic_1());
-  }
-
-  @Test
-  public void stable_ContextOutOfStatic_1() {
-    String live = get_ContextOutOfStatic_1();
-    StringBuilder gold = new StringBuilder();
-    gold.append("Path:Policy_ContextOutOfStatic_failure.a");
-    gold.append("\n--ISSUES-------------------------------------------");
-    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":11,\"byte\":17},\"end\":{\"line\":1,\"character\":19,\"byte\":25}},\"severity\":1,\"source\":\"error\",\"message\":\"@context is only available within static policies, constructors, document events, authorize handler, message handlers, traffic hinting, or web handlers\",\"file\":\"./test_code/Policy_ContextOutOfStatic_failure.a\"}]\"--JAVA---------------------------------------------");
-    gold.append("\n");
-    gold.append("\nFailedValidation");
-    assertStable(live, gold);
-  }
-  private String cached_ContextVariablesBadTypes_2 = null;
-  private String get_ContextVariablesBadTypes_2() {
-    if (cached_ContextVariablesBadTypes_2 != null) {
-      return cached_ContextVariablesBadTypes_2;
-    }
-    cached_ContextVariablesBadTypes_2 = generateTestOutput(false, "ContextVariablesBadTypes_2", "./test_code/Policy_ContextVariablesBadTypes_failure.a");
-    return cached_ContextVariablesBadTypes_2;
-  }
-
-  @Test
-  public void testContextVariablesBadTypesFailure() {
-    assertLiveFail(get_ContextVariablesBadTypes_2());
+  public void testBinarySnapshotBadTypeFailure() {
+    assertLiveFail(get_BinarySnapshotBadType_1());
   }
 
   @Test
-  public void testContextVariablesBadTypesNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_ContextVariablesBadTypes_2());
+  public void testBinarySnapshotBadTypeNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_BinarySnapshotBadType_1());
   }
 
   @Test
-  public void testContextVariablesBadTypesExceptionFree() {
-    assertExceptionFree(get_ContextVariablesBadTypes_2());
+  public void testBinarySnapshotBadTypeExceptionFree() {
+    assertExceptionFree(get_BinarySnapshotBadType_1());
   }
 
   @Test
-  public void testContextVariablesBadTypesTODOFree() {
-    assertTODOFree(get_ContextVariablesBadTypes_2());
+  public void testBinarySnapshotBadTypeTODOFree() {
+    assertTODOFree(get_BinarySnapshotBadType_1());
   }
 
   @Test
-  public void stable_ContextVariablesBadTypes_2() {
-    String live = get_ContextVariablesBadTypes_2();
+  public void stable_BinarySnapshotBadType_1() {
+    String live = get_BinarySnapshotBadType_1();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Policy_ContextVariablesBadTypes_failure.a");
+    gold.append("Path:Policy_BinarySnapshotBadType_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
-    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":2,\"byte\":21},\"end\":{\"line\":1,\"character\":8,\"byte\":27}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: the type 'bool' is unable to store type 'int'.\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":1,\"character\":9,\"byte\":28},\"end\":{\"line\":3,\"character\":3,\"byte\":48}},\"severity\":1,\"source\":\"error\",\"message\":\"The 'create' policy must return a boolean\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":4,\"character\":2,\"byte\":51},\"end\":{\"line\":4,\"character\":8,\"byte\":57}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: the type 'bool' is unable to store type 'string'.\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":4,\"character\":9,\"byte\":58},\"end\":{\"line\":6,\"character\":3,\"byte\":80}},\"severity\":1,\"source\":\"error\",\"message\":\"The 'invent' policy must return a boolean\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":7,\"character\":20,\"byte\":101},\"end\":{\"line\":7,\"character\":24,\"byte\":105}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: must have a type of 'int', but the type is actually 'bool'\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":8,\"character\":20,\"byte\":127},\"end\":{\"line\":8,\"character\":22,\"byte\":129}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: must have a type of 'bool', but the type is actually 'int'\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":20,\"byte\":30},\"end\":{\"line\":1,\"character\":22,\"byte\":32}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: must have a type of 'bool', but the type is actually 'int'\",\"file\":\"./test_code/Policy_BinarySnapshotBadType_failure.a\"}]\"--JAVA---------------------------------------------");
     gold.append("\n");
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_ContextVariables_3 = null;
-  private String get_ContextVariables_3() {
-    if (cached_ContextVariables_3 != null) {
-      return cached_ContextVariables_3;
+  private String cached_BinarySnapshot_2 = null;
+  private String get_BinarySnapshot_2() {
+    if (cached_BinarySnapshot_2 != null) {
+      return cached_BinarySnapshot_2;
     }
-    cached_ContextVariables_3 = generateTestOutput(true, "ContextVariables_3", "./test_code/Policy_ContextVariables_success.a");
-    return cached_ContextVariables_3;
+    cached_BinarySnapshot_2 = generateTestOutput(true, "BinarySnapshot_2", "./test_code/Policy_BinarySnapshot_success.a");
+    return cached_BinarySnapshot_2;
   }
 
   @Test
-  public void testContextVariablesEmission() {
-    assertEmissionGood(get_ContextVariables_3());
+  public void testBinarySnapshotEmission() {
+    assertEmissionGood(get_BinarySnapshot_2());
   }
 
   @Test
-  public void testContextVariablesSuccess() {
-    assertLivePass(get_ContextVariables_3());
+  public void testBinarySnapshotSuccess() {
+    assertLivePass(get_BinarySnapshot_2());
   }
 
   @Test
-  public void testContextVariablesNoFormatException() {
-    assertNoFormatException(get_ContextVariables_3());
+  public void testBinarySnapshotNoFormatException() {
+    assertNoFormatException(get_BinarySnapshot_2());
   }
 
   @Test
-  public void testContextVariablesGoodWillHappy() {
-    assertGoodWillHappy(get_ContextVariables_3());
+  public void testBinarySnapshotGoodWillHappy() {
+    assertGoodWillHappy(get_BinarySnapshot_2());
   }
 
   @Test
-  public void testContextVariablesExceptionFree() {
-    assertExceptionFree(get_ContextVariables_3());
+  public void testBinarySnapshotExceptionFree() {
+    assertExceptionFree(get_BinarySnapshot_2());
   }
 
   @Test
-  public void testContextVariablesTODOFree() {
-    assertTODOFree(get_ContextVariables_3());
+  public void testBinarySnapshotTODOFree() {
+    assertTODOFree(get_BinarySnapshot_2());
   }
 
   @Test
-  public void stable_ContextVariables_3() {
-    String live = get_ContextVariables_3();
+  public void stable_BinarySnapshot_2() {
+    String live = get_BinarySnapshot_2();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Policy_ContextVariables_success.a");
+    gold.append("Path:Policy_BinarySnapshot_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
     gold.append("\nEmission Success, Yay");
     gold.append("\n=FORMAT===================================================");
     gold.append("\n@static {");
-    gold.append("\n  create {");
-    gold.append("\n    return @context.ip == \"127.0.0.1\" && @context.origin == \"internal://\" || @context.who == @who;");
-    gold.append("\n  }");
-    gold.append("\n  invent {");
-    gold.append("\n    return @who == @context.who;");
-    gold.append("\n  }");
-    gold.append("\n  maximum_history = 1 + 1;");
-    gold.append("\n  delete_on_close = false;");
+    gold.append("\n  binary_snapshot = true;");
     gold.append("\n}");
+    gold.append("\npublic int x = 7;");
     gold.append("\n");
     gold.append("\n==========================================================");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -204,14 +158,17 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class ContextVariables_3 extends LivingDocument {");
+    gold.append("\npublic class BinarySnapshot_2 extends LivingDocument {");
+    gold.append("\n  private final RxInt32 x;");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
     gold.append("\n    long __sum = super.__memory() + 2176;");
+    gold.append("\n    __sum += x.__memory();");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public ContextVariables_3(DocumentMonitor __monitor) {");
+    gold.append("\n  public BinarySnapshot_2(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
+    gold.append("\n    x = new RxInt32(this, 7);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
     gold.append("\n  }");
@@ -224,6 +181,9 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__insert(__reader);");
     gold.append("\n            break;");
@@ -312,6 +272,9 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n      while(__reader.notEndOfObject()) {");
     gold.append("\n        String __fieldName = __reader.fieldName();");
     gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            x.__patch(__reader);");
+    gold.append("\n            break;");
     gold.append("\n          case \"__state\":");
     gold.append("\n            __state.__patch(__reader);");
     gold.append("\n            break;");
@@ -398,6 +361,8 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n    __writer.beginObject();");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
     gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"x\");");
+    gold.append("\n    x.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
     gold.append("\n    __state.__dump(__writer);");
     gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
@@ -460,6 +425,7 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
     gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
     gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
+    gold.append("\n    x.__commit(\"x\", __forward, __reverse);");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -477,6 +443,7 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n    __time.__revert();");
     gold.append("\n    __timezone.__revert();");
     gold.append("\n    __webTaskId.__revert();");
+    gold.append("\n    x.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -484,21 +451,26 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaContextVariables_3 implements DeltaNode {");
+    gold.append("\n  private class DeltaBinarySnapshot_2 implements DeltaNode {");
+    gold.append("\n    private DInt32 __dx;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaContextVariables_3() {");
+    gold.append("\n    private DeltaBinarySnapshot_2() {");
+    gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public long __memory() {");
     gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dx.__memory();");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(ContextVariables_3 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(BinarySnapshot_2 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      __code_cost += 1;");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -506,7 +478,8 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void clear() {");
-    gold.append("\n      __code_cost += 0;");
+    gold.append("\n      __dx.clear();");
+    gold.append("\n      __code_cost += 1;");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      if (__emitted) {");
@@ -525,8 +498,8 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    ContextVariables_3 __self = this;");
-    gold.append("\n    DeltaContextVariables_3 __state = new DeltaContextVariables_3();");
+    gold.append("\n    BinarySnapshot_2 __self = this;");
+    gold.append("\n    DeltaBinarySnapshot_2 __state = new DeltaBinarySnapshot_2();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -624,6 +597,10 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -691,31 +668,11 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
-    gold.append("\n  public static boolean __onCanCreate__0(StaticState __static_state, NtPrincipal __who, CoreRequestContext __context) {");
-    gold.append("\n    return (__context.ip).equals(\"127.0.0.1\") && (__context.origin).equals(\"internal://\") || (__context.who).equals(__who);");
-    gold.append("\n  }");
-    gold.append("\n  public static boolean __onCanInvent__0(StaticState __static_state, NtPrincipal __who, CoreRequestContext __context) {");
-    gold.append("\n    return (__who).equals(__context.who);");
-    gold.append("\n  }");
     gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
-    gold.append("\n    boolean __result = false;");
-    gold.append("\n    StaticState __static_state = new StaticState();");
-    gold.append("\n    if (__onCanCreate__0(__static_state, __context.who, __context)) {");
-    gold.append("\n      __result = true;");
-    gold.append("\n    } else {");
-    gold.append("\n      return false;");
-    gold.append("\n    }");
-    gold.append("\n    return __result;");
+    gold.append("\n    return false;");
     gold.append("\n  }");
     gold.append("\n  public static boolean __onCanInvent(CoreRequestContext __context) {");
-    gold.append("\n    boolean __result = false;");
-    gold.append("\n    StaticState __static_state = new StaticState();");
-    gold.append("\n    if (__onCanInvent__0(__static_state, __context.who, __context)) {");
-    gold.append("\n      __result = true;");
-    gold.append("\n    } else {");
-    gold.append("\n      return false;");
-    gold.append("\n    }");
-    gold.append("\n    return __result;");
+    gold.append("\n    return false;");
     gold.append("\n  }");
     gold.append("\n  public static boolean __onCanSendWhileDisconnected(CoreRequestContext __context) {");
     gold.append("\n    return false;");
@@ -740,8 +697,7 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  public void __onDisconnected(CoreRequestContext __cvalue) {}");
     gold.append("\n  public static HashMap<String, Object> __config() {");
     gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
-    gold.append("\n    __map.put(\"maximum_history\", 1 + 1);");
-    gold.append("\n    __map.put(\"delete_on_close\", false);");
+    gold.append("\n    __map.put(\"binary_snapshot\", true);");
     gold.append("\n    return __map;");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -763,128 +719,174 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
     gold.append("\n--=[LivingDocumentFactory MADE]=---");
     gold.append("\n--REFLECTION RESULTS-------------------------------------");
-    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"x\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
     gold.append("\n--JAVA RUNNING-------------------------------------");
     gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__seq\":1} need:false in:0");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
     gold.append("\nCPU:0");
-    gold.append("\nMEMORY:2560");
+    gold.append("\nMEMORY:2608");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
     gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
-    gold.append("\n+ NO_ONE DELTA:{\"seq\":3}");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"x\":7},\"seq\":3}");
     gold.append("\nNO_ONE|FAILURE:184333");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__seq\":4,\"__entropy\":\"7848011421992302230\",\"__time\":\"75\"} need:false in:0");
     gold.append("\nRANDO: CREATED PRIVATE VIEW");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":4}");
-    gold.append("\n+ RANDO DELTA:{\"seq\":4}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"x\":7},\"seq\":4}");
     gold.append("\nRANDO|FAILURE:184333");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__time\":\"100\"} need:false in:0");
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2678");
+    gold.append("\nMEMORY:2886");
     gold.append("\n--JAVA RESULTS-------------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"x\":7,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
     gold.append("\n{}");
     gold.append("\n--METRIC RESULTS-----------------------------------");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
-    gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"x\":7,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"x\":7,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--JAVA TEST RESULTS--------------------------------");
     gold.append("\n");
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_EmptyEnvironment_4 = null;
-  private String get_EmptyEnvironment_4() {
-    if (cached_EmptyEnvironment_4 != null) {
-      return cached_EmptyEnvironment_4;
+  private String cached_ContextOutOfStatic_3 = null;
+  private String get_ContextOutOfStatic_3() {
+    if (cached_ContextOutOfStatic_3 != null) {
+      return cached_ContextOutOfStatic_3;
     }
-    cached_EmptyEnvironment_4 = generateTestOutput(false, "EmptyEnvironment_4", "./test_code/Policy_EmptyEnvironment_failure.a");
-    return cached_EmptyEnvironment_4;
+    cached_ContextOutOfStatic_3 = generateTestOutput(false, "ContextOutOfStatic_3", "./test_code/Policy_ContextOutOfStatic_failure.a");
+    return cached_ContextOutOfStatic_3;
   }
 
   @Test
-  public void testEmptyEnvironmentFailure() {
-    assertLiveFail(get_EmptyEnvironment_4());
+  public void testContextOutOfStaticFailure() {
+    assertLiveFail(get_ContextOutOfStatic_3());
   }
 
   @Test
-  public void testEmptyEnvironmentNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_EmptyEnvironment_4());
+  public void testContextOutOfStaticNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_ContextOutOfStatic_3());
   }
 
   @Test
-  public void testEmptyEnvironmentExceptionFree() {
-    assertExceptionFree(get_EmptyEnvironment_4());
+  public void testContextOutOfStaticExceptionFree() {
+    assertExceptionFree(get_ContextOutOfStatic_3());
   }
 
   @Test
-  public void testEmptyEnvironmentTODOFree() {
-    assertTODOFree(get_EmptyEnvironment_4());
+  public void testContextOutOfStaticTODOFree() {
+    assertTODOFree(get_ContextOutOfStatic_3());
   }
 
   @Test
-  public void stable_EmptyEnvironment_4() {
-    String live = get_EmptyEnvironment_4();
+  public void stable_ContextOutOfStatic_3() {
+    String live = get_ContextOutOfStatic_3();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Policy_EmptyEnvironment_failure.a");
+    gold.append("Path:Policy_ContextOutOfStatic_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
-    gold.append("\n[{\"range\":{\"start\":{\"line\":3,\"character\":20,\"byte\":51},\"end\":{\"line\":3,\"character\":21,\"byte\":52}},\"severity\":1,\"source\":\"error\",\"message\":\"The variable 'x' was not defined\",\"file\":\"./test_code/Policy_EmptyEnvironment_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":11,\"byte\":17},\"end\":{\"line\":1,\"character\":19,\"byte\":25}},\"severity\":1,\"source\":\"error\",\"message\":\"@context is only available within static policies, constructors, document events, authorize handler, message handlers, traffic hinting, or web handlers\",\"file\":\"./test_code/Policy_ContextOutOfStatic_failure.a\"}]\"--JAVA---------------------------------------------");
     gold.append("\n");
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_Happy_5 = null;
-  private String get_Happy_5() {
-    if (cached_Happy_5 != null) {
-      return cached_Happy_5;
+  private String cached_ContextVariablesBadTypes_4 = null;
+  private String get_ContextVariablesBadTypes_4() {
+    if (cached_ContextVariablesBadTypes_4 != null) {
+      return cached_ContextVariablesBadTypes_4;
     }
-    cached_Happy_5 = generateTestOutput(true, "Happy_5", "./test_code/Policy_Happy_success.a");
-    return cached_Happy_5;
+    cached_ContextVariablesBadTypes_4 = generateTestOutput(false, "ContextVariablesBadTypes_4", "./test_code/Policy_ContextVariablesBadTypes_failure.a");
+    return cached_ContextVariablesBadTypes_4;
   }
 
   @Test
-  public void testHappyEmission() {
-    assertEmissionGood(get_Happy_5());
+  public void testContextVariablesBadTypesFailure() {
+    assertLiveFail(get_ContextVariablesBadTypes_4());
   }
 
   @Test
-  public void testHappySuccess() {
-    assertLivePass(get_Happy_5());
+  public void testContextVariablesBadTypesNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_ContextVariablesBadTypes_4());
   }
 
   @Test
-  public void testHappyNoFormatException() {
-    assertNoFormatException(get_Happy_5());
+  public void testContextVariablesBadTypesExceptionFree() {
+    assertExceptionFree(get_ContextVariablesBadTypes_4());
   }
 
   @Test
-  public void testHappyGoodWillHappy() {
-    assertGoodWillHappy(get_Happy_5());
+  public void testContextVariablesBadTypesTODOFree() {
+    assertTODOFree(get_ContextVariablesBadTypes_4());
   }
 
   @Test
-  public void testHappyExceptionFree() {
-    assertExceptionFree(get_Happy_5());
+  public void stable_ContextVariablesBadTypes_4() {
+    String live = get_ContextVariablesBadTypes_4();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_ContextVariablesBadTypes_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":2,\"byte\":21},\"end\":{\"line\":1,\"character\":8,\"byte\":27}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: the type 'bool' is unable to store type 'int'.\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":1,\"character\":9,\"byte\":28},\"end\":{\"line\":3,\"character\":3,\"byte\":48}},\"severity\":1,\"source\":\"error\",\"message\":\"The 'create' policy must return a boolean\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":4,\"character\":2,\"byte\":51},\"end\":{\"line\":4,\"character\":8,\"byte\":57}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: the type 'bool' is unable to store type 'string'.\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":4,\"character\":9,\"byte\":58},\"end\":{\"line\":6,\"character\":3,\"byte\":80}},\"severity\":1,\"source\":\"error\",\"message\":\"The 'invent' policy must return a boolean\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":7,\"character\":20,\"byte\":101},\"end\":{\"line\":7,\"character\":24,\"byte\":105}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: must have a type of 'int', but the type is actually 'bool'\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"},{\"range\":{\"start\":{\"line\":8,\"character\":20,\"byte\":127},\"end\":{\"line\":8,\"character\":22,\"byte\":129}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: must have a type of 'bool', but the type is actually 'int'\",\"file\":\"./test_code/Policy_ContextVariablesBadTypes_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_ContextVariables_5 = null;
+  private String get_ContextVariables_5() {
+    if (cached_ContextVariables_5 != null) {
+      return cached_ContextVariables_5;
+    }
+    cached_ContextVariables_5 = generateTestOutput(true, "ContextVariables_5", "./test_code/Policy_ContextVariables_success.a");
+    return cached_ContextVariables_5;
   }
 
   @Test
-  public void testHappyTODOFree() {
-    assertTODOFree(get_Happy_5());
+  public void testContextVariablesEmission() {
+    assertEmissionGood(get_ContextVariables_5());
+  }
+
+  @Test
+  public void testContextVariablesSuccess() {
+    assertLivePass(get_ContextVariables_5());
+  }
+
+  @Test
+  public void testContextVariablesNoFormatException() {
+    assertNoFormatException(get_ContextVariables_5());
+  }
+
+  @Test
+  public void testContextVariablesGoodWillHappy() {
+    assertGoodWillHappy(get_ContextVariables_5());
+  }
+
+  @Test
+  public void testContextVariablesExceptionFree() {
+    assertExceptionFree(get_ContextVariables_5());
+  }
+
+  @Test
+  public void testContextVariablesTODOFree() {
+    assertTODOFree(get_ContextVariables_5());
   }
 
   @Test
-  public void stable_Happy_5() {
-    String live = get_Happy_5();
+  public void stable_ContextVariables_5() {
+    String live = get_ContextVariables_5();
     StringBuilder gold = new StringBuilder();
-    gold.append("Path:Policy_Happy_success.a");
+    gold.append("Path:Policy_ContextVariables_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
     gold.append("\nEmission Success, Yay");
     gold.append("\n=FORMAT===================================================");
     gold.append("\n@static {");
+    gold.append("\n  create {");
+    gold.append("\n    return @context.ip == \"127.0.0.1\" && @context.origin == \"internal://\" || @context.who == @who;");
+    gold.append("\n  }");
+    gold.append("\n  invent {");
+    gold.append("\n    return @who == @context.who;");
+    gold.append("\n  }");
     gold.append("\n  maximum_history = 1 + 1;");
-    gold.append("\n  delete_on_close = true;");
+    gold.append("\n  delete_on_close = false;");
     gold.append("\n}");
     gold.append("\n");
     gold.append("\n==========================================================");
@@ -925,13 +927,13 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\nimport java.util.HashSet;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.util.Set;");
-    gold.append("\npublic class Happy_5 extends LivingDocument {");
+    gold.append("\npublic class ContextVariables_5 extends LivingDocument {");
     gold.append("\n  @Override");
     gold.append("\n  public long __memory() {");
     gold.append("\n    long __sum = super.__memory() + 2176;");
     gold.append("\n    return __sum;");
     gold.append("\n  }");
-    gold.append("\n  public Happy_5(DocumentMonitor __monitor) {");
+    gold.append("\n  public ContextVariables_5(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
@@ -1205,9 +1207,9 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  public class DeltaPrivacyCache {");
     gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaHappy_5 implements DeltaNode {");
+    gold.append("\n  private class DeltaContextVariables_5 implements DeltaNode {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaHappy_5() {");
+    gold.append("\n    private DeltaContextVariables_5() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    @Override");
@@ -1215,7 +1217,7 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n      long __sum = 40;");
     gold.append("\n      return __sum;");
     gold.append("\n    }");
-    gold.append("\n    public boolean show(Happy_5 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public boolean show(ContextVariables_5 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
     gold.append("\n      __writer.setCacheObject(__policy_cache);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
@@ -1246,8 +1248,8 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
-    gold.append("\n    Happy_5 __self = this;");
-    gold.append("\n    DeltaHappy_5 __state = new DeltaHappy_5();");
+    gold.append("\n    ContextVariables_5 __self = this;");
+    gold.append("\n    DeltaContextVariables_5 __state = new DeltaContextVariables_5();");
     gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
     gold.append("\n    int __viewId = __genViewId();");
     gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
@@ -1345,6 +1347,10 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n    return \"[]\";");
     gold.append("\n  }");
     gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
     gold.append("\n  protected boolean __is_direct_channel(String channel) {");
     gold.append("\n    return false;");
     gold.append("\n  }");
@@ -1412,11 +1418,31 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public static boolean __onCanCreate__0(StaticState __static_state, NtPrincipal __who, CoreRequestContext __context) {");
+    gold.append("\n    return (__context.ip).equals(\"127.0.0.1\") && (__context.origin).equals(\"internal://\") || (__context.who).equals(__who);");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanInvent__0(StaticState __static_state, NtPrincipal __who, CoreRequestContext __context) {");
+    gold.append("\n    return (__who).equals(__context.who);");
+    gold.append("\n  }");
     gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
-    gold.append("\n    return false;");
+    gold.append("\n    boolean __result = false;");
+    gold.append("\n    StaticState __static_state = new StaticState();");
+    gold.append("\n    if (__onCanCreate__0(__static_state, __context.who, __context)) {");
+    gold.append("\n      __result = true;");
+    gold.append("\n    } else {");
+    gold.append("\n      return false;");
+    gold.append("\n    }");
+    gold.append("\n    return __result;");
     gold.append("\n  }");
     gold.append("\n  public static boolean __onCanInvent(CoreRequestContext __context) {");
-    gold.append("\n    return false;");
+    gold.append("\n    boolean __result = false;");
+    gold.append("\n    StaticState __static_state = new StaticState();");
+    gold.append("\n    if (__onCanInvent__0(__static_state, __context.who, __context)) {");
+    gold.append("\n      __result = true;");
+    gold.append("\n    } else {");
+    gold.append("\n      return false;");
+    gold.append("\n    }");
+    gold.append("\n    return __result;");
     gold.append("\n  }");
     gold.append("\n  public static boolean __onCanSendWhileDisconnected(CoreRequestContext __context) {");
     gold.append("\n    return false;");
@@ -1442,7 +1468,7 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\n  public static HashMap<String, Object> __config() {");
     gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
     gold.append("\n    __map.put(\"maximum_history\", 1 + 1);");
-    gold.append("\n    __map.put(\"delete_on_close\", true);");
+    gold.append("\n    __map.put(\"delete_on_close\", false);");
     gold.append("\n    return __map;");
     gold.append("\n  }");
     gold.append("\n  @Override");
@@ -1483,7 +1509,7 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\nRANDO|SUCCESS:5");
     gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
     gold.append("\n+ RANDO DELTA:{\"seq\":5}");
-    gold.append("\nMEMORY:2678");
+    gold.append("\nMEMORY:2718");
     gold.append("\n--JAVA RESULTS-------------------------------------");
     gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
@@ -1496,4 +1522,1893 @@ public class GeneratedPolicyTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
+  private String cached_EmptyEnvironment_6 = null;
+  private String get_EmptyEnvironment_6() {
+    if (cached_EmptyEnvironment_6 != null) {
+      return cached_EmptyEnvironment_6;
+    }
+    cached_EmptyEnvironment_6 = generateTestOutput(false, "EmptyEnvironment_6", "./test_code/Policy_EmptyEnvironment_failure.a");
+    return cached_EmptyEnvironment_6;
+  }
+
+  @Test
+  public void testEmptyEnvironmentFailure() {
+    assertLiveFail(get_EmptyEnvironment_6());
+  }
+
+  @Test
+  public void testEmptyEnvironmentNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_EmptyEnvironment_6());
+  }
+
+  @Test
+  public void testEmptyEnvironmentExceptionFree() {
+    assertExceptionFree(get_EmptyEnvironment_6());
+  }
+
+  @Test
+  public void testEmptyEnvironmentTODOFree() {
+    assertTODOFree(get_EmptyEnvironment_6());
+  }
+
+  @Test
+  public void stable_EmptyEnvironment_6() {
+    String live = get_EmptyEnvironment_6();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_EmptyEnvironment_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":3,\"character\":20,\"byte\":51},\"end\":{\"line\":3,\"character\":21,\"byte\":52}},\"severity\":1,\"source\":\"error\",\"message\":\"The variable 'x' was not defined\",\"file\":\"./test_code/Policy_EmptyEnvironment_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_Happy_7 = null;
+  private String get_Happy_7() {
+    if (cached_Happy_7 != null) {
+      return cached_Happy_7;
+    }
+    cached_Happy_7 = generateTestOutput(true, "Happy_7", "./test_code/Policy_Happy_success.a");
+    return cached_Happy_7;
+  }
+
+  @Test
+  public void testHappyEmission() {
+    assertEmissionGood(get_Happy_7());
+  }
+
+  @Test
+  public void testHappySuccess() {
+    assertLivePass(get_Happy_7());
+  }
+
+  @Test
+  public void testHappyNoFormatException() {
+    assertNoFormatException(get_Happy_7());
+  }
+
+  @Test
+  public void testHappyGoodWillHappy() {
+    assertGoodWillHappy(get_Happy_7());
+  }
+
+  @Test
+  public void testHappyExceptionFree() {
+    assertExceptionFree(get_Happy_7());
+  }
+
+  @Test
+  public void testHappyTODOFree() {
+    assertTODOFree(get_Happy_7());
+  }
+
+  @Test
+  public void stable_Happy_7() {
+    String live = get_Happy_7();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_Happy_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n=FORMAT===================================================");
+    gold.append("\n@static {");
+    gold.append("\n  maximum_history = 1 + 1;");
+    gold.append("\n  delete_on_close = true;");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n==========================================================");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[]\"--JAVA---------------------------------------------");
+    gold.append("\nimport ape.common.ErrorCodeException;");
+    gold.append("\nimport ape.common.Pair;");
+    gold.append("\nimport ape.common.SimpleCancel;");
+    gold.append("\nimport ape.common.Stream;");
+    gold.append("\nimport ape.ErrorCodes;");
+    gold.append("\nimport ape.runtime.async.*;");
+    gold.append("\nimport ape.runtime.contracts.*;");
+    gold.append("\nimport ape.runtime.delta.*;");
+    gold.append("\nimport ape.runtime.exceptions.*;");
+    gold.append("\nimport ape.runtime.graph.*;");
+    gold.append("\nimport ape.runtime.index.*;");
+    gold.append("\nimport ape.runtime.json.*;");
+    gold.append("\nimport ape.runtime.natives.*;");
+    gold.append("\nimport ape.runtime.natives.algo.*;");
+    gold.append("\nimport ape.runtime.natives.lists.*;");
+    gold.append("\nimport ape.runtime.ops.*;");
+    gold.append("\nimport ape.runtime.reactives.*;");
+    gold.append("\nimport ape.runtime.reactives.tables.*;");
+    gold.append("\nimport ape.runtime.remote.*;");
+    gold.append("\nimport ape.runtime.remote.client.*;");
+    gold.append("\nimport ape.runtime.remote.replication.*;");
+    gold.append("\nimport ape.runtime.stdlib.*;");
+    gold.append("\nimport ape.runtime.sys.*;");
+    gold.append("\nimport ape.runtime.sys.cron.*;");
+    gold.append("\nimport ape.runtime.sys.web.*;");
+    gold.append("\nimport ape.runtime.text.*;");
+    gold.append("\nimport java.time.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.HashMap;");
+    gold.append("\nimport java.util.HashSet;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.util.Set;");
+    gold.append("\npublic class Happy_7 extends LivingDocument {");
+    gold.append("\n  @Override");
+    gold.append("\n  public long __memory() {");
+    gold.append("\n    long __sum = super.__memory() + 2176;");
+    gold.append("\n    return __sum;");
+    gold.append("\n  }");
+    gold.append("\n  public Happy_7(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__insert(__reader);");
+    gold.append("\n            __timezoneCachedZoneId = ZoneId.of(__timezone.get());");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
+    gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__last_expire_time\");");
+    gold.append("\n    __last_expire_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__timezone\");");
+    gold.append("\n    __timezone.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_table_row_id\");");
+    gold.append("\n    __auto_table_row_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_gen\");");
+    gold.append("\n    __auto_gen.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_cache_id\");");
+    gold.append("\n    __auto_cache_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__cache\");");
+    gold.append("\n    __cache.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__webTaskId\");");
+    gold.append("\n    __webTaskId.__dump(__writer);");
+    gold.append("\n    __dumpDeduper(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __dumpEnqueuedTaskManager(__writer);");
+    gold.append("\n    __dumpTimeouts(__writer);");
+    gold.append("\n    __dumpWebQueue(__writer);");
+    gold.append("\n    __dumpReplicationEngine(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n    __state.__commit(\"__state\", __forward, __reverse);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __forward, __reverse);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __forward, __reverse);");
+    gold.append("\n    __last_expire_time.__commit(\"__last_expire_time\", __forward, __reverse);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __forward, __reverse);");
+    gold.append("\n    __seq.__commit(\"__seq\", __forward, __reverse);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __forward, __reverse);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __forward, __reverse);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __forward, __reverse);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __forward, __reverse);");
+    gold.append("\n    __time.__commit(\"__time\", __forward, __reverse);");
+    gold.append("\n    __timezone.__commit(\"__timezone\", __forward, __reverse);");
+    gold.append("\n    __auto_table_row_id.__commit(\"__auto_table_row_id\", __forward, __reverse);");
+    gold.append("\n    __auto_gen.__commit(\"__auto_gen\", __forward, __reverse);");
+    gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
+    gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
+    gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __last_expire_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    __timezone.__revert();");
+    gold.append("\n    __webTaskId.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n  public class DeltaPrivacyCache {");
+    gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaHappy_7 implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaHappy_7() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(Happy_7 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
+    gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public Set<String> __get_intern_strings() {");
+    gold.append("\n    HashSet<String> __interns = new HashSet<>();");
+    gold.append("\n    __interns.add(\"\");");
+    gold.append("\n    __interns.add(\"?\");");
+    gold.append("\n    return __interns;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
+    gold.append("\n    Happy_7 __self = this;");
+    gold.append("\n    DeltaHappy_7 __state = new DeltaHappy_7();");
+    gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
+    gold.append("\n    int __viewId = __genViewId();");
+    gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public long memory() {");
+    gold.append("\n        return __state.__memory();");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void dumpViewer(JsonStreamWriter __writer) {");
+    gold.append("\n        __viewerState.__writeOut(__writer);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void ingest(JsonStreamReader __reader) {");
+    gold.append("\n        __viewerState.__ingest(__reader);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer, __viewerState, __viewId));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx__ViewerType extends NtMessageBase {");
+    gold.append("\n    private final RTx__ViewerType __this;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() { return 64; }");
+    gold.append("\n    public void __reset() {}");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS___ViewerType = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS___ViewerType;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTx__ViewerType(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustSkipObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx__ViewerType() { __this = this; }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx__ViewerType implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx__ViewerType() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx__ViewerType __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __code_cost += 0;");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  public static HashMap<String, HashMap<String, Object>> __services() {");
+    gold.append("\n    HashMap<String, HashMap<String, Object>> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  public static void __create_generic_clients(ServiceRegistry __registry, HeaderDecryptor decryptor) throws Exception {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __link(ServiceRegistry __registry) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Service __findService(String __name) { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __getViewStateFilter() {");
+    gold.append("\n    return \"[]\";");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return NtPrincipal.NO_ONE;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected boolean __is_direct_channel(String channel) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __handle_direct(CoreRequestContext context, String channel, Object __message) throws AbortMessageException {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public SimpleCancel __export(CoreRequestContext __context, String __name, String __viewerState, Stream<String> __stream) {");
+    gold.append("\n    __stream.failure(new ErrorCodeException(ErrorCodes.LIVING_DOCUMENT_NO_EXPORT_BY_NAME));");
+    gold.append("\n    return SimpleCancel.NOTHING_TO_CANCEL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __metrics() { return \"{}\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __traffic(CoreRequestContext __context) { return \"\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __debug(JsonStreamWriter __writer) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected long __computeGraphs() { return 0; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __open_channel(String name) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public AuthResponse __authpipe(CoreRequestContext __context, String __message) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __make_cron_progress() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_cron() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Long __predict_cron_wake_time() { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __get_internal(CoreRequestContext __context, WebGet __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __put_internal(CoreRequestContext __context, WebPut __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __delete_internal(CoreRequestContext __context, WebDelete __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public WebResponse __options(CoreRequestContext __context, WebGet __request) {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanInvent(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanSendWhileDisconnected(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onLoad() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onCanAssetAttached(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onAssetAttached(CoreRequestContext __cvalue, NtAsset __pvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __delete(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(CoreRequestContext __cvalue) {}");
+    gold.append("\n  public static HashMap<String, Object> __config() {");
+    gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
+    gold.append("\n    __map.put(\"maximum_history\", 1 + 1);");
+    gold.append("\n    __map.put(\"delete_on_close\", true);");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(CoreRequestContext _c, NtMessageBase _m) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
+    gold.append("\n--=[LivingDocumentFactory MADE]=---");
+    gold.append("\n--REFLECTION RESULTS-------------------------------------");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__seq\":1} need:false in:0");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
+    gold.append("\nCPU:0");
+    gold.append("\nMEMORY:2560");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
+    gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":3}");
+    gold.append("\nNO_ONE|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__seq\":4,\"__entropy\":\"7848011421992302230\",\"__time\":\"75\"} need:false in:0");
+    gold.append("\nRANDO: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":4}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":4}");
+    gold.append("\nRANDO|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__time\":\"100\"} need:false in:0");
+    gold.append("\nRANDO|SUCCESS:5");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":5}");
+    gold.append("\nMEMORY:2718");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{}");
+    gold.append("\n--METRIC RESULTS-----------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
+    assertStable(live, gold);
+  }
+  private String cached_ParallelBroadcastBadType_8 = null;
+  private String get_ParallelBroadcastBadType_8() {
+    if (cached_ParallelBroadcastBadType_8 != null) {
+      return cached_ParallelBroadcastBadType_8;
+    }
+    cached_ParallelBroadcastBadType_8 = generateTestOutput(false, "ParallelBroadcastBadType_8", "./test_code/Policy_ParallelBroadcastBadType_failure.a");
+    return cached_ParallelBroadcastBadType_8;
+  }
+
+  @Test
+  public void testParallelBroadcastBadTypeFailure() {
+    assertLiveFail(get_ParallelBroadcastBadType_8());
+  }
+
+  @Test
+  public void testParallelBroadcastBadTypeNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_ParallelBroadcastBadType_8());
+  }
+
+  @Test
+  public void testParallelBroadcastBadTypeExceptionFree() {
+    assertExceptionFree(get_ParallelBroadcastBadType_8());
+  }
+
+  @Test
+  public void testParallelBroadcastBadTypeTODOFree() {
+    assertTODOFree(get_ParallelBroadcastBadType_8());
+  }
+
+  @Test
+  public void stable_ParallelBroadcastBadType_8() {
+    String live = get_ParallelBroadcastBadType_8();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_ParallelBroadcastBadType_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":23,\"byte\":33},\"end\":{\"line\":1,\"character\":27,\"byte\":37}},\"severity\":1,\"source\":\"error\",\"message\":\"Type check failure: must have a type of 'int', but the type is actually 'bool'\",\"file\":\"./test_code/Policy_ParallelBroadcastBadType_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_ParallelBroadcastBubble_9 = null;
+  private String get_ParallelBroadcastBubble_9() {
+    if (cached_ParallelBroadcastBubble_9 != null) {
+      return cached_ParallelBroadcastBubble_9;
+    }
+    cached_ParallelBroadcastBubble_9 = generateTestOutput(false, "ParallelBroadcastBubble_9", "./test_code/Policy_ParallelBroadcastBubble_failure.a");
+    return cached_ParallelBroadcastBubble_9;
+  }
+
+  @Test
+  public void testParallelBroadcastBubbleFailure() {
+    assertLiveFail(get_ParallelBroadcastBubble_9());
+  }
+
+  @Test
+  public void testParallelBroadcastBubbleNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_ParallelBroadcastBubble_9());
+  }
+
+  @Test
+  public void testParallelBroadcastBubbleExceptionFree() {
+    assertExceptionFree(get_ParallelBroadcastBubble_9());
+  }
+
+  @Test
+  public void testParallelBroadcastBubbleTODOFree() {
+    assertTODOFree(get_ParallelBroadcastBubble_9());
+  }
+
+  @Test
+  public void stable_ParallelBroadcastBubble_9() {
+    String live = get_ParallelBroadcastBubble_9();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_ParallelBroadcastBubble_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":23,\"byte\":33},\"end\":{\"line\":1,\"character\":25,\"byte\":35}},\"severity\":1,\"source\":\"error\",\"message\":\"parallel_broadcast requires views to be independent, but bubbles share table and map guards between views\",\"file\":\"./test_code/Policy_ParallelBroadcastBubble_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_ParallelBroadcastPolicy_10 = null;
+  private String get_ParallelBroadcastPolicy_10() {
+    if (cached_ParallelBroadcastPolicy_10 != null) {
+      return cached_ParallelBroadcastPolicy_10;
+    }
+    cached_ParallelBroadcastPolicy_10 = generateTestOutput(false, "ParallelBroadcastPolicy_10", "./test_code/Policy_ParallelBroadcastPolicy_failure.a");
+    return cached_ParallelBroadcastPolicy_10;
+  }
+
+  @Test
+  public void testParallelBroadcastPolicyFailure() {
+    assertLiveFail(get_ParallelBroadcastPolicy_10());
+  }
+
+  @Test
+  public void testParallelBroadcastPolicyNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_ParallelBroadcastPolicy_10());
+  }
+
+  @Test
+  public void testParallelBroadcastPolicyExceptionFree() {
+    assertExceptionFree(get_ParallelBroadcastPolicy_10());
+  }
+
+  @Test
+  public void testParallelBroadcastPolicyTODOFree() {
+    assertTODOFree(get_ParallelBroadcastPolicy_10());
+  }
+
+  @Test
+  public void stable_ParallelBroadcastPolicy_10() {
+    String live = get_ParallelBroadcastPolicy_10();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_ParallelBroadcastPolicy_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":23,\"byte\":33},\"end\":{\"line\":1,\"character\":25,\"byte\":35}},\"severity\":1,\"source\":\"error\",\"message\":\"parallel_broadcast requires views to be independent, but custom policies run code for each viewer\",\"file\":\"./test_code/Policy_ParallelBroadcastPolicy_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_ParallelBroadcastTableFormula_11 = null;
+  private String get_ParallelBroadcastTableFormula_11() {
+    if (cached_ParallelBroadcastTableFormula_11 != null) {
+      return cached_ParallelBroadcastTableFormula_11;
+    }
+    cached_ParallelBroadcastTableFormula_11 = generateTestOutput(false, "ParallelBroadcastTableFormula_11", "./test_code/Policy_ParallelBroadcastTableFormula_failure.a");
+    return cached_ParallelBroadcastTableFormula_11;
+  }
+
+  @Test
+  public void testParallelBroadcastTableFormulaFailure() {
+    assertLiveFail(get_ParallelBroadcastTableFormula_11());
+  }
+
+  @Test
+  public void testParallelBroadcastTableFormulaNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_ParallelBroadcastTableFormula_11());
+  }
+
+  @Test
+  public void testParallelBroadcastTableFormulaExceptionFree() {
+    assertExceptionFree(get_ParallelBroadcastTableFormula_11());
+  }
+
+  @Test
+  public void testParallelBroadcastTableFormulaTODOFree() {
+    assertTODOFree(get_ParallelBroadcastTableFormula_11());
+  }
+
+  @Test
+  public void stable_ParallelBroadcastTableFormula_11() {
+    String live = get_ParallelBroadcastTableFormula_11();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_ParallelBroadcastTableFormula_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[{\"range\":{\"start\":{\"line\":1,\"character\":23,\"byte\":33},\"end\":{\"line\":1,\"character\":25,\"byte\":35}},\"severity\":1,\"source\":\"error\",\"message\":\"parallel_broadcast requires views to be independent, but formulas which read tables, maps, services, or graphs share state between views\",\"file\":\"./test_code/Policy_ParallelBroadcastTableFormula_failure.a\"}]\"--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_ParallelBroadcast_12 = null;
+  private String get_ParallelBroadcast_12() {
+    if (cached_ParallelBroadcast_12 != null) {
+      return cached_ParallelBroadcast_12;
+    }
+    cached_ParallelBroadcast_12 = generateTestOutput(true, "ParallelBroadcast_12", "./test_code/Policy_ParallelBroadcast_success.a");
+    return cached_ParallelBroadcast_12;
+  }
+
+  @Test
+  public void testParallelBroadcastEmission() {
+    assertEmissionGood(get_ParallelBroadcast_12());
+  }
+
+  @Test
+  public void testParallelBroadcastSuccess() {
+    assertLivePass(get_ParallelBroadcast_12());
+  }
+
+  @Test
+  public void testParallelBroadcastNoFormatException() {
+    assertNoFormatException(get_ParallelBroadcast_12());
+  }
+
+  @Test
+  public void testParallelBroadcastGoodWillHappy() {
+    assertGoodWillHappy(get_ParallelBroadcast_12());
+  }
+
+  @Test
+  public void testParallelBroadcastExceptionFree() {
+    assertExceptionFree(get_ParallelBroadcast_12());
+  }
+
+  @Test
+  public void testParallelBroadcastTODOFree() {
+    assertTODOFree(get_ParallelBroadcast_12());
+  }
+
+  @Test
+  public void stable_ParallelBroadcast_12() {
+    String live = get_ParallelBroadcast_12();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:Policy_ParallelBroadcast_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n=FORMAT===================================================");
+    gold.append("\n@static {");
+    gold.append("\n  parallel_broadcast = 64;");
+    gold.append("\n}");
+    gold.append("\npublic int x = 7;");
+    gold.append("\npublic formula y = x * 2;");
+    gold.append("\nrecord R {");
+    gold.append("\n  public int id;");
+    gold.append("\n  public principal who;");
+    gold.append("\n  public int z;");
+    gold.append("\n  viewer_is<who> formula w = z + 1;");
+    gold.append("\n}");
+    gold.append("\ntable<R> _rows;");
+    gold.append("\npublic map<int, R> byId;");
+    gold.append("\n");
+    gold.append("\n==========================================================");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[]\"--JAVA---------------------------------------------");
+    gold.append("\nimport ape.common.ErrorCodeException;");
+    gold.append("\nimport ape.common.Pair;");
+    gold.append("\nimport ape.common.SimpleCancel;");
+    gold.append("\nimport ape.common.Stream;");
+    gold.append("\nimport ape.ErrorCodes;");
+    gold.append("\nimport ape.runtime.async.*;");
+    gold.append("\nimport ape.runtime.contracts.*;");
+    gold.append("\nimport ape.runtime.delta.*;");
+    gold.append("\nimport ape.runtime.exceptions.*;");
+    gold.append("\nimport ape.runtime.graph.*;");
+    gold.append("\nimport ape.runtime.index.*;");
+    gold.append("\nimport ape.runtime.json.*;");
+    gold.append("\nimport ape.runtime.natives.*;");
+    gold.append("\nimport ape.runtime.natives.algo.*;");
+    gold.append("\nimport ape.runtime.natives.lists.*;");
+    gold.append("\nimport ape.runtime.ops.*;");
+    gold.append("\nimport ape.runtime.reactives.*;");
+    gold.append("\nimport ape.runtime.reactives.tables.*;");
+    gold.append("\nimport ape.runtime.remote.*;");
+    gold.append("\nimport ape.runtime.remote.client.*;");
+    gold.append("\nimport ape.runtime.remote.replication.*;");
+    gold.append("\nimport ape.runtime.stdlib.*;");
+    gold.append("\nimport ape.runtime.sys.*;");
+    gold.append("\nimport ape.runtime.sys.cron.*;");
+    gold.append("\nimport ape.runtime.sys.web.*;");
+    gold.append("\nimport ape.runtime.text.*;");
+    gold.append("\nimport java.time.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.HashMap;");
+    gold.append("\nimport java.util.HashSet;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.util.Set;");
+    gold.append("\npublic class ParallelBroadcast_12 extends LivingDocument {");
+    gold.append("\n  private final RxInt32 x;");
+    gold.append("\n  private final RxLazy<Integer> y;");
+    gold.append("\n  private final RxTable<RTxR> _rows;");
+    gold.append("\n  private final RxMap<Integer,RTxR> byId;");
+    gold.append("\n  @Override");
+    gold.append("\n  public long __memory() {");
+    gold.append("\n    long __sum = super.__memory() + 2176;");
+    gold.append("\n    __sum += x.__memory();");
+    gold.append("\n    __sum += y.__memory();");
+    gold.append("\n    __sum += _rows.__memory();");
+    gold.append("\n    __sum += byId.__memory();");
+    gold.append("\n    return __sum;");
+    gold.append("\n  }");
+    gold.append("\n  public ParallelBroadcast_12(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    x = new RxInt32(this, 7);");
+    gold.append("\n    y = new RxLazy<Integer>(this, () -> (Integer)(x.get() * 2), null);");
+    gold.append("\n    _rows = new RxTable<>(__self, this, \"_rows\", (RxParent __parent) -> new RTxR(__parent).__link(), 0);");
+    gold.append("\n    byId = new RxMap<Integer,RTxR>(this, new RxMap.IntegerCodec<RTxR>() { @Override public RTxR make(RxParent __parent) { return new RTxR(__parent).__link();} });");
+    gold.append("\n    x.__subscribe(y);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n    y.__settleAndCompute(__viewers);");
+    gold.append("\n    _rows.__settle(__viewers);");
+    gold.append("\n    byId.__settle(__viewers);");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"_rows\":");
+    gold.append("\n            _rows.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"byId\":");
+    gold.append("\n            byId.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__insert(__reader);");
+    gold.append("\n            __timezoneCachedZoneId = ZoneId.of(__timezone.get());");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__insert(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        String __fieldName = __reader.fieldName();");
+    gold.append("\n        switch (__fieldName) {");
+    gold.append("\n          case \"x\":");
+    gold.append("\n            x.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"_rows\":");
+    gold.append("\n            _rows.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"byId\":");
+    gold.append("\n            byId.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__state\":");
+    gold.append("\n            __state.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__constructed\":");
+    gold.append("\n            __constructed.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__next_time\":");
+    gold.append("\n            __next_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__last_expire_time\":");
+    gold.append("\n            __last_expire_time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__blocked\":");
+    gold.append("\n            __blocked.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__seq\":");
+    gold.append("\n            __seq.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__entropy\":");
+    gold.append("\n            __entropy.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_future_id\":");
+    gold.append("\n            __auto_future_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__connection_id\":");
+    gold.append("\n            __connection_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__message_id\":");
+    gold.append("\n            __message_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__time\":");
+    gold.append("\n            __time.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timezone\":");
+    gold.append("\n            __timezone.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_table_row_id\":");
+    gold.append("\n            __auto_table_row_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_gen\":");
+    gold.append("\n            __auto_gen.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__auto_cache_id\":");
+    gold.append("\n            __auto_cache_id.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__cache\":");
+    gold.append("\n            __cache.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webTaskId\":");
+    gold.append("\n            __webTaskId.__patch(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__dedupe\":");
+    gold.append("\n            __hydrateDeduper(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__clients\":");
+    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__messages\":");
+    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__enqueued\":");
+    gold.append("\n            __hydrateEnqueuedTaskManager(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__webqueue\":");
+    gold.append("\n            __hydrateWebQueue(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__timeouts\":");
+    gold.append("\n            __hydrateTimeouts(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__replication\":");
+    gold.append("\n            __hydrateReplicationEngine(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"__log\":");
+    gold.append("\n            __hydrateLog(__reader);");
+    gold.append("\n            break;");
+    gold.append("\n          default:");
+    gold.append("\n            __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__snapshot\");");
+    gold.append("\n    __writer.writeString(__space + \"/\" + __key);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"x\");");
+    gold.append("\n    x.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"_rows\");");
+    gold.append("\n    _rows.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"byId\");");
+    gold.append("\n    byId.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__last_expire_time\");");
+    gold.append("\n    __last_expire_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__timezone\");");
+    gold.append("\n    __timezone.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_table_row_id\");");
+    gold.append("\n    __auto_table_row_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_gen\");");
+    gold.append("\n    __auto_gen.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_cache_id\");");
+    gold.append("\n    __auto_cache_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__cache\");");
+    gold.append("\n    __cache.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__webTaskId\");");
+    gold.append("\n    __webTaskId.__dump(__writer);");
+    gold.append("\n    __dumpDeduper(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __dumpEnqueuedTaskManager(__writer);");
+    gold.append("\n    __dumpTimeouts(__writer);");
+    gold.append("\n    __dumpWebQueue(__writer);");
+    gold.append("\n    __dumpReplicationEngine(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n    __state.__commit(\"__state\", __forward, __reverse);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __forward, __reverse);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __forward, __reverse);");
+    gold.append("\n    __last_expire_time.__commit(\"__last_expire_time\", __forward, __reverse);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __forward, __reverse);");
+    gold.append("\n    __seq.__commit(\"__seq\", __forward, __reverse);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __forward, __reverse);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __forward, __reverse);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __forward, __reverse);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __forward, __reverse);");
+    gold.append("\n    __time.__commit(\"__time\", __forward, __reverse);");
+    gold.append("\n    __timezone.__commit(\"__timezone\", __forward, __reverse);");
+    gold.append("\n    __auto_table_row_id.__commit(\"__auto_table_row_id\", __forward, __reverse);");
+    gold.append("\n    __auto_gen.__commit(\"__auto_gen\", __forward, __reverse);");
+    gold.append("\n    __auto_cache_id.__commit(\"__auto_cache_id\", __forward, __reverse);");
+    gold.append("\n    __cache.__commit(\"__cache\", __forward, __reverse);");
+    gold.append("\n    __webTaskId.__commit(\"__webTaskId\", __forward, __reverse);");
+    gold.append("\n    x.__commit(\"x\", __forward, __reverse);");
+    gold.append("\n    _rows.__commit(\"_rows\", __forward, __reverse);");
+    gold.append("\n    byId.__commit(\"byId\", __forward, __reverse);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __last_expire_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    __timezone.__revert();");
+    gold.append("\n    __webTaskId.__revert();");
+    gold.append("\n    x.__revert();");
+    gold.append("\n    _rows.__revert();");
+    gold.append("\n    byId.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n  public class DeltaPrivacyCache {");
+    gold.append("\n    public DeltaPrivacyCache(NtPrincipal __who) {}");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaParallelBroadcast_12 implements DeltaNode {");
+    gold.append("\n    private DInt32 __dx;");
+    gold.append("\n    private int __gy;");
+    gold.append("\n    private DInt32 __dy;");
+    gold.append("\n    private DMap<Integer,DeltaRTxR> __dbyId;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaParallelBroadcast_12() {");
+    gold.append("\n      __dx = new DInt32();");
+    gold.append("\n      __gy = -1;");
+    gold.append("\n      __dy = new DInt32();");
+    gold.append("\n      __dbyId = new DMap<Integer,DeltaRTxR>();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __dx.__memory();");
+    gold.append("\n      __sum += __dy.__memory();");
+    gold.append("\n      __sum += __dbyId.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(ParallelBroadcast_12 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = new DeltaPrivacyCache(__writer.who);");
+    gold.append("\n      __writer.setCacheObject(__policy_cache);");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      if (__gy != __item.y.getGeneration()) {");
+    gold.append("\n        __dy.show(__item.y.get(), __obj.planField(\"y\"));");
+    gold.append("\n        __gy = __item.y.getGeneration();");
+    gold.append("\n      }");
+    gold.append("\n      {");
+    gold.append("\n        PrivateLazyDeltaWriter __map0 = __obj.planField(\"byId\").planObject();");
+    gold.append("\n        DMap<Integer,DeltaRTxR> __deltaMap1 = __dbyId;");
+    gold.append("\n        DMap<Integer,DeltaRTxR>.Walk __deltaMapWalker2 = __deltaMap1.begin();");
+    gold.append("\n        for (NtPair<Integer,RTxR> __mapEntry3 : __item.byId) {");
+    gold.append("\n          DeltaRTxR __deltaElement4 = __deltaMapWalker2.next(__mapEntry3.key, () -> new DeltaRTxR());");
+    gold.append("\n          __deltaElement4.show(__mapEntry3.value, __map0.planField(\"\" + __mapEntry3.key));");
+    gold.append("\n        }");
+    gold.append("\n        __deltaMapWalker2.end(__map0);");
+    gold.append("\n        __map0.end();");
+    gold.append("\n      }");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __dx.clear();");
+    gold.append("\n      __dy.clear();");
+    gold.append("\n      __dbyId.clear();");
+    gold.append("\n      __cost(3);");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public Set<String> __get_intern_strings() {");
+    gold.append("\n    HashSet<String> __interns = new HashSet<>();");
+    gold.append("\n    __interns.add(\"\");");
+    gold.append("\n    __interns.add(\"?\");");
+    gold.append("\n    return __interns;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtPrincipal __who, Perspective ___perspective) {");
+    gold.append("\n    ParallelBroadcast_12 __self = this;");
+    gold.append("\n    DeltaParallelBroadcast_12 __state = new DeltaParallelBroadcast_12();");
+    gold.append("\n    RTx__ViewerType __viewerState = new RTx__ViewerType();");
+    gold.append("\n    int __viewId = __genViewId();");
+    gold.append("\n    return new PrivateView(__viewId, __who, ___perspective) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public long memory() {");
+    gold.append("\n        return __state.__memory();");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void dumpViewer(JsonStreamWriter __writer) {");
+    gold.append("\n        __viewerState.__writeOut(__writer);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void ingest(JsonStreamReader __reader) {");
+    gold.append("\n        __viewerState.__ingest(__reader);");
+    gold.append("\n      }");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer, __viewerState, __viewId));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx__ViewerType extends NtMessageBase {");
+    gold.append("\n    private final RTx__ViewerType __this;");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() { return 64; }");
+    gold.append("\n    public void __reset() {}");
+    gold.append("\n    public void __hash(HashBuilder __hash) {");
+    gold.append("\n      __hash.hashString(\"anonymous\");");
+    gold.append("\n    }");
+    gold.append("\n    private static String[] __INDEX_COLUMNS___ViewerType = new String[] {};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS___ViewerType;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    private RTx__ViewerType(JsonStreamReader __reader) {");
+    gold.append("\n      __this = this;");
+    gold.append("\n      __ingest(__reader);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __ingest(JsonStreamReader __reader) {");
+    gold.append("\n      __reader.mustSkipObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __parsed() throws AbortMessageException {}");
+    gold.append("\n    private RTx__ViewerType() { __this = this; }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx__ViewerType implements DeltaNode {");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx__ViewerType() {");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx__ViewerType __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __cost(0);");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static String[] __INDEX_COLUMNS_R = new String[] {};");
+    gold.append("\n  private class RTxR extends RxRecordBase<RTxR> {");
+    gold.append("\n    private final RTxR __this;");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private final RxPrincipal who;");
+    gold.append("\n    private final RxInt32 z;");
+    gold.append("\n    private final RxLazy<Integer> w;");
+    gold.append("\n    private RTxR(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      this.__this = this;");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      who = new RxPrincipal(this, NtPrincipal.NO_ONE);");
+    gold.append("\n      z = new RxInt32(this, 0);");
+    gold.append("\n      w = new RxLazy<Integer>(this, () -> (Integer)(z.get() + 1), null);");
+    gold.append("\n      w.__subscribe(this);");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = super.__memory() + 0;");
+    gold.append("\n      __sum += id.__memory();");
+    gold.append("\n      __sum += who.__memory();");
+    gold.append("\n      __sum += z.__memory();");
+    gold.append("\n      __sum += w.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS_R;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Object __fieldOf(String __name) {");
+    gold.append("\n      switch (__name) {");
+    gold.append("\n        case \"id\":");
+    gold.append("\n          return id;");
+    gold.append("\n        case \"who\":");
+    gold.append("\n          return who;");
+    gold.append("\n        case \"z\":");
+    gold.append("\n          return z;");
+    gold.append("\n        case \"w\":");
+    gold.append("\n          return w;");
+    gold.append("\n        default:");
+    gold.append("\n          return null;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __settle(Set<Integer> __viewers) {");
+    gold.append("\n      w.__settleAndCompute(__viewers);");
+    gold.append("\n      __lowerInvalid();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"who\":");
+    gold.append("\n              who.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"z\":");
+    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __patch(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"id\":");
+    gold.append("\n              id.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"who\":");
+    gold.append("\n              who.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            case \"z\":");
+    gold.append("\n              z.__patch(__reader);");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"who\");");
+    gold.append("\n      who.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"z\");");
+    gold.append("\n      z.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __forward, JsonStreamWriter __reverse) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __forward.writeObjectFieldIntro(__name);");
+    gold.append("\n        __forward.beginObject();");
+    gold.append("\n        __reverse.writeObjectFieldIntro(__name);");
+    gold.append("\n        __reverse.beginObject();");
+    gold.append("\n        id.__commit(\"id\", __forward, __reverse);");
+    gold.append("\n        who.__commit(\"who\", __forward, __reverse);");
+    gold.append("\n        z.__commit(\"z\", __forward, __reverse);");
+    gold.append("\n        __forward.endObject();");
+    gold.append("\n        __reverse.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        who.__revert();");
+    gold.append("\n        z.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __killFields() {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeRxReport(JsonStreamWriter __writer) { }");
+    gold.append("\n    @Override");
+    gold.append("\n    public RTxR __link() {");
+    gold.append("\n      z.__subscribe(w);");
+    gold.append("\n      return this;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __invalidateIndex(TablePubSub __pubsub) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __pumpIndexEvents(TablePubSub __pubsub) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"R\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxR implements DeltaNode {");
+    gold.append("\n    private DInt32 __did;");
+    gold.append("\n    private DPrincipal __dwho;");
+    gold.append("\n    private DInt32 __dz;");
+    gold.append("\n    private int __gw;");
+    gold.append("\n    private DInt32 __dw;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __did = new DInt32();");
+    gold.append("\n      __dwho = new DPrincipal();");
+    gold.append("\n      __dz = new DInt32();");
+    gold.append("\n      __gw = -1;");
+    gold.append("\n      __dw = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public long __memory() {");
+    gold.append("\n      long __sum = 40;");
+    gold.append("\n      __sum += __did.__memory();");
+    gold.append("\n      __sum += __dwho.__memory();");
+    gold.append("\n      __sum += __dz.__memory();");
+    gold.append("\n      __sum += __dw.__memory();");
+    gold.append("\n      return __sum;");
+    gold.append("\n    }");
+    gold.append("\n    public boolean show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      DeltaPrivacyCache __policy_cache = (DeltaPrivacyCache) __writer.getCacheObject();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __did.show(__item.id.get(), __obj.planField(\"id\"));");
+    gold.append("\n      __dwho.show(__item.who.get(), __obj.planField(\"who\"));");
+    gold.append("\n      __dz.show(__item.z.get(), __obj.planField(\"z\"));");
+    gold.append("\n      if (__writer.who.equals(__item.who.get())) {");
+    gold.append("\n        if (__gw != __item.w.getGeneration()) {");
+    gold.append("\n          __dw.show(__item.w.get(), __obj.planField(\"w\"));");
+    gold.append("\n          __gw = __item.w.getGeneration();");
+    gold.append("\n        }");
+    gold.append("\n        /* privacy check close up */");
+    gold.append("\n      } else {");
+    gold.append("\n        __gw = -1;");
+    gold.append("\n        __dw.hide(__obj.planField(\"w\"));");
+    gold.append("\n      }");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void clear() {");
+    gold.append("\n      __did.clear();");
+    gold.append("\n      __dwho.clear();");
+    gold.append("\n      __dz.clear();");
+    gold.append("\n      __dw.clear();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        clear();");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  class DynCmp_RTxR implements Comparator<RTxR> {");
+    gold.append("\n    private final CompareField[] parsed;");
+    gold.append("\n    DynCmp_RTxR(String instructions) {");
+    gold.append("\n      this.parsed = DynCompareParser.parse(instructions);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int compare(RTxR __a, RTxR __b) {");
+    gold.append("\n      for (CompareField field : parsed) {");
+    gold.append("\n        int delta = 0;");
+    gold.append("\n        switch (field.name) {");
+    gold.append("\n          case \"id\":");
+    gold.append("\n            delta = __a.id.compareTo(__b.id);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"who\":");
+    gold.append("\n            delta = __a.who.compareTo(__b.who);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"z\":");
+    gold.append("\n            delta = __a.z.compareTo(__b.z);");
+    gold.append("\n            break;");
+    gold.append("\n          case \"w\":");
+    gold.append("\n            delta = __a.w.get().compareTo(__b.w.get());");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        if (delta != 0) {");
+    gold.append("\n          return field.desc ? -delta : delta;");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n      return 0;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  public static HashMap<String, HashMap<String, Object>> __services() {");
+    gold.append("\n    HashMap<String, HashMap<String, Object>> __map = new HashMap<>();");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  public static void __create_generic_clients(ServiceRegistry __registry, HeaderDecryptor decryptor) throws Exception {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __link(ServiceRegistry __registry) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Service __findService(String __name) { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __getViewStateFilter() {");
+    gold.append("\n    return \"[]\";");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public NtPrincipal __getViewShareKey(NtPrincipal __who) {");
+    gold.append("\n    return __who;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected boolean __is_direct_channel(String channel) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __handle_direct(CoreRequestContext context, String channel, Object __message) throws AbortMessageException {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public SimpleCancel __export(CoreRequestContext __context, String __name, String __viewerState, Stream<String> __stream) {");
+    gold.append("\n    __stream.failure(new ErrorCodeException(ErrorCodes.LIVING_DOCUMENT_NO_EXPORT_BY_NAME));");
+    gold.append("\n    return SimpleCancel.NOTHING_TO_CANCEL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __metrics() { return \"{}\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String __traffic(CoreRequestContext __context) { return \"\"; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __debug(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tables\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"_rows\");");
+    gold.append("\n    _rows.debug(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"cron\");");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected long __computeGraphs() { return 0; }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __open_channel(String name) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public AuthResponse __authpipe(CoreRequestContext __context, String __message) {");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __make_cron_progress() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_cron() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public Long __predict_cron_wake_time() { return null; }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __get_internal(CoreRequestContext __context, WebGet __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __put_internal(CoreRequestContext __context, WebPut __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected WebResponse __delete_internal(CoreRequestContext __context, WebDelete __request) throws AbortMessageException {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public WebResponse __options(CoreRequestContext __context, WebGet __request) {");
+    gold.append("\n    WebPath __path = new WebPath(__request.uri);");
+    gold.append("\n    return null;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public static boolean __onCanCreate(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanInvent(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  public static boolean __onCanSendWhileDisconnected(CoreRequestContext __context) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onLoad() {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onCanAssetAttached(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onAssetAttached(CoreRequestContext __cvalue, NtAsset __pvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __delete(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(CoreRequestContext __cvalue) {");
+    gold.append("\n    return false;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(CoreRequestContext __cvalue) {}");
+    gold.append("\n  public static HashMap<String, Object> __config() {");
+    gold.append("\n    HashMap<String, Object> __map = new HashMap<>();");
+    gold.append("\n    __map.put(\"parallel_broadcast\", 64);");
+    gold.append("\n    return __map;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) throws AbortMessageException {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(CoreRequestContext _c, NtMessageBase _m) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n--=[LivingDocumentFactory COMPILING]=---");
+    gold.append("\n--=[LivingDocumentFactory MADE]=---");
+    gold.append("\n--REFLECTION RESULTS-------------------------------------");
+    gold.append("\n{\"types\":{\"__Root\":{\"nature\":\"reactive_record\",\"name\":\"Root\",\"fields\":{\"x\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"y\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"public\"},\"_rows\":{\"type\":{\"nature\":\"reactive_table\",\"record_name\":\"R\"},\"computed\":false,\"privacy\":\"private\"},\"byId\":{\"type\":{\"nature\":\"reactive_map\",\"domain\":{\"nature\":\"native_value\",\"type\":\"int\"},\"range\":{\"nature\":\"reactive_ref\",\"ref\":\"R\"}},\"computed\":false,\"privacy\":\"public\"}}},\"__ViewerType\":{\"nature\":\"native_message\",\"name\":\"__ViewerType\",\"anonymous\":true,\"fields\":{}},\"R\":{\"nature\":\"reactive_record\",\"name\":\"R\",\"fields\":{\"id\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"who\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"principal\"},\"computed\":false,\"privacy\":\"public\"},\"z\":{\"type\":{\"nature\":\"reactive_value\",\"type\":\"int\"},\"computed\":false,\"privacy\":\"public\"},\"w\":{\"type\":{\"nature\":\"native_value\",\"type\":\"int\"},\"computed\":true,\"privacy\":\"viewer_is\"}}}},\"channels\":{},\"channels-privacy\":{},\"constructors\":[],\"labels\":[]}");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\",\"key\":\"0\",\"origin\":\"origin\",\"ip\":\"ip\"}-->{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__seq\":1} need:false in:0");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"25\"} need:false in:0");
+    gold.append("\nCPU:0");
+    gold.append("\nMEMORY:6002");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__seq\":3,\"__entropy\":\"-1034601897293430941\",\"__time\":\"50\"} need:false in:0");
+    gold.append("\nNO_ONE: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"x\":7,\"y\":14},\"seq\":3}");
+    gold.append("\nNO_ONE|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__seq\":4,\"__entropy\":\"7848011421992302230\",\"__time\":\"75\"} need:false in:0");
+    gold.append("\nRANDO: CREATED PRIVATE VIEW");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":4}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"x\":7,\"y\":14},\"seq\":4}");
+    gold.append("\nRANDO|FAILURE:184333");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"100\"}-->{\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__time\":\"100\"} need:false in:0");
+    gold.append("\nRANDO|SUCCESS:5");
+    gold.append("\n+ NO_ONE DELTA:{\"seq\":5}");
+    gold.append("\n+ RANDO DELTA:{\"seq\":5}");
+    gold.append("\nMEMORY:6360");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"x\":7,\"_rows\":{},\"byId\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{}");
+    gold.append("\n--METRIC RESULTS-----------------------------------");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"x\":7,\"_rows\":{},\"byId\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n{\"__snapshot\":\"0/0\",\"x\":7,\"_rows\":{},\"byId\":{},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__last_expire_time\":\"0\",\"__blocked\":false,\"__seq\":5,\"__entropy\":\"-8929183248358367000\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"100\",\"__timezone\":\"UTC\",\"__auto_table_row_id\":0,\"__auto_gen\":0,\"__auto_cache_id\":0,\"__cache\":{},\"__webTaskId\":0,\"__webqueue\":{},\"__replication\":{}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
+    assertStable(live, gold);
+  }
 }
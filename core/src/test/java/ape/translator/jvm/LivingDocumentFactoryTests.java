@@ -148,6 +148,30 @@ public class LivingDocumentFactoryTests {
     }
   }
 
+  @Test
+  public void policiesWork() throws Exception {
+    LivingDocumentFactory factory = new LivingDocumentFactory(SyncCompiler.compile(
+        "Space",
+        "Foo",
+        "import ape.runtime.contracts.DocumentMonitor; import ape.runtime.sys.*; import ape.runtime.remote.client.*; import ape.runtime.remote.*;" +
+            "import java.util.HashMap; import ape.runtime.natives.*; public class Foo {" +
+            "public Foo(final DocumentMonitor __monitor) { }" +
+            "public static boolean __onCanCreate(CoreRequestContext who) { return who.who.agent.equals(\"a\"); }" +
+            "public static boolean __onCanInvent(CoreRequestContext who) { return who.who.agent.equals(\"b\"); }" +
+            "public static boolean __onCanSendWhileDisconnected(CoreRequestContext who) { return who.who.agent.equals(\"c\"); }" +
+            "public static HashMap<String, HashMap<String, Object>> __services() { return new HashMap<>(); }" +
+            "public static HashMap<String, Object> __config() { return new HashMap<>(); }" +
+            "public static void __create_generic_clients(ServiceRegistry s, HeaderDecryptor h) {}" +
+            "}",
+        "{}"), Deliverer.FAILURE, new TreeMap<>());
+    for (String agent : new String[] {"a", "b", "c", "d"}) {
+      final var context = ContextSupport.WRAP(new NtPrincipal(agent, "x"));
+      Assert.assertEquals(agent.equals("a"), factory.canCreate(context));
+      Assert.assertEquals(agent.equals("b"), factory.canInvent(context));
+      Assert.assertEquals(agent.equals("c"), factory.canSendWhileDisconnected(context));
+    }
+  }
+
   @Test
   public void configWorks() throws Exception {
     LivingDocumentFactory factory = new LivingDocumentFactory(SyncCompiler.compile(
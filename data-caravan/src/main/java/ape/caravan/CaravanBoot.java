@@ -26,6 +26,9 @@ package ape.caravan;
 import ape.caravan.contracts.Cloud;
 import ape.caravan.data.DiskMetrics;
 import ape.caravan.data.DurableListStore;
+import ape.caravan.data.FsyncPolicy;
+import ape.caravan.events.LocalCache;
+import ape.caravan.events.MaterializeBudget;
 import ape.common.ExceptionRunnable;
 import ape.common.SimpleExecutor;
 import ape.common.metrics.MetricsFactory;
@@ -35,6 +38,7 @@ import ape.runtime.data.PostDocumentDelete;
 import ape.runtime.data.managed.Base;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -42,27 +46,46 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Bootstrap factory for initializing a production Caravan data service.
  * Creates the WAL directories, DurableListStore, CaravanDataService, and
  * ManagedDataService with background flushing. Registers a shutdown hook
- * to ensure clean persistence on process termination.
+ * to ensure clean persistence on process termination. With more than one
+ * shard, documents are partitioned across independent stores (each with
+ * its own executor and WAL directory) behind a ShardedCaravanDataService.
+ * The materialized document cache is bounded per document (materializeLimit)
+ * and in total (materializeTotal, split evenly across shards), both counted
+ * in JSON characters.
  */
 public class CaravanBoot {
-  private final SimpleExecutor caravanExecutor;
+  private final SimpleExecutor[] caravanExecutors;
   private final SimpleExecutor managedExecutor;
   public final ManagedDataService service;
-  public final CaravanDataService caravanDataService;
+  public final ShardedCaravanDataService caravanDataService;
   private final Thread flusher;
 
   public CaravanBoot(AtomicBoolean alive, String caravanRoot, MetricsFactory metricsFactory, String region, String machine, FinderService finder, Cloud cloud, PostDocumentDelete delete) throws Exception {
-    this.caravanExecutor = SimpleExecutor.create("caravan");
+    this(alive, caravanRoot, metricsFactory, region, machine, finder, cloud, delete, 1, FsyncPolicy.Never, 0, LocalCache.DEFAULT_MATERIALIZE_LIMIT, MaterializeBudget.DEFAULT_TOTAL);
+  }
+
+  public CaravanBoot(AtomicBoolean alive, String caravanRoot, MetricsFactory metricsFactory, String region, String machine, FinderService finder, Cloud cloud, PostDocumentDelete delete, int shards, FsyncPolicy fsync, int groupCommitMaxLatencyMs, long materializeLimit, long materializeTotal) throws Exception {
     this.managedExecutor = SimpleExecutor.create("managed-base");
     File caravanPath = new File(caravanRoot);
     caravanPath.mkdir();
-    File walRoot = new File(caravanPath, "wal");
     File dataRoot = new File(caravanPath, "data");
-    walRoot.mkdir();
     dataRoot.mkdir();
-    File storePath = new File(dataRoot, "store");
-    DurableListStore store = new DurableListStore(new DiskMetrics(metricsFactory), storePath, walRoot, 4L * 1024 * 1024 * 1024, 16 * 1024 * 1024, 64 * 1024 * 1024);
-    this.caravanDataService = new CaravanDataService(new CaravanMetrics(metricsFactory), cloud, store, caravanExecutor);
+    guardShardCount(new File(caravanPath, "shards"), new File(caravanPath, "wal").exists(), shards);
+    DiskMetrics diskMetrics = new DiskMetrics(metricsFactory);
+    CaravanMetrics caravanMetrics = new CaravanMetrics(metricsFactory);
+    this.caravanExecutors = new SimpleExecutor[shards];
+    CaravanDataService[] services = new CaravanDataService[shards];
+    for (int k = 0; k < shards; k++) {
+      // the first shard uses the original layout such that a single shard is compatible with prior deployments
+      String suffix = k == 0 ? "" : "-" + k;
+      File walRoot = new File(caravanPath, "wal" + suffix);
+      walRoot.mkdir();
+      File storePath = new File(dataRoot, "store" + suffix);
+      DurableListStore store = new DurableListStore(diskMetrics, storePath, walRoot, 4L * 1024 * 1024 * 1024 / shards, 16 * 1024 * 1024, 64 * 1024 * 1024, fsync, groupCommitMaxLatencyMs);
+      caravanExecutors[k] = SimpleExecutor.create("caravan" + suffix);
+      services[k] = new CaravanDataService(caravanMetrics, cloud, store, caravanExecutors[k], materializeLimit, materializeTotal / shards);
+    }
+    this.caravanDataService = new ShardedCaravanDataService(services);
     Base managedBase = new Base(finder, caravanDataService, delete, region, machine, managedExecutor, 2 * 60 * 1000);
     this.service = new ManagedDataService(managedBase);
     this.flusher = new Thread(() -> {
@@ -84,10 +107,31 @@ public class CaravanBoot {
         alive.set(false);
         flusher.join();
         caravanDataService.shutdown().await(2500, TimeUnit.MILLISECONDS);
-        caravanExecutor.shutdown().await(2500, TimeUnit.MILLISECONDS);
+        for (SimpleExecutor caravanExecutor : caravanExecutors) {
+          caravanExecutor.shutdown().await(2500, TimeUnit.MILLISECONDS);
+        }
         managedExecutor.shutdown();
         System.err.println("[caravan shutting down: clean]");
       }
     })));
   }
+
+  /** keys route by hash, so the shard count must stay the same for the life of the directories */
+  private static void guardShardCount(File file, boolean hasPriorData, int shards) throws Exception {
+    if (shards <= 0) {
+      throw new IllegalArgumentException("caravan requires at least one shard");
+    }
+    if (file.exists() || hasPriorData) {
+      // directories from before sharding existed hold a single shard
+      int prior = file.exists() ? Integer.parseInt(Files.readString(file.toPath()).trim()) : 1;
+      if (prior != shards) {
+        throw new IllegalStateException("caravan was created with " + prior + " shard(s), but " + shards + " were requested");
+      }
+      if (!file.exists()) {
+        Files.writeString(file.toPath(), Integer.toString(shards));
+      }
+    } else {
+      Files.writeString(file.toPath(), Integer.toString(shards));
+    }
+  }
 }
@@ -36,6 +36,7 @@ import ape.caravan.data.DurableListStore;
 import ape.caravan.events.*;
 import ape.runtime.contracts.DeleteTask;
 import ape.runtime.data.*;
+import ape.runtime.json.BinaryJson;
 import ape.runtime.json.JsonStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,13 +63,25 @@ public class CaravanDataService implements ArchivingDataService {
   private final DurableListStore store;
   private final SimpleExecutor executor;
   private final HashMap<Key, LocalCache> cache;
+  private final long materializeLimit;
+  private final MaterializeBudget materializeBudget;
 
   public CaravanDataService(CaravanMetrics metrics, Cloud cloud, DurableListStore store, SimpleExecutor executor) {
+    this(metrics, cloud, store, executor, LocalCache.DEFAULT_MATERIALIZE_LIMIT, MaterializeBudget.DEFAULT_TOTAL);
+  }
+
+  /**
+   * materializeLimit caps the size of a document whose merged state a LocalCache keeps in memory, and
+   * materializeTotal caps the sum across all the documents of this service; both are in JSON characters
+   */
+  public CaravanDataService(CaravanMetrics metrics, Cloud cloud, DurableListStore store, SimpleExecutor executor, long materializeLimit, long materializeTotal) {
     this.metrics = metrics;
     this.cloud = cloud;
     this.store = store;
     this.executor = executor;
     this.cache = new HashMap<>();
+    this.materializeLimit = materializeLimit;
+    this.materializeBudget = new MaterializeBudget(materializeTotal);
     scheduleReport(0);
   }
 
@@ -111,7 +124,7 @@ public class CaravanDataService implements ArchivingDataService {
         execute("restore", key, false, callback, (cached) -> {
           if (cached == null) {
             // the cache does not exist, so let's attempt to create
-            LocalCache newBuilderToCache = new LocalCache() {
+            LocalCache newBuilderToCache = new LocalCache(materializeLimit, materializeBudget) {
               @Override
               public void finished() { // Note: runs in the thread calling execute since store.read is sync
                 // aftering reading into the cache, let's merge what we have restored
@@ -210,6 +223,7 @@ public class CaravanDataService implements ArchivingDataService {
   private LocalCache addToCacheIfDoesntExistReturnCorrect(Key key, LocalCache created) {
     LocalCache prior = cache.putIfAbsent(key, created);
     if (prior != null) {
+      created.dropMaterialized();
       metrics.caravan_waste.run();
       return prior;
     } else {
@@ -317,7 +331,7 @@ public class CaravanDataService implements ArchivingDataService {
 
   private void load(Key key, Callback<LocalCache> callback) {
     try {
-      LocalCache builder = new LocalCache() {
+      LocalCache builder = new LocalCache(materializeLimit, materializeBudget) {
         @Override
         public void finished() {
           LocalCache builder = this;
@@ -377,7 +391,7 @@ public class CaravanDataService implements ArchivingDataService {
             EventCodec.route(Unpooled.wrappedBuffer(value), new EventCodec.HandlerEvent() {
               @Override
               public void handle(Events.Snapshot payload) {
-                stream.next("[" + (seq == payload.seq ? seq : (seq + "/" + payload.seq) ) + "] SNAPSHOT:" + payload.document + " (history=" + payload.history + ", assets=" + payload.assetBytes + ")");
+                stream.next("[" + (seq == payload.seq ? seq : (seq + "/" + payload.seq) ) + "] SNAPSHOT:" + payload.json() + " (history=" + payload.history + ", assets=" + payload.assetBytes + ")");
               }
 
               @Override
@@ -418,26 +432,40 @@ public class CaravanDataService implements ArchivingDataService {
     });
   }
 
+  /** a size hint for an encoded change; JSON is nearly always ASCII so string lengths are close to byte lengths */
+  private static int estimateEncodedSize(RemoteDocumentUpdate update) {
+    int size = 128;
+    if (update.request != null) {
+      size += update.request.length();
+    }
+    if (update.redo != null) {
+      size += update.redo.length();
+    }
+    if (update.undo != null) {
+      size += update.undo.length();
+    }
+    return size;
+  }
+
   @Override
   public void initialize(Key key, RemoteDocumentUpdate patch, Callback<Void> callback) {
     Events.Change change = new Events.Change();
     change.copyFrom(patch);
-    ByteBuf buf = Unpooled.buffer();
-    EventCodec.write(buf, change);
+    byte[] write = ByteArrayHelper.encode(estimateEncodedSize(patch), (buf) -> EventCodec.write(buf, change));
 
     execute("initialize", key, false, callback, (cached) -> {
       if (cached != null || store.exists(key)) {
         callback.failure(new ErrorCodeException(ErrorCodes.UNIVERSAL_INITIALIZE_FAILURE));
         return;
       }
-      LocalCache builder = new LocalCache() {
+      LocalCache builder = new LocalCache(materializeLimit, materializeBudget) {
         @Override
         public void finished() {
 
         }
       };
       builder.handle(change);
-      if (store.append(key, ByteArrayHelper.convert(buf), patch.seqEnd, patch.assetBytes, () -> {
+      if (store.append(key, write, patch.seqEnd, patch.assetBytes, () -> {
         executor.execute(new NamedRunnable("commit-cache") {
           @Override
           public void execute() throws Exception {
@@ -460,15 +488,15 @@ public class CaravanDataService implements ArchivingDataService {
     {
       batch.changes = new Events.Change[patches.length];
       long assetBytesSum = 0;
+      int sizeHint = 16;
       for (int k = 0; k < patches.length; k++) {
         batch.changes[k] = new Events.Change();
         batch.changes[k].copyFrom(patches[k]);
         assetBytesSum += patches[k].assetBytes;
+        sizeHint += estimateEncodedSize(patches[k]);
       }
       assetBytes = assetBytesSum;
-      ByteBuf buf = Unpooled.buffer();
-      EventCodec.write(buf, batch);
-      write = ByteArrayHelper.convert(buf);
+      write = ByteArrayHelper.encode(sizeHint, (buf) -> EventCodec.write(buf, batch));
     }
     execute("patch", key, true, callback, (cached) -> {
       if (!cached.check(patches[0].seqBegin)) {
@@ -520,7 +548,10 @@ public class CaravanDataService implements ArchivingDataService {
     execute("delete", key, false, callback, (cached) -> {
       store.delete(key, () -> {
       });
-      cache.remove(key);
+      LocalCache removed = cache.remove(key);
+      if (removed != null) {
+        removed.dropMaterialized();
+      }
       task.executeAfterMark(callback);
     });
   }
@@ -533,7 +564,11 @@ public class CaravanDataService implements ArchivingDataService {
     }
     Events.Snapshot snap = new Events.Snapshot();
     snap.seq = snapshot.seq;
-    snap.document = snapshot.json;
+    if (snapshot.binary) {
+      snap.binary = BinaryJson.encode(snapshot.json);
+    } else {
+      snap.document = snapshot.json;
+    }
     snap.history = snapshot.history;
     snap.assetBytes = snapshot.assetBytes;
     ByteBuf buf = Unpooled.buffer();
@@ -604,6 +639,7 @@ public class CaravanDataService implements ArchivingDataService {
     execute("close", key, false, callback, (cached) -> {
       if (cached != null) {
         cache.remove(key);
+        cached.dropMaterialized();
       }
       callback.success(null);
     });
@@ -611,6 +647,12 @@ public class CaravanDataService implements ArchivingDataService {
 
   public CountDownLatch flush(boolean force) {
     CountDownLatch latch = new CountDownLatch(1);
+    flush(force, latch);
+    return latch;
+  }
+
+  /** flush the store and then count down the given latch */
+  void flush(boolean force, CountDownLatch latch) {
     executor.execute(new NamedRunnable("flush") {
       @Override
       public void execute() throws Exception {
@@ -618,11 +660,16 @@ public class CaravanDataService implements ArchivingDataService {
         latch.countDown();
       }
     });
-    return latch;
   }
 
   public CountDownLatch shutdown() {
     CountDownLatch latch = new CountDownLatch(1);
+    shutdown(latch);
+    return latch;
+  }
+
+  /** flush and shutdown the store and then count down the given latch */
+  void shutdown(CountDownLatch latch) {
     executor.execute(new NamedRunnable("flush") {
       @Override
       public void execute() throws Exception {
@@ -631,6 +678,5 @@ public class CaravanDataService implements ArchivingDataService {
         latch.countDown();
       }
     });
-    return latch;
   }
 }
@@ -0,0 +1,224 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.caravan;
+
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import ape.common.Stream;
+import ape.runtime.contracts.DeleteTask;
+import ape.runtime.data.*;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Partitions documents across several independent CaravanDataService instances. Each shard owns its
+ * own executor, DurableListStore, and WAL directory such that disk appends and cache maintenance
+ * scale with the number of shards rather than funneling through one thread. A key always routes to
+ * the same shard, so the shard count must not change for a given set of directories.
+ */
+public class ShardedCaravanDataService implements ArchivingDataService {
+  private final CaravanDataService[] shards;
+
+  public ShardedCaravanDataService(CaravanDataService[] shards) {
+    this.shards = shards;
+  }
+
+  /** which shard owns the given key */
+  public CaravanDataService shardOf(Key key) {
+    return shards[Math.floorMod(key.hashCode(), shards.length)];
+  }
+
+  public int shards() {
+    return shards.length;
+  }
+
+  @Override
+  public void cleanUp(Key key, String archiveKey) {
+    shardOf(key).cleanUp(key, archiveKey);
+  }
+
+  @Override
+  public void restore(Key key, String archiveKey, Callback<Void> callback) {
+    shardOf(key).restore(key, archiveKey, callback);
+  }
+
+  @Override
+  public void backup(Key key, Callback<BackupResult> callback) {
+    shardOf(key).backup(key, callback);
+  }
+
+  /** produce a diagnostic report as a JSON array with a report per shard */
+  public void diagnostics(Callback<String> callback) {
+    String[] reports = new String[shards.length];
+    Gather gather = new Gather(shards.length) {
+      @Override
+      public void done() {
+        callback.success("[" + String.join(",", reports) + "]");
+      }
+    };
+    for (int k = 0; k < shards.length; k++) {
+      final int shard = k;
+      shards[k].diagnostics(new Callback<>() {
+        @Override
+        public void success(String value) {
+          reports[shard] = value;
+          gather.success();
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+          gather.failure(callback, ex);
+        }
+      });
+    }
+  }
+
+  public void dumpLog(Key key, Stream<String> stream) {
+    shardOf(key).dumpLog(key, stream);
+  }
+
+  @Override
+  public void get(Key key, Callback<LocalDocumentChange> callback) {
+    shardOf(key).get(key, callback);
+  }
+
+  @Override
+  public void initialize(Key key, RemoteDocumentUpdate patch, Callback<Void> callback) {
+    shardOf(key).initialize(key, patch, callback);
+  }
+
+  @Override
+  public void patch(Key key, RemoteDocumentUpdate[] patches, Callback<Void> callback) {
+    shardOf(key).patch(key, patches, callback);
+  }
+
+  @Override
+  public void compute(Key key, ComputeMethod method, int seq, Callback<LocalDocumentChange> callback) {
+    shardOf(key).compute(key, method, seq, callback);
+  }
+
+  @Override
+  public void delete(Key key, DeleteTask task, Callback<Void> callback) {
+    shardOf(key).delete(key, task, callback);
+  }
+
+  @Override
+  public void snapshot(Key key, DocumentSnapshot snapshot, Callback<Integer> callback) {
+    shardOf(key).snapshot(key, snapshot, callback);
+  }
+
+  @Override
+  public void recover(Key key, DocumentRestore restore, Callback<Void> callback) {
+    shardOf(key).recover(key, restore, callback);
+  }
+
+  @Override
+  public void shed(Key key) {
+    shardOf(key).shed(key);
+  }
+
+  @Override
+  public void inventory(Callback<Set<Key>> callback) {
+    TreeSet<Key> keys = new TreeSet<>();
+    Gather gather = new Gather(shards.length) {
+      @Override
+      public void done() {
+        callback.success(keys);
+      }
+    };
+    for (CaravanDataService shard : shards) {
+      shard.inventory(new Callback<>() {
+        @Override
+        public void success(Set<Key> value) {
+          synchronized (keys) {
+            keys.addAll(value);
+          }
+          gather.success();
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+          gather.failure(callback, ex);
+        }
+      });
+    }
+  }
+
+  @Override
+  public void close(Key key, Callback<Void> callback) {
+    shardOf(key).close(key, callback);
+  }
+
+  public CountDownLatch flush(boolean force) {
+    CountDownLatch latch = new CountDownLatch(shards.length);
+    for (CaravanDataService shard : shards) {
+      shard.flush(force, latch);
+    }
+    return latch;
+  }
+
+  public CountDownLatch shutdown() {
+    CountDownLatch latch = new CountDownLatch(shards.length);
+    for (CaravanDataService shard : shards) {
+      shard.shutdown(latch);
+    }
+    return latch;
+  }
+
+  /** wait for every shard to respond, failing on the first failure */
+  private static abstract class Gather {
+    private int remaining;
+    private boolean failed;
+
+    private Gather(int remaining) {
+      this.remaining = remaining;
+      this.failed = false;
+    }
+
+    public abstract void done();
+
+    public void success() {
+      boolean finished;
+      synchronized (this) {
+        remaining--;
+        finished = remaining == 0 && !failed;
+      }
+      if (finished) {
+        done();
+      }
+    }
+
+    public void failure(Callback<?> callback, ErrorCodeException ex) {
+      synchronized (this) {
+        if (failed) {
+          return;
+        }
+        failed = true;
+      }
+      callback.failure(ex);
+    }
+  }
+}
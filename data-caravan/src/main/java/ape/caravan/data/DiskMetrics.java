@@ -42,6 +42,9 @@ public class DiskMetrics {
   public final Runnable appends;
   public final Runnable failed_append;
   public final Runnable reads;
+  public final Runnable wal_fsync;
+  public final Inflight wal_fsync_latency_us;
+  public final Inflight wal_batch_size;
 
   public DiskMetrics(MetricsFactory factory) {
     this.flush = factory.counter("disk_flush");
@@ -59,5 +62,8 @@ public class DiskMetrics {
     this.failed_append = factory.counter("alarm_failed_append");
     this.appends = factory.counter("storage_appends");
     this.reads = factory.counter("storage_reads");
+    this.wal_fsync = factory.counter("wal_fsync");
+    this.wal_fsync_latency_us = factory.inflight("wal_fsync_latency_us");
+    this.wal_batch_size = factory.inflight("wal_batch_size");
   }
 }
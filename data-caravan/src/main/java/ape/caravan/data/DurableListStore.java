@@ -75,9 +75,16 @@ public class DurableListStore {
   // notifications when the requested action was committed
   private final ArrayList<Runnable> notifications;
   private byte[] pageBuffer;
-  // the write ahead log stream
+  // the write ahead log stream (and the underlying file such that we can force it to the device)
   private DataOutputStream output;
+  private FileOutputStream outputFile;
   private long bytesWrittenToLog;
+  // how the log reaches the device
+  private final FsyncPolicy fsync;
+  // for group commit, the maximum time the oldest pending notification may wait
+  private final long groupCommitMaxLatencyNanos;
+  // for group commit, when the oldest pending notification arrived
+  private long oldestPendingNanos;
 
   /**
    * Construct the durable list store!
@@ -90,7 +97,19 @@ public class DurableListStore {
    * @throws IOException
    */
   public DurableListStore(DiskMetrics metrics, File storeFile, File walRoot, long size, int flushCutOffBytes, long maxLogSize) throws IOException {
+    this(metrics, storeFile, walRoot, size, flushCutOffBytes, maxLogSize, FsyncPolicy.Never, 0);
+  }
+
+  /**
+   * Construct the durable list store with an explicit durability policy
+   * @param fsync how the write-ahead log reaches the device
+   * @param groupCommitMaxLatencyMs for FsyncPolicy.GroupCommit, the longest an append waits for its group to commit
+   */
+  public DurableListStore(DiskMetrics metrics, File storeFile, File walRoot, long size, int flushCutOffBytes, long maxLogSize, FsyncPolicy fsync, int groupCommitMaxLatencyMs) throws IOException {
     this.metrics = metrics;
+    this.fsync = fsync;
+    this.groupCommitMaxLatencyNanos = groupCommitMaxLatencyMs * 1000000L;
+    this.oldestPendingNanos = 0;
     this.index = new Index();
     this.keymap = new KeyMap();
     DurableListStoreSizing sizing = new DurableListStoreSizing(size, storeFile);
@@ -197,11 +216,15 @@ public class DurableListStore {
   /** internal: prepare a new write-ahead file */
   private File prepare() throws IOException {
     File newWalFile = new File(walRoot, "WAL.NEW-" + System.currentTimeMillis());
-    DataOutputStream newOutput = new DataOutputStream(new FileOutputStream(newWalFile));
+    FileOutputStream newOutputFile = new FileOutputStream(newWalFile);
+    DataOutputStream newOutput = new DataOutputStream(newOutputFile);
     ByteBuf first = Unpooled.buffer();
     new OrganizationSnapshot(heap, index, keymap).write(first);
     writePage(newOutput, first);
     newOutput.flush();
+    if (fsync != FsyncPolicy.Never) {
+      newOutputFile.getChannel().force(true);
+    }
     newOutput.close();
     return newWalFile;
   }
@@ -212,7 +235,8 @@ public class DurableListStore {
     if (file.exists()) {
       file.setWritable(true, false);
     }
-    this.output = new DataOutputStream(new FileOutputStream(file, true));
+    this.outputFile = new FileOutputStream(file, true);
+    this.output = new DataOutputStream(outputFile);
     this.bytesWrittenToLog = 0;
   }
 
@@ -284,7 +308,7 @@ public class DurableListStore {
     }
 
     // track the final notification
-    this.notifications.add(notification);
+    notifyOnCommit(notification);
 
     // walk the regions allocated and the bytes
     int lastSize = -1;
@@ -304,12 +328,30 @@ public class DurableListStore {
     return lastSize;
   }
 
+  /** internal: the notification runs once the prior writes are committed per the fsync policy */
+  private void notifyOnCommit(Runnable notification) {
+    if (notifications.isEmpty()) {
+      oldestPendingNanos = System.nanoTime();
+    }
+    notifications.add(notification);
+  }
+
   /** flush to disk */
   public void flush(boolean forceCutOver) {
     try {
+      if (fsync == FsyncPolicy.GroupCommit && !forceCutOver && buffer.writerIndex() <= flushCutOffBytes && !notifications.isEmpty() && System.nanoTime() - oldestPendingNanos < groupCommitMaxLatencyNanos) {
+        // the group is still open; hold the writes such that the entire group shares one write and force
+        return;
+      }
       metrics.flush.run();
       if (writePage(output, buffer)) {
         output.flush();
+        if (fsync != FsyncPolicy.Never) {
+          long started = System.nanoTime();
+          outputFile.getChannel().force(false);
+          metrics.wal_fsync.run();
+          metrics.wal_fsync_latency_us.set((int) Math.min(Integer.MAX_VALUE, (System.nanoTime() - started) / 1000));
+        }
       }
       buffer.resetReaderIndex();
       buffer.resetWriterIndex();
@@ -320,6 +362,7 @@ public class DurableListStore {
 
       // feels excessive, is it better to copy OR re-init? Could we trust the client to simply _not_ be re-entrant?
       if (notifications.size() > 0) {
+        metrics.wal_batch_size.set(notifications.size());
         ArrayList<Runnable> notificationClone = new ArrayList<>(notifications);
         notifications.clear();
 
@@ -351,7 +394,7 @@ public class DurableListStore {
       return null;
     }
     metrics.appends.run();
-    this.notifications.add(notification);
+    notifyOnCommit(notification);
     storage.write(where, bytes);
     int id = mapKeyToLocalId(key);
     int size = index.append(id, new AnnotatedRegion(where.position, where.size, seq, assetBytes));
@@ -386,7 +429,7 @@ public class DurableListStore {
     if (maxSize > 0 && id != null) {
       ArrayList<AnnotatedRegion> regions = index.trim(id, maxSize);
       if (regions != null && regions.size() > 0) {
-        this.notifications.add(notification);
+        notifyOnCommit(notification);
         // int localId = mapKeyToLocalId(key);
         new Trim(id, maxSize).write(buffer);
         for (Region region : regions) {
@@ -418,7 +461,7 @@ public class DurableListStore {
       keymap.apply(dk);
       dk.write(buffer);
       new Delete(id).write(buffer);
-      this.notifications.add(notification);
+      notifyOnCommit(notification);
       if (buffer.writerIndex() > flushCutOffBytes) {
         flush(false);
       }
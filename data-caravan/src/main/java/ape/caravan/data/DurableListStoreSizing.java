@@ -50,16 +50,24 @@ public class DurableListStoreSizing {
       storages.add(new MemoryMappedFileStorage(new File(base.getParentFile(), base.getName() + "-PRIME"), SIZE_CUT_OFF));
       size -= SIZE_CUT_OFF;
     }
-    int k = 0;
-    while (size > 0) {
-      long sizeToUse = size;
-      if (sizeToUse > SIZE_CUT_OFF) {
-        sizeToUse = SIZE_CUT_OFF;
+    if (size > 0) {
+      if (new File(base.getParentFile(), base.getName() + "-0").exists()) {
+        // stores created before segmented storage chained a file (and heap) per gigabyte
+        int k = 0;
+        while (size > 0) {
+          long sizeToUse = size;
+          if (sizeToUse > SIZE_CUT_OFF) {
+            sizeToUse = SIZE_CUT_OFF;
+          }
+          size -= sizeToUse;
+          heaps.add(new IndexedHeap(sizeToUse));
+          storages.add(new MemoryMappedFileStorage(new File(base.getParentFile(), base.getName() + "-" + k), sizeToUse));
+          k++;
+        }
+      } else {
+        heaps.add(new IndexedHeap(size));
+        storages.add(new SegmentedMemoryMappedFileStorage(new File(base.getParentFile(), base.getName() + "-DATA"), size));
       }
-      size -= sizeToUse;
-      heaps.add(new IndexedHeap(sizeToUse));
-      storages.add(new MemoryMappedFileStorage(new File(base.getParentFile(), base.getName() + "-" + k), sizeToUse));
-      k++;
     }
 
     this.heap = new SequenceHeap(heaps.toArray(new Heap[heaps.size()]));
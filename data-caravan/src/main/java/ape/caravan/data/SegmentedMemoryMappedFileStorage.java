@@ -0,0 +1,115 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.caravan.data;
+
+import ape.caravan.index.Region;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/** implementation of a Storage using a single file memory mapped as a sequence of fixed size segments; regions may straddle segments */
+public class SegmentedMemoryMappedFileStorage implements Storage {
+  public static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024 * 1024;
+  private final RandomAccessFile storage;
+  private final MappedByteBuffer[] segments;
+  private final boolean[] dirty;
+  private final int segmentSize;
+  private final long size;
+
+  public SegmentedMemoryMappedFileStorage(File storeFile, long size) throws IOException {
+    this(storeFile, size, DEFAULT_SEGMENT_SIZE);
+  }
+
+  public SegmentedMemoryMappedFileStorage(File storeFile, long size, int segmentSize) throws IOException {
+    this.storage = new RandomAccessFile(storeFile, "rw");
+    storage.setLength(size);
+    if (storeFile.exists()) {
+      storeFile.setWritable(true, false);
+    }
+    this.size = size;
+    this.segmentSize = segmentSize;
+    int count = (int) ((size + segmentSize - 1) / segmentSize);
+    this.segments = new MappedByteBuffer[count];
+    this.dirty = new boolean[count];
+    FileChannel channel = storage.getChannel();
+    for (int k = 0; k < count; k++) {
+      long start = (long) k * segmentSize;
+      segments[k] = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(segmentSize, size - start));
+    }
+  }
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public void write(Region region, byte[] mem) {
+    long at = region.position;
+    int offset = 0;
+    while (offset < mem.length) {
+      int segment = (int) (at / segmentSize);
+      int within = (int) (at % segmentSize);
+      int length = Math.min(mem.length - offset, segmentSize - within);
+      segments[segment].put(within, mem, offset, length);
+      dirty[segment] = true;
+      offset += length;
+      at += length;
+    }
+  }
+
+  @Override
+  public byte[] read(Region region) {
+    byte[] mem = new byte[region.size];
+    long at = region.position;
+    int offset = 0;
+    while (offset < mem.length) {
+      int segment = (int) (at / segmentSize);
+      int within = (int) (at % segmentSize);
+      int length = Math.min(mem.length - offset, segmentSize - within);
+      segments[segment].get(within, mem, offset, length);
+      offset += length;
+      at += length;
+    }
+    return mem;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    for (int k = 0; k < segments.length; k++) {
+      if (dirty[k]) {
+        segments[k].force();
+        dirty[k] = false;
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    storage.close();
+  }
+}
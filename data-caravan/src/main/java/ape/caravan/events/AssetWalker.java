@@ -48,7 +48,7 @@ public class AssetWalker implements EventCodec.HandlerEvent {
 
   @Override
   public void handle(Events.Snapshot payload) {
-    scanJson(payload.document);
+    scanJson(payload.json());
   }
 
   @Override
@@ -24,6 +24,9 @@
 package ape.caravan.events;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.util.function.Consumer;
 
 public class ByteArrayHelper {
   public static byte[] convert(ByteBuf buf) {
@@ -33,4 +36,15 @@ public class ByteArrayHelper {
     }
     return memory;
   }
+
+  /** encode into a pooled buffer sized up front (so it never regrows), copy out once, and return the buffer to the pool */
+  public static byte[] encode(int sizeHint, Consumer<ByteBuf> writer) {
+    ByteBuf buf = PooledByteBufAllocator.DEFAULT.heapBuffer(sizeHint);
+    try {
+      writer.accept(buf);
+      return convert(buf);
+    } finally {
+      buf.release();
+    }
+  }
 }
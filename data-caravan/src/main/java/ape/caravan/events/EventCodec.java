@@ -60,6 +60,9 @@ public class EventCodec {
         case 80:
           handle(readBody_80(buf, new Recover()));
           return;
+        case 49:
+          handle(readBody_49(buf, new Snapshot()));
+          return;
         case 48:
           handle(readBody_48(buf, new Snapshot()));
           return;
@@ -85,6 +88,9 @@ public class EventCodec {
       case 80:
         handler.handle(readBody_80(buf, new Recover()));
         return;
+      case 49:
+        handler.handle(readBody_49(buf, new Snapshot()));
+        return;
       case 48:
         handler.handle(readBody_48(buf, new Snapshot()));
         return;
@@ -117,6 +123,8 @@ public class EventCodec {
 
   public static Snapshot read_Snapshot(ByteBuf buf) {
     switch (buf.readIntLE()) {
+      case 49:
+        return readBody_49(buf, new Snapshot());
       case 48:
         return readBody_48(buf, new Snapshot());
     }
@@ -124,6 +132,15 @@ public class EventCodec {
   }
 
 
+  private static Snapshot readBody_49(ByteBuf buf, Snapshot o) {
+    o.seq = buf.readIntLE();
+    o.history = buf.readIntLE();
+    o.document = Helper.readString(buf);
+    o.assetBytes = buf.readLongLE();
+    o.binary = Helper.readBytes(buf);
+    return o;
+  }
+
   private static Snapshot readBody_48(ByteBuf buf, Snapshot o) {
     o.seq = buf.readIntLE();
     o.history = buf.readIntLE();
@@ -186,11 +203,12 @@ public class EventCodec {
       buf.writeIntLE(0);
       return;
     }
-    buf.writeIntLE(48);
+    buf.writeIntLE(49);
     buf.writeIntLE(o.seq);
     buf.writeIntLE(o.history);
     Helper.writeString(buf, o.document);;
     buf.writeLongLE(o.assetBytes);
+    Helper.writeBytes(buf, o.binary);;
   }
 
   public static void write(ByteBuf buf, Batch o) {
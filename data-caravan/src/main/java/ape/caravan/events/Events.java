@@ -23,10 +23,13 @@
  */
 package ape.caravan.events;
 
+import ape.common.codec.FieldNew;
 import ape.common.codec.FieldOrder;
 import ape.common.codec.Flow;
+import ape.common.codec.PriorTypeId;
 import ape.common.codec.TypeId;
 import ape.runtime.data.RemoteDocumentUpdate;
+import ape.runtime.json.BinaryJson;
 
 /**
  * Data structures for Caravan write-ahead log events.
@@ -82,7 +85,8 @@ public interface Events {
     public Change[] changes;
   }
 
-  @TypeId(0x30)
+  @TypeId(0x31)
+  @PriorTypeId(0x30)
   @Flow("Event")
   class Snapshot {
     @FieldOrder(1)
@@ -93,6 +97,17 @@ public interface Events {
     public String document;
     @FieldOrder(4)
     public long assetBytes;
+    @FieldOrder(5)
+    @FieldNew
+    public byte[] binary;
+
+    /** the snapshot as json; a binary snapshot (see BinaryJson) leaves document null */
+    public String json() {
+      if (binary != null) {
+        return BinaryJson.decode(binary);
+      }
+      return document;
+    }
   }
 
   @TypeId(0x50)
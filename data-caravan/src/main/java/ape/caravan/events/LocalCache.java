@@ -27,7 +27,10 @@ import io.netty.buffer.Unpooled;
 import ape.caravan.contracts.ByteArrayStream;
 import ape.runtime.contracts.AutoMorphicAccumulator;
 import ape.runtime.data.LocalDocumentChange;
+import ape.runtime.json.BinaryJson;
 import ape.runtime.json.JsonAlgebra;
+import ape.runtime.json.JsonStreamReader;
+import ape.runtime.json.JsonStreamWriter;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -38,21 +41,48 @@ import java.util.concurrent.atomic.AtomicInteger;
  * In-memory cache for a single document's state within Caravan.
  * Accumulates snapshots and change events from the WAL, tracks sequence numbers,
  * and supports computing the current document state by merging base snapshots
- * with redo operations. Provides head patch computation and rewind capabilities
- * for time-travel queries.
+ * with redo operations. Once built, the merged tree is kept and each change is
+ * folded into it as it arrives so later builds only re-serialize (up to a
+ * per-document size cap and a budget shared across documents, both counted in
+ * JSON characters). Provides head patch computation and rewind
+ * capabilities for time-travel queries.
  */
 public abstract class LocalCache implements ByteArrayStream, EventCodec.HandlerEvent {
+  /** the default cap (in JSON characters) on the document size which is kept materialized */
+  public static final long DEFAULT_MATERIALIZE_LIMIT = 4 * 1024 * 1024;
   private final ArrayList<SeqString> redos;
   private final ArrayDeque<SeqString> undos;
+  private final long materializeLimit;
+  private final MaterializeBudget budget;
   public int currentAppendIndex;
   public SeqString document;
   private int seq;
+  // the merged tree of document + redos; only meaningful when materializedValid
+  private Object materialized;
+  private boolean materializedValid;
+  private int materializedSeq;
+  private long materializedSize;
 
   public LocalCache() {
+    this(DEFAULT_MATERIALIZE_LIMIT);
+  }
+
+  public LocalCache(long materializeLimit) {
+    this(materializeLimit, MaterializeBudget.unbounded());
+  }
+
+  /** materializeLimit bounds this document and budget bounds the total across documents (both in JSON characters) */
+  public LocalCache(long materializeLimit, MaterializeBudget budget) {
     this.document = null;
     this.redos = new ArrayList<>();
     this.undos = new ArrayDeque<>();
+    this.materializeLimit = materializeLimit;
+    this.budget = budget;
     this.seq = 0;
+    this.materialized = null;
+    this.materializedValid = false;
+    this.materializedSeq = -1;
+    this.materializedSize = 0;
   }
 
   public int seq() {
@@ -67,7 +97,8 @@ public abstract class LocalCache implements ByteArrayStream, EventCodec.HandlerE
 
   @Override
   public void handle(Events.Snapshot payload) {
-    document = new SeqString(payload.seq, payload.document);
+    document = new SeqString(payload.seq, payload.document, payload.binary);
+    dropMaterialized();
     Iterator<SeqString> it = redos.iterator();
     while (it.hasNext()) {
       if (it.next().seq + payload.history <= payload.seq) {
@@ -92,9 +123,33 @@ public abstract class LocalCache implements ByteArrayStream, EventCodec.HandlerE
 
   @Override
   public void handle(Events.Change change) {
-    redos.add(new SeqString(change.seq_end, change.redo));
-    undos.addFirst(new SeqString(change.seq_begin, change.undo));
+    redos.add(new SeqString(change.seq_end, change.redo, null));
+    undos.addFirst(new SeqString(change.seq_begin, change.undo, null));
     seq = change.seq_end;
+    if (materializedValid && change.seq_end > materializedSeq) {
+      materialized = JsonAlgebra.merge(materialized, new JsonStreamReader(change.redo).readJavaTree(), true);
+      materializedSeq = change.seq_end;
+      long grow = change.redo.length();
+      if (materializedSize + grow > materializeLimit || !budget.reserve(grow)) {
+        dropMaterialized();
+      } else {
+        materializedSize += grow;
+      }
+    }
+  }
+
+  /** drop the merged tree and give its share back to the budget */
+  public void dropMaterialized() {
+    budget.release(materializedSize);
+    materialized = null;
+    materializedValid = false;
+    materializedSeq = -1;
+    materializedSize = 0;
+  }
+
+  /** is the merged document held in memory (i.e. build will only re-serialize) */
+  public boolean isMaterialized() {
+    return materializedValid;
   }
 
   @Override
@@ -102,7 +157,8 @@ public abstract class LocalCache implements ByteArrayStream, EventCodec.HandlerE
     redos.clear();
     undos.clear();
     seq = payload.seq;
-    document = new SeqString(seq, payload.document);
+    document = new SeqString(seq, payload.document, null);
+    dropMaterialized();
   }
 
   public ArrayList<byte[]> filter(ArrayList<byte[]> writes) {
@@ -188,34 +244,64 @@ public abstract class LocalCache implements ByteArrayStream, EventCodec.HandlerE
   }
 
   public LocalDocumentChange build() {
-    AutoMorphicAccumulator<String> merger = JsonAlgebra.mergeAccumulator();
-    int count = 0;
+    if (!materializedValid) {
+      materialize();
+      if (!materializedValid) {
+        return null;
+      }
+    }
+    JsonStreamWriter writer = new JsonStreamWriter();
+    writer.writeTree(materialized);
+    String patch = writer.toString();
+    int count = redos.size() + (document != null ? 1 : 0);
+    long size = patch.length();
+    if (size > materializeLimit || (size > materializedSize && !budget.reserve(size - materializedSize))) {
+      // too big to hold onto, so the next build will fold from the log again
+      dropMaterialized();
+    } else {
+      budget.release(materializedSize - Math.min(size, materializedSize));
+      materializedSize = size;
+    }
+    return new LocalDocumentChange(patch, count, seq);
+  }
+
+  /** fold the base document and redos into the merged tree */
+  private void materialize() {
+    Object tree = null;
+    boolean has = false;
     int seqAt = -1;
     if (document != null) {
-      count++;
+      has = true;
       seqAt = document.seq;
-      merger.next(document.data);
+      if (document.binary != null) {
+        // binary snapshots decode straight into the tree form and skip the json text
+        tree = BinaryJson.decodeTree(document.binary);
+      } else {
+        tree = new JsonStreamReader(document.data).readJavaTree();
+      }
     }
     for (SeqString ss : redos) {
-      count++;
       if (ss.seq > seqAt) {
-        merger.next(ss.data);
+        Object redo = new JsonStreamReader(ss.data).readJavaTree();
+        tree = has ? JsonAlgebra.merge(tree, redo, true) : redo;
+        has = true;
         seqAt = ss.seq;
       }
     }
-    if (merger.empty()) {
-      return null;
-    }
-    return new LocalDocumentChange(merger.finish(), count, seq);
+    materialized = tree;
+    materializedValid = has;
+    materializedSeq = seqAt;
   }
 
   private class SeqString {
     private final int seq;
     private final String data;
+    private final byte[] binary;
 
-    public SeqString(int seq, String data) {
+    public SeqString(int seq, String data, byte[] binary) {
       this.seq = seq;
       this.data = data;
+      this.binary = binary;
     }
   }
 }
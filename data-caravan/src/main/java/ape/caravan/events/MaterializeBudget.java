@@ -0,0 +1,76 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.caravan.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A shared bound (counted in JSON characters) on the merged trees which a group of LocalCaches
+ * hold in memory. Each LocalCache reserves the serialized size of its merged tree and gives it
+ * back when the tree is dropped, so the sum across documents never exceeds the bound; a cache
+ * which can't reserve simply drops its tree and folds from the log on the next build.
+ */
+public class MaterializeBudget {
+  /** the default bound (in JSON characters) across all the documents of a data service */
+  public static final long DEFAULT_TOTAL = 256L * 1024 * 1024;
+  private final long total;
+  private final AtomicLong used;
+
+  public MaterializeBudget(long total) {
+    this.total = total;
+    this.used = new AtomicLong(0);
+  }
+
+  /** a budget which only the per-document limit bounds */
+  public static MaterializeBudget unbounded() {
+    return new MaterializeBudget(Long.MAX_VALUE);
+  }
+
+  /** try to take the given number of characters from the budget */
+  public boolean reserve(long chars) {
+    while (true) {
+      long current = used.get();
+      if (current + chars > total) {
+        return false;
+      }
+      if (used.compareAndSet(current, current + chars)) {
+        return true;
+      }
+    }
+  }
+
+  /** give the given number of characters back to the budget */
+  public void release(long chars) {
+    used.addAndGet(-chars);
+  }
+
+  /** the number of characters currently held */
+  public long used() {
+    return used.get();
+  }
+
+  public long total() {
+    return total;
+  }
+}
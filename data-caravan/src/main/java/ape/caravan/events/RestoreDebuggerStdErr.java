@@ -30,7 +30,7 @@ import java.util.ArrayList;
 public class RestoreDebuggerStdErr implements EventCodec.HandlerEvent {
   @Override
   public void handle(Events.Snapshot payload) {
-    System.err.println("Snapshot["+payload.seq+"]:" + payload.document);
+    System.err.println("Snapshot["+payload.seq+"]:" + payload.json());
   }
 
   @Override
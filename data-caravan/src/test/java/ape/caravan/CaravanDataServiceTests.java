@@ -635,4 +635,25 @@ public class CaravanDataServiceTests {
       Assert.assertEquals(writes.size(), filtered.size());
     });
   }
+
+  @Test
+  public void binary_snapshot() throws Exception {
+    flow((setup) -> {
+      SimpleMockCallback cb_InitSuccess = new SimpleMockCallback();
+      setup.service.initialize(KEY1, wrap(1, 1, 0), cb_InitSuccess);
+      cb_InitSuccess.assertSuccess();
+      for (int k = 0; k < 3; k++) {
+        SimpleMockCallback cb_PatchSuccess = new SimpleMockCallback();
+        setup.service.patch(KEY1, new RemoteDocumentUpdate[] { wrap(k + 2, k + 2, k + 1) }, cb_PatchSuccess);
+        cb_PatchSuccess.assertSuccess();
+      }
+      SimpleIntCallback cb_SnapshotSuccess = new SimpleIntCallback();
+      setup.service.snapshot(KEY1, new DocumentSnapshot(3, "{\"x\":3,\"y\":[1,2.5,\"z\"]}", 1, 0, true), cb_SnapshotSuccess);
+      cb_SnapshotSuccess.assertSuccess(0);
+      SimpleDataCallback cb_Get = new SimpleDataCallback();
+      setup.service.get(KEY1, cb_Get);
+      cb_Get.assertSuccess();
+      Assert.assertEquals("{\"x\":4,\"y\":[1,2.5,\"z\"]}", cb_Get.value);
+    });
+  }
 }
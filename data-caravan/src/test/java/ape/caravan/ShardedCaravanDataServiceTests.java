@@ -0,0 +1,150 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.caravan;
+
+import ape.caravan.data.DiskMetrics;
+import ape.caravan.data.DurableListStore;
+import ape.caravan.mocks.MockCloud;
+import ape.caravan.mocks.SimpleDataCallback;
+import ape.caravan.mocks.SimpleMockCallback;
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
+import ape.common.SimpleExecutor;
+import ape.common.metrics.NoOpMetricsFactory;
+import ape.runtime.data.*;
+import ape.runtime.natives.NtPrincipal;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ShardedCaravanDataServiceTests {
+  private static RemoteDocumentUpdate update(int seq, String redo) {
+    return new RemoteDocumentUpdate(seq, seq, NtPrincipal.NO_ONE, "REQUEST", redo, "{}", false, 0, 100, UpdateType.AddUserData);
+  }
+
+  @Test
+  public void flow() throws Exception {
+    File root = new File(File.createTempFile("ADAMATEST_", "yyy").getParentFile(), "sharded-" + System.currentTimeMillis());
+    root.mkdirs();
+    MockCloud cloud = new MockCloud();
+    CaravanMetrics metrics = new CaravanMetrics(new NoOpMetricsFactory());
+    DiskMetrics diskMetrics = new DiskMetrics(new NoOpMetricsFactory());
+    SimpleExecutor[] executors = new SimpleExecutor[3];
+    CaravanDataService[] shards = new CaravanDataService[3];
+    for (int k = 0; k < 3; k++) {
+      File wal = new File(root, "wal-" + k);
+      wal.mkdirs();
+      executors[k] = SimpleExecutor.create("shard-" + k);
+      DurableListStore store = new DurableListStore(diskMetrics, new File(root, "STORE-" + k), wal, 1024 * 1024, 64 * 1024, 1024 * 1024 * 32);
+      shards[k] = new CaravanDataService(metrics, cloud, store, executors[k]);
+    }
+    ShardedCaravanDataService service = new ShardedCaravanDataService(shards);
+    Assert.assertEquals(3, service.shards());
+    Thread flusher = new Thread(() -> {
+      while (true) {
+        try {
+          Thread.sleep(0, 800000);
+          service.flush(false).await(1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+          return;
+        }
+      }
+    });
+    flusher.start();
+    HashSet<CaravanDataService> used = new HashSet<>();
+    HashSet<Key> keys = new HashSet<>();
+    for (int k = 0; k < 20; k++) {
+      Key key = new Key("space", "key-" + k);
+      keys.add(key);
+      used.add(service.shardOf(key));
+      Assert.assertSame(service.shardOf(key), service.shardOf(new Key("space", "key-" + k)));
+      SimpleMockCallback cbInit = new SimpleMockCallback();
+      service.initialize(key, update(1, "{\"x\":" + k + "}"), cbInit);
+      cbInit.assertSuccess();
+      SimpleMockCallback cbPatch = new SimpleMockCallback();
+      service.patch(key, new RemoteDocumentUpdate[] {update(2, "{\"y\":" + k + "}")}, cbPatch);
+      cbPatch.assertSuccess();
+    }
+    Assert.assertEquals(3, used.size());
+    for (int k = 0; k < 20; k++) {
+      SimpleDataCallback cbGet = new SimpleDataCallback();
+      service.get(new Key("space", "key-" + k), cbGet);
+      cbGet.assertSuccess();
+      Assert.assertEquals("{\"x\":" + k + ",\"y\":" + k + "}", cbGet.value);
+    }
+    {
+      AtomicReference<Set<Key>> inventory = new AtomicReference<>();
+      CountDownLatch latch = new CountDownLatch(1);
+      service.inventory(new Callback<>() {
+        @Override
+        public void success(Set<Key> value) {
+          inventory.set(value);
+          latch.countDown();
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+        }
+      });
+      Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals(keys, new HashSet<>(inventory.get()));
+    }
+    {
+      AtomicReference<String> report = new AtomicReference<>();
+      CountDownLatch latch = new CountDownLatch(1);
+      service.diagnostics(new Callback<>() {
+        @Override
+        public void success(String value) {
+          report.set(value);
+          latch.countDown();
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+        }
+      });
+      Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertTrue(report.get().startsWith("[{\"platform\""));
+    }
+    {
+      SimpleMockCallback cbClose = new SimpleMockCallback();
+      service.close(new Key("space", "key-0"), cbClose);
+      cbClose.assertSuccess();
+      service.shed(new Key("space", "key-1"));
+    }
+    Assert.assertTrue(service.flush(true).await(5000, TimeUnit.MILLISECONDS));
+    flusher.interrupt();
+    flusher.join();
+    Assert.assertTrue(service.shutdown().await(5000, TimeUnit.MILLISECONDS));
+    for (SimpleExecutor executor : executors) {
+      executor.shutdown();
+    }
+  }
+}
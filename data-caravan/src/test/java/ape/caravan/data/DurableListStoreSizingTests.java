@@ -23,6 +23,7 @@
  */
 package ape.caravan.data;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.File;
@@ -40,4 +41,21 @@ public class DurableListStoreSizingTests {
       }
     }
   }
+
+  @Test
+  public void legacy() throws Exception {
+    File f = File.createTempFile("ADAMATEST", "LEGACY");
+    File legacy = new File(f.getParentFile(), f.getName() + "-0");
+    legacy.createNewFile();
+    DurableListStoreSizing sz = new DurableListStoreSizing(3L * 1024 * 1024 * 1024L, f);
+    Assert.assertEquals(3L * 1024 * 1024 * 1024L, sz.storage.size());
+    sz.storage.close();
+    Assert.assertTrue(new File(f.getParentFile(), f.getName() + "-1").exists());
+    Assert.assertFalse(new File(f.getParentFile(), f.getName() + "-DATA").exists());
+    for (File x : f.getParentFile().listFiles()) {
+      if (x.getName().startsWith("ADAMA")) {
+        x.deleteOnExit();
+      }
+    }
+  }
 }
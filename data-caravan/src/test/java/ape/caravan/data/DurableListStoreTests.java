@@ -304,4 +304,54 @@ public class DurableListStoreTests {
       testRoot.delete();
     }
   }
+
+  @Test
+  public void group_commit() throws Exception {
+    File testRoot = File.createTempFile("flow", "durable_list_store_group");
+    testRoot.delete();
+    testRoot.mkdirs();
+    try {
+      {
+        DurableListStore store = new DurableListStore(new DiskMetrics(new NoOpMetricsFactory()), new File(testRoot, "storage"), testRoot, 64 * 1024, 1024 * 1024, 32 * 1024 * 1024, FsyncPolicy.GroupCommit, 50);
+        AtomicInteger count = new AtomicInteger(0);
+        Runnable event = () -> { count.incrementAndGet(); };
+        store.append(new Key("s", "1"), "A".getBytes(StandardCharsets.UTF_8), 1, 0, event);
+        store.append(new Key("s", "2"), "B".getBytes(StandardCharsets.UTF_8), 1, 0, event);
+        store.flush(false);
+        // the group is open, so nothing is acknowledged yet but reads see the data
+        Assert.assertEquals(0, count.get());
+        {
+          MockByteArrayStream stream = new MockByteArrayStream();
+          store.read(new Key("s", "1"), stream);
+          stream.assertIs("[0=A/1]FINISHED");
+        }
+        Thread.sleep(60);
+        store.flush(false);
+        Assert.assertEquals(2, count.get());
+        store.append(new Key("s", "1"), "C".getBytes(StandardCharsets.UTF_8), 2, 0, event);
+        store.flush(true);
+        Assert.assertEquals(3, count.get());
+        store.shutdown();
+      }
+      {
+        DurableListStore store = new DurableListStore(new DiskMetrics(new NoOpMetricsFactory()), new File(testRoot, "storage"), testRoot, 64 * 1024, 1024 * 1024, 32 * 1024 * 1024, FsyncPolicy.PerFlush, 0);
+        AtomicInteger count = new AtomicInteger(0);
+        Runnable event = () -> { count.incrementAndGet(); };
+        {
+          MockByteArrayStream stream = new MockByteArrayStream();
+          store.read(new Key("s", "1"), stream);
+          stream.assertIs("[0=A/1][1=C/2]FINISHED");
+        }
+        store.append(new Key("s", "2"), "D".getBytes(StandardCharsets.UTF_8), 2, 0, event);
+        store.flush(false);
+        Assert.assertEquals(1, count.get());
+        store.shutdown();
+      }
+    } finally {
+      for (File file : testRoot.listFiles()) {
+        file.delete();
+      }
+      testRoot.delete();
+    }
+  }
 }
@@ -0,0 +1,67 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.caravan.data;
+
+import ape.caravan.index.Region;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+public class SegmentedMemoryMappedFileStorageTests {
+
+  @Test
+  public void flow() throws Exception {
+    File fileToUse = File.createTempFile("adama_", "storage");
+    SegmentedMemoryMappedFileStorage storage = new SegmentedMemoryMappedFileStorage(fileToUse, 1000, 64);
+    Assert.assertEquals(1000, storage.size());
+    storage.write(new Region(8, 2), "Hi".getBytes(StandardCharsets.UTF_8));
+    Assert.assertEquals("Hi", new String(storage.read(new Region(8, 2)), StandardCharsets.UTF_8));
+    storage.flush();
+    storage.flush();
+    storage.close();
+    fileToUse.delete();
+  }
+
+  @Test
+  public void straddle() throws Exception {
+    File fileToUse = File.createTempFile("adama_", "storage");
+    SegmentedMemoryMappedFileStorage storage = new SegmentedMemoryMappedFileStorage(fileToUse, 1000, 64);
+    byte[] big = new byte[300];
+    for (int k = 0; k < big.length; k++) {
+      big[k] = (byte) k;
+    }
+    storage.write(new Region(60, big.length), big);
+    Assert.assertArrayEquals(big, storage.read(new Region(60, big.length)));
+    storage.write(new Region(990, 10), "0123456789".getBytes(StandardCharsets.UTF_8));
+    Assert.assertEquals("456789", new String(storage.read(new Region(994, 6)), StandardCharsets.UTF_8));
+    storage.flush();
+    storage.close();
+    SegmentedMemoryMappedFileStorage reopen = new SegmentedMemoryMappedFileStorage(fileToUse, 1000, 128);
+    Assert.assertArrayEquals(big, reopen.read(new Region(60, big.length)));
+    reopen.close();
+    fileToUse.delete();
+  }
+}
@@ -25,6 +25,8 @@ package ape.caravan.events;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import ape.common.codec.Helper;
+import ape.runtime.json.BinaryJson;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -163,4 +165,134 @@ public class LocalCacheTests {
     RestoreDebuggerStdErr.print(list);
     Assert.assertEquals("{\"z\":100}", cache.build().patch);
   }
+
+  @Test
+  public void binary_snapshot() {
+    LocalCache cache = new LocalCache() {
+      @Override
+      public void finished() throws Exception {
+      }
+    };
+    Events.Snapshot snap = new Events.Snapshot();
+    snap.seq = 1;
+    snap.binary = BinaryJson.encode("{\"x\":1,\"y\":{\"z\":[1,2.5,\"w\"]}}");
+    snap.history = 10;
+    ByteBuf buf = Unpooled.buffer();
+    EventCodec.write(buf, snap);
+    Events.Snapshot read = EventCodec.read_Snapshot(buf);
+    Assert.assertNull(read.document);
+    Assert.assertEquals("{\"x\":1,\"y\":{\"z\":[1,2.5,\"w\"]}}", read.json());
+    cache.handle(read);
+    Events.Change change = new Events.Change();
+    change.seq_begin = 2;
+    change.seq_end = 2;
+    change.redo = "{\"x\":2}";
+    change.undo = "{\"x\":1}";
+    cache.handle(change);
+    Assert.assertEquals("{\"x\":2,\"y\":{\"z\":[1,2.5,\"w\"]}}", cache.build().patch);
+  }
+
+  @Test
+  public void prior_snapshot_format() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeIntLE(0x30);
+    buf.writeIntLE(7);
+    buf.writeIntLE(3);
+    Helper.writeString(buf, "{\"x\":1}");
+    buf.writeLongLE(42);
+    Events.Snapshot snap = EventCodec.read_Snapshot(buf);
+    Assert.assertEquals(7, snap.seq);
+    Assert.assertEquals(3, snap.history);
+    Assert.assertEquals(42, snap.assetBytes);
+    Assert.assertNull(snap.binary);
+    Assert.assertEquals("{\"x\":1}", snap.json());
+  }
+
+  private static Events.Change change(int seq, String redo) {
+    Events.Change change = new Events.Change();
+    change.seq_begin = seq;
+    change.seq_end = seq;
+    change.redo = redo;
+    change.undo = "{}";
+    return change;
+  }
+
+  @Test
+  public void materialized_incrementally() {
+    LocalCache cache = new LocalCache() {
+      @Override
+      public void finished() throws Exception {
+      }
+    };
+    Assert.assertNull(cache.build());
+    for (byte[] write : prepare()) {
+      EventCodec.route(Unpooled.wrappedBuffer(write), cache);
+    }
+    Assert.assertFalse(cache.isMaterialized());
+    Assert.assertEquals("{\"x\":3}", cache.build().patch);
+    Assert.assertTrue(cache.isMaterialized());
+    cache.handle(change(6, "{\"y\":{\"z\":1}}"));
+    cache.handle(change(7, "{\"x\":4,\"y\":{\"z\":2}}"));
+    Assert.assertTrue(cache.isMaterialized());
+    Assert.assertEquals("{\"x\":4,\"y\":{\"z\":2}}", cache.build().patch);
+    Assert.assertEquals(5, cache.build().reads);
+    Events.Snapshot snap = new Events.Snapshot();
+    snap.seq = 7;
+    snap.history = 1;
+    snap.document = "{\"x\":4,\"y\":{\"z\":2}}";
+    cache.handle(snap);
+    Assert.assertFalse(cache.isMaterialized());
+    Assert.assertEquals("{\"x\":4,\"y\":{\"z\":2}}", cache.build().patch);
+    cache.handle(change(8, "{\"y\":null}"));
+    Assert.assertEquals("{\"x\":4,\"y\":null}", cache.build().patch);
+  }
+
+  @Test
+  public void materialize_limit() {
+    LocalCache cache = new LocalCache(10) {
+      @Override
+      public void finished() throws Exception {
+      }
+    };
+    cache.handle(change(1, "{\"x\":1}"));
+    Assert.assertEquals("{\"x\":1}", cache.build().patch);
+    Assert.assertTrue(cache.isMaterialized());
+    cache.handle(change(2, "{\"y\":\"long enough\"}"));
+    Assert.assertFalse(cache.isMaterialized());
+    Assert.assertEquals("{\"x\":1,\"y\":\"long enough\"}", cache.build().patch);
+    Assert.assertFalse(cache.isMaterialized());
+  }
+
+  @Test
+  public void materialize_budget_shared() {
+    MaterializeBudget budget = new MaterializeBudget(12);
+    LocalCache a = new LocalCache(100, budget) {
+      @Override
+      public void finished() throws Exception {
+      }
+    };
+    LocalCache b = new LocalCache(100, budget) {
+      @Override
+      public void finished() throws Exception {
+      }
+    };
+    a.handle(change(1, "{\"x\":1}"));
+    b.handle(change(1, "{\"y\":2}"));
+    Assert.assertEquals("{\"x\":1}", a.build().patch);
+    Assert.assertTrue(a.isMaterialized());
+    Assert.assertEquals(7, budget.used());
+    // the second document doesn't fit alongside the first
+    Assert.assertEquals("{\"y\":2}", b.build().patch);
+    Assert.assertFalse(b.isMaterialized());
+    Assert.assertEquals(7, budget.used());
+    // growing past the budget drops the tree and returns its share
+    a.handle(change(2, "{\"x\":12}"));
+    Assert.assertFalse(a.isMaterialized());
+    Assert.assertEquals(0, budget.used());
+    Assert.assertEquals("{\"y\":2}", b.build().patch);
+    Assert.assertTrue(b.isMaterialized());
+    Assert.assertEquals(7, budget.used());
+    b.dropMaterialized();
+    Assert.assertEquals(0, budget.used());
+  }
 }
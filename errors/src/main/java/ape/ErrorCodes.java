@@ -323,6 +323,10 @@ public class ErrorCodes {
   public static final int CAPACITY_FETCH_LOOKUP_FAILURE = 131825;
   public static final int CACHED_BYTE_CODE_FAILED_PACK = 162036;
   public static final int CACHED_BYTE_CODE_FAILED_UNPACK = 127732;
+  public static final int DISK_BYTE_CODE_NOT_FOUND = 162048;
+  public static final int DISK_BYTE_CODE_CORRUPT = 162052;
+  public static final int DISK_BYTE_CODE_FAILED_READ = 162056;
+  public static final int DISK_BYTE_CODE_FAILED_WRITE = 162060;
 
   public static final int RESTORE_ALREADY_IN_FLIGHT = 197872;
   public static final int RESTORE_COMPLETED = 193264;
@@ -806,6 +810,7 @@ public class ErrorCodes {
   public static final int ASSET_TRANSFORM_INVALID_INSTRUCTION = 799844;
   public static final int ASSET_TRANSFORM_TIMEOUT = 799848;
   public static final int ASSET_TRANSFORM_TOO_MANY_INFLIGHT = 799852;
+  public static final int ASSET_TRANSFORM_CANCELLED = 799856;
 
   public static final int MANAGED_STORAGE_WRONG_MACHINE = 735344;
   public static final int MANAGED_STORAGE_NULL_ARCHIVE = 778433;
@@ -377,6 +377,14 @@ public class ErrorTable {
     descriptions.put(162036, "no description of error (yet)");
     names.put(127732, "CACHED_BYTE_CODE_FAILED_UNPACK");
     descriptions.put(127732, "no description of error (yet)");
+    names.put(162048, "DISK_BYTE_CODE_NOT_FOUND");
+    descriptions.put(162048, "no description of error (yet)");
+    names.put(162052, "DISK_BYTE_CODE_CORRUPT");
+    descriptions.put(162052, "no description of error (yet)");
+    names.put(162056, "DISK_BYTE_CODE_FAILED_READ");
+    descriptions.put(162056, "no description of error (yet)");
+    names.put(162060, "DISK_BYTE_CODE_FAILED_WRITE");
+    descriptions.put(162060, "no description of error (yet)");
     names.put(197872, "RESTORE_ALREADY_IN_FLIGHT");
     descriptions.put(197872, "no description of error (yet)");
     names.put(193264, "RESTORE_COMPLETED");
@@ -996,6 +1004,8 @@ public class ErrorTable {
     descriptions.put(799848, "no description of error (yet)");
     names.put(799852, "ASSET_TRANSFORM_TOO_MANY_INFLIGHT");
     descriptions.put(799852, "no description of error (yet)");
+    names.put(799856, "ASSET_TRANSFORM_CANCELLED");
+    descriptions.put(799856, "no description of error (yet)");
     names.put(735344, "MANAGED_STORAGE_WRONG_MACHINE");
     descriptions.put(735344, "no description of error (yet)");
     names.put(778433, "MANAGED_STORAGE_NULL_ARCHIVE");
@@ -27,11 +27,16 @@ import ape.common.*;
 import ape.common.metrics.MetricsFactory;
 import ape.common.metrics.NoOpMetricsFactory;
 import ape.runtime.contracts.BackupService;
+import ape.runtime.contracts.LivingDocumentFactoryFactory;
 import ape.runtime.data.DataObserver;
 import ape.runtime.data.InMemoryDataService;
 import ape.runtime.data.Key;
 import ape.runtime.deploy.AsyncByteCodeCache;
 import ape.runtime.deploy.DeploymentFactoryBase;
+import ape.runtime.deploy.DeploymentMetrics;
+import ape.runtime.deploy.DiskByteCodeSystem;
+import ape.runtime.deploy.ManagedAsyncByteCodeCache;
+import ape.runtime.deploy.WarmBoot;
 import ape.runtime.remote.MetricsReporter;
 import ape.runtime.sys.CoreMetrics;
 import ape.runtime.sys.CoreService;
@@ -41,13 +46,17 @@ import ape.runtime.sys.domains.Domain;
 import ape.runtime.sys.domains.DomainFinder;
 import ape.runtime.sys.readonly.ReplicationInitiator;
 import ape.translator.env.RuntimeEnvironment;
+import ape.translator.jvm.LivingDocumentFactory;
 import ape.web.service.ServiceRunnable;
 import ape.web.service.WebConfig;
 import ape.web.service.WebMetrics;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Consumer;
@@ -60,22 +69,69 @@ import java.util.function.Consumer;
  */
 public class Solo {
   private final SimpleExecutor commonExecutor;
+  private final SimpleExecutor compilerExecutor;
   private final ExecutorService inmemoryExecutor;
   private final Thread serviceThread;
   private final CoreService service;
   private final ServiceRunnable runnable;
+  private final WarmBoot warm;
+  private final File warmDir;
 
   public Solo(String scanDir, String webConfigJson) throws Exception {
+    this(scanDir, webConfigJson, null, 1);
+  }
+
+  public Solo(String scanDir, String webConfigJson, File byteCodeCache, int nThreads) throws Exception {
+    this(scanDir, webConfigJson, byteCodeCache, null, nThreads);
+  }
+
+  /**
+   * @param byteCodeCache (optional) is a directory which holds compiled spaces across restarts
+   * @param warmDir (optional) is a directory which holds the hot spaces (deployed first on boot) and the class-data archive
+   * @param nThreads the number of document threads; hot documents are rebalanced across them when there is more than one
+   */
+  public Solo(String scanDir, String webConfigJson, File byteCodeCache, File warmDir, int nThreads) throws Exception {
+    this.warm = new WarmBoot();
+    this.warmDir = warmDir;
     commonExecutor = SimpleExecutor.create("common");
+    compilerExecutor = SimpleExecutor.createPool("compiler", Runtime.getRuntime().availableProcessors());
     inmemoryExecutor = Executors.newSingleThreadExecutor();
     WebConfig webConfig = new WebConfig(new ConfigObject(Json.parseJsonObject(webConfigJson)));
     RuntimeEnvironment runtimeEnvironment = RuntimeEnvironment.Production;
     MetricsFactory factory = new NoOpMetricsFactory();
     CoreMetrics coreMetrics = new CoreMetrics(factory);
     WebMetrics webMetrics = new WebMetrics(factory);
-    DeploymentFactoryBase base = new DeploymentFactoryBase(AsyncByteCodeCache.DIRECT, runtimeEnvironment);
-    SoloBundler.scan(new File(scanDir), base, (err) -> {
+    AsyncByteCodeCache byteCode = AsyncByteCodeCache.DIRECT;
+    if (byteCodeCache != null) {
+      byteCode = new ManagedAsyncByteCodeCache(new DiskByteCodeSystem(SimpleExecutor.NOW, byteCodeCache, 256L * 1024 * 1024), SimpleExecutor.NOW, new DeploymentMetrics(factory));
+    }
+    // spaces (and the versions within them) compile in parallel on the compiler pool
+    DeploymentFactoryBase base = new DeploymentFactoryBase(byteCode, runtimeEnvironment, compilerExecutor);
+    List<String> hot = Collections.emptyList();
+    if (warmDir != null) {
+      warmDir.mkdirs();
+      hot = WarmBoot.load(hotSpacesOf(warmDir));
+    }
+    SoloBundler.scan(new File(scanDir), base, hot, (err) -> {
     });
+    // track the heat of each space such that the hottest are deployed first on the next boot
+    LivingDocumentFactoryFactory tracked = new LivingDocumentFactoryFactory() {
+      @Override
+      public void fetch(Key key, Callback<LivingDocumentFactory> callback) {
+        warm.touch(key.space);
+        base.fetch(key, callback);
+      }
+
+      @Override
+      public void account(HashMap<String, PredictiveInventory.MeteringSample> sample) {
+        base.account(sample);
+      }
+
+      @Override
+      public Collection<String> spacesAvailable() {
+        return base.spacesAvailable();
+      }
+    };
     Consumer<HashMap<String, PredictiveInventory.MeteringSample>> meteringEvent = (map) -> {
     };
     MetricsReporter reporter = new MetricsReporter() {
@@ -105,8 +161,10 @@ public class Solo {
       }
     };
     TimeSource timeSource = TimeSource.REAL_TIME;
-    int nThreads = 1;
-    service = new CoreService(coreMetrics, base, meteringEvent, reporter, dataService, backupService, wakeService, replicationInitiator, timeSource, nThreads);
+    service = new CoreService(coreMetrics, tracked, meteringEvent, reporter, dataService, backupService, wakeService, replicationInitiator, timeSource, nThreads);
+    if (nThreads > 1) {
+      service.enableRebalancing(30000, 250, 4);
+    }
     base.attachDeliverer(service);
     SoloServiceBase soloBase = new SoloServiceBase(service);
     runnable = new ServiceRunnable(webConfig, webMetrics, soloBase, (domain, callback) -> callback.success(null), new DomainFinder() {
@@ -124,6 +182,10 @@ public class Solo {
   public static void main(String[] args) throws Exception {
     String scanDir = ".";
     String webConfigJson = "{}";
+    File byteCodeCache = null;
+    File warmDir = null;
+    boolean printJvmOptions = false;
+    int nThreads = 1;
     for (int k = 0; k < args.length; k++) {
       if (args[k].startsWith("--scan") && k + 1 < args.length) {
         k++;
@@ -133,8 +195,35 @@ public class Solo {
         k++;
         webConfigJson = Files.readString(new File(args[k]).toPath());
       }
+      if (args[k].startsWith("--bytecode-cache") && k + 1 < args.length) {
+        k++;
+        byteCodeCache = new File(args[k]);
+      }
+      if (args[k].startsWith("--threads") && k + 1 < args.length) {
+        k++;
+        nThreads = Math.max(1, Integer.parseInt(args[k]));
+      }
+      if (args[k].startsWith("--warm") && k + 1 < args.length) {
+        k++;
+        warmDir = new File(args[k]);
+      }
+      if (args[k].equals("--print-jvm-options")) {
+        printJvmOptions = true;
+      }
+    }
+    if (printJvmOptions) {
+      // for the launcher: the first run dumps the class-data archive on exit, and later runs map it
+      if (warmDir != null) {
+        warmDir.mkdirs();
+        File archive = archiveOf(warmDir);
+        List<String> options = archive.exists() ? WarmBoot.archiveBootOptions(archive) : WarmBoot.archiveDumpOptions(archive);
+        System.out.println(String.join(" ", options));
+      }
+      return;
     }
-    Solo solo = new Solo(scanDir, webConfigJson);
+    Solo solo = new Solo(scanDir, webConfigJson, byteCodeCache, warmDir, nThreads);
+    // the hot spaces are written even when the process is stopped by a signal
+    Runtime.getRuntime().addShutdownHook(new Thread(solo::saveWarmBoot));
     try {
       solo.serviceThread.join();
     } finally {
@@ -142,12 +231,34 @@ public class Solo {
     }
   }
 
+  private static File hotSpacesOf(File warmDir) {
+    return new File(warmDir, "hot-spaces.txt");
+  }
+
+  private static File archiveOf(File warmDir) {
+    return new File(warmDir, "solo.jsa");
+  }
+
+  /** write the hottest spaces such that the next boot deploys them first */
+  public void saveWarmBoot() {
+    if (warmDir == null) {
+      return;
+    }
+    try {
+      warm.save(hotSpacesOf(warmDir), 64);
+    } catch (Exception ex) {
+      System.err.println("failed to save the hot spaces:" + ex.getMessage());
+    }
+  }
+
   public void shutdown() throws InterruptedException {
+    saveWarmBoot();
     try {
       service.shutdown();
     } finally {
       runnable.shutdown();
       commonExecutor.shutdown();
+      compilerExecutor.shutdown();
       inmemoryExecutor.shutdown();
     }
   }
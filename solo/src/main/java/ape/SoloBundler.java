@@ -24,14 +24,20 @@
 package ape;
 
 import ape.common.Callback;
+import ape.common.ErrorCodeException;
 import ape.common.Json;
+import ape.runtime.deploy.Deploy;
 import ape.runtime.deploy.DeploymentFactoryBase;
 import ape.runtime.deploy.DeploymentPlan;
+import ape.runtime.deploy.WarmBoot;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.CountDownLatch;
@@ -90,10 +96,17 @@ public class SoloBundler {
     return null;
   }
 
+  /** deploy every space found under the root; the deploys overlap (compiling in parallel when the base has a pooled compiler) */
   public static void scan(File root, DeploymentFactoryBase base, Consumer<String> error) throws Exception {
+    scan(root, base, Collections.emptyList(), error);
+  }
+
+  /** deploy every space found under the root such that the hot spaces (see WarmBoot) are deployed ahead of the rest */
+  public static void scan(File root, DeploymentFactoryBase base, List<String> hot, Consumer<String> error) throws Exception {
     if (!root.exists()) {
       error.accept("scan root does not exist");
     }
+    TreeMap<String, String> plans = new TreeMap<>();
     for (File potentialSpace : root.listFiles()) {
       if (potentialSpace.isDirectory()) {
         File main = firstExist(potentialSpace, "main.adama", "backend.adama");
@@ -104,13 +117,63 @@ public class SoloBundler {
           String spaceName = potentialSpace.getName();
           System.out.println("found:" + spaceName);
           String plan = bundle(spaceName, main, imports, error);
-          CountDownLatch latch = new CountDownLatch(1);
-          base.deploy(spaceName, new DeploymentPlan(plan, (t, ec) -> {
-            error.accept("adama|solo-deployment-issue[Code-" + ec + "]: " + t.getMessage());
-          }), new TreeMap<>(), Callback.FINISHED_LATCH_DONT_CARE_VOID(latch));
-          latch.await(60000, TimeUnit.MILLISECONDS);
+          if (plan != null) {
+            plans.put(spaceName, plan);
+          }
         }
       }
     }
+    Deploy deploy = (space, callback) -> {
+      try {
+        base.deploy(space, new DeploymentPlan(plans.get(space), (t, ec) -> {
+          error.accept("adama|solo-deployment-issue[Code-" + ec + "]: " + t.getMessage());
+        }), new TreeMap<>(), callback);
+      } catch (ErrorCodeException ex) {
+        callback.failure(ex);
+      }
+    };
+    ArrayList<String> first = new ArrayList<>();
+    for (String space : hot) {
+      if (plans.containsKey(space) && !first.contains(space)) {
+        first.add(space);
+      }
+    }
+    ArrayList<String> rest = new ArrayList<>(plans.keySet());
+    rest.removeAll(first);
+    deployAll(deploy, first, error);
+    deployAll(deploy, rest, error);
+  }
+
+  /** deploy the spaces concurrently and wait for all of them */
+  private static void deployAll(Deploy deploy, List<String> spaces, Consumer<String> error) throws Exception {
+    CountDownLatch latch = new CountDownLatch(spaces.size());
+    Deploy counted = (space, callback) -> deploy.deploy(space, new Callback<>() {
+      @Override
+      public void success(Void value) {
+        callback.success(null);
+        latch.countDown();
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        callback.failure(ex);
+        latch.countDown();
+      }
+    });
+    WarmBoot.prewarm(counted, spaces, new Callback<>() {
+      @Override
+      public void success(Integer deployed) {
+        if (deployed < spaces.size()) {
+          error.accept("adama|solo-scan|" + (spaces.size() - deployed) + " deployment(s) failed");
+        }
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+      }
+    });
+    if (!latch.await(60000, TimeUnit.MILLISECONDS)) {
+      error.accept("adama|solo-scan|timed out waiting for " + latch.getCount() + " deployment(s)");
+    }
   }
 }
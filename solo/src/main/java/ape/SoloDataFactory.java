@@ -76,7 +76,7 @@ File walRoot = new File(corePath, "wal");
 
 
             DurableListStore store = new DurableListStore(diskMetrics, storePath, walRoot, 4L * 1024 * 1024 * 1024, 16 * 1024 * 1024, 64 * 1024 * 1024);
-            CaravanDataService dataService = new CaravanDataService(caravanMetrics, cloud, store, diskExecutor);
+            CaravanDataService dataService = new CaravanDataService(caravanMetrics, cloud, store, diskExecutor, LocalCache.DEFAULT_MATERIALIZE_LIMIT, MaterializeBudget.DEFAULT_TOTAL);
             */
     return null;
   }
@@ -26,6 +26,7 @@ package ape.web.assets.cache;
 import ape.ErrorCodes;
 import ape.common.ErrorCodeException;
 import ape.common.ExceptionLogger;
+import ape.common.Hashing;
 import ape.common.NamedRunnable;
 import ape.common.SimpleExecutor;
 import ape.runtime.natives.NtAsset;
@@ -35,14 +36,18 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.RandomAccessFile;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.function.Consumer;
 
 /**
  * Disk-backed cache entry for larger assets (up to 16MB).
  * Writes chunks to temp file as they arrive, supports concurrent readers
  * via file seek and replay. Late-joining streams receive already-written
  * data immediately then follow live writes. Cleans up temp file on eviction.
+ * Entries restored from the persistent index of a prior process start done
+ * and are validated (size and sha384) off the entry's executor before first use.
  */
 public class FileCacheAsset implements CachedAsset {
   private static final Logger LOG = LoggerFactory.getLogger(FileCacheAsset.class);
@@ -56,6 +61,10 @@ public class FileCacheAsset implements CachedAsset {
   private boolean done;
   private boolean kill;
   private Integer failed;
+  private boolean validated;
+  private long created;
+  private long lastAccess;
+  private final ArrayList<Consumer<Boolean>> validating;
 
   public FileCacheAsset(long localId, File cacheRoot, NtAsset asset, SimpleExecutor executor) throws ErrorCodeException {
     this.asset = asset;
@@ -65,6 +74,8 @@ public class FileCacheAsset implements CachedAsset {
     this.kill = false;
     this.failed = null;
     this.streams = new ArrayList<>();
+    this.validated = true;
+    this.validating = new ArrayList<>();
     try {
       String name = "asset." + localId + "." + asset.id + ".cache";
       this.filename = new File(cacheRoot, name);
@@ -74,6 +85,110 @@ public class FileCacheAsset implements CachedAsset {
     }
   }
 
+  /** restore a fully written file from a prior process */
+  public FileCacheAsset(File filename, NtAsset asset, SimpleExecutor executor) throws ErrorCodeException {
+    this.asset = asset;
+    this.executor = executor;
+    this.done = true;
+    this.written = asset.size;
+    this.kill = false;
+    this.failed = null;
+    this.streams = new ArrayList<>();
+    this.validated = false;
+    this.validating = new ArrayList<>();
+    this.filename = filename;
+    try {
+      this.file = new RandomAccessFile(filename, "rwd");
+    } catch (Exception ex) {
+      throw ErrorCodeException.detectOrWrap(ErrorCodes.CACHE_ASSET_FILE_FAILED_CREATE, ex, EXLOGGER);
+    }
+  }
+
+  /** the file backing this entry */
+  public File file() {
+    return filename;
+  }
+
+  /** record when the entry was fetched from the origin and when it was last used */
+  public void stamp(long created, long lastAccess) {
+    this.created = created;
+    this.lastAccess = lastAccess;
+  }
+
+  public void touch(long now) {
+    this.lastAccess = now;
+  }
+
+  public long created() {
+    return created;
+  }
+
+  public long lastAccess() {
+    return lastAccess;
+  }
+
+  /** is the entry fully written and healthy such that it is worth remembering across a restart */
+  public boolean persistableWhileInExecutor() {
+    return done && failed == null && !kill && written == asset.size;
+  }
+
+  /**
+   * lazily check a restored file against the asset; the hashing runs on the given executor (with its own handle) and
+   * the result is delivered within this entry's executor. A mismatch kills the entry.
+   */
+  public void validateWhileInExecutor(SimpleExecutor hasher, Consumer<Boolean> result) {
+    if (validated) {
+      result.accept(failed == null);
+      return;
+    }
+    validating.add(result);
+    if (validating.size() > 1) {
+      // another requestor is already waiting on the hash
+      return;
+    }
+    hasher.execute(new NamedRunnable("fc-validate") {
+      @Override
+      public void execute() throws Exception {
+        boolean valid = checkFile();
+        executor.execute(new NamedRunnable("fc-validated") {
+          @Override
+          public void execute() throws Exception {
+            validated = true;
+            if (!valid && failed == null) {
+              failed = ErrorCodes.CACHE_ASSET_FILE_CLOSED_PRIOR_ATTACH;
+              killWhileInExecutor();
+            }
+            ArrayList<Consumer<Boolean>> waiting = new ArrayList<>(validating);
+            validating.clear();
+            for (Consumer<Boolean> waiter : waiting) {
+              waiter.accept(failed == null);
+            }
+          }
+        });
+      }
+    });
+  }
+
+  /** does the file on disk match the size and sha384 of the asset */
+  private boolean checkFile() {
+    try (RandomAccessFile check = new RandomAccessFile(filename, "r")) {
+      boolean valid = check.length() == asset.size;
+      if (valid && asset.sha384 != null && !asset.sha384.isEmpty()) {
+        MessageDigest digest = Hashing.sha384();
+        byte[] chunk = new byte[8192];
+        int rd;
+        while ((rd = check.read(chunk)) >= 0) {
+          digest.update(chunk, 0, rd);
+        }
+        valid = Hashing.finishAndEncode(digest).equals(asset.sha384);
+      }
+      return valid;
+    } catch (Exception ex) {
+      LOG.error("cache-validate", ex);
+      return false;
+    }
+  }
+
   @Override
   public SimpleExecutor executor() {
     return executor;
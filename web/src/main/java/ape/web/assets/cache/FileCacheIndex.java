@@ -0,0 +1,118 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.web.assets.cache;
+
+import ape.common.Json;
+import ape.runtime.natives.NtAsset;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Persistent index of the disk tier of the WebHandlerAssetCache so a restarted process can rehydrate
+ * its files rather than refetch everything from the origin. The index is a json-per-line file written
+ * to a temporary file and atomically moved over the prior index; lines that fail to parse are skipped.
+ */
+public class FileCacheIndex {
+  private static final Logger LOG = LoggerFactory.getLogger(FileCacheIndex.class);
+  public static final String NAME = "cache.index";
+
+  public static class Entry {
+    public final NtAsset asset;
+    public final String file;
+    public final long created;
+    public final long lastAccess;
+
+    public Entry(NtAsset asset, String file, long created, long lastAccess) {
+      this.asset = asset;
+      this.file = file;
+      this.created = created;
+      this.lastAccess = lastAccess;
+    }
+  }
+
+  /** read the index; entries are ordered from the least to the most recently accessed */
+  public static ArrayList<Entry> load(File cacheRoot) {
+    ArrayList<Entry> entries = new ArrayList<>();
+    File index = new File(cacheRoot, NAME);
+    if (!index.exists()) {
+      return entries;
+    }
+    try {
+      for (String line : Files.readAllLines(index.toPath(), StandardCharsets.UTF_8)) {
+        try {
+          ObjectNode node = Json.parseJsonObject(line);
+          NtAsset asset = new NtAsset(Json.readString(node, "id"), Json.readString(node, "name"), Json.readString(node, "type"), Json.readLong(node, "size"), Json.readString(node, "md5"), Json.readString(node, "sha384"));
+          entries.add(new Entry(asset, Json.readString(node, "file"), Json.readLong(node, "created"), Json.readLong(node, "access")));
+        } catch (Exception skip) {
+          LOG.error("cache-index-bad-line", skip);
+        }
+      }
+    } catch (Exception ex) {
+      LOG.error("cache-index-read", ex);
+    }
+    entries.sort(Comparator.comparingLong(e -> e.lastAccess));
+    return entries;
+  }
+
+  /** remove the index such that nothing is restored */
+  public static void delete(File cacheRoot) {
+    File index = new File(cacheRoot, NAME);
+    if (index.exists() && !index.delete()) {
+      LOG.error("cache-index-delete:" + index.getAbsolutePath());
+    }
+  }
+
+  /** write the index */
+  public static void save(File cacheRoot, ArrayList<Entry> entries) {
+    StringBuilder sb = new StringBuilder();
+    for (Entry entry : entries) {
+      ObjectNode node = Json.newJsonObject();
+      node.put("id", entry.asset.id);
+      node.put("name", entry.asset.name);
+      node.put("type", entry.asset.contentType);
+      node.put("size", entry.asset.size);
+      node.put("md5", entry.asset.md5);
+      node.put("sha384", entry.asset.sha384);
+      node.put("file", entry.file);
+      node.put("created", entry.created);
+      node.put("access", entry.lastAccess);
+      sb.append(node.toString()).append("\n");
+    }
+    try {
+      File temp = new File(cacheRoot, NAME + ".tmp");
+      Files.writeString(temp.toPath(), sb.toString(), StandardCharsets.UTF_8);
+      Files.move(temp.toPath(), new File(cacheRoot, NAME).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (Exception ex) {
+      LOG.error("cache-index-write", ex);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.web.assets.cache;
+
+import ape.runtime.natives.NtAsset;
+
+/**
+ * Eviction policy for the disk tier of the WebHandlerAssetCache. Supplies the LRU bounds (count, bytes,
+ * age) and decides which entries recorded in the persistent index of a prior process are worth
+ * rehydrating on boot; rejected entries have their files deleted.
+ */
+public interface FileCachePolicy {
+  /** the minimum number of items to hold regardless of the byte limit */
+  int minItems();
+
+  /** the maximum number of items to hold */
+  int maxItems();
+
+  /** the maximum number of bytes on disk */
+  long maxBytes();
+
+  /** the maximum age of an item since it was fetched from the origin */
+  long maxAgeMilliseconds();
+
+  /** should the indexed entry from a prior process be restored */
+  boolean restore(NtAsset asset, long created, long lastAccess, long now);
+
+  /** the default policy: 1GB of files for up to twenty minutes since fetch */
+  FileCachePolicy DEFAULT = new FileCachePolicy() {
+    @Override
+    public int minItems() {
+      return 25;
+    }
+
+    @Override
+    public int maxItems() {
+      return 500;
+    }
+
+    @Override
+    public long maxBytes() {
+      return 1024 * 1024 * 1024L;
+    }
+
+    @Override
+    public long maxAgeMilliseconds() {
+      return 20 * 60000;
+    }
+
+    @Override
+    public boolean restore(NtAsset asset, long created, long lastAccess, long now) {
+      return now - created < maxAgeMilliseconds() && WebHandlerAssetCache.policyCacheDisk(asset) && !WebHandlerAssetCache.policyCacheMemory(asset);
+    }
+  };
+}
@@ -25,13 +25,18 @@ package ape.web.assets.cache;
 
 import ape.common.Callback;
 import ape.common.ErrorCodeException;
+import ape.common.NamedRunnable;
 import ape.common.SimpleExecutor;
 import ape.common.TimeSource;
 import ape.common.cache.AsyncSharedLRUCache;
+import ape.common.cache.StripedAsyncLRUCache;
 import ape.common.cache.SyncCacheLRU;
 import ape.runtime.natives.NtAsset;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -41,51 +46,142 @@ import java.util.concurrent.atomic.AtomicLong;
  * Disk tier: Larger files (up to 16MB) with 1GB total limit
  * Both tiers use LRU eviction with time-based expiration. Supports concurrent
  * requestors via async shared cache pattern - first requestor triggers fetch,
- * subsequent requestors attach to in-progress stream.
+ * subsequent requestors attach to in-progress stream. The disk tier is recorded in a
+ * persistent index (see FileCacheIndex) so warm restarts rehydrate files rather than
+ * refetch them; restored files are validated lazily on first use by hashing them on a
+ * dedicated executor so the file executor keeps serving other assets.
  */
 public class WebHandlerAssetCache {
   private final SimpleExecutor memoryExecutor;
   private final SimpleExecutor fileExecutor;
-  private final SyncCacheLRU<NtAsset, CachedAsset> memoryCache;
-  private final AsyncSharedLRUCache<NtAsset, CachedAsset> memoryAsync;
+  private final SimpleExecutor validateExecutor;
+  private final StripedAsyncLRUCache<NtAsset, CachedAsset> memoryAsync;
   private final SyncCacheLRU<NtAsset, CachedAsset> fileCache;
   private final AsyncSharedLRUCache<NtAsset, CachedAsset> fileAsync;
   private final AtomicLong localId;
   private final AtomicBoolean alive;
+  private final TimeSource time;
+  private final File cacheRoot;
+  private boolean indexDirty;
 
   public WebHandlerAssetCache(TimeSource time, File cacheRoot) {
+    this(time, cacheRoot, FileCachePolicy.DEFAULT);
+  }
+
+  public WebHandlerAssetCache(TimeSource time, File cacheRoot, FileCachePolicy policy) {
     this.alive = new AtomicBoolean(true);
+    this.time = time;
+    this.cacheRoot = cacheRoot;
+    this.indexDirty = false;
     { // memory cache
       this.memoryExecutor = SimpleExecutor.create("webhandle-memcache");
-      this.memoryCache = new SyncCacheLRU<>(time, 10, 2000, 64 * 1024 * 1024L, 10 * 60000, (key, mem) -> {
+      // the limits are split across the stripes; hits complete on the calling thread, so get() hops onto the asset's executor
+      this.memoryAsync = new StripedAsyncLRUCache<>(memoryExecutor, 8, () -> new SyncCacheLRU<>(time, 2, 250, 8 * 1024 * 1024L, 10 * 60000, (key, mem) -> {
         mem.evict();
-      });
-      this.memoryAsync = new AsyncSharedLRUCache<>(memoryExecutor, memoryCache, (asset, cb) -> {
+      }), (asset, cb) -> {
         cb.success(new MemoryCacheAsset(asset, memoryExecutor));
       });
       this.memoryAsync.startSweeping(alive, 45000, 90000);
     }
     this.localId = new AtomicLong(0);
-    if (cacheRoot.exists()) {
-      for (File prior : cacheRoot.listFiles((dir, name) -> name.endsWith(".cache") && name.startsWith("asset."))) {
-        prior.delete();
-      }
-    } else {
+    if (!cacheRoot.exists()) {
       cacheRoot.mkdirs();
     }
     { // file cache
       this.fileExecutor = SimpleExecutor.create("webhandle-file");
-      this.fileCache = new SyncCacheLRU<>(time, 25, 500, 1024 * 1024 * 1024L, 20 * 60000, (key, file) -> {
+      this.validateExecutor = SimpleExecutor.create("webhandle-validate");
+      this.fileCache = new SyncCacheLRU<>(time, policy.minItems(), policy.maxItems(), policy.maxBytes(), policy.maxAgeMilliseconds(), (key, file) -> {
+        indexDirty = true;
         file.evict();
       });
       this.fileAsync = new AsyncSharedLRUCache<>(fileExecutor, fileCache, (asset, cb) -> {
         try {
-          cb.success(new FileCacheAsset(localId.getAndIncrement(), cacheRoot, asset, fileExecutor));
+          FileCacheAsset file = new FileCacheAsset(localId.getAndIncrement(), cacheRoot, asset, fileExecutor);
+          long now = time.nowMilliseconds();
+          file.stamp(now, now);
+          indexDirty = true;
+          cb.success(file);
         } catch (ErrorCodeException ece) {
           cb.failure(ece);
         }
       });
+      rehydrate(policy);
       this.fileAsync.startSweeping(alive, 45000, 90000);
+      fileExecutor.schedule(new NamedRunnable("webhandle-index") {
+        @Override
+        public void execute() throws Exception {
+          persistIndexWhileInExecutor();
+          if (alive.get()) {
+            fileExecutor.schedule(this, 30000);
+          }
+        }
+      }, 30000);
+    }
+  }
+
+  /** restore the disk tier from the index of a prior process; anything not restored is deleted */
+  private void rehydrate(FileCachePolicy policy) {
+    HashSet<String> keep = new HashSet<>();
+    long now = time.nowMilliseconds();
+    long nextId = 0;
+    ArrayList<FileCacheIndex.Entry> entries = FileCacheIndex.load(cacheRoot);
+    for (FileCacheIndex.Entry entry : entries) {
+      File file = new File(cacheRoot, entry.file);
+      if (entry.file.contains("/") || !file.exists() || file.length() != entry.asset.size || !policy.restore(entry.asset, entry.created, entry.lastAccess, now)) {
+        continue;
+      }
+      try {
+        FileCacheAsset restored = new FileCacheAsset(file, entry.asset, fileExecutor);
+        restored.stamp(entry.created, entry.lastAccess);
+        fileCache.add(entry.asset, restored, entry.created);
+        keep.add(entry.file);
+        nextId = Math.max(nextId, localIdOf(entry.file) + 1);
+      } catch (ErrorCodeException ece) {
+        // the file will be removed below
+      }
+    }
+    localId.set(nextId);
+    // the cache may have evicted some restored entries while adding, so only keep what survived
+    HashSet<String> survived = new HashSet<>();
+    fileCache.forEach((asset, item) -> survived.add(((FileCacheAsset) item).file().getName()));
+    keep.retainAll(survived);
+    boolean deleted = false;
+    for (File prior : cacheRoot.listFiles((dir, name) -> name.endsWith(".cache") && name.startsWith("asset."))) {
+      if (!keep.contains(prior.getName())) {
+        prior.delete();
+        deleted = true;
+      }
+    }
+    // the index only needs a rewrite if it no longer matches what was restored
+    indexDirty = deleted || keep.size() != entries.size();
+  }
+
+  private static long localIdOf(String name) {
+    try {
+      int start = name.indexOf('.') + 1;
+      return Long.parseLong(name.substring(start, name.indexOf('.', start)));
+    } catch (Exception ex) {
+      return -1;
+    }
+  }
+
+  /** write the index of the disk tier if anything changed */
+  private void persistIndexWhileInExecutor() {
+    if (!indexDirty) {
+      return;
+    }
+    indexDirty = false;
+    ArrayList<FileCacheIndex.Entry> entries = new ArrayList<>();
+    fileCache.forEach((asset, item) -> {
+      FileCacheAsset file = (FileCacheAsset) item;
+      if (file.persistableWhileInExecutor()) {
+        entries.add(new FileCacheIndex.Entry(asset, file.file().getName(), file.created(), file.lastAccess()));
+      }
+    });
+    if (entries.isEmpty()) {
+      FileCacheIndex.delete(cacheRoot);
+    } else {
+      FileCacheIndex.save(cacheRoot, entries);
     }
   }
 
@@ -110,9 +206,49 @@ public class WebHandlerAssetCache {
 
   public void get(NtAsset asset, Callback<CachedAsset> callback) {
     if (policyCacheMemory(asset)) {
-      memoryAsync.get(asset, callback);
+      memoryAsync.get(asset, new Callback<>() {
+        @Override
+        public void success(CachedAsset value) {
+          // hits may complete on the caller's thread, but the asset must only be touched within its executor
+          value.executor().execute(new NamedRunnable("webhandle-memcache-hit") {
+            @Override
+            public void execute() throws Exception {
+              callback.success(value);
+            }
+          });
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+          callback.failure(ex);
+        }
+      });
     } else {
-      fileAsync.get(asset, callback);
+      fileAsync.get(asset, new Callback<>() {
+        @Override
+        public void success(CachedAsset value) {
+          // runs within the file executor
+          FileCacheAsset file = (FileCacheAsset) value;
+          file.validateWhileInExecutor(validateExecutor, (valid) -> {
+            // runs within the file executor
+            if (!valid) {
+              // the restored file is corrupt; drop it and fetch from the origin
+              fileCache.forceEvictionFromCacheNoDownstreamEviction(asset);
+              indexDirty = true;
+              fileAsync.get(asset, callback);
+              return;
+            }
+            file.touch(time.nowMilliseconds());
+            indexDirty = true;
+            callback.success(value);
+          });
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+          callback.failure(ex);
+        }
+      });
     }
   }
 
@@ -128,7 +264,17 @@ public class WebHandlerAssetCache {
     } catch (Exception ex) {
     }
     try {
-      fileExecutor.shutdown();
+      fileExecutor.execute(new NamedRunnable("webhandle-index-final") {
+        @Override
+        public void execute() throws Exception {
+          persistIndexWhileInExecutor();
+        }
+      });
+      fileExecutor.shutdown().await(1000, TimeUnit.MILLISECONDS);
+    } catch (Exception ex) {
+    }
+    try {
+      validateExecutor.shutdown();
     } catch (Exception ex) {
     }
   }
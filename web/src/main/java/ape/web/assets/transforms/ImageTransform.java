@@ -204,6 +204,13 @@ public class ImageTransform implements Transform {
     }
   }
 
+  @Override
+  public long cost() {
+    long w = desiredWidth != null ? desiredWidth : (desiredHeight != null ? desiredHeight : config.maxTransformDimension);
+    long h = desiredHeight != null ? desiredHeight : w;
+    return w * h;
+  }
+
   public boolean isValid() {
     return invalidMessage == null;
   }
@@ -37,4 +37,9 @@ public interface Transform {
 
   /** return the output content type after transformation (may differ from input due to format conversion) */
   public String outputContentType();
+
+  /** a rough estimate of the work (e.g. output pixels) used to run cheap transforms like thumbnails first */
+  public default long cost() {
+    return Long.MAX_VALUE;
+  }
 }
@@ -26,7 +26,7 @@ package ape.web.assets.transforms;
 import ape.common.*;
 import ape.ErrorCodes;
 import ape.common.ConcurrentCallbackWrapper;
-import ape.common.cache.AsyncSharedLRUCache;
+import ape.common.cache.StripedAsyncLRUCache;
 import ape.common.cache.SyncCacheLRU;
 import ape.runtime.data.Key;
 import ape.runtime.natives.NtAsset;
@@ -37,6 +37,7 @@ import ape.web.assets.transforms.capture.DiskCapture;
 import ape.web.assets.transforms.capture.InflightAsset;
 import ape.web.assets.transforms.capture.MemoryCapture;
 import ape.web.service.WebConfig;
+import ape.web.service.WebMetrics;
 
 import java.io.File;
 import java.io.InputStream;
@@ -45,11 +46,13 @@ import java.util.Objects;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 /**
  * Async queue for executing and caching asset transformations with LRU eviction.
- * Uses three dedicated executors: cache management, transform execution, and disk I/O.
- * Caches transformed results keyed by (asset, instruction hash) with 30-minute TTL
+ * Uses dedicated executors for cache management, timeouts, and disk I/O while transforms run on a
+ * bounded worker pool (fair across spaces, cheapest output first). Queued transforms whose requesters
+ * have all gone away are cancelled before they consume a worker. Caches transformed results keyed by (asset, instruction hash) with 30-minute TTL
  * and 1GB size limit. Small assets (<1MB) captured in memory; larger ones spill to disk.
  */
 public class TransformQueue {
@@ -57,40 +60,41 @@ public class TransformQueue {
   private final TimeSource time;
   private final File transformRoot;
   private final SimpleExecutor executorCache;
-  private final SimpleExecutor executorTransform;
+  private final TransformWorkerPool pool;
   private final SimpleExecutor executorTimeout;
   private final SimpleExecutor executorDisk;
   private final AtomicBoolean alive;
-  private final SyncCacheLRU<TransformTask, TransformAsset> cache;
-  private final AsyncSharedLRUCache<TransformTask, TransformAsset> async;
+  private final StripedAsyncLRUCache<TransformTask, TransformAsset> async;
   private final AssetSystem assets;
   private final int transformTimeoutMs;
   private final AtomicInteger inflight;
   private final int maxInflight;
+  private final WebMetrics metrics;
+  private final ConcurrentHashMap<TransformTask, ConcurrentLinkedQueue<BooleanSupplier>> interest;
 
-  public TransformQueue(TimeSource time, File transformRoot, AssetSystem assets, WebConfig config) {
+  public TransformQueue(TimeSource time, File transformRoot, AssetSystem assets, WebConfig config, WebMetrics metrics) {
     this.time = time;
     this.transformRoot = transformRoot;
     this.transformTimeoutMs = config.transformTimeoutMs;
     this.executorCache = SimpleExecutor.create("transforms-cache");
-    this.executorTransform = SimpleExecutor.create("transforms-transform");
+    this.pool = new TransformWorkerPool(config.transformWorkers, metrics.transform_queue_depth);
     this.executorTimeout = SimpleExecutor.create("transforms-timeout");
     this.executorDisk = SimpleExecutor.create("transforms-disk");
     this.alive = new AtomicBoolean(true);
     this.assets = assets;
     this.inflight = new AtomicInteger(0);
     this.maxInflight = config.maxTransformInflight;
-    this.cache = new SyncCacheLRU<>(time, 10, 10000, 1024L * 1024L * 1024L, 30 * 60000, (key, item) -> {
+    this.metrics = metrics;
+    this.interest = new ConcurrentHashMap<>();
+    // hits are served on the calling thread while misses hop to the cache executor to start the fetch
+    this.async = new StripedAsyncLRUCache<>(executorCache, 8, () -> new SyncCacheLRU<>(time, 2, 1250, 128L * 1024L * 1024L, 30 * 60000, (key, item) -> {
       item.evict();
-    });
-    this.async = new AsyncSharedLRUCache<>(executorCache, cache, (task, cb) -> {
-      executorTransform.execute(new NamedRunnable("transform") {
-        @Override
-        public void execute() throws Exception {
-          task.execute(cb);
-        }
-      });
-    });
+    }), (task, cb) -> executorCache.execute(new NamedRunnable("transform-resolve") {
+      @Override
+      public void execute() throws Exception {
+        task.execute(cb);
+      }
+    }));
     this.async.startSweeping(alive, 45000, 90000);
   }
 
@@ -123,47 +127,24 @@ public class TransformQueue {
     }
 
     public void execute(Callback<TransformAsset> callback) {
+      if (isAbandoned(this)) {
+        metrics.transform_cancelled.run();
+        callback.failure(new ErrorCodeException(ErrorCodes.ASSET_TRANSFORM_CANCELLED));
+        return;
+      }
       AssetRequest request = new AssetRequest(key.space, key.key, asset.id);
       Callback<InflightAsset> thingToTransform = new Callback<InflightAsset>() {
         @Override
         public void success(InflightAsset inflight) {
-          executorTransform.execute(new NamedRunnable("running-transform") {
-            @Override
-            public void execute() throws Exception {
-              File output = new File(transformRoot, asset.id + "." + hash + ".result");
-              try {
-                InputStream input = inflight.open();
-                try {
-                  Future<?> future = executorTimeout.submit(new NamedRunnable("execute-transform") {
-                    @Override
-                    public void execute() throws Exception {
-                      transform.execute(input, output);
-                    }
-                  });
-                  try {
-                    future.get(transformTimeoutMs, TimeUnit.MILLISECONDS);
-                  } catch (TimeoutException tex) {
-                    future.cancel(true);
-                    throw new ErrorCodeException(ErrorCodes.ASSET_TRANSFORM_TIMEOUT);
-                  } catch (ExecutionException eex) {
-                    Throwable cause = eex.getCause();
-                    if (cause instanceof ErrorCodeException) {
-                      throw (ErrorCodeException) cause;
-                    }
-                    if (cause instanceof Exception) {
-                      throw (Exception) cause;
-                    }
-                    throw new Exception(cause);
-                  }
-                  callback.success(new TransformAsset(executorDisk, output, transform.outputContentType()));
-                } finally {
-                  input.close();
-                }
-              } catch (ErrorCodeException ecex) {
-                callback.failure(ecex);
-              } catch (Exception ex) {
-                callback.failure(ErrorCodeException.detectOrWrap(ErrorCodes.ASSET_TRANSFORM_FAILED_TRANSFORM, ex, EXLOGGER));
+          pool.submit(key.space, transform.cost(), () -> {
+            try {
+              if (isAbandoned(TransformTask.this)) {
+                metrics.transform_cancelled.run();
+                callback.failure(new ErrorCodeException(ErrorCodes.ASSET_TRANSFORM_CANCELLED));
+                return;
               }
+              run(inflight, metrics.transform_execute.wrap(callback));
+            } finally {
               inflight.finished();
             }
           });
@@ -182,9 +163,78 @@ public class TransformQueue {
       }
       assets.request(request, streamToUse);
     }
+
+    /** run the transform on the current worker; a watchdog fails the callback and interrupts the worker on timeout */
+    private void run(InflightAsset inflight, Callback<TransformAsset> callback) {
+      Thread worker = Thread.currentThread();
+      AtomicBoolean done = new AtomicBoolean(false);
+      Runnable cancelWatchdog = executorTimeout.schedule(new NamedRunnable("transform-timeout") {
+        @Override
+        public void execute() throws Exception {
+          synchronized (done) {
+            if (done.get()) {
+              return;
+            }
+            done.set(true);
+            worker.interrupt();
+          }
+          callback.failure(new ErrorCodeException(ErrorCodes.ASSET_TRANSFORM_TIMEOUT));
+        }
+      }, transformTimeoutMs);
+      File output = new File(transformRoot, asset.id + "." + hash + ".result");
+      ErrorCodeException failure = null;
+      try (InputStream input = inflight.open()) {
+        transform.execute(input, output);
+      } catch (ErrorCodeException ecex) {
+        failure = ecex;
+      } catch (Exception ex) {
+        failure = ErrorCodeException.detectOrWrap(ErrorCodes.ASSET_TRANSFORM_FAILED_TRANSFORM, ex, EXLOGGER);
+      }
+      cancelWatchdog.run();
+      synchronized (done) {
+        boolean timedOut = done.get();
+        done.set(true);
+        // clear any interrupt the watchdog raised so the worker is clean for the next job
+        Thread.interrupted();
+        if (timedOut) {
+          return;
+        }
+      }
+      if (failure != null) {
+        callback.failure(failure);
+      } else {
+        callback.success(new TransformAsset(executorDisk, output, transform.outputContentType()));
+      }
+    }
+  }
+
+  /** is every requester still waiting on the given task gone (i.e. their connections dropped) */
+  private boolean isAbandoned(TransformTask task) {
+    ConcurrentLinkedQueue<BooleanSupplier> waiting = interest.get(task);
+    if (waiting == null) {
+      return false;
+    }
+    for (BooleanSupplier abandoned : waiting) {
+      if (!abandoned.getAsBoolean()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void forget(TransformTask task, BooleanSupplier abandoned) {
+    interest.computeIfPresent(task, (k, waiting) -> {
+      waiting.remove(abandoned);
+      return waiting.isEmpty() ? null : waiting;
+    });
   }
 
   public void process(Key key, String instruction, Transform transform, NtAsset asset, AssetStream response) {
+    process(key, instruction, transform, asset, response, () -> false);
+  }
+
+  /** process the transform; abandoned reports when the requester no longer wants the result */
+  public void process(Key key, String instruction, Transform transform, NtAsset asset, AssetStream response, BooleanSupplier abandoned) {
     final String hash;
     {
       MessageDigest sha = Hashing.sha384();
@@ -197,11 +247,13 @@ public class TransformQueue {
     Callback<TransformAsset> original = new Callback<TransformAsset>() {
       @Override
       public void success(TransformAsset result) {
+        forget(task, abandoned);
         result.serve(response);
       }
 
       @Override
       public void failure(ErrorCodeException ex) {
+        forget(task, abandoned);
         response.failure(ex.code);
       }
     };
@@ -209,6 +261,7 @@ public class TransformQueue {
     if (guarded == null) {
       return;
     }
+    interest.computeIfAbsent(task, k -> new ConcurrentLinkedQueue<>()).add(abandoned);
     async.get(task, guarded);
   }
 
@@ -218,10 +271,7 @@ public class TransformQueue {
       this.executorCache.shutdown().await(1000, TimeUnit.MILLISECONDS);
     } catch (Exception ex) {
     }
-    try {
-      this.executorTransform.shutdown().await(1000, TimeUnit.MILLISECONDS);
-    } catch (Exception ex) {
-    }
+    this.pool.shutdown();
     try {
       this.executorTimeout.shutdown().await(1000, TimeUnit.MILLISECONDS);
     } catch (Exception ex) {
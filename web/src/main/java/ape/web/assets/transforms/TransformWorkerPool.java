@@ -0,0 +1,162 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.web.assets.transforms;
+
+import ape.common.ExceptionLogger;
+import ape.common.NamedRunnable;
+import ape.common.SimpleExecutor;
+import ape.common.metrics.Inflight;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of transform workers fed by a fair queue. Pending jobs are grouped by space and the
+ * spaces are served round-robin so a single space uploading a gallery can't starve everyone else;
+ * within a space, the cheapest job (smallest output, i.e. thumbnails) runs first with ties broken
+ * by arrival order.
+ */
+public class TransformWorkerPool {
+  private static final ExceptionLogger EXLOGGER = ExceptionLogger.FOR(TransformWorkerPool.class);
+  private final SimpleExecutor[] workers;
+  private final ArrayDeque<SimpleExecutor> idle;
+  private final HashMap<String, PriorityQueue<Job>> pending;
+  private final ArrayDeque<String> rotation;
+  private final Inflight depth;
+  private long sequence;
+
+  public TransformWorkerPool(int size, Inflight depth) {
+    this.workers = new SimpleExecutor[Math.max(1, size)];
+    this.idle = new ArrayDeque<>();
+    for (int k = 0; k < workers.length; k++) {
+      workers[k] = SimpleExecutor.create("transforms-worker-" + k);
+      idle.add(workers[k]);
+    }
+    this.pending = new HashMap<>();
+    this.rotation = new ArrayDeque<>();
+    this.depth = depth;
+    this.sequence = 0;
+  }
+
+  private static class Job implements Comparable<Job> {
+    private final long cost;
+    private final long sequence;
+    private final Runnable runnable;
+
+    private Job(long cost, long sequence, Runnable runnable) {
+      this.cost = cost;
+      this.sequence = sequence;
+      this.runnable = runnable;
+    }
+
+    @Override
+    public int compareTo(Job o) {
+      int delta = Long.compare(cost, o.cost);
+      if (delta == 0) {
+        return Long.compare(sequence, o.sequence);
+      }
+      return delta;
+    }
+  }
+
+  /** queue the given job for the space; lower cost runs sooner */
+  public void submit(String space, long cost, Runnable runnable) {
+    SimpleExecutor worker;
+    synchronized (this) {
+      PriorityQueue<Job> queue = pending.get(space);
+      if (queue == null) {
+        queue = new PriorityQueue<>();
+        pending.put(space, queue);
+        rotation.addLast(space);
+      }
+      queue.add(new Job(cost, sequence++, runnable));
+      depth.up();
+      worker = idle.pollFirst();
+    }
+    if (worker != null) {
+      wake(worker);
+    }
+  }
+
+  /** the number of jobs waiting for a worker */
+  public synchronized int queued() {
+    int count = 0;
+    for (PriorityQueue<Job> queue : pending.values()) {
+      count += queue.size();
+    }
+    return count;
+  }
+
+  /** the number of workers */
+  public int size() {
+    return workers.length;
+  }
+
+  private void wake(SimpleExecutor worker) {
+    worker.execute(new NamedRunnable("transform-drain") {
+      @Override
+      public void execute() throws Exception {
+        Job job;
+        while ((job = next(worker)) != null) {
+          try {
+            job.runnable.run();
+          } catch (Exception ex) {
+            EXLOGGER.convertedToErrorCode(ex, -1);
+          }
+        }
+      }
+    });
+  }
+
+  /** pull the next job in round-robin space order, or park the worker as idle */
+  private synchronized Job next(SimpleExecutor worker) {
+    String space = rotation.pollFirst();
+    if (space == null) {
+      idle.addLast(worker);
+      return null;
+    }
+    PriorityQueue<Job> queue = pending.get(space);
+    Job job = queue.poll();
+    if (queue.isEmpty()) {
+      pending.remove(space);
+    } else {
+      rotation.addLast(space);
+    }
+    depth.down();
+    return job;
+  }
+
+  public void shutdown() {
+    for (SimpleExecutor worker : workers) {
+      try {
+        CountDownLatch latch = worker.shutdown();
+        latch.await(1000, TimeUnit.MILLISECONDS);
+      } catch (Exception ex) {
+      }
+    }
+  }
+}
@@ -0,0 +1,322 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.web.service;
+
+import ape.common.Hashing;
+import ape.common.NamedRunnable;
+import ape.common.SimpleExecutor;
+import ape.web.assets.AssetFact;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.*;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.netty.util.ReferenceCountUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+
+/**
+ * Sits between the HTTP codec and HttpObjectAggregator so asset uploads (multipart POST to /~upload and PUT to
+ * /~put) never get buffered whole in heap. Chunks are fed to a multipart decoder (which spills parts to disk) or
+ * written to a temp file while the size and hashes are computed; once the last chunk lands, a body-less
+ * StreamedUploadRequest continues down the pipeline (the aggregator passes full requests through) to WebHandler.
+ * The disk work runs on the given executor, one chunk at a time; while an upload streams, auto-read is off and the
+ * socket is only read again once the prior chunk has been absorbed. Anything read behind an upload waits in order.
+ * Every other request flows through untouched.
+ */
+public class AssetUploadStreamer extends ChannelInboundHandlerAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(AssetUploadStreamer.class);
+  private static final byte[] TOO_LARGE = "upload too large".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] BAD_UPLOAD = "malformed upload".getBytes(StandardCharsets.UTF_8);
+  private final WebMetrics metrics;
+  private final long maxContentLength;
+  private final SimpleExecutor disk;
+  // the upload being streamed (if any)
+  private Upload upload;
+  // what was read behind the chunk being written
+  private final ArrayDeque<Object> backlog;
+  private boolean writing;
+  private boolean lastReceived;
+  // the rest of a rejected upload is dropped
+  private boolean discarding;
+
+  public AssetUploadStreamer(WebMetrics metrics, long maxContentLength, SimpleExecutor disk) {
+    this.metrics = metrics;
+    this.maxContentLength = maxContentLength;
+    this.disk = disk;
+    this.backlog = new ArrayDeque<>();
+  }
+
+  /** is this an upload which should be streamed */
+  public static boolean isStreamable(HttpRequest req) {
+    if (req instanceof FullHttpRequest) {
+      return false;
+    }
+    if (req.method() == HttpMethod.PUT && req.uri().startsWith("/~put")) {
+      return true;
+    }
+    return req.method() == HttpMethod.POST && req.uri().startsWith("/~upload") && HttpPostRequestDecoder.isMultipart(req);
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    if (upload != null) {
+      if (msg instanceof LastHttpContent) {
+        lastReceived = true;
+      }
+      backlog.add(msg);
+      pump(ctx);
+      return;
+    }
+    if (msg instanceof HttpRequest && isStreamable((HttpRequest) msg)) {
+      begin(ctx, (HttpRequest) msg);
+      return;
+    }
+    if (msg instanceof HttpContent && discarding) {
+      if (msg instanceof LastHttpContent) {
+        discarding = false;
+      }
+      ((HttpContent) msg).release();
+      return;
+    }
+    ctx.fireChannelRead(msg);
+  }
+
+  private void begin(ChannelHandlerContext ctx, HttpRequest req) {
+    if (HttpUtil.getContentLength(req, -1L) > maxContentLength) {
+      reject(ctx, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE, TOO_LARGE);
+      discarding = true;
+      return;
+    }
+    try {
+      upload = new Upload(req);
+    } catch (Exception ex) {
+      LOG.error("failed-start-streaming-upload", ex);
+      reject(ctx, HttpResponseStatus.BAD_REQUEST, BAD_UPLOAD);
+      discarding = true;
+      return;
+    }
+    writing = false;
+    lastReceived = false;
+    ctx.channel().config().setAutoRead(false);
+    if (HttpUtil.is100ContinueExpected(req)) {
+      req.headers().remove(HttpHeaderNames.EXPECT);
+      ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+    }
+    metrics.webhandler_upload_streamed.run();
+    ctx.read();
+  }
+
+  /** hand the next chunk of the upload to the disk; read more from the socket once everything has been absorbed */
+  private void pump(ChannelHandlerContext ctx) {
+    if (upload == null || writing) {
+      return;
+    }
+    if (backlog.isEmpty()) {
+      ctx.read();
+      return;
+    }
+    HttpContent content = (HttpContent) backlog.poll();
+    Upload current = upload;
+    current.received += content.content().readableBytes();
+    if (current.received > maxContentLength) {
+      content.release();
+      abandon(ctx);
+      reject(ctx, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE, TOO_LARGE);
+      return;
+    }
+    writing = true;
+    disk.execute(new NamedRunnable("upload-write") {
+      @Override
+      public void execute() throws Exception {
+        StreamedUploadRequest streamed = null;
+        boolean failed = false;
+        try {
+          current.write(content);
+          if (content instanceof LastHttpContent) {
+            streamed = current.finish();
+          }
+        } catch (Exception ex) {
+          LOG.error("failed-streaming-upload", ex);
+          failed = true;
+        } finally {
+          content.release();
+        }
+        final StreamedUploadRequest result = streamed;
+        final boolean failure = failed;
+        ctx.executor().execute(() -> written(ctx, current, result, failure));
+      }
+    });
+  }
+
+  /** within the event loop: the disk absorbed a chunk */
+  private void written(ChannelHandlerContext ctx, Upload current, StreamedUploadRequest streamed, boolean failed) {
+    if (upload != current) {
+      // the upload was abandoned while the chunk was being written
+      if (streamed != null) {
+        streamed.discard();
+      }
+      return;
+    }
+    writing = false;
+    if (failed) {
+      abandon(ctx);
+      reject(ctx, HttpResponseStatus.BAD_REQUEST, BAD_UPLOAD);
+      return;
+    }
+    if (streamed == null) {
+      pump(ctx);
+      return;
+    }
+    upload = null;
+    ctx.channel().config().setAutoRead(true);
+    ctx.fireChannelRead(streamed);
+    // replay what was read behind the upload; this stops if another upload begins
+    while (upload == null && !backlog.isEmpty()) {
+      try {
+        channelRead(ctx, backlog.poll());
+      } catch (Exception ex) {
+        ctx.fireExceptionCaught(ex);
+      }
+    }
+  }
+
+  private void reject(ChannelHandlerContext ctx, HttpResponseStatus status, byte[] body) {
+    metrics.webhandler_upload_streamed_rejected.run();
+    FullHttpResponse res = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, Unpooled.wrappedBuffer(body));
+    res.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+    HttpUtil.setContentLength(res, body.length);
+    ctx.writeAndFlush(res).addListener(ChannelFutureListener.CLOSE);
+  }
+
+  /** drop an in-flight upload (the connection is going away); the files are cleaned up behind any pending write */
+  private void abandon(ChannelHandlerContext ctx) {
+    Upload dead = upload;
+    upload = null;
+    writing = false;
+    discarding = !lastReceived;
+    while (!backlog.isEmpty()) {
+      ReferenceCountUtil.release(backlog.poll());
+    }
+    ctx.channel().config().setAutoRead(true);
+    disk.execute(new NamedRunnable("upload-abandon") {
+      @Override
+      public void execute() throws Exception {
+        dead.destroy();
+      }
+    });
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    if (upload != null) {
+      abandon(ctx);
+    }
+    super.channelInactive(ctx);
+  }
+
+  /** the state of a streaming upload; everything other than received is touched only within the disk executor */
+  private static class Upload {
+    private final HttpRequest head;
+    private final HttpPostRequestDecoder decoder;
+    private File file;
+    private FileOutputStream output;
+    private FileChannel channel;
+    private MessageDigest md5;
+    private MessageDigest sha384;
+    private long received;
+    private long written;
+
+    private Upload(HttpRequest head) {
+      this.head = head;
+      if (head.method() == HttpMethod.POST) {
+        this.decoder = new HttpPostRequestDecoder(new DefaultHttpDataFactory(DefaultHttpDataFactory.MINSIZE), head);
+        // release consumed bytes as we go rather than holding up to the default 10MB
+        this.decoder.setDiscardThreshold(0);
+      } else {
+        this.decoder = null;
+      }
+      this.received = 0;
+      this.written = 0;
+    }
+
+    private void write(HttpContent content) throws Exception {
+      if (decoder != null) {
+        decoder.offer(content);
+        return;
+      }
+      if (output == null) {
+        file = File.createTempFile("adama-put-", ".upload");
+        output = new FileOutputStream(file);
+        channel = output.getChannel();
+        md5 = Hashing.md5();
+        sha384 = Hashing.sha384();
+      }
+      ByteBuf buf = content.content();
+      written += buf.readableBytes();
+      for (ByteBuffer nio : buf.nioBuffers()) {
+        md5.update(nio.duplicate());
+        sha384.update(nio.duplicate());
+        while (nio.hasRemaining()) {
+          channel.write(nio);
+        }
+      }
+    }
+
+    private StreamedUploadRequest finish() throws Exception {
+      if (decoder != null) {
+        return StreamedUploadRequest.multipart(head, decoder);
+      }
+      output.close();
+      return StreamedUploadRequest.file(head, file, new AssetFact(written, Hashing.finishAndEncode(md5), Hashing.finishAndEncode(sha384)));
+    }
+
+    private void destroy() {
+      if (decoder != null) {
+        decoder.destroy();
+      }
+      if (output != null) {
+        try {
+          output.close();
+        } catch (Exception ex) {
+          LOG.error("failed-close-upload", ex);
+        }
+      }
+      if (file != null) {
+        file.delete();
+      }
+    }
+  }
+}
@@ -45,23 +45,28 @@ import io.netty.handler.timeout.ReadTimeoutHandler;
 import ape.common.Callback;
 import ape.common.ErrorCodeException;
 import ape.common.SimpleExecutor;
+import ape.common.TimeSource;
 import ape.common.rate.AsyncTokenLimiter;
 import ape.runtime.sys.domains.DomainFinder;
 import ape.web.assets.cache.WebHandlerAssetCache;
 import ape.web.assets.transforms.TransformQueue;
 import ape.web.contracts.CertificateFinder;
 import ape.web.contracts.ServiceBase;
+import ape.web.service.cache.HttpResultCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Netty channel pipeline configurator for incoming connections.
  * Builds the handler chain: read timeout, SNI-based TLS (when enabled),
- * ALPN negotiation for HTTP/2 vs HTTP/1.1, HTTP codec, content aggregation,
+ * ALPN negotiation for HTTP/2 vs HTTP/1.1, HTTP codec, asset upload streaming,
+ * content aggregation (for everything else),
  * WebSocket compression and protocol handling, HTTP compression, WebHandler
  * for HTTP requests, and WebSocketHandler for upgraded WebSocket connections.
+ * Every WebHandler shares one HttpResultCache for cacheable anonymous GETs.
  */
 public class Initializer extends ChannelInitializer<SocketChannel> {
   private final Logger logger;
@@ -74,8 +79,10 @@ public class Initializer extends ChannelInitializer<SocketChannel> {
   private final DomainFinder domainFinder;
   private final TransformQueue transformQueue;
   private final SimpleExecutor rateLimitExecutor;
+  private final SimpleExecutor uploadExecutor;
   private final AsyncTokenLimiter websocketRateLimiter;
   private final AsyncTokenLimiter onceRateLimiter;
+  private final HttpResultCache httpResultCache;
 
   public Initializer(final WebConfig webConfig, final WebMetrics metrics, final ServiceBase base, final CertificateFinder certificateFinder, SslContext context, WebHandlerAssetCache cache, DomainFinder domainFinder, TransformQueue transformQueue) {
     this.logger = LoggerFactory.getLogger("Initializer");
@@ -88,18 +95,22 @@ public class Initializer extends ChannelInitializer<SocketChannel> {
     this.domainFinder = domainFinder;
     this.transformQueue = transformQueue;
     this.rateLimitExecutor = SimpleExecutor.create("rate-limiter");
+    this.uploadExecutor = SimpleExecutor.create("upload-disk");
     this.websocketRateLimiter = new AsyncTokenLimiter(rateLimitExecutor, webConfig.websocketRateLimiter);
     this.onceRateLimiter = new AsyncTokenLimiter(rateLimitExecutor, webConfig.onceRateLimiter);
+    this.httpResultCache = new HttpResultCache(TimeSource.REAL_TIME, webConfig.httpResultCacheMaxBytes, webConfig.httpResultCacheStaleWindowMs, metrics);
+    HttpResultCache.sweeper(rateLimitExecutor, new AtomicBoolean(true), httpResultCache, 30000, 60000);
   }
 
   private void configureHttp1Pipeline(ChannelPipeline pipeline) {
     pipeline.addLast(new HttpServerCodec());
+    pipeline.addLast(new AssetUploadStreamer(metrics, webConfig.maxContentLengthSize, uploadExecutor));
     pipeline.addLast(new HttpObjectAggregator(webConfig.maxContentLengthSize));
     pipeline.addLast(new WebSocketServerCompressionHandler());
     pipeline.addLast(new WebSocketServerProtocolHandler("/~s", null, true, webConfig.maxWebSocketFrameSize, false, true, webConfig.timeoutWebsocketHandshake));
     WebSocketRouteTable table = new WebSocketRouteTable(new RouteAdama(base), new RouteMCP(base));
     pipeline.addLast(new HttpContentCompressor());
-    pipeline.addLast(new WebHandler(webConfig, metrics, base, cache, domainFinder, transformQueue, certificateFinder, onceRateLimiter));
+    pipeline.addLast(new WebHandler(webConfig, metrics, base, cache, httpResultCache, domainFinder, transformQueue, certificateFinder, onceRateLimiter));
     pipeline.addLast(new WebSocketHandler(webConfig, metrics, table, certificateFinder, websocketRateLimiter));
   }
 
@@ -136,9 +147,10 @@ public class Initializer extends ChannelInitializer<SocketChannel> {
               @Override
               protected void initChannel(io.netty.channel.Channel ch) {
                 ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+                ch.pipeline().addLast(new AssetUploadStreamer(metrics, webConfig.maxContentLengthSize, uploadExecutor));
                 ch.pipeline().addLast(new HttpObjectAggregator(webConfig.maxContentLengthSize));
                 ch.pipeline().addLast(new HttpContentCompressor());
-                ch.pipeline().addLast(new WebHandler(webConfig, metrics, base, cache, domainFinder, transformQueue, certificateFinder, onceRateLimiter));
+                ch.pipeline().addLast(new WebHandler(webConfig, metrics, base, cache, httpResultCache, domainFinder, transformQueue, certificateFinder, onceRateLimiter));
               }
             }));
           } else {
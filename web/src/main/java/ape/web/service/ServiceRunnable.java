@@ -81,7 +81,7 @@ public class ServiceRunnable implements Runnable {
     ready = new CountDownLatch(1);
     this.heartbeat = heartbeat;
     this.cache = new WebHandlerAssetCache(TimeSource.REAL_TIME, webConfig.cacheRoot);
-    this.transformQueue = new TransformQueue(TimeSource.REAL_TIME, webConfig.transformRoot, base.assets(), webConfig);
+    this.transformQueue = new TransformQueue(TimeSource.REAL_TIME, webConfig.transformRoot, base.assets(), webConfig, metrics);
   }
 
   public synchronized boolean isAccepting() {
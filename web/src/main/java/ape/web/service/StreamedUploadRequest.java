@@ -0,0 +1,75 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.web.service;
+
+import ape.web.assets.AssetFact;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+
+import java.io.File;
+
+/**
+ * The body-less request which AssetUploadStreamer hands to WebHandler once an upload has been streamed off the
+ * socket. The body lives either in a multipart decoder (whose large parts are on disk) or in a temp file whose
+ * size and hashes were computed as it was written.
+ */
+public class StreamedUploadRequest extends DefaultFullHttpRequest {
+  public final HttpPostRequestDecoder decoder;
+  public final File file;
+  public final AssetFact fact;
+  private boolean discarded;
+
+  private StreamedUploadRequest(HttpRequest head, HttpPostRequestDecoder decoder, File file, AssetFact fact) {
+    super(head.protocolVersion(), head.method(), head.uri(), Unpooled.EMPTY_BUFFER, head.headers(), new DefaultHttpHeaders());
+    this.decoder = decoder;
+    this.file = file;
+    this.fact = fact;
+    this.discarded = false;
+  }
+
+  public static StreamedUploadRequest multipart(HttpRequest head, HttpPostRequestDecoder decoder) {
+    return new StreamedUploadRequest(head, decoder, null, null);
+  }
+
+  public static StreamedUploadRequest file(HttpRequest head, File file, AssetFact fact) {
+    return new StreamedUploadRequest(head, null, file, fact);
+  }
+
+  /** release the decoder and temp file; safe to call more than once */
+  public synchronized void discard() {
+    if (discarded) {
+      return;
+    }
+    discarded = true;
+    if (decoder != null) {
+      decoder.destroy();
+    }
+    if (file != null) {
+      file.delete();
+    }
+  }
+}
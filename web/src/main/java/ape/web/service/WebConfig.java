@@ -26,6 +26,7 @@ package ape.web.service;
 import ape.common.ConfigObject;
 import ape.common.TimeSource;
 import ape.common.rate.TokenRateLimiter;
+import ape.web.service.cache.HttpResultCache;
 
 import java.io.File;
 import java.util.Locale;
@@ -76,6 +77,9 @@ public class WebConfig {
   public final int maxTransformInstructionLength;
   public final int transformTimeoutMs;
   public final int maxTransformInflight;
+  public final int transformWorkers;
+  public final int httpResultCacheMaxBytes;
+  public final int httpResultCacheStaleWindowMs;
   public final TokenRateLimiter websocketRateLimiter;
   public final int websocketRateLimitMaxAttempts;
   public final int websocketRateLimitDelay;
@@ -126,6 +130,10 @@ public class WebConfig {
     this.maxTransformInstructionLength = config.intOf("max-transform-instruction-length", 256);
     this.transformTimeoutMs = config.intOf("transform-timeout-ms", 30000);
     this.maxTransformInflight = config.intOf("max-transform-inflight", 64);
+    this.transformWorkers = config.intOf("transform-workers", Runtime.getRuntime().availableProcessors());
+    // anonymous GET results which the handler marks cacheable are held up to this many bytes (0 disables)
+    this.httpResultCacheMaxBytes = config.intOf("http-result-cache-max-bytes", (int) HttpResultCache.DEFAULT_MAX_BYTES);
+    this.httpResultCacheStaleWindowMs = config.intOf("http-result-cache-stale-window-ms", 0);
     // WebSocket rate limit (stricter - expensive connections)
     ConfigObject wsRateConfig = config.child("websocket-rate-limit");
     this.websocketRateLimiter = new TokenRateLimiter(
@@ -63,6 +63,7 @@ import ape.web.firewall.WebRequestShield;
 import ape.web.io.ConnectionContext;
 import ape.web.io.JsonRequest;
 import ape.web.io.JsonResponder;
+import ape.web.service.cache.HttpResultCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -118,19 +119,21 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
   private final HttpHandler httpHandler;
   private final AssetSystem assets;
   private final WebHandlerAssetCache cache;
+  private final HttpResultCache httpResultCache;
   private static final ExecutorService jarThread = Executors.newSingleThreadExecutor();
   private final DomainFinder domainFinder;
   private final TransformQueue transformQueue;
   private final CertificateFinder certificateFinder;
   private final AsyncTokenLimiter onceRateLimiter;
 
-  public WebHandler(WebConfig webConfig, WebMetrics metrics, ServiceBase serviceBase, WebHandlerAssetCache cache, DomainFinder incomingDomainFinder, TransformQueue transformQueue, CertificateFinder certificateFinder, AsyncTokenLimiter onceRateLimiter) {
+  public WebHandler(WebConfig webConfig, WebMetrics metrics, ServiceBase serviceBase, WebHandlerAssetCache cache, HttpResultCache httpResultCache, DomainFinder incomingDomainFinder, TransformQueue transformQueue, CertificateFinder certificateFinder, AsyncTokenLimiter onceRateLimiter) {
     this.webConfig = webConfig;
     this.metrics = metrics;
     this.serviceBase = serviceBase;
     this.httpHandler = serviceBase.http();
     this.assets = serviceBase.assets();
     this.cache = cache;
+    this.httpResultCache = httpResultCache;
     this.transformQueue = transformQueue;
     this.certificateFinder = certificateFinder;
     this.onceRateLimiter = onceRateLimiter;
@@ -295,7 +298,7 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
       if (how == null) {
         sendImmediate(metrics.webhandler_transform_failure_none_available, req, ctx, HttpResponseStatus.BAD_REQUEST, ASSET_TRANSFORM_FAILURE, "text/html; charset=UTF-8", true);
       } else {
-        transformQueue.process(key, transform, how, asset, response);
+        transformQueue.process(key, transform, how, asset, response, () -> !ctx.channel().isActive());
       }
       return;
     }
@@ -345,7 +348,8 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
   }
 
   private void handleAssetUpload(final ChannelHandlerContext ctx, final FullHttpRequest req) {
-    HttpPostRequestDecoder decoder = new HttpPostRequestDecoder(req);
+    // uploads arrive already decoded (with large parts on disk) when AssetUploadStreamer is in the pipeline
+    HttpPostRequestDecoder decoder = req instanceof StreamedUploadRequest ? ((StreamedUploadRequest) req).decoder : new HttpPostRequestDecoder(req);
     try {
       ArrayList<FileUpload> files = new ArrayList<>();
       String _identity = null;
@@ -511,6 +515,7 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
   }
 
   private void handleAssetPut(final ChannelHandlerContext ctx, final FullHttpRequest req) {
+    final StreamedUploadRequest streamed = req instanceof StreamedUploadRequest ? (StreamedUploadRequest) req : null;
     try {
       // extract Bearer token identity
       final ConnectionContext context = ConnectionContextFactory.of(ctx, req.headers(), webConfig.useXForwardedFor);
@@ -523,6 +528,7 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
         }
       }
       if (bearerIdentity == null || bearerIdentity.isEmpty()) {
+        discardStreamed(streamed);
         sendImmediate(metrics.webhandler_put_asset_failure, req, ctx, HttpResponseStatus.UNAUTHORIZED, ASSET_PUT_NO_IDENTITY, "text/plain", true);
         return;
       }
@@ -543,14 +549,17 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
       }
 
       if (space == null || space.isEmpty()) {
+        discardStreamed(streamed);
         sendImmediate(metrics.webhandler_put_asset_failure, req, ctx, HttpResponseStatus.BAD_REQUEST, ASSET_PUT_MISSING_SPACE, "text/plain", true);
         return;
       }
       if (key == null || key.isEmpty()) {
+        discardStreamed(streamed);
         sendImmediate(metrics.webhandler_put_asset_failure, req, ctx, HttpResponseStatus.BAD_REQUEST, ASSET_PUT_MISSING_KEY, "text/plain", true);
         return;
       }
       if (filename == null || filename.isEmpty()) {
+        discardStreamed(streamed);
         sendImmediate(metrics.webhandler_put_asset_failure, req, ctx, HttpResponseStatus.BAD_REQUEST, ASSET_PUT_MISSING_FILENAME, "text/plain", true);
         return;
       }
@@ -558,19 +567,25 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
         contentType = "application/octet-stream";
       }
 
-      // read body bytes
-      byte[] bodyBytes = new byte[req.content().readableBytes()];
-      req.content().readBytes(bodyBytes);
-
-      // compute asset facts
-      AssetUploadBody body = AssetUploadBody.WRAP(bodyBytes);
-      AssetFact fact = AssetFact.of(body);
+      // the body is either already on disk (with facts computed while streaming) or aggregated in memory
+      final AssetUploadBody body;
+      final AssetFact fact;
+      if (streamed != null) {
+        body = AssetUploadBody.WRAP(streamed.file);
+        fact = streamed.fact;
+      } else {
+        byte[] bodyBytes = new byte[req.content().readableBytes()];
+        req.content().readBytes(bodyBytes);
+        body = AssetUploadBody.WRAP(bodyBytes);
+        fact = AssetFact.of(body);
+      }
 
       // optional Content-MD5 verification
       String clientMd5 = req.headers().get(HttpHeaderNames.CONTENT_MD5);
       if (clientMd5 != null && !clientMd5.isEmpty()) {
         if (!clientMd5.equals(fact.md5)) {
           metrics.webhandler_put_asset_md5_mismatch.run();
+          discardStreamed(streamed);
           sendImmediate(metrics.webhandler_put_asset_failure, req, ctx, HttpResponseStatus.BAD_REQUEST, ASSET_PUT_MD5_MISMATCH, "text/plain", true);
           return;
         }
@@ -597,6 +612,7 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
       assets.upload(uploadKey, asset, body, new Callback<>() {
         @Override
         public void success(Void value) {
+          discardStreamed(streamed);
           assets.attach(identity, context, uploadKey, asset, channelFinal, message, new Callback<Integer>() {
             @Override
             public void success(Integer value) {
@@ -613,16 +629,24 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
 
         @Override
         public void failure(ErrorCodeException ex) {
+          discardStreamed(streamed);
           LOG.error("failed-put-asset-upload:" + ex.code);
           sendImmediate(metrics.webhandler_put_asset_failure, req, ctx, HttpResponseStatus.INTERNAL_SERVER_ERROR, ASSET_UPLOAD_FAILURE, "text/html; charset=UTF-8", true);
         }
       });
     } catch (Exception ex) {
+      discardStreamed(streamed);
       LOG.error("failed-put-asset", ex);
       sendImmediate(metrics.webhandler_put_asset_failure, req, ctx, HttpResponseStatus.INTERNAL_SERVER_ERROR, ASSET_UPLOAD_FAILURE, "text/html; charset=UTF-8", true);
     }
   }
 
+  private static void discardStreamed(StreamedUploadRequest streamed) {
+    if (streamed != null) {
+      streamed.discard();
+    }
+  }
+
   private static String getQueryParam(QueryStringDecoder qsd, String name) {
     java.util.List<String> values = qsd.parameters().get(name);
     if (values != null && !values.isEmpty()) {
@@ -1044,6 +1068,9 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
   protected void channelRead0(final ChannelHandlerContext ctx, final FullHttpRequest req) throws Exception {
     // Step 1: Quick reject anything the shield doesn't like
     if (WebRequestShield.block(req.uri())) {
+      if (req instanceof StreamedUploadRequest) {
+        ((StreamedUploadRequest) req).discard();
+      }
       sendImmediate(metrics.webhandler_firewall, req, ctx, HttpResponseStatus.GONE, EMPTY_RESPONSE, null, false);
       return;
     }
@@ -1132,6 +1159,12 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
       } else {
         metrics.webhandler_get.run();
         hhmethod = HttpHandler.Method.GET;
+        if (wta.identity == null && webConfig.httpResultCacheMaxBytes > 0) {
+          // anonymous reads go through the shared result cache; only results the handler marks cacheable are held
+          String cacheKey = host + wta.uri + "?" + wta.parameters;
+          httpResultCache.get(cacheKey, (loaded) -> httpHandler.handle(context, HttpHandler.Method.GET, null, wta.uri, wta.headers, wta.parameters, wta.body, loaded), callback);
+          return;
+        }
       }
       httpHandler.handle(context, hhmethod, wta.identity, wta.uri, wta.headers, wta.parameters, wta.body, callback);
     } catch (Exception ex) {
@@ -84,6 +84,8 @@ public class WebMetrics {
   public final Runnable webhandler_put_asset;
   public final Runnable webhandler_put_asset_failure;
   public final Runnable webhandler_put_asset_md5_mismatch;
+  public final Runnable webhandler_upload_streamed;
+  public final Runnable webhandler_upload_streamed_rejected;
   public final Runnable websockets_timed_out;
   public final Runnable websockets_socket_exception;
   public final Runnable websockets_decode_exception;
@@ -91,6 +93,9 @@ public class WebMetrics {
   public final TreeMap<String, Runnable> client_metrics;
 
   public final Runnable web_qr_code_creation_failure;
+  public final Inflight transform_queue_depth;
+  public final CallbackMonitor transform_execute;
+  public final Runnable transform_cancelled;
 
   public final Runnable webhandler_cors_origin_blocked;
   public final Runnable websockets_origin_rejected;
@@ -99,6 +104,11 @@ public class WebMetrics {
   public final Runnable redirect_no_cert;
 
   public final Runnable webhandler_failed_once_rate_limited;
+  public final Runnable http_cache_hit;
+  public final Runnable http_cache_stale_hit;
+  public final Runnable http_cache_miss;
+  public final Runnable http_cache_coalesced;
+  public final Runnable http_cache_eviction;
 
   public WebMetrics(MetricsFactory factory) {
     this.websockets_active = factory.inflight("websockets_active");
@@ -149,6 +159,8 @@ public class WebMetrics {
     this.webhandler_put_asset = factory.counter("webhandler_put_asset");
     this.webhandler_put_asset_failure = factory.counter("webhandler_put_asset_failure");
     this.webhandler_put_asset_md5_mismatch = factory.counter("webhandler_put_asset_md5_mismatch");
+    this.webhandler_upload_streamed = factory.counter("webhandler_upload_streamed");
+    this.webhandler_upload_streamed_rejected = factory.counter("webhandler_upload_streamed_rejected");
     
     this.webhandler_cors_origin_blocked = factory.counter("webhandler_cors_origin_blocked");
     this.websockets_origin_rejected = factory.counter("websockets_origin_rejected");
@@ -157,8 +169,18 @@ public class WebMetrics {
     this.redirect_no_cert = factory.counter("redirect_no_cert");
     this.webhandler_failed_once_rate_limited = factory.counter("webhandler_failed_once_rate_limited");
 
+    factory.section("http result cache");
+    this.http_cache_hit = factory.counter("http_cache_hit");
+    this.http_cache_stale_hit = factory.counter("http_cache_stale_hit");
+    this.http_cache_miss = factory.counter("http_cache_miss");
+    this.http_cache_coalesced = factory.counter("http_cache_coalesced");
+    this.http_cache_eviction = factory.counter("http_cache_eviction");
+
     factory.section("transforms");
     this.web_qr_code_creation_failure = factory.counter("web_qr_code_creation_failure");
+    this.transform_queue_depth = factory.inflight("transform_queue_depth");
+    this.transform_execute = factory.makeCallbackMonitor("transform_execute");
+    this.transform_cancelled = factory.counter("transform_cancelled");
 
     factory.section("public web client");
     client_metrics = new TreeMap<>();
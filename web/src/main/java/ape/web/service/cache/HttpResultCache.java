@@ -23,64 +23,223 @@
  */
 package ape.web.service.cache;
 
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
 import ape.common.NamedRunnable;
 import ape.common.SimpleExecutor;
 import ape.common.TimeSource;
+import ape.common.cache.Measurable;
+import ape.common.metrics.NoOpMetricsFactory;
 import ape.web.contracts.HttpHandler;
+import ape.web.service.WebMetrics;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
-/** a very dumb temporal cache; no science */
+/**
+ * A temporal cache of http results bounded by bytes (least recently used are evicted first). Reads via
+ * get(key, loader, callback) are single-flight: concurrent misses on the same key share one load. Once an
+ * item expires, it is still served for a stale window while a single background load revalidates it.
+ */
 public class HttpResultCache {
-  public class Item {
+  public static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+
+  public class Item implements Measurable {
     private final long at;
+    private final long staleUntil;
     private final HttpHandler.HttpResult result;
+    private final long size;
 
     public Item(long at, HttpHandler.HttpResult result) {
+      this(at, at, result, 0);
+    }
+
+    private Item(long at, long staleUntil, HttpHandler.HttpResult result, int keyLength) {
       this.at = at;
+      this.staleUntil = staleUntil;
       this.result = result;
+      this.size = sizeOf(result) + keyLength * 2L;
+    }
+
+    @Override
+    public long measure() {
+      return size;
     }
   }
 
   private final TimeSource time;
-  private final ConcurrentHashMap<String, Item> cache;
+  private final long maxBytes;
+  private final int staleWindowMs;
+  private final WebMetrics metrics;
+  private final LinkedHashMap<String, Item> cache;
+  private final HashMap<String, ArrayList<Callback<HttpHandler.HttpResult>>> inflight;
+  private long bytes;
 
   public HttpResultCache(TimeSource time) {
+    this(time, DEFAULT_MAX_BYTES, 0, new WebMetrics(new NoOpMetricsFactory()));
+  }
+
+  /**
+   * @param time the time source
+   * @param maxBytes the maximum measured size of all items held
+   * @param staleWindowMs how long past expiry an item may be served while it revalidates
+   * @param metrics where to report hits, misses, and evictions
+   */
+  public HttpResultCache(TimeSource time, long maxBytes, int staleWindowMs, WebMetrics metrics) {
     this.time = time;
-    this.cache = new ConcurrentHashMap<>();
+    this.maxBytes = maxBytes;
+    this.staleWindowMs = staleWindowMs;
+    this.metrics = metrics;
+    this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    this.inflight = new HashMap<>();
+    this.bytes = 0;
+  }
+
+  /** a rough measure of the memory held by a result */
+  public static long sizeOf(HttpHandler.HttpResult result) {
+    long size = 128;
+    if (result.body != null) {
+      size += result.body.length;
+    }
+    if (result.asset != null) {
+      size += result.asset.memory();
+    }
+    if (result.headers != null) {
+      for (Map.Entry<String, String> header : result.headers.entrySet()) {
+        size += (header.getKey().length() + header.getValue().length()) * 2L + 32;
+      }
+    }
+    return size;
   }
 
   public BiConsumer<Integer, HttpHandler.HttpResult> inject(String key) {
     return (ttl, result) -> {
       if (result != null) {
-        cache.put(key, new Item(time.nowMilliseconds() + ttl, result));
+        long now = time.nowMilliseconds();
+        put(key, new Item(now + ttl, now + ttl + staleWindowMs, result, key.length()));
       }
     };
   }
 
+  private synchronized void put(String key, Item item) {
+    Item prior = cache.put(key, item);
+    if (prior != null) {
+      bytes -= prior.size;
+    }
+    bytes += item.size;
+    Iterator<Map.Entry<String, Item>> it = cache.entrySet().iterator();
+    while (bytes > maxBytes && it.hasNext()) {
+      Map.Entry<String, Item> eldest = it.next();
+      bytes -= eldest.getValue().size;
+      it.remove();
+      metrics.http_cache_eviction.run();
+    }
+  }
+
+  private synchronized void remove(String key, Item item) {
+    if (cache.remove(key, item)) {
+      bytes -= item.size;
+    }
+  }
+
   public HttpHandler.HttpResult get(String key) {
-    Item item = cache.get(key);
+    Item item;
+    synchronized (this) {
+      item = cache.get(key);
+    }
     if (item == null) {
       return null;
     }
-
-    if (item.at <= time.nowMilliseconds()) {
-      cache.remove(key);
+    long now = time.nowMilliseconds();
+    if (item.at <= now) {
+      if (item.staleUntil <= now) {
+        remove(key, item);
+      }
       return null;
     }
     return item.result;
   }
 
-  public int sweep() {
+  /** read through the cache; results are cached for their cacheTimeSeconds and results carrying an identity are never cached */
+  public void get(String key, Consumer<Callback<HttpHandler.HttpResult>> loader, Callback<HttpHandler.HttpResult> callback) {
+    long now = time.nowMilliseconds();
+    HttpHandler.HttpResult serve = null;
+    boolean load = false;
+    synchronized (this) {
+      Item item = cache.get(key);
+      if (item != null && now < item.at) {
+        serve = item.result;
+        metrics.http_cache_hit.run();
+      } else if (item != null && now < item.staleUntil) {
+        serve = item.result;
+        metrics.http_cache_stale_hit.run();
+        if (!inflight.containsKey(key)) {
+          inflight.put(key, new ArrayList<>());
+          load = true;
+        }
+      } else {
+        ArrayList<Callback<HttpHandler.HttpResult>> waiting = inflight.get(key);
+        if (waiting == null) {
+          waiting = new ArrayList<>();
+          inflight.put(key, waiting);
+          load = true;
+          metrics.http_cache_miss.run();
+        } else {
+          metrics.http_cache_coalesced.run();
+        }
+        waiting.add(callback);
+      }
+    }
+    if (serve != null) {
+      callback.success(serve);
+    }
+    if (load) {
+      loader.accept(new Callback<>() {
+        @Override
+        public void success(HttpHandler.HttpResult value) {
+          if (value != null && value.identity == null && value.cacheTimeSeconds != null && value.cacheTimeSeconds > 0) {
+            inject(key).accept(value.cacheTimeSeconds * 1000, value);
+          }
+          for (Callback<HttpHandler.HttpResult> waiting : finish(key)) {
+            waiting.success(value);
+          }
+        }
+
+        @Override
+        public void failure(ErrorCodeException ex) {
+          // a failed revalidation leaves the stale item to serve until its window closes
+          for (Callback<HttpHandler.HttpResult> waiting : finish(key)) {
+            waiting.failure(ex);
+          }
+        }
+      });
+    }
+  }
+
+  private synchronized ArrayList<Callback<HttpHandler.HttpResult>> finish(String key) {
+    return inflight.remove(key);
+  }
+
+  /** the measured size of all items held */
+  public synchronized long bytes() {
+    return bytes;
+  }
+
+  public synchronized int sweep() {
     int count = 0;
     long now = time.nowMilliseconds();
     Iterator<Item> it = cache.values().iterator();
     while (it.hasNext()) {
-      if (it.next().at <= now) {
+      Item item = it.next();
+      if (item.staleUntil <= now) {
+        bytes -= item.size;
         it.remove();
         count++;
       }
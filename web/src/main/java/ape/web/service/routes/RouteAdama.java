@@ -33,9 +33,12 @@ import ape.web.io.ConnectionContext;
 import ape.web.io.JsonRequest;
 import ape.web.io.JsonResponder;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -95,16 +98,12 @@ public class RouteAdama implements WebSocketHandlerRoute {
         final JsonResponder responder = new JsonResponder() {
           @Override
           public void stream(String json) {
-            ctx.writeAndFlush(new TextWebSocketFrame("{\"deliver\":" + id + ",\"done\":false,\"response\":" + json + "}"));
+            ctx.writeAndFlush(deliver(ctx, id, false, String.valueOf(json)));
           }
 
           @Override
           public void finish(String json) {
-            if (json == null) {
-              ctx.writeAndFlush(new TextWebSocketFrame("{\"deliver\":" + id + ",\"done\":true}"));
-            } else {
-              ctx.writeAndFlush(new TextWebSocketFrame("{\"deliver\":" + id + ",\"done\":true,\"response\":" + json + "}"));
-            }
+            ctx.writeAndFlush(deliver(ctx, id, true, json));
           }
 
           @Override
@@ -117,4 +116,18 @@ public class RouteAdama implements WebSocketHandlerRoute {
       }
     };
   }
+
+  /** encode a delivery envelope straight into a pooled buffer rather than concatenating a String for the frame to re-encode */
+  public static TextWebSocketFrame deliver(ChannelHandlerContext ctx, int id, boolean done, String json) {
+    ByteBuf buf = ctx.alloc().buffer(48 + (json != null ? json.length() : 0));
+    buf.writeCharSequence("{\"deliver\":", StandardCharsets.US_ASCII);
+    buf.writeCharSequence(Integer.toString(id), StandardCharsets.US_ASCII);
+    buf.writeCharSequence(done ? ",\"done\":true" : ",\"done\":false", StandardCharsets.US_ASCII);
+    if (json != null) {
+      buf.writeCharSequence(",\"response\":", StandardCharsets.US_ASCII);
+      ByteBufUtil.writeUtf8(buf, json);
+    }
+    buf.writeByte('}');
+    return new TextWebSocketFrame(buf);
+  }
 }
@@ -25,14 +25,22 @@ package ape.web.assets.cache;
 
 import ape.common.Callback;
 import ape.common.ErrorCodeException;
+import ape.common.Hashing;
+import ape.common.NamedRunnable;
 import ape.common.TimeSource;
 import ape.runtime.natives.NtAsset;
+import ape.web.assets.AssetStream;
 import ape.web.assets.MockAssetStream;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class WebHandlerAssetCacheTests {
   @Test
@@ -95,4 +103,122 @@ public class WebHandlerAssetCacheTests {
       root.delete();
     }
   }
+
+  private static CachedAsset fetch(WebHandlerAssetCache cache, NtAsset asset) throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<CachedAsset> result = new AtomicReference<>();
+    cache.get(asset, new Callback<CachedAsset>() {
+      @Override
+      public void success(CachedAsset value) {
+        result.set(value);
+        latch.countDown();
+      }
+
+      @Override
+      public void failure(ErrorCodeException ex) {
+        latch.countDown();
+      }
+    });
+    Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+    return result.get();
+  }
+
+  private static AssetStream attach(CachedAsset cached, MockAssetStream stream) throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<AssetStream> result = new AtomicReference<>();
+    cached.executor().execute(new NamedRunnable("attach") {
+      @Override
+      public void execute() throws Exception {
+        result.set(cached.attachWhileInExecutor(stream));
+        latch.countDown();
+      }
+    });
+    Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+    return result.get();
+  }
+
+  @Test
+  public void warm_restart() throws Exception {
+    File root = File.createTempFile("adamafcat", "002");
+    root.delete();
+    Assert.assertTrue(root.mkdir());
+    try {
+      byte[] bytes = "this is a file that lives on disk".getBytes(StandardCharsets.UTF_8);
+      MessageDigest digest = Hashing.sha384();
+      digest.update(bytes);
+      NtAsset asset = new NtAsset("id-1", "name-1", "text/none", bytes.length, "", Hashing.finishAndEncode(digest));
+      Files.writeString(new File(root, "asset.99.orphan.cache").toPath(), "orphan");
+      {
+        WebHandlerAssetCache cache = new WebHandlerAssetCache(TimeSource.REAL_TIME, root);
+        Assert.assertFalse(new File(root, "asset.99.orphan.cache").exists());
+        MockAssetStream first = new MockAssetStream();
+        AssetStream feed = attach(fetch(cache, asset), first);
+        Assert.assertNotNull(feed);
+        feed.body(bytes, 0, bytes.length, true);
+        // wait for the write to land
+        attach(fetch(cache, asset), new MockAssetStream());
+        cache.shutdown();
+        first.assertDone();
+      }
+      Assert.assertTrue(new File(root, FileCacheIndex.NAME).exists());
+      {
+        WebHandlerAssetCache cache = new WebHandlerAssetCache(TimeSource.REAL_TIME, root);
+        MockAssetStream replay = new MockAssetStream();
+        Assert.assertNull(attach(fetch(cache, asset), replay));
+        replay.assertHeaders(bytes.length, "text/none");
+        replay.assertBody("this is a file that lives on disk");
+        replay.assertDone();
+        cache.shutdown();
+      }
+      // corrupt the file; the restored entry fails validation and the cache refetches
+      for (File file : root.listFiles((dir, name) -> name.startsWith("asset."))) {
+        Files.writeString(file.toPath(), "THIS IS A FILE THAT LIVES ON DISK");
+      }
+      {
+        WebHandlerAssetCache cache = new WebHandlerAssetCache(TimeSource.REAL_TIME, root);
+        MockAssetStream refetch = new MockAssetStream();
+        AssetStream feed = attach(fetch(cache, asset), refetch);
+        Assert.assertNotNull(feed);
+        cache.shutdown();
+      }
+      // a policy that refuses to restore anything
+      {
+        WebHandlerAssetCache cache = new WebHandlerAssetCache(TimeSource.REAL_TIME, root, new FileCachePolicy() {
+          @Override
+          public int minItems() {
+            return 1;
+          }
+
+          @Override
+          public int maxItems() {
+            return 10;
+          }
+
+          @Override
+          public long maxBytes() {
+            return 1024;
+          }
+
+          @Override
+          public long maxAgeMilliseconds() {
+            return 1000;
+          }
+
+          @Override
+          public boolean restore(NtAsset asset, long created, long lastAccess, long now) {
+            return false;
+          }
+        });
+        Assert.assertEquals(0, root.listFiles((dir, name) -> name.startsWith("asset.")).length);
+        cache.shutdown();
+      }
+      // nothing survived, so there is no index
+      Assert.assertFalse(new File(root, FileCacheIndex.NAME).exists());
+    } finally {
+      for (File x : root.listFiles()) {
+        x.delete();
+      }
+      root.delete();
+    }
+  }
 }
@@ -23,5 +23,132 @@
  */
 package ape.web.assets.transforms;
 
+import ape.ErrorCodes;
+import ape.common.Callback;
+import ape.common.ConfigObject;
+import ape.common.Json;
+import ape.common.TimeSource;
+import ape.common.metrics.NoOpMetricsFactory;
+import ape.runtime.data.Key;
+import ape.runtime.natives.NtAsset;
+import ape.web.assets.AssetRequest;
+import ape.web.assets.AssetStream;
+import ape.web.assets.AssetSystem;
+import ape.web.assets.AssetUploadBody;
+import ape.web.io.ConnectionContext;
+import ape.web.service.WebConfig;
+import ape.web.service.WebMetrics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class TransformQueueTests {
+  private static byte[] png() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), "png", output);
+    return output.toByteArray();
+  }
+
+  private static AssetSystem serving(byte[] bytes, AtomicInteger requests) {
+    return new AssetSystem() {
+      @Override
+      public void request(AssetRequest request, AssetStream stream) {
+        requests.incrementAndGet();
+        stream.headers(bytes.length, "image/png", null);
+        stream.body(bytes, 0, bytes.length, true);
+      }
+
+      @Override
+      public void request(Key key, NtAsset asset, AssetStream stream) {
+        request(new AssetRequest(key.space, key.key, asset.id), stream);
+      }
+
+      @Override
+      public void attach(String identity, ConnectionContext context, Key key, NtAsset asset, String channel, String message, Callback<Integer> callback) {
+      }
+
+      @Override
+      public void upload(Key key, NtAsset asset, AssetUploadBody body, Callback<Void> callback) {
+      }
+    };
+  }
+
+  private static class Capture implements AssetStream {
+    private final CountDownLatch done = new CountDownLatch(1);
+    private String contentType = null;
+    private int size = 0;
+    private int failure = 0;
+
+    @Override
+    public void headers(long length, String contentType, String contentMd5) {
+      this.contentType = contentType;
+    }
+
+    @Override
+    public void body(byte[] chunk, int offset, int length, boolean last) {
+      size += length;
+      if (last) {
+        done.countDown();
+      }
+    }
+
+    @Override
+    public void failure(int code) {
+      this.failure = code;
+      done.countDown();
+    }
+  }
+
+  @Test
+  public void transform_and_cancel() throws Exception {
+    File root = Files.createTempDirectory("transform-queue").toFile();
+    WebConfig config = new WebConfig(new ConfigObject(Json.parseJsonObject("{\"transform-workers\":2}")));
+    Assert.assertEquals(2, config.transformWorkers);
+    AtomicInteger requests = new AtomicInteger(0);
+    TransformQueue queue = new TransformQueue(TimeSource.REAL_TIME, root, serving(png(), requests), config, new WebMetrics(new NoOpMetricsFactory()));
+    try {
+      Key key = new Key("space", "key");
+      NtAsset asset = new NtAsset("id", "name", "image/png", 100, "md5", "sha");
+      {
+        Capture abandoned = new Capture();
+        queue.process(key, "w16", TransformFactory.make(config, "image/png", "w16"), asset, abandoned, () -> true);
+        Assert.assertTrue(abandoned.done.await(5000, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(ErrorCodes.ASSET_TRANSFORM_CANCELLED, abandoned.failure);
+        Assert.assertEquals(0, requests.get());
+      }
+      {
+        Capture capture = new Capture();
+        queue.process(key, "w16", TransformFactory.make(config, "image/png", "w16"), asset, capture);
+        Assert.assertTrue(capture.done.await(5000, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(0, capture.failure);
+        Assert.assertEquals("image/png", capture.contentType);
+        Assert.assertTrue(capture.size > 0);
+        Assert.assertEquals(1, requests.get());
+      }
+    } finally {
+      queue.shutdown();
+      for (File file : root.listFiles()) {
+        file.delete();
+      }
+      root.delete();
+    }
+  }
+
+  @Test
+  public void cost_favors_thumbnails() {
+    WebConfig config = new WebConfig(new ConfigObject(Json.newJsonObject()));
+    long thumb = TransformFactory.make(config, "image/png", "w64_h64").cost();
+    long wide = TransformFactory.make(config, "image/png", "w1024").cost();
+    long full = TransformFactory.make(config, "image/png", "grey").cost();
+    Assert.assertTrue(thumb < wide);
+    Assert.assertTrue(wide < full);
+  }
 }
@@ -0,0 +1,104 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.web.assets.transforms;
+
+import ape.common.metrics.NoOpMetricsFactory;
+import ape.web.service.WebMetrics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TransformWorkerPoolTests {
+  @Test
+  public void fair_and_cheapest_first() throws Exception {
+    TransformWorkerPool pool = new TransformWorkerPool(1, new WebMetrics(new NoOpMetricsFactory()).transform_queue_depth);
+    try {
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      pool.submit("x", 1, () -> {
+        blocked.countDown();
+        try {
+          release.await(5000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+        }
+      });
+      Assert.assertTrue(blocked.await(5000, TimeUnit.MILLISECONDS));
+      ArrayList<String> order = new ArrayList<>();
+      CountDownLatch finished = new CountDownLatch(4);
+      pool.submit("a", 100, () -> { synchronized (order) { order.add("a-big"); } finished.countDown(); });
+      pool.submit("a", 10, () -> { synchronized (order) { order.add("a-medium"); } finished.countDown(); });
+      pool.submit("b", 50, () -> { synchronized (order) { order.add("b"); } finished.countDown(); });
+      pool.submit("a", 5, () -> { synchronized (order) { order.add("a-thumb"); } finished.countDown(); });
+      Assert.assertEquals(4, pool.queued());
+      release.countDown();
+      Assert.assertTrue(finished.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals("[a-thumb, b, a-medium, a-big]", order.toString());
+      Assert.assertEquals(0, pool.queued());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void survives_crash() throws Exception {
+    TransformWorkerPool pool = new TransformWorkerPool(0, new WebMetrics(new NoOpMetricsFactory()).transform_queue_depth);
+    try {
+      Assert.assertEquals(1, pool.size());
+      CountDownLatch ran = new CountDownLatch(1);
+      pool.submit("a", 1, () -> {
+        throw new RuntimeException("crash");
+      });
+      pool.submit("a", 2, ran::countDown);
+      Assert.assertTrue(ran.await(5000, TimeUnit.MILLISECONDS));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void parallel() throws Exception {
+    TransformWorkerPool pool = new TransformWorkerPool(4, new WebMetrics(new NoOpMetricsFactory()).transform_queue_depth);
+    try {
+      CountDownLatch together = new CountDownLatch(4);
+      CountDownLatch done = new CountDownLatch(4);
+      for (int k = 0; k < 4; k++) {
+        pool.submit("space-" + k, k, () -> {
+          together.countDown();
+          try {
+            if (together.await(5000, TimeUnit.MILLISECONDS)) {
+              done.countDown();
+            }
+          } catch (InterruptedException ie) {
+          }
+        });
+      }
+      Assert.assertTrue(done.await(5000, TimeUnit.MILLISECONDS));
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,213 @@
+/**
+ * MIT License
+ * 
+ * Copyright (C) 2021 - 2025 by Adama Platform Engineering, LLC
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package ape.web.service;
+
+import ape.common.Hashing;
+import ape.common.NamedRunnable;
+import ape.common.SimpleExecutor;
+import ape.common.metrics.NoOpMetricsFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.*;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+public class AssetUploadStreamerTests {
+  private static EmbeddedChannel channel(long max) {
+    return new EmbeddedChannel(new AssetUploadStreamer(new WebMetrics(new NoOpMetricsFactory()), max, SimpleExecutor.NOW));
+  }
+
+  private static ByteBuf utf8(String str) {
+    return Unpooled.copiedBuffer(str, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void passthrough() {
+    EmbeddedChannel channel = channel(1000);
+    DefaultHttpRequest req = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/api");
+    channel.writeInbound(req);
+    DefaultLastHttpContent last = new DefaultLastHttpContent(utf8("{}"));
+    channel.writeInbound(last);
+    Assert.assertSame(req, channel.readInbound());
+    Assert.assertSame(last, channel.readInbound());
+    last.release();
+    channel.finish();
+  }
+
+  @Test
+  public void put_streams_to_disk() throws Exception {
+    EmbeddedChannel channel = channel(1000);
+    DefaultHttpRequest req = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/~put?space=s&key=k&filename=f");
+    HttpUtil.setTransferEncodingChunked(req, true);
+    channel.writeInbound(req);
+    Assert.assertNull(channel.readInbound());
+    channel.writeInbound(new DefaultHttpContent(utf8("hello ")));
+    Assert.assertNull(channel.readInbound());
+    channel.writeInbound(new DefaultLastHttpContent(utf8("world")));
+    StreamedUploadRequest streamed = channel.readInbound();
+    Assert.assertEquals("/~put?space=s&key=k&filename=f", streamed.uri());
+    Assert.assertEquals(0, streamed.content().readableBytes());
+    Assert.assertEquals("hello world", Files.readString(streamed.file.toPath()));
+    MessageDigest md5 = Hashing.md5();
+    md5.update("hello world".getBytes(StandardCharsets.UTF_8));
+    Assert.assertEquals(11, streamed.fact.size);
+    Assert.assertEquals(Hashing.finishAndEncode(md5), streamed.fact.md5);
+    streamed.discard();
+    Assert.assertFalse(streamed.file.exists());
+    streamed.discard();
+    channel.finish();
+  }
+
+  @Test
+  public void put_waits_for_disk() throws Exception {
+    ArrayList<NamedRunnable> runnables = new ArrayList<>();
+    EmbeddedChannel channel = new EmbeddedChannel(new AssetUploadStreamer(new WebMetrics(new NoOpMetricsFactory()), 1000, new SimpleExecutor() {
+      @Override
+      public void execute(NamedRunnable command) {
+        runnables.add(command);
+      }
+
+      @Override
+      public Runnable schedule(NamedRunnable command, long milliseconds) {
+        return null;
+      }
+
+      @Override
+      public Runnable scheduleNano(NamedRunnable command, long nanoseconds) {
+        return null;
+      }
+
+      @Override
+      public CountDownLatch shutdown() {
+        return null;
+      }
+    }));
+    DefaultHttpRequest req = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/~put?space=s&key=k&filename=f");
+    HttpUtil.setTransferEncodingChunked(req, true);
+    channel.writeInbound(req);
+    Assert.assertFalse(channel.config().isAutoRead());
+    channel.writeInbound(new DefaultHttpContent(utf8("hello ")));
+    channel.writeInbound(new DefaultLastHttpContent(utf8("world")));
+    DefaultFullHttpRequest next = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/next");
+    channel.writeInbound(next);
+    // only one chunk is with the disk at a time, and the request behind the upload waits
+    Assert.assertEquals(1, runnables.size());
+    Assert.assertNull(channel.readInbound());
+    runnables.remove(0).run();
+    channel.runPendingTasks();
+    Assert.assertEquals(1, runnables.size());
+    Assert.assertNull(channel.readInbound());
+    runnables.remove(0).run();
+    channel.runPendingTasks();
+    Assert.assertEquals(0, runnables.size());
+    StreamedUploadRequest streamed = channel.readInbound();
+    Assert.assertEquals("hello world", Files.readString(streamed.file.toPath()));
+    Assert.assertEquals(11, streamed.fact.size);
+    Assert.assertSame(next, channel.readInbound());
+    Assert.assertTrue(channel.config().isAutoRead());
+    streamed.discard();
+    channel.finish();
+  }
+
+  @Test
+  public void multipart_streams() throws Exception {
+    EmbeddedChannel channel = channel(10000);
+    String boundary = "XyZ";
+    String body = "--XyZ\r\nContent-Disposition: form-data; name=\"space\"\r\n\r\nmyspace\r\n" + //
+        "--XyZ\r\nContent-Disposition: form-data; name=\"files\"; filename=\"a.txt\"\r\nContent-Type: text/plain\r\n\r\nfile contents\r\n" + //
+        "--XyZ--\r\n";
+    DefaultHttpRequest req = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/~upload");
+    req.headers().set(HttpHeaderNames.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
+    req.headers().set(HttpHeaderNames.CONTENT_LENGTH, body.length());
+    channel.writeInbound(req);
+    int half = body.length() / 2;
+    channel.writeInbound(new DefaultHttpContent(utf8(body.substring(0, half))));
+    channel.writeInbound(new DefaultLastHttpContent(utf8(body.substring(half))));
+    StreamedUploadRequest streamed = channel.readInbound();
+    int files = 0;
+    for (InterfaceHttpData data : streamed.decoder.getBodyHttpDatas()) {
+      if (data.getHttpDataType() == InterfaceHttpData.HttpDataType.FileUpload) {
+        files++;
+        Assert.assertEquals("file contents", ((FileUpload) data).getString(StandardCharsets.UTF_8));
+      }
+    }
+    Assert.assertEquals(1, files);
+    streamed.discard();
+    channel.finish();
+  }
+
+  @Test
+  public void too_large_declared() {
+    EmbeddedChannel channel = channel(4);
+    DefaultHttpRequest req = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/~put");
+    HttpUtil.setContentLength(req, 100);
+    channel.writeInbound(req);
+    FullHttpResponse res = channel.readOutbound();
+    Assert.assertEquals(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE, res.status());
+    res.release();
+    Assert.assertFalse(channel.isOpen());
+    channel.finish();
+  }
+
+  @Test
+  public void too_large_streamed() {
+    EmbeddedChannel channel = channel(4);
+    DefaultHttpRequest req = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/~put");
+    HttpUtil.setTransferEncodingChunked(req, true);
+    channel.writeInbound(req);
+    channel.writeInbound(new DefaultHttpContent(utf8("0123456789")));
+    FullHttpResponse res = channel.readOutbound();
+    Assert.assertEquals(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE, res.status());
+    res.release();
+    Assert.assertNull(channel.readInbound());
+    Assert.assertFalse(channel.isOpen());
+    channel.finish();
+  }
+
+  @Test
+  public void expect_continue() {
+    EmbeddedChannel channel = channel(100);
+    DefaultHttpRequest req = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/~put");
+    req.headers().set(HttpHeaderNames.EXPECT, HttpHeaderValues.CONTINUE);
+    HttpUtil.setContentLength(req, 2);
+    channel.writeInbound(req);
+    FullHttpResponse res = channel.readOutbound();
+    Assert.assertEquals(HttpResponseStatus.CONTINUE, res.status());
+    res.release();
+    channel.writeInbound(new DefaultLastHttpContent(utf8("hi")));
+    StreamedUploadRequest streamed = channel.readInbound();
+    Assert.assertFalse(streamed.headers().contains(HttpHeaderNames.EXPECT));
+    streamed.discard();
+    channel.finish();
+  }
+}
@@ -82,7 +82,7 @@ public class Http2TestServer {
     bossGroup = new NioEventLoopGroup(1);
     workerGroup = new NioEventLoopGroup(4);
     cache = new WebHandlerAssetCache(TimeSource.REAL_TIME, webConfig.cacheRoot);
-    transformQueue = new TransformQueue(TimeSource.REAL_TIME, webConfig.transformRoot, base.assets(), webConfig);
+    transformQueue = new TransformQueue(TimeSource.REAL_TIME, webConfig.transformRoot, base.assets(), webConfig, metrics);
     ServerBootstrap b = new ServerBootstrap();
     b.group(bossGroup, workerGroup)
         .channel(NioServerSocketChannel.class)
@@ -29,11 +29,17 @@ import ape.common.Json;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.File;
+
 public class WebConfigTests {
   public static WebConfig mockConfig(Scenario scenario) throws Exception {
     ObjectNode configNode = Json.newJsonObject();
     configNode.put("http-port", scenario.port);
     configNode.put("websocket-heart-beat-ms", 250);
+    // keep the disk tier of the asset cache (and its index) out of the working directory
+    File cacheRoot = File.createTempFile("adamawebcache", "" + scenario.port);
+    cacheRoot.delete();
+    configNode.put("cache-root", cacheRoot.getAbsolutePath());
     return new WebConfig(new ConfigObject(configNode));
   }
 
@@ -223,6 +223,16 @@ public class WebHandlerTests {
         callback.assertData("goo");
       }
 
+      for (int k = 0; k < 2; k++) { // the second read of a cacheable result comes from the result cache
+        TestClientCallback callback = new TestClientCallback();
+        TestClientRequestBuilder.start(group)
+            .server("localhost", webConfig.port)
+            .get("/cached")
+            .execute(callback);
+        callback.awaitFirst();
+        callback.assertData("load:1");
+      }
+
       {
         TestClientCallback callback = new TestClientCallback();
         TestClientRequestBuilder.start(group)
@@ -23,13 +23,19 @@
  */
 package ape.web.service.cache;
 
+import ape.common.Callback;
+import ape.common.ErrorCodeException;
 import ape.common.SimpleExecutor;
 import ape.common.TimeSource;
+import ape.common.metrics.NoOpMetricsFactory;
 import ape.runtime.natives.NtAsset;
 import ape.web.contracts.HttpHandler;
+import ape.web.service.WebMetrics;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -92,4 +98,95 @@ public class HttpResultCacheTests {
       executor.shutdown();
     }
   }
+
+  private static HttpHandler.HttpResult cacheable(String body, int seconds) {
+    HttpHandler.HttpResultBuilder builder = new HttpHandler.HttpResultBuilder();
+    builder.status = 200;
+    builder.contentType = "text/plain";
+    builder.body = body.getBytes(StandardCharsets.UTF_8);
+    builder.cacheTimeSeconds = seconds;
+    return new HttpHandler.HttpResult(builder);
+  }
+
+  private static class Capture implements Callback<HttpHandler.HttpResult> {
+    private final ArrayList<String> log = new ArrayList<>();
+
+    @Override
+    public void success(HttpHandler.HttpResult value) {
+      log.add(new String(value.body, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void failure(ErrorCodeException ex) {
+      log.add("FAILED:" + ex.code);
+    }
+  }
+
+  @Test
+  public void single_flight_and_stale_while_revalidate() {
+    AtomicLong time = new AtomicLong(0);
+    HttpResultCache cache = new HttpResultCache(time::get, 1024 * 1024, 5000, new WebMetrics(new NoOpMetricsFactory()));
+    ArrayList<Callback<HttpHandler.HttpResult>> loads = new ArrayList<>();
+    Capture capture = new Capture();
+    cache.get("k", loads::add, capture);
+    cache.get("k", loads::add, capture);
+    cache.get("k", loads::add, capture);
+    Assert.assertEquals(1, loads.size());
+    loads.remove(0).success(cacheable("v1", 1));
+    Assert.assertEquals("[v1, v1, v1]", capture.log.toString());
+    cache.get("k", loads::add, capture);
+    Assert.assertEquals(0, loads.size());
+    // expired, but within the stale window: serve stale and revalidate exactly once
+    time.set(2000);
+    cache.get("k", loads::add, capture);
+    cache.get("k", loads::add, capture);
+    Assert.assertEquals("[v1, v1, v1, v1, v1, v1]", capture.log.toString());
+    Assert.assertEquals(1, loads.size());
+    loads.remove(0).success(cacheable("v2", 1));
+    cache.get("k", loads::add, capture);
+    Assert.assertEquals("[v1, v1, v1, v1, v1, v1, v2]", capture.log.toString());
+    // past the stale window: a miss
+    time.set(10000);
+    cache.get("k", loads::add, capture);
+    Assert.assertEquals(1, loads.size());
+    loads.remove(0).failure(new ErrorCodeException(42));
+    Assert.assertEquals("FAILED:42", capture.log.get(capture.log.size() - 1));
+  }
+
+  @Test
+  public void uncacheable() {
+    AtomicLong time = new AtomicLong(0);
+    HttpResultCache cache = new HttpResultCache(time::get, 1024 * 1024, 5000, new WebMetrics(new NoOpMetricsFactory()));
+    ArrayList<Callback<HttpHandler.HttpResult>> loads = new ArrayList<>();
+    Capture capture = new Capture();
+    cache.get("k", loads::add, capture);
+    loads.remove(0).success(new HttpHandler.HttpResult(200, "text/plain", "x".getBytes(StandardCharsets.UTF_8), false, null, "identity"));
+    cache.get("k", loads::add, capture);
+    Assert.assertEquals(1, loads.size());
+    loads.remove(0).success(cacheable("y", 0));
+    cache.get("k", loads::add, capture);
+    Assert.assertEquals(1, loads.size());
+    Assert.assertEquals(0, cache.bytes());
+  }
+
+  @Test
+  public void byte_bound() {
+    AtomicLong time = new AtomicLong(0);
+    long each = HttpResultCache.sizeOf(cacheable("0123456789", 100)) + "k-0".length() * 2;
+    HttpResultCache cache = new HttpResultCache(time::get, each * 3, 0, new WebMetrics(new NoOpMetricsFactory()));
+    for (int k = 0; k < 5; k++) {
+      cache.inject("k-" + k).accept(100000, cacheable("0123456789", 100));
+    }
+    Assert.assertEquals(each * 3, cache.bytes());
+    Assert.assertNull(cache.get("k-0"));
+    Assert.assertNull(cache.get("k-1"));
+    Assert.assertNotNull(cache.get("k-2"));
+    cache.inject("k-5").accept(100000, cacheable("0123456789", 100));
+    // k-2 was touched, so k-3 is the eldest
+    Assert.assertNotNull(cache.get("k-2"));
+    Assert.assertNull(cache.get("k-3"));
+    time.set(200000);
+    Assert.assertEquals(3, cache.sweep());
+    Assert.assertEquals(0, cache.bytes());
+  }
 }
@@ -41,8 +41,11 @@ import ape.web.assets.AssetRequest;
 
 import java.nio.charset.StandardCharsets;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MockServiceBase implements ServiceBase {
+  private final AtomicInteger cachedLoads = new AtomicInteger(0);
+
   @Override
   public ServiceConnection establishServiceConnection(ConnectionContext context) {
     return new ServiceConnection() {
@@ -163,6 +166,17 @@ public class MockServiceBase implements ServiceBase {
           return;
         }
 
+        if ("/cached".equals(uri)){
+          HttpHandler.HttpResultBuilder builder = new HttpHandler.HttpResultBuilder();
+          builder.status = 200;
+          builder.contentType = "text/html; charset=UTF-8";
+          builder.body = ("load:" + cachedLoads.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+          builder.cors = true;
+          builder.cacheTimeSeconds = 60;
+          callback.success(new HttpResult(builder));
+          return;
+        }
+
         if ("/inject".equals(uri)){
           callback.success(new HttpHandler.HttpResult(200, "text/html; charset=UTF-8", (identity + ":" + parametersJson).getBytes(StandardCharsets.UTF_8), true));
           return;